@@ -0,0 +1,191 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------
+ * AxisBenchmarks.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+
+package org.jfree.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.axis.AxisState;
+import org.jfree.chart.axis.DateAxis;
+import org.jfree.chart.axis.LogAxis;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.ui.RectangleEdge;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for axis tick calculation.  The axes use automatic tick unit
+ * selection, which is the most expensive (and most common) configuration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AxisBenchmarks {
+
+    /** An image supplying the graphics device. */
+    private BufferedImage image;
+
+    /** The graphics device. */
+    private Graphics2D g2;
+
+    /** The data area. */
+    private Rectangle2D dataArea;
+
+    /** A number axis. */
+    private NumberAxis numberAxis;
+
+    /** A date axis. */
+    private DateAxis dateAxis;
+
+    /** A log axis. */
+    private LogAxis logAxis;
+
+    /**
+     * Creates the axes and the graphics device.
+     */
+    @Setup(Level.Trial)
+    public void createAxes() {
+        this.image = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+        this.g2 = this.image.createGraphics();
+        this.dataArea = new Rectangle2D.Double(50.0, 20.0, 700.0, 500.0);
+        this.numberAxis = new NumberAxis("X");
+        this.numberAxis.setRange(-1234.5, 98765.4);
+        this.dateAxis = new DateAxis("Date");
+        long now = 1760745600000L;
+        this.dateAxis.setRange(new Date(now),
+                new Date(now + 90L * 24L * 60L * 60L * 1000L));
+        this.logAxis = new LogAxis("Log");
+        this.logAxis.setRange(0.01, 1.0E7);
+    }
+
+    /**
+     * Releases the graphics device.
+     */
+    @TearDown(Level.Trial)
+    public void dispose() {
+        this.g2.dispose();
+    }
+
+    /**
+     * Calculates the ticks for a horizontal number axis.
+     *
+     * @return The ticks.
+     */
+    @Benchmark
+    public List numberAxisHorizontal() {
+        return this.numberAxis.refreshTicks(this.g2, new AxisState(),
+                this.dataArea, RectangleEdge.BOTTOM);
+    }
+
+    /**
+     * Calculates the ticks for a vertical number axis.
+     *
+     * @return The ticks.
+     */
+    @Benchmark
+    public List numberAxisVertical() {
+        return this.numberAxis.refreshTicks(this.g2, new AxisState(),
+                this.dataArea, RectangleEdge.LEFT);
+    }
+
+    /**
+     * Calculates the ticks for a horizontal date axis.
+     *
+     * @return The ticks.
+     */
+    @Benchmark
+    public List dateAxisHorizontal() {
+        return this.dateAxis.refreshTicks(this.g2, new AxisState(),
+                this.dataArea, RectangleEdge.BOTTOM);
+    }
+
+    /**
+     * Calculates the ticks for a vertical date axis.
+     *
+     * @return The ticks.
+     */
+    @Benchmark
+    public List dateAxisVertical() {
+        return this.dateAxis.refreshTicks(this.g2, new AxisState(),
+                this.dataArea, RectangleEdge.LEFT);
+    }
+
+    /**
+     * Calculates the ticks for a horizontal log axis.
+     *
+     * @return The ticks.
+     */
+    @Benchmark
+    public List logAxisHorizontal() {
+        return this.logAxis.refreshTicks(this.g2, new AxisState(),
+                this.dataArea, RectangleEdge.BOTTOM);
+    }
+
+    /**
+     * Calculates the ticks for a vertical log axis.
+     *
+     * @return The ticks.
+     */
+    @Benchmark
+    public List logAxisVertical() {
+        return this.logAxis.refreshTicks(this.g2, new AxisState(),
+                this.dataArea, RectangleEdge.LEFT);
+    }
+
+}
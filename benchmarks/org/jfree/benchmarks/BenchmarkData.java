@@ -0,0 +1,158 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------
+ * BenchmarkData.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+
+package org.jfree.benchmarks;
+
+import java.util.Random;
+
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.time.Millisecond;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Creates the (repeatable) datasets used by the benchmarks.  The values
+ * follow a random walk, so that they look like typical measurement data.
+ */
+final class BenchmarkData {
+
+    /** The seed for the random number generator. */
+    static final long SEED = 20261018L;
+
+    /**
+     * Private constructor prevents object creation.
+     */
+    private BenchmarkData() {
+        // no requirements
+    }
+
+    /**
+     * Creates a series with x-values 0, 1, 2, ... and random walk y-values.
+     *
+     * @param key  the series key.
+     * @param itemCount  the number of items.
+     * @param random  the random number generator.
+     *
+     * @return The series.
+     */
+    static XYSeries createXYSeries(Comparable key, int itemCount,
+            Random random) {
+        XYSeries series = new XYSeries(key, true, false);
+        series.setNotify(false);
+        double y = 100.0;
+        for (int i = 0; i < itemCount; i++) {
+            y = y + random.nextGaussian();
+            series.add(i, y);
+        }
+        series.setNotify(true);
+        return series;
+    }
+
+    /**
+     * Creates a collection of XY series.
+     *
+     * @param seriesCount  the number of series.
+     * @param itemCount  the number of items in each series.
+     *
+     * @return The dataset.
+     */
+    static XYSeriesCollection createXYDataset(int seriesCount,
+            int itemCount) {
+        Random random = new Random(SEED);
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        for (int s = 0; s < seriesCount; s++) {
+            dataset.addSeries(createXYSeries("S" + s, itemCount, random));
+        }
+        return dataset;
+    }
+
+    /**
+     * Creates a collection of time series with one item per millisecond.
+     *
+     * @param seriesCount  the number of series.
+     * @param itemCount  the number of items in each series.
+     *
+     * @return The dataset.
+     */
+    static TimeSeriesCollection createTimeSeriesDataset(int seriesCount,
+            int itemCount) {
+        Random random = new Random(SEED);
+        TimeSeriesCollection dataset = new TimeSeriesCollection();
+        for (int s = 0; s < seriesCount; s++) {
+            TimeSeries series = new TimeSeries("S" + s, Millisecond.class);
+            series.setNotify(false);
+            Millisecond t = new Millisecond();
+            double y = 100.0;
+            for (int i = 0; i < itemCount; i++) {
+                y = y + random.nextGaussian();
+                series.add(t, y);
+                t = (Millisecond) t.next();
+            }
+            series.setNotify(true);
+            dataset.addSeries(series);
+        }
+        return dataset;
+    }
+
+    /**
+     * Creates a category dataset.
+     *
+     * @param rowCount  the number of rows.
+     * @param columnCount  the number of columns.
+     *
+     * @return The dataset.
+     */
+    static DefaultCategoryDataset createCategoryDataset(int rowCount,
+            int columnCount) {
+        Random random = new Random(SEED);
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < columnCount; c++) {
+                dataset.addValue(random.nextDouble() * 100.0, "R" + r,
+                        "C" + c);
+            }
+        }
+        return dataset;
+    }
+
+}
@@ -0,0 +1,168 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------
+ * ChartDrawBenchmarks.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+
+package org.jfree.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.PlotOrientation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for drawing complete charts to a {@link BufferedImage}, for a
+ * range of image sizes and dataset sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ChartDrawBenchmarks {
+
+    /** The image size, in the form <code>width x height</code>. */
+    @Param({"400x300", "800x600", "1920x1080"})
+    public String size;
+
+    /** The number of items in each series (or columns, for bar charts). */
+    @Param({"100", "10000", "100000"})
+    public int itemCount;
+
+    /** The image. */
+    private BufferedImage image;
+
+    /** The graphics device for the image. */
+    private Graphics2D g2;
+
+    /** The chart area. */
+    private Rectangle2D area;
+
+    /** An XY line chart with 3 series. */
+    private JFreeChart xyChart;
+
+    /** A time series chart with 3 series. */
+    private JFreeChart timeSeriesChart;
+
+    /** A bar chart with 3 rows. */
+    private JFreeChart barChart;
+
+    /**
+     * Creates the image and the charts.
+     */
+    @Setup(Level.Trial)
+    public void createCharts() {
+        int x = this.size.indexOf('x');
+        int w = Integer.parseInt(this.size.substring(0, x));
+        int h = Integer.parseInt(this.size.substring(x + 1));
+        this.image = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+        this.g2 = this.image.createGraphics();
+        this.area = new Rectangle2D.Double(0.0, 0.0, w, h);
+        this.xyChart = ChartFactory.createXYLineChart("XY", "X", "Y",
+                BenchmarkData.createXYDataset(3, this.itemCount),
+                PlotOrientation.VERTICAL, true, false, false);
+        this.timeSeriesChart = ChartFactory.createTimeSeriesChart("Time",
+                "Time", "Value", BenchmarkData.createTimeSeriesDataset(3,
+                this.itemCount), true, false, false);
+        this.barChart = ChartFactory.createBarChart("Bar", "Category",
+                "Value", BenchmarkData.createCategoryDataset(3,
+                Math.min(this.itemCount, 1000)), PlotOrientation.VERTICAL,
+                true, false, false);
+    }
+
+    /**
+     * Releases the graphics device.
+     */
+    @TearDown(Level.Trial)
+    public void dispose() {
+        this.g2.dispose();
+    }
+
+    /**
+     * Draws the XY line chart.
+     *
+     * @return The image.
+     */
+    @Benchmark
+    public BufferedImage drawXYLineChart() {
+        this.xyChart.draw(this.g2, this.area);
+        return this.image;
+    }
+
+    /**
+     * Draws the time series chart.
+     *
+     * @return The image.
+     */
+    @Benchmark
+    public BufferedImage drawTimeSeriesChart() {
+        this.timeSeriesChart.draw(this.g2, this.area);
+        return this.image;
+    }
+
+    /**
+     * Draws the bar chart (at most 1000 columns).
+     *
+     * @return The image.
+     */
+    @Benchmark
+    public BufferedImage drawBarChart() {
+        this.barChart.draw(this.g2, this.area);
+        return this.image;
+    }
+
+}
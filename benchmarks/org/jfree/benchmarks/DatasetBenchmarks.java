@@ -0,0 +1,219 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * DatasetBenchmarks.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+
+package org.jfree.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.time.Millisecond;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.xy.ConcurrentXYSeries;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for dataset construction and mutation.  Each construction
+ * benchmark builds a complete dataset with <code>itemCount</code> items, so
+ * the reported time divided by the item count gives the cost per item.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DatasetBenchmarks {
+
+    /** The number of items to add. */
+    @Param({"1000", "10000", "100000"})
+    public int itemCount;
+
+    /** The x-values. */
+    private double[] x;
+
+    /** The y-values. */
+    private double[] y;
+
+    /** A populated series for the mutation benchmarks. */
+    private XYSeries series;
+
+    /** A populated collection containing {@link #series}. */
+    private XYSeriesCollection collection;
+
+    /** A counter used to pick the item to update. */
+    private int next;
+
+    /**
+     * Creates the input data.
+     */
+    @Setup(Level.Trial)
+    public void createData() {
+        Random random = new Random(BenchmarkData.SEED);
+        this.x = new double[this.itemCount];
+        this.y = new double[this.itemCount];
+        double v = 100.0;
+        for (int i = 0; i < this.itemCount; i++) {
+            v = v + random.nextGaussian();
+            this.x[i] = i;
+            this.y[i] = v;
+        }
+    }
+
+    /**
+     * Creates the series used by the mutation benchmarks.  This is repeated
+     * for each iteration so that the series does not grow without bound.
+     */
+    @Setup(Level.Iteration)
+    public void createSeries() {
+        this.series = BenchmarkData.createXYSeries("S", this.itemCount,
+                new Random(BenchmarkData.SEED));
+        this.collection = new XYSeriesCollection(this.series);
+        this.next = 0;
+    }
+
+    /**
+     * Builds an {@link XYSeries} (sorted, no duplicates) with notification
+     * disabled.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    public XYSeries xySeriesAdd() {
+        XYSeries s = new XYSeries("S", true, false);
+        s.setNotify(false);
+        for (int i = 0; i < this.itemCount; i++) {
+            s.add(this.x[i], this.y[i]);
+        }
+        return s;
+    }
+
+    /**
+     * Builds an {@link XYSeries} that belongs to a collection, so that each
+     * addition fires a change event.
+     *
+     * @return The collection.
+     */
+    @Benchmark
+    public XYSeriesCollection xySeriesAddWithEvents() {
+        XYSeries s = new XYSeries("S", true, false);
+        XYSeriesCollection c = new XYSeriesCollection(s);
+        for (int i = 0; i < this.itemCount; i++) {
+            s.add(this.x[i], this.y[i]);
+        }
+        return c;
+    }
+
+    /**
+     * Builds a {@link ConcurrentXYSeries}.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    public ConcurrentXYSeries concurrentXYSeriesAdd() {
+        ConcurrentXYSeries s = new ConcurrentXYSeries("S");
+        for (int i = 0; i < this.itemCount; i++) {
+            s.add(this.x[i], this.y[i]);
+        }
+        return s;
+    }
+
+    /**
+     * Builds a {@link TimeSeries} with one item per millisecond.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    public TimeSeries timeSeriesAdd() {
+        TimeSeries s = new TimeSeries("S", Millisecond.class);
+        s.setNotify(false);
+        Millisecond t = new Millisecond();
+        for (int i = 0; i < this.itemCount; i++) {
+            s.add(t, this.y[i]);
+            t = (Millisecond) t.next();
+        }
+        return s;
+    }
+
+    /**
+     * Builds a {@link DefaultCategoryDataset} with 10 rows.
+     *
+     * @return The dataset.
+     */
+    @Benchmark
+    public DefaultCategoryDataset categoryDatasetAddValue() {
+        DefaultCategoryDataset d = new DefaultCategoryDataset();
+        int columns = Math.max(1, this.itemCount / 10);
+        for (int i = 0; i < this.itemCount; i++) {
+            d.addValue(this.y[i], "R" + (i / columns), "C" + (i % columns));
+        }
+        return d;
+    }
+
+    /**
+     * Updates one y-value in a populated series that belongs to a
+     * collection.
+     *
+     * @param bh  the black hole.
+     */
+    @Benchmark
+    public void xySeriesUpdate(Blackhole bh) {
+        int i = this.next;
+        this.next = (i + 1) % this.itemCount;
+        this.series.updateByIndex(i, new Double(this.y[this.next]));
+        bh.consume(this.collection);
+    }
+
+}
@@ -0,0 +1,172 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * EncodingBenchmarks.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+
+package org.jfree.benchmarks;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartUtilities;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.PlotOrientation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for encoding charts as PNG and JPEG images.  The
+ * <code>encode*</code> benchmarks encode a pre-drawn image (so they measure
+ * the encoder alone), while the <code>write*</code> benchmarks include
+ * drawing the chart.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class EncodingBenchmarks {
+
+    /** The image size, in the form <code>width x height</code>. */
+    @Param({"400x300", "800x600", "1920x1080"})
+    public String size;
+
+    /** The image width. */
+    private int width;
+
+    /** The image height. */
+    private int height;
+
+    /** The chart. */
+    private JFreeChart chart;
+
+    /** A pre-drawn image of the chart. */
+    private BufferedImage image;
+
+    /** The output buffer (reused). */
+    private ByteArrayOutputStream out;
+
+    /**
+     * Creates the chart and draws it once.
+     */
+    @Setup(Level.Trial)
+    public void createChart() {
+        int x = this.size.indexOf('x');
+        this.width = Integer.parseInt(this.size.substring(0, x));
+        this.height = Integer.parseInt(this.size.substring(x + 1));
+        this.chart = ChartFactory.createXYLineChart("Encoding", "X", "Y",
+                BenchmarkData.createXYDataset(3, 1000),
+                PlotOrientation.VERTICAL, true, false, false);
+        this.image = this.chart.createBufferedImage(this.width, this.height);
+        this.out = new ByteArrayOutputStream(1 << 20);
+    }
+
+    /**
+     * Encodes the pre-drawn image as a PNG.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Benchmark
+    public int encodePNG() throws IOException {
+        this.out.reset();
+        ChartUtilities.writeBufferedImageAsPNG(this.out, this.image);
+        return this.out.size();
+    }
+
+    /**
+     * Encodes the pre-drawn image as a JPEG.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Benchmark
+    public int encodeJPEG() throws IOException {
+        this.out.reset();
+        ChartUtilities.writeBufferedImageAsJPEG(this.out, this.image);
+        return this.out.size();
+    }
+
+    /**
+     * Draws the chart and writes it as a PNG.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Benchmark
+    public int writeChartAsPNG() throws IOException {
+        this.out.reset();
+        ChartUtilities.writeChartAsPNG(this.out, this.chart, this.width,
+                this.height);
+        return this.out.size();
+    }
+
+    /**
+     * Draws the chart and writes it as a JPEG.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Benchmark
+    public int writeChartAsJPEG() throws IOException {
+        this.out.reset();
+        ChartUtilities.writeChartAsJPEG(this.out, this.chart, this.width,
+                this.height);
+        return this.out.size();
+    }
+
+}
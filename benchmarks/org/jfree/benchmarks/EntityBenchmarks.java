@@ -0,0 +1,146 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------
+ * EntityBenchmarks.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+
+package org.jfree.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for entity hit-testing, as performed by the chart panel when
+ * the mouse moves over a chart.  The entities are collected by drawing an XY
+ * chart (with shapes, so every item has an entity) once during setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EntityBenchmarks {
+
+    /** The number of items in each of the 3 series. */
+    @Param({"100", "1000", "10000"})
+    public int itemCount;
+
+    /** The number of query points per invocation. */
+    private static final int QUERY_COUNT = 256;
+
+    /** The rendering info (retained to keep the entities reachable). */
+    private ChartRenderingInfo info;
+
+    /** The entities. */
+    private EntityCollection entities;
+
+    /** The query x-coordinates (Java2D space). */
+    private double[] qx;
+
+    /** The query y-coordinates (Java2D space). */
+    private double[] qy;
+
+    /**
+     * Draws the chart to collect the entities, and creates the query
+     * points.
+     */
+    @Setup(Level.Trial)
+    public void collectEntities() {
+        JFreeChart chart = ChartFactory.createXYLineChart("Entities", "X",
+                "Y", BenchmarkData.createXYDataset(3, this.itemCount),
+                PlotOrientation.VERTICAL, true, true, false);
+        XYPlot plot = (XYPlot) chart.getPlot();
+        plot.setRenderer(new XYLineAndShapeRenderer(true, true));
+        BufferedImage image = new BufferedImage(800, 600,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        this.info = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0.0, 0.0, 800.0, 600.0),
+                this.info);
+        g2.dispose();
+        this.entities = this.info.getEntityCollection();
+        Random random = new Random(BenchmarkData.SEED);
+        this.qx = new double[QUERY_COUNT];
+        this.qy = new double[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            this.qx[i] = random.nextDouble() * 800.0;
+            this.qy[i] = random.nextDouble() * 600.0;
+        }
+    }
+
+    /**
+     * Finds the entity under each of the query points.
+     *
+     * @param bh  the black hole.
+     */
+    @Benchmark
+    public void getEntity(Blackhole bh) {
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            ChartEntity entity = this.entities.getEntity(this.qx[i],
+                    this.qy[i]);
+            bh.consume(entity);
+        }
+    }
+
+}
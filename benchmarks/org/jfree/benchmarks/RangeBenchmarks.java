@@ -0,0 +1,157 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * RangeBenchmarks.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+
+package org.jfree.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.data.Range;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for finding the domain and range bounds of datasets.  The
+ * <code>find*</code> benchmarks use whatever shortcuts the dataset offers
+ * (for example, cached bounds), while the <code>iterate*</code> benchmarks
+ * always visit every item.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RangeBenchmarks {
+
+    /** The number of items in each XY series. */
+    @Param({"1000", "100000"})
+    public int itemCount;
+
+    /** The XY dataset (5 series). */
+    private XYSeriesCollection xyDataset;
+
+    /** The category dataset (10 rows). */
+    private DefaultCategoryDataset categoryDataset;
+
+    /**
+     * Creates the datasets.
+     */
+    @Setup(Level.Trial)
+    public void createDatasets() {
+        this.xyDataset = BenchmarkData.createXYDataset(5, this.itemCount);
+        this.categoryDataset = BenchmarkData.createCategoryDataset(10,
+                Math.max(1, this.itemCount / 100));
+    }
+
+    /**
+     * Finds the domain bounds of the XY dataset.
+     *
+     * @return The range.
+     */
+    @Benchmark
+    public Range xyFindDomainBounds() {
+        return DatasetUtilities.findDomainBounds(this.xyDataset);
+    }
+
+    /**
+     * Finds the range bounds of the XY dataset.
+     *
+     * @return The range.
+     */
+    @Benchmark
+    public Range xyFindRangeBounds() {
+        return DatasetUtilities.findRangeBounds(this.xyDataset);
+    }
+
+    /**
+     * Iterates over the XY dataset to find the domain bounds.
+     *
+     * @return The range.
+     */
+    @Benchmark
+    public Range xyIterateDomainBounds() {
+        return DatasetUtilities.iterateDomainBounds(this.xyDataset);
+    }
+
+    /**
+     * Iterates over the XY dataset to find the range bounds.
+     *
+     * @return The range.
+     */
+    @Benchmark
+    public Range xyIterateRangeBounds() {
+        return DatasetUtilities.iterateRangeBounds(this.xyDataset);
+    }
+
+    /**
+     * Finds the range bounds of the category dataset.
+     *
+     * @return The range.
+     */
+    @Benchmark
+    public Range categoryFindRangeBounds() {
+        return DatasetUtilities.findRangeBounds(this.categoryDataset);
+    }
+
+    /**
+     * Finds the stacked range bounds of the category dataset.
+     *
+     * @return The range.
+     */
+    @Benchmark
+    public Range categoryFindStackedRangeBounds() {
+        return DatasetUtilities.findStackedRangeBounds(this.categoryDataset);
+    }
+
+}
@@ -143,6 +143,9 @@
  * 18-Sep-2008 : Modified creation of chart buffer (DG);
  * 18-Dec-2008 : Use ResourceBundleWrapper - see patch 1607918 by
  *               Jess Thrysoee (DG);
+ * 18-Oct-2026 : Added asynchronous rendering mode with a maximum frame
+ *               rate (DG);
+ * 18-Oct-2026 : Create the rendering worker under a lock (DG);
  *
  */
 
@@ -167,6 +170,7 @@ import java.awt.geom.AffineTransform;
 import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.awt.print.PageFormat;
 import java.awt.print.Printable;
 import java.awt.print.PrinterException;
@@ -299,6 +303,29 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
     /** The width of the chart buffer. */
     private int chartBufferWidth;
 
+    /**
+     * A flag that controls whether or not the chart is drawn by a background
+     * thread.  This is read by {@link #chartChanged(ChartChangeEvent)},
+     * which can be called on the thread that updates the dataset.
+     *
+     * @since 1.0.13
+     */
+    private volatile boolean asyncRendering;
+
+    /**
+     * The maximum number of times per second that the chart is redrawn in
+     * asynchronous mode (zero means no limit).
+     *
+     * @since 1.0.13
+     */
+    private double maximumFrameRate;
+
+    /**
+     * The worker that draws the chart in asynchronous mode (created on
+     * demand by {@link #getRenderingWorker()}).
+     */
+    private transient volatile RenderingWorker renderingWorker;
+
     /**
      * The minimum width for drawing a chart (uses scaling for smaller widths).
      */
@@ -660,6 +687,9 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         if (this.useBuffer) {
             this.refreshBuffer = true;
         }
+        if (this.asyncRendering) {
+            getRenderingWorker().refresh(chart, null);
+        }
         repaint();
 
     }
@@ -1242,6 +1272,124 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         this.refreshBuffer = flag;
     }
 
+    /**
+     * Returns the flag that controls whether or not the chart is drawn by a
+     * background thread.
+     *
+     * @return A boolean.
+     *
+     * @see #setAsyncRendering(boolean)
+     *
+     * @since 1.0.13
+     */
+    public boolean isAsyncRendering() {
+        return this.asyncRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the chart is drawn by a
+     * background thread.  In asynchronous mode the chart is drawn into an
+     * off-screen image by a worker thread (regardless of the
+     * <code>useBuffer</code> setting), and {@link #paintComponent(Graphics)}
+     * simply copies the most recently completed image to the screen.  Chart
+     * change events that arrive while the chart is being drawn are coalesced
+     * into a single follow-up drawing.
+     * <P>
+     * Note that the chart is read by the worker thread while it is being
+     * drawn.  If the chart (or its datasets) is modified during drawing and
+     * the drawing fails as a result, the incomplete image is discarded and
+     * the chart is drawn again.  Chart progress events are fired on the
+     * worker thread.
+     *
+     * @param flag  the flag.
+     *
+     * @see #isAsyncRendering()
+     *
+     * @since 1.0.13
+     */
+    public void setAsyncRendering(boolean flag) {
+        if (this.asyncRendering == flag) {
+            return;
+        }
+        this.asyncRendering = flag;
+        if (!flag && this.renderingWorker != null) {
+            this.renderingWorker.cancel();
+        }
+        this.chartBuffer = null;
+        this.refreshBuffer = true;
+        repaint();
+    }
+
+    /**
+     * Returns the maximum number of times per second that the chart will be
+     * redrawn in asynchronous mode.
+     *
+     * @return The maximum frame rate (zero means no limit).
+     *
+     * @see #setMaximumFrameRate(double)
+     *
+     * @since 1.0.13
+     */
+    public double getMaximumFrameRate() {
+        return this.maximumFrameRate;
+    }
+
+    /**
+     * Sets the maximum number of times per second that the chart will be
+     * redrawn in asynchronous mode.  Chart changes that arrive more
+     * frequently than this are coalesced into the next drawing.  This
+     * setting has no effect unless asynchronous rendering is enabled.
+     *
+     * @param rate  the maximum frame rate (zero for no limit, negative
+     *     values not permitted).
+     *
+     * @see #getMaximumFrameRate()
+     * @see #setAsyncRendering(boolean)
+     *
+     * @since 1.0.13
+     */
+    public void setMaximumFrameRate(double rate) {
+        if (!(rate >= 0.0)) {
+            throw new IllegalArgumentException(
+                    "Requires 'rate' to be zero or positive.");
+        }
+        this.maximumFrameRate = rate;
+    }
+
+    /**
+     * Returns the worker used to draw the chart in asynchronous mode,
+     * creating it if necessary.  This method is synchronized because it is
+     * called from {@link #chartChanged(ChartChangeEvent)} (on the thread
+     * that changed the chart) as well as on the event dispatch thread, and
+     * a second worker would draw the chart independently of the first.
+     *
+     * @return The worker (never <code>null</code>).
+     */
+    private synchronized RenderingWorker getRenderingWorker() {
+        if (this.renderingWorker == null) {
+            this.renderingWorker = new RenderingWorker();
+        }
+        return this.renderingWorker;
+    }
+
+    /**
+     * Receives an image completed by the rendering worker.  This method is
+     * called on the event dispatch thread.
+     *
+     * @param image  the image.
+     * @param info  the rendering info collected while drawing the image.
+     */
+    private void renderingFinished(Image image, ChartRenderingInfo info) {
+        if (!this.asyncRendering) {
+            return;  // the image is from a worker that has been cancelled
+        }
+        this.chartBuffer = image;
+        this.chartBufferWidth = image.getWidth(null);
+        this.chartBufferHeight = image.getHeight(null);
+        this.info = info;
+        repaint();
+    }
+
     /**
      * Paints the component by drawing the chart to fill the entire component,
      * but allowing for the insets (which will be non-zero if a border has been
@@ -1296,8 +1444,27 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         Rectangle2D chartArea = new Rectangle2D.Double(0.0, 0.0, drawWidth,
                 drawHeight);
 
+        // is the chart drawn by the rendering worker?
+        if (this.asyncRendering) {
+
+            // request a new image if the panel size has changed...
+            int w = (int) available.getWidth();
+            int h = (int) available.getHeight();
+            if ((this.chartBuffer == null) || (this.chartBufferWidth != w)
+                    || (this.chartBufferHeight != h)) {
+                getRenderingWorker().request(this.chart, w, h, chartArea,
+                        this.scaleX, this.scaleY);
+            }
+
+            // ...and in the meantime show the last one that was completed
+            if (this.chartBuffer != null) {
+                g2.drawImage(this.chartBuffer, insets.left, insets.top, this);
+            }
+
+        }
+
         // are we using the chart buffer?
-        if (this.useBuffer) {
+        else if (this.useBuffer) {
 
             // if buffer is being refreshed, it needs clearing unless it is
             // new - use the following flag to track this...
@@ -1390,6 +1557,10 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
             Zoomable z = (Zoomable) plot;
             this.orientation = z.getOrientation();
         }
+        if (this.asyncRendering
+                && getRenderingWorker().refresh(this.chart, this.anchor)) {
+            return;  // the panel is repainted when the image is ready
+        }
         repaint();
     }
 
@@ -2578,5 +2749,187 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
 
     }
 
+    /**
+     * Draws the chart into an off-screen image on a background thread, for
+     * the asynchronous rendering mode.  Requests that arrive while the chart
+     * is being drawn (or while the worker is waiting to respect the maximum
+     * frame rate) are coalesced into a single follow-up drawing.  The thread
+     * is started on demand and exits as soon as there is no more work.
+     */
+    private class RenderingWorker implements Runnable {
+
+        /** The thread that is drawing the chart (<code>null</code> if idle). */
+        private Thread thread;
+
+        /** A flag that indicates that the chart needs to be drawn (again). */
+        private boolean pending;
+
+        /** The chart to draw. */
+        private JFreeChart chart;
+
+        /** The width of the image. */
+        private int width;
+
+        /** The height of the image. */
+        private int height;
+
+        /** The area for drawing the chart (before scaling is applied). */
+        private Rectangle2D chartArea;
+
+        /** The scale factor for the x-direction. */
+        private double scaleX;
+
+        /** The scale factor for the y-direction. */
+        private double scaleY;
+
+        /** The anchor point for the next drawing. */
+        private Point2D anchor;
+
+        /** The minimum time between drawings (in milliseconds). */
+        private long interval;
+
+        /** The time at which the last drawing was started. */
+        private long lastStart;
+
+        /**
+         * Requests a drawing of the chart at a new size.
+         *
+         * @param chart  the chart.
+         * @param width  the image width.
+         * @param height  the image height.
+         * @param chartArea  the area for drawing the chart.
+         * @param scaleX  the scale factor for the x-direction.
+         * @param scaleY  the scale factor for the y-direction.
+         */
+        public synchronized void request(JFreeChart chart, int width,
+                int height, Rectangle2D chartArea, double scaleX,
+                double scaleY) {
+            if (width <= 0 || height <= 0) {
+                return;
+            }
+            this.width = width;
+            this.height = height;
+            this.chartArea = chartArea;
+            this.scaleX = scaleX;
+            this.scaleY = scaleY;
+            refresh(chart, null);
+        }
+
+        /**
+         * Requests a drawing of the chart at the most recently requested
+         * size.
+         *
+         * @param chart  the chart.
+         * @param anchor  the anchor point (<code>null</code> permitted).
+         *
+         * @return A boolean indicating whether or not a drawing was
+         *     scheduled (<code>false</code> if no size is known yet).
+         */
+        public synchronized boolean refresh(JFreeChart chart,
+                Point2D anchor) {
+            if (this.chartArea == null) {
+                return false;
+            }
+            this.chart = chart;
+            if (anchor != null) {
+                this.anchor = anchor;
+            }
+            double rate = ChartPanel.this.maximumFrameRate;
+            this.interval = (rate > 0.0 ? (long) (1000.0 / rate) : 0L);
+            this.pending = true;
+            if (this.thread == null) {
+                this.thread = new Thread(this, "ChartPanel rendering");
+                this.thread.setDaemon(true);
+                this.thread.start();
+            }
+            else {
+                notifyAll();
+            }
+            return true;
+        }
+
+        /**
+         * Discards any pending request.
+         */
+        public synchronized void cancel() {
+            this.pending = false;
+            this.chart = null;
+            this.chartArea = null;
+            notifyAll();
+        }
+
+        /**
+         * Draws the chart until there are no more pending requests.
+         */
+        public void run() {
+            while (true) {
+                JFreeChart chart;
+                Rectangle2D area;
+                Point2D anchor;
+                int w, h;
+                double sx, sy;
+                synchronized (this) {
+                    long delay = this.lastStart + this.interval
+                            - System.currentTimeMillis();
+                    while (this.pending && delay > 0) {
+                        try {
+                            wait(delay);
+                        }
+                        catch (InterruptedException e) {
+                            // just check again
+                        }
+                        delay = this.lastStart + this.interval
+                                - System.currentTimeMillis();
+                    }
+                    if (!this.pending || this.chart == null) {
+                        this.thread = null;
+                        return;
+                    }
+                    chart = this.chart;
+                    area = this.chartArea;
+                    anchor = this.anchor;
+                    w = this.width;
+                    h = this.height;
+                    sx = this.scaleX;
+                    sy = this.scaleY;
+                    this.pending = false;
+                    this.anchor = null;
+                    this.lastStart = System.currentTimeMillis();
+                }
+                final BufferedImage image = new BufferedImage(w, h,
+                        BufferedImage.TYPE_INT_ARGB);
+                final ChartRenderingInfo info = new ChartRenderingInfo();
+                Graphics2D g2 = image.createGraphics();
+                try {
+                    if (sx != 1.0 || sy != 1.0) {
+                        g2.transform(AffineTransform.getScaleInstance(sx,
+                                sy));
+                    }
+                    chart.draw(g2, area, anchor, info);
+                }
+                catch (RuntimeException e) {
+                    // if the chart was changed while it was being drawn, the
+                    // failure is expected and the chart is simply redrawn
+                    synchronized (this) {
+                        if (!this.pending) {
+                            this.thread = null;
+                            throw e;
+                        }
+                    }
+                    continue;
+                }
+                finally {
+                    g2.dispose();
+                }
+                SwingUtilities.invokeLater(new Runnable() {
+                    public void run() {
+                        renderingFinished(image, info);
+                    }
+                });
+            }
+        }
+
+    }
+
 
 }
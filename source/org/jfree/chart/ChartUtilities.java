@@ -72,6 +72,9 @@
  *               methods (DG);
  * 10-Jan-2008 : Fix bug 1868251 - don't create image with transparency when
  *               saving to JPEG format (DG);
+ * 18-Oct-2026 : Added optional image pool, and write scaled charts directly
+ *               to the output stream (DG);
+ * 18-Oct-2026 : Release pooled image if drawing fails (DG);
  *
  */
 
@@ -96,6 +99,7 @@ import org.jfree.chart.imagemap.StandardToolTipTagFragmentGenerator;
 import org.jfree.chart.imagemap.StandardURLTagFragmentGenerator;
 import org.jfree.chart.imagemap.ToolTipTagFragmentGenerator;
 import org.jfree.chart.imagemap.URLTagFragmentGenerator;
+import org.jfree.chart.util.BufferedImagePool;
 
 /**
  * A collection of utility methods for JFreeChart.  Includes methods for
@@ -106,6 +110,93 @@ import org.jfree.chart.imagemap.URLTagFragmentGenerator;
  */
 public abstract class ChartUtilities {
 
+    /**
+     * The pool for the images that charts are drawn into before encoding
+     * (<code>null</code> if images are not reused).
+     */
+    private static BufferedImagePool imagePool;
+
+    /**
+     * Returns the pool for the images that charts are drawn into by the
+     * <code>writeChartAsXXX()</code> and <code>saveChartAsXXX()</code>
+     * methods.
+     *
+     * @return The pool (possibly <code>null</code>).
+     *
+     * @see #setImagePool(BufferedImagePool)
+     *
+     * @since 1.0.13
+     */
+    public static BufferedImagePool getImagePool() {
+        return ChartUtilities.imagePool;
+    }
+
+    /**
+     * Sets the pool for the images that charts are drawn into by the
+     * <code>writeChartAsXXX()</code> and <code>saveChartAsXXX()</code>
+     * methods.  When a pool is set, each image is returned to the pool once
+     * it has been encoded, which avoids allocating a new image for every
+     * chart when many charts of the same size are written.
+     *
+     * @param pool  the pool (<code>null</code> permitted, to allocate a new
+     *     image for every chart).
+     *
+     * @since 1.0.13
+     */
+    public static void setImagePool(BufferedImagePool pool) {
+        ChartUtilities.imagePool = pool;
+    }
+
+    /**
+     * Draws a chart into an image, taken from the image pool if there is
+     * one.
+     *
+     * @param chart  the chart.
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param imageType  the image type.
+     * @param info  the chart rendering info (<code>null</code> permitted).
+     *
+     * @return The image.
+     */
+    private static BufferedImage drawChart(JFreeChart chart, int width,
+            int height, int imageType, ChartRenderingInfo info) {
+        BufferedImagePool pool = ChartUtilities.imagePool;
+        if (pool == null) {
+            return chart.createBufferedImage(width, height, imageType, info);
+        }
+        BufferedImage image = pool.acquire(width, height, imageType);
+        boolean drawn = false;
+        Graphics2D g2 = image.createGraphics();
+        try {
+            chart.draw(g2, new Rectangle2D.Double(0, 0, width, height), null,
+                    info);
+            drawn = true;
+        }
+        finally {
+            g2.dispose();
+            if (!drawn) {
+                // the caller never sees the image, so it can't release it
+                pool.release(image);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Returns an image created by
+     * {@link #drawChart(JFreeChart, int, int, int, ChartRenderingInfo)} to
+     * the image pool (if there is one).
+     *
+     * @param image  the image.
+     */
+    private static void releaseImage(BufferedImage image) {
+        BufferedImagePool pool = ChartUtilities.imagePool;
+        if (pool != null) {
+            pool.release(image);
+        }
+    }
+
     /**
      * Applies the current theme to the specified chart.  This method is
      * provided for convenience, the theme itself is stored in the
@@ -180,9 +271,15 @@ public abstract class ChartUtilities {
         if (chart == null) {
             throw new IllegalArgumentException("Null 'chart' argument.");
         }
-        BufferedImage bufferedImage
-                = chart.createBufferedImage(width, height, info);
-        EncoderUtil.writeBufferedImage(bufferedImage, ImageFormat.PNG, out);
+        BufferedImage bufferedImage = drawChart(chart, width, height,
+                BufferedImage.TYPE_INT_ARGB, info);
+        try {
+            EncoderUtil.writeBufferedImage(bufferedImage, ImageFormat.PNG,
+                    out);
+        }
+        finally {
+            releaseImage(bufferedImage);
+        }
     }
 
     /**
@@ -212,10 +309,15 @@ public abstract class ChartUtilities {
         if (chart == null) {
             throw new IllegalArgumentException("Null 'chart' argument.");
         }
-        BufferedImage chartImage = chart.createBufferedImage(width, height,
+        BufferedImage chartImage = drawChart(chart, width, height,
                 BufferedImage.TYPE_INT_ARGB, info);
-        ChartUtilities.writeBufferedImageAsPNG(out, chartImage, encodeAlpha,
-                compression);
+        try {
+            ChartUtilities.writeBufferedImageAsPNG(out, chartImage,
+                    encodeAlpha, compression);
+        }
+        finally {
+            releaseImage(chartImage);
+        }
 
     }
 
@@ -272,7 +374,7 @@ public abstract class ChartUtilities {
             chart.draw(g2, new Rectangle2D.Double(0, 0, defaultWidth,
                     defaultHeight), null, null);
         }
-        out.write(encodeAsPNG(image));
+        writeBufferedImageAsPNG(out, image);
 
     }
 
@@ -423,9 +525,14 @@ public abstract class ChartUtilities {
         if (chart == null) {
             throw new IllegalArgumentException("Null 'chart' argument.");
         }
-        BufferedImage image = chart.createBufferedImage(width, height,
+        BufferedImage image = drawChart(chart, width, height,
                 BufferedImage.TYPE_INT_RGB, info);
-        EncoderUtil.writeBufferedImage(image, ImageFormat.JPEG, out);
+        try {
+            EncoderUtil.writeBufferedImage(image, ImageFormat.JPEG, out);
+        }
+        finally {
+            releaseImage(image);
+        }
 
     }
 
@@ -451,9 +558,15 @@ public abstract class ChartUtilities {
         if (chart == null) {
             throw new IllegalArgumentException("Null 'chart' argument.");
         }
-        BufferedImage image = chart.createBufferedImage(width, height,
+        BufferedImage image = drawChart(chart, width, height,
                 BufferedImage.TYPE_INT_RGB, info);
-        EncoderUtil.writeBufferedImage(image, ImageFormat.JPEG, out, quality);
+        try {
+            EncoderUtil.writeBufferedImage(image, ImageFormat.JPEG, out,
+                    quality);
+        }
+        finally {
+            releaseImage(image);
+        }
 
     }
 
@@ -144,6 +144,8 @@
  * 19-Sep-2008 : Check for title visibility (DG);
  * 18-Dec-2008 : Use ResourceBundleWrapper - see patch 1607918 by
  *               Jess Thrysoee (DG);
+ * 18-Oct-2026 : Implemented ChangeBatchParticipant (DG);
+ * 18-Oct-2026 : Added render timing listeners (DG);
  *
  */
 
@@ -192,6 +194,9 @@ import org.jfree.chart.event.ChartProgressEvent;
 import org.jfree.chart.event.ChartProgressListener;
 import org.jfree.chart.event.PlotChangeEvent;
 import org.jfree.chart.event.PlotChangeListener;
+import org.jfree.chart.event.RenderPhase;
+import org.jfree.chart.event.RenderTimer;
+import org.jfree.chart.event.RenderTimingListener;
 import org.jfree.chart.event.TitleChangeEvent;
 import org.jfree.chart.event.TitleChangeListener;
 import org.jfree.chart.plot.*;
@@ -200,6 +205,8 @@ import org.jfree.chart.title.TextTitle;
 import org.jfree.chart.title.Title;
 import org.jfree.chart.util.ResourceBundleWrapper;
 import org.jfree.data.Range;
+import org.jfree.data.general.ChangeBatch;
+import org.jfree.data.general.ChangeBatchParticipant;
 import org.jfree.io.SerialUtilities;
 import org.jfree.ui.Align;
 import org.jfree.ui.Drawable;
@@ -240,7 +247,8 @@ public class JFreeChart implements Drawable,
                                    TitleChangeListener,
                                    PlotChangeListener,
                                    Serializable,
-                                   Cloneable {
+                                   Cloneable,
+                                   ChangeBatchParticipant {
 
     /** For serialization. */
     private static final long serialVersionUID = -3470703747817429120L;
@@ -310,6 +318,12 @@ public class JFreeChart implements Drawable,
     /** Storage for registered change listeners. */
     private transient EventListenerList changeListeners;
 
+    /**
+     * The event deferred while a {@link ChangeBatch} is open
+     * (<code>null</code> if there is none).
+     */
+    private transient ChartChangeEvent batchedEvent;
+
     /** Storage for registered progress listeners. */
     private transient EventListenerList progressListeners;
 
@@ -1163,85 +1177,127 @@ public class JFreeChart implements Drawable,
             info.setChartArea(chartArea);
         }
 
-        // ensure no drawing occurs outside chart area...
-        Shape savedClip = g2.getClip();
-        g2.clip(chartArea);
+        RenderTimer timer = null;
+        if (this.progressListeners.getListenerCount(
+                RenderTimingListener.class) > 0) {
+            timer = RenderTimer.start(this, (RenderTimingListener[])
+                    this.progressListeners.getListeners(
+                    RenderTimingListener.class), (info != null
+                    ? info.getEntityCollection() : null));
+        }
 
-        g2.addRenderingHints(this.renderingHints);
+        try {
+            // ensure no drawing occurs outside chart area...
+            Shape savedClip = g2.getClip();
+            g2.clip(chartArea);
 
-        // draw the chart background...
-        if (this.backgroundPaint != null) {
-            g2.setPaint(this.backgroundPaint);
-            g2.fill(chartArea);
-        }
+            g2.addRenderingHints(this.renderingHints);
 
-        if (this.backgroundImage != null) {
-            Composite originalComposite = g2.getComposite();
-            g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
-                    this.backgroundImageAlpha));
-            Rectangle2D dest = new Rectangle2D.Double(0.0, 0.0,
-                    this.backgroundImage.getWidth(null),
-                    this.backgroundImage.getHeight(null));
-            Align.align(dest, chartArea, this.backgroundImageAlignment);
-            g2.drawImage(this.backgroundImage, (int) dest.getX(),
-                    (int) dest.getY(), (int) dest.getWidth(),
-                    (int) dest.getHeight(), null);
-            g2.setComposite(originalComposite);
-        }
-
-        if (isBorderVisible()) {
-            Paint paint = getBorderPaint();
-            Stroke stroke = getBorderStroke();
-            if (paint != null && stroke != null) {
-                Rectangle2D borderArea = new Rectangle2D.Double(
-                        chartArea.getX(), chartArea.getY(),
-                        chartArea.getWidth() - 1.0, chartArea.getHeight()
-                        - 1.0);
-                g2.setPaint(paint);
-                g2.setStroke(stroke);
-                g2.draw(borderArea);
+            // draw the chart background...
+            if (timer != null) {
+                timer.startPhase(RenderPhase.CHART_BACKGROUND, this);
+            }
+            if (this.backgroundPaint != null) {
+                g2.setPaint(this.backgroundPaint);
+                g2.fill(chartArea);
             }
-        }
 
-        // draw the title and subtitles...
-        Rectangle2D nonTitleArea = new Rectangle2D.Double();
-        nonTitleArea.setRect(chartArea);
-        this.padding.trim(nonTitleArea);
+            if (this.backgroundImage != null) {
+                Composite originalComposite = g2.getComposite();
+                g2.setComposite(AlphaComposite.getInstance(
+                        AlphaComposite.SRC_OVER, this.backgroundImageAlpha));
+                Rectangle2D dest = new Rectangle2D.Double(0.0, 0.0,
+                        this.backgroundImage.getWidth(null),
+                        this.backgroundImage.getHeight(null));
+                Align.align(dest, chartArea, this.backgroundImageAlignment);
+                g2.drawImage(this.backgroundImage, (int) dest.getX(),
+                        (int) dest.getY(), (int) dest.getWidth(),
+                        (int) dest.getHeight(), null);
+                g2.setComposite(originalComposite);
+            }
 
-        EntityCollection entities = null;
-        if (info != null) {
-            entities = info.getEntityCollection();
-        }
-        if (this.title != null) {
-            EntityCollection e = drawTitle(this.title, g2, nonTitleArea,
-                    (entities != null));
-            if (e != null) {
-                entities.addAll(e);
+            if (isBorderVisible()) {
+                Paint paint = getBorderPaint();
+                Stroke stroke = getBorderStroke();
+                if (paint != null && stroke != null) {
+                    Rectangle2D borderArea = new Rectangle2D.Double(
+                            chartArea.getX(), chartArea.getY(),
+                            chartArea.getWidth() - 1.0, chartArea.getHeight()
+                            - 1.0);
+                    g2.setPaint(paint);
+                    g2.setStroke(stroke);
+                    g2.draw(borderArea);
+                }
+            }
+            if (timer != null) {
+                timer.endPhase();
             }
-        }
 
-        Iterator iterator = this.subtitles.iterator();
-        while (iterator.hasNext()) {
-            Title currentTitle = (Title) iterator.next();
-            if (currentTitle.isVisible()) {
-                EntityCollection e = drawTitle(currentTitle, g2, nonTitleArea,
+            // draw the title and subtitles...
+            Rectangle2D nonTitleArea = new Rectangle2D.Double();
+            nonTitleArea.setRect(chartArea);
+            this.padding.trim(nonTitleArea);
+
+            EntityCollection entities = null;
+            if (info != null) {
+                entities = info.getEntityCollection();
+            }
+            if (this.title != null) {
+                if (timer != null) {
+                    timer.startPhase(RenderPhase.TITLE, this.title);
+                }
+                EntityCollection e = drawTitle(this.title, g2, nonTitleArea,
                         (entities != null));
                 if (e != null) {
                     entities.addAll(e);
                 }
+                if (timer != null) {
+                    timer.endPhase();
+                }
             }
-        }
 
-        Rectangle2D plotArea = nonTitleArea;
+            Iterator iterator = this.subtitles.iterator();
+            while (iterator.hasNext()) {
+                Title currentTitle = (Title) iterator.next();
+                if (currentTitle.isVisible()) {
+                    if (timer != null) {
+                        timer.startPhase(currentTitle instanceof LegendTitle
+                                ? RenderPhase.LEGEND : RenderPhase.TITLE,
+                                currentTitle);
+                    }
+                    EntityCollection e = drawTitle(currentTitle, g2,
+                            nonTitleArea, (entities != null));
+                    if (e != null) {
+                        entities.addAll(e);
+                    }
+                    if (timer != null) {
+                        timer.endPhase();
+                    }
+                }
+            }
 
-        // draw the plot (axes and data visualisation)
-        PlotRenderingInfo plotInfo = null;
-        if (info != null) {
-            plotInfo = info.getPlotInfo();
-        }
-        this.plot.draw(g2, plotArea, anchor, null, plotInfo);
+            Rectangle2D plotArea = nonTitleArea;
+
+            // draw the plot (axes and data visualisation)
+            PlotRenderingInfo plotInfo = null;
+            if (info != null) {
+                plotInfo = info.getPlotInfo();
+            }
+            if (timer != null) {
+                timer.startPhase(RenderPhase.PLOT, this.plot);
+            }
+            this.plot.draw(g2, plotArea, anchor, null, plotInfo);
+            if (timer != null) {
+                timer.endPhase();
+            }
 
-        g2.setClip(savedClip);
+            g2.setClip(savedClip);
+        }
+        finally {
+            if (timer != null) {
+                timer.finish();
+            }
+        }
 
         notifyListeners(new ChartProgressEvent(this, this,
                 ChartProgressEvent.DRAWING_FINISHED, 100));
@@ -1511,19 +1567,55 @@ public class JFreeChart implements Drawable,
     }
 
     /**
-     * Sends a {@link ChartChangeEvent} to all registered listeners.
+     * Sends a {@link ChartChangeEvent} to all registered listeners.  If a
+     * {@link ChangeBatch} is open, the event is merged with any other events
+     * deferred by this chart, and sent when the batch is closed.
      *
      * @param event  information about the event that triggered the
      *               notification.
      */
     protected void notifyListeners(ChartChangeEvent event) {
-        if (this.notify) {
-            Object[] listeners = this.changeListeners.getListenerList();
-            for (int i = listeners.length - 2; i >= 0; i -= 2) {
-                if (listeners[i] == ChartChangeListener.class) {
-                    ((ChartChangeListener) listeners[i + 1]).chartChanged(
-                            event);
-                }
+        if (!this.notify) {
+            return;
+        }
+        if (this.batchedEvent != null) {
+            if (this.batchedEvent.getSource() != event.getSource()
+                    || this.batchedEvent.getType() != event.getType()) {
+                this.batchedEvent = new ChartChangeEvent(this, this);
+            }
+            return;
+        }
+        if (ChangeBatch.defer(this, ChangeBatch.CHART)) {
+            this.batchedEvent = event;
+            return;
+        }
+        dispatch(event);
+    }
+
+    /**
+     * Sends the change event that has been deferred during a batch (if any)
+     * to all registered listeners.
+     *
+     * @since 1.0.13
+     */
+    public void fireBatchedChange() {
+        ChartChangeEvent event = this.batchedEvent;
+        this.batchedEvent = null;
+        if (event != null && this.notify) {
+            dispatch(event);
+        }
+    }
+
+    /**
+     * Sends a change event to all registered listeners.
+     *
+     * @param event  the event.
+     */
+    private void dispatch(ChartChangeEvent event) {
+        Object[] listeners = this.changeListeners.getListenerList();
+        for (int i = listeners.length - 2; i >= 0; i -= 2) {
+            if (listeners[i] == ChartChangeListener.class) {
+                ((ChartChangeListener) listeners[i + 1]).chartChanged(event);
             }
         }
     }
@@ -1551,6 +1643,38 @@ public class JFreeChart implements Drawable,
         this.progressListeners.remove(ChartProgressListener.class, listener);
     }
 
+    /**
+     * Registers an object to receive the time taken by each phase of
+     * drawing the chart.  When no listeners are registered, the timings are
+     * not recorded.
+     *
+     * @param listener  the listener (<code>null</code> not permitted).
+     *
+     * @see #removeRenderTimingListener(RenderTimingListener)
+     *
+     * @since 1.0.13
+     */
+    public void addRenderTimingListener(RenderTimingListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Null 'listener' argument.");
+        }
+        this.progressListeners.add(RenderTimingListener.class, listener);
+    }
+
+    /**
+     * Deregisters an object that receives the time taken by each phase of
+     * drawing the chart.
+     *
+     * @param listener  the listener.
+     *
+     * @see #addRenderTimingListener(RenderTimingListener)
+     *
+     * @since 1.0.13
+     */
+    public void removeRenderTimingListener(RenderTimingListener listener) {
+        this.progressListeners.remove(RenderTimingListener.class, listener);
+    }
+
     /**
      * Sends a {@link ChartProgressEvent} to all registered listeners.
      *
@@ -1739,6 +1863,7 @@ public class JFreeChart implements Drawable,
 
         chart.progressListeners = new EventListenerList();
         chart.changeListeners = new EventListenerList();
+        chart.batchedEvent = null;
         return chart;
     }
 
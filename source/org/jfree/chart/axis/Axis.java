@@ -81,6 +81,8 @@
  * 06-Jun-2008 : Added setTickLabelInsets(RectangleInsets, boolean) (DG);
  * 25-Sep-2008 : Added minor tick support, see patch 1934255 by Peter Kolb (DG);
  * 26-Sep-2008 : Added fireChangeEvent() method (DG);
+ * 18-Oct-2026 : Count text measurements for the active RenderTimer (DG);
+ * 18-Oct-2026 : Measure text with the shared TextMeasurementCache (DG);
  *
  */
 
@@ -89,7 +91,6 @@ package org.jfree.chart.axis;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
-import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Paint;
 import java.awt.Shape;
@@ -109,10 +110,11 @@ import javax.swing.event.EventListenerList;
 
 import org.jfree.chart.event.AxisChangeEvent;
 import org.jfree.chart.event.AxisChangeListener;
+import org.jfree.chart.event.RenderTimer;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.io.SerialUtilities;
-import org.jfree.text.TextUtilities;
 import org.jfree.ui.RectangleEdge;
 import org.jfree.ui.RectangleInsets;
 import org.jfree.ui.TextAnchor;
@@ -1127,8 +1129,9 @@ public abstract class Axis implements Cloneable, Serializable {
         Rectangle2D result = new Rectangle2D.Double();
         String axisLabel = getLabel();
         if (axisLabel != null && !axisLabel.equals("")) {
-            FontMetrics fm = g2.getFontMetrics(getLabelFont());
-            Rectangle2D bounds = TextUtilities.getTextBounds(axisLabel, g2, fm);
+            Rectangle2D bounds = TextMeasurementCache.getSharedInstance()
+                    .getTextBounds(axisLabel, getLabelFont(), g2);
+            RenderTimer.countTextMeasurements(1);
             RectangleInsets insets = getLabelInsets();
             bounds = insets.createOutsetRectangle(bounds);
             double angle = getLabelAngle();
@@ -1176,8 +1179,8 @@ public abstract class Axis implements Cloneable, Serializable {
         RectangleInsets insets = getLabelInsets();
         g2.setFont(font);
         g2.setPaint(getLabelPaint());
-        FontMetrics fm = g2.getFontMetrics();
-        Rectangle2D labelBounds = TextUtilities.getTextBounds(label, g2, fm);
+        TextMeasurementCache cache = TextMeasurementCache.getSharedInstance();
+        Rectangle2D labelBounds = cache.getTextBounds(label, g2);
 
         if (edge == RectangleEdge.TOP) {
             AffineTransform t = AffineTransform.getRotateInstance(
@@ -1188,7 +1191,7 @@ public abstract class Axis implements Cloneable, Serializable {
             double labelx = dataArea.getCenterX();
             double labely = state.getCursor() - insets.getBottom()
                             - labelBounds.getHeight() / 2.0;
-            TextUtilities.drawRotatedString(label, g2, (float) labelx,
+            cache.drawRotatedString(label, g2, (float) labelx,
                     (float) labely, TextAnchor.CENTER, getLabelAngle(),
                     TextAnchor.CENTER);
             state.cursorUp(insets.getTop() + labelBounds.getHeight()
@@ -1203,7 +1206,7 @@ public abstract class Axis implements Cloneable, Serializable {
             double labelx = dataArea.getCenterX();
             double labely = state.getCursor()
                             + insets.getTop() + labelBounds.getHeight() / 2.0;
-            TextUtilities.drawRotatedString(label, g2, (float) labelx,
+            cache.drawRotatedString(label, g2, (float) labelx,
                     (float) labely, TextAnchor.CENTER, getLabelAngle(),
                     TextAnchor.CENTER);
             state.cursorDown(insets.getTop() + labelBounds.getHeight()
@@ -1218,7 +1221,7 @@ public abstract class Axis implements Cloneable, Serializable {
             double labelx = state.getCursor()
                             - insets.getRight() - labelBounds.getWidth() / 2.0;
             double labely = dataArea.getCenterY();
-            TextUtilities.drawRotatedString(label, g2, (float) labelx,
+            cache.drawRotatedString(label, g2, (float) labelx,
                     (float) labely, TextAnchor.CENTER,
                     getLabelAngle() - Math.PI / 2.0, TextAnchor.CENTER);
             state.cursorLeft(insets.getLeft() + labelBounds.getWidth()
@@ -1234,7 +1237,7 @@ public abstract class Axis implements Cloneable, Serializable {
             double labelx = state.getCursor()
                             + insets.getLeft() + labelBounds.getWidth() / 2.0;
             double labely = dataArea.getY() + dataArea.getHeight() / 2.0;
-            TextUtilities.drawRotatedString(label, g2, (float) labelx,
+            cache.drawRotatedString(label, g2, (float) labelx,
                     (float) labely, TextAnchor.CENTER,
                     getLabelAngle() + Math.PI / 2.0, TextAnchor.CENTER);
             state.cursorRight(insets.getLeft() + labelBounds.getWidth()
@@ -88,6 +88,8 @@
  *               calculateTextBlockWidth() (DG);
  * 26-Jun-2008 : Added new getCategoryMiddle() method (DG);
  * 27-Oct-2008 : Set font on Graphics2D when creating category labels (DG);
+ * 18-Oct-2026 : Count text measurements for the active RenderTimer (DG);
+ * 18-Oct-2026 : Measure text with the shared TextMeasurementCache (DG);
  *
  */
 
@@ -112,14 +114,14 @@ import java.util.Set;
 import org.jfree.chart.entity.CategoryLabelEntity;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.AxisChangeEvent;
+import org.jfree.chart.event.RenderTimer;
 import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.data.category.CategoryDataset;
 import org.jfree.io.SerialUtilities;
-import org.jfree.text.G2TextMeasurer;
 import org.jfree.text.TextBlock;
-import org.jfree.text.TextUtilities;
 import org.jfree.ui.RectangleAnchor;
 import org.jfree.ui.RectangleEdge;
 import org.jfree.ui.RectangleInsets;
@@ -1137,9 +1139,11 @@ public class CategoryAxis extends Axis implements Cloneable, Serializable {
      */
     protected TextBlock createLabel(Comparable category, float width,
                                     RectangleEdge edge, Graphics2D g2) {
-        TextBlock label = TextUtilities.createTextBlock(category.toString(),
+        TextMeasurementCache cache = TextMeasurementCache.getSharedInstance();
+        TextBlock label = cache.createTextBlock(category.toString(),
                 getTickLabelFont(category), getTickLabelPaint(category), width,
-                this.maximumCategoryLabelLines, new G2TextMeasurer(g2));
+                this.maximumCategoryLabelLines, g2);
+        RenderTimer.countTextMeasurements(1);
         return label;
     }
 
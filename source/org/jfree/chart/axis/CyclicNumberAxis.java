@@ -43,6 +43,7 @@
  *               (for consistency with other classes) and removed unused
  *               parameters (DG);
  * 08-Jun-2005 : Fixed equals() method to handle GradientPaint (DG);
+ * 18-Oct-2026 : Measure text with the shared TextMeasurementCache (DG);
  *
  */
 
@@ -65,9 +66,9 @@ import java.util.List;
 
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.data.Range;
 import org.jfree.io.SerialUtilities;
-import org.jfree.text.TextUtilities;
 import org.jfree.ui.RectangleEdge;
 import org.jfree.ui.TextAnchor;
 import org.jfree.util.ObjectUtilities;
@@ -1105,9 +1106,8 @@ public class CyclicNumberAxis extends NumberAxis {
             return ret;
         }
 
-        FontMetrics fm = g2.getFontMetrics(getTickLabelFont());
-        Rectangle2D r = TextUtilities.getTextBounds(
-            this.internalMarkerCycleBoundTick.getText(), g2, fm
+        Rectangle2D r = TextMeasurementCache.getSharedInstance().getTextBounds(
+            this.internalMarkerCycleBoundTick.getText(), getTickLabelFont(), g2
         );
 
         if (RectangleEdge.isTopOrBottom(edge)) {
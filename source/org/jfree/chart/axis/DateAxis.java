@@ -123,13 +123,16 @@
  * 18-Sep-2008 : Added locale to go with timezone (DG);
  * 25-Sep-2008 : Added minor tick support, see patch 1934255 by Peter Kolb (DG);
  * 25-Nov-2008 : Added bug fix 2201869 by Fawad Halim (DG);
+ * 18-Oct-2026 : Count text measurements for the active RenderTimer (DG);
+ * 18-Oct-2026 : Measure text with the shared TextMeasurementCache (DG);
+ * 18-Oct-2026 : Reuse the ticks while the axis is unchanged (DG);
+ * 18-Oct-2026 : Reuse a calendar for the tick date calculations (DG);
  *
  */
 
 package org.jfree.chart.axis;
 
 import java.awt.Font;
-import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.font.FontRenderContext;
 import java.awt.font.LineMetrics;
@@ -144,9 +147,11 @@ import java.util.Locale;
 import java.util.TimeZone;
 
 import org.jfree.chart.event.AxisChangeEvent;
+import org.jfree.chart.event.RenderTimer;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.ValueAxisPlot;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.data.Range;
 import org.jfree.data.time.DateRange;
 import org.jfree.data.time.Month;
@@ -1470,10 +1475,12 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
                 lowerStr = unit.dateToString(lower);
                 upperStr = unit.dateToString(upper);
             }
-            FontMetrics fm = g2.getFontMetrics(tickLabelFont);
-            double w1 = fm.stringWidth(lowerStr);
-            double w2 = fm.stringWidth(upperStr);
+            TextMeasurementCache cache
+                    = TextMeasurementCache.getSharedInstance();
+            double w1 = cache.getStringWidth(lowerStr, tickLabelFont, g2);
+            double w2 = cache.getStringWidth(upperStr, tickLabelFont, g2);
             result += Math.max(w1, w2);
+            RenderTimer.countTextMeasurements(2);
         }
 
         return result;
@@ -1523,10 +1530,12 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
                 lowerStr = unit.dateToString(lower);
                 upperStr = unit.dateToString(upper);
             }
-            FontMetrics fm = g2.getFontMetrics(tickLabelFont);
-            double w1 = fm.stringWidth(lowerStr);
-            double w2 = fm.stringWidth(upperStr);
+            TextMeasurementCache cache
+                    = TextMeasurementCache.getSharedInstance();
+            double w1 = cache.getStringWidth(lowerStr, tickLabelFont, g2);
+            double w2 = cache.getStringWidth(upperStr, tickLabelFont, g2);
             result += Math.max(w1, w2);
+            RenderTimer.countTextMeasurements(2);
         }
 
         return result;
@@ -1566,11 +1575,12 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
      * @param time  the tick date/time.
      * @param unit  the tick unit.
      * @param position  the tick position.
+     * @param calendar  the calendar for the date calculations.
      *
      * @return The adjusted time.
      */
     private Date correctTickDateForPosition(Date time, DateTickUnit unit,
-            DateTickMarkPosition position) {
+            DateTickMarkPosition position, Calendar calendar) {
         Date result = time;
         switch (unit.getUnit()) {
             case (DateTickUnit.MILLISECOND) :
@@ -1580,12 +1590,12 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
             case (DateTickUnit.DAY) :
                 break;
             case (DateTickUnit.MONTH) :
-                result = calculateDateForPosition(new Month(time,
-                        this.timeZone, this.locale), position);
+                result = calculateDateForPosition(time, Calendar.MONTH,
+                        position, calendar);
                 break;
             case(DateTickUnit.YEAR) :
-                result = calculateDateForPosition(new Year(time,
-                        this.timeZone, this.locale), position);
+                result = calculateDateForPosition(time, Calendar.YEAR,
+                        position, calendar);
                 break;
 
             default: break;
@@ -1593,6 +1603,53 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
         return result;
     }
 
+    /**
+     * Returns the date at the start, middle or end of the month or year that
+     * contains the specified date.  This gives the same result as
+     * {@link #calculateDateForPosition(RegularTimePeriod,
+     * DateTickMarkPosition)} for a {@link Month} or {@link Year}, without
+     * creating the time period (and its calendar) for every tick.
+     *
+     * @param time  the date.
+     * @param field  the period ({@link Calendar#MONTH} or
+     *     {@link Calendar#YEAR}).
+     * @param position  the tick position.
+     * @param calendar  the calendar for the date calculations.
+     *
+     * @return The date.
+     */
+    private Date calculateDateForPosition(Date time, int field,
+            DateTickMarkPosition position, Calendar calendar) {
+        calendar.setTime(time);
+        if (field == Calendar.YEAR) {
+            calendar.set(Calendar.MONTH, Calendar.JANUARY);
+        }
+        calendar.set(Calendar.DAY_OF_MONTH, 1);
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MILLISECOND, 0);
+        Date first = calendar.getTime();
+        if (position == DateTickMarkPosition.START) {
+            return first;
+        }
+        if (field == Calendar.YEAR) {
+            calendar.set(Calendar.MONTH, Calendar.DECEMBER);
+        }
+        calendar.set(Calendar.DAY_OF_MONTH,
+                calendar.getActualMaximum(Calendar.DAY_OF_MONTH));
+        calendar.set(Calendar.HOUR_OF_DAY, 23);
+        calendar.set(Calendar.MINUTE, 59);
+        calendar.set(Calendar.SECOND, 59);
+        calendar.set(Calendar.MILLISECOND, 999);
+        Date last = calendar.getTime();
+        if (position == DateTickMarkPosition.END) {
+            return last;
+        }
+        return new Date(first.getTime()
+                + (last.getTime() - first.getTime()) / 2);
+    }
+
     /**
      * Recalculates the ticks for the date axis.
      *
@@ -1605,26 +1662,34 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
     protected List refreshTicksHorizontal(Graphics2D g2,
                 Rectangle2D dataArea, RectangleEdge edge) {
 
-        List result = new java.util.ArrayList();
-
         Font tickLabelFont = getTickLabelFont();
         g2.setFont(tickLabelFont);
 
+        // reuse the ticks from the last call if nothing has changed...
+        TickCache cache = getTickCache();
+        List result = cache.getTicks(this, getTickUnit(),
+                getDateFormatOverride(), g2, dataArea, edge);
+        if (result != null) {
+            return result;
+        }
+        result = new java.util.ArrayList();
+
         if (isAutoTickUnitSelection()) {
             selectAutoTickUnit(g2, dataArea, edge);
         }
 
         DateTickUnit unit = getTickUnit();
+        Calendar calendar = Calendar.getInstance(this.timeZone);
         Date tickDate = calculateLowestVisibleTickValue(unit);
         Date upperDate = getMaximumDate();
 
         while (tickDate.before(upperDate)) {
             // could add a flag to make the following correction optional...
             tickDate = correctTickDateForPosition(tickDate, unit,
-                    this.tickMarkPosition);
+                    this.tickMarkPosition, calendar);
 
             long lowestTickTime = tickDate.getTime();
-            long distance = unit.addToDate(tickDate, this.timeZone).getTime()
+            long distance = unit.addToDate(tickDate, calendar).getTime()
                     - lowestTickTime;
             for(int minorTick = 1; minorTick < getMinorTickCount();
                     minorTick++) {
@@ -1677,7 +1742,7 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
                 result.add(tick);
 
                 long currentTickTime = tickDate.getTime();
-                tickDate = unit.addToDate(tickDate, this.timeZone);
+                tickDate = unit.addToDate(tickDate, calendar);
                 long nextTickTime = tickDate.getTime();
                 for (int minorTick = 1; minorTick < getMinorTickCount();
                         minorTick++){
@@ -1695,11 +1760,13 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
 
             }
             else {
-                tickDate = unit.rollDate(tickDate, this.timeZone);
+                tickDate = unit.rollDate(tickDate, calendar);
                 continue;
             }
 
         }
+        cache.setTicks(result, this, getTickUnit(), getDateFormatOverride(),
+                g2, dataArea, edge);
         return result;
 
     }
@@ -1716,15 +1783,23 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
     protected List refreshTicksVertical(Graphics2D g2,
             Rectangle2D dataArea, RectangleEdge edge) {
 
-        List result = new java.util.ArrayList();
-
         Font tickLabelFont = getTickLabelFont();
         g2.setFont(tickLabelFont);
 
+        // reuse the ticks from the last call if nothing has changed...
+        TickCache cache = getTickCache();
+        List result = cache.getTicks(this, getTickUnit(),
+                getDateFormatOverride(), g2, dataArea, edge);
+        if (result != null) {
+            return result;
+        }
+        result = new java.util.ArrayList();
+
         if (isAutoTickUnitSelection()) {
             selectAutoTickUnit(g2, dataArea, edge);
         }
         DateTickUnit unit = getTickUnit();
+        Calendar calendar = Calendar.getInstance(this.timeZone);
         Date tickDate = calculateLowestVisibleTickValue(unit);
         Date upperDate = getMaximumDate();
 
@@ -1732,10 +1807,10 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
 
             // could add a flag to make the following correction optional...
             tickDate = correctTickDateForPosition(tickDate, unit,
-                    this.tickMarkPosition);
+                    this.tickMarkPosition, calendar);
 
             long lowestTickTime = tickDate.getTime();
-            long distance = unit.addToDate(tickDate, this.timeZone).getTime()
+            long distance = unit.addToDate(tickDate, calendar).getTime()
                     - lowestTickTime;
             for(int minorTick = 1; minorTick < getMinorTickCount();
                     minorTick++) {
@@ -1786,7 +1861,7 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
                         rotationAnchor, angle);
                 result.add(tick);
                 long currentTickTime = tickDate.getTime();
-                tickDate = unit.addToDate(tickDate, this.timeZone);
+                tickDate = unit.addToDate(tickDate, calendar);
                 long nextTickTime = tickDate.getTime();
                 for(int minorTick = 1; minorTick < getMinorTickCount();
                         minorTick++){
@@ -1803,9 +1878,11 @@ public class DateAxis extends ValueAxis implements Cloneable, Serializable {
                 }
             }
             else {
-                tickDate = unit.rollDate(tickDate, this.timeZone);
+                tickDate = unit.rollDate(tickDate, calendar);
             }
         }
+        cache.setTicks(result, this, getTickUnit(), getDateFormatOverride(),
+                g2, dataArea, edge);
         return result;
     }
 
@@ -48,6 +48,8 @@
  * 04-Apr-2007 : Added new methods addToDate(Date, TimeZone) and rollDate(Date,
  *               TimeZone) (CB);
  * 09-Jun-2008 : Deprecated addToDate(Date) (DG);
+ * 18-Oct-2026 : Added addToDate() and rollDate() methods that reuse a
+ *               calendar (DG);
  *
  */
 
@@ -252,7 +254,23 @@ public class DateTickUnit extends TickUnit implements Serializable {
         // number calculations, and since DateTickUnit doesn't do week
         // arithmetic, the default locale (whatever it is) should be fine
         // here...
-        Calendar calendar = Calendar.getInstance(zone);
+        return addToDate(base, Calendar.getInstance(zone));
+    }
+
+    /**
+     * Calculates a new date by adding this unit to the base date, using the
+     * supplied calendar.  This avoids creating a new calendar for each date
+     * when a sequence of dates is calculated.
+     *
+     * @param base  the base date.
+     * @param calendar  the calendar for the date calculation, with the
+     *     required time zone (<code>null</code> not permitted).
+     *
+     * @return A new date one unit after the base date.
+     *
+     * @since 1.0.13
+     */
+    public Date addToDate(Date base, Calendar calendar) {
         calendar.setTime(base);
         calendar.add(getCalendarField(this.unit), this.count);
         return calendar.getTime();
@@ -288,7 +306,22 @@ public class DateTickUnit extends TickUnit implements Serializable {
         // number calculations, and since DateTickUnit doesn't do week
         // arithmetic, the default locale (whatever it is) should be fine
         // here...
-        Calendar calendar = Calendar.getInstance(zone);
+        return rollDate(base, Calendar.getInstance(zone));
+    }
+
+    /**
+     * Rolls the date forward by the amount specified by the roll unit and
+     * count, using the supplied calendar.
+     *
+     * @param base  the base date.
+     * @param calendar  the calendar for the date calculation, with the
+     *     required time zone (<code>null</code> not permitted).
+     *
+     * @return The rolled date.
+     *
+     * @since 1.0.13
+     */
+    public Date rollDate(Date base, Calendar calendar) {
         calendar.setTime(base);
         calendar.add(getCalendarField(this.rollUnit), this.rollCount);
         return calendar.getTime();
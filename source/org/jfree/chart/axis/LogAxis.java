@@ -49,13 +49,15 @@
  *               see patch 1918209 by Andrew Mickish (DG);
  * 25-Sep-2008 : Moved minor tick fields up to superclass, see patch 1934255 
  *               by Peter Kolb (DG);
+ * 18-Oct-2026 : Count text measurements for the active RenderTimer (DG);
+ * 18-Oct-2026 : Measure text with the shared TextMeasurementCache (DG);
+ * 18-Oct-2026 : Reuse the ticks while the axis is unchanged (DG);
  *
  */
 
 package org.jfree.chart.axis;
 
 import java.awt.Font;
-import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.font.FontRenderContext;
 import java.awt.font.LineMetrics;
@@ -67,9 +69,11 @@ import java.util.List;
 import java.util.Locale;
 
 import org.jfree.chart.event.AxisChangeEvent;
+import org.jfree.chart.event.RenderTimer;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.ValueAxisPlot;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.data.Range;
 import org.jfree.ui.RectangleEdge;
 import org.jfree.ui.RectangleInsets;
@@ -492,9 +496,17 @@ public class LogAxis extends ValueAxis {
             RectangleEdge edge) {
 
         Range range = getRange();
-        List ticks = new ArrayList();
         Font tickLabelFont = getTickLabelFont();
         g2.setFont(tickLabelFont);
+
+        // reuse the ticks from the last call if nothing has changed...
+        TickCache cache = getTickCache();
+        List ticks = cache.getTicks(this, getTickUnit(),
+                getNumberFormatOverride(), g2, dataArea, edge);
+        if (ticks != null) {
+            return ticks;
+        }
+        ticks = new ArrayList();
         TextAnchor textAnchor;
         if (edge == RectangleEdge.TOP) {
             textAnchor = TextAnchor.BOTTOM_CENTER;
@@ -527,6 +539,8 @@ public class LogAxis extends ValueAxis {
             }
             current = current + this.tickUnit.getSize();
         }
+        cache.setTicks(ticks, this, getTickUnit(), getNumberFormatOverride(),
+                g2, dataArea, edge);
         return ticks;
     }
 
@@ -543,9 +557,17 @@ public class LogAxis extends ValueAxis {
             RectangleEdge edge) {
 
         Range range = getRange();
-        List ticks = new ArrayList();
         Font tickLabelFont = getTickLabelFont();
         g2.setFont(tickLabelFont);
+
+        // reuse the ticks from the last call if nothing has changed...
+        TickCache cache = getTickCache();
+        List ticks = cache.getTicks(this, getTickUnit(),
+                getNumberFormatOverride(), g2, dataArea, edge);
+        if (ticks != null) {
+            return ticks;
+        }
+        ticks = new ArrayList();
         TextAnchor textAnchor;
         if (edge == RectangleEdge.RIGHT) {
             textAnchor = TextAnchor.CENTER_LEFT;
@@ -578,6 +600,8 @@ public class LogAxis extends ValueAxis {
             }
             current = current + this.tickUnit.getSize();
         }
+        cache.setTicks(ticks, this, getTickUnit(), getNumberFormatOverride(),
+                g2, dataArea, edge);
         return ticks;
     }
 
@@ -754,7 +778,6 @@ public class LogAxis extends ValueAxis {
         }
         else {
             // look at lower and upper bounds...
-            FontMetrics fm = g2.getFontMetrics(getTickLabelFont());
             Range range = getRange();
             double lower = range.getLowerBound();
             double upper = range.getUpperBound();
@@ -769,9 +792,12 @@ public class LogAxis extends ValueAxis {
                 lowerStr = unit.valueToString(lower);
                 upperStr = unit.valueToString(upper);
             }
-            double w1 = fm.stringWidth(lowerStr);
-            double w2 = fm.stringWidth(upperStr);
+            TextMeasurementCache cache
+                    = TextMeasurementCache.getSharedInstance();
+            double w1 = cache.getStringWidth(lowerStr, getTickLabelFont(), g2);
+            double w2 = cache.getStringWidth(upperStr, getTickLabelFont(), g2);
             result += Math.max(w1, w2);
+            RenderTimer.countTextMeasurements(2);
         }
 
         return result;
@@ -42,6 +42,7 @@
  * 29-Oct-2003 : Added workaround for font alignment in PDF output (DG);
  * 21-Jan-2004 : Update for renamed method in ValueAxis (DG);
  * 07-Apr-2004 : Changed text bounds calculation (DG);
+ * 18-Oct-2026 : Measure text with the shared TextMeasurementCache (DG);
  *
  */
 
@@ -51,7 +52,6 @@ import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Composite;
 import java.awt.Font;
-import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.font.LineMetrics;
 import java.awt.geom.Rectangle2D;
@@ -60,7 +60,7 @@ import java.util.Iterator;
 import java.util.List;
 
 import org.jfree.chart.plot.IntervalMarker;
-import org.jfree.text.TextUtilities;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.ui.RectangleEdge;
 import org.jfree.util.ObjectUtilities;
 
@@ -158,8 +158,8 @@ public class MarkerAxisBand implements Serializable {
                                   String text) {
 
         g2.setFont(font);
-        FontMetrics fm = g2.getFontMetrics(font);
-        Rectangle2D r = TextUtilities.getTextBounds(text, g2, fm);
+        Rectangle2D r = TextMeasurementCache.getSharedInstance().getTextBounds(
+                text, font, g2);
         double x = bounds.getX();
         if (r.getWidth() < bounds.getWidth()) {
             x = x + (bounds.getWidth() - r.getWidth()) / 2;
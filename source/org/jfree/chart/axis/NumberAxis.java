@@ -92,13 +92,15 @@
  *               see bug 1608371 (DG);
  * 22-Mar-2007 : Use new defaultAutoRange attribute (DG);
  * 25-Sep-2008 : Added minor tick support, see patch 1934255 by Peter Kolb (DG);
+ * 18-Oct-2026 : Count text measurements for the active RenderTimer (DG);
+ * 18-Oct-2026 : Measure text with the shared TextMeasurementCache (DG);
+ * 18-Oct-2026 : Reuse the ticks while the axis is unchanged (DG);
  *
  */
 
 package org.jfree.chart.axis;
 
 import java.awt.Font;
-import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.font.FontRenderContext;
 import java.awt.font.LineMetrics;
@@ -110,9 +112,11 @@ import java.util.List;
 import java.util.Locale;
 
 import org.jfree.chart.event.AxisChangeEvent;
+import org.jfree.chart.event.RenderTimer;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.ValueAxisPlot;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.data.Range;
 import org.jfree.data.RangeType;
 import org.jfree.ui.RectangleEdge;
@@ -1006,7 +1010,6 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
         }
         else {
             // look at lower and upper bounds...
-            FontMetrics fm = g2.getFontMetrics(getTickLabelFont());
             Range range = getRange();
             double lower = range.getLowerBound();
             double upper = range.getUpperBound();
@@ -1021,9 +1024,12 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
                 lowerStr = unit.valueToString(lower);
                 upperStr = unit.valueToString(upper);
             }
-            double w1 = fm.stringWidth(lowerStr);
-            double w2 = fm.stringWidth(upperStr);
+            TextMeasurementCache cache
+                    = TextMeasurementCache.getSharedInstance();
+            double w1 = cache.getStringWidth(lowerStr, getTickLabelFont(), g2);
+            double w2 = cache.getStringWidth(upperStr, getTickLabelFont(), g2);
             result += Math.max(w1, w2);
+            RenderTimer.countTextMeasurements(2);
         }
 
         return result;
@@ -1166,11 +1172,18 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
     protected List refreshTicksHorizontal(Graphics2D g2,
             Rectangle2D dataArea, RectangleEdge edge) {
 
-        List result = new java.util.ArrayList();
-
         Font tickLabelFont = getTickLabelFont();
         g2.setFont(tickLabelFont);
 
+        // reuse the ticks from the last call if nothing has changed...
+        TickCache cache = getTickCache();
+        List result = cache.getTicks(this, getTickUnit(),
+                getNumberFormatOverride(), g2, dataArea, edge);
+        if (result != null) {
+            return result;
+        }
+        result = new java.util.ArrayList();
+
         if (isAutoTickUnitSelection()) {
             selectAutoTickUnit(g2, dataArea, edge);
         }
@@ -1242,6 +1255,8 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
                 }
             }
         }
+        cache.setTicks(result, this, getTickUnit(), getNumberFormatOverride(),
+                g2, dataArea, edge);
         return result;
 
     }
@@ -1259,11 +1274,18 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
     protected List refreshTicksVertical(Graphics2D g2,
             Rectangle2D dataArea, RectangleEdge edge) {
 
-        List result = new java.util.ArrayList();
-        result.clear();
-
         Font tickLabelFont = getTickLabelFont();
         g2.setFont(tickLabelFont);
+
+        // reuse the ticks from the last call if nothing has changed...
+        TickCache cache = getTickCache();
+        List result = cache.getTicks(this, getTickUnit(),
+                getNumberFormatOverride(), g2, dataArea, edge);
+        if (result != null) {
+            return result;
+        }
+        result = new java.util.ArrayList();
+
         if (isAutoTickUnitSelection()) {
             selectAutoTickUnit(g2, dataArea, edge);
         }
@@ -1340,6 +1362,8 @@ public class NumberAxis extends ValueAxis implements Cloneable, Serializable {
                 }
             }
         }
+        cache.setTicks(result, this, getTickUnit(), getNumberFormatOverride(),
+                g2, dataArea, edge);
         return result;
 
     }
@@ -45,6 +45,7 @@
  *               addSubCategory() (DG);
  * 13-Nov-2008 : Fix NullPointerException when dataset is null - see bug
  *               report 2275695 (DG);
+ * 18-Oct-2026 : Measure text with the shared TextMeasurementCache (DG);
  *
  */
 
@@ -52,7 +53,6 @@ package org.jfree.chart.axis;
 
 import java.awt.Color;
 import java.awt.Font;
-import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Paint;
 import java.awt.geom.Rectangle2D;
@@ -67,9 +67,9 @@ import org.jfree.chart.event.AxisChangeEvent;
 import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.data.category.CategoryDataset;
 import org.jfree.io.SerialUtilities;
-import org.jfree.text.TextUtilities;
 import org.jfree.ui.RectangleEdge;
 import org.jfree.ui.TextAnchor;
 
@@ -217,12 +217,12 @@ public class SubCategoryAxis extends CategoryAxis
     private double getMaxDim(Graphics2D g2, RectangleEdge edge) {
         double result = 0.0;
         g2.setFont(this.subLabelFont);
-        FontMetrics fm = g2.getFontMetrics();
+        TextMeasurementCache cache = TextMeasurementCache.getSharedInstance();
         Iterator iterator = this.subCategories.iterator();
         while (iterator.hasNext()) {
             Comparable subcategory = (Comparable) iterator.next();
             String label = subcategory.toString();
-            Rectangle2D bounds = TextUtilities.getTextBounds(label, g2, fm);
+            Rectangle2D bounds = cache.getTextBounds(label, g2);
             double dim = 0.0;
             if (RectangleEdge.isLeftOrRight(edge)) {
                 dim = bounds.getWidth();
@@ -370,8 +370,9 @@ public class SubCategoryAxis extends CategoryAxis
                     yy = (float) (y0 + (i + 0.5) * height);
                 }
                 String label = this.subCategories.get(i).toString();
-                TextUtilities.drawRotatedString(label, g2, xx, yy,
-                        TextAnchor.CENTER, 0.0, TextAnchor.CENTER);
+                TextMeasurementCache.getSharedInstance().drawRotatedString(
+                        label, g2, xx, yy, TextAnchor.CENTER, 0.0,
+                        TextAnchor.CENTER);
             }
         }
 
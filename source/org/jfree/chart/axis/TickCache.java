@@ -0,0 +1,226 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------
+ * TickCache.java
+ * --------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Compare the calendar of a date formatter (DG);
+ *
+ */
+
+package org.jfree.chart.axis;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.geom.Rectangle2D;
+import java.text.DateFormat;
+import java.text.Format;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import org.jfree.data.Range;
+import org.jfree.ui.RectangleEdge;
+import org.jfree.util.ObjectUtilities;
+
+/**
+ * Holds the ticks most recently calculated by a {@link ValueAxis}, together
+ * with the settings they were calculated for, so that the axis can reuse
+ * them when it is drawn again with the same range, length, edge, font and
+ * formatter.  Any other change to the axis is signalled by an
+ * {@link org.jfree.chart.event.AxisChangeEvent}, and the axis discards the
+ * cache when it sends one.
+ *
+ * @since 1.0.13
+ */
+class TickCache {
+
+    /** The ticks (<code>null</code> if the cache is empty). */
+    private List ticks;
+
+    /** The tick unit the ticks were calculated with. */
+    private TickUnit tickUnit;
+
+    /** The auto tick unit selection flag. */
+    private boolean autoTickUnitSelection;
+
+    /** The axis range. */
+    private Range range;
+
+    /** The length of the axis in Java2D units. */
+    private double length;
+
+    /** The axis location. */
+    private RectangleEdge edge;
+
+    /** The tick label font. */
+    private Font font;
+
+    /** The font render context of the graphics device. */
+    private FontRenderContext fontRenderContext;
+
+    /** A copy of the formatter override (possibly <code>null</code>). */
+    private Format formatter;
+
+    /**
+     * Creates a new empty cache.
+     */
+    public TickCache() {
+        super();
+    }
+
+    /**
+     * Returns a copy of the cached ticks, if they were calculated for the
+     * current settings of the axis, and <code>null</code> otherwise.
+     *
+     * @param axis  the axis.
+     * @param tickUnit  the current tick unit for the axis.
+     * @param formatter  the formatter override (<code>null</code>
+     *     permitted).
+     * @param g2  the graphics device.
+     * @param dataArea  the data area.
+     * @param edge  the axis location.
+     *
+     * @return The ticks (possibly <code>null</code>).
+     */
+    public List getTicks(ValueAxis axis, TickUnit tickUnit, Format formatter,
+            Graphics2D g2, Rectangle2D dataArea, RectangleEdge edge) {
+        if (this.ticks == null
+                || this.autoTickUnitSelection != axis.isAutoTickUnitSelection()
+                || this.edge != edge
+                || this.length != getLength(dataArea, edge)
+                || !ObjectUtilities.equal(this.tickUnit, tickUnit)
+                || !this.range.equals(axis.getRange())
+                || !this.font.equals(axis.getTickLabelFont())
+                || !sameFormat(this.formatter, formatter)
+                || !this.fontRenderContext.equals(g2.getFontRenderContext())) {
+            return null;
+        }
+        return new ArrayList(this.ticks);
+    }
+
+    /**
+     * Stores the ticks calculated for the current settings of the axis.
+     *
+     * @param ticks  the ticks.
+     * @param axis  the axis.
+     * @param tickUnit  the tick unit the ticks were calculated with.
+     * @param formatter  the formatter override (<code>null</code>
+     *     permitted).
+     * @param g2  the graphics device.
+     * @param dataArea  the data area.
+     * @param edge  the axis location.
+     */
+    public void setTicks(List ticks, ValueAxis axis, TickUnit tickUnit,
+            Format formatter, Graphics2D g2, Rectangle2D dataArea,
+            RectangleEdge edge) {
+        this.ticks = new ArrayList(ticks);
+        this.tickUnit = tickUnit;
+        this.autoTickUnitSelection = axis.isAutoTickUnitSelection();
+        this.range = axis.getRange();
+        this.length = getLength(dataArea, edge);
+        this.edge = edge;
+        this.font = axis.getTickLabelFont();
+        this.fontRenderContext = g2.getFontRenderContext();
+        // keep a copy, so that changes to the formatter are noticed...
+        this.formatter = (formatter != null ? (Format) formatter.clone()
+                : null);
+    }
+
+    /**
+     * Empties the cache.
+     */
+    public void clear() {
+        this.ticks = null;
+        this.tickUnit = null;
+        this.range = null;
+        this.font = null;
+        this.fontRenderContext = null;
+        this.formatter = null;
+    }
+
+    /**
+     * Returns <code>true</code> if two formatters create the same labels.
+     * The equals() method for a <code>DateFormat</code> ignores its
+     * calendar (and so its time zone), so the calendars are compared here.
+     * The calendars are not compared with equals(), because that includes
+     * the time that was last formatted.
+     *
+     * @param f1  the first formatter (<code>null</code> permitted).
+     * @param f2  the second formatter (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    private static boolean sameFormat(Format f1, Format f2) {
+        if (!ObjectUtilities.equal(f1, f2)) {
+            return false;
+        }
+        if (!(f1 instanceof DateFormat)) {
+            return true;
+        }
+        Calendar c1 = ((DateFormat) f1).getCalendar();
+        Calendar c2 = ((DateFormat) f2).getCalendar();
+        if (c1.getClass() != c2.getClass()
+                || !c1.getTimeZone().equals(c2.getTimeZone())
+                || c1.isLenient() != c2.isLenient()
+                || c1.getFirstDayOfWeek() != c2.getFirstDayOfWeek()
+                || c1.getMinimalDaysInFirstWeek()
+                        != c2.getMinimalDaysInFirstWeek()) {
+            return false;
+        }
+        if (c1 instanceof GregorianCalendar) {
+            return ((GregorianCalendar) c1).getGregorianChange().equals(
+                    ((GregorianCalendar) c2).getGregorianChange());
+        }
+        return true;
+    }
+
+    /**
+     * Returns the length of the axis.
+     *
+     * @param dataArea  the data area.
+     * @param edge  the axis location.
+     *
+     * @return The length.
+     */
+    private static double getLength(Rectangle2D dataArea, RectangleEdge edge) {
+        if (RectangleEdge.isLeftOrRight(edge)) {
+            return dataArea.getHeight();
+        }
+        return dataArea.getWidth();
+    }
+
+}
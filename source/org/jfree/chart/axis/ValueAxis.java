@@ -99,13 +99,15 @@
  * 22-Mar-2007 : Added new defaultAutoRange attribute (DG);
  * 02-Aug-2007 : Check for major tick when drawing label (DG);
  * 25-Sep-2008 : Added minor tick support, see patch 1934255 by Peter Kolb (DG);
+ * 18-Oct-2026 : Count text measurements for the active RenderTimer (DG);
+ * 18-Oct-2026 : Measure text with the shared TextMeasurementCache (DG);
+ * 18-Oct-2026 : Added a cache for the calculated ticks (DG);
  *
  */
 
 package org.jfree.chart.axis;
 
 import java.awt.Font;
-import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
 import java.awt.Shape;
@@ -121,10 +123,11 @@ import java.util.Iterator;
 import java.util.List;
 
 import org.jfree.chart.event.AxisChangeEvent;
+import org.jfree.chart.event.RenderTimer;
 import org.jfree.chart.plot.Plot;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.data.Range;
 import org.jfree.io.SerialUtilities;
-import org.jfree.text.TextUtilities;
 import org.jfree.ui.RectangleEdge;
 import org.jfree.ui.RectangleInsets;
 import org.jfree.util.ObjectUtilities;
@@ -267,6 +270,12 @@ public abstract class ValueAxis extends Axis
     /** A flag indicating whether or not tick labels are rotated to vertical. */
     private boolean verticalTickLabels;
 
+    /**
+     * The most recently calculated ticks (<code>null</code> until the axis
+     * uses it).
+     */
+    private transient TickCache tickCache;
+
     /**
      * Constructs a value axis.
      *
@@ -692,9 +701,10 @@ public abstract class ValueAxis extends Axis
                 g2.setPaint(getTickLabelPaint());
                 float[] anchorPoint = calculateAnchorPoint(tick, cursor,
                         dataArea, edge);
-                TextUtilities.drawRotatedString(tick.getText(), g2,
-                        anchorPoint[0], anchorPoint[1], tick.getTextAnchor(),
-                        tick.getAngle(), tick.getRotationAnchor());
+                TextMeasurementCache.getSharedInstance().drawRotatedString(
+                        tick.getText(), g2, anchorPoint[0], anchorPoint[1],
+                        tick.getTextAnchor(), tick.getAngle(),
+                        tick.getRotationAnchor());
             }
 
             if ((isTickMarksVisible() && tick.getTickType().equals(
@@ -842,18 +852,20 @@ public abstract class ValueAxis extends Axis
         Font font = getTickLabelFont();
         double maxHeight = 0.0;
         if (vertical) {
-            FontMetrics fm = g2.getFontMetrics(font);
+            TextMeasurementCache cache
+                    = TextMeasurementCache.getSharedInstance();
             Iterator iterator = ticks.iterator();
             while (iterator.hasNext()) {
                 Tick tick = (Tick) iterator.next();
-                Rectangle2D labelBounds = TextUtilities.getTextBounds(
-                        tick.getText(), g2, fm);
+                Rectangle2D labelBounds = cache.getTextBounds(tick.getText(),
+                        font, g2);
                 if (labelBounds.getWidth() + insets.getTop()
                         + insets.getBottom() > maxHeight) {
                     maxHeight = labelBounds.getWidth()
                                 + insets.getTop() + insets.getBottom();
                 }
             }
+            RenderTimer.countTextMeasurements(ticks.size());
         }
         else {
             LineMetrics metrics = font.getLineMetrics("ABCxyz",
@@ -885,18 +897,20 @@ public abstract class ValueAxis extends Axis
         Font font = getTickLabelFont();
         double maxWidth = 0.0;
         if (!vertical) {
-            FontMetrics fm = g2.getFontMetrics(font);
+            TextMeasurementCache cache
+                    = TextMeasurementCache.getSharedInstance();
             Iterator iterator = ticks.iterator();
             while (iterator.hasNext()) {
                 Tick tick = (Tick) iterator.next();
-                Rectangle2D labelBounds = TextUtilities.getTextBounds(
-                        tick.getText(), g2, fm);
+                Rectangle2D labelBounds = cache.getTextBounds(tick.getText(),
+                        font, g2);
                 if (labelBounds.getWidth() + insets.getLeft()
                         + insets.getRight() > maxWidth) {
                     maxWidth = labelBounds.getWidth()
                                + insets.getLeft() + insets.getRight();
                 }
             }
+            RenderTimer.countTextMeasurements(ticks.size());
         }
         else {
             LineMetrics metrics = font.getLineMetrics("ABCxyz",
@@ -1443,6 +1457,36 @@ public abstract class ValueAxis extends Axis
         notifyListeners(new AxisChangeEvent(this));
     }
 
+    /**
+     * Returns the cache for the ticks calculated by this axis, creating it
+     * if necessary.
+     *
+     * @return The cache (never <code>null</code>).
+     *
+     * @since 1.0.13
+     */
+    TickCache getTickCache() {
+        if (this.tickCache == null) {
+            this.tickCache = new TickCache();
+        }
+        return this.tickCache;
+    }
+
+    /**
+     * Discards the cached ticks (since they may depend on the change to the
+     * axis) and then notifies all registered listeners.
+     *
+     * @param event  the event.
+     *
+     * @since 1.0.13
+     */
+    protected void notifyListeners(AxisChangeEvent event) {
+        if (this.tickCache != null) {
+            this.tickCache.clear();
+        }
+        super.notifyListeners(event);
+    }
+
     /**
      * Converts a data value to a coordinate in Java2D space, assuming that the
      * axis runs along one edge of the specified dataArea.
@@ -1671,6 +1715,7 @@ public abstract class ValueAxis extends Axis
      */
     public Object clone() throws CloneNotSupportedException {
         ValueAxis clone = (ValueAxis) super.clone();
+        clone.tickCache = null;
         return clone;
     }
 
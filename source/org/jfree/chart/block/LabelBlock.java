@@ -44,6 +44,8 @@
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 20-Jul-2006 : Fixed entity area in draw() method (DG);
  * 16-Mar-2007 : Fixed serialization when using GradientPaint (DG);
+ * 18-Oct-2026 : Measure text with the shared TextMeasurementCache (DG);
+ * 18-Oct-2026 : Count the text measurements for the RenderTimer (DG);
  *
  */
 
@@ -61,10 +63,11 @@ import java.io.ObjectOutputStream;
 
 import org.jfree.chart.entity.ChartEntity;
 import org.jfree.chart.entity.StandardEntityCollection;
+import org.jfree.chart.event.RenderTimer;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.io.SerialUtilities;
 import org.jfree.text.TextBlock;
 import org.jfree.text.TextBlockAnchor;
-import org.jfree.text.TextUtilities;
 import org.jfree.ui.Size2D;
 import org.jfree.util.ObjectUtilities;
 import org.jfree.util.PaintUtilities;
@@ -132,7 +135,8 @@ public class LabelBlock extends AbstractBlock
     public LabelBlock(String text, Font font, Paint paint) {
         this.text = text;
         this.paint = paint;
-        this.label = TextUtilities.createTextBlock(text, font, this.paint);
+        this.label = TextMeasurementCache.getSharedInstance().createTextBlock(
+                text, font, this.paint);
         this.font = font;
         this.toolTipText = null;
         this.urlText = null;
@@ -161,7 +165,8 @@ public class LabelBlock extends AbstractBlock
             throw new IllegalArgumentException("Null 'font' argument.");
         }
         this.font = font;
-        this.label = TextUtilities.createTextBlock(this.text, font, this.paint);
+        this.label = TextMeasurementCache.getSharedInstance().createTextBlock(
+                this.text, font, this.paint);
     }
 
     /**
@@ -187,8 +192,8 @@ public class LabelBlock extends AbstractBlock
             throw new IllegalArgumentException("Null 'paint' argument.");
         }
         this.paint = paint;
-        this.label = TextUtilities.createTextBlock(this.text, this.font,
-                this.paint);
+        this.label = TextMeasurementCache.getSharedInstance().createTextBlock(
+                this.text, this.font, this.paint);
     }
 
     /**
@@ -247,6 +252,7 @@ public class LabelBlock extends AbstractBlock
     public Size2D arrange(Graphics2D g2, RectangleConstraint constraint) {
         g2.setFont(this.font);
         Size2D s = this.label.calculateDimensions(g2);
+        RenderTimer.countTextMeasurements(1);
         return new Size2D(calculateTotalWidth(s.getWidth()),
                 calculateTotalHeight(s.getHeight()));
     }
@@ -0,0 +1,997 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------------
+ * StreamingPNGEncoderAdapter.java
+ * -------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Reuse pooled threads for segments, keep interrupts (DG);
+ *
+ */
+
+
+package org.jfree.chart.encoders;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.LinkedList;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * A PNG encoder that writes directly to the output stream, without building
+ * the encoded image in memory first.  The image rows are filtered one at a
+ * time (choosing the None, Sub or Up filter for each row) and compressed
+ * into a sequence of IDAT chunks of at most 32KB each.
+ * <P>
+ * For large images, the compression can optionally be split across several
+ * threads (see {@link #setThreadCount(int)}).  The rows are divided into
+ * consecutive segments that are compressed independently (each primed with
+ * the preceding 32KB of data as a dictionary) and the results are joined
+ * into a single zlib stream.  This requires the flushing mode of
+ * {@link Deflater} that was added in Java 7 - on earlier platforms the
+ * image is always compressed on the calling thread.
+ * <P>
+ * To use this encoder for all PNG output from {@link EncoderUtil} (and
+ * therefore from <code>ChartUtilities</code>), call:
+ * <pre>ImageEncoderFactory.setImageEncoder(ImageFormat.PNG,
+ *         StreamingPNGEncoderAdapter.class.getName());</pre>
+ *
+ * @since 1.0.13
+ */
+public class StreamingPNGEncoderAdapter implements ImageEncoder {
+
+    /** The PNG file signature. */
+    private static final byte[] SIGNATURE = new byte[] {(byte) 137, 80, 78,
+            71, 13, 10, 26, 10};
+
+    /** The IHDR chunk type. */
+    private static final byte[] IHDR = new byte[] {73, 72, 68, 82};
+
+    /** The IDAT chunk type. */
+    private static final byte[] IDAT = new byte[] {73, 68, 65, 84};
+
+    /** The IEND chunk type. */
+    private static final byte[] IEND = new byte[] {73, 69, 78, 68};
+
+    /** The maximum number of bytes in an IDAT chunk. */
+    private static final int CHUNK_SIZE = 32768;
+
+    /** The size of the deflate dictionary (the sliding window). */
+    private static final int DICTIONARY_SIZE = 32768;
+
+    /**
+     * The minimum amount of (uncompressed) image data that justifies an
+     * extra thread.
+     */
+    private static final int MINIMUM_SEGMENT_SIZE = 131072;
+
+    /**
+     * The Java 7 method <code>Deflater.deflate(byte[], int, int, int)</code>,
+     * or <code>null</code> if it is not available.
+     */
+    private static Method flushingDeflate;
+
+    /** The value of <code>Deflater.SYNC_FLUSH</code>. */
+    private static final Integer SYNC_FLUSH = new Integer(2);
+
+    /** The threads that compress the segments of an image. */
+    private static final WorkerPool WORKERS = new WorkerPool();
+
+    static {
+        try {
+            flushingDeflate = Deflater.class.getMethod("deflate",
+                    new Class[] {byte[].class, Integer.TYPE, Integer.TYPE,
+                    Integer.TYPE});
+        }
+        catch (NoSuchMethodException e) {
+            flushingDeflate = null;
+        }
+    }
+
+    /** The compression level (0-9). */
+    private int quality;
+
+    /** Encode alpha? */
+    private boolean encodingAlpha;
+
+    /** The maximum number of threads used to compress an image. */
+    private int threadCount;
+
+    /**
+     * Creates a new encoder that compresses on the calling thread.
+     */
+    public StreamingPNGEncoderAdapter() {
+        this(1);
+    }
+
+    /**
+     * Creates a new encoder.
+     *
+     * @param threadCount  the maximum number of threads used to compress
+     *     an image (at least 1).
+     */
+    public StreamingPNGEncoderAdapter(int threadCount) {
+        setThreadCount(threadCount);
+        this.quality = 6;
+        this.encodingAlpha = false;
+    }
+
+    /**
+     * Returns the compression level: 0 for no compression, and values 1
+     * through 9 for various levels of compression (1 is best speed, 9 is
+     * best compression).  The default is 6.
+     *
+     * @return The compression level.
+     */
+    public float getQuality() {
+        return this.quality;
+    }
+
+    /**
+     * Sets the compression level: 0 for no compression, and values 1 through
+     * 9 for various levels of compression (1 is best speed, 9 is best
+     * compression).
+     *
+     * @param quality  the compression level.
+     */
+    public void setQuality(float quality) {
+        if (quality < 0.0f || quality > 9.0f) {
+            throw new IllegalArgumentException(
+                    "Requires 'quality' in the range 0 to 9.");
+        }
+        this.quality = (int) quality;
+    }
+
+    /**
+     * Get whether the encoder should encode alpha transparency.
+     *
+     * @return Whether the encoder is encoding alpha transparency.
+     */
+    public boolean isEncodingAlpha() {
+        return this.encodingAlpha;
+    }
+
+    /**
+     * Set whether the encoder should encode alpha transparency.
+     *
+     * @param encodingAlpha  Whether the encoder should encode alpha
+     *                       transparency.
+     */
+    public void setEncodingAlpha(boolean encodingAlpha) {
+        this.encodingAlpha = encodingAlpha;
+    }
+
+    /**
+     * Returns the maximum number of threads used to compress an image.
+     *
+     * @return The thread count.
+     *
+     * @see #setThreadCount(int)
+     */
+    public int getThreadCount() {
+        return this.threadCount;
+    }
+
+    /**
+     * Sets the maximum number of threads used to compress an image.  Extra
+     * threads are only used for images with at least 128KB of image data
+     * per thread, and only if {@link #isParallelDeflateSupported()} returns
+     * <code>true</code>.  The output is a valid PNG image for any thread
+     * count, but it is not byte-for-byte identical to the single-threaded
+     * output.
+     *
+     * @param count  the thread count (at least 1).
+     *
+     * @see #getThreadCount()
+     */
+    public void setThreadCount(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException(
+                    "Requires 'count' to be at least 1.");
+        }
+        this.threadCount = count;
+    }
+
+    /**
+     * Returns <code>true</code> if the platform supports compression with
+     * more than one thread (that is, if it is Java 7 or later), and
+     * <code>false</code> otherwise.
+     *
+     * @return A boolean.
+     */
+    public static boolean isParallelDeflateSupported() {
+        return flushingDeflate != null;
+    }
+
+    /**
+     * Encodes an image in PNG format.
+     *
+     * @param bufferedImage  The image to be encoded.
+     *
+     * @return The byte[] that is the encoded image.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public byte[] encode(BufferedImage bufferedImage) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        encode(bufferedImage, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Encodes an image in PNG format and writes it to an
+     * <code>OutputStream</code>.  The stream is flushed, but not closed.
+     *
+     * @param bufferedImage  The image to be encoded.
+     * @param outputStream  The OutputStream to write the encoded image to.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void encode(BufferedImage bufferedImage, OutputStream outputStream)
+            throws IOException {
+        if (bufferedImage == null) {
+            throw new IllegalArgumentException("Null 'image' argument.");
+        }
+        if (outputStream == null) {
+            throw new IllegalArgumentException("Null 'outputStream' argument.");
+        }
+        int width = bufferedImage.getWidth();
+        int height = bufferedImage.getHeight();
+        CRC32 crc = new CRC32();
+        outputStream.write(SIGNATURE);
+
+        byte[] header = new byte[13];
+        putInt(header, 0, width);
+        putInt(header, 4, height);
+        header[8] = 8;  // bit depth
+        header[9] = (byte) (this.encodingAlpha ? 6 : 2);  // RGBA or RGB
+        writeChunk(outputStream, IHDR, header, 0, header.length, crc);
+
+        ChunkOutputStream idat = new ChunkOutputStream(outputStream, crc);
+        long dataSize = (long) height
+                * (width * (this.encodingAlpha ? 4 : 3) + 1);
+        long segments = Math.min(this.threadCount,
+                dataSize / MINIMUM_SEGMENT_SIZE);
+        segments = Math.min(segments, height);
+        if (segments > 1 && flushingDeflate != null) {
+            writeDataInParallel(bufferedImage, idat, (int) segments);
+        }
+        else {
+            writeData(bufferedImage, idat);
+        }
+        idat.finish();
+
+        writeChunk(outputStream, IEND, new byte[0], 0, 0, crc);
+        outputStream.flush();
+    }
+
+    /**
+     * Writes the compressed image data as a single zlib stream, on the
+     * calling thread.
+     *
+     * @param image  the image.
+     * @param out  the output stream.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeData(BufferedImage image, OutputStream out)
+            throws IOException {
+        RowFilter filter = new RowFilter(image, this.encodingAlpha);
+        byte[] row = new byte[filter.getRowSize()];
+        Deflater deflater = new Deflater(this.quality);
+        try {
+            DeflaterOutputStream dos = new DeflaterOutputStream(out, deflater,
+                    8192);
+            filter.start(0);
+            for (int y = 0; y < image.getHeight(); y++) {
+                filter.filterNextRow(row, 0);
+                dos.write(row);
+            }
+            dos.finish();
+        }
+        finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Writes the compressed image data as a single zlib stream, compressing
+     * consecutive segments of rows on separate (pooled) threads.
+     *
+     * @param image  the image.
+     * @param out  the output stream.
+     * @param segmentCount  the number of segments (at least 2).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeDataInParallel(BufferedImage image, OutputStream out,
+            int segmentCount) throws IOException {
+        int height = image.getHeight();
+        Segment[] segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            int first = (int) ((long) height * i / segmentCount);
+            int last = (int) ((long) height * (i + 1) / segmentCount);
+            segments[i] = new Segment(image, this.encodingAlpha, this.quality,
+                    first, last, i == segmentCount - 1);
+            if (i > 0) {
+                WORKERS.execute(segments[i]);
+            }
+        }
+        segments[0].run();
+        boolean interrupted = false;
+        for (int i = 1; i < segmentCount; i++) {
+            Segment s = segments[i];
+            synchronized (s) {
+                while (!s.done) {
+                    try {
+                        s.wait();
+                    }
+                    catch (InterruptedException e) {
+                        // the segment is still needed, so keep waiting and
+                        // restore the interrupt status afterwards
+                        interrupted = true;
+                    }
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        // zlib header: deflate with a 32K window, FLEVEL to match the level
+        out.write(0x78);
+        if (this.quality < 2) {
+            out.write(0x01);
+        }
+        else if (this.quality < 6) {
+            out.write(0x5E);
+        }
+        else if (this.quality == 6) {
+            out.write(0x9C);
+        }
+        else {
+            out.write(0xDA);
+        }
+        long adler = 1L;
+        for (int i = 0; i < segmentCount; i++) {
+            Segment s = segments[i];
+            if (s.error instanceof RuntimeException) {
+                throw (RuntimeException) s.error;
+            }
+            if (s.error instanceof Error) {
+                throw (Error) s.error;
+            }
+            s.compressed.writeTo(out);
+            adler = combineAdler32(adler, s.adler, s.length);
+        }
+        byte[] trailer = new byte[4];
+        putInt(trailer, 0, (int) adler);
+        out.write(trailer);
+    }
+
+    /**
+     * Combines two Adler-32 checksums, as in zlib's
+     * <code>adler32_combine()</code>.
+     *
+     * @param adler1  the checksum of the first block.
+     * @param adler2  the checksum of the second block.
+     * @param length2  the length of the second block.
+     *
+     * @return The checksum of the two blocks together.
+     */
+    private static long combineAdler32(long adler1, long adler2,
+            long length2) {
+        final long base = 65521L;
+        long rem = length2 % base;
+        long sum1 = adler1 & 0xFFFF;
+        long sum2 = (rem * sum1) % base;
+        sum1 += (adler2 & 0xFFFF) + base - 1;
+        sum2 += ((adler1 >> 16) & 0xFFFF) + ((adler2 >> 16) & 0xFFFF) + base
+                - rem;
+        if (sum1 >= base) {
+            sum1 -= base;
+        }
+        if (sum1 >= base) {
+            sum1 -= base;
+        }
+        if (sum2 >= (base << 1)) {
+            sum2 -= (base << 1);
+        }
+        if (sum2 >= base) {
+            sum2 -= base;
+        }
+        return (sum2 << 16) | sum1;
+    }
+
+    /**
+     * Writes an integer into an array in network byte order.
+     *
+     * @param b  the array.
+     * @param offset  the offset.
+     * @param value  the value.
+     */
+    private static void putInt(byte[] b, int offset, int value) {
+        b[offset] = (byte) (value >>> 24);
+        b[offset + 1] = (byte) (value >>> 16);
+        b[offset + 2] = (byte) (value >>> 8);
+        b[offset + 3] = (byte) value;
+    }
+
+    /**
+     * Writes a PNG chunk.
+     *
+     * @param out  the output stream.
+     * @param type  the chunk type.
+     * @param data  the chunk data.
+     * @param offset  the offset of the data.
+     * @param length  the length of the data.
+     * @param crc  the CRC calculator.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void writeChunk(OutputStream out, byte[] type, byte[] data,
+            int offset, int length, CRC32 crc) throws IOException {
+        byte[] b = new byte[4];
+        putInt(b, 0, length);
+        out.write(b);
+        out.write(type);
+        out.write(data, offset, length);
+        crc.reset();
+        crc.update(type);
+        crc.update(data, offset, length);
+        putInt(b, 0, (int) crc.getValue());
+        out.write(b);
+    }
+
+    /**
+     * A stream that packages the bytes written to it as IDAT chunks.
+     */
+    private static class ChunkOutputStream extends OutputStream {
+
+        /** The underlying stream. */
+        private OutputStream out;
+
+        /** The CRC calculator. */
+        private CRC32 crc;
+
+        /** The data for the current chunk. */
+        private byte[] buffer;
+
+        /** The number of bytes in the current chunk. */
+        private int count;
+
+        /**
+         * Creates a new stream.
+         *
+         * @param out  the underlying stream.
+         * @param crc  the CRC calculator.
+         */
+        public ChunkOutputStream(OutputStream out, CRC32 crc) {
+            this.out = out;
+            this.crc = crc;
+            this.buffer = new byte[CHUNK_SIZE];
+        }
+
+        /**
+         * Writes a byte.
+         *
+         * @param b  the byte.
+         *
+         * @throws IOException if there is an I/O problem.
+         */
+        public void write(int b) throws IOException {
+            if (this.count == this.buffer.length) {
+                writeChunk(this.out, IDAT, this.buffer, 0, this.count,
+                        this.crc);
+                this.count = 0;
+            }
+            this.buffer[this.count++] = (byte) b;
+        }
+
+        /**
+         * Writes some bytes.
+         *
+         * @param b  the bytes.
+         * @param offset  the offset.
+         * @param length  the number of bytes.
+         *
+         * @throws IOException if there is an I/O problem.
+         */
+        public void write(byte[] b, int offset, int length)
+                throws IOException {
+            while (length > 0) {
+                if (this.count == this.buffer.length) {
+                    writeChunk(this.out, IDAT, this.buffer, 0, this.count,
+                            this.crc);
+                    this.count = 0;
+                }
+                int n = Math.min(length, this.buffer.length - this.count);
+                System.arraycopy(b, offset, this.buffer, this.count, n);
+                this.count += n;
+                offset += n;
+                length -= n;
+            }
+        }
+
+        /**
+         * Writes the last chunk (the underlying stream is not closed).
+         *
+         * @throws IOException if there is an I/O problem.
+         */
+        public void finish() throws IOException {
+            if (this.count > 0) {
+                writeChunk(this.out, IDAT, this.buffer, 0, this.count,
+                        this.crc);
+                this.count = 0;
+            }
+        }
+
+    }
+
+    /**
+     * Converts the rows of an image to filtered PNG scanlines.
+     */
+    private static class RowFilter {
+
+        /** The image. */
+        private BufferedImage image;
+
+        /** Encode alpha? */
+        private boolean alpha;
+
+        /** The number of bytes per pixel. */
+        private int bpp;
+
+        /** Storage for the pixels of one row. */
+        private int[] pixels;
+
+        /** The unfiltered bytes of the previous row. */
+        private byte[] previous;
+
+        /** The unfiltered bytes of the current row. */
+        private byte[] current;
+
+        /** The index of the next row. */
+        private int nextRow;
+
+        /**
+         * Creates a new filter.
+         *
+         * @param image  the image.
+         * @param alpha  encode alpha?
+         */
+        public RowFilter(BufferedImage image, boolean alpha) {
+            this.image = image;
+            this.alpha = alpha;
+            this.bpp = (alpha ? 4 : 3);
+            int width = image.getWidth();
+            this.pixels = new int[width];
+            this.previous = new byte[width * this.bpp];
+            this.current = new byte[width * this.bpp];
+        }
+
+        /**
+         * Returns the size of a filtered row (including the filter type).
+         *
+         * @return The row size.
+         */
+        public int getRowSize() {
+            return this.current.length + 1;
+        }
+
+        /**
+         * Prepares to filter rows starting from the specified row.
+         *
+         * @param row  the row index.
+         */
+        public void start(int row) {
+            if (row > 0) {
+                readRow(row - 1, this.previous);
+            }
+            else {
+                for (int i = 0; i < this.previous.length; i++) {
+                    this.previous[i] = 0;
+                }
+            }
+            this.nextRow = row;
+        }
+
+        /**
+         * Filters the next row into the given array.
+         *
+         * @param out  the output array.
+         * @param offset  the offset for the filtered row.
+         */
+        public void filterNextRow(byte[] out, int offset) {
+            byte[] cur = this.current;
+            byte[] prev = this.previous;
+            int bpp = this.bpp;
+            int n = cur.length;
+            readRow(this.nextRow, cur);
+
+            // choose the filter with the smallest sum of absolute values
+            long sumNone = 0;
+            long sumSub = 0;
+            long sumUp = 0;
+            for (int i = 0; i < n; i++) {
+                int c = cur[i];
+                sumNone += Math.abs(c);
+                sumSub += Math.abs((byte) (c - (i < bpp ? 0 : cur[i - bpp])));
+                sumUp += Math.abs((byte) (c - prev[i]));
+            }
+            if (sumNone <= sumSub && sumNone <= sumUp) {
+                out[offset] = 0;
+                System.arraycopy(cur, 0, out, offset + 1, n);
+            }
+            else if (sumSub <= sumUp) {
+                out[offset] = 1;
+                for (int i = 0; i < n; i++) {
+                    out[offset + 1 + i] = (byte) (cur[i]
+                            - (i < bpp ? 0 : cur[i - bpp]));
+                }
+            }
+            else {
+                out[offset] = 2;
+                for (int i = 0; i < n; i++) {
+                    out[offset + 1 + i] = (byte) (cur[i] - prev[i]);
+                }
+            }
+            this.current = prev;
+            this.previous = cur;
+            this.nextRow++;
+        }
+
+        /**
+         * Reads the unfiltered bytes (RGB or RGBA) for a row of the image.
+         *
+         * @param y  the row index.
+         * @param bytes  the output array.
+         */
+        private void readRow(int y, byte[] bytes) {
+            int[] row = this.pixels;
+            int width = row.length;
+            int type = this.image.getType();
+            int opaque = 0;
+            if (type == BufferedImage.TYPE_INT_ARGB
+                    || type == BufferedImage.TYPE_INT_RGB) {
+                // the raster holds packed pixels in the required format
+                this.image.getRaster().getDataElements(0, y, width, 1, row);
+                if (type == BufferedImage.TYPE_INT_RGB) {
+                    opaque = 0xFF000000;
+                }
+            }
+            else {
+                this.image.getRGB(0, y, width, 1, row, 0, width);
+            }
+            int j = 0;
+            if (this.alpha) {
+                for (int i = 0; i < width; i++) {
+                    int p = row[i] | opaque;
+                    bytes[j++] = (byte) (p >> 16);
+                    bytes[j++] = (byte) (p >> 8);
+                    bytes[j++] = (byte) p;
+                    bytes[j++] = (byte) (p >>> 24);
+                }
+            }
+            else {
+                for (int i = 0; i < width; i++) {
+                    int p = row[i];
+                    bytes[j++] = (byte) (p >> 16);
+                    bytes[j++] = (byte) (p >> 8);
+                    bytes[j++] = (byte) p;
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Compresses a segment of rows as raw deflate data, for
+     * {@link StreamingPNGEncoderAdapter#writeDataInParallel}.
+     */
+    private static class Segment implements Runnable {
+
+        /** The image. */
+        private BufferedImage image;
+
+        /** Encode alpha? */
+        private boolean alpha;
+
+        /** The compression level. */
+        private int level;
+
+        /** The index of the first row. */
+        private int firstRow;
+
+        /** The index after the last row. */
+        private int lastRow;
+
+        /** Is this the last segment in the image? */
+        private boolean finalSegment;
+
+        /** The compressed data. */
+        ByteArrayOutputStream compressed;
+
+        /** The Adler-32 checksum of the uncompressed data. */
+        long adler;
+
+        /** The length of the uncompressed data. */
+        long length;
+
+        /** An error that occurred while compressing the segment. */
+        Throwable error;
+
+        /** Has the segment been compressed (guarded by the segment)? */
+        boolean done;
+
+        /**
+         * Creates a new segment.
+         *
+         * @param image  the image.
+         * @param alpha  encode alpha?
+         * @param level  the compression level.
+         * @param firstRow  the index of the first row.
+         * @param lastRow  the index after the last row.
+         * @param finalSegment  is this the last segment in the image?
+         */
+        public Segment(BufferedImage image, boolean alpha, int level,
+                int firstRow, int lastRow, boolean finalSegment) {
+            this.image = image;
+            this.alpha = alpha;
+            this.level = level;
+            this.firstRow = firstRow;
+            this.lastRow = lastRow;
+            this.finalSegment = finalSegment;
+        }
+
+        /**
+         * Filters and compresses the rows in the segment.
+         */
+        public void run() {
+            try {
+                compress();
+            }
+            catch (RuntimeException e) {
+                this.error = e;
+            }
+            catch (Error e) {
+                this.error = e;
+            }
+        }
+
+        /**
+         * Marks the segment as done and wakes the thread waiting for it.
+         */
+        synchronized void finished() {
+            this.done = true;
+            notifyAll();
+        }
+
+        /**
+         * Filters and compresses the rows in the segment.
+         */
+        private void compress() {
+            RowFilter filter = new RowFilter(this.image, this.alpha);
+            int rowSize = filter.getRowSize();
+
+            // also filter enough of the preceding rows for a dictionary
+            int dictionaryRows = Math.min(this.firstRow,
+                    (DICTIONARY_SIZE + rowSize - 1) / rowSize);
+            int start = this.firstRow - dictionaryRows;
+            byte[] data = new byte[(this.lastRow - start) * rowSize];
+            filter.start(start);
+            for (int y = start; y < this.lastRow; y++) {
+                filter.filterNextRow(data, (y - start) * rowSize);
+            }
+            int offset = dictionaryRows * rowSize;
+            int length = data.length - offset;
+            Adler32 checksum = new Adler32();
+            checksum.update(data, offset, length);
+            this.adler = checksum.getValue();
+            this.length = length;
+
+            Deflater deflater = new Deflater(this.level, true);
+            try {
+                int dictionaryLength = Math.min(offset, DICTIONARY_SIZE);
+                if (dictionaryLength > 0) {
+                    deflater.setDictionary(data, offset - dictionaryLength,
+                            dictionaryLength);
+                }
+                deflater.setInput(data, offset, length);
+                this.compressed = new ByteArrayOutputStream(length / 4 + 64);
+                byte[] buffer = new byte[65536];
+                if (this.finalSegment) {
+                    deflater.finish();
+                    while (!deflater.finished()) {
+                        int n = deflater.deflate(buffer);
+                        this.compressed.write(buffer, 0, n);
+                    }
+                }
+                else {
+                    // a sync flush ends the segment on a byte boundary
+                    // without marking the last block, so the segments can
+                    // simply be concatenated
+                    int n;
+                    do {
+                        n = syncFlush(deflater, buffer);
+                        this.compressed.write(buffer, 0, n);
+                    } while (n == buffer.length);
+                }
+            }
+            finally {
+                deflater.end();
+            }
+        }
+
+        /**
+         * Calls <code>Deflater.deflate(buffer, 0, buffer.length,
+         * Deflater.SYNC_FLUSH)</code>.
+         *
+         * @param deflater  the deflater.
+         * @param buffer  the output buffer.
+         *
+         * @return The number of bytes written to the buffer.
+         */
+        private static int syncFlush(Deflater deflater, byte[] buffer) {
+            try {
+                Object n = flushingDeflate.invoke(deflater, new Object[] {
+                        buffer, new Integer(0), new Integer(buffer.length),
+                        SYNC_FLUSH});
+                return ((Integer) n).intValue();
+            }
+            catch (InvocationTargetException e) {
+                Throwable t = e.getTargetException();
+                if (t instanceof RuntimeException) {
+                    throw (RuntimeException) t;
+                }
+                throw new RuntimeException(t.toString());
+            }
+            catch (IllegalAccessException e) {
+                throw new RuntimeException(e.toString());
+            }
+        }
+
+    }
+
+    /**
+     * A small pool of daemon threads for compressing segments.  A new thread
+     * is started only when no idle thread is available, and a thread that
+     * stays idle for a minute finishes, so the pool shrinks again after a
+     * burst of encoding.
+     */
+    private static class WorkerPool {
+
+        /** The time (in milliseconds) an idle thread waits for a task. */
+        private static final long IDLE_TIMEOUT = 60000L;
+
+        /** The segments waiting for a thread. */
+        private LinkedList tasks;
+
+        /** The number of threads waiting for (or about to take) a segment. */
+        private int idleThreads;
+
+        /** The number of threads started so far (used in thread names). */
+        private int started;
+
+        /**
+         * Creates a new (empty) pool.
+         */
+        public WorkerPool() {
+            this.tasks = new LinkedList();
+        }
+
+        /**
+         * Compresses a segment on one of the pooled threads.
+         *
+         * @param task  the segment.
+         */
+        public synchronized void execute(Segment task) {
+            this.tasks.addLast(task);
+            if (this.idleThreads < this.tasks.size()) {
+                this.idleThreads++;
+                Thread thread = new Thread(new Worker(),
+                        "StreamingPNGEncoder-" + this.started++);
+                thread.setDaemon(true);
+                thread.start();
+            }
+            else {
+                notify();
+            }
+        }
+
+        /**
+         * Waits for the next segment.
+         *
+         * @return The segment, or <code>null</code> if the calling thread has
+         *     been idle for too long (or was interrupted) and should finish.
+         */
+        synchronized Segment nextTask() {
+            long end = System.currentTimeMillis() + IDLE_TIMEOUT;
+            while (this.tasks.isEmpty()) {
+                long remaining = end - System.currentTimeMillis();
+                if (remaining <= 0L) {
+                    this.idleThreads--;
+                    return null;
+                }
+                try {
+                    wait(remaining);
+                }
+                catch (InterruptedException e) {
+                    this.idleThreads--;
+                    return null;
+                }
+            }
+            this.idleThreads--;
+            return (Segment) this.tasks.removeFirst();
+        }
+
+        /**
+         * Records that a thread has finished a segment and is idle again.
+         */
+        synchronized void taskFinished() {
+            this.idleThreads++;
+        }
+
+        /**
+         * A pooled thread.
+         */
+        private class Worker implements Runnable {
+
+            /**
+             * Compresses segments until the thread has been idle for too
+             * long.
+             */
+            public void run() {
+                Segment task = nextTask();
+                while (task != null) {
+                    task.run();
+                    // count this thread as idle before the encoder can hand
+                    // out more work, so that no extra thread is started
+                    taskFinished();
+                    task.finished();
+                    task = nextTask();
+                }
+            }
+
+        }
+
+    }
+
+}
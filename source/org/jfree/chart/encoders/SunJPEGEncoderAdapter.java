@@ -41,6 +41,9 @@
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 20-Jul-2006 : Pass quality setting to ImageIO. Also increased default
  *               value to 0.95 (DG);
+ * 18-Oct-2026 : Write through an in-memory stream rather than the ImageIO
+ *               disk cache (DG);
+ * 18-Oct-2026 : Close the image output stream in a finally block (DG);
  *
  */
 
@@ -57,6 +60,7 @@ import javax.imageio.ImageIO;
 import javax.imageio.ImageWriteParam;
 import javax.imageio.ImageWriter;
 import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
 
 /**
  * Adapter class for the Sun JPEG Encoder.  The {@link ImageEncoderFactory}
@@ -166,12 +170,17 @@ public class SunJPEGEncoderAdapter implements ImageEncoder {
         ImageWriteParam p = writer.getDefaultWriteParam();
         p.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
         p.setCompressionQuality(this.quality);
-        ImageOutputStream ios = ImageIO.createImageOutputStream(outputStream);
-        writer.setOutput(ios);
-        writer.write(null, new IIOImage(bufferedImage, null, null), p);
-        ios.flush();
-        writer.dispose();
-        ios.close();
+        // avoid the temporary file that ImageIO may otherwise use as a cache
+        ImageOutputStream ios = new MemoryCacheImageOutputStream(outputStream);
+        try {
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(bufferedImage, null, null), p);
+            ios.flush();
+        }
+        finally {
+            writer.dispose();
+            ios.close();
+        }
     }
 
 }
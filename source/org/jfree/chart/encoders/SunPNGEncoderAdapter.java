@@ -36,6 +36,9 @@
  * -------
  * 01-Aug-2004 : Initial version (RA);
  * 02-Feb-2007 : Removed author tags all over JFreeChart sources (DG);
+ * 18-Oct-2026 : Write through an in-memory stream rather than the ImageIO
+ *               disk cache (DG);
+ * 18-Oct-2026 : Close the image output stream in a finally block (DG);
  *
  */
 
@@ -47,6 +50,8 @@ import java.io.IOException;
 import java.io.OutputStream;
 
 import javax.imageio.ImageIO;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
 
 /**
  * Adapter class for the Sun PNG Encoder.  The ImageEncoderFactory will only
@@ -124,7 +129,14 @@ public class SunPNGEncoderAdapter implements ImageEncoder {
         if (outputStream == null) {
             throw new IllegalArgumentException("Null 'outputStream' argument.");
         }
-        ImageIO.write(bufferedImage, ImageFormat.PNG, outputStream);
+        // avoid the temporary file that ImageIO may otherwise use as a cache
+        ImageOutputStream ios = new MemoryCacheImageOutputStream(outputStream);
+        try {
+            ImageIO.write(bufferedImage, ImageFormat.PNG, ios);
+        }
+        finally {
+            ios.close();
+        }
     }
 
 }
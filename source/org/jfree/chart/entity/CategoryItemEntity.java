@@ -47,6 +47,7 @@
  * 11-Jan-2005 : Removed deprecated code in preparation for 1.0.0 release (DG);
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 18-May-2007 : Updated to use row and column keys to identify item (DG);
+ * 18-Oct-2026 : Record the source dataset for a snapshot (DG);
  *
  */
 
@@ -56,6 +57,7 @@ import java.awt.Shape;
 import java.io.Serializable;
 
 import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.general.DatasetSnapshot;
 import org.jfree.util.ObjectUtilities;
 
 /**
@@ -130,7 +132,7 @@ public class CategoryItemEntity extends ChartEntity
         if (dataset == null) {
             throw new IllegalArgumentException("Null 'dataset' argument.");
         }
-        this.dataset = dataset;
+        this.dataset = getSource(dataset);
         this.series = series;
         this.category = category;
         this.categoryIndex = categoryIndex;
@@ -156,7 +158,7 @@ public class CategoryItemEntity extends ChartEntity
         if (dataset == null) {
             throw new IllegalArgumentException("Null 'dataset' argument.");
         }
-        this.dataset = dataset;
+        this.dataset = getSource(dataset);
         this.rowKey = rowKey;
         this.columnKey = columnKey;
 
@@ -190,7 +192,7 @@ public class CategoryItemEntity extends ChartEntity
         if (dataset == null) {
             throw new IllegalArgumentException("Null 'dataset' argument.");
         }
-        this.dataset = dataset;
+        this.dataset = getSource(dataset);
     }
 
     /**
@@ -383,4 +385,21 @@ public class CategoryItemEntity extends ChartEntity
         return super.equals(obj);
     }
 
+
+    /**
+     * Returns the dataset to record for an entity.  For a snapshot of a
+     * dataset (see {@link DatasetSnapshot}), this is the dataset that the
+     * snapshot was taken from.
+     *
+     * @param dataset  the dataset (<code>null</code> permitted).
+     *
+     * @return The dataset.
+     */
+    private static CategoryDataset getSource(CategoryDataset dataset) {
+        if (dataset instanceof DatasetSnapshot) {
+            return (CategoryDataset) ((DatasetSnapshot) dataset).getSource();
+        }
+        return dataset;
+    }
+
 }
@@ -68,6 +68,7 @@
  *               prevent special characters corrupting the HTML (DG);
  * 05-Dec-2007 : Previous change reverted - let the tool tip and url tag
  *               generators handle filtering / escaping (DG);
+ * 18-Oct-2026 : Count area changes for entity indices (DG);
  *
  */
 
@@ -97,6 +98,12 @@ public class ChartEntity implements Cloneable, PublicCloneable, Serializable {
     /** For serialization. */
     private static final long serialVersionUID = -4445994133561919083L;
 
+    /**
+     * The number of calls to {@link #setArea(Shape)} for all entities, so
+     * that an index over the entity bounds can tell that it is out of date.
+     */
+    private static int areaChangeCount;
+
     /** The area occupied by the entity (in Java 2D space). */
     private transient Shape area;
 
@@ -158,7 +165,9 @@ public class ChartEntity implements Cloneable, PublicCloneable, Serializable {
      * <P>
      * This class conveys information about chart entities back to a client.
      * Setting this area doesn't change the entity (which has already been
-     * drawn).
+     * drawn).  Note that a collection that indexes its entities (see
+     * {@link StandardEntityCollection}) is only updated when the area is
+     * replaced with this method, not when the shape is modified in place.
      *
      * @param area  the area (<code>null</code> not permitted).
      */
@@ -167,6 +176,24 @@ public class ChartEntity implements Cloneable, PublicCloneable, Serializable {
             throw new IllegalArgumentException("Null 'area' argument.");
         }
         this.area = area;
+        areaChanged();
+    }
+
+    /**
+     * Increments the count of area changes.
+     */
+    private static synchronized void areaChanged() {
+        areaChangeCount++;
+    }
+
+    /**
+     * Returns the number of times that the area of any entity has been
+     * changed with {@link #setArea(Shape)}.
+     *
+     * @return The count.
+     */
+    static synchronized int getAreaChangeCount() {
+        return areaChangeCount;
     }
 
     /**
@@ -0,0 +1,363 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------
+ * EntityGrid.java
+ * ---------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A uniform grid over the bounds of the entities in a list, used by the
+ * {@link StandardEntityCollection} class to find entities without testing
+ * every entity.  Each cell records (in ascending order) the indices of the
+ * entities with bounds that overlap the cell.  Entities that span a large
+ * part of the grid (for example, the plot and axis entities) are kept in a
+ * separate list that is checked for every query.  The grid is a snapshot
+ * and must be discarded when the list changes.
+ */
+class EntityGrid {
+
+    /** The smallest list for which a grid is worth building. */
+    static final int MINIMUM_ENTITY_COUNT = 64;
+
+    /** The maximum number of cells. */
+    private static final int MAXIMUM_CELL_COUNT = 1 << 20;
+
+    /** The entities. */
+    private ChartEntity[] entities;
+
+    /** The minimum x-coordinate for each entity. */
+    private double[] minX;
+
+    /** The minimum y-coordinate for each entity. */
+    private double[] minY;
+
+    /** The maximum x-coordinate for each entity. */
+    private double[] maxX;
+
+    /** The maximum y-coordinate for each entity. */
+    private double[] maxY;
+
+    /** The x-coordinate of the grid origin. */
+    private double originX;
+
+    /** The y-coordinate of the grid origin. */
+    private double originY;
+
+    /** The cell width. */
+    private double cellWidth;
+
+    /** The cell height. */
+    private double cellHeight;
+
+    /** The number of columns. */
+    private int columns;
+
+    /** The number of rows. */
+    private int rows;
+
+    /**
+     * The offset of the first entry for each cell in
+     * <code>cellEntities</code> (with an extra item at the end).
+     */
+    private int[] cellStart;
+
+    /** The entity indices for all cells. */
+    private int[] cellEntities;
+
+    /** The indices of the entities that are not added to cells. */
+    private int[] large;
+
+    /**
+     * Creates a grid for the entities in a list.
+     *
+     * @param list  the entities (<code>null</code> not permitted).
+     */
+    EntityGrid(List list) {
+        int n = list.size();
+        this.entities = new ChartEntity[n];
+        this.minX = new double[n];
+        this.minY = new double[n];
+        this.maxX = new double[n];
+        this.maxY = new double[n];
+        double x0 = Double.POSITIVE_INFINITY;
+        double y0 = Double.POSITIVE_INFINITY;
+        double x1 = Double.NEGATIVE_INFINITY;
+        double y1 = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            ChartEntity entity = (ChartEntity) list.get(i);
+            Rectangle2D b = entity.getArea().getBounds2D();
+            this.entities[i] = entity;
+            this.minX[i] = b.getMinX();
+            this.minY[i] = b.getMinY();
+            this.maxX[i] = b.getMaxX();
+            this.maxY[i] = b.getMaxY();
+            if (isFinite(i)) {
+                x0 = Math.min(x0, this.minX[i]);
+                y0 = Math.min(y0, this.minY[i]);
+                x1 = Math.max(x1, this.maxX[i]);
+                y1 = Math.max(y1, this.maxY[i]);
+            }
+        }
+        if (x0 > x1) {
+            x0 = 0.0;
+            y0 = 0.0;
+            x1 = 1.0;
+            y1 = 1.0;
+        }
+
+        // choose roughly one cell for every two entities, with cells that
+        // are about square
+        double w = Math.max(x1 - x0, 1.0);
+        double h = Math.max(y1 - y0, 1.0);
+        int cells = Math.min(Math.max(n / 2, 1), MAXIMUM_CELL_COUNT);
+        this.columns = (int) Math.max(1, Math.min(cells,
+                Math.round(Math.sqrt(cells * w / h))));
+        this.rows = Math.max(1, cells / this.columns);
+        this.originX = x0;
+        this.originY = y0;
+        this.cellWidth = w / this.columns;
+        this.cellHeight = h / this.rows;
+        int cellCount = this.columns * this.rows;
+        int largeSpan = Math.max(64, cellCount / 16);
+
+        // first pass: count the entries for each cell...
+        int[] counts = new int[cellCount + 1];
+        boolean[] isLarge = new boolean[n];
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            if (!isFinite(i)) {
+                isLarge[i] = true;
+                largeCount++;
+                continue;
+            }
+            int c0 = column(this.minX[i]);
+            int c1 = column(this.maxX[i]);
+            int r0 = row(this.minY[i]);
+            int r1 = row(this.maxY[i]);
+            if ((long) (c1 - c0 + 1) * (r1 - r0 + 1) > largeSpan) {
+                isLarge[i] = true;
+                largeCount++;
+                continue;
+            }
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    counts[r * this.columns + c]++;
+                }
+            }
+        }
+
+        // ...then fill the cells, in ascending entity order
+        this.cellStart = new int[cellCount + 1];
+        for (int c = 0; c < cellCount; c++) {
+            this.cellStart[c + 1] = this.cellStart[c] + counts[c];
+        }
+        this.cellEntities = new int[this.cellStart[cellCount]];
+        System.arraycopy(this.cellStart, 0, counts, 0, cellCount);
+        this.large = new int[largeCount];
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            if (isLarge[i]) {
+                this.large[k++] = i;
+                continue;
+            }
+            int c0 = column(this.minX[i]);
+            int c1 = column(this.maxX[i]);
+            int r0 = row(this.minY[i]);
+            int r1 = row(this.maxY[i]);
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    this.cellEntities[counts[r * this.columns + c]++] = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the bounds of an entity are finite.
+     *
+     * @param i  the entity index.
+     *
+     * @return A boolean.
+     */
+    private boolean isFinite(int i) {
+        return !Double.isNaN(this.minX[i] + this.maxX[i] + this.minY[i]
+                + this.maxY[i]) && !Double.isInfinite(this.minX[i]
+                + this.maxX[i] + this.minY[i] + this.maxY[i]);
+    }
+
+    /**
+     * Returns the column for an x-coordinate, clamped to the grid.
+     *
+     * @param x  the x-coordinate.
+     *
+     * @return The column index.
+     */
+    private int column(double x) {
+        int c = (int) Math.floor((x - this.originX) / this.cellWidth);
+        return Math.max(0, Math.min(c, this.columns - 1));
+    }
+
+    /**
+     * Returns the row for a y-coordinate, clamped to the grid.
+     *
+     * @param y  the y-coordinate.
+     *
+     * @return The row index.
+     */
+    private int row(double y) {
+        int r = (int) Math.floor((y - this.originY) / this.cellHeight);
+        return Math.max(0, Math.min(r, this.rows - 1));
+    }
+
+    /**
+     * Returns <code>true</code> if the bounds of an entity contain a point.
+     *
+     * @param i  the entity index.
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     *
+     * @return A boolean.
+     */
+    private boolean boundsContain(int i, double x, double y) {
+        return x >= this.minX[i] && x <= this.maxX[i] && y >= this.minY[i]
+                && y <= this.maxY[i];
+    }
+
+    /**
+     * Returns the entity with the highest index that has an area containing
+     * the specified point, or <code>null</code> if there is no such entity.
+     *
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     *
+     * @return The entity (possibly <code>null</code>).
+     */
+    ChartEntity getEntity(double x, double y) {
+        int best = -1;
+        if (x >= this.originX && y >= this.originY
+                && x <= this.originX + this.cellWidth * this.columns
+                && y <= this.originY + this.cellHeight * this.rows) {
+            int cell = row(y) * this.columns + column(x);
+            for (int k = this.cellStart[cell + 1] - 1;
+                    k >= this.cellStart[cell]; k--) {
+                int i = this.cellEntities[k];
+                if (boundsContain(i, x, y)
+                        && this.entities[i].getArea().contains(x, y)) {
+                    best = i;
+                    break;
+                }
+            }
+        }
+        for (int k = this.large.length - 1; k >= 0; k--) {
+            int i = this.large[k];
+            if (i < best) {
+                break;
+            }
+            if (this.entities[i].getArea().contains(x, y)) {
+                best = i;
+                break;
+            }
+        }
+        return (best >= 0 ? this.entities[best] : null);
+    }
+
+    /**
+     * Adds the entities with an area that intersects the specified
+     * rectangle to a list, in ascending index order.
+     *
+     * @param area  the rectangle (<code>null</code> not permitted).
+     * @param result  the list to add to (<code>null</code> not permitted).
+     */
+    void getEntities(Rectangle2D area, List result) {
+        double x0 = area.getMinX();
+        double y0 = area.getMinY();
+        double x1 = area.getMaxX();
+        double y1 = area.getMaxY();
+        int[] candidates = new int[Math.min(64, this.entities.length)];
+        int count = 0;
+        boolean inside = x1 >= this.originX && y1 >= this.originY
+                && x0 <= this.originX + this.cellWidth * this.columns
+                && y0 <= this.originY + this.cellHeight * this.rows;
+        if (inside) {
+            int c0 = column(x0);
+            int c1 = column(x1);
+            int r0 = row(y0);
+            int r1 = row(y1);
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    int cell = r * this.columns + c;
+                    for (int k = this.cellStart[cell];
+                            k < this.cellStart[cell + 1]; k++) {
+                        int i = this.cellEntities[k];
+                        if (this.maxX[i] < x0 || this.minX[i] > x1
+                                || this.maxY[i] < y0 || this.minY[i] > y1) {
+                            continue;
+                        }
+                        if (count == candidates.length) {
+                            int[] grown = new int[count * 2];
+                            System.arraycopy(candidates, 0, grown, 0, count);
+                            candidates = grown;
+                        }
+                        candidates[count++] = i;
+                    }
+                }
+            }
+        }
+        if (count + this.large.length > candidates.length) {
+            int[] grown = new int[count + this.large.length];
+            System.arraycopy(candidates, 0, grown, 0, count);
+            candidates = grown;
+        }
+        System.arraycopy(this.large, 0, candidates, count, this.large.length);
+        count += this.large.length;
+        Arrays.sort(candidates, 0, count);
+        int previous = -1;
+        for (int k = 0; k < count; k++) {
+            int i = candidates[k];
+            if (i != previous && this.entities[i].getArea().intersects(area)) {
+                result.add(this.entities[i]);
+            }
+            previous = i;
+        }
+    }
+
+}
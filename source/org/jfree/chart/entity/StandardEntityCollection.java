@@ -44,12 +44,17 @@
  * 20-May-2005 : Fixed bug 1113521 - inefficiency in getEntity() method (DG);
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 01-Dec-2006 : Implemented PublicCloneable and fixed clone() method (DG);
+ * 18-Oct-2026 : Use a grid index in getEntity(double, double) and added
+ *               getEntities(Rectangle2D) (DG);
+ * 18-Oct-2026 : Rebuild index after iterator removal or setArea() (DG);
  *
  */
 
 package org.jfree.chart.entity;
 
+import java.awt.geom.Rectangle2D;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -59,7 +64,14 @@ import org.jfree.util.ObjectUtilities;
 import org.jfree.util.PublicCloneable;
 
 /**
- * A standard implementation of the {@link EntityCollection} interface.
+ * A standard implementation of the {@link EntityCollection} interface.  For
+ * larger collections, a grid index over the entity bounds is built on the
+ * first call to {@link #getEntity(double, double)} or
+ * {@link #getEntities(Rectangle2D)} after the collection changes (or after
+ * the area of an entity is replaced with
+ * {@link ChartEntity#setArea(java.awt.Shape)}), so that repeated hit-testing
+ * (for example, for tool tips in a chart panel) does not need to test every
+ * entity.
  */
 public class StandardEntityCollection implements EntityCollection,
         Cloneable, PublicCloneable, Serializable {
@@ -70,6 +82,15 @@ public class StandardEntityCollection implements EntityCollection,
     /** Storage for the entities. */
     private List entities;
 
+    /** An index for the entities (<code>null</code> until required). */
+    private transient EntityGrid grid;
+
+    /**
+     * The value of {@link ChartEntity#getAreaChangeCount()} when the grid was
+     * built.
+     */
+    private transient int gridAreaChangeCount;
+
     /**
      * Constructs a new entity collection (initially empty).
      */
@@ -104,6 +125,7 @@ public class StandardEntityCollection implements EntityCollection,
      */
     public void clear() {
         this.entities.clear();
+        this.grid = null;
     }
 
     /**
@@ -116,6 +138,7 @@ public class StandardEntityCollection implements EntityCollection,
             throw new IllegalArgumentException("Null 'entity' argument.");
         }
         this.entities.add(entity);
+        this.grid = null;
     }
 
     /**
@@ -126,6 +149,7 @@ public class StandardEntityCollection implements EntityCollection,
      */
     public void addAll(EntityCollection collection) {
         this.entities.addAll(collection.getEntities());
+        this.grid = null;
     }
 
     /**
@@ -139,6 +163,9 @@ public class StandardEntityCollection implements EntityCollection,
      */
     public ChartEntity getEntity(double x, double y) {
         int entityCount = this.entities.size();
+        if (entityCount >= EntityGrid.MINIMUM_ENTITY_COUNT) {
+            return getGrid().getEntity(x, y);
+        }
         for (int i = entityCount - 1; i >= 0; i--) {
             ChartEntity entity = (ChartEntity) this.entities.get(i);
             if (entity.getArea().contains(x, y)) {
@@ -148,6 +175,52 @@ public class StandardEntityCollection implements EntityCollection,
         return null;
     }
 
+    /**
+     * Returns a list containing the entities with an area that intersects
+     * the specified rectangle, in the order that they were added to this
+     * collection.
+     *
+     * @param area  the rectangle (<code>null</code> not permitted).
+     *
+     * @return A new list of entities (possibly empty).
+     *
+     * @since 1.0.13
+     */
+    public List getEntities(Rectangle2D area) {
+        if (area == null) {
+            throw new IllegalArgumentException("Null 'area' argument.");
+        }
+        List result = new ArrayList();
+        int entityCount = this.entities.size();
+        if (entityCount >= EntityGrid.MINIMUM_ENTITY_COUNT) {
+            getGrid().getEntities(area, result);
+        }
+        else {
+            for (int i = 0; i < entityCount; i++) {
+                ChartEntity entity = (ChartEntity) this.entities.get(i);
+                if (entity.getArea().intersects(area)) {
+                    result.add(entity);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index for the entities, building it if the collection or
+     * the area of any entity has changed since it was last built.
+     *
+     * @return The index.
+     */
+    private EntityGrid getGrid() {
+        int areaChanges = ChartEntity.getAreaChangeCount();
+        if (this.grid == null || this.gridAreaChangeCount != areaChanges) {
+            this.grid = new EntityGrid(this.entities);
+            this.gridAreaChangeCount = areaChanges;
+        }
+        return this.grid;
+    }
+
     /**
      * Returns the entities in an unmodifiable collection.
      *
@@ -158,12 +231,14 @@ public class StandardEntityCollection implements EntityCollection,
     }
 
     /**
-     * Returns an iterator for the entities in the collection.
+     * Returns an iterator for the entities in the collection.  Entities
+     * removed with the iterator's <code>remove()</code> method are also
+     * removed from the index used for hit-testing.
      *
      * @return An iterator.
      */
     public Iterator iterator() {
-        return this.entities.iterator();
+        return new EntityIterator(this.entities.iterator());
     }
 
     /**
@@ -195,6 +270,7 @@ public class StandardEntityCollection implements EntityCollection,
         StandardEntityCollection clone
                 = (StandardEntityCollection) super.clone();
         clone.entities = new java.util.ArrayList(this.entities.size());
+        clone.grid = null;
         for (int i = 0; i < this.entities.size(); i++) {
             ChartEntity entity = (ChartEntity) this.entities.get(i);
             clone.entities.add(entity.clone());
@@ -202,4 +278,50 @@ public class StandardEntityCollection implements EntityCollection,
         return clone;
     }
 
+    /**
+     * An iterator over the entities that discards the index when an entity
+     * is removed.
+     */
+    private class EntityIterator implements Iterator {
+
+        /** The iterator for the entity list. */
+        private Iterator iterator;
+
+        /**
+         * Creates a new iterator.
+         *
+         * @param iterator  the iterator for the entity list.
+         */
+        public EntityIterator(Iterator iterator) {
+            this.iterator = iterator;
+        }
+
+        /**
+         * Returns <code>true</code> if there are more entities.
+         *
+         * @return A boolean.
+         */
+        public boolean hasNext() {
+            return this.iterator.hasNext();
+        }
+
+        /**
+         * Returns the next entity.
+         *
+         * @return The next entity.
+         */
+        public Object next() {
+            return this.iterator.next();
+        }
+
+        /**
+         * Removes the last entity returned by {@link #next()}.
+         */
+        public void remove() {
+            this.iterator.remove();
+            StandardEntityCollection.this.grid = null;
+        }
+
+    }
+
 }
@@ -45,6 +45,8 @@
  * 20-May-2004 : Added equals() and clone() methods and implemented
  *               Serializable (DG);
  * 11-Jan-2005 : Removed deprecated code in preparation for 1.0.0 release (DG);
+ * 18-Oct-2026 : Record the source dataset for a snapshot (DG);
+ * 18-Oct-2026 : Map items in a decimated view to the source dataset (DG);
  *
  */
 
@@ -52,7 +54,9 @@ package org.jfree.chart.entity;
 
 import java.awt.Shape;
 
+import org.jfree.chart.renderer.xy.DecimatedXYDataset;
 import org.jfree.data.xy.XYDataset;
+import org.jfree.data.general.DatasetSnapshot;
 
 /**
  * A chart entity that represents one item within an
@@ -73,7 +77,9 @@ public class XYItemEntity extends ChartEntity {
     private int item;
 
     /**
-     * Creates a new entity.
+     * Creates a new entity.  If the dataset is a {@link DecimatedXYDataset},
+     * the entity refers to the underlying dataset, and the item index is
+     * converted to the index of the item in that dataset.
      *
      * @param area  the area.
      * @param dataset  the dataset.
@@ -86,9 +92,9 @@ public class XYItemEntity extends ChartEntity {
                         XYDataset dataset, int series, int item,
                         String toolTipText, String urlText) {
         super(area, toolTipText, urlText);
-        this.dataset = dataset;
         this.series = series;
         this.item = item;
+        setDataset(dataset);
     }
 
     /**
@@ -101,12 +107,20 @@ public class XYItemEntity extends ChartEntity {
     }
 
     /**
-     * Sets the dataset this entity refers to.
+     * Sets the dataset this entity refers to.  If the dataset is a
+     * {@link DecimatedXYDataset}, the entity refers to the underlying
+     * dataset instead, and the current item index is converted to the index
+     * of the item in that dataset.
      *
      * @param dataset  the dataset.
      */
     public void setDataset(XYDataset dataset) {
-        this.dataset = dataset;
+        if (dataset instanceof DecimatedXYDataset) {
+            DecimatedXYDataset view = (DecimatedXYDataset) dataset;
+            this.item = view.getSourceItem(this.series, this.item);
+            dataset = view.getSource();
+        }
+        this.dataset = getSource(dataset);
     }
 
     /**
@@ -180,4 +194,21 @@ public class XYItemEntity extends ChartEntity {
             + getItem() + ", dataset = " + getDataset();
     }
 
+
+    /**
+     * Returns the dataset to record for an entity.  For a snapshot of a
+     * dataset (see {@link DatasetSnapshot}), this is the dataset that the
+     * snapshot was taken from.
+     *
+     * @param dataset  the dataset (<code>null</code> permitted).
+     *
+     * @return The dataset.
+     */
+    private static XYDataset getSource(XYDataset dataset) {
+        if (dataset instanceof DatasetSnapshot) {
+            return (XYDataset) ((DatasetSnapshot) dataset).getSource();
+        }
+        return dataset;
+    }
+
 }
@@ -38,12 +38,14 @@
  * 07-Nov-2001 : Updated header (DG);
  * 09-Oct-2002 : Fixed errors reported by Checkstyle (DG);
  * 17-Jan-2003 : Moved plot classes to a separate package (DG);
+ * 18-Oct-2026 : Added datasetChangeEvent attribute (DG);
  *
  */
 
 package org.jfree.chart.event;
 
 import org.jfree.chart.plot.Plot;
+import org.jfree.data.general.DatasetChangeEvent;
 
 /**
  * An event that can be forwarded to any
@@ -55,6 +57,12 @@ public class PlotChangeEvent extends ChartChangeEvent {
     /** The plot that generated the event. */
     private Plot plot;
 
+    /**
+     * The dataset change event that caused this event (<code>null</code> if
+     * the event was not caused by a change to a dataset).
+     */
+    private DatasetChangeEvent datasetChangeEvent;
+
     /**
      * Creates a new PlotChangeEvent.
      *
@@ -65,6 +73,26 @@ public class PlotChangeEvent extends ChartChangeEvent {
         this.plot = plot;
     }
 
+    /**
+     * Creates a new event for a change to one of the plot's datasets.  The
+     * event type is {@link ChartChangeEventType#DATASET_UPDATED}.
+     *
+     * @param plot  the plot that generated the event.
+     * @param datasetChangeEvent  the dataset change event
+     *     (<code>null</code> not permitted).
+     *
+     * @since 1.0.13
+     */
+    public PlotChangeEvent(Plot plot, DatasetChangeEvent datasetChangeEvent) {
+        this(plot);
+        if (datasetChangeEvent == null) {
+            throw new IllegalArgumentException(
+                    "Null 'datasetChangeEvent' argument.");
+        }
+        this.datasetChangeEvent = datasetChangeEvent;
+        setType(ChartChangeEventType.DATASET_UPDATED);
+    }
+
     /**
      * Returns the plot that generated the event.
      *
@@ -74,4 +102,18 @@ public class PlotChangeEvent extends ChartChangeEvent {
         return this.plot;
     }
 
+    /**
+     * Returns the dataset change event that caused this event.  Listeners
+     * can use the series index and summary in the dataset event to find out
+     * whether the change was limited to the values in one series.
+     *
+     * @return The dataset change event (<code>null</code> if the event was
+     *     not caused by a change to a dataset).
+     *
+     * @since 1.0.13
+     */
+    public DatasetChangeEvent getDatasetChangeEvent() {
+        return this.datasetChangeEvent;
+    }
+
 }
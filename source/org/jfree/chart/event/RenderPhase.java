@@ -0,0 +1,169 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------
+ * RenderPhase.java
+ * ----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+
+package org.jfree.chart.event;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+
+/**
+ * Defines the tokens that identify the phases of drawing a chart that are
+ * reported to a {@link RenderTimingListener}.
+ *
+ * @since 1.0.13
+ */
+public final class RenderPhase implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2807563424381707592L;
+
+    /** The complete {@link org.jfree.chart.JFreeChart#draw} call. */
+    public static final RenderPhase CHART = new RenderPhase(
+            "RenderPhase.CHART");
+
+    /** Drawing the chart background and border. */
+    public static final RenderPhase CHART_BACKGROUND = new RenderPhase(
+            "RenderPhase.CHART_BACKGROUND");
+
+    /** Arranging and drawing a title (other than a legend). */
+    public static final RenderPhase TITLE = new RenderPhase(
+            "RenderPhase.TITLE");
+
+    /** Arranging and drawing a legend. */
+    public static final RenderPhase LEGEND = new RenderPhase(
+            "RenderPhase.LEGEND");
+
+    /** The complete {@link org.jfree.chart.plot.Plot#draw} call. */
+    public static final RenderPhase PLOT = new RenderPhase(
+            "RenderPhase.PLOT");
+
+    /** Reserving space for an axis (this includes tick calculation). */
+    public static final RenderPhase AXIS_LAYOUT = new RenderPhase(
+            "RenderPhase.AXIS_LAYOUT");
+
+    /** Drawing an axis. */
+    public static final RenderPhase AXIS_DRAW = new RenderPhase(
+            "RenderPhase.AXIS_DRAW");
+
+    /** Rendering the items in one dataset. */
+    public static final RenderPhase RENDERER = new RenderPhase(
+            "RenderPhase.RENDERER");
+
+    /** One pass of a renderer over the items in a dataset. */
+    public static final RenderPhase RENDERER_PASS = new RenderPhase(
+            "RenderPhase.RENDERER_PASS");
+
+    /** Drawing the annotations for a renderer or plot. */
+    public static final RenderPhase ANNOTATIONS = new RenderPhase(
+            "RenderPhase.ANNOTATIONS");
+
+    /** The name. */
+    private String name;
+
+    /**
+     * Private constructor.
+     *
+     * @param name  the name.
+     */
+    private RenderPhase(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns a string representing the object.
+     *
+     * @return The string (never <code>null</code>).
+     */
+    public String toString() {
+        return this.name;
+    }
+
+    /**
+     * Returns <code>true</code> if this object is equal to the specified
+     * object, and <code>false</code> otherwise.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof RenderPhase)) {
+            return false;
+        }
+        RenderPhase that = (RenderPhase) obj;
+        if (!this.name.equals(that.toString())) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        return this.name.hashCode();
+    }
+
+    /**
+     * Ensures that serialization returns the unique instances.
+     *
+     * @return The object.
+     *
+     * @throws ObjectStreamException if there is a problem.
+     */
+    private Object readResolve() throws ObjectStreamException {
+        RenderPhase[] phases = new RenderPhase[] {CHART, CHART_BACKGROUND,
+                TITLE, LEGEND, PLOT, AXIS_LAYOUT, AXIS_DRAW, RENDERER,
+                RENDERER_PASS, ANNOTATIONS};
+        for (int i = 0; i < phases.length; i++) {
+            if (this.equals(phases[i])) {
+                return phases[i];
+            }
+        }
+        return null;
+    }
+
+}
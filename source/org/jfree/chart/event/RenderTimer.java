@@ -0,0 +1,311 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------
+ * RenderTimer.java
+ * ----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Documented the handling of parallel rendering (DG);
+ *
+ */
+
+
+package org.jfree.chart.event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.entity.EntityCollection;
+
+/**
+ * Records the time taken by each phase of drawing a chart, for delivery to
+ * the chart's {@link RenderTimingListener}s.  A timer is only created by
+ * {@link JFreeChart#draw(java.awt.Graphics2D, java.awt.geom.Rectangle2D,
+ * java.awt.geom.Point2D, org.jfree.chart.ChartRenderingInfo)} when the chart
+ * has at least one listener registered, and it is bound to the drawing
+ * thread while the chart is drawn.  Plots, axes and renderers call
+ * {@link #getActive()} to find it; when no timer is active anywhere, this
+ * costs a single read of a static field.
+ * <P>
+ * Text measurements are counted by the axes, titles and blocks that
+ * measure text (see {@link #countTextMeasurements(int)}).  A timer is not
+ * thread-safe, so it is not passed to the threads used by
+ * {@link org.jfree.chart.plot.XYPlot#setRenderingThreadCount(int)}.  When
+ * a dataset is drawn on several threads, the items are still counted for
+ * the renderer phase, but no pass phases are reported for it, and the text
+ * measurements made on the other threads are not counted.
+ * <P>
+ * The timings use <code>System.nanoTime()</code>, so they require JRE 1.5
+ * or later.
+ *
+ * @since 1.0.13
+ */
+public final class RenderTimer {
+
+    /** The timer for the current thread. */
+    private static final ThreadLocal CURRENT = new ThreadLocal();
+
+    /** The number of timers that are active (on any thread). */
+    private static volatile int activeCount;
+
+    /** A lock for updating {@link #activeCount}. */
+    private static final Object LOCK = new Object();
+
+    /**
+     * A phase that has been started but not yet ended.
+     */
+    private static class Frame {
+
+        /** The enclosing phase. */
+        Frame parent;
+
+        /** The phase. */
+        RenderPhase phase;
+
+        /** The owner. */
+        Object owner;
+
+        /** The index. */
+        int index;
+
+        /** The nesting depth. */
+        int depth;
+
+        /** The time the phase started. */
+        long start;
+
+        /** The entity count when the phase started. */
+        int entityCount;
+
+        /** The number of items drawn. */
+        int itemsDrawn;
+
+        /** The number of items skipped. */
+        int itemsSkipped;
+
+        /** The number of text measurements. */
+        int textMeasurements;
+
+    }
+
+    /** The chart being drawn. */
+    private JFreeChart chart;
+
+    /** The listeners. */
+    private RenderTimingListener[] listeners;
+
+    /** The entity collection (<code>null</code> permitted). */
+    private EntityCollection entities;
+
+    /** The innermost phase that has been started but not yet ended. */
+    private Frame current;
+
+    /** The completed events, in order of completion. */
+    private List events;
+
+    /** The timer that was active on this thread before this one. */
+    private RenderTimer previous;
+
+    /**
+     * Creates a new timer.
+     *
+     * @param chart  the chart.
+     * @param listeners  the listeners.
+     * @param entities  the entity collection (<code>null</code> permitted).
+     */
+    private RenderTimer(JFreeChart chart, RenderTimingListener[] listeners,
+            EntityCollection entities) {
+        this.chart = chart;
+        this.listeners = listeners;
+        this.entities = entities;
+        this.events = new ArrayList();
+    }
+
+    /**
+     * Returns the timer for the current thread.
+     *
+     * @return The timer (<code>null</code> if the chart being drawn on this
+     *     thread has no {@link RenderTimingListener}s).
+     */
+    public static RenderTimer getActive() {
+        if (activeCount == 0) {
+            return null;
+        }
+        return (RenderTimer) CURRENT.get();
+    }
+
+    /**
+     * Adds to the count of text measurements for the active timer, if
+     * there is one.
+     *
+     * @param count  the number of measurements.
+     */
+    public static void countTextMeasurements(int count) {
+        RenderTimer timer = getActive();
+        if (timer != null && timer.current != null) {
+            timer.current.textMeasurements += count;
+        }
+    }
+
+    /**
+     * Creates a timer for a chart, binds it to the current thread and
+     * starts the {@link RenderPhase#CHART} phase.  The caller must call
+     * {@link #finish()} (in a <code>finally</code> block).
+     *
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param listeners  the listeners (<code>null</code> not permitted).
+     * @param entities  the entity collection that the chart is being drawn
+     *     into (<code>null</code> permitted).
+     *
+     * @return The timer.
+     */
+    public static RenderTimer start(JFreeChart chart,
+            RenderTimingListener[] listeners, EntityCollection entities) {
+        if (chart == null) {
+            throw new IllegalArgumentException("Null 'chart' argument.");
+        }
+        if (listeners == null) {
+            throw new IllegalArgumentException("Null 'listeners' argument.");
+        }
+        RenderTimer timer = new RenderTimer(chart, listeners, entities);
+        timer.previous = (RenderTimer) CURRENT.get();
+        CURRENT.set(timer);
+        synchronized (LOCK) {
+            activeCount++;
+        }
+        timer.startPhase(RenderPhase.CHART, chart);
+        return timer;
+    }
+
+    /**
+     * Ends any phases that are still open, unbinds the timer from the
+     * current thread and delivers the events to the listeners.
+     */
+    public void finish() {
+        while (this.current != null) {
+            endPhase();
+        }
+        CURRENT.set(this.previous);
+        synchronized (LOCK) {
+            activeCount--;
+        }
+        for (int i = 0; i < this.events.size(); i++) {
+            RenderTimingEvent event = (RenderTimingEvent) this.events.get(i);
+            for (int j = 0; j < this.listeners.length; j++) {
+                this.listeners[j].renderPhaseCompleted(event);
+            }
+        }
+    }
+
+    /**
+     * Starts a phase with no index.
+     *
+     * @param phase  the phase (<code>null</code> not permitted).
+     * @param owner  the object that the phase relates to (<code>null</code>
+     *     permitted).
+     */
+    public void startPhase(RenderPhase phase, Object owner) {
+        startPhase(phase, owner, -1);
+    }
+
+    /**
+     * Starts a phase, nested within the current phase.  Each call must be
+     * matched by a call to {@link #endPhase()}.
+     *
+     * @param phase  the phase (<code>null</code> not permitted).
+     * @param owner  the object that the phase relates to (<code>null</code>
+     *     permitted).
+     * @param index  the dataset, axis or pass index (or -1).
+     */
+    public void startPhase(RenderPhase phase, Object owner, int index) {
+        if (phase == null) {
+            throw new IllegalArgumentException("Null 'phase' argument.");
+        }
+        Frame frame = new Frame();
+        frame.parent = this.current;
+        frame.phase = phase;
+        frame.owner = owner;
+        frame.index = index;
+        frame.depth = (this.current != null ? this.current.depth + 1 : 0);
+        frame.entityCount = getEntityCount();
+        this.current = frame;
+        frame.start = System.nanoTime();
+    }
+
+    /**
+     * Ends the current phase, adding its counters to the enclosing phase.
+     */
+    public void endPhase() {
+        long end = System.nanoTime();
+        Frame frame = this.current;
+        if (frame == null) {
+            throw new IllegalStateException("No phase has been started.");
+        }
+        this.current = frame.parent;
+        if (frame.parent != null) {
+            frame.parent.itemsDrawn += frame.itemsDrawn;
+            frame.parent.itemsSkipped += frame.itemsSkipped;
+            frame.parent.textMeasurements += frame.textMeasurements;
+        }
+        this.events.add(new RenderTimingEvent(this.chart, frame.phase,
+                frame.owner, frame.index, frame.depth, end - frame.start,
+                frame.itemsDrawn, frame.itemsSkipped,
+                getEntityCount() - frame.entityCount,
+                frame.textMeasurements));
+    }
+
+    /**
+     * Adds to the item counts for the current phase.
+     *
+     * @param drawn  the number of items passed to the renderer.
+     * @param skipped  the number of items skipped because they are not
+     *     visible.
+     */
+    public void countItems(int drawn, int skipped) {
+        if (this.current != null) {
+            this.current.itemsDrawn += drawn;
+            this.current.itemsSkipped += skipped;
+        }
+    }
+
+    /**
+     * Returns the number of entities in the entity collection.
+     *
+     * @return The count.
+     */
+    private int getEntityCount() {
+        return (this.entities != null ? this.entities.getEntityCount() : 0);
+    }
+
+}
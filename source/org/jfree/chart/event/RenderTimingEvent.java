@@ -0,0 +1,247 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * RenderTimingEvent.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Added serialVersionUID (DG);
+ *
+ */
+
+
+package org.jfree.chart.event;
+
+import java.util.EventObject;
+
+import org.jfree.chart.JFreeChart;
+
+/**
+ * An event that records the time taken by one phase of drawing a chart,
+ * along with counters for the work done during the phase.  The timings and
+ * counters include any nested phases (for example, the {@link
+ * RenderPhase#PLOT} phase includes the axis and renderer phases within it).
+ *
+ * @see RenderTimingListener
+ *
+ * @since 1.0.13
+ */
+public class RenderTimingEvent extends EventObject {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -3753215710963506200L;
+
+    /** The phase. */
+    private RenderPhase phase;
+
+    /** The object (axis, renderer, title etc.) that the phase relates to. */
+    private Object owner;
+
+    /** The index (dataset, axis or pass index), or -1. */
+    private int index;
+
+    /** The nesting depth (0 for the {@link RenderPhase#CHART} phase). */
+    private int depth;
+
+    /** The elapsed time in nanoseconds. */
+    private long nanos;
+
+    /** The number of data items passed to a renderer. */
+    private int itemsDrawn;
+
+    /** The number of data items skipped because they are not visible. */
+    private int itemsSkipped;
+
+    /** The number of entities added to the entity collection. */
+    private int entitiesCreated;
+
+    /** The number of text measurements. */
+    private int textMeasurements;
+
+    /**
+     * Creates a new event.
+     *
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param phase  the phase (<code>null</code> not permitted).
+     * @param owner  the object that the phase relates to (<code>null</code>
+     *     permitted).
+     * @param index  the index (dataset, axis or pass index), or -1.
+     * @param depth  the nesting depth.
+     * @param nanos  the elapsed time in nanoseconds.
+     * @param itemsDrawn  the number of data items passed to a renderer.
+     * @param itemsSkipped  the number of data items skipped because they
+     *     are not visible.
+     * @param entitiesCreated  the number of entities created.
+     * @param textMeasurements  the number of text measurements.
+     */
+    public RenderTimingEvent(JFreeChart chart, RenderPhase phase,
+            Object owner, int index, int depth, long nanos, int itemsDrawn,
+            int itemsSkipped, int entitiesCreated, int textMeasurements) {
+        super(chart);
+        if (phase == null) {
+            throw new IllegalArgumentException("Null 'phase' argument.");
+        }
+        this.phase = phase;
+        this.owner = owner;
+        this.index = index;
+        this.depth = depth;
+        this.nanos = nanos;
+        this.itemsDrawn = itemsDrawn;
+        this.itemsSkipped = itemsSkipped;
+        this.entitiesCreated = entitiesCreated;
+        this.textMeasurements = textMeasurements;
+    }
+
+    /**
+     * Returns the chart that was drawn.
+     *
+     * @return The chart.
+     */
+    public JFreeChart getChart() {
+        return (JFreeChart) getSource();
+    }
+
+    /**
+     * Returns the phase.
+     *
+     * @return The phase (never <code>null</code>).
+     */
+    public RenderPhase getPhase() {
+        return this.phase;
+    }
+
+    /**
+     * Returns the object that the phase relates to: the chart, title, plot,
+     * axis or renderer.
+     *
+     * @return The owner (possibly <code>null</code>).
+     */
+    public Object getOwner() {
+        return this.owner;
+    }
+
+    /**
+     * Returns the index for the phase: the dataset index for the
+     * {@link RenderPhase#RENDERER} phase, the pass index for the
+     * {@link RenderPhase#RENDERER_PASS} phase, the axis index for the axis
+     * phases, or -1.
+     *
+     * @return The index.
+     */
+    public int getIndex() {
+        return this.index;
+    }
+
+    /**
+     * Returns the nesting depth of the phase (0 for the
+     * {@link RenderPhase#CHART} phase).
+     *
+     * @return The depth.
+     */
+    public int getDepth() {
+        return this.depth;
+    }
+
+    /**
+     * Returns the elapsed time for the phase, in nanoseconds.
+     *
+     * @return The elapsed time.
+     */
+    public long getNanos() {
+        return this.nanos;
+    }
+
+    /**
+     * Returns the number of data items that were passed to a renderer
+     * during the phase.
+     *
+     * @return The item count.
+     */
+    public int getItemsDrawn() {
+        return this.itemsDrawn;
+    }
+
+    /**
+     * Returns the number of data items that were skipped during the phase
+     * because they lie outside the visible range.
+     *
+     * @return The item count.
+     */
+    public int getItemsSkipped() {
+        return this.itemsSkipped;
+    }
+
+    /**
+     * Returns the number of entities that were added to the chart's entity
+     * collection during the phase (always zero when entities are not being
+     * collected).
+     *
+     * @return The entity count.
+     */
+    public int getEntitiesCreated() {
+        return this.entitiesCreated;
+    }
+
+    /**
+     * Returns the number of text measurements (for axis labels and tick
+     * labels) made during the phase.
+     *
+     * @return The measurement count.
+     */
+    public int getTextMeasurements() {
+        return this.textMeasurements;
+    }
+
+    /**
+     * Returns a string representing the event, for debugging purposes.
+     *
+     * @return A string.
+     */
+    public String toString() {
+        StringBuffer b = new StringBuffer();
+        for (int i = 0; i < this.depth; i++) {
+            b.append("  ");
+        }
+        b.append(this.phase);
+        if (this.index >= 0) {
+            b.append('[').append(this.index).append(']');
+        }
+        b.append(": ").append(this.nanos / 1000L).append(" us");
+        b.append(", drawn=").append(this.itemsDrawn);
+        b.append(", skipped=").append(this.itemsSkipped);
+        b.append(", entities=").append(this.entitiesCreated);
+        b.append(", text=").append(this.textMeasurements);
+        return b.toString();
+    }
+
+}
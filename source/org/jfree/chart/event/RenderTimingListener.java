@@ -0,0 +1,66 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * RenderTimingListener.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+
+package org.jfree.chart.event;
+
+import java.util.EventListener;
+
+/**
+ * A listener that receives the time taken by each phase of drawing a chart.
+ * Register the listener with
+ * {@link org.jfree.chart.JFreeChart#addRenderTimingListener(
+ * RenderTimingListener)}.
+ *
+ * @since 1.0.13
+ */
+public interface RenderTimingListener extends EventListener {
+
+    /**
+     * Receives notification that a phase of drawing has completed.  The
+     * events for a chart are delivered (in the order that the phases
+     * completed) after the chart has been drawn, so the time spent in the
+     * listener is not included in the timings.
+     *
+     * @param event  the event.
+     */
+    public void renderPhaseCompleted(RenderTimingEvent event);
+
+}
@@ -10,8 +10,13 @@ import org.jfree.util.ObjectUtilities;
 import org.jfree.util.ObjectList;
 import org.jfree.util.PublicCloneable;
 import org.jfree.util.PaintUtilities;
+import org.jfree.data.Range;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.Dataset;
+import org.jfree.data.general.DatasetSnapshot;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeType;
+import org.jfree.data.general.SnapshotProvider;
 import org.jfree.ui.RectangleEdge;
 import org.jfree.ui.RectangleInsets;
 import org.jfree.io.SerialUtilities;
@@ -103,6 +108,12 @@ public abstract class AbstractDomainRangePlot extends Plot implements DomainRang
     /** Storage for the renderers. */
     private ObjectList renderers;
 
+    /**
+     * The data bounds for each dataset, as last calculated by
+     * {@link #getDataBounds(Dataset, boolean)} (created on demand).
+     */
+    private transient DataBoundsCache dataBounds;
+
     /** The offset between the data area and the axes. */
     private RectangleInsets axisOffset;
 
@@ -496,13 +507,19 @@ public abstract class AbstractDomainRangePlot extends Plot implements DomainRang
 
     /**
      * Returns the index of the specified dataset, or <code>-1</code> if the
-     * dataset does not belong to the plot.
+     * dataset does not belong to the plot.  For a {@link DatasetSnapshot}
+     * (which is what the renderers receive for a dataset that implements
+     * {@link SnapshotProvider}), the index of the source dataset is
+     * returned.
      *
      * @param dataset  the dataset (<code>null</code> not permitted).
      *
      * @return The index.
      */
     public int indexOf(Dataset dataset) {
+        if (dataset instanceof DatasetSnapshot) {
+            dataset = ((DatasetSnapshot) dataset).getSource();
+        }
         int result = -1;
         for (int i = 0; i < this.datasets.size(); i++) {
             if (dataset == this.datasets.get(i)) {
@@ -513,6 +530,178 @@ public abstract class AbstractDomainRangePlot extends Plot implements DomainRang
         return result;
     }
 
+    /**
+     * Returns the domain or range bounds for a dataset in this plot, as
+     * calculated by {@link #calculateDataBounds(Dataset, ItemRenderer,
+     * boolean)} using the renderer for the dataset.  The result is cached
+     * until the dataset or renderer changes, and is updated incrementally
+     * for {@link DatasetChangeEvent}s that report items added to a series
+     * (see {@link #updateDataBounds(DatasetChangeEvent)}).
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param domain  <code>true</code> for the domain bounds,
+     *     <code>false</code> for the range bounds.
+     *
+     * @return The bounds (possibly <code>null</code>).
+     *
+     * @since 1.0.13
+     */
+    protected Range getDataBounds(Dataset dataset, boolean domain) {
+        int index = indexOf(dataset);
+        ItemRenderer renderer = getBasicRendererForDataset(dataset);
+        if (index < 0) {
+            return calculateDataBounds(createSnapshot(dataset), renderer,
+                    domain);
+        }
+        if (this.dataBounds == null) {
+            this.dataBounds = new DataBoundsCache();
+        }
+        if (this.dataBounds.contains(index, dataset, renderer, domain)) {
+            return this.dataBounds.getBounds(index, domain);
+        }
+        Range result = calculateDataBounds(createSnapshot(dataset), renderer,
+                domain);
+        this.dataBounds.putBounds(index, dataset, renderer, domain, result);
+        return result;
+    }
+
+    /**
+     * Returns the dataset that should be read for a rendering pass or a
+     * bounds calculation.  If the dataset implements {@link SnapshotProvider}
+     * this is a snapshot of the dataset, so that the values cannot be changed
+     * by another thread while they are being read, otherwise it is the
+     * dataset itself.
+     *
+     * @param dataset  the dataset (<code>null</code> permitted).
+     *
+     * @return The dataset or a snapshot of it (<code>null</code> if
+     *     <code>dataset</code> is <code>null</code>).
+     *
+     * @since 1.0.13
+     */
+    protected Dataset createSnapshot(Dataset dataset) {
+        if (dataset instanceof SnapshotProvider) {
+            return ((SnapshotProvider) dataset).createSnapshot();
+        }
+        return dataset;
+    }
+
+    /**
+     * Calculates the domain or range bounds for a dataset, by scanning the
+     * dataset if necessary.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param renderer  the renderer for the dataset (<code>null</code>
+     *     permitted).
+     * @param domain  <code>true</code> for the domain bounds,
+     *     <code>false</code> for the range bounds.
+     *
+     * @return The bounds (possibly <code>null</code>).
+     *
+     * @since 1.0.13
+     */
+    protected abstract Range calculateDataBounds(Dataset dataset,
+            ItemRenderer renderer, boolean domain);
+
+    /**
+     * Returns <code>true</code> if the data bounds that the specified
+     * renderer requires are the union of bounds calculated for each item
+     * separately, so that cached bounds can be extended with
+     * {@link #calculateItemBounds(Dataset, ItemRenderer, int, int, int,
+     * boolean)} when items are added.  The default implementation returns
+     * <code>false</code>.
+     *
+     * @param renderer  the renderer (<code>null</code> not permitted).
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.13
+     */
+    protected boolean hasItemBounds(ItemRenderer renderer) {
+        return false;
+    }
+
+    /**
+     * Calculates the domain or range bounds for a range of items in one
+     * series of a dataset.  This is only called for renderers where
+     * {@link #hasItemBounds(ItemRenderer)} returns <code>true</code>.  The
+     * default implementation returns <code>null</code>.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param renderer  the renderer for the dataset (<code>null</code> not
+     *     permitted).
+     * @param series  the series index.
+     * @param firstItem  the index of the first item.
+     * @param lastItem  the index of the last item.
+     * @param domain  <code>true</code> for the domain bounds,
+     *     <code>false</code> for the range bounds.
+     *
+     * @return The bounds (possibly <code>null</code>).
+     *
+     * @since 1.0.13
+     */
+    protected Range calculateItemBounds(Dataset dataset,
+            ItemRenderer renderer, int series, int firstItem, int lastItem,
+            boolean domain) {
+        return null;
+    }
+
+    /**
+     * Updates the cached data bounds following a change to a dataset.  If
+     * the event reports that items were added to one series, and the
+     * renderer supports it, the cached bounds are extended to include the
+     * new items.  Otherwise the cached bounds for the dataset are discarded,
+     * and will be recalculated when they are next required.
+     *
+     * @param event  the event (<code>null</code> not permitted).
+     *
+     * @since 1.0.13
+     */
+    protected void updateDataBounds(DatasetChangeEvent event) {
+        if (this.dataBounds == null) {
+            return;
+        }
+        Dataset dataset = event.getDataset();
+        SeriesChangeInfo summary = event.getSummary();
+        int series = event.getSeriesIndex();
+        boolean added = dataset != null && summary != null && series >= 0
+                && summary.getType() == SeriesChangeType.ADD;
+        int count = this.dataBounds.getEntryCount();
+        for (int i = 0; i < count; i++) {
+            Dataset d = this.dataBounds.getDataset(i);
+            if (d == null || (dataset != null && d != dataset)) {
+                continue;
+            }
+            ItemRenderer r = (ItemRenderer) this.dataBounds.getRenderer(i);
+            if (added && r != null && hasItemBounds(r)) {
+                for (int j = 0; j < 2; j++) {
+                    boolean domain = (j == 0);
+                    if (this.dataBounds.contains(i, d, r, domain)) {
+                        this.dataBounds.extendBounds(i, domain,
+                                calculateItemBounds(d, r, series,
+                                summary.getFirstItem(),
+                                summary.getLastItem(), domain));
+                    }
+                }
+            }
+            else {
+                this.dataBounds.invalidate(i);
+            }
+        }
+    }
+
+    /**
+     * Discards all the cached data bounds.  This should be called when a
+     * renderer changes, since that may change the bounds it requires.
+     *
+     * @since 1.0.13
+     */
+    protected void clearDataBounds() {
+        if (this.dataBounds != null) {
+            this.dataBounds.clear();
+        }
+    }
+
     public void addAnnotation(Annotation annotation) throws ClassCastException {
         addAnnotation(annotation, true);
     }
@@ -1926,6 +2115,7 @@ public abstract class AbstractDomainRangePlot extends Plot implements DomainRang
 
     public Object clone() throws CloneNotSupportedException {
         AbstractDomainRangePlot clone = (AbstractDomainRangePlot) super.clone();
+        clone.dataBounds = null;
 
         clone.annotations = (List) ObjectUtilities.deepClone(this.annotations);
 
@@ -165,6 +165,12 @@
  * 15-Dec-2008 : Cleaned up grid drawing methods (DG);
  * 18-Dec-2008 : Use ResourceBundleWrapper - see patch 1607918 by
  *               Jess Thrysoee (DG);
+ * 18-Oct-2026 : Cache the data bounds for each dataset, and update them
+ *               incrementally when values are added (DG);
+ * 18-Oct-2026 : Render from a snapshot of the dataset, if available (DG);
+ * 18-Oct-2026 : Report the drawing phases to the active RenderTimer (DG);
+ * 18-Oct-2026 : Pass the dataset change event on to plot listeners (DG);
+ * 18-Oct-2026 : End the timed phases in finally blocks (DG);
  *
  */
 
@@ -203,10 +209,13 @@ import org.jfree.chart.axis.CategoryAnchor;
 import org.jfree.chart.axis.CategoryAxis;
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.axis.ValueTick;
-import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.PlotChangeEvent;
+import org.jfree.chart.event.RenderPhase;
+import org.jfree.chart.event.RenderTimer;
 import org.jfree.chart.event.RendererChangeEvent;
 import org.jfree.chart.event.RendererChangeListener;
+import org.jfree.chart.renderer.category.AbstractCategoryItemRenderer;
+import org.jfree.chart.renderer.category.BarRenderer;
 import org.jfree.chart.renderer.category.CategoryItemRenderer;
 import org.jfree.chart.renderer.category.CategoryItemRendererState;
 import org.jfree.chart.renderer.category.LabelRenderer;
@@ -898,6 +907,7 @@ public class CategoryPlot extends AbstractDomainRangePlot implements ValueAxisPl
      */
     public void datasetChanged(DatasetChangeEvent event) {
 
+        updateDataBounds(event);
         int count = getRangeAxisCount();
         for (int axisIndex = 0; axisIndex < count; axisIndex++) {
             ValueAxis yAxis = getRangeAxis(axisIndex);
@@ -909,9 +919,7 @@ public class CategoryPlot extends AbstractDomainRangePlot implements ValueAxisPl
             getParent().datasetChanged(event);
         }
         else {
-            PlotChangeEvent e = new PlotChangeEvent(this);
-            e.setType(ChartChangeEventType.DATASET_UPDATED);
-            notifyListeners(e);
+            notifyListeners(new PlotChangeEvent(this, event));
         }
 
     }
@@ -922,6 +930,7 @@ public class CategoryPlot extends AbstractDomainRangePlot implements ValueAxisPl
      * @param event  the event.
      */
     public void rendererChanged(RendererChangeEvent event) {
+        clearDataBounds();
         Plot parent = getParent();
         if (parent != null) {
             if (parent instanceof RendererChangeListener) {
@@ -1793,17 +1802,40 @@ public class CategoryPlot extends AbstractDomainRangePlot implements ValueAxisPl
             // reserve space for the primary domain axis...
             RectangleEdge domainEdge = Plot.resolveDomainAxisLocation(
                     getDomainAxisLocation(), orientation);
+            RenderTimer timer = RenderTimer.getActive();
             if (this.drawSharedDomainAxis) {
-                space = getDomainAxis().reserveSpace(g2, this, plotArea,
-                        domainEdge, space);
+                if (timer != null) {
+                    timer.startPhase(RenderPhase.AXIS_LAYOUT, getDomainAxis(),
+                            0);
+                }
+                try {
+                    space = getDomainAxis().reserveSpace(g2, this, plotArea,
+                            domainEdge, space);
+                }
+                finally {
+                    if (timer != null) {
+                        timer.endPhase();
+                    }
+                }
             }
 
             // reserve space for any domain axes...
             for (int i = 0; i < getDomainAxisCount(); i++) {
                 Axis xAxis = getDomainAxis(i);
                 if (xAxis != null) {
-                    RectangleEdge edge = getDomainAxisEdge(i);
-                    space = xAxis.reserveSpace(g2, this, plotArea, edge, space);
+                    if (timer != null) {
+                        timer.startPhase(RenderPhase.AXIS_LAYOUT, xAxis, i);
+                    }
+                    try {
+                        RectangleEdge edge = getDomainAxisEdge(i);
+                        space = xAxis.reserveSpace(g2, this, plotArea, edge,
+                                space);
+                    }
+                    finally {
+                        if (timer != null) {
+                            timer.endPhase();
+                        }
+                    }
                 }
             }
         }
@@ -1847,11 +1879,23 @@ public class CategoryPlot extends AbstractDomainRangePlot implements ValueAxisPl
         }
         else {
             // reserve space for the range axes (if any)...
+            RenderTimer timer = RenderTimer.getActive();
             for (int i = 0; i < getRangeAxisCount(); i++) {
                 Axis yAxis = getRangeAxis(i);
                 if (yAxis != null) {
-                    RectangleEdge edge = getRangeAxisEdge(i);
-                    space = yAxis.reserveSpace(g2, this, plotArea, edge, space);
+                    if (timer != null) {
+                        timer.startPhase(RenderPhase.AXIS_LAYOUT, yAxis, i);
+                    }
+                    try {
+                        RectangleEdge edge = getRangeAxisEdge(i);
+                        space = yAxis.reserveSpace(g2, this, plotArea, edge,
+                                space);
+                    }
+                    finally {
+                        if (timer != null) {
+                            timer.endPhase();
+                        }
+                    }
                 }
             }
         }
@@ -2014,7 +2058,18 @@ public class CategoryPlot extends AbstractDomainRangePlot implements ValueAxisPl
         }
 
         // draw the annotations (if any)...
-        drawAnnotations(g2, dataArea, null);
+        RenderTimer timer = RenderTimer.getActive();
+        if (timer != null) {
+            timer.startPhase(RenderPhase.ANNOTATIONS, this);
+        }
+        try {
+            drawAnnotations(g2, dataArea, null);
+        }
+        finally {
+            if (timer != null) {
+                timer.endPhase();
+            }
+        }
 
         g2.setClip(savedClip);
         g2.setComposite(originalComposite);
@@ -2155,6 +2210,7 @@ public class CategoryPlot extends AbstractDomainRangePlot implements ValueAxisPl
         }
 
         Map axisStateMap = new HashMap();
+        RenderTimer timer = RenderTimer.getActive();
 
         // draw the top axes
         RectangleInsets axisOffset = getAxisOffset();
@@ -2164,8 +2220,19 @@ public class CategoryPlot extends AbstractDomainRangePlot implements ValueAxisPl
         while (iterator.hasNext()) {
             Axis axis = (Axis) iterator.next();
             if (axis != null) {
-                AxisState axisState = axis.draw(g2, cursor, plotArea, dataArea,
-                        RectangleEdge.TOP, plotState);
+                AxisState axisState;
+                if (timer != null) {
+                    timer.startPhase(RenderPhase.AXIS_DRAW, axis);
+                }
+                try {
+                    axisState = axis.draw(g2, cursor, plotArea, dataArea,
+                            RectangleEdge.TOP, plotState);
+                }
+                finally {
+                    if (timer != null) {
+                        timer.endPhase();
+                    }
+                }
                 cursor = axisState.getCursor();
                 axisStateMap.put(axis, axisState);
             }
@@ -2178,8 +2245,19 @@ public class CategoryPlot extends AbstractDomainRangePlot implements ValueAxisPl
         while (iterator.hasNext()) {
             Axis axis = (Axis) iterator.next();
             if (axis != null) {
-                AxisState axisState = axis.draw(g2, cursor, plotArea, dataArea,
-                        RectangleEdge.BOTTOM, plotState);
+                AxisState axisState;
+                if (timer != null) {
+                    timer.startPhase(RenderPhase.AXIS_DRAW, axis);
+                }
+                try {
+                    axisState = axis.draw(g2, cursor, plotArea, dataArea,
+                            RectangleEdge.BOTTOM, plotState);
+                }
+                finally {
+                    if (timer != null) {
+                        timer.endPhase();
+                    }
+                }
                 cursor = axisState.getCursor();
                 axisStateMap.put(axis, axisState);
             }
@@ -2192,8 +2270,19 @@ public class CategoryPlot extends AbstractDomainRangePlot implements ValueAxisPl
         while (iterator.hasNext()) {
             Axis axis = (Axis) iterator.next();
             if (axis != null) {
-                AxisState axisState = axis.draw(g2, cursor, plotArea, dataArea,
-                        RectangleEdge.LEFT, plotState);
+                AxisState axisState;
+                if (timer != null) {
+                    timer.startPhase(RenderPhase.AXIS_DRAW, axis);
+                }
+                try {
+                    axisState = axis.draw(g2, cursor, plotArea, dataArea,
+                            RectangleEdge.LEFT, plotState);
+                }
+                finally {
+                    if (timer != null) {
+                        timer.endPhase();
+                    }
+                }
                 cursor = axisState.getCursor();
                 axisStateMap.put(axis, axisState);
             }
@@ -2206,8 +2295,19 @@ public class CategoryPlot extends AbstractDomainRangePlot implements ValueAxisPl
         while (iterator.hasNext()) {
             Axis axis = (Axis) iterator.next();
             if (axis != null) {
-                AxisState axisState = axis.draw(g2, cursor, plotArea, dataArea,
-                        RectangleEdge.RIGHT, plotState);
+                AxisState axisState;
+                if (timer != null) {
+                    timer.startPhase(RenderPhase.AXIS_DRAW, axis);
+                }
+                try {
+                    axisState = axis.draw(g2, cursor, plotArea, dataArea,
+                            RectangleEdge.RIGHT, plotState);
+                }
+                finally {
+                    if (timer != null) {
+                        timer.endPhase();
+                    }
+                }
                 cursor = axisState.getCursor();
                 axisStateMap.put(axis, axisState);
             }
@@ -2238,22 +2338,69 @@ public class CategoryPlot extends AbstractDomainRangePlot implements ValueAxisPl
             boolean justLabel) {
 
         boolean foundData = false;
-        CategoryDataset currentDataset = getDataset(index);
+        CategoryDataset currentDataset
+                = (CategoryDataset) createSnapshot(getDataset(index));
         CategoryItemRenderer renderer = getRenderer(index);
-        LabelRenderer labelRenderer = renderer instanceof LabelRenderer ? (LabelRenderer) renderer : null;
-        CategoryAxis domainAxis = getDomainAxisForDataset(index);
-        ValueAxis rangeAxis = getRangeAxisForDataset(index);
         boolean hasData = !DatasetUtilities.isEmptyOrNull(currentDataset);
         if (hasData && renderer != null) {
 
             foundData = true;
-            CategoryItemRendererState state = renderer.initialise(g2, dataArea,
-                    this, index, info);
-            state.setCrosshairState(crosshairState);
-            int columnCount = currentDataset.getColumnCount();
-            int rowCount = currentDataset.getRowCount();
-            int passCount = renderer.getPassCount();
-            for (int pass = 0; pass < passCount; pass++) {
+            RenderTimer timer = RenderTimer.getActive();
+            if (timer != null) {
+                timer.startPhase(RenderPhase.RENDERER, renderer, index);
+            }
+            try {
+                renderItems(g2, dataArea, index, info, crosshairState,
+                        justLabel, renderer, currentDataset, timer);
+            }
+            finally {
+                if (timer != null) {
+                    timer.endPhase();
+                }
+            }
+        }
+        return foundData;
+
+    }
+
+    /**
+     * Draws the items for one dataset, pass by pass.  This is called by
+     * {@link #render(Graphics2D, Rectangle2D, int, PlotRenderingInfo,
+     * CategoryCrosshairState, boolean)} within the timed phase for the
+     * renderer.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the region in which the data is to be drawn.
+     * @param index  the dataset and renderer index.
+     * @param info  an optional object for collection dimension information.
+     * @param crosshairState  a state object for tracking crosshair info
+     *        (<code>null</code> permitted).
+     * @param justLabel  draw just the labels?
+     * @param renderer  the renderer (<code>null</code> not permitted).
+     * @param currentDataset  the dataset (<code>null</code> not permitted).
+     * @param timer  the active render timer (<code>null</code> permitted).
+     */
+    private void renderItems(Graphics2D g2, Rectangle2D dataArea, int index,
+            PlotRenderingInfo info, CategoryCrosshairState crosshairState,
+            boolean justLabel, CategoryItemRenderer renderer,
+            CategoryDataset currentDataset, RenderTimer timer) {
+
+        LabelRenderer labelRenderer = renderer instanceof LabelRenderer ? (LabelRenderer) renderer : null;
+        CategoryAxis domainAxis = getDomainAxisForDataset(index);
+        ValueAxis rangeAxis = getRangeAxisForDataset(index);
+        CategoryItemRendererState state = renderer.initialise(g2, dataArea,
+                this, index, info);
+        state.setCrosshairState(crosshairState);
+        int columnCount = currentDataset.getColumnCount();
+        int rowCount = currentDataset.getRowCount();
+        int passCount = renderer.getPassCount();
+        for (int pass = 0; pass < passCount; pass++) {
+            if (timer != null) {
+                timer.startPhase(RenderPhase.RENDERER_PASS, renderer,
+                        pass);
+                timer.countItems(rowCount * columnCount, 0);
+            }
+            try {
                 if (this.columnRenderingOrder == SortOrder.ASCENDING) {
                     for (int column = 0; column < columnCount; column++) {
                         if (this.rowRenderingOrder == SortOrder.ASCENDING) {
@@ -2311,8 +2458,12 @@ public class CategoryPlot extends AbstractDomainRangePlot implements ValueAxisPl
                     }
                 }
             }
+            finally {
+                if (timer != null) {
+                    timer.endPhase();
+                }
+            }
         }
-        return foundData;
 
     }
 
@@ -2620,15 +2771,89 @@ public class CategoryPlot extends AbstractDomainRangePlot implements ValueAxisPl
         Iterator iterator = mappedDatasets.iterator();
         while (iterator.hasNext()) {
             CategoryDataset d = (CategoryDataset) iterator.next();
-            CategoryItemRenderer r = getRendererForDataset(d);
-            if (r != null) {
-                result = Range.combine(result, r.findRangeBounds(d));
+            if (d != null) {
+                result = Range.combine(result, getDataBounds(d, false));
             }
         }
         return result;
 
     }
 
+    /**
+     * Calculates the range bounds for a dataset, using the renderer's
+     * <code>findRangeBounds()</code> method.  There are no domain bounds for
+     * a category plot.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param renderer  the renderer (<code>null</code> permitted).
+     * @param domain  <code>true</code> for the domain bounds,
+     *     <code>false</code> for the range bounds.
+     *
+     * @return The bounds (possibly <code>null</code>).
+     *
+     * @since 1.0.13
+     */
+    protected Range calculateDataBounds(Dataset dataset,
+            ItemRenderer renderer, boolean domain) {
+        if (domain || renderer == null) {
+            return null;
+        }
+        CategoryItemRenderer r = (CategoryItemRenderer) renderer;
+        return r.findRangeBounds((CategoryDataset) dataset);
+    }
+
+    /**
+     * Returns <code>true</code> if the renderer uses the data bounds
+     * calculated by {@link AbstractCategoryItemRenderer} (or by
+     * {@link BarRenderer}, which adds the base value), which are the
+     * bounds of the values of all the items.
+     *
+     * @param renderer  the renderer (<code>null</code> not permitted).
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.13
+     */
+    protected boolean hasItemBounds(ItemRenderer renderer) {
+        if (!(renderer instanceof AbstractCategoryItemRenderer)) {
+            return false;
+        }
+        Class c = renderer.getClass();
+        return DataBoundsCache.isInherited(c,
+                AbstractCategoryItemRenderer.class, "findRangeBounds",
+                CategoryDataset.class)
+                || DataBoundsCache.isInherited(c, BarRenderer.class,
+                "findRangeBounds", CategoryDataset.class);
+    }
+
+    /**
+     * Calculates the range bounds for a range of columns in one row of a
+     * dataset.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param renderer  the renderer (<code>null</code> not permitted).
+     * @param series  the row index.
+     * @param firstItem  the index of the first column.
+     * @param lastItem  the index of the last column.
+     * @param domain  <code>true</code> for the domain bounds,
+     *     <code>false</code> for the range bounds.
+     *
+     * @return The bounds (possibly <code>null</code>).
+     *
+     * @since 1.0.13
+     */
+    protected Range calculateItemBounds(Dataset dataset,
+            ItemRenderer renderer, int series, int firstItem, int lastItem,
+            boolean domain) {
+        CategoryDataset d = (CategoryDataset) dataset;
+        if (domain || series >= d.getRowCount()) {
+            return null;
+        }
+        int last = Math.min(lastItem, d.getColumnCount() - 1);
+        return DatasetUtilities.iterateRangeBounds(d, series, firstItem, last,
+                true);
+    }
+
 
     /**
      * Returns the weight for this plot when it is used as a subplot within a
@@ -0,0 +1,286 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * DataBoundsCache.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+
+package org.jfree.chart.plot;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jfree.data.Range;
+import org.jfree.data.general.Dataset;
+import org.jfree.util.ObjectList;
+
+/**
+ * A cache of the data bounds for each dataset in a plot, used by
+ * {@link AbstractDomainRangePlot} so that the axis ranges can be updated
+ * without scanning all the data each time a dataset changes.  Each entry
+ * records the dataset and renderer that the bounds were calculated for, and
+ * is ignored once either of them is replaced.
+ */
+class DataBoundsCache {
+
+    /**
+     * The results of {@link #isInherited(Class, Class, String, Class)}, keyed
+     * by a string made up of the class and method names.
+     */
+    private static final Map INHERITED = new HashMap();
+
+    /** The entries, indexed by dataset index. */
+    private ObjectList entries;
+
+    /**
+     * Creates a new empty cache.
+     */
+    DataBoundsCache() {
+        this.entries = new ObjectList();
+    }
+
+    /**
+     * Returns <code>true</code> if the cache holds the domain or range
+     * bounds for the specified dataset and renderer.
+     *
+     * @param index  the dataset index.
+     * @param dataset  the dataset.
+     * @param renderer  the renderer.
+     * @param domain  <code>true</code> for the domain bounds,
+     *     <code>false</code> for the range bounds.
+     *
+     * @return A boolean.
+     */
+    boolean contains(int index, Dataset dataset, Object renderer,
+            boolean domain) {
+        Entry entry = (Entry) this.entries.get(index);
+        if (entry == null || entry.dataset != dataset
+                || entry.renderer != renderer) {
+            return false;
+        }
+        return domain ? entry.domainValid : entry.rangeValid;
+    }
+
+    /**
+     * Returns the cached domain or range bounds for a dataset.  Call
+     * {@link #contains(int, Dataset, Object, boolean)} first.
+     *
+     * @param index  the dataset index.
+     * @param domain  <code>true</code> for the domain bounds,
+     *     <code>false</code> for the range bounds.
+     *
+     * @return The bounds (possibly <code>null</code>).
+     */
+    Range getBounds(int index, boolean domain) {
+        Entry entry = (Entry) this.entries.get(index);
+        return domain ? entry.domainBounds : entry.rangeBounds;
+    }
+
+    /**
+     * Stores the domain or range bounds for a dataset.
+     *
+     * @param index  the dataset index.
+     * @param dataset  the dataset.
+     * @param renderer  the renderer.
+     * @param domain  <code>true</code> for the domain bounds,
+     *     <code>false</code> for the range bounds.
+     * @param bounds  the bounds (<code>null</code> permitted).
+     */
+    void putBounds(int index, Dataset dataset, Object renderer,
+            boolean domain, Range bounds) {
+        Entry entry = (Entry) this.entries.get(index);
+        if (entry == null || entry.dataset != dataset
+                || entry.renderer != renderer) {
+            entry = new Entry(dataset, renderer);
+            this.entries.set(index, entry);
+        }
+        if (domain) {
+            entry.domainBounds = bounds;
+            entry.domainValid = true;
+        }
+        else {
+            entry.rangeBounds = bounds;
+            entry.rangeValid = true;
+        }
+    }
+
+    /**
+     * Extends the cached domain or range bounds for a dataset to include
+     * the specified bounds.  If no bounds are cached, this method does
+     * nothing.
+     *
+     * @param index  the dataset index.
+     * @param domain  <code>true</code> for the domain bounds,
+     *     <code>false</code> for the range bounds.
+     * @param bounds  the bounds to include (<code>null</code> permitted).
+     */
+    void extendBounds(int index, boolean domain, Range bounds) {
+        Entry entry = (Entry) this.entries.get(index);
+        if (entry == null) {
+            return;
+        }
+        if (domain && entry.domainValid) {
+            entry.domainBounds = Range.combine(entry.domainBounds, bounds);
+        }
+        else if (!domain && entry.rangeValid) {
+            entry.rangeBounds = Range.combine(entry.rangeBounds, bounds);
+        }
+    }
+
+    /**
+     * Returns the number of entries (some may be <code>null</code>).
+     *
+     * @return The entry count.
+     */
+    int getEntryCount() {
+        return this.entries.size();
+    }
+
+    /**
+     * Returns the dataset for an entry.
+     *
+     * @param index  the dataset index.
+     *
+     * @return The dataset (possibly <code>null</code>).
+     */
+    Dataset getDataset(int index) {
+        Entry entry = (Entry) this.entries.get(index);
+        return entry != null ? entry.dataset : null;
+    }
+
+    /**
+     * Returns the renderer for an entry.
+     *
+     * @param index  the dataset index.
+     *
+     * @return The renderer (possibly <code>null</code>).
+     */
+    Object getRenderer(int index) {
+        Entry entry = (Entry) this.entries.get(index);
+        return entry != null ? entry.renderer : null;
+    }
+
+    /**
+     * Removes the entry for a dataset.
+     *
+     * @param index  the dataset index.
+     */
+    void invalidate(int index) {
+        this.entries.set(index, null);
+    }
+
+    /**
+     * Removes all entries.
+     */
+    void clear() {
+        this.entries.clear();
+    }
+
+    /**
+     * Returns <code>true</code> if <code>c</code> inherits the specified
+     * public method from <code>declaringClass</code>, rather than
+     * overriding it.  Plots use this to check that a renderer calculates its
+     * data bounds in the standard way, so that the cached bounds can be
+     * extended item by item.
+     *
+     * @param c  the class.
+     * @param declaringClass  the class that declares the method.
+     * @param name  the method name.
+     * @param parameterType  the (single) parameter type.
+     *
+     * @return A boolean.
+     */
+    static boolean isInherited(Class c, Class declaringClass, String name,
+            Class parameterType) {
+        String key = c.getName() + "#" + declaringClass.getName() + "."
+                + name;
+        synchronized (INHERITED) {
+            Boolean result = (Boolean) INHERITED.get(key);
+            if (result == null) {
+                boolean b = false;
+                try {
+                    Method m = c.getMethod(name, new Class[] {parameterType});
+                    b = (m.getDeclaringClass() == declaringClass);
+                }
+                catch (NoSuchMethodException e) {
+                    // b stays false
+                }
+                result = (b ? Boolean.TRUE : Boolean.FALSE);
+                INHERITED.put(key, result);
+            }
+            return result.booleanValue();
+        }
+    }
+
+    /**
+     * The cached bounds for one dataset.
+     */
+    private static class Entry {
+
+        /** The dataset. */
+        Dataset dataset;
+
+        /** The renderer. */
+        Object renderer;
+
+        /** A flag that indicates whether domainBounds is valid. */
+        boolean domainValid;
+
+        /** The domain bounds. */
+        Range domainBounds;
+
+        /** A flag that indicates whether rangeBounds is valid. */
+        boolean rangeValid;
+
+        /** The range bounds. */
+        Range rangeBounds;
+
+        /**
+         * Creates a new entry with no bounds.
+         *
+         * @param dataset  the dataset.
+         * @param renderer  the renderer.
+         */
+        Entry(Dataset dataset, Object renderer) {
+            this.dataset = dataset;
+            this.renderer = renderer;
+        }
+
+    }
+
+}
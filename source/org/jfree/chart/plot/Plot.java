@@ -122,6 +122,8 @@
  *               taking into account orientation (DG);
  * 25-Mar-2008 : Added fireChangeEvent() method - see patch 1914411 (DG);
  * 15-Aug-2008 : Added setDrawingSupplier() method with notify flag (DG);
+ * 18-Oct-2026 : Implemented ChangeBatchParticipant (DG);
+ * 18-Oct-2026 : Pass the dataset change event on to plot listeners (DG);
  *
  */
 
@@ -154,11 +156,12 @@ import org.jfree.chart.EditableBackground;
 import org.jfree.chart.axis.AxisLocation;
 import org.jfree.chart.event.AxisChangeEvent;
 import org.jfree.chart.event.AxisChangeListener;
-import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.MarkerChangeEvent;
 import org.jfree.chart.event.MarkerChangeListener;
 import org.jfree.chart.event.PlotChangeEvent;
 import org.jfree.chart.event.PlotChangeListener;
+import org.jfree.data.general.ChangeBatch;
+import org.jfree.data.general.ChangeBatchParticipant;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetChangeListener;
 import org.jfree.data.general.DatasetGroup;
@@ -182,7 +185,7 @@ import org.jfree.util.PublicCloneable;
  */
 public abstract class Plot implements EditableBackground, AxisChangeListener,
         DatasetChangeListener, MarkerChangeListener, LegendItemSource,
-        PublicCloneable, Cloneable, Serializable {
+        PublicCloneable, Cloneable, Serializable, ChangeBatchParticipant {
 
     /** For serialization. */
     private static final long serialVersionUID = -8831571430103671324L;
@@ -278,6 +281,12 @@ public abstract class Plot implements EditableBackground, AxisChangeListener,
     /** Storage for registered change listeners. */
     private transient EventListenerList listenerList;
 
+    /**
+     * The event deferred while a {@link ChangeBatch} is open
+     * (<code>null</code> if there is none).
+     */
+    private transient PlotChangeEvent batchedEvent;
+
     /**
      * Creates a new plot.
      */
@@ -906,11 +915,46 @@ public abstract class Plot implements EditableBackground, AxisChangeListener,
     }
 
     /**
-     * Notifies all registered listeners that the plot has been modified.
+     * Notifies all registered listeners that the plot has been modified.  If
+     * a {@link ChangeBatch} is open, the event is merged with any other
+     * events deferred by this plot, and sent when the batch is closed.
      *
      * @param event  information about the change event.
      */
     public void notifyListeners(PlotChangeEvent event) {
+        if (this.batchedEvent != null) {
+            if (this.batchedEvent.getType() != event.getType()) {
+                this.batchedEvent = new PlotChangeEvent(this);
+            }
+            return;
+        }
+        if (ChangeBatch.defer(this, ChangeBatch.PLOT)) {
+            this.batchedEvent = event;
+            return;
+        }
+        dispatch(event);
+    }
+
+    /**
+     * Sends the change event that has been deferred during a batch (if any)
+     * to all registered listeners.
+     *
+     * @since 1.0.13
+     */
+    public void fireBatchedChange() {
+        PlotChangeEvent event = this.batchedEvent;
+        this.batchedEvent = null;
+        if (event != null) {
+            dispatch(event);
+        }
+    }
+
+    /**
+     * Sends a change event to all registered listeners.
+     *
+     * @param event  the event.
+     */
+    private void dispatch(PlotChangeEvent event) {
         Object[] listeners = this.listenerList.getListenerList();
         for (int i = listeners.length - 2; i >= 0; i -= 2) {
             if (listeners[i] == PlotChangeListener.class) {
@@ -1129,15 +1173,13 @@ public abstract class Plot implements EditableBackground, AxisChangeListener,
     /**
      * Receives notification of a change to the plot's dataset.
      * <P>
-     * The plot reacts by passing on a plot change event to all registered
-     * listeners.
+     * The plot reacts by passing on a plot change event, that carries the
+     * dataset change event, to all registered listeners.
      *
-     * @param event  information about the event (not used here).
+     * @param event  information about the event.
      */
     public void datasetChanged(DatasetChangeEvent event) {
-        PlotChangeEvent newEvent = new PlotChangeEvent(this);
-        newEvent.setType(ChartChangeEventType.DATASET_UPDATED);
-        notifyListeners(newEvent);
+        notifyListeners(new PlotChangeEvent(this, event));
     }
 
     /**
@@ -1284,6 +1326,7 @@ public abstract class Plot implements EditableBackground, AxisChangeListener,
         clone.drawingSupplier
             = (DrawingSupplier) ObjectUtilities.clone(this.drawingSupplier);
         clone.listenerList = new EventListenerList();
+        clone.batchedEvent = null;
         return clone;
 
     }
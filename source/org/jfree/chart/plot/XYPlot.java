@@ -213,6 +213,19 @@
  *               1868749 by Andrew Mickish (DG);
  * 18-Dec-2008 : Use ResourceBundleWrapper - see patch 1607918 by
  *               Jess Thrysoee (DG);
+ * 18-Oct-2026 : Pass a decimated view of the dataset to renderers that have
+ *               a decimation mode set (DG);
+ * 18-Oct-2026 : Added renderingThreadCount attribute, for drawing large
+ *               datasets in parallel (DG);
+ * 18-Oct-2026 : Cache the data bounds for each dataset, and update them
+ *               incrementally when items are added (DG);
+ * 18-Oct-2026 : Render from a snapshot of the dataset, if available (DG);
+ * 18-Oct-2026 : Report the drawing phases to the active RenderTimer (DG);
+ * 18-Oct-2026 : Pass the dataset change event on to plot listeners (DG);
+ * 18-Oct-2026 : Don't decimate for renderers that don't support it (DG);
+ * 18-Oct-2026 : End the timed phases in finally blocks (DG);
+ * 18-Oct-2026 : Documented that parallel rendering is not timed (DG);
+ * 18-Oct-2026 : Restore interrupt status in renderParallel() (DG);
  *
  */
 
@@ -222,13 +235,19 @@ import java.awt.AlphaComposite;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Composite;
+import java.awt.Font;
 import java.awt.Graphics2D;
+import java.awt.GraphicsDevice;
 import java.awt.Paint;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
 import java.awt.Shape;
 import java.awt.Stroke;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
@@ -243,18 +262,24 @@ import java.util.Map;
 import java.util.ResourceBundle;
 import java.util.Set;
 
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.LegendItem;
 import org.jfree.chart.LegendItemCollection;
 import org.jfree.chart.annotations.XYAnnotation;
 import org.jfree.chart.annotations.Annotation;
 import org.jfree.chart.axis.*;
-import org.jfree.chart.event.ChartChangeEventType;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.StandardEntityCollection;
 import org.jfree.chart.event.PlotChangeEvent;
+import org.jfree.chart.event.RenderPhase;
+import org.jfree.chart.event.RenderTimer;
 import org.jfree.chart.event.RendererChangeEvent;
 import org.jfree.chart.event.RendererChangeListener;
 import org.jfree.chart.renderer.RendererUtilities;
 import org.jfree.chart.renderer.ItemRenderer;
 import org.jfree.chart.renderer.xy.AbstractXYItemRenderer;
+import org.jfree.chart.renderer.xy.DecimatedXYDataset;
+import org.jfree.chart.renderer.xy.DecimationMode;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
 import org.jfree.chart.renderer.xy.XYItemRendererState;
 import org.jfree.chart.util.ResourceBundleWrapper;
@@ -437,6 +462,19 @@ public class XYPlot extends AbstractDomainRangePlot implements ValueAxisPlot, Zo
      */
     private int weight;
 
+    /**
+     * The number of threads used to draw the items in a dataset.
+     *
+     * @since 1.0.13
+     */
+    private int renderingThreadCount;
+
+    /**
+     * The minimum number of items that must be drawn before the work is
+     * shared between several threads.
+     */
+    private static final int PARALLEL_RENDERING_THRESHOLD = 10000;
+
     /**
      * Creates a new <code>XYPlot</code> instance with no dataset, no axes and
      * no renderer.  You should specify these items before using the plot.
@@ -464,6 +502,7 @@ public class XYPlot extends AbstractDomainRangePlot implements ValueAxisPlot, Zo
         super(dataset, domainAxis, rangeAxis, renderer);
 
         this.weight = 1;  // only relevant when this is a subplot
+        this.renderingThreadCount = 1;
 
         // allocate storage for datasets, axes and renderers (all optional)
         this.foregroundDomainMarkers = new HashMap();
@@ -781,6 +820,54 @@ public class XYPlot extends AbstractDomainRangePlot implements ValueAxisPlot, Zo
         fireChangeEvent();
     }
 
+    /**
+     * Returns the number of threads used to draw the items in each dataset.
+     * The default value is <code>1</code>.
+     *
+     * @return The thread count.
+     *
+     * @since 1.0.13
+     *
+     * @see #setRenderingThreadCount(int)
+     */
+    public int getRenderingThreadCount() {
+        return this.renderingThreadCount;
+    }
+
+    /**
+     * Sets the number of threads used to draw the items in each dataset, and
+     * sends a {@link PlotChangeEvent} to all registered listeners.  When the
+     * count is greater than <code>1</code>, the items are split into that
+     * many consecutive partitions (in the usual pass, series and item order)
+     * and each partition is drawn into its own image, then the images are
+     * drawn in order.  The entities for each partition are added to the
+     * entity collection in the same order.
+     * <P>
+     * The items are drawn sequentially (as usual) unless the renderer
+     * reports that it draws each item independently (see
+     * {@link AbstractXYItemRenderer#getDrawsItemsIndependently()}), the
+     * target is an image (rather than a printer or vector graphics device),
+     * there are at least 10,000 items to draw and no crosshair anchor is set.
+     * <P>
+     * The {@link org.jfree.chart.event.RenderTimer} is not used by the
+     * other threads, so when a dataset is drawn in parallel the timings
+     * cover the renderer as a whole (see the class description for
+     * {@link org.jfree.chart.event.RenderTimer}).
+     *
+     * @param count  the thread count (must be at least <code>1</code>).
+     *
+     * @since 1.0.13
+     *
+     * @see #getRenderingThreadCount()
+     */
+    public void setRenderingThreadCount(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Requires 'count' >= 1.");
+        }
+        this.renderingThreadCount = count;
+        fireChangeEvent();
+    }
+
     /**
      * Returns <code>true</code> if the domain minor gridlines are visible, and
      * <code>false<code> otherwise.
@@ -1793,11 +1880,23 @@ public class XYPlot extends AbstractDomainRangePlot implements ValueAxisPlot, Zo
         }
         else {
             // reserve space for the domain axes...
+            RenderTimer timer = RenderTimer.getActive();
             for (int i = 0; i < getDomainAxisCount(); i++) {
                 Axis axis = getDomainAxis(i);
                 if (axis != null) {
-                    RectangleEdge edge = getDomainAxisEdge(i);
-                    space = axis.reserveSpace(g2, this, plotArea, edge, space);
+                    if (timer != null) {
+                        timer.startPhase(RenderPhase.AXIS_LAYOUT, axis, i);
+                    }
+                    try {
+                        RectangleEdge edge = getDomainAxisEdge(i);
+                        space = axis.reserveSpace(g2, this, plotArea, edge,
+                                space);
+                    }
+                    finally {
+                        if (timer != null) {
+                            timer.endPhase();
+                        }
+                    }
                 }
             }
         }
@@ -1841,11 +1940,23 @@ public class XYPlot extends AbstractDomainRangePlot implements ValueAxisPlot, Zo
         }
         else {
             // reserve space for the range axes...
+            RenderTimer timer = RenderTimer.getActive();
             for (int i = 0; i < getRangeAxisCount(); i++) {
                 Axis axis = getRangeAxis(i);
                 if (axis != null) {
-                    RectangleEdge edge = getRangeAxisEdge(i);
-                    space = axis.reserveSpace(g2, this, plotArea, edge, space);
+                    if (timer != null) {
+                        timer.startPhase(RenderPhase.AXIS_LAYOUT, axis, i);
+                    }
+                    try {
+                        RectangleEdge edge = getRangeAxisEdge(i);
+                        space = axis.reserveSpace(g2, this, plotArea, edge,
+                                space);
+                    }
+                    finally {
+                        if (timer != null) {
+                            timer.endPhase();
+                        }
+                    }
                 }
             }
         }
@@ -1994,17 +2105,28 @@ public class XYPlot extends AbstractDomainRangePlot implements ValueAxisPlot, Zo
 
         // now draw annotations and render data items...
         boolean foundData = false;
+        RenderTimer timer = RenderTimer.getActive();
         DatasetRenderingOrder order = getDatasetRenderingOrder();
         if (order == DatasetRenderingOrder.FORWARD) {
 
             // draw background annotations
-            for (int i = 0; i < rendererCount; i++) {
-                XYItemRenderer r = getRenderer(i);
-                if (r != null) {
-                    ValueAxis domainAxis = getDomainAxisForDataset(i);
-                    ValueAxis rangeAxis = getRangeAxisForDataset(i);
-                    r.drawAnnotations(g2, dataArea, domainAxis, rangeAxis,
-                            Layer.BACKGROUND, info);
+            if (timer != null) {
+                timer.startPhase(RenderPhase.ANNOTATIONS, this);
+            }
+            try {
+                for (int i = 0; i < rendererCount; i++) {
+                    XYItemRenderer r = getRenderer(i);
+                    if (r != null) {
+                        ValueAxis domainAxis = getDomainAxisForDataset(i);
+                        ValueAxis rangeAxis = getRangeAxisForDataset(i);
+                        r.drawAnnotations(g2, dataArea, domainAxis, rangeAxis,
+                                Layer.BACKGROUND, info);
+                    }
+                }
+            }
+            finally {
+                if (timer != null) {
+                    timer.endPhase();
                 }
             }
 
@@ -2015,13 +2137,23 @@ public class XYPlot extends AbstractDomainRangePlot implements ValueAxisPlot, Zo
             }
 
             // draw foreground annotations
-            for (int i = 0; i < rendererCount; i++) {
-                XYItemRenderer r = getRenderer(i);
-                if (r != null) {
-                    ValueAxis domainAxis = getDomainAxisForDataset(i);
-                    ValueAxis rangeAxis = getRangeAxisForDataset(i);
-                    r.drawAnnotations(g2, dataArea, domainAxis, rangeAxis,
-                            Layer.FOREGROUND, info);
+            if (timer != null) {
+                timer.startPhase(RenderPhase.ANNOTATIONS, this);
+            }
+            try {
+                for (int i = 0; i < rendererCount; i++) {
+                    XYItemRenderer r = getRenderer(i);
+                    if (r != null) {
+                        ValueAxis domainAxis = getDomainAxisForDataset(i);
+                        ValueAxis rangeAxis = getRangeAxisForDataset(i);
+                        r.drawAnnotations(g2, dataArea, domainAxis, rangeAxis,
+                                Layer.FOREGROUND, info);
+                    }
+                }
+            }
+            finally {
+                if (timer != null) {
+                    timer.endPhase();
                 }
             }
 
@@ -2029,16 +2161,26 @@ public class XYPlot extends AbstractDomainRangePlot implements ValueAxisPlot, Zo
         else if (order == DatasetRenderingOrder.REVERSE) {
 
             // draw background annotations
-            for (int i = rendererCount - 1; i >= 0; i--) {
-                XYItemRenderer r = getRenderer(i);
-                if (i >= getDatasetCount()) { // we need the dataset to make
-                    continue;                 // a link to the axes
+            if (timer != null) {
+                timer.startPhase(RenderPhase.ANNOTATIONS, this);
+            }
+            try {
+                for (int i = rendererCount - 1; i >= 0; i--) {
+                    XYItemRenderer r = getRenderer(i);
+                    if (i >= getDatasetCount()) { // we need the dataset to make
+                        continue;                 // a link to the axes
+                    }
+                    if (r != null) {
+                        ValueAxis domainAxis = getDomainAxisForDataset(i);
+                        ValueAxis rangeAxis = getRangeAxisForDataset(i);
+                        r.drawAnnotations(g2, dataArea, domainAxis, rangeAxis,
+                                Layer.BACKGROUND, info);
+                    }
                 }
-                if (r != null) {
-                    ValueAxis domainAxis = getDomainAxisForDataset(i);
-                    ValueAxis rangeAxis = getRangeAxisForDataset(i);
-                    r.drawAnnotations(g2, dataArea, domainAxis, rangeAxis,
-                            Layer.BACKGROUND, info);
+            }
+            finally {
+                if (timer != null) {
+                    timer.endPhase();
                 }
             }
 
@@ -2048,16 +2190,26 @@ public class XYPlot extends AbstractDomainRangePlot implements ValueAxisPlot, Zo
             }
 
             // draw foreground annotations
-            for (int i = rendererCount - 1; i >= 0; i--) {
-                XYItemRenderer r = getRenderer(i);
-                if (i >= getDatasetCount()) { // we need the dataset to make
-                    continue;                 // a link to the axes
+            if (timer != null) {
+                timer.startPhase(RenderPhase.ANNOTATIONS, this);
+            }
+            try {
+                for (int i = rendererCount - 1; i >= 0; i--) {
+                    XYItemRenderer r = getRenderer(i);
+                    if (i >= getDatasetCount()) { // we need the dataset to make
+                        continue;                 // a link to the axes
+                    }
+                    if (r != null) {
+                        ValueAxis domainAxis = getDomainAxisForDataset(i);
+                        ValueAxis rangeAxis = getRangeAxisForDataset(i);
+                        r.drawAnnotations(g2, dataArea, domainAxis, rangeAxis,
+                                Layer.FOREGROUND, info);
+                    }
                 }
-                if (r != null) {
-                    ValueAxis domainAxis = getDomainAxisForDataset(i);
-                    ValueAxis rangeAxis = getRangeAxisForDataset(i);
-                    r.drawAnnotations(g2, dataArea, domainAxis, rangeAxis,
-                            Layer.FOREGROUND, info);
+            }
+            finally {
+                if (timer != null) {
+                    timer.endPhase();
                 }
             }
 
@@ -2117,7 +2269,17 @@ public class XYPlot extends AbstractDomainRangePlot implements ValueAxisPlot, Zo
             drawRangeMarkers(g2, dataArea, i, Layer.FOREGROUND);
         }
 
-        drawAnnotations(g2, dataArea, info);
+        if (timer != null) {
+            timer.startPhase(RenderPhase.ANNOTATIONS, this);
+        }
+        try {
+            drawAnnotations(g2, dataArea, info);
+        }
+        finally {
+            if (timer != null) {
+                timer.endPhase();
+            }
+        }
         g2.setClip(originalClip);
         g2.setComposite(originalComposite);
 
@@ -2359,6 +2521,7 @@ public class XYPlot extends AbstractDomainRangePlot implements ValueAxisPlot, Zo
         }
 
         Map axisStateMap = new HashMap();
+        RenderTimer timer = RenderTimer.getActive();
 
         // draw the top axes
         RectangleInsets axisOffset = getAxisOffset();
@@ -2367,8 +2530,19 @@ public class XYPlot extends AbstractDomainRangePlot implements ValueAxisPlot, Zo
         Iterator iterator = axisCollection.getAxesAtTop().iterator();
         while (iterator.hasNext()) {
             ValueAxis axis = (ValueAxis) iterator.next();
-            AxisState info = axis.draw(g2, cursor, plotArea, dataArea,
-                    RectangleEdge.TOP, plotState);
+            AxisState info;
+            if (timer != null) {
+                timer.startPhase(RenderPhase.AXIS_DRAW, axis);
+            }
+            try {
+                info = axis.draw(g2, cursor, plotArea, dataArea,
+                        RectangleEdge.TOP, plotState);
+            }
+            finally {
+                if (timer != null) {
+                    timer.endPhase();
+                }
+            }
             cursor = info.getCursor();
             axisStateMap.put(axis, info);
         }
@@ -2379,8 +2553,19 @@ public class XYPlot extends AbstractDomainRangePlot implements ValueAxisPlot, Zo
         iterator = axisCollection.getAxesAtBottom().iterator();
         while (iterator.hasNext()) {
             ValueAxis axis = (ValueAxis) iterator.next();
-            AxisState info = axis.draw(g2, cursor, plotArea, dataArea,
-                    RectangleEdge.BOTTOM, plotState);
+            AxisState info;
+            if (timer != null) {
+                timer.startPhase(RenderPhase.AXIS_DRAW, axis);
+            }
+            try {
+                info = axis.draw(g2, cursor, plotArea, dataArea,
+                        RectangleEdge.BOTTOM, plotState);
+            }
+            finally {
+                if (timer != null) {
+                    timer.endPhase();
+                }
+            }
             cursor = info.getCursor();
             axisStateMap.put(axis, info);
         }
@@ -2391,8 +2576,19 @@ public class XYPlot extends AbstractDomainRangePlot implements ValueAxisPlot, Zo
         iterator = axisCollection.getAxesAtLeft().iterator();
         while (iterator.hasNext()) {
             ValueAxis axis = (ValueAxis) iterator.next();
-            AxisState info = axis.draw(g2, cursor, plotArea, dataArea,
-                    RectangleEdge.LEFT, plotState);
+            AxisState info;
+            if (timer != null) {
+                timer.startPhase(RenderPhase.AXIS_DRAW, axis);
+            }
+            try {
+                info = axis.draw(g2, cursor, plotArea, dataArea,
+                        RectangleEdge.LEFT, plotState);
+            }
+            finally {
+                if (timer != null) {
+                    timer.endPhase();
+                }
+            }
             cursor = info.getCursor();
             axisStateMap.put(axis, info);
         }
@@ -2403,8 +2599,19 @@ public class XYPlot extends AbstractDomainRangePlot implements ValueAxisPlot, Zo
         iterator = axisCollection.getAxesAtRight().iterator();
         while (iterator.hasNext()) {
             ValueAxis axis = (ValueAxis) iterator.next();
-            AxisState info = axis.draw(g2, cursor, plotArea, dataArea,
-                    RectangleEdge.RIGHT, plotState);
+            AxisState info;
+            if (timer != null) {
+                timer.startPhase(RenderPhase.AXIS_DRAW, axis);
+            }
+            try {
+                info = axis.draw(g2, cursor, plotArea, dataArea,
+                        RectangleEdge.RIGHT, plotState);
+            }
+            finally {
+                if (timer != null) {
+                    timer.endPhase();
+                }
+            }
             cursor = info.getCursor();
             axisStateMap.put(axis, info);
         }
@@ -2432,7 +2639,7 @@ public class XYPlot extends AbstractDomainRangePlot implements ValueAxisPlot, Zo
             PlotRenderingInfo info, CrosshairState crosshairState) {
 
         boolean foundData = false;
-        XYDataset dataset = getDataset(index);
+        XYDataset dataset = (XYDataset) createSnapshot(getDataset(index));
         if (!DatasetUtilities.isEmptyOrNull(dataset)) {
             foundData = true;
             ValueAxis xAxis = getDomainAxisForDataset(index);
@@ -2448,68 +2655,540 @@ public class XYPlot extends AbstractDomainRangePlot implements ValueAxisPlot, Zo
                 }
             }
 
-            XYItemRendererState state = renderer.initialise(g2, dataArea, this,
-                    dataset, info);
-            int passCount = renderer.getPassCount();
+            RenderTimer timer = RenderTimer.getActive();
+            if (timer != null) {
+                timer.startPhase(RenderPhase.RENDERER, renderer, index);
+            }
+            try {
+                renderItems(g2, dataArea, info, crosshairState, renderer,
+                        dataset, xAxis, yAxis, timer);
+            }
+            finally {
+                if (timer != null) {
+                    timer.endPhase();
+                }
+            }
+        }
+        return foundData;
+    }
 
-            SeriesRenderingOrder seriesOrder = getSeriesRenderingOrder();
-            if (seriesOrder == SeriesRenderingOrder.REVERSE) {
-                //render series in reverse order
-                for (int pass = 0; pass < passCount; pass++) {
+    /**
+     * Draws the items in a dataset with a renderer.  This is called by
+     * {@link #render(Graphics2D, Rectangle2D, int, PlotRenderingInfo,
+     * CrosshairState)}.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the region in which the data is to be drawn.
+     * @param info  an optional object for collection dimension information.
+     * @param crosshairState  collects crosshair information
+     *                        (<code>null</code> permitted).
+     * @param renderer  the renderer.
+     * @param dataset  the dataset (a snapshot, if the dataset supports it).
+     * @param xAxis  the domain axis for the dataset.
+     * @param yAxis  the range axis for the dataset.
+     * @param timer  the active render timer (<code>null</code> permitted).
+     */
+    private void renderItems(Graphics2D g2, Rectangle2D dataArea,
+            PlotRenderingInfo info, CrosshairState crosshairState,
+            XYItemRenderer renderer, XYDataset dataset, ValueAxis xAxis,
+            ValueAxis yAxis, RenderTimer timer) {
+        XYItemRendererState state = renderer.initialise(g2, dataArea, this,
+                dataset, info);
+        int passCount = renderer.getPassCount();
+
+        // if the renderer permits it, pass a decimated view of the
+        // dataset to the renderer...
+        XYDataset data = dataset;
+        DecimatedXYDataset decimated = decimate(dataset, renderer, state,
+                xAxis, dataArea);
+        if (decimated != null) {
+            data = decimated;
+        }
+        if (renderParallel(g2, dataArea, info, crosshairState, renderer,
+                state, data, xAxis, yAxis)) {
+            return;
+        }
+
+        SeriesRenderingOrder seriesOrder = getSeriesRenderingOrder();
+        if (seriesOrder == SeriesRenderingOrder.REVERSE) {
+            //render series in reverse order
+            for (int pass = 0; pass < passCount; pass++) {
+                if (timer != null) {
+                    timer.startPhase(RenderPhase.RENDERER_PASS, renderer,
+                            pass);
+                }
+                try {
                     int seriesCount = dataset.getSeriesCount();
                     for (int series = seriesCount - 1; series >= 0; series--) {
                         int firstItem = 0;
-                        int lastItem = dataset.getItemCount(series) - 1;
+                        int lastItem = data.getItemCount(series) - 1;
                         if (lastItem == -1) {
                             continue;
                         }
                         if (state.getProcessVisibleItemsOnly()) {
                             int[] itemBounds = RendererUtilities.findLiveItems(
-                                    dataset, series, xAxis.getLowerBound(),
+                                    data, series, xAxis.getLowerBound(),
                                     xAxis.getUpperBound());
                             firstItem = itemBounds[0];
                             lastItem = itemBounds[1];
                         }
-                        state.startSeriesPass(dataset, series, firstItem,
+                        if (timer != null) {
+                            int drawn = Math.max(lastItem - firstItem + 1, 0);
+                            timer.countItems(drawn,
+                                    data.getItemCount(series) - drawn);
+                        }
+                        state.startSeriesPass(data, series, firstItem,
                                 lastItem, pass, passCount);
                         for (int item = firstItem; item <= lastItem; item++) {
                             renderer.drawItem(g2, state, dataArea, info,
-                                    this, xAxis, yAxis, dataset, series, item,
+                                    this, xAxis, yAxis, data, series, item,
                                     crosshairState, pass);
                         }
-                        state.endSeriesPass(dataset, series, firstItem,
+                        state.endSeriesPass(data, series, firstItem,
                                 lastItem, pass, passCount);
                     }
                 }
+                finally {
+                    if (timer != null) {
+                        timer.endPhase();
+                    }
+                }
             }
-            else {
-                //render series in forward order
-                for (int pass = 0; pass < passCount; pass++) {
+        }
+        else {
+            //render series in forward order
+            for (int pass = 0; pass < passCount; pass++) {
+                if (timer != null) {
+                    timer.startPhase(RenderPhase.RENDERER_PASS, renderer,
+                            pass);
+                }
+                try {
                     int seriesCount = dataset.getSeriesCount();
                     for (int series = 0; series < seriesCount; series++) {
                         int firstItem = 0;
-                        int lastItem = dataset.getItemCount(series) - 1;
+                        int lastItem = data.getItemCount(series) - 1;
                         if (state.getProcessVisibleItemsOnly()) {
                             int[] itemBounds = RendererUtilities.findLiveItems(
-                                    dataset, series, xAxis.getLowerBound(),
+                                    data, series, xAxis.getLowerBound(),
                                     xAxis.getUpperBound());
                             firstItem = itemBounds[0];
                             lastItem = itemBounds[1];
                         }
-                        state.startSeriesPass(dataset, series, firstItem,
+                        if (timer != null) {
+                            int drawn = Math.max(lastItem - firstItem + 1, 0);
+                            timer.countItems(drawn,
+                                    data.getItemCount(series) - drawn);
+                        }
+                        state.startSeriesPass(data, series, firstItem,
                                 lastItem, pass, passCount);
                         for (int item = firstItem; item <= lastItem; item++) {
                             renderer.drawItem(g2, state, dataArea, info,
-                                    this, xAxis, yAxis, dataset, series, item,
+                                    this, xAxis, yAxis, data, series, item,
                                     crosshairState, pass);
                         }
-                        state.endSeriesPass(dataset, series, firstItem,
+                        state.endSeriesPass(data, series, firstItem,
                                 lastItem, pass, passCount);
                     }
                 }
+                finally {
+                    if (timer != null) {
+                        timer.endPhase();
+                    }
+                }
             }
         }
-        return foundData;
+    }
+
+    /**
+     * Returns a view of the dataset in which each series that contains many
+     * more (visible) items than there are pixels in the data area is reduced
+     * according to the renderer's decimation mode.
+     *
+     * @param dataset  the dataset.
+     * @param renderer  the renderer.
+     * @param state  the renderer state.
+     * @param xAxis  the domain axis for the dataset.
+     * @param dataArea  the data area.
+     *
+     * @return The view, or <code>null</code> if no series is decimated.
+     *
+     * @see AbstractXYItemRenderer#setDecimationMode(DecimationMode)
+     */
+    private DecimatedXYDataset decimate(XYDataset dataset,
+            XYItemRenderer renderer, XYItemRendererState state,
+            ValueAxis xAxis, Rectangle2D dataArea) {
+        if (!(renderer instanceof AbstractXYItemRenderer)) {
+            return null;
+        }
+        AbstractXYItemRenderer r = (AbstractXYItemRenderer) renderer;
+        DecimationMode mode = r.getDecimationMode();
+        if (DecimationMode.NONE.equals(mode) || !r.getSupportsDecimation()) {
+            return null;
+        }
+        double pixels = (getOrientation() == PlotOrientation.VERTICAL
+                ? dataArea.getWidth() : dataArea.getHeight());
+        int threshold = 2 * (int) Math.ceil(pixels);
+        if (threshold < 4) {
+            return null;
+        }
+        RectangleEdge edge = getDomainAxisEdge();
+        int seriesCount = dataset.getSeriesCount();
+        int[][] items = new int[seriesCount][];
+        boolean decimated = false;
+        for (int series = 0; series < seriesCount; series++) {
+            int firstItem = 0;
+            int lastItem = dataset.getItemCount(series) - 1;
+            if (lastItem - firstItem + 1 <= threshold) {
+                continue;
+            }
+            if (state.getProcessVisibleItemsOnly()) {
+                int[] itemBounds = RendererUtilities.findLiveItems(dataset,
+                        series, xAxis.getLowerBound(), xAxis.getUpperBound());
+                firstItem = itemBounds[0];
+                lastItem = itemBounds[1];
+            }
+            if (lastItem - firstItem + 1 > threshold) {
+                if (DecimationMode.LTTB.equals(mode)) {
+                    items[series] = RendererUtilities.decimateLTTB(dataset,
+                            series, firstItem, lastItem, threshold);
+                }
+                else {
+                    items[series] = RendererUtilities.decimateMinMax(dataset,
+                            series, firstItem, lastItem, xAxis, dataArea,
+                            edge);
+                }
+                decimated = true;
+            }
+        }
+        return (decimated ? new DecimatedXYDataset(dataset, items) : null);
+    }
+
+    /**
+     * Draws the items in a dataset using several threads, if this is
+     * possible.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the region in which the data is to be drawn.
+     * @param info  an optional object for collection dimension information.
+     * @param crosshairState  collects crosshair information
+     *                        (<code>null</code> permitted).
+     * @param renderer  the renderer.
+     * @param state  the renderer state.
+     * @param dataset  the dataset.
+     * @param xAxis  the domain axis.
+     * @param yAxis  the range axis.
+     *
+     * @return A boolean that indicates whether or not the items were drawn
+     *     (if <code>false</code>, the caller should draw them sequentially).
+     *
+     * @see #setRenderingThreadCount(int)
+     */
+    private boolean renderParallel(Graphics2D g2, Rectangle2D dataArea,
+            PlotRenderingInfo info, CrosshairState crosshairState,
+            XYItemRenderer renderer, XYItemRendererState state,
+            XYDataset dataset, ValueAxis xAxis, ValueAxis yAxis) {
+
+        if (this.renderingThreadCount < 2) {
+            return false;
+        }
+        if (!(renderer instanceof AbstractXYItemRenderer)) {
+            return false;
+        }
+        AbstractXYItemRenderer r = (AbstractXYItemRenderer) renderer;
+        if (!r.getDrawsItemsIndependently()
+                || !(r instanceof PublicCloneable)) {
+            return false;
+        }
+        if (g2.getDeviceConfiguration().getDevice().getType()
+                != GraphicsDevice.TYPE_IMAGE_BUFFER) {
+            return false;
+        }
+        Composite composite = g2.getComposite();
+        if (!(composite instanceof AlphaComposite) || ((AlphaComposite)
+                composite).getRule() != AlphaComposite.SRC_OVER) {
+            return false;
+        }
+        if (crosshairState != null && crosshairState.getAnchor() != null) {
+            return false;
+        }
+
+        // list the series passes in the order that they would be drawn...
+        List passes = new ArrayList();
+        int total = 0;
+        int available = 0;
+        int passCount = renderer.getPassCount();
+        int seriesCount = dataset.getSeriesCount();
+        boolean reverse
+                = (getSeriesRenderingOrder() == SeriesRenderingOrder.REVERSE);
+        for (int pass = 0; pass < passCount; pass++) {
+            for (int i = 0; i < seriesCount; i++) {
+                int series = (reverse ? seriesCount - 1 - i : i);
+                int firstItem = 0;
+                int lastItem = dataset.getItemCount(series) - 1;
+                if (lastItem == -1) {
+                    continue;
+                }
+                available += lastItem + 1;
+                if (state.getProcessVisibleItemsOnly()) {
+                    int[] itemBounds = RendererUtilities.findLiveItems(
+                            dataset, series, xAxis.getLowerBound(),
+                            xAxis.getUpperBound());
+                    firstItem = itemBounds[0];
+                    lastItem = itemBounds[1];
+                }
+                passes.add(new int[] {pass, series, firstItem, lastItem});
+                total += lastItem - firstItem + 1;
+            }
+        }
+        if (total < PARALLEL_RENDERING_THRESHOLD) {
+            return false;
+        }
+        Rectangle bounds = g2.getTransform().createTransformedShape(
+                dataArea).getBounds();
+        if (bounds.isEmpty()) {
+            return false;
+        }
+
+        // look up the series attributes now, since the renderer may update
+        // them (and the drawing supplier) on first use...
+        for (int i = 0; i < passes.size(); i++) {
+            int series = ((int[]) passes.get(i))[1];
+            r.lookupSeriesPaint(series);
+            r.lookupSeriesFillPaint(series);
+            r.lookupSeriesOutlinePaint(series);
+            r.lookupSeriesStroke(series);
+            r.lookupSeriesOutlineStroke(series);
+            r.lookupSeriesShape(series);
+        }
+
+        // split the items into consecutive partitions...
+        int taskCount = this.renderingThreadCount;
+        int itemsPerTask = (total + taskCount - 1) / taskCount;
+        RenderingTask[] tasks = new RenderingTask[taskCount];
+        EntityCollection entities = state.getEntityCollection();
+        int p = 0;
+        int from = ((int[]) passes.get(0))[2];
+        for (int t = 0; t < taskCount; t++) {
+            AbstractXYItemRenderer clone = null;
+            try {
+                clone = (AbstractXYItemRenderer) ((PublicCloneable) r).clone();
+            }
+            catch (CloneNotSupportedException e) {
+                return false;
+            }
+            List segments = new ArrayList();
+            int remaining = itemsPerTask;
+            while (remaining > 0 && p < passes.size()) {
+                int[] pass = (int[]) passes.get(p);
+                int to = Math.min(pass[3], from + remaining - 1);
+                segments.add(new int[] {pass[0], pass[1], pass[2], pass[3],
+                        from, to});
+                remaining -= to - from + 1;
+                if (to == pass[3]) {
+                    p++;
+                    if (p < passes.size()) {
+                        from = ((int[]) passes.get(p))[2];
+                    }
+                }
+                else {
+                    from = to + 1;
+                }
+            }
+            PlotRenderingInfo taskInfo = null;
+            if (info != null) {
+                taskInfo = new PlotRenderingInfo(new ChartRenderingInfo(
+                        entities != null ? new StandardEntityCollection()
+                        : null));
+                taskInfo.setPlotArea(info.getPlotArea());
+                taskInfo.setDataArea(info.getDataArea());
+            }
+            tasks[t] = new RenderingTask(g2, bounds, dataArea, taskInfo,
+                    clone, dataset, xAxis, yAxis, segments, passCount);
+        }
+
+        // draw each partition, using the current thread for the first one...
+        Thread[] threads = new Thread[taskCount];
+        for (int t = 1; t < taskCount; t++) {
+            threads[t] = new Thread(tasks[t], "XYPlot-render-" + t);
+            threads[t].start();
+        }
+        tasks[0].run();
+        boolean interrupted = false;
+        for (int t = 1; t < taskCount; t++) {
+            boolean joined = false;
+            while (!joined) {
+                try {
+                    threads[t].join();
+                    joined = true;
+                }
+                catch (InterruptedException e) {
+                    // keep waiting, the layers are needed, but restore the
+                    // interrupt status afterwards
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        for (int t = 0; t < taskCount; t++) {
+            if (tasks[t].error instanceof RuntimeException) {
+                throw (RuntimeException) tasks[t].error;
+            }
+            else if (tasks[t].error instanceof Error) {
+                throw (Error) tasks[t].error;
+            }
+        }
+
+        // combine the layers and entities in order...
+        AffineTransform savedTransform = g2.getTransform();
+        g2.setTransform(new AffineTransform());
+        g2.setComposite(AlphaComposite.SrcOver);
+        for (int t = 0; t < taskCount; t++) {
+            g2.drawImage(tasks[t].layer, bounds.x, bounds.y, null);
+            if (entities != null) {
+                entities.addAll(
+                        tasks[t].info.getOwner().getEntityCollection());
+            }
+        }
+        g2.setTransform(savedTransform);
+        g2.setComposite(composite);
+        RenderTimer timer = RenderTimer.getActive();
+        if (timer != null) {
+            timer.countItems(total, available - total);
+        }
+        return true;
+    }
+
+    /**
+     * Draws a partition of the items in a dataset into an image layer (used
+     * by {@link XYPlot#renderParallel}).
+     */
+    private class RenderingTask implements Runnable {
+
+        /** The layer (in device space). */
+        private BufferedImage layer;
+
+        /** The layer bounds (in device space). */
+        private Rectangle bounds;
+
+        /** The transform for the target graphics device. */
+        private AffineTransform transform;
+
+        /** The rendering hints for the target graphics device. */
+        private RenderingHints hints;
+
+        /** The clip for the target graphics device. */
+        private Shape clip;
+
+        /** The composite for the target graphics device. */
+        private Composite composite;
+
+        /** The font for the target graphics device. */
+        private Font font;
+
+        /** The data area. */
+        private Rectangle2D dataArea;
+
+        /** The rendering info (possibly <code>null</code>). */
+        private PlotRenderingInfo info;
+
+        /** A renderer used only by this task. */
+        private XYItemRenderer renderer;
+
+        /** The dataset. */
+        private XYDataset dataset;
+
+        /** The domain axis. */
+        private ValueAxis xAxis;
+
+        /** The range axis. */
+        private ValueAxis yAxis;
+
+        /**
+         * The series passes (each an array containing the pass, series,
+         * first and last items in the pass, and the first and last items to
+         * draw).
+         */
+        private List segments;
+
+        /** The pass count. */
+        private int passCount;
+
+        /** An exception or error thrown while drawing. */
+        private Throwable error;
+
+        /**
+         * Creates a new task.
+         *
+         * @param g2  the target graphics device.
+         * @param bounds  the layer bounds (in device space).
+         * @param dataArea  the data area.
+         * @param info  the rendering info (<code>null</code> permitted).
+         * @param renderer  a renderer used only by this task.
+         * @param dataset  the dataset.
+         * @param xAxis  the domain axis.
+         * @param yAxis  the range axis.
+         * @param segments  the series passes to draw.
+         * @param passCount  the pass count.
+         */
+        RenderingTask(Graphics2D g2, Rectangle bounds, Rectangle2D dataArea,
+                PlotRenderingInfo info, XYItemRenderer renderer,
+                XYDataset dataset, ValueAxis xAxis, ValueAxis yAxis,
+                List segments, int passCount) {
+            this.bounds = bounds;
+            this.transform = g2.getTransform();
+            this.hints = (RenderingHints) g2.getRenderingHints().clone();
+            this.clip = g2.getClip();
+            this.composite = g2.getComposite();
+            this.font = g2.getFont();
+            this.dataArea = dataArea;
+            this.info = info;
+            this.renderer = renderer;
+            this.dataset = dataset;
+            this.xAxis = xAxis;
+            this.yAxis = yAxis;
+            this.segments = segments;
+            this.passCount = passCount;
+        }
+
+        /**
+         * Draws the items.
+         */
+        public void run() {
+            try {
+                this.layer = new BufferedImage(this.bounds.width,
+                        this.bounds.height, BufferedImage.TYPE_INT_ARGB_PRE);
+                Graphics2D g2 = this.layer.createGraphics();
+                g2.translate(-this.bounds.x, -this.bounds.y);
+                g2.transform(this.transform);
+                g2.setRenderingHints(this.hints);
+                g2.setClip(this.clip);
+                g2.setComposite(this.composite);
+                g2.setFont(this.font);
+                XYItemRendererState state = this.renderer.initialise(g2,
+                        this.dataArea, XYPlot.this, this.dataset, this.info);
+                CrosshairState crosshairState = new CrosshairState();
+                for (int i = 0; i < this.segments.size(); i++) {
+                    int[] s = (int[]) this.segments.get(i);
+                    state.startSeriesPass(this.dataset, s[1], s[2], s[3],
+                            s[0], this.passCount);
+                    for (int item = s[4]; item <= s[5]; item++) {
+                        this.renderer.drawItem(g2, state, this.dataArea,
+                                this.info, XYPlot.this, this.xAxis,
+                                this.yAxis, this.dataset, s[1], item,
+                                crosshairState, s[0]);
+                    }
+                    state.endSeriesPass(this.dataset, s[1], s[2], s[3], s[0],
+                            this.passCount);
+                }
+                g2.dispose();
+            }
+            catch (Throwable t) {
+                this.error = t;
+            }
+        }
+
     }
 
     /**
@@ -3015,48 +3694,118 @@ public class XYPlot extends AbstractDomainRangePlot implements ValueAxisPlot, Zo
         while (iterator.hasNext()) {
             XYDataset d = (XYDataset) iterator.next();
             if (d != null) {
-                XYItemRenderer r = getRendererForDataset(d);
-                if (isDomainAxis) {
-                    if (r != null) {
-                        result = Range.combine(result, r.findDomainBounds(d));
-                    }
-                    else {
-                        result = Range.combine(result,
-                                DatasetUtilities.findDomainBounds(d));
-                    }
-                }
-                else {
-                    if (r != null) {
-                        result = Range.combine(result, r.findRangeBounds(d));
-                    }
-                    else {
-                        result = Range.combine(result,
-                                DatasetUtilities.findRangeBounds(d));
-                    }
-                }
+                result = Range.combine(result, getDataBounds(d, isDomainAxis));
             }
         }
         return result;
 
     }
 
+    /**
+     * Calculates the domain or range bounds for a dataset, using the
+     * renderer's <code>findDomainBounds()</code> or
+     * <code>findRangeBounds()</code> method.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param renderer  the renderer (<code>null</code> permitted).
+     * @param domain  <code>true</code> for the domain bounds,
+     *     <code>false</code> for the range bounds.
+     *
+     * @return The bounds (possibly <code>null</code>).
+     *
+     * @since 1.0.13
+     */
+    protected Range calculateDataBounds(Dataset dataset,
+            ItemRenderer renderer, boolean domain) {
+        XYDataset d = (XYDataset) dataset;
+        XYItemRenderer r = (XYItemRenderer) renderer;
+        if (domain) {
+            if (r != null) {
+                return r.findDomainBounds(d);
+            }
+            return DatasetUtilities.findDomainBounds(d);
+        }
+        else {
+            if (r != null) {
+                return r.findRangeBounds(d);
+            }
+            return DatasetUtilities.findRangeBounds(d);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the renderer uses the data bounds
+     * calculated by {@link AbstractXYItemRenderer}, which are the bounds of
+     * the x and y-values of all the items.
+     *
+     * @param renderer  the renderer (<code>null</code> not permitted).
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.13
+     */
+    protected boolean hasItemBounds(ItemRenderer renderer) {
+        if (!(renderer instanceof AbstractXYItemRenderer)) {
+            return false;
+        }
+        Class c = renderer.getClass();
+        return DataBoundsCache.isInherited(c, AbstractXYItemRenderer.class,
+                "findDomainBounds", XYDataset.class)
+                && DataBoundsCache.isInherited(c,
+                AbstractXYItemRenderer.class, "findRangeBounds",
+                XYDataset.class);
+    }
+
+    /**
+     * Calculates the bounds of the x or y-values for a range of items in one
+     * series of a dataset.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param renderer  the renderer (<code>null</code> not permitted).
+     * @param series  the series index.
+     * @param firstItem  the index of the first item.
+     * @param lastItem  the index of the last item.
+     * @param domain  <code>true</code> for the domain bounds,
+     *     <code>false</code> for the range bounds.
+     *
+     * @return The bounds (possibly <code>null</code>).
+     *
+     * @since 1.0.13
+     */
+    protected Range calculateItemBounds(Dataset dataset,
+            ItemRenderer renderer, int series, int firstItem, int lastItem,
+            boolean domain) {
+        XYDataset d = (XYDataset) dataset;
+        if (series >= d.getSeriesCount()) {
+            return null;
+        }
+        int last = Math.min(lastItem, d.getItemCount(series) - 1);
+        if (domain) {
+            return DatasetUtilities.iterateDomainBounds(d, series, firstItem,
+                    last, false);
+        }
+        return DatasetUtilities.iterateRangeBounds(d, series, firstItem, last,
+                false);
+    }
+
     /**
      * Receives notification of a change to the plot's dataset.
      * <P>
-     * The axis ranges are updated if necessary.
+     * The axis ranges are updated if necessary.  Where the event reports
+     * that items were added to one series, the cached data bounds are
+     * extended to include the new items rather than recalculated.
      *
-     * @param event  information about the event (not used here).
+     * @param event  information about the event.
      */
     public void datasetChanged(DatasetChangeEvent event) {
+        updateDataBounds(event);
         configureDomainAxes();
         configureRangeAxes();
         if (getParent() != null) {
             getParent().datasetChanged(event);
         }
         else {
-            PlotChangeEvent e = new PlotChangeEvent(this);
-            e.setType(ChartChangeEventType.DATASET_UPDATED);
-            notifyListeners(e);
+            notifyListeners(new PlotChangeEvent(this, event));
         }
     }
 
@@ -3066,6 +3815,7 @@ public class XYPlot extends AbstractDomainRangePlot implements ValueAxisPlot, Zo
      * @param event  the event.
      */
     public void rendererChanged(RendererChangeEvent event) {
+        clearDataBounds();
         fireChangeEvent();
     }
 
@@ -3623,6 +4373,9 @@ public class XYPlot extends AbstractDomainRangePlot implements ValueAxisPlot, Zo
         if (!this.quadrantOrigin.equals(that.quadrantOrigin)) {
             return false;
         }
+        if (this.renderingThreadCount != that.renderingThreadCount) {
+            return false;
+        }
         for (int i = 0; i < 4; i++) {
             if (!PaintUtilities.equal(this.quadrantPaint[i],
                     that.quadrantPaint[i])) {
@@ -35,13 +35,18 @@
  * Changes
  * -------
  * 19-Apr-2007 : Version 1 (DG);
+ * 18-Oct-2026 : Added decimateMinMax() and decimateLTTB() methods (DG);
  *
  */
 
 package org.jfree.chart.renderer;
 
+import java.awt.geom.Rectangle2D;
+
+import org.jfree.chart.axis.ValueAxis;
 import org.jfree.data.DomainOrder;
 import org.jfree.data.xy.XYDataset;
+import org.jfree.ui.RectangleEdge;
 
 /**
  * Utility methods related to the rendering process.
@@ -244,4 +249,238 @@ public class RendererUtilities {
         return new int[] {i0, i1};
     }
 
+    /**
+     * Returns the indices of the items (from <code>firstItem</code> to
+     * <code>lastItem</code> inclusive) that need to be drawn to reproduce a
+     * line through all the items at the resolution of the output device.
+     * Consecutive items that fall in the same pixel column are reduced to
+     * the first, minimum, maximum and last items in the column.  Items with
+     * a <code>Double.NaN</code> x- or y-value are treated as a column of
+     * their own, so that gaps in the series are preserved.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param series  the series index.
+     * @param firstItem  the index of the first item.
+     * @param lastItem  the index of the last item.
+     * @param axis  the domain axis (<code>null</code> not permitted).
+     * @param area  the data area (<code>null</code> not permitted).
+     * @param edge  the domain axis edge (<code>null</code> not permitted).
+     *
+     * @return The item indices, in ascending order, always including
+     *     <code>firstItem</code> and <code>lastItem</code>.
+     *
+     * @since 1.0.13
+     *
+     * @see #decimateLTTB(XYDataset, int, int, int, int)
+     */
+    public static int[] decimateMinMax(XYDataset dataset, int series,
+            int firstItem, int lastItem, ValueAxis axis, Rectangle2D area,
+            RectangleEdge edge) {
+        if (lastItem < firstItem) {
+            return new int[0];
+        }
+        ItemList result = new ItemList(Math.min(lastItem - firstItem + 1,
+                1024));
+        int column = 0;
+        int runFirst = firstItem;
+        int runMin = -1;
+        int runMax = -1;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int item = firstItem; item <= lastItem; item++) {
+            double x = dataset.getXValue(series, item);
+            double y = dataset.getYValue(series, item);
+            int c = Integer.MIN_VALUE;
+            if (!Double.isNaN(x) && !Double.isNaN(y)) {
+                c = (int) Math.floor(axis.valueToJava2D(x, area, edge));
+            }
+            if (item == firstItem) {
+                column = c;
+            }
+            else if (c != column) {
+                result.addRun(runFirst, runMin, runMax, item - 1);
+                column = c;
+                runFirst = item;
+                runMin = -1;
+                runMax = -1;
+                min = Double.POSITIVE_INFINITY;
+                max = Double.NEGATIVE_INFINITY;
+            }
+            if (c != Integer.MIN_VALUE) {
+                if (y < min) {
+                    min = y;
+                    runMin = item;
+                }
+                if (y > max) {
+                    max = y;
+                    runMax = item;
+                }
+            }
+        }
+        result.addRun(runFirst, runMin, runMax, lastItem);
+        return result.toArray();
+    }
+
+    /**
+     * Returns the indices of at most <code>threshold</code> items (from
+     * <code>firstItem</code> to <code>lastItem</code> inclusive) selected
+     * using the Largest-Triangle-Three-Buckets algorithm.  The items are
+     * divided into equal sized buckets, and from each bucket the item that
+     * forms the largest triangle with the previously selected item and the
+     * average of the next bucket is kept.  Items with a
+     * <code>Double.NaN</code> y-value are only selected if a bucket contains
+     * nothing else.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param series  the series index.
+     * @param firstItem  the index of the first item.
+     * @param lastItem  the index of the last item.
+     * @param threshold  the maximum number of items to return (values less
+     *     than 3 are treated as "no limit").
+     *
+     * @return The item indices, in ascending order, always including
+     *     <code>firstItem</code> and <code>lastItem</code>.
+     *
+     * @since 1.0.13
+     *
+     * @see #decimateMinMax(XYDataset, int, int, int, ValueAxis, Rectangle2D,
+     *     RectangleEdge)
+     */
+    public static int[] decimateLTTB(XYDataset dataset, int series,
+            int firstItem, int lastItem, int threshold) {
+        int n = lastItem - firstItem + 1;
+        if (n <= 0) {
+            return new int[0];
+        }
+        if (threshold < 3 || n <= threshold) {
+            int[] result = new int[n];
+            for (int i = 0; i < n; i++) {
+                result[i] = firstItem + i;
+            }
+            return result;
+        }
+        int[] result = new int[threshold];
+        result[0] = firstItem;
+        int a = firstItem;
+        double every = (double) (n - 2) / (threshold - 2);
+        for (int i = 0; i < threshold - 2; i++) {
+            int start = firstItem + 1 + (int) Math.floor(i * every);
+            int end = Math.min(firstItem + 1 + (int) Math.floor((i + 1)
+                    * every), lastItem);
+            int nextEnd = Math.min(firstItem + 1 + (int) Math.floor((i + 2)
+                    * every), lastItem + 1);
+
+            // the average of the next bucket (or the last item)...
+            double avgX = 0.0;
+            double avgY = 0.0;
+            int count = 0;
+            for (int j = end; j < nextEnd; j++) {
+                double y = dataset.getYValue(series, j);
+                if (!Double.isNaN(y)) {
+                    avgX += dataset.getXValue(series, j);
+                    avgY += y;
+                    count++;
+                }
+            }
+            if (count > 0) {
+                avgX = avgX / count;
+                avgY = avgY / count;
+            }
+            double ax = dataset.getXValue(series, a);
+            double ay = dataset.getYValue(series, a);
+
+            // select the item in this bucket with the largest triangle...
+            int selected = start;
+            double maxArea = -1.0;
+            for (int j = start; j < end; j++) {
+                double x = dataset.getXValue(series, j);
+                double y = dataset.getYValue(series, j);
+                if (Double.isNaN(y)) {
+                    continue;
+                }
+                double area = 0.0;
+                if (count > 0 && !Double.isNaN(ay)) {
+                    area = Math.abs((ax - avgX) * (y - ay)
+                            - (ax - x) * (avgY - ay));
+                }
+                if (area > maxArea) {
+                    maxArea = area;
+                    selected = j;
+                }
+            }
+            result[i + 1] = selected;
+            a = selected;
+        }
+        result[threshold - 1] = lastItem;
+        return result;
+    }
+
+    /**
+     * A growable list of item indices used by the decimation methods.
+     */
+    private static class ItemList {
+
+        /** The storage. */
+        private int[] items;
+
+        /** The number of items in the list. */
+        private int count;
+
+        /**
+         * Creates a new list.
+         *
+         * @param capacity  the initial capacity.
+         */
+        ItemList(int capacity) {
+            this.items = new int[Math.max(capacity, 4)];
+        }
+
+        /**
+         * Adds the items for one pixel column.  The first and last items are
+         * always added, then the minimum and maximum items (if any) in
+         * index order, skipping duplicates.
+         *
+         * @param first  the first item.
+         * @param minItem  the minimum item (-1 if there is none).
+         * @param maxItem  the maximum item (-1 if there is none).
+         * @param last  the last item.
+         */
+        void addRun(int first, int minItem, int maxItem, int last) {
+            add(first);
+            add(Math.min(minItem, maxItem));
+            add(Math.max(minItem, maxItem));
+            add(last);
+        }
+
+        /**
+         * Adds an item index, unless it is not greater than the last index
+         * in the list.
+         *
+         * @param item  the item index.
+         */
+        private void add(int item) {
+            if (this.count > 0 && item <= this.items[this.count - 1]) {
+                return;
+            }
+            if (this.count == this.items.length) {
+                int[] grown = new int[this.items.length * 2];
+                System.arraycopy(this.items, 0, grown, 0, this.count);
+                this.items = grown;
+            }
+            this.items[this.count++] = item;
+        }
+
+        /**
+         * Returns the item indices in a new array.
+         *
+         * @return The item indices.
+         */
+        int[] toArray() {
+            int[] result = new int[this.count];
+            System.arraycopy(this.items, 0, result, 0, this.count);
+            return result;
+        }
+
+    }
+
 }
@@ -96,6 +96,7 @@
  * 17-Jun-2008 : Apply legend shape, font and paint attributes (DG);
  * 26-Jun-2008 : Added crosshair support (DG);
  * 25-Nov-2008 : Fixed bug in findRangeBounds() method (DG);
+ * 18-Oct-2026 : Draw item labels with the shared TextMeasurementCache (DG);
  *
  */
 
@@ -129,6 +130,7 @@ import org.jfree.chart.labels.StandardCategorySeriesLabelGenerator;
 import org.jfree.chart.plot.*;
 import org.jfree.chart.renderer.AbstractRenderer;
 import org.jfree.chart.urls.CategoryURLGenerator;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.data.Range;
 import org.jfree.data.category.CategoryDataset;
 import org.jfree.data.general.DatasetUtilities;
@@ -1385,7 +1387,8 @@ public abstract class AbstractCategoryItemRenderer extends AbstractRenderer
             }
             Point2D anchorPoint = calculateLabelAnchorPoint(
                     position.getItemLabelAnchor(), x, y, orientation);
-            TextUtilities.drawRotatedString(label, g2,
+            TextMeasurementCache.getSharedInstance().drawRotatedString(
+                    label, g2,
                     (float) anchorPoint.getX(), (float) anchorPoint.getY(),
                     position.getTextAnchor(),
                     position.getAngle(), position.getRotationAnchor());
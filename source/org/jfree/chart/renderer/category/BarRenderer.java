@@ -86,6 +86,7 @@
  * 24-Jun-2008 : Added barPainter mechanism (DG);
  * 26-Jun-2008 : Added crosshair support (DG);
  * 13-Aug-2008 : Added shadowPaint attribute (DG);
+ * 18-Oct-2026 : Draw item labels with the shared TextMeasurementCache (DG);
  *
  */
 
@@ -117,11 +118,11 @@ import org.jfree.chart.labels.ItemLabelPosition;
 import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.data.Range;
 import org.jfree.data.category.CategoryDataset;
 import org.jfree.data.general.DatasetUtilities;
 import org.jfree.io.SerialUtilities;
-import org.jfree.text.TextUtilities;
 import org.jfree.ui.GradientPaintTransformer;
 import org.jfree.ui.RectangleEdge;
 import org.jfree.ui.StandardGradientPaintTransformer;
@@ -1149,8 +1150,9 @@ public class BarRenderer extends AbstractCategoryItemRenderer
                 position.getItemLabelAnchor(), bar, plot.getOrientation());
 
         if (isInternalAnchor(position.getItemLabelAnchor())) {
-            Shape bounds = TextUtilities.calculateRotatedStringBounds(label,
-                    g2, (float) anchorPoint.getX(), (float) anchorPoint.getY(),
+            Shape bounds = TextMeasurementCache.getSharedInstance()
+                    .calculateRotatedStringBounds(label, g2,
+                    (float) anchorPoint.getX(), (float) anchorPoint.getY(),
                     position.getTextAnchor(), position.getAngle(),
                     position.getRotationAnchor());
 
@@ -1173,7 +1175,8 @@ public class BarRenderer extends AbstractCategoryItemRenderer
         }
 
         if (position != null) {
-            TextUtilities.drawRotatedString(label, g2,
+            TextMeasurementCache.getSharedInstance().drawRotatedString(
+                    label, g2,
                     (float) anchorPoint.getX(), (float) anchorPoint.getY(),
                     position.getTextAnchor(), position.getAngle(),
                     position.getRotationAnchor());
@@ -105,6 +105,10 @@
  *               account when the incoming area is null (DG);
  * 02-Jun-2008 : Added isPointInRect() method (DG);
  * 17-Jun-2008 : Apply legend shape, font and paint attributes (DG);
+ * 18-Oct-2026 : Added decimationMode attribute (DG);
+ * 18-Oct-2026 : Added getDrawsItemsIndependently() method (DG);
+ * 18-Oct-2026 : Draw item labels with the shared TextMeasurementCache (DG);
+ * 18-Oct-2026 : Added getSupportsDecimation() method (DG);
  *
  */
 
@@ -141,6 +145,7 @@ import org.jfree.chart.labels.XYToolTipGenerator;
 import org.jfree.chart.plot.*;
 import org.jfree.chart.renderer.AbstractRenderer;
 import org.jfree.chart.urls.XYURLGenerator;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetUtilities;
 import org.jfree.data.xy.XYDataset;
@@ -222,6 +227,14 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
     /** The legend item URL generator. */
     private XYSeriesLabelGenerator legendItemURLGenerator;
 
+    /**
+     * The decimation mode applied by the plot before items are passed to
+     * this renderer.
+     *
+     * @since 1.0.13
+     */
+    private DecimationMode decimationMode;
+
     /**
      * Creates a renderer where the tooltip generator and the URL generator are
      * both <code>null</code>.
@@ -238,6 +251,7 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
         this.defaultEntityRadius = 3;
         this.legendItemLabelGenerator = new StandardXYSeriesLabelGenerator(
                 "{0}");
+        this.decimationMode = DecimationMode.NONE;
     }
 
     /**
@@ -251,6 +265,25 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
         return 1;
     }
 
+    /**
+     * Returns <code>true</code> if this renderer draws each item without
+     * reference to any state built up from earlier items in the same series
+     * pass (such as a path or polygon), and without modifying any attributes
+     * of the renderer.  When this method returns <code>true</code>, the plot
+     * may draw separate partitions of the items concurrently, each with its
+     * own clone of the renderer.  The default implementation returns
+     * <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.13
+     *
+     * @see XYPlot#setRenderingThreadCount(int)
+     */
+    public boolean getDrawsItemsIndependently() {
+        return false;
+    }
+
     /**
      * Convenience method that wraps getPlot() and automatically casts the plot object to XYPlot
      * since it must be a XYPlot object in this case.
@@ -631,6 +664,64 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
         this.defaultEntityRadius = radius;
     }
 
+    /**
+     * Returns <code>true</code> if this renderer can draw the items from a
+     * {@link DecimatedXYDataset}, which implements {@link XYDataset} only.
+     * The {@link XYPlot} ignores the decimation mode (see
+     * {@link #setDecimationMode(DecimationMode)}) for renderers that return
+     * <code>false</code>, which includes renderers that need an
+     * {@link org.jfree.data.xy.IntervalXYDataset} or another extended
+     * dataset interface.  The default implementation returns
+     * <code>false</code>.
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.13
+     */
+    public boolean getSupportsDecimation() {
+        return false;
+    }
+
+    /**
+     * Returns the mode used by the {@link XYPlot} to reduce the number of
+     * items passed to this renderer when a series contains many more items
+     * than there are pixels in the data area.  The default value is
+     * {@link DecimationMode#NONE}.
+     *
+     * @return The decimation mode (never <code>null</code>).
+     *
+     * @since 1.0.13
+     *
+     * @see #setDecimationMode(DecimationMode)
+     */
+    public DecimationMode getDecimationMode() {
+        return this.decimationMode;
+    }
+
+    /**
+     * Sets the mode used by the {@link XYPlot} to reduce the number of items
+     * passed to this renderer and sends a {@link RendererChangeEvent} to all
+     * registered listeners.  Decimation is intended for renderers that join
+     * each item to the previous item, such as {@link XYLineAndShapeRenderer},
+     * {@link StandardXYItemRenderer} and {@link XYAreaRenderer}.  When it is
+     * enabled, the renderer receives a {@link DecimatedXYDataset} in place
+     * of the plot's dataset.  The mode is ignored for renderers that do not
+     * support decimation (see {@link #getSupportsDecimation()}).
+     *
+     * @param mode  the mode (<code>null</code> not permitted).
+     *
+     * @since 1.0.13
+     *
+     * @see #getDecimationMode()
+     */
+    public void setDecimationMode(DecimationMode mode) {
+        if (mode == null) {
+            throw new IllegalArgumentException("Null 'mode' argument.");
+        }
+        this.decimationMode = mode;
+        fireChangeEvent();
+    }
+
     /**
      * Returns the legend item label generator.
      *
@@ -1550,6 +1641,9 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
                 that.legendItemURLGenerator)) {
             return false;
         }
+        if (!this.decimationMode.equals(that.decimationMode)) {
+            return false;
+        }
         return super.equals(obj);
     }
 
@@ -1678,7 +1772,8 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
             // work out the label anchor point...
             Point2D anchorPoint = calculateLabelAnchorPoint(
                     position.getItemLabelAnchor(), x, y, orientation);
-            TextUtilities.drawRotatedString(label, g2,
+            TextMeasurementCache.getSharedInstance().drawRotatedString(
+                    label, g2,
                     (float) anchorPoint.getX(), (float) anchorPoint.getY(),
                     position.getTextAnchor(), position.getAngle(),
                     position.getRotationAnchor());
@@ -0,0 +1,214 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * DecimatedXYDataset.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Updated class description for item entities (DG);
+ *
+ */
+
+package org.jfree.chart.renderer.xy;
+
+import org.jfree.data.DomainOrder;
+import org.jfree.data.xy.AbstractXYDataset;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * A read-only view of an {@link XYDataset} that presents a subset of the
+ * items in some or all of the series.  The {@link org.jfree.chart.plot.XYPlot}
+ * class uses this to pass a decimated series to the renderer, so that
+ * renderers which join each item to the previous item continue to work
+ * unchanged.  Item entities created from this view refer to the underlying
+ * dataset and its item indices (see
+ * {@link org.jfree.chart.entity.XYItemEntity}).
+ *
+ * @since 1.0.13
+ *
+ * @see DecimationMode
+ */
+public class DecimatedXYDataset extends AbstractXYDataset {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2299600581583437472L;
+
+    /** The underlying dataset. */
+    private XYDataset source;
+
+    /**
+     * The indices of the items to include for each series
+     * (<code>null</code> entries indicate that all items are included).
+     */
+    private int[][] items;
+
+    /**
+     * Creates a new view.
+     *
+     * @param source  the underlying dataset (<code>null</code> not
+     *     permitted).
+     * @param items  an array containing, for each series, the (ascending)
+     *     indices of the items to include, or <code>null</code> to include
+     *     every item in that series (<code>null</code> not permitted).
+     */
+    public DecimatedXYDataset(XYDataset source, int[][] items) {
+        if (source == null) {
+            throw new IllegalArgumentException("Null 'source' argument.");
+        }
+        if (items == null) {
+            throw new IllegalArgumentException("Null 'items' argument.");
+        }
+        if (items.length != source.getSeriesCount()) {
+            throw new IllegalArgumentException(
+                    "Require one 'items' entry per series.");
+        }
+        this.source = source;
+        this.items = items;
+    }
+
+    /**
+     * Returns the underlying dataset.
+     *
+     * @return The underlying dataset (never <code>null</code>).
+     */
+    public XYDataset getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the index of an item in the underlying dataset.
+     *
+     * @param series  the series index.
+     * @param item  the item index in this view.
+     *
+     * @return The item index in the underlying dataset.
+     */
+    public int getSourceItem(int series, int item) {
+        int[] indices = this.items[series];
+        return (indices != null ? indices[item] : item);
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    public int getSeriesCount() {
+        return this.source.getSeriesCount();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index.
+     *
+     * @return The key for the series.
+     */
+    public Comparable getSeriesKey(int series) {
+        return this.source.getSeriesKey(series);
+    }
+
+    /**
+     * Returns the order of the domain (or X) values, which is the same as
+     * the order in the underlying dataset.
+     *
+     * @return The domain order.
+     */
+    public DomainOrder getDomainOrder() {
+        return this.source.getDomainOrder();
+    }
+
+    /**
+     * Returns the number of items in a series.
+     *
+     * @param series  the series index.
+     *
+     * @return The item count.
+     */
+    public int getItemCount(int series) {
+        int[] indices = this.items[series];
+        if (indices != null) {
+            return indices.length;
+        }
+        return this.source.getItemCount(series);
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    public Number getX(int series, int item) {
+        return this.source.getX(series, getSourceItem(series, item));
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int series, int item) {
+        return this.source.getXValue(series, getSourceItem(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The y-value.
+     */
+    public Number getY(int series, int item) {
+        return this.source.getY(series, getSourceItem(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The y-value.
+     */
+    public double getYValue(int series, int item) {
+        return this.source.getYValue(series, getSourceItem(series, item));
+    }
+
+}
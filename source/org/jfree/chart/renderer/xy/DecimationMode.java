@@ -0,0 +1,153 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------
+ * DecimationMode.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.chart.renderer.xy;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+
+/**
+ * Defines the tokens that indicate how the items in a series are reduced
+ * before they are passed to an {@link XYItemRenderer}, when there are many
+ * more items than pixels available to display them.
+ *
+ * @since 1.0.13
+ *
+ * @see AbstractXYItemRenderer#setDecimationMode(DecimationMode)
+ */
+public final class DecimationMode implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2745312618716440829L;
+
+    /** Pass every item to the renderer. */
+    public static final DecimationMode NONE
+            = new DecimationMode("DecimationMode.NONE");
+
+    /**
+     * For each pixel column, keep only the first, last, minimum and maximum
+     * items.  Lines drawn through the remaining items cover the same pixels
+     * as lines drawn through all the items (although the joins in a series
+     * path may differ slightly).
+     */
+    public static final DecimationMode MIN_MAX
+            = new DecimationMode("DecimationMode.MIN_MAX");
+
+    /**
+     * Keep a fixed number of items, chosen using the
+     * Largest-Triangle-Three-Buckets algorithm.  This gives a smaller result
+     * than {@link #MIN_MAX}, at the cost of some visual accuracy.
+     */
+    public static final DecimationMode LTTB
+            = new DecimationMode("DecimationMode.LTTB");
+
+    /** The name. */
+    private String name;
+
+    /**
+     * Private constructor.
+     *
+     * @param name  the name.
+     */
+    private DecimationMode(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns a string representing the object.
+     *
+     * @return The string (never <code>null</code>).
+     */
+    public String toString() {
+        return this.name;
+    }
+
+    /**
+     * Returns <code>true</code> if this object is equal to the specified
+     * object, and <code>false</code> otherwise.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof DecimationMode)) {
+            return false;
+        }
+        DecimationMode that = (DecimationMode) obj;
+        if (!this.name.equals(that.toString())) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        return this.name.hashCode();
+    }
+
+    /**
+     * Ensures that serialization returns the unique instances.
+     *
+     * @return The object.
+     *
+     * @throws ObjectStreamException if there is a problem.
+     */
+    private Object readResolve() throws ObjectStreamException {
+        if (this.equals(DecimationMode.NONE)) {
+            return DecimationMode.NONE;
+        }
+        else if (this.equals(DecimationMode.MIN_MAX)) {
+            return DecimationMode.MIN_MAX;
+        }
+        else if (this.equals(DecimationMode.LTTB)) {
+            return DecimationMode.LTTB;
+        }
+        return null;
+    }
+
+}
@@ -37,6 +37,8 @@
  * 21-Feb-2007 : Version 1 (DG);
  * 04-May-2007 : Set processVisibleItemsOnly flag to false (DG);
  * 11-Apr-2008 : New override for findRangeBounds() (DG);
+ * 18-Oct-2026 : Added getDrawsItemsIndependently() override (DG);
+ * 18-Oct-2026 : Added getSupportsDecimation() override (DG);
  *
  */
 
@@ -367,6 +369,34 @@ public class DeviationRenderer extends XYLineAndShapeRenderer {
         }
     }
 
+    /**
+     * Returns <code>false</code>, since the deviation band for a series is
+     * built up from all the items in the series.
+     *
+     * @return <code>false</code>.
+     *
+     * @since 1.0.13
+     *
+     * @see org.jfree.chart.plot.XYPlot#setRenderingThreadCount(int)
+     */
+    public boolean getDrawsItemsIndependently() {
+        return false;
+    }
+
+    /**
+     * Returns <code>false</code>, since this renderer requires an
+     * {@link org.jfree.data.xy.IntervalXYDataset}.
+     *
+     * @return <code>false</code>.
+     *
+     * @since 1.0.13
+     *
+     * @see #setDecimationMode(DecimationMode)
+     */
+    public boolean getSupportsDecimation() {
+        return false;
+    }
+
     /**
      * Tests this renderer for equality with an arbitrary object.
      *
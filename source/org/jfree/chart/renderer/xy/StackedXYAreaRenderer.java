@@ -63,6 +63,7 @@
  * 22-Mar-2007 : Fire change events in setShapePaint() and setShapeStroke()
  *               methods (DG);
  * 20-Apr-2007 : Updated getLegendItem() for renderer change (DG);
+ * 18-Oct-2026 : Added getSupportsDecimation() override (DG);
  *
  */
 
@@ -631,6 +632,20 @@ public class StackedXYAreaRenderer extends XYAreaRenderer
         return result;
     }
 
+    /**
+     * Returns <code>false</code>, since this renderer requires a
+     * {@link org.jfree.data.xy.TableXYDataset}.
+     *
+     * @return <code>false</code>.
+     *
+     * @since 1.0.13
+     *
+     * @see #setDecimationMode(DecimationMode)
+     */
+    public boolean getSupportsDecimation() {
+        return false;
+    }
+
     /**
      * Tests the renderer for equality with an arbitrary object.
      *
@@ -51,6 +51,7 @@
  *               Clayton) (DG);
  * 30-Nov-2006 : Added accessor methods for the roundXCoordinates flag (DG);
  * 02-Jun-2008 : Fixed bug with PlotOrientation.HORIZONTAL (DG);
+ * 18-Oct-2026 : Added getSupportsDecimation() override (DG);
  *
  */
 
@@ -532,6 +533,20 @@ public class StackedXYAreaRenderer2 extends XYAreaRenderer2
         return result;
     }
 
+    /**
+     * Returns <code>false</code>, since this renderer requires a
+     * {@link org.jfree.data.xy.TableXYDataset}.
+     *
+     * @return <code>false</code>.
+     *
+     * @since 1.0.13
+     *
+     * @see #setDecimationMode(DecimationMode)
+     */
+    public boolean getSupportsDecimation() {
+        return false;
+    }
+
     /**
      * Tests this renderer for equality with an arbitrary object.
      *
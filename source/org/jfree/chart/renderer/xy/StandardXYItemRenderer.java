@@ -104,6 +104,8 @@
  * 21-Nov-2007 : Deprecated override flag methods (DG);
  * 02-Jun-2008 : Fixed tooltips for data items at lower edges of data area (DG);
  * 17-Jun-2008 : Apply legend shape, font and paint attributes (DG);
+ * 18-Oct-2026 : Added getDrawsItemsIndependently() override (DG);
+ * 18-Oct-2026 : Added getSupportsDecimation() override (DG);
  *
  */
 
@@ -1002,6 +1004,34 @@ public class StandardXYItemRenderer extends AbstractXYItemRenderer
 
     }
 
+    /**
+     * Returns <code>true</code>, unless the lines for each series are drawn
+     * as a single path (see {@link #getDrawSeriesLineAsPath()}).
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.13
+     *
+     * @see org.jfree.chart.plot.XYPlot#setRenderingThreadCount(int)
+     */
+    public boolean getDrawsItemsIndependently() {
+        return !this.drawSeriesLineAsPath;
+    }
+
+    /**
+     * Returns <code>true</code>, since this renderer reads only the x and y
+     * values from the dataset.
+     *
+     * @return <code>true</code>.
+     *
+     * @since 1.0.13
+     *
+     * @see #setDecimationMode(DecimationMode)
+     */
+    public boolean getSupportsDecimation() {
+        return true;
+    }
+
     /**
      * Tests this renderer for equality with another object.
      *
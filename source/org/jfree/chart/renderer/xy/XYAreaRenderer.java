@@ -75,6 +75,7 @@
  * 18-May-2007 : Set dataset and seriesKey for LegendItem (DG);
  * 17-Jun-2008 : Apply legend font and paint attributes (DG);
  * 31-Dec-2008 : Fix for bug 2471906 - dashed outlines performance issue (DG);
+ * 18-Oct-2026 : Added getSupportsDecimation() override (DG);
  *
  */
 
@@ -610,6 +611,20 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
         return clone;
     }
 
+    /**
+     * Returns <code>true</code>, since this renderer reads only the x and y
+     * values from the dataset.
+     *
+     * @return <code>true</code>.
+     *
+     * @since 1.0.13
+     *
+     * @see #setDecimationMode(DecimationMode)
+     */
+    public boolean getSupportsDecimation() {
+        return true;
+    }
+
     /**
      * Tests this renderer for equality with an arbitrary object.
      *
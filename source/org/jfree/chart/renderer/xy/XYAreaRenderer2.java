@@ -75,6 +75,7 @@
  * 17-May-2007 : Set datasetIndex and seriesIndex in getLegendItem() (DG);
  * 18-May-2007 : Set dataset and seriesKey for LegendItem (DG);
  * 17-Jun-2008 : Apply legend font and paint attributes (DG);
+ * 18-Oct-2026 : Added getSupportsDecimation() override (DG);
  *
  */
 
@@ -413,6 +414,20 @@ public class XYAreaRenderer2 extends AbstractXYItemRenderer
 
     }
 
+    /**
+     * Returns <code>true</code>, since this renderer reads only the x and y
+     * values from the dataset.
+     *
+     * @return <code>true</code>.
+     *
+     * @since 1.0.13
+     *
+     * @see #setDecimationMode(DecimationMode)
+     */
+    public boolean getSupportsDecimation() {
+        return true;
+    }
+
     /**
      * Tests this renderer for equality with an arbitrary object.
      *
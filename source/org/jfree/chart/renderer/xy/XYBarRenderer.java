@@ -94,6 +94,8 @@
  * 19-Jun-2008 : Added findRangeBounds() method override to fix bug in default
  *               axis range (DG);
  * 24-Jun-2008 : Added new barPainter mechanism (DG);
+ * 18-Oct-2026 : Added getDrawsItemsIndependently() override (DG);
+ * 18-Oct-2026 : Draw item labels with the shared TextMeasurementCache (DG);
  *
  */
 
@@ -123,12 +125,12 @@ import org.jfree.chart.plot.CrosshairState;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetUtilities;
 import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.io.SerialUtilities;
-import org.jfree.text.TextUtilities;
 import org.jfree.ui.GradientPaintTransformer;
 import org.jfree.ui.RectangleEdge;
 import org.jfree.ui.StandardGradientPaintTransformer;
@@ -929,8 +931,9 @@ public class XYBarRenderer extends AbstractXYItemRenderer
                 position.getItemLabelAnchor(), bar, plot.getOrientation());
 
         if (isInternalAnchor(position.getItemLabelAnchor())) {
-            Shape bounds = TextUtilities.calculateRotatedStringBounds(label,
-                    g2, (float) anchorPoint.getX(), (float) anchorPoint.getY(),
+            Shape bounds = TextMeasurementCache.getSharedInstance()
+                    .calculateRotatedStringBounds(label, g2,
+                    (float) anchorPoint.getX(), (float) anchorPoint.getY(),
                     position.getTextAnchor(), position.getAngle(),
                     position.getRotationAnchor());
 
@@ -953,7 +956,8 @@ public class XYBarRenderer extends AbstractXYItemRenderer
         }
 
         if (position != null) {
-            TextUtilities.drawRotatedString(label, g2,
+            TextMeasurementCache.getSharedInstance().drawRotatedString(
+                    label, g2,
                     (float) anchorPoint.getX(), (float) anchorPoint.getY(),
                     position.getTextAnchor(), position.getAngle(),
                     position.getRotationAnchor());
@@ -1149,6 +1153,19 @@ public class XYBarRenderer extends AbstractXYItemRenderer
         return result;
     }
 
+    /**
+     * Returns <code>true</code>, since each bar is drawn independently.
+     *
+     * @return <code>true</code>.
+     *
+     * @since 1.0.13
+     *
+     * @see org.jfree.chart.plot.XYPlot#setRenderingThreadCount(int)
+     */
+    public boolean getDrawsItemsIndependently() {
+        return true;
+    }
+
     /**
      * Tests this renderer for equality with an arbitrary object.
      *
@@ -58,6 +58,7 @@
  * 18-May-2007 : Set dataset and seriesKey for LegendItem (DG);
  * 13-Jun-2007 : Fixed seriesVisibility bug (DG);
  * 17-Jun-2008 : Apply legend shape, font and paint attributes (DG);
+ * 18-Oct-2026 : Added getDrawsItemsIndependently() override (DG);
  *
  */
 
@@ -324,6 +325,19 @@ public class XYBubbleRenderer extends AbstractXYItemRenderer
         return result;
     }
 
+    /**
+     * Returns <code>true</code>, since each bubble is drawn independently.
+     *
+     * @return <code>true</code>.
+     *
+     * @since 1.0.13
+     *
+     * @see org.jfree.chart.plot.XYPlot#setRenderingThreadCount(int)
+     */
+    public boolean getDrawsItemsIndependently() {
+        return true;
+    }
+
     /**
      * Tests this renderer for equality with an arbitrary object.
      *
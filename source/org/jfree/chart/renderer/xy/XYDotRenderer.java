@@ -48,6 +48,7 @@
  * 09-Nov-2007 : Added legend shape attribute, plus override for
  *               getLegendItem() (DG);
  * 17-Jun-2008 : Apply legend shape, font and paint attributes (DG);
+ * 18-Oct-2026 : Added getDrawsItemsIndependently() override (DG);
  *
  */
 
@@ -327,6 +328,19 @@ public class XYDotRenderer extends AbstractXYItemRenderer
 
     }
 
+    /**
+     * Returns <code>true</code>, since each dot is drawn independently.
+     *
+     * @return <code>true</code>.
+     *
+     * @since 1.0.13
+     *
+     * @see org.jfree.chart.plot.XYPlot#setRenderingThreadCount(int)
+     */
+    public boolean getDrawsItemsIndependently() {
+        return true;
+    }
+
     /**
      * Tests this renderer for equality with an arbitrary object.  This method
      * returns <code>true</code> if and only if:
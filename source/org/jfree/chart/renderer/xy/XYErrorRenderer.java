@@ -37,6 +37,7 @@
  * 25-Oct-2006 : Version 1 (DG);
  * 23-Mar-2007 : Check item visibility before drawing error bars - see bug
  *               1686178 (DG);
+ * 18-Oct-2026 : Added getSupportsDecimation() override (DG);
  *
  */
 
@@ -350,6 +351,20 @@ public class XYErrorRenderer extends XYLineAndShapeRenderer {
                 dataset, series, item, crosshairState, pass);
     }
 
+    /**
+     * Returns <code>false</code>, since this renderer requires an
+     * {@link org.jfree.data.xy.IntervalXYDataset}.
+     *
+     * @return <code>false</code>.
+     *
+     * @since 1.0.13
+     *
+     * @see #setDecimationMode(DecimationMode)
+     */
+    public boolean getSupportsDecimation() {
+        return false;
+    }
+
     /**
      * Tests this instance for equality with an arbitrary object.
      *
@@ -64,6 +64,8 @@
  * 02-Jun-2008 : Fixed tooltips at lower edges of data area (DG);
  * 17-Jun-2008 : Apply legend shape, font and paint attributes (DG);
  * 19-Sep-2008 : Fixed bug with drawSeriesLineAsPath - patch by Greg Darke (DG);
+ * 18-Oct-2026 : Added getDrawsItemsIndependently() override (DG);
+ * 18-Oct-2026 : Added getSupportsDecimation() override (DG);
  *
  */
 
@@ -1295,6 +1297,36 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         return clone;
     }
 
+    /**
+     * Returns <code>true</code>, unless the lines for each series are drawn
+     * as a single path (see {@link #getDrawSeriesLineAsPath()}).  Each line
+     * segment is drawn using the previous item in the dataset, not state
+     * carried over from the previous call to <code>drawItem()</code>.
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.13
+     *
+     * @see org.jfree.chart.plot.XYPlot#setRenderingThreadCount(int)
+     */
+    public boolean getDrawsItemsIndependently() {
+        return !this.drawSeriesLineAsPath;
+    }
+
+    /**
+     * Returns <code>true</code>, since this renderer reads only the x and y
+     * values from the dataset.
+     *
+     * @return <code>true</code>.
+     *
+     * @since 1.0.13
+     *
+     * @see #setDecimationMode(DecimationMode)
+     */
+    public boolean getSupportsDecimation() {
+        return true;
+    }
+
     /**
      * Tests this renderer for equality with an arbitrary object.
      *
@@ -37,6 +37,7 @@
  * --------
  * 17-Sep-2008 : Version 1, based on a contribution from Martin Hoeller with
  *               amendments by David Gilbert (DG);
+ * 18-Oct-2026 : Added getDrawsItemsIndependently() override (DG);
  *
  */
 
@@ -506,6 +507,19 @@ public class XYShapeRenderer extends AbstractXYItemRenderer
         return p;
     }
 
+    /**
+     * Returns <code>true</code>, since each shape is drawn independently.
+     *
+     * @return <code>true</code>.
+     *
+     * @since 1.0.13
+     *
+     * @see org.jfree.chart.plot.XYPlot#setRenderingThreadCount(int)
+     */
+    public boolean getDrawsItemsIndependently() {
+        return true;
+    }
+
     /**
      * Tests this instance for equality with an arbitrary object.  This method
      * returns <code>true</code> if and only if:
@@ -39,6 +39,7 @@
  * 25-Jul-2007 : Version 1, contributed by Klaus Rheinwald (DG);
  * 03-Aug-2007 : Added new constructor (KR);
  * 25-Oct-2007 : Prevent duplicate control points (KR);
+ * 18-Oct-2026 : Added getDrawsItemsIndependently() override (DG);
  *
  */
 
@@ -299,6 +300,20 @@ public class XYSplineRenderer extends XYLineAndShapeRenderer {
         }
     }
 
+    /**
+     * Returns <code>false</code>, since the spline for a series is calculated
+     * from all the items in the series.
+     *
+     * @return <code>false</code>.
+     *
+     * @since 1.0.13
+     *
+     * @see org.jfree.chart.plot.XYPlot#setRenderingThreadCount(int)
+     */
+    public boolean getDrawsItemsIndependently() {
+        return false;
+    }
+
     /**
      * Tests this renderer for equality with an arbitrary object.
      *
@@ -49,6 +49,7 @@
  * 14-Feb-2007 : Added equals() method override (DG);
  * 04-May-2007 : Set processVisibleItemsOnly flag to false (DG);
  * 14-May-2008 : Call addEntity() from within drawItem() (DG);
+ * 18-Oct-2026 : Added getSupportsDecimation() override (DG);
  *
  */
 
@@ -532,6 +533,20 @@ public class XYStepAreaRenderer extends AbstractXYItemRenderer
         }
     }
 
+    /**
+     * Returns <code>true</code>, since this renderer reads only the x and y
+     * values from the dataset.
+     *
+     * @return <code>true</code>.
+     *
+     * @since 1.0.13
+     *
+     * @see #setDecimationMode(DecimationMode)
+     */
+    public boolean getSupportsDecimation() {
+        return true;
+    }
+
     /**
      * Tests this renderer for equality with an arbitrary object.
      *
@@ -44,6 +44,7 @@
  * 11-Nov-2004 : Now uses ShapeUtilities to translate shapes (DG);
  * 11-Apr-2008 : New override for findRangeBounds() (DG);
  * 26-May-2008 : Added item label support (DG);
+ * 18-Oct-2026 : Draw item labels with the shared TextMeasurementCache (DG);
  *
  */
 
@@ -68,11 +69,11 @@ import org.jfree.chart.plot.CrosshairState;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetUtilities;
 import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.data.xy.XYDataset;
-import org.jfree.text.TextUtilities;
 import org.jfree.ui.RectangleEdge;
 import org.jfree.util.ObjectUtilities;
 import org.jfree.util.PublicCloneable;
@@ -285,7 +286,8 @@ public class YIntervalRenderer extends AbstractXYItemRenderer
         ItemLabelPosition position = getNegativeItemLabelPosition(series, item);
         Point2D anchorPoint = calculateLabelAnchorPoint(
                 position.getItemLabelAnchor(), x, y, orientation);
-        TextUtilities.drawRotatedString(label, g2,
+        TextMeasurementCache.getSharedInstance().drawRotatedString(
+                label, g2,
                 (float) anchorPoint.getX(), (float) anchorPoint.getY(),
                 position.getTextAnchor(), position.getAngle(),
                 position.getRotationAnchor());
@@ -0,0 +1,126 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------
+ * CachedChartImage.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+
+package org.jfree.chart.servlet;
+
+/**
+ * An encoded chart image held by a {@link ChartImageCache}.  Instances of
+ * this class are immutable, except that (to avoid copying) the array
+ * returned by {@link #getData()} is the one held by the cache, so it must
+ * not be modified by the caller.
+ *
+ * @since 1.0.13
+ */
+public class CachedChartImage {
+
+    /** The key. */
+    private String key;
+
+    /** The encoded image. */
+    private byte[] data;
+
+    /** The MIME type (possibly <code>null</code>). */
+    private String mimeType;
+
+    /** The time (in milliseconds) at which the image was cached. */
+    private long creationTime;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     * @param data  the encoded image (<code>null</code> not permitted).
+     * @param mimeType  the MIME type (<code>null</code> permitted).
+     * @param creationTime  the time at which the image was cached.
+     */
+    public CachedChartImage(String key, byte[] data, String mimeType,
+            long creationTime) {
+        if (key == null) {
+            throw new IllegalArgumentException("Null 'key' argument.");
+        }
+        if (data == null) {
+            throw new IllegalArgumentException("Null 'data' argument.");
+        }
+        this.key = key;
+        this.data = data;
+        this.mimeType = mimeType;
+        this.creationTime = creationTime;
+    }
+
+    /**
+     * Returns the key.
+     *
+     * @return The key (never <code>null</code>).
+     */
+    public String getKey() {
+        return this.key;
+    }
+
+    /**
+     * Returns the encoded image.  The array is not copied, so it must not be
+     * modified.
+     *
+     * @return The encoded image (never <code>null</code>).
+     */
+    public byte[] getData() {
+        return this.data;
+    }
+
+    /**
+     * Returns the MIME type.
+     *
+     * @return The MIME type (possibly <code>null</code>).
+     */
+    public String getMimeType() {
+        return this.mimeType;
+    }
+
+    /**
+     * Returns the time (in milliseconds since 1-Jan-1970) at which the image
+     * was added to the cache.
+     *
+     * @return The creation time.
+     */
+    public long getCreationTime() {
+        return this.creationTime;
+    }
+
+}
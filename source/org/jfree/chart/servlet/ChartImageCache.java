@@ -0,0 +1,388 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * ChartImageCache.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+
+package org.jfree.chart.servlet;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An in-memory cache of encoded chart images for use by
+ * {@link ServletUtilities} and the {@link DisplayChart} servlet.  The cache
+ * is bounded by the total number of bytes it holds - when a new image does
+ * not fit, the least recently used images are evicted.  Images can also be
+ * given a time-to-live, after which they are no longer returned by
+ * {@link #get(String)}.
+ * <P>
+ * Keys can be supplied by the caller or derived from the image content
+ * with {@link #createKey(byte[])} (so that identical images share a single
+ * cache entry).  Note that {@link DisplayChart} only serves keys that start
+ * with "public", or that are registered with the session's
+ * {@link ChartDeleter}, or that start with the one-time prefix - the same
+ * rules that apply to temporary files.
+ * <P>
+ * This class is thread-safe.
+ *
+ * @since 1.0.13
+ */
+public class ChartImageCache {
+
+    /** A node in the recently-used list. */
+    private static class Entry {
+
+        /** The cached image. */
+        CachedChartImage image;
+
+        /** The previous (more recently used) entry. */
+        Entry previous;
+
+        /** The next (less recently used) entry. */
+        Entry next;
+
+    }
+
+    /** Hexadecimal digits for {@link #createKey(byte[])}. */
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /** The maximum total size (in bytes) of the cached images. */
+    private long maximumSize;
+
+    /** The time-to-live in milliseconds (zero or negative for no limit). */
+    private long timeToLive;
+
+    /** The entries, by key. */
+    private Map entries;
+
+    /** A dummy entry at the head of the recently-used list. */
+    private Entry head;
+
+    /** The total size (in bytes) of the cached images. */
+    private long size;
+
+    /** The number of lookups that found an image. */
+    private long hitCount;
+
+    /** The number of lookups that did not find an image. */
+    private long missCount;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maximumSize  the maximum total size (in bytes) of the cached
+     *     images (must be positive).
+     * @param timeToLive  the time (in milliseconds) that an image remains in
+     *     the cache (zero or negative for no limit).
+     */
+    public ChartImageCache(long maximumSize, long timeToLive) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'maximumSize' to be positive.");
+        }
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive;
+        this.entries = new HashMap();
+        this.head = new Entry();
+        this.head.previous = this.head;
+        this.head.next = this.head;
+    }
+
+    /**
+     * Returns the maximum total size (in bytes) of the cached images.
+     *
+     * @return The maximum size.
+     */
+    public long getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * Returns the time (in milliseconds) that an image remains in the cache.
+     *
+     * @return The time-to-live (zero or negative means no limit).
+     */
+    public long getTimeToLive() {
+        return this.timeToLive;
+    }
+
+    /**
+     * Returns the total size (in bytes) of the images in the cache.
+     *
+     * @return The size.
+     */
+    public synchronized long getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of images in the cache (including any that have
+     * expired but have not been purged yet).
+     *
+     * @return The image count.
+     */
+    public synchronized int getImageCount() {
+        return this.entries.size();
+    }
+
+    /**
+     * Returns the number of calls to {@link #get(String)} that have found an
+     * image.
+     *
+     * @return The hit count.
+     */
+    public synchronized long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * Returns the number of calls to {@link #get(String)} that have not found
+     * an image.
+     *
+     * @return The miss count.
+     */
+    public synchronized long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * Resets the hit and miss counters to zero.
+     */
+    public synchronized void resetStatistics() {
+        this.hitCount = 0;
+        this.missCount = 0;
+    }
+
+    /**
+     * Adds an image to the cache, replacing any image with the same key.
+     * If necessary, the least recently used images are evicted to make room.
+     * An image that is larger than the maximum size of the cache is not
+     * stored.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     * @param data  the encoded image (<code>null</code> not permitted).  The
+     *     array is not copied, so it should not be modified after it has
+     *     been added to the cache.
+     * @param mimeType  the MIME type (<code>null</code> permitted).
+     *
+     * @return The cached image.
+     */
+    public synchronized CachedChartImage put(String key, byte[] data,
+            String mimeType) {
+        CachedChartImage image = new CachedChartImage(key, data, mimeType,
+                currentTime());
+        remove(key);
+        if (data.length > this.maximumSize) {
+            return image;
+        }
+        while (this.size + data.length > this.maximumSize) {
+            unlink(this.head.previous);
+        }
+        Entry entry = new Entry();
+        entry.image = image;
+        linkFirst(entry);
+        this.entries.put(key, entry);
+        this.size += data.length;
+        return image;
+    }
+
+    /**
+     * Returns the image with the specified key, or <code>null</code> if there
+     * is no such image (or it has expired).  The image becomes the most
+     * recently used one.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     *
+     * @return The image (possibly <code>null</code>).
+     */
+    public synchronized CachedChartImage get(String key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Null 'key' argument.");
+        }
+        Entry entry = (Entry) this.entries.get(key);
+        if (entry != null && isExpired(entry.image, currentTime())) {
+            unlink(entry);
+            entry = null;
+        }
+        if (entry == null) {
+            this.missCount++;
+            return null;
+        }
+        this.hitCount++;
+        if (this.head.next != entry) {
+            entry.previous.next = entry.next;
+            entry.next.previous = entry.previous;
+            linkFirst(entry);
+        }
+        return entry.image;
+    }
+
+    /**
+     * Removes the image with the specified key.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     *
+     * @return A boolean indicating whether or not an image was removed.
+     */
+    public synchronized boolean remove(String key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Null 'key' argument.");
+        }
+        Entry entry = (Entry) this.entries.get(key);
+        if (entry == null) {
+            return false;
+        }
+        unlink(entry);
+        return true;
+    }
+
+    /**
+     * Removes all expired images from the cache.  Expired images are never
+     * returned by {@link #get(String)}, but they continue to use memory
+     * until they are evicted or purged by this method.
+     *
+     * @return The number of images removed.
+     */
+    public synchronized int purgeExpired() {
+        if (this.timeToLive <= 0) {
+            return 0;
+        }
+        long now = currentTime();
+        int count = 0;
+        Entry entry = this.head.next;
+        while (entry != this.head) {
+            Entry next = entry.next;
+            if (isExpired(entry.image, now)) {
+                unlink(entry);
+                count++;
+            }
+            entry = next;
+        }
+        return count;
+    }
+
+    /**
+     * Removes all images from the cache.  The hit and miss counters are not
+     * changed.
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+        this.head.previous = this.head;
+        this.head.next = this.head;
+        this.size = 0;
+    }
+
+    /**
+     * Returns the current time in milliseconds.
+     *
+     * @return The current time.
+     */
+    protected long currentTime() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Returns <code>true</code> if the image has expired, and
+     * <code>false</code> otherwise.
+     *
+     * @param image  the image.
+     * @param now  the current time.
+     *
+     * @return A boolean.
+     */
+    private boolean isExpired(CachedChartImage image, long now) {
+        return this.timeToLive > 0
+                && now - image.getCreationTime() >= this.timeToLive;
+    }
+
+    /**
+     * Links an entry at the head of the recently-used list.
+     *
+     * @param entry  the entry.
+     */
+    private void linkFirst(Entry entry) {
+        entry.previous = this.head;
+        entry.next = this.head.next;
+        this.head.next.previous = entry;
+        this.head.next = entry;
+    }
+
+    /**
+     * Removes an entry from the cache.
+     *
+     * @param entry  the entry.
+     */
+    private void unlink(Entry entry) {
+        entry.previous.next = entry.next;
+        entry.next.previous = entry.previous;
+        this.entries.remove(entry.image.getKey());
+        this.size -= entry.image.getData().length;
+    }
+
+    /**
+     * Creates a key from the content of an encoded image, by taking a digest
+     * (MD5) of the bytes.  Identical images will have the same key.
+     *
+     * @param data  the encoded image (<code>null</code> not permitted).
+     *
+     * @return The key (a string of 32 hexadecimal digits).
+     */
+    public static String createKey(byte[] data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Null 'data' argument.");
+        }
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("MD5").digest(data);
+        }
+        catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support MD5
+            throw new RuntimeException(e.getMessage());
+        }
+        char[] result = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            result[2 * i] = HEX_DIGITS[(digest[i] >> 4) & 0x0F];
+            result[2 * i + 1] = HEX_DIGITS[digest[i] & 0x0F];
+        }
+        return new String(result);
+    }
+
+}
@@ -39,6 +39,7 @@
  *               ServletUtilities.java (DG);
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 02-Feb-2007 : Removed author tags all over JFreeChart sources (DG);
+ * 18-Oct-2026 : Serve charts from the in-memory cache, if there is one (DG);
  *
  */
 
@@ -55,8 +56,10 @@ import javax.servlet.http.HttpSession;
 
 /**
  * Servlet used for streaming charts to the client browser from the temporary
- * directory.  You need to add this servlet and mapping to your deployment
- * descriptor (web.xml) in order to get it to work.  The syntax is as follows:
+ * directory (or from the {@link ChartImageCache}, if one has been set with
+ * {@link ServletUtilities#setChartCache(ChartImageCache)}).  You need to add
+ * this servlet and mapping to your deployment descriptor (web.xml) in order
+ * to get it to work.  The syntax is as follows:
  * <xmp>
  * <servlet>
  *    <servlet-name>DisplayChart</servlet-name>
@@ -110,13 +113,6 @@ public class DisplayChart extends HttpServlet {
         //  This is to prevent access to the rest of the file system
         filename = ServletUtilities.searchReplace(filename, "..", "");
 
-        //  Check the file exists
-        File file = new File(System.getProperty("java.io.tmpdir"), filename);
-        if (!file.exists()) {
-            throw new ServletException("File '" + file.getAbsolutePath()
-                    + "' does not exist");
-        }
-
         //  Check that the graph being served was created by the current user
         //  or that it begins with "public"
         boolean isChartInUserList = false;
@@ -138,6 +134,34 @@ public class DisplayChart extends HttpServlet {
             isOneTimeChart = true;
         }
 
+        //  Try the cache first, if there is one
+        ChartImageCache cache = ServletUtilities.getChartCache();
+        if (cache != null) {
+            CachedChartImage image = null;
+            if (isChartInUserList || isChartPublic || isOneTimeChart) {
+                image = cache.get(filename);
+            }
+            if (image != null) {
+                ServletUtilities.sendCachedImage(image, response);
+                if (isOneTimeChart) {
+                    cache.remove(filename);
+                    new File(System.getProperty("java.io.tmpdir"),
+                            filename).delete();
+                }
+                return;
+            }
+            if (!ServletUtilities.isDiskFallback()) {
+                throw new ServletException("Chart image not found");
+            }
+        }
+
+        //  Check the file exists
+        File file = new File(System.getProperty("java.io.tmpdir"), filename);
+        if (!file.exists()) {
+            throw new ServletException("File '" + file.getAbsolutePath()
+                    + "' does not exist");
+        }
+
         if (isChartInUserList || isChartPublic || isOneTimeChart) {
             //  Serve it up
             ServletUtilities.sendTempFile(file, response);
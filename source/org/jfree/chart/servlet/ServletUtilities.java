@@ -51,6 +51,8 @@
  * 10-Jan-2006 : Updated API docs and reformatted (DG);
  * 13-Sep-2006 : Format date in response header in English, not locale default
  *               (see bug 1557141) (DG);
+ * 18-Oct-2026 : Added optional in-memory chart image cache (DG);
+ * 18-Oct-2026 : Include the session or save in the chart cache keys (DG);
  *
  */
 
@@ -58,10 +60,13 @@ package org.jfree.chart.servlet;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
@@ -85,6 +90,21 @@ public class ServletUtilities {
     /** A prefix for "one time" charts. */
     private static String tempOneTimeFilePrefix = "jfreechart-onetime-";
 
+    /**
+     * The cache for chart images (if <code>null</code>, charts are saved in
+     * the temporary directory).
+     */
+    private static ChartImageCache chartCache;
+
+    /**
+     * A flag that controls whether or not charts are also written to the
+     * temporary directory when the cache is in use.
+     */
+    private static boolean diskFallback;
+
+    /** The number of "one-time" charts that have been stored in the cache. */
+    private static long oneTimeChartCount;
+
     /**
      * Returns the prefix for the temporary file names generated by this class.
      *
@@ -129,6 +149,71 @@ public class ServletUtilities {
         ServletUtilities.tempOneTimeFilePrefix = prefix;
     }
 
+    /**
+     * Returns the in-memory cache used for chart images.
+     *
+     * @return The cache (possibly <code>null</code>).
+     *
+     * @see #setChartCache(ChartImageCache)
+     *
+     * @since 1.0.13
+     */
+    public static ChartImageCache getChartCache() {
+        return ServletUtilities.chartCache;
+    }
+
+    /**
+     * Sets the in-memory cache used for chart images.  When a cache is set,
+     * the <code>saveChartAsXXX()</code> methods store the encoded chart in
+     * the cache (under a key derived from the image content and prefixed in
+     * the same way as the temporary file names) instead of writing a file,
+     * and the {@link DisplayChart} servlet serves images directly from the
+     * cache.  The key also identifies the session (or, for a "one-time"
+     * chart, the individual save), so that an image that is removed or
+     * deleted for one client is never shared with another.
+     *
+     * @param cache  the cache (<code>null</code> permitted, to save charts
+     *     in the temporary directory).
+     *
+     * @see #setDiskFallback(boolean)
+     *
+     * @since 1.0.13
+     */
+    public static void setChartCache(ChartImageCache cache) {
+        ServletUtilities.chartCache = cache;
+    }
+
+    /**
+     * Returns the flag that controls whether or not charts are also written
+     * to the temporary directory when a cache is in use.
+     *
+     * @return A boolean.
+     *
+     * @see #setDiskFallback(boolean)
+     *
+     * @since 1.0.13
+     */
+    public static boolean isDiskFallback() {
+        return ServletUtilities.diskFallback;
+    }
+
+    /**
+     * Sets the flag that controls whether or not charts are also written to
+     * the temporary directory when a cache is in use.  If this flag is set,
+     * the {@link DisplayChart} servlet looks in the temporary directory for
+     * images that are no longer in the cache, otherwise a request for such an
+     * image fails.  This flag has no effect when there is no cache.
+     *
+     * @param flag  the flag.
+     *
+     * @see #setChartCache(ChartImageCache)
+     *
+     * @since 1.0.13
+     */
+    public static void setDiskFallback(boolean flag) {
+        ServletUtilities.diskFallback = flag;
+    }
+
     /**
      * Saves the chart as a PNG format file in the temporary directory.
      *
@@ -177,11 +262,17 @@ public class ServletUtilities {
         if (chart == null) {
             throw new IllegalArgumentException("Null 'chart' argument.");
         }
-        ServletUtilities.createTempDir();
         String prefix = ServletUtilities.tempFilePrefix;
         if (session == null) {
             prefix = ServletUtilities.tempOneTimeFilePrefix;
         }
+        if (ServletUtilities.chartCache != null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ChartUtilities.writeChartAsPNG(out, chart, width, height, info);
+            return cacheChart(out.toByteArray(), prefix, ".png", "image/png",
+                    session);
+        }
+        ServletUtilities.createTempDir();
         File tempFile = File.createTempFile(prefix, ".png",
                 new File(System.getProperty("java.io.tmpdir")));
         ChartUtilities.saveChartAsPNG(tempFile, chart, width, height, info);
@@ -252,11 +343,17 @@ public class ServletUtilities {
             throw new IllegalArgumentException("Null 'chart' argument.");
         }
 
-        ServletUtilities.createTempDir();
         String prefix = ServletUtilities.tempFilePrefix;
         if (session == null) {
             prefix = ServletUtilities.tempOneTimeFilePrefix;
         }
+        if (ServletUtilities.chartCache != null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ChartUtilities.writeChartAsJPEG(out, chart, width, height, info);
+            return cacheChart(out.toByteArray(), prefix, ".jpeg",
+                    "image/jpeg", session);
+        }
+        ServletUtilities.createTempDir();
         File tempFile = File.createTempFile(prefix, ".jpeg",
                 new File(System.getProperty("java.io.tmpdir")));
         ChartUtilities.saveChartAsJPEG(tempFile, chart, width, height, info);
@@ -267,6 +364,66 @@ public class ServletUtilities {
 
     }
 
+    /**
+     * Stores an encoded chart in the cache (and, if the disk fallback is
+     * enabled, in the temporary directory) and registers it with the
+     * session.  The key is made from the image content and either the
+     * session id or, for a "one-time" chart (which is removed once it has
+     * been served), a number that is unique to this save.  Identical charts
+     * therefore share a cache entry only within a session.
+     *
+     * @param data  the encoded chart.
+     * @param prefix  the prefix for the key.
+     * @param suffix  the suffix for the key.
+     * @param mimeType  the MIME type.
+     * @param session  the HTTP session (<code>null</code> permitted).
+     *
+     * @return The key (which is also the file name, if the disk fallback is
+     *     enabled).
+     *
+     * @throws IOException if there is a problem saving the file.
+     */
+    private static String cacheChart(byte[] data, String prefix,
+            String suffix, String mimeType, HttpSession session)
+            throws IOException {
+
+        String owner;
+        if (session != null) {
+            owner = ChartImageCache.createKey(session.getId().getBytes());
+        }
+        else {
+            owner = Long.toHexString(nextOneTimeChart());
+        }
+        String key = prefix + ChartImageCache.createKey(data) + "-" + owner
+                + suffix;
+        ServletUtilities.chartCache.put(key, data, mimeType);
+        File file = new File(System.getProperty("java.io.tmpdir"), key);
+        if (ServletUtilities.diskFallback) {
+            ServletUtilities.createTempDir();
+            OutputStream out = new FileOutputStream(file);
+            try {
+                out.write(data);
+            }
+            finally {
+                out.close();
+            }
+        }
+        if (session != null) {
+            ServletUtilities.registerChartForDeletion(file, session);
+        }
+        return key;
+
+    }
+
+    /**
+     * Returns a number that identifies a "one-time" chart in the cache.
+     *
+     * @return A number that has not been returned before by this method.
+     */
+    private static synchronized long nextOneTimeChart() {
+        return ServletUtilities.oneTimeChartCount++;
+    }
+
     /**
      * Creates the temporary directory if it does not exist.  Throws a
      * <code>RuntimeException</code> if the temporary directory is
@@ -408,6 +565,38 @@ public class ServletUtilities {
         return;
     }
 
+    /**
+     * Writes a cached chart image to the HTTP response.
+     *
+     * @param image  the image (<code>null</code> not permitted).
+     * @param response  the HTTP response object.
+     *
+     * @throws IOException if there is an I/O problem.
+     *
+     * @since 1.0.13
+     */
+    public static void sendCachedImage(CachedChartImage image,
+            HttpServletResponse response) throws IOException {
+
+        if (image == null) {
+            throw new IllegalArgumentException("Null 'image' argument.");
+        }
+        byte[] data = image.getData();
+        if (image.getMimeType() != null) {
+            response.setHeader("Content-Type", image.getMimeType());
+        }
+        response.setHeader("Content-Length", String.valueOf(data.length));
+        SimpleDateFormat sdf = new SimpleDateFormat(
+                "EEE, dd MMM yyyy HH:mm:ss z", Locale.ENGLISH);
+        sdf.setTimeZone(TimeZone.getTimeZone("GMT"));
+        response.setHeader("Last-Modified",
+                sdf.format(new Date(image.getCreationTime())));
+        OutputStream out = response.getOutputStream();
+        out.write(data);
+        out.flush();
+        out.close();
+    }
+
     /**
      * Perform a search/replace operation on a String
      * There are String methods to do this since (JDK 1.4)
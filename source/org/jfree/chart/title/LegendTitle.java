@@ -54,6 +54,9 @@
  * 16-Mar-2007 : Updated border drawing for changes in AbstractBlock (DG);
  * 18-May-2007 : Pass seriesKey and dataset to legend item block (DG);
  * 15-Aug-2008 : Added getWrapper() method (DG);
+ * 18-Oct-2026 : Cache the legend item blocks and their arrangement (DG);
+ * 18-Oct-2026 : Register a weak listener with the sources, and don't
+ *               register clones (DG);
  *
  */
 
@@ -63,11 +66,15 @@ import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.Paint;
+import java.awt.font.FontRenderContext;
 import java.awt.geom.Rectangle2D;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.jfree.chart.LegendItem;
 import org.jfree.chart.LegendItemCollection;
@@ -82,12 +89,19 @@ import org.jfree.chart.block.ColumnArrangement;
 import org.jfree.chart.block.FlowArrangement;
 import org.jfree.chart.block.LabelBlock;
 import org.jfree.chart.block.RectangleConstraint;
+import org.jfree.chart.event.PlotChangeEvent;
+import org.jfree.chart.event.PlotChangeListener;
 import org.jfree.chart.event.TitleChangeEvent;
+import org.jfree.chart.plot.Plot;
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.io.SerialUtilities;
 import org.jfree.ui.RectangleAnchor;
 import org.jfree.ui.RectangleEdge;
 import org.jfree.ui.RectangleInsets;
 import org.jfree.ui.Size2D;
+import org.jfree.util.ObjectUtilities;
 import org.jfree.util.PaintUtilities;
 import org.jfree.util.PublicCloneable;
 
@@ -97,6 +111,19 @@ import org.jfree.util.PublicCloneable;
  * The title can be populated with legend items manually, or you can assign a
  * reference to the plot, in which case the legend items will be automatically
  * created to match the dataset(s).
+ * <P>
+ * The blocks for the legend items, and their arrangement, are cached.  When
+ * the sources are plots, the legend registers a {@link PlotChangeListener}
+ * with them and fetches the legend items again only after a change that
+ * might affect them: a change to the values in one series of a dataset
+ * leaves the legend alone, so a legend with a custom label generator that
+ * shows data values is not updated by such a change.  The listener holds
+ * the legend by a weak reference, so the plots do not keep the legend (or
+ * the chart it belongs to) reachable.  For other sources, and for a legend
+ * created by {@link #clone()}, the legend items are fetched each time the
+ * legend is arranged.  In both cases the blocks are created again only if
+ * the legend items have changed, and arranged again only if they have
+ * changed or the space available for the legend has changed.
  */
 public class LegendTitle extends Title
         implements Cloneable, PublicCloneable, Serializable {
@@ -161,6 +188,44 @@ public class LegendTitle extends Title
      */
     private BlockContainer wrapper;
 
+    /**
+     * A flag that indicates whether the legend items held by the sources are
+     * known to be the same as those the blocks were created from.  This is
+     * only ever set when all the sources are plots.
+     */
+    private transient boolean legendItemsValid;
+
+    /**
+     * The legend items that the blocks in the item container were created
+     * from, or <code>null</code> if the blocks must be created again.
+     */
+    private transient List cachedItems;
+
+    /**
+     * The listener registered with the sources that are plots, or
+     * <code>null</code> if the legend is not registered with its sources.
+     */
+    private transient SourceListener sourceListener;
+
+    /**
+     * The blocks that were added to the item container with the cached
+     * legend items (used to detect changes made to the container by other
+     * code).
+     */
+    private transient List cachedBlocks;
+
+    /**
+     * The content constraint for the last arrangement of the item container
+     * (<code>null</code> if the container must be arranged again).
+     */
+    private transient RectangleConstraint arrangedConstraint;
+
+    /** The font render context for the last arrangement. */
+    private transient FontRenderContext arrangedContext;
+
+    /** The size of the item container from the last arrangement. */
+    private transient Size2D arrangedSize;
+
     /**
      * Constructs a new (empty) legend for the specified source.
      *
@@ -193,6 +258,7 @@ public class LegendTitle extends Title
         this.itemFont = DEFAULT_ITEM_FONT;
         this.itemPaint = DEFAULT_ITEM_PAINT;
         this.itemLabelPadding = new RectangleInsets(2.0, 2.0, 2.0, 2.0);
+        registerWithSources();
     }
 
     /**
@@ -214,10 +280,42 @@ public class LegendTitle extends Title
         if (sources == null) {
             throw new IllegalArgumentException("Null 'sources' argument.");
         }
+        unregisterWithSources();
         this.sources = sources;
+        registerWithSources();
         notifyListeners(new TitleChangeEvent(this));
     }
 
+    /**
+     * Registers a listener for this legend with the sources that are plots.
+     */
+    private void registerWithSources() {
+        this.sourceListener = new SourceListener(this);
+        for (int s = 0; s < this.sources.length; s++) {
+            if (this.sources[s] instanceof Plot) {
+                ((Plot) this.sources[s]).addChangeListener(
+                        this.sourceListener);
+            }
+        }
+    }
+
+    /**
+     * Deregisters the listener for this legend (if there is one) with the
+     * sources that are plots.
+     */
+    private void unregisterWithSources() {
+        if (this.sourceListener == null) {
+            return;
+        }
+        for (int s = 0; s < this.sources.length; s++) {
+            if (this.sources[s] instanceof Plot) {
+                ((Plot) this.sources[s]).removeChangeListener(
+                        this.sourceListener);
+            }
+        }
+        this.sourceListener = null;
+    }
+
     /**
      * Returns the background paint.
      *
@@ -390,7 +488,7 @@ public class LegendTitle extends Title
     }
 
     /**
-     * Fetches the latest legend items.
+     * Fetches the latest legend items, and creates the blocks for them.
      */
     protected void fetchLegendItems() {
         this.items.clear();
@@ -401,16 +499,163 @@ public class LegendTitle extends Title
         else {
             this.items.setArrangement(this.vLayout);
         }
+        List legendItems = getSourceLegendItems();
+        for (int i = 0; i < legendItems.size(); i++) {
+            LegendItem item = (LegendItem) legendItems.get(i);
+            Block block = createLegendItemBlock(item);
+            this.items.add(block);
+        }
+        this.cachedItems = legendItems;
+        this.cachedBlocks = new ArrayList(this.items.getBlocks());
+        this.arrangedConstraint = null;
+    }
+
+    /**
+     * Returns the legend items from all the sources.
+     *
+     * @return A list of {@link LegendItem} objects.
+     */
+    private List getSourceLegendItems() {
+        List result = new ArrayList();
         for (int s = 0; s < this.sources.length; s++) {
             LegendItemCollection legendItems = this.sources[s].getLegendItems();
             if (legendItems != null) {
                 for (int i = 0; i < legendItems.getItemCount(); i++) {
-                    LegendItem item = legendItems.get(i);
-                    Block block = createLegendItemBlock(item);
-                    this.items.add(block);
+                    result.add(legendItems.get(i));
                 }
             }
         }
+        return result;
+    }
+
+    /**
+     * Brings the blocks in the item container up to date.  The legend items
+     * are fetched from the sources unless they are known to be unchanged,
+     * and the blocks are created again only if the legend items differ from
+     * those the current blocks were created from.
+     */
+    private void updateLegendItems() {
+        if (this.cachedItems == null || !sameBlocks()) {
+            fetchLegendItems();
+        }
+        else if (!this.legendItemsValid) {
+            if (!sameItems(getSourceLegendItems(), this.cachedItems)) {
+                fetchLegendItems();
+            }
+        }
+        else {
+            return;
+        }
+        boolean valid = (this.sourceListener != null);
+        for (int s = 0; s < this.sources.length; s++) {
+            valid = valid && this.sources[s] instanceof Plot;
+        }
+        this.legendItemsValid = valid;
+    }
+
+    /**
+     * Returns <code>true</code> if the item container still holds the blocks
+     * that were created for the cached legend items.
+     *
+     * @return A boolean.
+     */
+    private boolean sameBlocks() {
+        List blocks = this.items.getBlocks();
+        if (blocks.size() != this.cachedBlocks.size()) {
+            return false;
+        }
+        for (int i = 0; i < blocks.size(); i++) {
+            if (blocks.get(i) != this.cachedBlocks.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns <code>true</code> if two lists contain legend items that would
+     * produce the same blocks.
+     *
+     * @param list1  the first list.
+     * @param list2  the second list.
+     *
+     * @return A boolean.
+     */
+    private static boolean sameItems(List list1, List list2) {
+        if (list1.size() != list2.size()) {
+            return false;
+        }
+        for (int i = 0; i < list1.size(); i++) {
+            LegendItem item1 = (LegendItem) list1.get(i);
+            LegendItem item2 = (LegendItem) list2.get(i);
+            if (!item1.equals(item2)) {
+                return false;
+            }
+            // these attributes are not checked by LegendItem.equals()...
+            if (item1.getDataset() != item2.getDataset()) {
+                return false;
+            }
+            if (!ObjectUtilities.equal(item1.getSeriesKey(),
+                    item2.getSeriesKey())) {
+                return false;
+            }
+            if (!ObjectUtilities.equal(item1.getToolTipText(),
+                    item2.getToolTipText())) {
+                return false;
+            }
+            if (!ObjectUtilities.equal(item1.getURLText(),
+                    item2.getURLText())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Receives notification of a change to a plot that is one of the
+     * sources for this legend.  Unless the change is limited to the values
+     * in one series of a dataset, the legend items are fetched again the
+     * next time the legend is arranged.
+     *
+     * @param event  the event.
+     */
+    private void sourceChanged(PlotChangeEvent event) {
+        if (!isValueChange(event.getDatasetChangeEvent())) {
+            this.legendItemsValid = false;
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if a dataset change event reports a change
+     * to the values in one series, which cannot change the legend items.
+     *
+     * @param event  the event (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    private static boolean isValueChange(DatasetChangeEvent event) {
+        if (event == null || event.getSeriesIndex() < 0
+                || event.getSummary() == null) {
+            return false;
+        }
+        if (event.getDataset() instanceof CategoryDataset) {
+            // adding a value to a category dataset can add a row or column
+            return event.getSummary().getType() == SeriesChangeType.UPDATE;
+        }
+        return true;
+    }
+
+    /**
+     * Sends a {@link TitleChangeEvent} to all registered listeners.  Since
+     * the event reports a change to one of the attributes of this legend,
+     * the blocks for the legend items are created again the next time the
+     * legend is arranged.
+     *
+     * @param event  information about the change to the legend.
+     */
+    protected void notifyListeners(TitleChangeEvent event) {
+        this.cachedItems = null;
+        super.notifyListeners(event);
     }
 
     /**
@@ -483,21 +728,52 @@ public class LegendTitle extends Title
      */
     public Size2D arrange(Graphics2D g2, RectangleConstraint constraint) {
         Size2D result = new Size2D();
-        fetchLegendItems();
+        updateLegendItems();
         if (this.items.isEmpty()) {
             return result;
         }
-        BlockContainer container = this.wrapper;
-        if (container == null) {
-            container = this.items;
-        }
         RectangleConstraint c = toContentConstraint(constraint);
-        Size2D size = container.arrange(g2, c);
+        Size2D size = null;
+        if (this.wrapper != null) {
+            size = this.wrapper.arrange(g2, c);
+        }
+        else {
+            FontRenderContext frc = g2.getFontRenderContext();
+            if (this.arrangedConstraint == null
+                    || !sameConstraint(c, this.arrangedConstraint)
+                    || !frc.equals(this.arrangedContext)) {
+                this.arrangedSize = this.items.arrange(g2, c);
+                this.arrangedConstraint = c;
+                this.arrangedContext = frc;
+            }
+            size = this.arrangedSize;
+        }
         result.height = calculateTotalHeight(size.height);
         result.width = calculateTotalWidth(size.width);
         return result;
     }
 
+    /**
+     * Returns <code>true</code> if two constraints are the same.
+     *
+     * @param c1  the first constraint.
+     * @param c2  the second constraint.
+     *
+     * @return A boolean.
+     */
+    private static boolean sameConstraint(RectangleConstraint c1,
+            RectangleConstraint c2) {
+        return c1.getWidth() == c2.getWidth()
+                && c1.getHeight() == c2.getHeight()
+                && c1.getWidthConstraintType() == c2.getWidthConstraintType()
+                && c1.getHeightConstraintType()
+                        == c2.getHeightConstraintType()
+                && ObjectUtilities.equal(c1.getWidthRange(),
+                        c2.getWidthRange())
+                && ObjectUtilities.equal(c1.getHeightRange(),
+                        c2.getHeightRange());
+    }
+
     /**
      * Draws the title on a Java 2D graphics device (such as the screen or a
      * printer).
@@ -555,6 +831,7 @@ public class LegendTitle extends Title
      */
     public void setWrapper(BlockContainer wrapper) {
         this.wrapper = wrapper;
+        this.arrangedConstraint = null;
     }
 
     /**
@@ -602,6 +879,29 @@ public class LegendTitle extends Title
         return true;
     }
 
+    /**
+     * Returns a clone of the legend.  The clone shares the sources of this
+     * legend but is not registered with them, so it fetches the legend items
+     * each time it is arranged.  Unless the legend has a wrapper container,
+     * the clone has its own container for the legend items.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        LegendTitle clone = (LegendTitle) super.clone();
+        if (this.wrapper == null) {
+            clone.items = new BlockContainer(this.items.getArrangement());
+        }
+        clone.legendItemsValid = false;
+        clone.cachedItems = null;
+        clone.cachedBlocks = null;
+        clone.arrangedConstraint = null;
+        clone.sourceListener = null;
+        return clone;
+    }
+
     /**
      * Provides serialization support.
      *
@@ -628,6 +928,43 @@ public class LegendTitle extends Title
         stream.defaultReadObject();
         this.backgroundPaint = SerialUtilities.readPaint(stream);
         this.itemPaint = SerialUtilities.readPaint(stream);
+        registerWithSources();
+    }
+
+    /**
+     * A listener that is registered with the plots that are sources for a
+     * legend.  The legend is held by a weak reference, and the listener
+     * deregisters itself once the legend has been garbage collected.
+     */
+    private static class SourceListener implements PlotChangeListener {
+
+        /** The legend. */
+        private WeakReference legend;
+
+        /**
+         * Creates a new listener.
+         *
+         * @param legend  the legend.
+         */
+        public SourceListener(LegendTitle legend) {
+            this.legend = new WeakReference(legend);
+        }
+
+        /**
+         * Receives notification of a change to a plot.
+         *
+         * @param event  the event.
+         */
+        public void plotChanged(PlotChangeEvent event) {
+            LegendTitle title = (LegendTitle) this.legend.get();
+            if (title != null) {
+                title.sourceChanged(event);
+            }
+            else if (event.getPlot() != null) {
+                event.getPlot().removeChangeListener(this);
+            }
+        }
+
     }
 
 }
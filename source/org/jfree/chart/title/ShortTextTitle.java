@@ -35,6 +35,7 @@
  * Changes
  * -------
  * 28-Apr-2008 : Version 1 (DG);
+ * 18-Oct-2026 : Count the text measurements for the RenderTimer (DG);
  *
  */
 
@@ -46,6 +47,7 @@ import java.awt.geom.Rectangle2D;
 
 import org.jfree.chart.block.LengthConstraintType;
 import org.jfree.chart.block.RectangleConstraint;
+import org.jfree.chart.event.RenderTimer;
 import org.jfree.data.Range;
 import org.jfree.text.TextUtilities;
 import org.jfree.ui.Size2D;
@@ -176,6 +178,7 @@ public class ShortTextTitle extends TextTitle {
         g2.setFont(getFont());
         FontMetrics fm = g2.getFontMetrics(getFont());
         Rectangle2D bounds = TextUtilities.getTextBounds(getText(), g2, fm);
+        RenderTimer.countTextMeasurements(1);
         if (bounds.getWidth() <= w) {
             return new Size2D(w, bounds.getHeight());
         }
@@ -199,6 +202,7 @@ public class ShortTextTitle extends TextTitle {
         g2.setFont(getFont());
         FontMetrics fm = g2.getFontMetrics(getFont());
         Rectangle2D bounds = TextUtilities.getTextBounds(getText(), g2, fm);
+        RenderTimer.countTextMeasurements(1);
         if (bounds.getWidth() <= widthRange.getUpperBound()
                 && bounds.getHeight() <= heightRange.getUpperBound()) {
             return new Size2D(bounds.getWidth(), bounds.getHeight());
@@ -76,6 +76,8 @@
  * 19-Dec-2007 : Implemented some of the missing arrangement options (DG);
  * 28-Apr-2008 : Added option for maximum lines, and fixed minor bugs in
  *               equals() method (DG);
+ * 18-Oct-2026 : Measure text with the shared TextMeasurementCache (DG);
+ * 18-Oct-2026 : Count the text measurements for the RenderTimer (DG);
  *
  */
 
@@ -98,13 +100,13 @@ import org.jfree.chart.block.RectangleConstraint;
 import org.jfree.chart.entity.ChartEntity;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.entity.StandardEntityCollection;
+import org.jfree.chart.event.RenderTimer;
 import org.jfree.chart.event.TitleChangeEvent;
+import org.jfree.chart.util.TextMeasurementCache;
 import org.jfree.data.Range;
 import org.jfree.io.SerialUtilities;
-import org.jfree.text.G2TextMeasurer;
 import org.jfree.text.TextBlock;
 import org.jfree.text.TextBlockAnchor;
-import org.jfree.text.TextUtilities;
 import org.jfree.ui.HorizontalAlignment;
 import org.jfree.ui.RectangleEdge;
 import org.jfree.ui.RectangleInsets;
@@ -551,11 +553,12 @@ public class TextTitle extends Title
         if (position == RectangleEdge.TOP || position == RectangleEdge.BOTTOM) {
             float maxWidth = (float) w;
             g2.setFont(this.font);
-            this.content = TextUtilities.createTextBlock(this.text, this.font,
-                    this.paint, maxWidth, this.maximumLinesToDisplay,
-                    new G2TextMeasurer(g2));
+            this.content = TextMeasurementCache.getSharedInstance()
+                    .createTextBlock(this.text, this.font, this.paint,
+                    maxWidth, this.maximumLinesToDisplay, g2);
             this.content.setLineAlignment(this.textAlignment);
             Size2D contentSize = this.content.calculateDimensions(g2);
+            RenderTimer.countTextMeasurements(1);
             if (this.expandToFitSpace) {
                 return new Size2D(maxWidth, contentSize.getHeight());
             }
@@ -567,11 +570,12 @@ public class TextTitle extends Title
                 == RectangleEdge.RIGHT) {
             float maxWidth = Float.MAX_VALUE;
             g2.setFont(this.font);
-            this.content = TextUtilities.createTextBlock(this.text, this.font,
-                    this.paint, maxWidth, this.maximumLinesToDisplay,
-                    new G2TextMeasurer(g2));
+            this.content = TextMeasurementCache.getSharedInstance()
+                    .createTextBlock(this.text, this.font, this.paint,
+                    maxWidth, this.maximumLinesToDisplay, g2);
             this.content.setLineAlignment(this.textAlignment);
             Size2D contentSize = this.content.calculateDimensions(g2);
+            RenderTimer.countTextMeasurements(1);
 
             // transpose the dimensions, because the title is rotated
             if (this.expandToFitSpace) {
@@ -625,11 +629,12 @@ public class TextTitle extends Title
         if (position == RectangleEdge.TOP || position == RectangleEdge.BOTTOM) {
             float maxWidth = (float) widthRange.getUpperBound();
             g2.setFont(this.font);
-            this.content = TextUtilities.createTextBlock(this.text, this.font,
-                    this.paint, maxWidth, this.maximumLinesToDisplay,
-                    new G2TextMeasurer(g2));
+            this.content = TextMeasurementCache.getSharedInstance()
+                    .createTextBlock(this.text, this.font, this.paint,
+                    maxWidth, this.maximumLinesToDisplay, g2);
             this.content.setLineAlignment(this.textAlignment);
             Size2D contentSize = this.content.calculateDimensions(g2);
+            RenderTimer.countTextMeasurements(1);
             if (this.expandToFitSpace) {
                 return new Size2D(maxWidth, contentSize.getHeight());
             }
@@ -641,11 +646,12 @@ public class TextTitle extends Title
                 == RectangleEdge.RIGHT) {
             float maxWidth = (float) heightRange.getUpperBound();
             g2.setFont(this.font);
-            this.content = TextUtilities.createTextBlock(this.text, this.font,
-                    this.paint, maxWidth, this.maximumLinesToDisplay,
-                    new G2TextMeasurer(g2));
+            this.content = TextMeasurementCache.getSharedInstance()
+                    .createTextBlock(this.text, this.font, this.paint,
+                    maxWidth, this.maximumLinesToDisplay, g2);
             this.content.setLineAlignment(this.textAlignment);
             Size2D contentSize = this.content.calculateDimensions(g2);
+            RenderTimer.countTextMeasurements(1);
 
             // transpose the dimensions, because the title is rotated
             if (this.expandToFitSpace) {
@@ -0,0 +1,230 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * BufferedImagePool.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+
+package org.jfree.chart.util;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A pool of {@link BufferedImage} instances, grouped by width, height and
+ * image type, so that the images used for drawing charts can be reused
+ * rather than allocated (and garbage collected) for every chart.  An image
+ * obtained with {@link #acquire(int, int, int)} should be returned with
+ * {@link #release(BufferedImage)} once it is no longer needed, and must not
+ * be used after that.
+ * <P>
+ * This class is thread-safe.
+ *
+ * @since 1.0.13
+ */
+public class BufferedImagePool {
+
+    /** The key for a group of images. */
+    private static class Key {
+
+        /** The width. */
+        private int width;
+
+        /** The height. */
+        private int height;
+
+        /** The image type. */
+        private int type;
+
+        /**
+         * Creates a new key.
+         *
+         * @param width  the width.
+         * @param height  the height.
+         * @param type  the image type.
+         */
+        public Key(int width, int height, int type) {
+            this.width = width;
+            this.height = height;
+            this.type = type;
+        }
+
+        /**
+         * Tests this key for equality with an arbitrary object.
+         *
+         * @param obj  the object (<code>null</code> permitted).
+         *
+         * @return A boolean.
+         */
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            return this.width == that.width && this.height == that.height
+                    && this.type == that.type;
+        }
+
+        /**
+         * Returns a hash code for this key.
+         *
+         * @return A hash code.
+         */
+        public int hashCode() {
+            return (this.width * 31 + this.height) * 31 + this.type;
+        }
+
+    }
+
+    /** The maximum number of idle images kept for each size and type. */
+    private int maximumImagesPerSize;
+
+    /** The idle images (a list for each key). */
+    private Map images;
+
+    /**
+     * Creates a new pool that keeps up to 4 idle images of each size and
+     * type.
+     */
+    public BufferedImagePool() {
+        this(4);
+    }
+
+    /**
+     * Creates a new pool.
+     *
+     * @param maximumImagesPerSize  the maximum number of idle images kept for
+     *     each size and type (at least 1).
+     */
+    public BufferedImagePool(int maximumImagesPerSize) {
+        if (maximumImagesPerSize < 1) {
+            throw new IllegalArgumentException(
+                    "Requires 'maximumImagesPerSize' to be at least 1.");
+        }
+        this.maximumImagesPerSize = maximumImagesPerSize;
+        this.images = new HashMap();
+    }
+
+    /**
+     * Returns the maximum number of idle images kept for each size and type.
+     *
+     * @return The maximum.
+     */
+    public int getMaximumImagesPerSize() {
+        return this.maximumImagesPerSize;
+    }
+
+    /**
+     * Returns an image with the specified size and type, either from the
+     * pool or newly created.  An image from the pool is cleared first, so
+     * the result is indistinguishable from a new image.
+     *
+     * @param width  the width.
+     * @param height  the height.
+     * @param imageType  the image type (see {@link BufferedImage}).
+     *
+     * @return The image (never <code>null</code>).
+     */
+    public BufferedImage acquire(int width, int height, int imageType) {
+        BufferedImage image = null;
+        synchronized (this) {
+            List list = (List) this.images.get(new Key(width, height,
+                    imageType));
+            if (list != null && !list.isEmpty()) {
+                image = (BufferedImage) list.remove(list.size() - 1);
+            }
+        }
+        if (image == null) {
+            return new BufferedImage(width, height, imageType);
+        }
+        Graphics2D g2 = image.createGraphics();
+        g2.setComposite(AlphaComposite.Clear);
+        g2.fillRect(0, 0, width, height);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Returns an image to the pool.  If the pool already holds the maximum
+     * number of images of the same size and type, the image is discarded.
+     *
+     * @param image  the image (<code>null</code> not permitted).
+     */
+    public synchronized void release(BufferedImage image) {
+        if (image == null) {
+            throw new IllegalArgumentException("Null 'image' argument.");
+        }
+        Key key = new Key(image.getWidth(), image.getHeight(),
+                image.getType());
+        List list = (List) this.images.get(key);
+        if (list == null) {
+            list = new ArrayList();
+            this.images.put(key, list);
+        }
+        if (list.size() < this.maximumImagesPerSize && !list.contains(image)) {
+            list.add(image);
+        }
+    }
+
+    /**
+     * Returns the number of idle images in the pool.
+     *
+     * @return The image count.
+     */
+    public synchronized int getImageCount() {
+        int count = 0;
+        Iterator iterator = this.images.values().iterator();
+        while (iterator.hasNext()) {
+            count += ((List) iterator.next()).size();
+        }
+        return count;
+    }
+
+    /**
+     * Discards all idle images.
+     */
+    public synchronized void clear() {
+        this.images.clear();
+    }
+
+}
@@ -0,0 +1,887 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * TextMeasurementCache.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.chart.util;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.Shape;
+import java.awt.font.FontRenderContext;
+import java.awt.font.LineMetrics;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.jfree.text.TextBlock;
+import org.jfree.text.TextFragment;
+import org.jfree.text.TextLine;
+import org.jfree.text.TextMeasurer;
+import org.jfree.text.TextUtilities;
+import org.jfree.ui.Size2D;
+import org.jfree.ui.TextAnchor;
+
+/**
+ * A bounded cache of string measurements, keyed by the text, the font, the
+ * font render context (which covers the scale and shear of the transform
+ * and the anti-aliasing and fractional metrics hints) and the class of the
+ * graphics device.  The methods of this class return the same results as
+ * the methods with the same names in {@link TextUtilities}, but a string is
+ * only measured the first time it is used, so redrawing a chart whose text
+ * has not changed does very little text layout work.
+ * <P>
+ * The cache keeps up to {@link #getCapacity()} measurements, discarding
+ * those that have not been used recently, and counts the lookups that were
+ * answered from the cache (see {@link #getHitRate()}).  The axes, titles,
+ * blocks and item labels in JFreeChart use the instance returned by
+ * {@link #getSharedInstance()}.
+ * <P>
+ * This class is thread-safe.
+ *
+ * @since 1.0.13
+ */
+public class TextMeasurementCache {
+
+    /** The capacity of the shared instance. */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /** The shared instance. */
+    private static final TextMeasurementCache SHARED_INSTANCE
+            = new TextMeasurementCache(DEFAULT_CAPACITY);
+
+    /** The text used to measure the line metrics of a font. */
+    private static final String BASELINE_TEXT = "ABCxyz";
+
+    /** The key for a measurement. */
+    private static class Key {
+
+        /** The text. */
+        private String text;
+
+        /** The font. */
+        private Font font;
+
+        /** The font render context. */
+        private FontRenderContext frc;
+
+        /** The class of the graphics device. */
+        private Class g2Class;
+
+        /**
+         * The setting of the flag that controls how {@link TextUtilities}
+         * measures strings.
+         */
+        private boolean useStringBounds;
+
+        /** The hash code. */
+        private int hash;
+
+        /**
+         * Creates a new key.
+         *
+         * @param text  the text.
+         * @param font  the font.
+         * @param g2  the graphics device.
+         */
+        public Key(String text, Font font, Graphics2D g2) {
+            this.text = text;
+            this.font = font;
+            this.frc = g2.getFontRenderContext();
+            this.g2Class = g2.getClass();
+            this.useStringBounds
+                    = TextUtilities.getUseFontMetricsGetStringBounds();
+            int h = text.hashCode();
+            h = h * 31 + font.hashCode();
+            h = h * 31 + this.frc.hashCode();
+            h = h * 31 + this.g2Class.hashCode();
+            this.hash = h * 31 + (this.useStringBounds ? 1 : 0);
+        }
+
+        /**
+         * Tests this key for equality with an arbitrary object.
+         *
+         * @param obj  the object (<code>null</code> permitted).
+         *
+         * @return A boolean.
+         */
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            return this.hash == that.hash && this.text.equals(that.text)
+                    && this.font.equals(that.font)
+                    && this.frc.equals(that.frc)
+                    && this.g2Class == that.g2Class
+                    && this.useStringBounds == that.useStringBounds;
+        }
+
+        /**
+         * Returns a hash code for this key.
+         *
+         * @return A hash code.
+         */
+        public int hashCode() {
+            return this.hash;
+        }
+
+    }
+
+    /** The measurements for one string. */
+    private static class Entry {
+
+        /** The x-coordinate of the bounds. */
+        private double x;
+
+        /** The y-coordinate of the bounds. */
+        private double y;
+
+        /** The width of the bounds. */
+        private double width;
+
+        /** The height of the bounds. */
+        private double height;
+
+        /** The ascent. */
+        private float ascent;
+
+        /** The descent. */
+        private float descent;
+
+        /** The leading. */
+        private float leading;
+
+        /**
+         * The width returned by <code>FontMetrics.stringWidth()</code>, or
+         * -1 if it has not been measured yet.
+         */
+        private int stringWidth;
+
+        /**
+         * Measures a string.
+         *
+         * @param text  the text.
+         * @param font  the font.
+         * @param g2  the graphics device.
+         */
+        public Entry(String text, Font font, Graphics2D g2) {
+            Rectangle2D bounds = TextUtilities.getTextBounds(text, g2,
+                    g2.getFontMetrics(font));
+            this.x = bounds.getX();
+            this.y = bounds.getY();
+            this.width = bounds.getWidth();
+            this.height = bounds.getHeight();
+            LineMetrics metrics = font.getLineMetrics(text,
+                    g2.getFontRenderContext());
+            this.ascent = metrics.getAscent();
+            this.descent = metrics.getDescent();
+            this.leading = metrics.getLeading();
+            this.stringWidth = -1;
+        }
+
+    }
+
+    /**
+     * A text fragment that measures itself with the shared cache.  The
+     * fragments in the text blocks created by this class are replaced with
+     * instances of this class.
+     */
+    private static class CachedTextFragment extends TextFragment {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -2894519627341106322L;
+
+        /**
+         * Creates a new fragment.
+         *
+         * @param text  the text.
+         * @param font  the font.
+         * @param paint  the paint.
+         * @param baselineOffset  the baseline offset.
+         */
+        public CachedTextFragment(String text, Font font, Paint paint,
+                float baselineOffset) {
+            super(text, font, paint, baselineOffset);
+        }
+
+        /**
+         * Draws the fragment.
+         *
+         * @param g2  the graphics device.
+         * @param anchorX  the x-coordinate of the anchor point.
+         * @param anchorY  the y-coordinate of the anchor point.
+         * @param anchor  the location of the text that is aligned to the
+         *     anchor point.
+         * @param rotateX  the x-coordinate of the rotation point.
+         * @param rotateY  the y-coordinate of the rotation point.
+         * @param angle  the angle.
+         */
+        public void draw(Graphics2D g2, float anchorX, float anchorY,
+                TextAnchor anchor, float rotateX, float rotateY,
+                double angle) {
+            g2.setFont(getFont());
+            g2.setPaint(getPaint());
+            SHARED_INSTANCE.drawRotatedString(getText(), g2, anchorX,
+                    anchorY + getBaselineOffset(), anchor, angle, rotateX,
+                    rotateY);
+        }
+
+        /**
+         * Calculates the size of the fragment.
+         *
+         * @param g2  the graphics device.
+         *
+         * @return The size.
+         */
+        public Size2D calculateDimensions(Graphics2D g2) {
+            Entry entry = SHARED_INSTANCE.getEntry(getText(), getFont(), g2);
+            return new Size2D(entry.width, entry.height);
+        }
+
+        /**
+         * Calculates the vertical offset between the baseline and the
+         * specified text anchor.
+         *
+         * @param g2  the graphics device.
+         * @param anchor  the anchor.
+         *
+         * @return The offset.
+         */
+        public float calculateBaselineOffset(Graphics2D g2,
+                TextAnchor anchor) {
+            Entry entry = SHARED_INSTANCE.getEntry(BASELINE_TEXT, getFont(),
+                    g2);
+            if (anchor == TextAnchor.TOP_LEFT
+                    || anchor == TextAnchor.TOP_CENTER
+                    || anchor == TextAnchor.TOP_RIGHT) {
+                return entry.ascent;
+            }
+            else if (anchor == TextAnchor.BOTTOM_LEFT
+                    || anchor == TextAnchor.BOTTOM_CENTER
+                    || anchor == TextAnchor.BOTTOM_RIGHT) {
+                return -entry.descent - entry.leading;
+            }
+            return 0.0f;
+        }
+
+    }
+
+    /**
+     * Measures substrings in the current font of a graphics device, for
+     * line breaking.
+     */
+    private class CachedTextMeasurer implements TextMeasurer {
+
+        /** The graphics device. */
+        private Graphics2D g2;
+
+        /**
+         * Creates a new measurer.
+         *
+         * @param g2  the graphics device.
+         */
+        public CachedTextMeasurer(Graphics2D g2) {
+            this.g2 = g2;
+        }
+
+        /**
+         * Returns the width of a substring.
+         *
+         * @param text  the text.
+         * @param start  the index of the first character.
+         * @param end  the index after the last character.
+         *
+         * @return The width.
+         */
+        public float getStringWidth(String text, int start, int end) {
+            return (float) getEntry(text.substring(start, end),
+                    this.g2.getFont(), this.g2).width;
+        }
+
+    }
+
+    /** The maximum number of measurements held. */
+    private int capacity;
+
+    /** The measurements used since the last change of generation. */
+    private Map current;
+
+    /**
+     * The measurements from the previous generation, that are discarded at
+     * the next change of generation unless they are used before then.
+     */
+    private Map previous;
+
+    /** The number of lookups answered from the cache. */
+    private long hitCount;
+
+    /** The number of lookups that required a measurement. */
+    private long missCount;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param capacity  the maximum number of measurements held (at least 2).
+     */
+    public TextMeasurementCache(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException(
+                    "Requires 'capacity' to be at least 2.");
+        }
+        this.capacity = capacity;
+        this.current = new HashMap();
+        this.previous = new HashMap();
+    }
+
+    /**
+     * Returns the instance that is shared by the classes in JFreeChart.
+     *
+     * @return The shared instance.
+     */
+    public static TextMeasurementCache getSharedInstance() {
+        return SHARED_INSTANCE;
+    }
+
+    /**
+     * Returns the maximum number of measurements held by the cache.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the number of measurements held by the cache.
+     *
+     * @return The size.
+     */
+    public synchronized int getSize() {
+        return this.current.size() + this.previous.size();
+    }
+
+    /**
+     * Returns the number of lookups that were answered from the cache.
+     *
+     * @return The hit count.
+     */
+    public synchronized long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that required a string to be measured.
+     *
+     * @return The miss count.
+     */
+    public synchronized long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * Returns the fraction of lookups that were answered from the cache.
+     *
+     * @return The hit rate (in the range 0.0 to 1.0, and 0.0 if there have
+     *     been no lookups).
+     */
+    public synchronized double getHitRate() {
+        long total = this.hitCount + this.missCount;
+        return (total > 0 ? (double) this.hitCount / total : 0.0);
+    }
+
+    /**
+     * Discards all the measurements and resets the hit and miss counts.
+     */
+    public synchronized void clear() {
+        this.current.clear();
+        this.previous.clear();
+        this.hitCount = 0L;
+        this.missCount = 0L;
+    }
+
+    /**
+     * Returns the measurements for a string, measuring it if necessary.
+     *
+     * @param text  the text (<code>null</code> not permitted).
+     * @param font  the font (<code>null</code> not permitted).
+     * @param g2  the graphics device (<code>null</code> not permitted).
+     *
+     * @return The measurements.
+     */
+    private Entry getEntry(String text, Font font, Graphics2D g2) {
+        Key key = new Key(text, font, g2);
+        synchronized (this) {
+            Entry entry = (Entry) this.current.get(key);
+            if (entry == null) {
+                entry = (Entry) this.previous.remove(key);
+                if (entry != null) {
+                    store(key, entry);
+                }
+            }
+            if (entry != null) {
+                this.hitCount++;
+                return entry;
+            }
+            this.missCount++;
+        }
+        // measure outside the lock, another thread may measure the same
+        // string at the same time but the results are the same...
+        Entry entry = new Entry(text, font, g2);
+        synchronized (this) {
+            store(key, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Stores a measurement in the current generation, starting a new
+     * generation first if the current one is full.
+     *
+     * @param key  the key.
+     * @param entry  the measurement.
+     */
+    private void store(Key key, Entry entry) {
+        if (this.current.size() >= this.capacity / 2) {
+            this.previous = this.current;
+            this.current = new HashMap();
+        }
+        this.current.put(key, entry);
+    }
+
+    /**
+     * Returns the bounds of a string in the current font of a graphics
+     * device (see {@link TextUtilities#getTextBounds(String, Graphics2D,
+     * java.awt.FontMetrics)}).
+     *
+     * @param text  the text (<code>null</code> not permitted).
+     * @param g2  the graphics device (<code>null</code> not permitted).
+     *
+     * @return The bounds (a new rectangle that the caller can modify).
+     */
+    public Rectangle2D getTextBounds(String text, Graphics2D g2) {
+        return getTextBounds(text, g2.getFont(), g2);
+    }
+
+    /**
+     * Returns the bounds of a string in the specified font.
+     *
+     * @param text  the text (<code>null</code> not permitted).
+     * @param font  the font (<code>null</code> not permitted).
+     * @param g2  the graphics device (<code>null</code> not permitted).
+     *
+     * @return The bounds (a new rectangle that the caller can modify).
+     */
+    public Rectangle2D getTextBounds(String text, Font font, Graphics2D g2) {
+        Entry entry = getEntry(text, font, g2);
+        return new Rectangle2D.Double(entry.x, entry.y, entry.width,
+                entry.height);
+    }
+
+    /**
+     * Returns the width of a string in the specified font, as returned by
+     * <code>FontMetrics.stringWidth()</code>.
+     *
+     * @param text  the text (<code>null</code> not permitted).
+     * @param font  the font (<code>null</code> not permitted).
+     * @param g2  the graphics device (<code>null</code> not permitted).
+     *
+     * @return The width.
+     */
+    public int getStringWidth(String text, Font font, Graphics2D g2) {
+        Entry entry = getEntry(text, font, g2);
+        if (entry.stringWidth < 0) {
+            entry.stringWidth = g2.getFontMetrics(font).stringWidth(text);
+        }
+        return entry.stringWidth;
+    }
+
+    /**
+     * Draws a string in the current font of a graphics device, aligned to
+     * the specified anchor point (see
+     * {@link TextUtilities#drawAlignedString(String, Graphics2D, float,
+     * float, TextAnchor)}).
+     *
+     * @param text  the text (<code>null</code> not permitted).
+     * @param g2  the graphics device.
+     * @param x  the x-coordinate of the anchor point.
+     * @param y  the y-coordinate of the anchor point.
+     * @param anchor  the location of the text that is aligned to the anchor
+     *     point.
+     *
+     * @return The text bounds (adjusted for the text position).
+     */
+    public Rectangle2D drawAlignedString(String text, Graphics2D g2,
+            float x, float y, TextAnchor anchor) {
+        Entry entry = getEntry(text, g2.getFont(), g2);
+        float[] adj = deriveTextBoundsAnchorOffsets(entry, anchor);
+        Rectangle2D result = new Rectangle2D.Double(x + adj[0],
+                y + adj[1] - entry.ascent, entry.width, entry.height);
+        g2.drawString(text, x + adj[0], y + adj[1]);
+        return result;
+    }
+
+    /**
+     * Draws a string in the current font of a graphics device, aligned to
+     * the specified anchor point and rotated about a point relative to the
+     * text (see {@link TextUtilities#drawRotatedString(String, Graphics2D,
+     * float, float, TextAnchor, double, TextAnchor)}).
+     *
+     * @param text  the text (<code>null</code> or empty permitted, in which
+     *     case nothing is drawn).
+     * @param g2  the graphics device.
+     * @param x  the x-coordinate of the anchor point.
+     * @param y  the y-coordinate of the anchor point.
+     * @param textAnchor  the location of the text that is aligned to the
+     *     anchor point.
+     * @param angle  the rotation angle (in radians).
+     * @param rotationAnchor  the location of the text that the rotation is
+     *     about.
+     */
+    public void drawRotatedString(String text, Graphics2D g2, float x,
+            float y, TextAnchor textAnchor, double angle,
+            TextAnchor rotationAnchor) {
+        if (text == null || text.equals("")) {
+            return;
+        }
+        Entry entry = getEntry(text, g2.getFont(), g2);
+        float[] textAdj = deriveTextBoundsAnchorOffsets(entry, textAnchor);
+        float[] rotateAdj = deriveRotationAnchorOffsets(entry,
+                rotationAnchor);
+        TextUtilities.drawRotatedString(text, g2, x + textAdj[0],
+                y + textAdj[1], angle, x + textAdj[0] + rotateAdj[0],
+                y + textAdj[1] + rotateAdj[1]);
+    }
+
+    /**
+     * Draws a string in the current font of a graphics device, aligned to
+     * the specified anchor point and rotated about the specified point (see
+     * {@link TextUtilities#drawRotatedString(String, Graphics2D, float,
+     * float, TextAnchor, double, float, float)}).
+     *
+     * @param text  the text (<code>null</code> or empty permitted, in which
+     *     case nothing is drawn).
+     * @param g2  the graphics device.
+     * @param x  the x-coordinate of the anchor point.
+     * @param y  the y-coordinate of the anchor point.
+     * @param textAnchor  the location of the text that is aligned to the
+     *     anchor point.
+     * @param angle  the rotation angle (in radians).
+     * @param rotationX  the x-coordinate of the rotation point.
+     * @param rotationY  the y-coordinate of the rotation point.
+     */
+    public void drawRotatedString(String text, Graphics2D g2, float x,
+            float y, TextAnchor textAnchor, double angle, float rotationX,
+            float rotationY) {
+        if (text == null || text.equals("")) {
+            return;
+        }
+        Entry entry = getEntry(text, g2.getFont(), g2);
+        float[] textAdj = deriveTextBoundsAnchorOffsets(entry, textAnchor);
+        TextUtilities.drawRotatedString(text, g2, x + textAdj[0],
+                y + textAdj[1], angle, rotationX, rotationY);
+    }
+
+    /**
+     * Returns the bounds of a string drawn by
+     * {@link #drawRotatedString(String, Graphics2D, float, float, TextAnchor,
+     * double, TextAnchor)} (see
+     * {@link TextUtilities#calculateRotatedStringBounds(String, Graphics2D,
+     * float, float, TextAnchor, double, TextAnchor)}).
+     *
+     * @param text  the text (<code>null</code> or empty permitted).
+     * @param g2  the graphics device.
+     * @param x  the x-coordinate of the anchor point.
+     * @param y  the y-coordinate of the anchor point.
+     * @param textAnchor  the location of the text that is aligned to the
+     *     anchor point.
+     * @param angle  the rotation angle (in radians).
+     * @param rotationAnchor  the location of the text that the rotation is
+     *     about.
+     *
+     * @return The bounds (<code>null</code> if the text is
+     *     <code>null</code> or empty).
+     */
+    public Shape calculateRotatedStringBounds(String text, Graphics2D g2,
+            float x, float y, TextAnchor textAnchor, double angle,
+            TextAnchor rotationAnchor) {
+        if (text == null || text.equals("")) {
+            return null;
+        }
+        Entry entry = getEntry(text, g2.getFont(), g2);
+        float[] textAdj = deriveTextBoundsAnchorOffsets(entry, textAnchor);
+        float[] rotateAdj = deriveRotationAnchorOffsets(entry,
+                rotationAnchor);
+        float textX = x + textAdj[0];
+        float textY = y + textAdj[1];
+        Rectangle2D bounds = new Rectangle2D.Double(entry.x, entry.y,
+                entry.width, entry.height);
+        AffineTransform translate = AffineTransform.getTranslateInstance(
+                textX, textY);
+        Shape translatedBounds = translate.createTransformedShape(bounds);
+        AffineTransform rotate = AffineTransform.getRotateInstance(angle,
+                textX + rotateAdj[0], textY + rotateAdj[1]);
+        return rotate.createTransformedShape(translatedBounds);
+    }
+
+    /**
+     * Creates a text block from a string that may contain line breaks (see
+     * {@link TextUtilities#createTextBlock(String, Font, Paint)}).  The text
+     * block measures itself with the shared cache.
+     *
+     * @param text  the text (<code>null</code> not permitted).
+     * @param font  the font.
+     * @param paint  the paint.
+     *
+     * @return The text block.
+     */
+    public TextBlock createTextBlock(String text, Font font, Paint paint) {
+        return useCache(TextUtilities.createTextBlock(text, font, paint));
+    }
+
+    /**
+     * Creates a text block from a string, breaking it into lines that fit
+     * the specified width (see {@link TextUtilities#createTextBlock(String,
+     * Font, Paint, float, int, TextMeasurer)}).  The strings are measured in
+     * the current font of the graphics device, as for
+     * {@link org.jfree.text.G2TextMeasurer}, and the text block measures
+     * itself with the shared cache.
+     *
+     * @param text  the text (<code>null</code> not permitted).
+     * @param font  the font.
+     * @param paint  the paint.
+     * @param maxWidth  the maximum width of each line.
+     * @param maxLines  the maximum number of lines.
+     * @param g2  the graphics device.
+     *
+     * @return The text block.
+     */
+    public TextBlock createTextBlock(String text, Font font, Paint paint,
+            float maxWidth, int maxLines, Graphics2D g2) {
+        return useCache(TextUtilities.createTextBlock(text, font, paint,
+                maxWidth, maxLines, new CachedTextMeasurer(g2)));
+    }
+
+    /**
+     * Replaces the fragments in a text block with fragments that measure
+     * themselves with the shared cache.
+     *
+     * @param block  the text block.
+     *
+     * @return The text block.
+     */
+    private static TextBlock useCache(TextBlock block) {
+        Iterator iterator = block.getLines().iterator();
+        while (iterator.hasNext()) {
+            TextLine line = (TextLine) iterator.next();
+            List fragments = new ArrayList();
+            TextFragment fragment = line.getFirstTextFragment();
+            while (fragment != null) {
+                fragments.add(fragment);
+                line.removeFragment(fragment);
+                fragment = line.getFirstTextFragment();
+            }
+            for (int i = 0; i < fragments.size(); i++) {
+                fragment = (TextFragment) fragments.get(i);
+                line.addFragment(new CachedTextFragment(fragment.getText(),
+                        fragment.getFont(), fragment.getPaint(),
+                        fragment.getBaselineOffset()));
+            }
+        }
+        return block;
+    }
+
+    /**
+     * Returns the offsets from an anchor point to the point where a string
+     * is drawn so that the specified location of the text is aligned with
+     * the anchor point.
+     *
+     * @param entry  the measurements for the string.
+     * @param anchor  the text anchor.
+     *
+     * @return The x and y offsets.
+     */
+    private static float[] deriveTextBoundsAnchorOffsets(Entry entry,
+            TextAnchor anchor) {
+        float xAdj = 0.0f;
+        float yAdj = 0.0f;
+        if (isCenter(anchor)) {
+            xAdj = (float) -entry.width / 2.0f;
+        }
+        else if (isRight(anchor)) {
+            xAdj = (float) -entry.width;
+        }
+        if (isTop(anchor)) {
+            yAdj = -entry.descent - entry.leading + (float) entry.height;
+        }
+        else if (isHalfAscent(anchor)) {
+            yAdj = entry.ascent / 2.0f;
+        }
+        else if (isHalfHeight(anchor)) {
+            yAdj = -entry.descent - entry.leading
+                    + (float) (entry.height / 2.0);
+        }
+        else if (isBottom(anchor)) {
+            yAdj = -entry.descent - entry.leading;
+        }
+        return new float[] {xAdj, yAdj};
+    }
+
+    /**
+     * Returns the offsets from the point where a string is drawn to the
+     * specified location of the text.
+     *
+     * @param entry  the measurements for the string.
+     * @param anchor  the location of the text.
+     *
+     * @return The x and y offsets.
+     */
+    private static float[] deriveRotationAnchorOffsets(Entry entry,
+            TextAnchor anchor) {
+        float xAdj = 0.0f;
+        float yAdj = 0.0f;
+        if (isCenter(anchor)) {
+            xAdj = (float) entry.width / 2.0f;
+        }
+        else if (isRight(anchor)) {
+            xAdj = (float) entry.width;
+        }
+        if (isTop(anchor)) {
+            yAdj = entry.descent + entry.leading - (float) entry.height;
+        }
+        else if (isHalfHeight(anchor)) {
+            yAdj = entry.descent + entry.leading
+                    - (float) (entry.height / 2.0);
+        }
+        else if (isHalfAscent(anchor)) {
+            yAdj = -entry.ascent / 2.0f;
+        }
+        else if (isBottom(anchor)) {
+            yAdj = entry.descent + entry.leading;
+        }
+        return new float[] {xAdj, yAdj};
+    }
+
+    /**
+     * Returns <code>true</code> if the anchor is horizontally centred.
+     *
+     * @param anchor  the anchor.
+     *
+     * @return A boolean.
+     */
+    private static boolean isCenter(TextAnchor anchor) {
+        return anchor == TextAnchor.TOP_CENTER || anchor == TextAnchor.CENTER
+                || anchor == TextAnchor.BOTTOM_CENTER
+                || anchor == TextAnchor.BASELINE_CENTER
+                || anchor == TextAnchor.HALF_ASCENT_CENTER;
+    }
+
+    /**
+     * Returns <code>true</code> if the anchor is on the right of the text.
+     *
+     * @param anchor  the anchor.
+     *
+     * @return A boolean.
+     */
+    private static boolean isRight(TextAnchor anchor) {
+        return anchor == TextAnchor.TOP_RIGHT
+                || anchor == TextAnchor.CENTER_RIGHT
+                || anchor == TextAnchor.BOTTOM_RIGHT
+                || anchor == TextAnchor.BASELINE_RIGHT
+                || anchor == TextAnchor.HALF_ASCENT_RIGHT;
+    }
+
+    /**
+     * Returns <code>true</code> if the anchor is at the top of the text.
+     *
+     * @param anchor  the anchor.
+     *
+     * @return A boolean.
+     */
+    private static boolean isTop(TextAnchor anchor) {
+        return anchor == TextAnchor.TOP_LEFT
+                || anchor == TextAnchor.TOP_CENTER
+                || anchor == TextAnchor.TOP_RIGHT;
+    }
+
+    /**
+     * Returns <code>true</code> if the anchor is half way up the ascent of
+     * the text.
+     *
+     * @param anchor  the anchor.
+     *
+     * @return A boolean.
+     */
+    private static boolean isHalfAscent(TextAnchor anchor) {
+        return anchor == TextAnchor.HALF_ASCENT_LEFT
+                || anchor == TextAnchor.HALF_ASCENT_CENTER
+                || anchor == TextAnchor.HALF_ASCENT_RIGHT;
+    }
+
+    /**
+     * Returns <code>true</code> if the anchor is half way up the height of
+     * the text.
+     *
+     * @param anchor  the anchor.
+     *
+     * @return A boolean.
+     */
+    private static boolean isHalfHeight(TextAnchor anchor) {
+        return anchor == TextAnchor.CENTER_LEFT || anchor == TextAnchor.CENTER
+                || anchor == TextAnchor.CENTER_RIGHT;
+    }
+
+    /**
+     * Returns <code>true</code> if the anchor is at the bottom of the text.
+     *
+     * @param anchor  the anchor.
+     *
+     * @return A boolean.
+     */
+    private static boolean isBottom(TextAnchor anchor) {
+        return anchor == TextAnchor.BOTTOM_LEFT
+                || anchor == TextAnchor.BOTTOM_CENTER
+                || anchor == TextAnchor.BOTTOM_RIGHT;
+    }
+
+}
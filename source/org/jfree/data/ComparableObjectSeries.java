@@ -37,6 +37,7 @@
  * 19-Oct-2006 : New class (DG);
  * 31-Oct-2007 : Implemented faster hashCode() (DG);
  * 27-Nov-2007 : Changed clear() from protected to public (DG);
+ * 18-Oct-2026 : Added updateByIndex(int, Object, boolean) (DG);
  *
  */
 
@@ -316,9 +317,27 @@ public class ComparableObjectSeries extends Series
      * @param y  the new value (<code>null</code> permitted).
      */
     protected void updateByIndex(int index, Object y) {
+        updateByIndex(index, y, true);
+    }
+
+    /**
+     * Updates the value of an item in the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the item (zero based index).
+     * @param y  the new value (<code>null</code> permitted).
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     *
+     * @since 1.0.13
+     */
+    protected void updateByIndex(int index, Object y, boolean notify) {
         ComparableObjectItem item = getDataItem(index);
         item.setObject(y);
-        fireSeriesChanged();
+        if (notify) {
+            fireSeriesChanged();
+        }
     }
 
     /**
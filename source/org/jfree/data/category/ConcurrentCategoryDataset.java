@@ -0,0 +1,817 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------------
+ * ConcurrentCategoryDataset.java
+ * ------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Added serialVersionUID to the snapshot class (DG);
+ *
+ */
+
+
+package org.jfree.data.category;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.AbstractDataset;
+import org.jfree.data.general.Dataset;
+import org.jfree.data.general.DatasetSnapshot;
+import org.jfree.data.general.SnapshotProvider;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A {@link CategoryDataset} that can be updated by several threads while a
+ * chart is being drawn.  The values are held in an immutable table that is
+ * replaced (with a single volatile write) for each change, so readers never
+ * block and never see a partially applied change.  Each change copies only
+ * the affected row (and the array of row references), so updates are cheap
+ * for the table sizes that are typical for category charts.  Each rendering
+ * pass of a {@link org.jfree.chart.plot.CategoryPlot} reads the values from
+ * a snapshot (see {@link #createSnapshot()}) that is taken in constant time.
+ * <P>
+ * Changes do not send a {@link org.jfree.data.general.DatasetChangeEvent}
+ * immediately, since that would run the plot and chart listeners on the
+ * writer's thread.  Instead, the thread that owns the chart should call
+ * {@link #fireDatasetChangedIfModified()} at the desired refresh rate.
+ * <P>
+ * Rows and columns are never removed (except by {@link #clear()}), and
+ * <code>null</code> values are stored as <code>Double.NaN</code>.
+ *
+ * @since 1.0.13
+ */
+public class ConcurrentCategoryDataset extends AbstractDataset
+        implements CategoryDataset, SnapshotProvider, PublicCloneable,
+        Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3702139263466581406L;
+
+    /** The current table of values. */
+    private volatile Table table;
+
+    /** The number of changes made to the dataset. */
+    private volatile int modificationCount;
+
+    /** The modification count when the last event was sent. */
+    private transient int notifiedCount;
+
+    /**
+     * Creates a new empty dataset.
+     */
+    public ConcurrentCategoryDataset() {
+        this.table = Table.EMPTY;
+    }
+
+    /**
+     * Returns the number of rows in the table.
+     *
+     * @return The row count.
+     */
+    public int getRowCount() {
+        return this.table.getRowCount();
+    }
+
+    /**
+     * Returns the number of columns in the table.
+     *
+     * @return The column count.
+     */
+    public int getColumnCount() {
+        return this.table.getColumnCount();
+    }
+
+    /**
+     * Returns a value from the table.  Note that other threads can change
+     * the table between calls to this method, use {@link #createSnapshot()}
+     * to read a consistent set of values.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (possibly <code>null</code>).
+     */
+    public Number getValue(int row, int column) {
+        return this.table.getValue(row, column);
+    }
+
+    /**
+     * Returns the key for the specified row.
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return The row key.
+     */
+    public Comparable getRowKey(int row) {
+        return this.table.getRowKey(row);
+    }
+
+    /**
+     * Returns the row index for a given key.
+     *
+     * @param key  the row key (<code>null</code> not permitted).
+     *
+     * @return The row index (or <code>-1</code> if the key is not defined).
+     */
+    public int getRowIndex(Comparable key) {
+        return this.table.getRowIndex(key);
+    }
+
+    /**
+     * Returns the row keys.
+     *
+     * @return The keys.
+     */
+    public List getRowKeys() {
+        return this.table.getRowKeys();
+    }
+
+    /**
+     * Returns a column key.
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The column key.
+     */
+    public Comparable getColumnKey(int column) {
+        return this.table.getColumnKey(column);
+    }
+
+    /**
+     * Returns the column index for a given key.
+     *
+     * @param key  the column key (<code>null</code> not permitted).
+     *
+     * @return The column index (or <code>-1</code> if the key is not
+     *     defined).
+     */
+    public int getColumnIndex(Comparable key) {
+        return this.table.getColumnIndex(key);
+    }
+
+    /**
+     * Returns the column keys.
+     *
+     * @return The keys.
+     */
+    public List getColumnKeys() {
+        return this.table.getColumnKeys();
+    }
+
+    /**
+     * Returns the value for a pair of keys.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @return The value (possibly <code>null</code>).
+     *
+     * @throws UnknownKeyException if either key is not defined in the dataset.
+     */
+    public Number getValue(Comparable rowKey, Comparable columnKey) {
+        return this.table.getValue(rowKey, columnKey);
+    }
+
+    /**
+     * Sets a value in the table, adding the row and/or column if necessary.
+     * This method can be called by several threads at once.
+     *
+     * @param value  the value (<code>null</code> permitted).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void setValue(Number value, Comparable rowKey,
+            Comparable columnKey) {
+        setValue(value != null ? value.doubleValue() : Double.NaN, rowKey,
+                columnKey);
+    }
+
+    /**
+     * Sets a value in the table, adding the row and/or column if necessary.
+     * This method can be called by several threads at once.
+     *
+     * @param value  the value (<code>Double.NaN</code> for <code>null</code>).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void setValue(double value, Comparable rowKey,
+            Comparable columnKey) {
+        checkKeys(rowKey, columnKey);
+        synchronized (this) {
+            this.table = this.table.setValue(value, rowKey, columnKey);
+            this.modificationCount++;
+        }
+    }
+
+    /**
+     * Adds the specified amount to a value in the table (a <code>null</code>
+     * value is treated as zero), adding the row and/or column if necessary.
+     * The update is atomic, so this method can be used to accumulate values
+     * from several threads.
+     *
+     * @param value  the amount to add.
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void incrementValue(double value, Comparable rowKey,
+            Comparable columnKey) {
+        checkKeys(rowKey, columnKey);
+        synchronized (this) {
+            Table t = this.table;
+            double current = 0.0;
+            int r = t.getRowIndex(rowKey);
+            int c = t.getColumnIndex(columnKey);
+            if (r >= 0 && c >= 0) {
+                Number n = t.getValue(r, c);
+                if (n != null) {
+                    current = n.doubleValue();
+                }
+            }
+            this.table = t.setValue(current + value, rowKey, columnKey);
+            this.modificationCount++;
+        }
+    }
+
+    /**
+     * Sets a value in the table to <code>null</code>.  The row and column
+     * are retained.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException if either key is not defined in the dataset.
+     */
+    public void removeValue(Comparable rowKey, Comparable columnKey) {
+        checkKeys(rowKey, columnKey);
+        synchronized (this) {
+            Table t = this.table;
+            if (t.getRowIndex(rowKey) < 0) {
+                throw new UnknownKeyException("Row key (" + rowKey
+                        + ") not recognised.");
+            }
+            if (t.getColumnIndex(columnKey) < 0) {
+                throw new UnknownKeyException("Column key (" + columnKey
+                        + ") not recognised.");
+            }
+            this.table = t.setValue(Double.NaN, rowKey, columnKey);
+            this.modificationCount++;
+        }
+    }
+
+    /**
+     * Clears all data from the dataset.
+     */
+    public void clear() {
+        synchronized (this) {
+            this.table = Table.EMPTY;
+            this.modificationCount++;
+        }
+    }
+
+    /**
+     * Checks the keys for a value.
+     *
+     * @param rowKey  the row key.
+     * @param columnKey  the column key.
+     */
+    private void checkKeys(Comparable rowKey, Comparable columnKey) {
+        if (rowKey == null) {
+            throw new IllegalArgumentException("Null 'rowKey' argument.");
+        }
+        if (columnKey == null) {
+            throw new IllegalArgumentException("Null 'columnKey' argument.");
+        }
+    }
+
+    /**
+     * Returns an immutable snapshot of the dataset.  The snapshot shares
+     * storage with the dataset, so this is a constant time operation.
+     *
+     * @return The snapshot (a {@link CategoryDataset}).
+     */
+    public Dataset createSnapshot() {
+        return new Snapshot(this, this.table);
+    }
+
+    /**
+     * Sends a {@link org.jfree.data.general.DatasetChangeEvent} to all
+     * registered listeners if the dataset has changed since the last call to
+     * this method.  The listeners are called on the thread that calls this
+     * method.
+     *
+     * @return A boolean that indicates whether or not an event was sent.
+     */
+    public boolean fireDatasetChangedIfModified() {
+        int count = this.modificationCount;
+        synchronized (this) {
+            if (count == this.notifiedCount) {
+                return false;
+            }
+            this.notifiedCount = count;
+        }
+        fireDatasetChanged();
+        return true;
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof CategoryDataset)) {
+            return false;
+        }
+        return this.table.equals((CategoryDataset) obj);
+    }
+
+    /**
+     * Returns a hash code for the dataset.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        Table t = this.table;
+        return 29 * t.getRowCount() + t.getColumnCount();
+    }
+
+    /**
+     * Returns a clone of the dataset.  The table is immutable, so it is
+     * shared with the clone.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning the
+     *         dataset.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        ConcurrentCategoryDataset clone
+                = (ConcurrentCategoryDataset) super.clone();
+        clone.modificationCount = 0;
+        clone.notifiedCount = 0;
+        return clone;
+    }
+
+    /**
+     * An immutable table of values.
+     */
+    private static final class Table implements Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -6093823582633000624L;
+
+        /** An empty table. */
+        static final Table EMPTY = new Table(new Comparable[0],
+                new Comparable[0], new HashMap(), new HashMap(),
+                new double[0][], 0);
+
+        /** The row keys. */
+        private final Comparable[] rowKeys;
+
+        /** The column keys. */
+        private final Comparable[] columnKeys;
+
+        /** Maps row keys to row indices (as Integer objects). */
+        private final Map rowIndex;
+
+        /** Maps column keys to column indices (as Integer objects). */
+        private final Map columnIndex;
+
+        /**
+         * The values, one array per row.  The arrays can be longer than the
+         * column count, in which case the extra values are
+         * <code>Double.NaN</code>.
+         */
+        private final double[][] values;
+
+        /** The length of the row arrays. */
+        private final int capacity;
+
+        /**
+         * Creates a new table.  None of the arguments are copied.
+         *
+         * @param rowKeys  the row keys.
+         * @param columnKeys  the column keys.
+         * @param rowIndex  the row index map.
+         * @param columnIndex  the column index map.
+         * @param values  the values.
+         * @param capacity  the length of the row arrays.
+         */
+        private Table(Comparable[] rowKeys, Comparable[] columnKeys,
+                Map rowIndex, Map columnIndex, double[][] values,
+                int capacity) {
+            this.rowKeys = rowKeys;
+            this.columnKeys = columnKeys;
+            this.rowIndex = rowIndex;
+            this.columnIndex = columnIndex;
+            this.values = values;
+            this.capacity = capacity;
+        }
+
+        /**
+         * Returns the row count.
+         *
+         * @return The row count.
+         */
+        int getRowCount() {
+            return this.rowKeys.length;
+        }
+
+        /**
+         * Returns the column count.
+         *
+         * @return The column count.
+         */
+        int getColumnCount() {
+            return this.columnKeys.length;
+        }
+
+        /**
+         * Returns a row key.
+         *
+         * @param row  the row index.
+         *
+         * @return The key.
+         */
+        Comparable getRowKey(int row) {
+            return this.rowKeys[row];
+        }
+
+        /**
+         * Returns a column key.
+         *
+         * @param column  the column index.
+         *
+         * @return The key.
+         */
+        Comparable getColumnKey(int column) {
+            return this.columnKeys[column];
+        }
+
+        /**
+         * Returns the index for a row key.
+         *
+         * @param key  the key.
+         *
+         * @return The index (or <code>-1</code>).
+         */
+        int getRowIndex(Comparable key) {
+            Integer i = (Integer) this.rowIndex.get(key);
+            return (i != null ? i.intValue() : -1);
+        }
+
+        /**
+         * Returns the index for a column key.
+         *
+         * @param key  the key.
+         *
+         * @return The index (or <code>-1</code>).
+         */
+        int getColumnIndex(Comparable key) {
+            Integer i = (Integer) this.columnIndex.get(key);
+            return (i != null ? i.intValue() : -1);
+        }
+
+        /**
+         * Returns the row keys.
+         *
+         * @return The keys (an unmodifiable list).
+         */
+        List getRowKeys() {
+            return Collections.unmodifiableList(Arrays.asList(this.rowKeys));
+        }
+
+        /**
+         * Returns the column keys.
+         *
+         * @return The keys (an unmodifiable list).
+         */
+        List getColumnKeys() {
+            return Collections.unmodifiableList(Arrays.asList(
+                    this.columnKeys));
+        }
+
+        /**
+         * Returns a value.
+         *
+         * @param row  the row index.
+         * @param column  the column index.
+         *
+         * @return The value (possibly <code>null</code>).
+         */
+        Number getValue(int row, int column) {
+            if (column < 0 || column >= this.columnKeys.length) {
+                throw new IndexOutOfBoundsException("Column index "
+                        + column + " out of bounds.");
+            }
+            double v = this.values[row][column];
+            return (Double.isNaN(v) ? null : new Double(v));
+        }
+
+        /**
+         * Returns a value.
+         *
+         * @param rowKey  the row key.
+         * @param columnKey  the column key.
+         *
+         * @return The value (possibly <code>null</code>).
+         */
+        Number getValue(Comparable rowKey, Comparable columnKey) {
+            int r = getRowIndex(rowKey);
+            if (r < 0) {
+                throw new UnknownKeyException("Row key (" + rowKey
+                        + ") not recognised.");
+            }
+            int c = getColumnIndex(columnKey);
+            if (c < 0) {
+                throw new UnknownKeyException("Column key (" + columnKey
+                        + ") not recognised.");
+            }
+            return getValue(r, c);
+        }
+
+        /**
+         * Returns a new table with the specified value.
+         *
+         * @param value  the value.
+         * @param rowKey  the row key.
+         * @param columnKey  the column key.
+         *
+         * @return The new table.
+         */
+        Table setValue(double value, Comparable rowKey,
+                Comparable columnKey) {
+            Comparable[] rk = this.rowKeys;
+            Comparable[] ck = this.columnKeys;
+            Map ri = this.rowIndex;
+            Map ci = this.columnIndex;
+            double[][] v = this.values;
+            int cap = this.capacity;
+            int c = getColumnIndex(columnKey);
+            if (c < 0) {
+                c = ck.length;
+                ck = new Comparable[c + 1];
+                System.arraycopy(this.columnKeys, 0, ck, 0, c);
+                ck[c] = columnKey;
+                ci = new HashMap(ci);
+                ci.put(columnKey, new Integer(c));
+                if (c >= cap) {
+                    cap = Math.max(4, cap * 2);
+                    double[][] grown = new double[v.length][];
+                    for (int i = 0; i < v.length; i++) {
+                        grown[i] = newRow(cap);
+                        System.arraycopy(v[i], 0, grown[i], 0, c);
+                    }
+                    v = grown;
+                }
+            }
+            int r = getRowIndex(rowKey);
+            double[] row;
+            if (r < 0) {
+                r = rk.length;
+                rk = new Comparable[r + 1];
+                System.arraycopy(this.rowKeys, 0, rk, 0, r);
+                rk[r] = rowKey;
+                ri = new HashMap(ri);
+                ri.put(rowKey, new Integer(r));
+                row = newRow(cap);
+            }
+            else {
+                row = (double[]) v[r].clone();
+            }
+            row[c] = value;
+            double[][] n = new double[rk.length][];
+            System.arraycopy(v, 0, n, 0, v.length);
+            n[r] = row;
+            return new Table(rk, ck, ri, ci, n, cap);
+        }
+
+        /**
+         * Creates a new row filled with <code>Double.NaN</code>.
+         *
+         * @param capacity  the length of the row.
+         *
+         * @return The row.
+         */
+        private static double[] newRow(int capacity) {
+            double[] result = new double[capacity];
+            Arrays.fill(result, Double.NaN);
+            return result;
+        }
+
+        /**
+         * Tests this table for equality with a dataset.
+         *
+         * @param that  the dataset.
+         *
+         * @return A boolean.
+         */
+        boolean equals(CategoryDataset that) {
+            if (!getRowKeys().equals(that.getRowKeys())) {
+                return false;
+            }
+            if (!getColumnKeys().equals(that.getColumnKeys())) {
+                return false;
+            }
+            for (int r = 0; r < this.rowKeys.length; r++) {
+                for (int c = 0; c < this.columnKeys.length; c++) {
+                    Number v1 = getValue(r, c);
+                    Number v2 = that.getValue(r, c);
+                    if (v1 == null) {
+                        if (v2 != null) {
+                            return false;
+                        }
+                    }
+                    else if (!v1.equals(v2)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+    }
+
+    /**
+     * An immutable snapshot of a {@link ConcurrentCategoryDataset}.
+     */
+    private static class Snapshot extends AbstractDataset
+            implements CategoryDataset, DatasetSnapshot {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -9186964338278091361L;
+
+        /** The dataset that the snapshot was taken from. */
+        private ConcurrentCategoryDataset source;
+
+        /** The table. */
+        private Table table;
+
+        /**
+         * Creates a new snapshot.
+         *
+         * @param source  the dataset that the snapshot is taken from.
+         * @param table  the table.
+         */
+        Snapshot(ConcurrentCategoryDataset source, Table table) {
+            this.source = source;
+            this.table = table;
+        }
+
+        /**
+         * Returns the dataset that this snapshot was taken from.
+         *
+         * @return The source dataset.
+         */
+        public Dataset getSource() {
+            return this.source;
+        }
+
+        /**
+         * Returns the number of rows in the table.
+         *
+         * @return The row count.
+         */
+        public int getRowCount() {
+            return this.table.getRowCount();
+        }
+
+        /**
+         * Returns the number of columns in the table.
+         *
+         * @return The column count.
+         */
+        public int getColumnCount() {
+            return this.table.getColumnCount();
+        }
+
+        /**
+         * Returns a value from the table.
+         *
+         * @param row  the row index (zero-based).
+         * @param column  the column index (zero-based).
+         *
+         * @return The value (possibly <code>null</code>).
+         */
+        public Number getValue(int row, int column) {
+            return this.table.getValue(row, column);
+        }
+
+        /**
+         * Returns the key for the specified row.
+         *
+         * @param row  the row index (zero-based).
+         *
+         * @return The row key.
+         */
+        public Comparable getRowKey(int row) {
+            return this.table.getRowKey(row);
+        }
+
+        /**
+         * Returns the row index for a given key.
+         *
+         * @param key  the row key.
+         *
+         * @return The row index (or <code>-1</code>).
+         */
+        public int getRowIndex(Comparable key) {
+            return this.table.getRowIndex(key);
+        }
+
+        /**
+         * Returns the row keys.
+         *
+         * @return The keys.
+         */
+        public List getRowKeys() {
+            return this.table.getRowKeys();
+        }
+
+        /**
+         * Returns a column key.
+         *
+         * @param column  the column index (zero-based).
+         *
+         * @return The column key.
+         */
+        public Comparable getColumnKey(int column) {
+            return this.table.getColumnKey(column);
+        }
+
+        /**
+         * Returns the column index for a given key.
+         *
+         * @param key  the column key.
+         *
+         * @return The column index (or <code>-1</code>).
+         */
+        public int getColumnIndex(Comparable key) {
+            return this.table.getColumnIndex(key);
+        }
+
+        /**
+         * Returns the column keys.
+         *
+         * @return The keys.
+         */
+        public List getColumnKeys() {
+            return this.table.getColumnKeys();
+        }
+
+        /**
+         * Returns the value for a pair of keys.
+         *
+         * @param rowKey  the row key.
+         * @param columnKey  the column key.
+         *
+         * @return The value (possibly <code>null</code>).
+         */
+        public Number getValue(Comparable rowKey, Comparable columnKey) {
+            return this.table.getValue(rowKey, columnKey);
+        }
+
+    }
+
+}
@@ -43,6 +43,8 @@
  * 26-Feb-2007 : Updated API docs (DG);
  * 08-Mar-2007 : Implemented clone() (DG);
  * 09-May-2008 : Implemented PublicCloneable (DG);
+ * 18-Oct-2026 : Send a change summary when a single value is added or
+ *               updated (DG);
  *
  */
 
@@ -55,6 +57,8 @@ import org.jfree.data.DefaultKeyedValues2D;
 import org.jfree.data.UnknownKeyException;
 import org.jfree.data.general.AbstractDataset;
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.util.PublicCloneable;
 
 /**
@@ -219,8 +223,7 @@ public class DefaultCategoryDataset extends AbstractDataset
      */
     public void addValue(Number value, Comparable rowKey,
                          Comparable columnKey) {
-        this.data.addValue(value, rowKey, columnKey);
-        fireDatasetChanged();
+        putValue(value, rowKey, columnKey);
     }
 
     /**
@@ -249,8 +252,42 @@ public class DefaultCategoryDataset extends AbstractDataset
      */
     public void setValue(Number value, Comparable rowKey,
                          Comparable columnKey) {
+        putValue(value, rowKey, columnKey);
+    }
+
+    /**
+     * Adds or updates a value in the table and sends a
+     * {@link DatasetChangeEvent}, with a summary of the change, to all
+     * registered listeners.
+     *
+     * @param value  the value (<code>null</code> permitted).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    private void putValue(Number value, Comparable rowKey,
+            Comparable columnKey) {
+        if (rowKey == null) {
+            throw new IllegalArgumentException("Null 'rowKey' argument.");
+        }
+        if (columnKey == null) {
+            throw new IllegalArgumentException("Null 'columnKey' argument.");
+        }
+        int row = this.data.getRowIndex(rowKey);
+        int column = this.data.getColumnIndex(columnKey);
+        SeriesChangeType type = SeriesChangeType.ADD;
+        if (row >= 0 && column >= 0) {
+            if (this.data.getValue(row, column) != null) {
+                type = SeriesChangeType.UPDATE;
+            }
+        }
         this.data.setValue(value, rowKey, columnKey);
-        fireDatasetChanged();
+        if (row < 0 || column < 0) {
+            // a new key may have moved other rows or columns
+            row = this.data.getRowIndex(rowKey);
+            column = this.data.getColumnIndex(columnKey);
+        }
+        notifyListeners(new DatasetChangeEvent(this, this, row,
+                new SeriesChangeInfo(type, column, column)));
     }
 
     /**
@@ -0,0 +1,206 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * DenseCategoryDataset.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+
+package org.jfree.data.category;
+
+import java.util.Arrays;
+
+/**
+ * A {@link CategoryDataset} that stores its values in a dense matrix of
+ * primitive <code>double</code> values (one array per row).  This uses
+ * 8 bytes per item, whether or not the item has a value, so it is suited to
+ * tables where most items have a value.  For tables where most items are
+ * <code>null</code>, see {@link SparseCategoryDataset}.
+ * <P>
+ * See {@link DoubleCategoryDataset} for the handling of <code>null</code>
+ * values.
+ *
+ * @since 1.0.13
+ */
+public class DenseCategoryDataset extends DoubleCategoryDataset {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 6185040658960787338L;
+
+    /** The rows (the array may be longer than the row count). */
+    private double[][] rows;
+
+    /** The length of each row array (at least the column count). */
+    private int columnCapacity;
+
+    /**
+     * Creates a new (empty) dataset.
+     */
+    public DenseCategoryDataset() {
+        this(10, 10);
+    }
+
+    /**
+     * Creates a new (empty) dataset with storage preallocated for the
+     * specified number of rows and columns.  The storage grows as required,
+     * so the sizes are only a hint.
+     *
+     * @param rowCapacity  the initial row capacity.
+     * @param columnCapacity  the initial column capacity.
+     */
+    public DenseCategoryDataset(int rowCapacity, int columnCapacity) {
+        if (rowCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'rowCapacity' >= 0.");
+        }
+        if (columnCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'columnCapacity' >= 0.");
+        }
+        this.rows = new double[Math.max(rowCapacity, 1)][];
+        this.columnCapacity = Math.max(columnCapacity, 1);
+    }
+
+    /**
+     * Returns the value stored at the specified position.
+     *
+     * @param row  the row index.
+     * @param column  the column index.
+     *
+     * @return The value (<code>Double.NaN</code> for <code>null</code>).
+     */
+    protected double getCell(int row, int column) {
+        return this.rows[row][column];
+    }
+
+    /**
+     * Stores a value at the specified position.
+     *
+     * @param row  the row index.
+     * @param column  the column index.
+     * @param value  the value.
+     */
+    protected void setCell(int row, int column, double value) {
+        this.rows[row][column] = value;
+    }
+
+    /**
+     * Extends the storage for a new row.
+     */
+    protected void rowAdded() {
+        int row = getRowCount() - 1;
+        if (row == this.rows.length) {
+            double[][] grown = new double[this.rows.length * 2][];
+            System.arraycopy(this.rows, 0, grown, 0, row);
+            this.rows = grown;
+        }
+        double[] values = new double[this.columnCapacity];
+        Arrays.fill(values, Double.NaN);
+        this.rows[row] = values;
+    }
+
+    /**
+     * Extends the storage for a new column.
+     */
+    protected void columnAdded() {
+        if (getColumnCount() > this.columnCapacity) {
+            int capacity = this.columnCapacity * 2;
+            int rowCount = getRowCount();
+            for (int r = 0; r < rowCount; r++) {
+                double[] grown = new double[capacity];
+                System.arraycopy(this.rows[r], 0, grown, 0,
+                        this.columnCapacity);
+                Arrays.fill(grown, this.columnCapacity, capacity,
+                        Double.NaN);
+                this.rows[r] = grown;
+            }
+            this.columnCapacity = capacity;
+        }
+    }
+
+    /**
+     * Removes the storage for a row.
+     *
+     * @param row  the row index.
+     */
+    protected void deleteRow(int row) {
+        int rowCount = getRowCount();
+        System.arraycopy(this.rows, row + 1, this.rows, row,
+                rowCount - row - 1);
+        this.rows[rowCount - 1] = null;
+    }
+
+    /**
+     * Removes the storage for a column.
+     *
+     * @param column  the column index.
+     */
+    protected void deleteColumn(int column) {
+        int rowCount = getRowCount();
+        int columnCount = getColumnCount();
+        for (int r = 0; r < rowCount; r++) {
+            double[] values = this.rows[r];
+            System.arraycopy(values, column + 1, values, column,
+                    columnCount - column - 1);
+            values[columnCount - 1] = Double.NaN;
+        }
+    }
+
+    /**
+     * Removes all the storage.
+     */
+    protected void clearCells() {
+        Arrays.fill(this.rows, null);
+    }
+
+    /**
+     * Returns a clone of the dataset.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning the
+     *         dataset.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        DenseCategoryDataset clone = (DenseCategoryDataset) super.clone();
+        clone.rows = new double[this.rows.length][];
+        for (int r = 0; r < getRowCount(); r++) {
+            clone.rows[r] = (double[]) this.rows[r].clone();
+        }
+        return clone;
+    }
+
+}
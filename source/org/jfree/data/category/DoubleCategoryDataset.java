@@ -0,0 +1,667 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------------
+ * DoubleCategoryDataset.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Send a change summary from setValue() (DG);
+ * 18-Oct-2026 : Compare values with doubleValue() in equals() (DG);
+ *
+ */
+
+
+package org.jfree.data.category;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.AbstractDataset;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeType;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A base class for {@link CategoryDataset} implementations that store their
+ * values as primitive <code>double</code> values in a matrix, rather than
+ * as <code>Number</code> objects.  The row and column keys are each held
+ * once, with a hash-based lookup from key to index, and the value for a
+ * (row, column) pair is obtained in constant time.
+ * <P>
+ * A <code>null</code> value is stored as <code>Double.NaN</code>, so
+ * <code>getValue()</code> returns <code>null</code> for any item that has
+ * been set to <code>null</code>, to <code>Double.NaN</code>, or not set at
+ * all.  Non-null values are returned as <code>Double</code> instances,
+ * whatever type of <code>Number</code> was added.  Apart from that, these
+ * datasets behave like a {@link DefaultCategoryDataset}, and can be used
+ * anywhere that a {@link CategoryDataset} is accepted.
+ * <P>
+ * Subclasses provide the storage for the values (see
+ * {@link DenseCategoryDataset} and {@link SparseCategoryDataset}).
+ *
+ * @since 1.0.13
+ */
+public abstract class DoubleCategoryDataset extends AbstractDataset
+        implements CategoryDataset, RangeInfo, PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2709151591707815315L;
+
+    /** The row keys. */
+    private KeyIndex rowKeys;
+
+    /** The column keys. */
+    private KeyIndex columnKeys;
+
+    /**
+     * Creates a new (empty) dataset.
+     */
+    protected DoubleCategoryDataset() {
+        this.rowKeys = new KeyIndex();
+        this.columnKeys = new KeyIndex();
+    }
+
+    /**
+     * Returns the number of rows in the table.
+     *
+     * @return The row count.
+     *
+     * @see #getColumnCount()
+     */
+    public int getRowCount() {
+        return this.rowKeys.getKeyCount();
+    }
+
+    /**
+     * Returns the number of columns in the table.
+     *
+     * @return The column count.
+     *
+     * @see #getRowCount()
+     */
+    public int getColumnCount() {
+        return this.columnKeys.getKeyCount();
+    }
+
+    /**
+     * Returns a value from the table.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (possibly <code>null</code>).
+     *
+     * @see #getDoubleValue(int, int)
+     */
+    public Number getValue(int row, int column) {
+        double value = getDoubleValue(row, column);
+        return (Double.isNaN(value) ? null : new Double(value));
+    }
+
+    /**
+     * Returns a value from the table as a primitive, without creating a
+     * <code>Number</code> object.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (<code>Double.NaN</code> for a <code>null</code>
+     *     value).
+     *
+     * @throws IndexOutOfBoundsException if <code>row</code> or
+     *     <code>column</code> is out of range.
+     */
+    public double getDoubleValue(int row, int column) {
+        if (row < 0 || row >= getRowCount()) {
+            throw new IndexOutOfBoundsException("Row index out of bounds: "
+                    + row);
+        }
+        if (column < 0 || column >= getColumnCount()) {
+            throw new IndexOutOfBoundsException(
+                    "Column index out of bounds: " + column);
+        }
+        return getCell(row, column);
+    }
+
+    /**
+     * Returns the key for the specified row.
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return The row key.
+     *
+     * @see #getRowIndex(Comparable)
+     */
+    public Comparable getRowKey(int row) {
+        return this.rowKeys.getKey(row);
+    }
+
+    /**
+     * Returns the row index for a given key.
+     *
+     * @param key  the row key (<code>null</code> not permitted).
+     *
+     * @return The row index, or -1 if the key is not defined.
+     *
+     * @see #getRowKey(int)
+     */
+    public int getRowIndex(Comparable key) {
+        return this.rowKeys.getIndex(key);
+    }
+
+    /**
+     * Returns the row keys.
+     *
+     * @return The keys (in an unmodifiable list).
+     *
+     * @see #getRowKey(int)
+     */
+    public List getRowKeys() {
+        return this.rowKeys.getKeys();
+    }
+
+    /**
+     * Returns a column key.
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The column key.
+     *
+     * @see #getColumnIndex(Comparable)
+     */
+    public Comparable getColumnKey(int column) {
+        return this.columnKeys.getKey(column);
+    }
+
+    /**
+     * Returns the column index for a given key.
+     *
+     * @param key  the column key (<code>null</code> not permitted).
+     *
+     * @return The column index, or -1 if the key is not defined.
+     *
+     * @see #getColumnKey(int)
+     */
+    public int getColumnIndex(Comparable key) {
+        return this.columnKeys.getIndex(key);
+    }
+
+    /**
+     * Returns the column keys.
+     *
+     * @return The keys (in an unmodifiable list).
+     *
+     * @see #getColumnKey(int)
+     */
+    public List getColumnKeys() {
+        return this.columnKeys.getKeys();
+    }
+
+    /**
+     * Returns the value for a pair of keys.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @return The value (possibly <code>null</code>).
+     *
+     * @throws UnknownKeyException if either key is not defined in the dataset.
+     */
+    public Number getValue(Comparable rowKey, Comparable columnKey) {
+        if (rowKey == null) {
+            throw new IllegalArgumentException("Null 'rowKey' argument.");
+        }
+        if (columnKey == null) {
+            throw new IllegalArgumentException("Null 'columnKey' argument.");
+        }
+        int column = this.columnKeys.getIndex(columnKey);
+        if (column < 0) {
+            throw new UnknownKeyException("Unrecognised columnKey: "
+                    + columnKey);
+        }
+        int row = this.rowKeys.getIndex(rowKey);
+        if (row < 0) {
+            throw new UnknownKeyException("Unrecognised rowKey: " + rowKey);
+        }
+        return getValue(row, column);
+    }
+
+    /**
+     * Adds a value to the table.  Performs the same function as setValue().
+     *
+     * @param value  the value (<code>null</code> permitted).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void addValue(Number value, Comparable rowKey,
+                         Comparable columnKey) {
+        setValue(value, rowKey, columnKey);
+    }
+
+    /**
+     * Adds a value to the table.  Performs the same function as setValue().
+     *
+     * @param value  the value.
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void addValue(double value, Comparable rowKey,
+                         Comparable columnKey) {
+        setValue(value, rowKey, columnKey);
+    }
+
+    /**
+     * Adds or updates a value in the table and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param value  the value (<code>null</code> permitted).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void setValue(Number value, Comparable rowKey,
+                         Comparable columnKey) {
+        setValue(value != null ? value.doubleValue() : Double.NaN, rowKey,
+                columnKey);
+    }
+
+    /**
+     * Adds or updates a value in the table and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param value  the value (<code>Double.NaN</code> for a
+     *     <code>null</code> value).
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     */
+    public void setValue(double value, Comparable rowKey,
+                         Comparable columnKey) {
+        if (rowKey == null) {
+            throw new IllegalArgumentException("Null 'rowKey' argument.");
+        }
+        if (columnKey == null) {
+            throw new IllegalArgumentException("Null 'columnKey' argument.");
+        }
+        int row = this.rowKeys.getIndex(rowKey);
+        if (row < 0) {
+            row = this.rowKeys.add(rowKey);
+            rowAdded();
+        }
+        int column = this.columnKeys.getIndex(columnKey);
+        if (column < 0) {
+            column = this.columnKeys.add(columnKey);
+            columnAdded();
+        }
+        SeriesChangeType type = Double.isNaN(getCell(row, column))
+                ? SeriesChangeType.ADD : SeriesChangeType.UPDATE;
+        setCell(row, column, value);
+        notifyListeners(new DatasetChangeEvent(this, this, row,
+                new SeriesChangeInfo(type, column, column)));
+    }
+
+    /**
+     * Adds the specified value to an existing value in the dataset (if the
+     * existing value is <code>null</code>, it is treated as if it were 0.0).
+     *
+     * @param value  the value.
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException if either key is not defined in the dataset.
+     */
+    public void incrementValue(double value, Comparable rowKey,
+                               Comparable columnKey) {
+        double existing = 0.0;
+        Number n = getValue(rowKey, columnKey);
+        if (n != null) {
+            existing = n.doubleValue();
+        }
+        setValue(existing + value, rowKey, columnKey);
+    }
+
+    /**
+     * Removes a value from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.  If this leaves a row or a column with no
+     * values, that row or column is also removed (as in
+     * {@link DefaultCategoryDataset}).
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException if either key is not defined in the dataset.
+     */
+    public void removeValue(Comparable rowKey, Comparable columnKey) {
+        if (rowKey == null) {
+            throw new IllegalArgumentException("Null 'rowKey' argument.");
+        }
+        if (columnKey == null) {
+            throw new IllegalArgumentException("Null 'columnKey' argument.");
+        }
+        int row = this.rowKeys.getIndex(rowKey);
+        if (row < 0) {
+            throw new UnknownKeyException("Unrecognised rowKey: " + rowKey);
+        }
+        int column = this.columnKeys.getIndex(columnKey);
+        if (column < 0) {
+            throw new UnknownKeyException("Unrecognised columnKey: "
+                    + columnKey);
+        }
+        setCell(row, column, Double.NaN);
+
+        boolean empty = true;
+        for (int c = 0; c < getColumnCount() && empty; c++) {
+            empty = Double.isNaN(getCell(row, c));
+        }
+        if (empty) {
+            deleteRow(row);
+            this.rowKeys.remove(row);
+        }
+        empty = true;
+        for (int r = 0; r < getRowCount() && empty; r++) {
+            empty = Double.isNaN(getCell(r, column));
+        }
+        if (empty) {
+            deleteColumn(column);
+            this.columnKeys.remove(column);
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a row from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param rowIndex  the row index.
+     *
+     * @see #removeColumn(int)
+     */
+    public void removeRow(int rowIndex) {
+        if (rowIndex < 0 || rowIndex >= getRowCount()) {
+            throw new IndexOutOfBoundsException("Row index out of bounds: "
+                    + rowIndex);
+        }
+        deleteRow(rowIndex);
+        this.rowKeys.remove(rowIndex);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a row from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException if <code>rowKey</code> is not defined in
+     *         the dataset.
+     *
+     * @see #removeColumn(Comparable)
+     */
+    public void removeRow(Comparable rowKey) {
+        int index = getRowIndex(rowKey);
+        if (index < 0) {
+            throw new UnknownKeyException("Unknown key: " + rowKey);
+        }
+        removeRow(index);
+    }
+
+    /**
+     * Removes a column from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param columnIndex  the column index.
+     *
+     * @see #removeRow(int)
+     */
+    public void removeColumn(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= getColumnCount()) {
+            throw new IndexOutOfBoundsException(
+                    "Column index out of bounds: " + columnIndex);
+        }
+        deleteColumn(columnIndex);
+        this.columnKeys.remove(columnIndex);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a column from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @throws UnknownKeyException if <code>columnKey</code> is not defined
+     *         in the dataset.
+     *
+     * @see #removeRow(Comparable)
+     */
+    public void removeColumn(Comparable columnKey) {
+        int index = getColumnIndex(columnKey);
+        if (index < 0) {
+            throw new UnknownKeyException("Unknown key: " + columnKey);
+        }
+        removeColumn(index);
+    }
+
+    /**
+     * Clears all data from the dataset and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     */
+    public void clear() {
+        this.rowKeys.clear();
+        this.columnKeys.clear();
+        clearCells();
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the minimum value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there are no
+     *     values).
+     */
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there are no
+     *     values).
+     */
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the values in the dataset.  The values are
+     * scanned directly, without creating <code>Number</code> objects.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The range (<code>null</code> if there are no values).
+     */
+    public Range getRangeBounds(boolean includeInterval) {
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        int rowCount = getRowCount();
+        int columnCount = getColumnCount();
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < columnCount; c++) {
+                double v = getCell(r, c);
+                if (!Double.isNaN(v)) {
+                    minimum = Math.min(minimum, v);
+                    maximum = Math.max(maximum, v);
+                }
+            }
+        }
+        if (minimum > maximum) {
+            return null;
+        }
+        return new Range(minimum, maximum);
+    }
+
+    /**
+     * Returns the value stored at the specified position, with no range
+     * checking.
+     *
+     * @param row  the row index.
+     * @param column  the column index.
+     *
+     * @return The value (<code>Double.NaN</code> for <code>null</code>).
+     */
+    protected abstract double getCell(int row, int column);
+
+    /**
+     * Stores a value at the specified position.
+     *
+     * @param row  the row index.
+     * @param column  the column index.
+     * @param value  the value (<code>Double.NaN</code> for
+     *     <code>null</code>).
+     */
+    protected abstract void setCell(int row, int column, double value);
+
+    /**
+     * Called after a row has been added at the end of the table, so that the
+     * storage can be extended (the new row holds no values).
+     */
+    protected abstract void rowAdded();
+
+    /**
+     * Called after a column has been added at the end of the table, so that
+     * the storage can be extended (the new column holds no values).
+     */
+    protected abstract void columnAdded();
+
+    /**
+     * Called just before a row is removed, so that the storage for it can be
+     * released (the rows that follow move down by one place).
+     *
+     * @param row  the row index.
+     */
+    protected abstract void deleteRow(int row);
+
+    /**
+     * Called just before a column is removed, so that the storage for it can
+     * be released (the columns that follow move down by one place).
+     *
+     * @param column  the column index.
+     */
+    protected abstract void deleteColumn(int column);
+
+    /**
+     * Called when all rows and columns have been removed.
+     */
+    protected abstract void clearCells();
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.  The object
+     * is equal if it is a {@link CategoryDataset} with the same keys and
+     * values.  The values are compared with <code>doubleValue()</code>, since
+     * this dataset holds every value as a <code>double</code> (so a value of
+     * <code>new Integer(1)</code> in the other dataset is equal to 1.0
+     * here).
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof CategoryDataset)) {
+            return false;
+        }
+        CategoryDataset that = (CategoryDataset) obj;
+        if (!getRowKeys().equals(that.getRowKeys())) {
+            return false;
+        }
+        if (!getColumnKeys().equals(that.getColumnKeys())) {
+            return false;
+        }
+        int rowCount = getRowCount();
+        int colCount = getColumnCount();
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < colCount; c++) {
+                double v1 = getDoubleValue(r, c);
+                Number v2 = that.getValue(r, c);
+                if (Double.isNaN(v1)) {
+                    if (v2 != null) {
+                        return false;
+                    }
+                }
+                else if (v2 == null || v1 != v2.doubleValue()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for the dataset.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        int result = this.rowKeys.hashCode();
+        result = 29 * result + this.columnKeys.hashCode();
+        return result;
+    }
+
+    /**
+     * Returns a clone of the dataset.  Subclasses must copy their storage.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning the
+     *         dataset.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        DoubleCategoryDataset clone = (DoubleCategoryDataset) super.clone();
+        clone.rowKeys = (KeyIndex) this.rowKeys.clone();
+        clone.columnKeys = (KeyIndex) this.columnKeys.clone();
+        return clone;
+    }
+
+}
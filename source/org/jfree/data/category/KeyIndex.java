@@ -0,0 +1,195 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------
+ * KeyIndex.java
+ * -------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+
+package org.jfree.data.category;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * An ordered list of keys with a hash-based lookup from key to index, used
+ * for the rows and columns of a {@link DoubleCategoryDataset}.
+ */
+class KeyIndex implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2926498394925837203L;
+
+    /** The keys, in order. */
+    private ArrayList keys;
+
+    /** The index (an <code>Integer</code>) for each key. */
+    private HashMap indices;
+
+    /**
+     * Creates a new (empty) index.
+     */
+    public KeyIndex() {
+        this.keys = new ArrayList();
+        this.indices = new HashMap();
+    }
+
+    /**
+     * Returns the number of keys.
+     *
+     * @return The key count.
+     */
+    public int getKeyCount() {
+        return this.keys.size();
+    }
+
+    /**
+     * Returns the key at the specified index.
+     *
+     * @param index  the index.
+     *
+     * @return The key.
+     */
+    public Comparable getKey(int index) {
+        return (Comparable) this.keys.get(index);
+    }
+
+    /**
+     * Returns the index for a key.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     *
+     * @return The index, or -1 if the key is not present.
+     */
+    public int getIndex(Comparable key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Null 'key' argument.");
+        }
+        Integer i = (Integer) this.indices.get(key);
+        return (i != null ? i.intValue() : -1);
+    }
+
+    /**
+     * Returns the keys in an unmodifiable list.
+     *
+     * @return The keys.
+     */
+    public List getKeys() {
+        return Collections.unmodifiableList(this.keys);
+    }
+
+    /**
+     * Adds a key at the end of the list.  The key must not already be
+     * present.
+     *
+     * @param key  the key (<code>null</code> not permitted).
+     *
+     * @return The index of the new key.
+     */
+    public int add(Comparable key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Null 'key' argument.");
+        }
+        int index = this.keys.size();
+        this.keys.add(key);
+        this.indices.put(key, new Integer(index));
+        return index;
+    }
+
+    /**
+     * Removes the key at the specified index.  The keys that follow it move
+     * down by one place.
+     *
+     * @param index  the index.
+     */
+    public void remove(int index) {
+        Object key = this.keys.remove(index);
+        this.indices.remove(key);
+        for (int i = index; i < this.keys.size(); i++) {
+            this.indices.put(this.keys.get(i), new Integer(i));
+        }
+    }
+
+    /**
+     * Removes all keys.
+     */
+    public void clear() {
+        this.keys.clear();
+        this.indices.clear();
+    }
+
+    /**
+     * Returns a hash code for the keys.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        return this.keys.hashCode();
+    }
+
+    /**
+     * Tests this index for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (!(obj instanceof KeyIndex)) {
+            return false;
+        }
+        return this.keys.equals(((KeyIndex) obj).keys);
+    }
+
+    /**
+     * Returns a clone of the index (the keys themselves are not cloned,
+     * since they should be immutable).
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException never.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        KeyIndex clone = (KeyIndex) super.clone();
+        clone.keys = (ArrayList) this.keys.clone();
+        clone.indices = (HashMap) this.indices.clone();
+        return clone;
+    }
+
+}
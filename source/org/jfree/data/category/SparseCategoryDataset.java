@@ -0,0 +1,349 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------------
+ * SparseCategoryDataset.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+
+package org.jfree.data.category;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A {@link CategoryDataset} that stores only the items that have a value,
+ * in a hash table of primitive <code>double</code> values for each row.
+ * This is suited to large tables where most items are <code>null</code>.
+ * Values are still obtained in (expected) constant time, and removing a
+ * column takes time proportional to the number of rows.  For tables where
+ * most items have a value, see {@link DenseCategoryDataset}.
+ * <P>
+ * See {@link DoubleCategoryDataset} for the handling of <code>null</code>
+ * values.
+ *
+ * @since 1.0.13
+ */
+public class SparseCategoryDataset extends DoubleCategoryDataset {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -3436377577596384962L;
+
+    /** The rows (the array may be longer than the row count). */
+    private Row[] rows;
+
+    /**
+     * A permanent identifier for each column, used as the key in the row
+     * tables so that removing a column does not renumber the stored items.
+     */
+    private int[] columnIds;
+
+    /** The identifier for the next column that is added. */
+    private int nextColumnId;
+
+    /**
+     * Creates a new (empty) dataset.
+     */
+    public SparseCategoryDataset() {
+        this.rows = new Row[10];
+        this.columnIds = new int[10];
+        this.nextColumnId = 0;
+    }
+
+    /**
+     * Returns the value stored at the specified position.
+     *
+     * @param row  the row index.
+     * @param column  the column index.
+     *
+     * @return The value (<code>Double.NaN</code> for <code>null</code>).
+     */
+    protected double getCell(int row, int column) {
+        return this.rows[row].get(this.columnIds[column]);
+    }
+
+    /**
+     * Stores a value at the specified position.
+     *
+     * @param row  the row index.
+     * @param column  the column index.
+     * @param value  the value.
+     */
+    protected void setCell(int row, int column, double value) {
+        if (Double.isNaN(value)) {
+            this.rows[row].remove(this.columnIds[column]);
+        }
+        else {
+            this.rows[row].put(this.columnIds[column], value);
+        }
+    }
+
+    /**
+     * Extends the storage for a new row.
+     */
+    protected void rowAdded() {
+        int row = getRowCount() - 1;
+        if (row == this.rows.length) {
+            Row[] grown = new Row[this.rows.length * 2];
+            System.arraycopy(this.rows, 0, grown, 0, row);
+            this.rows = grown;
+        }
+        this.rows[row] = new Row();
+    }
+
+    /**
+     * Extends the storage for a new column.
+     */
+    protected void columnAdded() {
+        int column = getColumnCount() - 1;
+        if (column == this.columnIds.length) {
+            int[] grown = new int[this.columnIds.length * 2];
+            System.arraycopy(this.columnIds, 0, grown, 0, column);
+            this.columnIds = grown;
+        }
+        this.columnIds[column] = this.nextColumnId++;
+    }
+
+    /**
+     * Removes the storage for a row.
+     *
+     * @param row  the row index.
+     */
+    protected void deleteRow(int row) {
+        int rowCount = getRowCount();
+        System.arraycopy(this.rows, row + 1, this.rows, row,
+                rowCount - row - 1);
+        this.rows[rowCount - 1] = null;
+    }
+
+    /**
+     * Removes the storage for a column.
+     *
+     * @param column  the column index.
+     */
+    protected void deleteColumn(int column) {
+        int id = this.columnIds[column];
+        int rowCount = getRowCount();
+        for (int r = 0; r < rowCount; r++) {
+            this.rows[r].remove(id);
+        }
+        System.arraycopy(this.columnIds, column + 1, this.columnIds, column,
+                getColumnCount() - column - 1);
+    }
+
+    /**
+     * Removes all the storage.
+     */
+    protected void clearCells() {
+        Arrays.fill(this.rows, null);
+    }
+
+    /**
+     * Returns a clone of the dataset.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning the
+     *         dataset.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        SparseCategoryDataset clone = (SparseCategoryDataset) super.clone();
+        clone.rows = new Row[this.rows.length];
+        for (int r = 0; r < getRowCount(); r++) {
+            clone.rows[r] = (Row) this.rows[r].clone();
+        }
+        clone.columnIds = (int[]) this.columnIds.clone();
+        return clone;
+    }
+
+    /**
+     * An open-addressing hash table from column identifiers to values.
+     */
+    private static class Row implements Cloneable, Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 5416408127219893016L;
+
+        /** Marks an empty slot. */
+        private static final int EMPTY = -1;
+
+        /** The column identifiers (the length is a power of two). */
+        private int[] keys;
+
+        /** The values. */
+        private double[] values;
+
+        /** The number of items. */
+        private int size;
+
+        /**
+         * Creates an empty row.
+         */
+        public Row() {
+            this.keys = new int[8];
+            Arrays.fill(this.keys, EMPTY);
+            this.values = new double[8];
+        }
+
+        /**
+         * Returns the slot for a key: either the slot holding it, or the
+         * empty slot where it would be inserted.
+         *
+         * @param key  the key.
+         *
+         * @return The slot.
+         */
+        private int slot(int key) {
+            int mask = this.keys.length - 1;
+            int i = home(key, mask);
+            while (this.keys[i] != EMPTY && this.keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            return i;
+        }
+
+        /**
+         * Returns the preferred slot for a key.
+         *
+         * @param key  the key.
+         * @param mask  the table length minus one.
+         *
+         * @return The slot.
+         */
+        private static int home(int key, int mask) {
+            int h = key * 0x9E3779B9;
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        /**
+         * Returns the value for a key.
+         *
+         * @param key  the key.
+         *
+         * @return The value (<code>Double.NaN</code> if there is none).
+         */
+        public double get(int key) {
+            int i = slot(key);
+            return (this.keys[i] == EMPTY ? Double.NaN : this.values[i]);
+        }
+
+        /**
+         * Stores a value for a key.
+         *
+         * @param key  the key.
+         * @param value  the value.
+         */
+        public void put(int key, double value) {
+            int i = slot(key);
+            if (this.keys[i] == EMPTY) {
+                if (2 * (this.size + 1) > this.keys.length) {
+                    resize(this.keys.length * 2);
+                    i = slot(key);
+                }
+                this.keys[i] = key;
+                this.size++;
+            }
+            this.values[i] = value;
+        }
+
+        /**
+         * Removes the value for a key (if there is one).
+         *
+         * @param key  the key.
+         */
+        public void remove(int key) {
+            int i = slot(key);
+            if (this.keys[i] == EMPTY) {
+                return;
+            }
+            // shift back any following entries that probed past this slot
+            int mask = this.keys.length - 1;
+            int j = i;
+            while (true) {
+                j = (j + 1) & mask;
+                if (this.keys[j] == EMPTY) {
+                    break;
+                }
+                int home = home(this.keys[j], mask);
+                boolean movable = (i <= j) ? (home <= i || home > j)
+                        : (home <= i && home > j);
+                if (movable) {
+                    this.keys[i] = this.keys[j];
+                    this.values[i] = this.values[j];
+                    i = j;
+                }
+            }
+            this.keys[i] = EMPTY;
+            this.size--;
+        }
+
+        /**
+         * Resizes the table.
+         *
+         * @param capacity  the new capacity (a power of two).
+         */
+        private void resize(int capacity) {
+            int[] oldKeys = this.keys;
+            double[] oldValues = this.values;
+            this.keys = new int[capacity];
+            Arrays.fill(this.keys, EMPTY);
+            this.values = new double[capacity];
+            for (int k = 0; k < oldKeys.length; k++) {
+                if (oldKeys[k] != EMPTY) {
+                    int i = slot(oldKeys[k]);
+                    this.keys[i] = oldKeys[k];
+                    this.values[i] = oldValues[k];
+                }
+            }
+        }
+
+        /**
+         * Returns a copy of the row.
+         *
+         * @return A copy.
+         *
+         * @throws CloneNotSupportedException never.
+         */
+        public Object clone() throws CloneNotSupportedException {
+            Row clone = (Row) super.clone();
+            clone.keys = (int[]) this.keys.clone();
+            clone.values = (double[]) this.values.clone();
+            return clone;
+        }
+
+    }
+
+}
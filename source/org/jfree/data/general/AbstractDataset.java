@@ -52,6 +52,7 @@
  * 08-Sep-2003 : Serialization fixes (NB);
  * 11-Sep-2003 : Cloning Fixes (NB);
  * 01-Jun-2005 : Added hasListener() method for unit testing (DG);
+ * 18-Oct-2026 : Implemented ChangeBatchParticipant (DG);
  *
  */
 
@@ -74,7 +75,7 @@ import javax.swing.event.EventListenerList;
  * mechanism for registering change listeners.
  */
 public abstract class AbstractDataset implements Dataset, Cloneable,
-        Serializable, ObjectInputValidation {
+        Serializable, ObjectInputValidation, ChangeBatchParticipant {
 
     /** For serialization. */
     private static final long serialVersionUID = 1918768939869230744L;
@@ -85,6 +86,12 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
     /** Storage for registered change listeners. */
     private transient EventListenerList listenerList;
 
+    /**
+     * The event deferred while a {@link ChangeBatch} is open
+     * (<code>null</code> if there is none).
+     */
+    private transient DatasetChangeEvent batchedEvent;
+
     /**
      * Constructs a dataset. By default, the dataset is assigned to its own
      * group.
@@ -169,7 +176,9 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
     }
 
     /**
-     * Notifies all registered listeners that the dataset has changed.
+     * Notifies all registered listeners that the dataset has changed.  If a
+     * {@link ChangeBatch} is open, the event is merged with any other events
+     * deferred by this dataset, and sent when the batch is closed.
      *
      * @param event  contains information about the event that triggered the
      *               notification.
@@ -178,6 +187,61 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
      * @see #removeChangeListener(DatasetChangeListener)
      */
     protected void notifyListeners(DatasetChangeEvent event) {
+        if (this.batchedEvent != null) {
+            this.batchedEvent = mergeEvents(this.batchedEvent, event);
+            return;
+        }
+        if (ChangeBatch.defer(this, ChangeBatch.DATASET)) {
+            this.batchedEvent = event;
+            return;
+        }
+        dispatch(event);
+    }
+
+    /**
+     * Sends the change event that has been deferred during a batch (if any)
+     * to all registered listeners.
+     *
+     * @since 1.0.13
+     */
+    public void fireBatchedChange() {
+        DatasetChangeEvent event = this.batchedEvent;
+        this.batchedEvent = null;
+        if (event != null) {
+            dispatch(event);
+        }
+    }
+
+    /**
+     * Merges two change events for this dataset.  The summary is retained
+     * only if both events refer to the same series and carry a summary.
+     *
+     * @param e1  the first event.
+     * @param e2  the second event.
+     *
+     * @return The merged event.
+     */
+    private DatasetChangeEvent mergeEvents(DatasetChangeEvent e1,
+            DatasetChangeEvent e2) {
+        SeriesChangeInfo s1 = e1.getSummary();
+        SeriesChangeInfo s2 = e2.getSummary();
+        if (s1 != null && s2 != null
+                && e1.getSeriesIndex() == e2.getSeriesIndex()) {
+            SeriesChangeInfo merged = s1.merge(s2);
+            if (merged.getType() != SeriesChangeType.STRUCTURE) {
+                return new DatasetChangeEvent(this, this,
+                        e1.getSeriesIndex(), merged);
+            }
+        }
+        return new DatasetChangeEvent(this, this);
+    }
+
+    /**
+     * Sends a change event to all registered listeners.
+     *
+     * @param event  the event.
+     */
+    private void dispatch(DatasetChangeEvent event) {
 
         Object[] listeners = this.listenerList.getListenerList();
         for (int i = listeners.length - 2; i >= 0; i -= 2) {
@@ -202,6 +266,7 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
     public Object clone() throws CloneNotSupportedException {
         AbstractDataset clone = (AbstractDataset) super.clone();
         clone.listenerList = new EventListenerList();
+        clone.batchedEvent = null;
         return clone;
     }
 
@@ -39,6 +39,7 @@
  * 04-Oct-2002 : Fixed errors reported by Checkstyle (DG);
  * 04-Feb-2003 : Removed redundant methods (DG);
  * 27-Mar-2003 : Implemented Serializable (DG);
+ * 18-Oct-2026 : Pass the series change summary on to listeners (DG);
  *
  */
 
@@ -102,11 +103,41 @@ public abstract class AbstractSeriesDataset extends AbstractDataset
     }
 
     /**
-     * Called when a series belonging to the dataset changes.
+     * Returns the index of the specified series in this dataset.  This is
+     * used to pass a summary of the change to a series on to the dataset's
+     * listeners (see {@link #seriesChanged(SeriesChangeEvent)}).  The default
+     * implementation returns -1, subclasses that hold {@link Series} objects
+     * should override it.
+     *
+     * @param series  the series (<code>null</code> permitted).
+     *
+     * @return The series index, or -1 if the series does not belong to this
+     *     dataset.
+     *
+     * @since 1.0.13
+     */
+    protected int getSeriesIndex(Series series) {
+        return -1;
+    }
+
+    /**
+     * Called when a series belonging to the dataset changes.  If the event
+     * carries a summary of the change, and {@link #getSeriesIndex(Series)}
+     * locates the series, the {@link DatasetChangeEvent} sent to the
+     * dataset's listeners carries the same summary.
      *
      * @param event  information about the change.
      */
     public void seriesChanged(SeriesChangeEvent event) {
+        SeriesChangeInfo summary = event.getSummary();
+        if (summary != null && event.getSource() instanceof Series) {
+            int index = getSeriesIndex((Series) event.getSource());
+            if (index >= 0) {
+                notifyListeners(new DatasetChangeEvent(this, this, index,
+                        summary));
+                return;
+            }
+        }
         fireDatasetChanged();
     }
 
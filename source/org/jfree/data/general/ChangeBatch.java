@@ -0,0 +1,250 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------
+ * ChangeBatch.java
+ * ----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+
+package org.jfree.data.general;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A scope that defers the change notifications sent by series, datasets,
+ * plots and charts until the scope is closed, and then delivers a single
+ * (merged) event from each object that changed.  This is intended for bulk
+ * updates, where modifying many series (or many datasets in several charts)
+ * would otherwise trigger a chart redraw for every change.
+ * <P>
+ * A batch applies to all changes made by the thread that opened it, and
+ * should be used as follows:
+ * <pre>
+ * ChangeBatch batch = ChangeBatch.begin();
+ * try {
+ *     // update the series/datasets here
+ * }
+ * finally {
+ *     batch.end();
+ * }</pre>
+ * Batches can be nested, in which case the events are delivered when the
+ * outermost batch is closed.  Events are delivered in order:  first the
+ * series events, then the dataset events that they trigger, then the plot
+ * events and finally the chart events, so that each listener receives at most
+ * one event per source.
+ * <P>
+ * Changes made by other threads while a batch is open are not deferred.
+ *
+ * @since 1.0.13
+ */
+public final class ChangeBatch {
+
+    /** The notification level for series. */
+    public static final int SERIES = 0;
+
+    /** The notification level for datasets. */
+    public static final int DATASET = 1;
+
+    /** The notification level for plots. */
+    public static final int PLOT = 2;
+
+    /** The notification level for charts. */
+    public static final int CHART = 3;
+
+    /** The number of notification levels. */
+    private static final int LEVEL_COUNT = 4;
+
+    /** The batch (if any) for the current thread. */
+    private static final ThreadLocal CURRENT = new ThreadLocal();
+
+    /** The nesting depth. */
+    private int depth;
+
+    /** The deferred participants, one list for each level. */
+    private List[] pending;
+
+    /** A flag that indicates that the batch is closed. */
+    private boolean closed;
+
+    /**
+     * Creates a new batch.
+     */
+    private ChangeBatch() {
+        this.pending = new List[LEVEL_COUNT];
+        for (int i = 0; i < LEVEL_COUNT; i++) {
+            this.pending[i] = new ArrayList();
+        }
+    }
+
+    /**
+     * Opens a batch for the current thread.  If a batch is already open, it
+     * is nested (and the same batch is returned).  Each call to this method
+     * must be matched by a call to {@link #end()}.
+     *
+     * @return The batch.
+     */
+    public static ChangeBatch begin() {
+        ChangeBatch batch = (ChangeBatch) CURRENT.get();
+        if (batch == null) {
+            batch = new ChangeBatch();
+            CURRENT.set(batch);
+        }
+        batch.depth++;
+        return batch;
+    }
+
+    /**
+     * Returns <code>true</code> if a batch is open for the current thread,
+     * and <code>false</code> otherwise.
+     *
+     * @return A boolean.
+     */
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Registers an object that has deferred a change event, so that it is
+     * asked to send the event when the batch for the current thread is
+     * closed.  The caller is responsible for registering itself once only
+     * for each deferred event.  If no batch is open, this method does
+     * nothing and returns <code>false</code>.
+     *
+     * @param participant  the participant (<code>null</code> not permitted).
+     * @param level  the notification level ({@link #SERIES},
+     *     {@link #DATASET}, {@link #PLOT} or {@link #CHART}).
+     *
+     * @return A boolean that indicates whether or not the event was
+     *     deferred.
+     */
+    public static boolean defer(ChangeBatchParticipant participant,
+            int level) {
+        if (participant == null) {
+            throw new IllegalArgumentException("Null 'participant' argument.");
+        }
+        if (level < 0 || level >= LEVEL_COUNT) {
+            throw new IllegalArgumentException("Requires 'level' in the range "
+                    + "0 to " + (LEVEL_COUNT - 1) + ".");
+        }
+        ChangeBatch batch = (ChangeBatch) CURRENT.get();
+        if (batch == null) {
+            return false;
+        }
+        batch.pending[level].add(participant);
+        return true;
+    }
+
+    /**
+     * Returns the number of objects that have deferred a change event and
+     * are waiting for the batch to close.
+     *
+     * @return The count.
+     */
+    public int getPendingCount() {
+        int result = 0;
+        for (int i = 0; i < LEVEL_COUNT; i++) {
+            result += this.pending[i].size();
+        }
+        return result;
+    }
+
+    /**
+     * Closes the batch.  If this is the outermost batch, the deferred events
+     * are delivered.  If a listener throws an exception, the remaining
+     * events are still delivered, and the first exception is rethrown when
+     * all events have been delivered.
+     *
+     * @throws IllegalStateException if the batch has already been closed.
+     */
+    public void end() {
+        if (this.closed) {
+            throw new IllegalStateException("The batch is already closed.");
+        }
+        this.depth--;
+        if (this.depth > 0) {
+            return;
+        }
+        RuntimeException failure = null;
+        try {
+            int level = nextLevel();
+            while (level >= 0) {
+                List list = this.pending[level];
+                // events delivered at this level may defer events at the
+                // same level, so the list is allowed to grow...
+                int i = 0;
+                while (i < list.size()) {
+                    ChangeBatchParticipant p
+                            = (ChangeBatchParticipant) list.get(i);
+                    i++;
+                    try {
+                        p.fireBatchedChange();
+                    }
+                    catch (RuntimeException e) {
+                        if (failure == null) {
+                            failure = e;
+                        }
+                    }
+                }
+                list.clear();
+                level = nextLevel();
+            }
+        }
+        finally {
+            this.closed = true;
+            CURRENT.set(null);
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Returns the lowest level that has pending participants, or
+     * <code>-1</code> if there are none.
+     *
+     * @return The level.
+     */
+    private int nextLevel() {
+        for (int i = 0; i < LEVEL_COUNT; i++) {
+            if (!this.pending[i].isEmpty()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+}
@@ -0,0 +1,64 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * ChangeBatchParticipant.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+
+package org.jfree.data.general;
+
+/**
+ * An object that can defer its change notifications while a
+ * {@link ChangeBatch} is open.  The object records (and merges) the events
+ * that it would have sent, registers itself with the batch via
+ * {@link ChangeBatch#defer(ChangeBatchParticipant, int)}, and sends a single
+ * event to its listeners when the batch calls
+ * {@link #fireBatchedChange()}.
+ *
+ * @since 1.0.13
+ */
+public interface ChangeBatchParticipant {
+
+    /**
+     * Sends the change event that has been deferred during a batch (if any)
+     * to all registered listeners.  This method is called by the
+     * {@link ChangeBatch} when it is closed, and should not normally be
+     * called directly.
+     */
+    public void fireBatchedChange();
+
+}
@@ -42,6 +42,7 @@
  *               Updated Javadocs (DG);
  * 04-Oct-2002 : Fixed errors reported by Checkstyle (DG);
  * 05-Oct-2004 : Minor Javadoc updates (DG);
+ * 18-Oct-2026 : Added series index and summary attributes (DG);
  *
  */
 
@@ -57,6 +58,15 @@ public class DatasetChangeEvent extends java.util.EventObject {
      */
     private Dataset dataset;
 
+    /**
+     * The index of the series that changed, or -1 if the change is not
+     * limited to a single series.
+     */
+    private int seriesIndex;
+
+    /** A summary of the change to the series (<code>null</code> if unknown). */
+    private SeriesChangeInfo summary;
+
     /**
      * Constructs a new event.  The source is either the dataset or the
      * {@link org.jfree.chart.plot.Plot} class.  The dataset can be
@@ -68,8 +78,31 @@ public class DatasetChangeEvent extends java.util.EventObject {
      *                 permitted).
      */
     public DatasetChangeEvent(Object source, Dataset dataset) {
+        this(source, dataset, -1, null);
+    }
+
+    /**
+     * Constructs a new event for a change that is limited to a single series
+     * in the dataset.  For a {@link org.jfree.data.category.CategoryDataset},
+     * the series index is a row index and the item indices in the summary
+     * are column indices.
+     *
+     * @param source  the source of the event.
+     * @param dataset  the dataset that generated the event (<code>null</code>
+     *                 permitted).
+     * @param seriesIndex  the index of the series that changed (or -1 if the
+     *     change is not limited to one series).
+     * @param summary  a summary of the change to the series
+     *     (<code>null</code> permitted).
+     *
+     * @since 1.0.13
+     */
+    public DatasetChangeEvent(Object source, Dataset dataset, int seriesIndex,
+            SeriesChangeInfo summary) {
         super(source);
         this.dataset = dataset;
+        this.seriesIndex = seriesIndex;
+        this.summary = summary;
     }
 
     /**
@@ -83,4 +116,30 @@ public class DatasetChangeEvent extends java.util.EventObject {
         return this.dataset;
     }
 
+    /**
+     * Returns the index of the series that changed.
+     *
+     * @return The series index, or -1 if the change is not limited to a
+     *     single series.
+     *
+     * @since 1.0.13
+     */
+    public int getSeriesIndex() {
+        return this.seriesIndex;
+    }
+
+    /**
+     * Returns a summary of the change to the series identified by
+     * {@link #getSeriesIndex()}.  If this is <code>null</code>, or the series
+     * index is -1, listeners should assume that any part of the dataset may
+     * have changed.
+     *
+     * @return The summary (possibly <code>null</code>).
+     *
+     * @since 1.0.13
+     */
+    public SeriesChangeInfo getSummary() {
+        return this.summary;
+    }
+
 }
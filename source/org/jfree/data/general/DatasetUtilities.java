@@ -111,6 +111,10 @@
  * 08-Apr-2008 : Fixed typo in iterateRangeBounds() (DG);
  * 08-Oct-2008 : Applied patch 2131001 by Jerome David, with some modifications
  *               and additions and some new unit tests (DG);
+ * 18-Oct-2026 : Added findRangeBounds(XYDataset, List, Range, boolean) and
+ *               iterateToFindRangeBounds() methods (DG);
+ * 18-Oct-2026 : Added methods to find the bounds of a range of items in a
+ *               single series (DG);
  *
  */
 
@@ -133,6 +137,7 @@ import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.data.xy.OHLCDataset;
 import org.jfree.data.xy.TableXYDataset;
 import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYRangeInfo;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
 import org.jfree.util.ArrayUtilities;
@@ -795,6 +800,124 @@ public final class DatasetUtilities {
         return result;
     }
 
+    /**
+     * Returns the range of the y-values in the specified series, for the
+     * items with x-values in the given range.  If the dataset implements the
+     * {@link XYRangeInfo} interface, the range is obtained from the dataset,
+     * otherwise this method iterates over the data items.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param visibleSeriesKeys  the keys for the series to include
+     *     (<code>null</code> not permitted).
+     * @param xRange  the x-range (<code>null</code> not permitted).
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The range (possibly <code>null</code>).
+     *
+     * @since 1.0.13
+     */
+    public static Range findRangeBounds(XYDataset dataset,
+            List visibleSeriesKeys, Range xRange, boolean includeInterval) {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        Range result = null;
+        if (dataset instanceof XYRangeInfo) {
+            XYRangeInfo info = (XYRangeInfo) dataset;
+            result = info.getRangeBounds(visibleSeriesKeys, xRange,
+                    includeInterval);
+        }
+        else {
+            result = iterateToFindRangeBounds(dataset, visibleSeriesKeys,
+                    xRange, includeInterval);
+        }
+        return result;
+    }
+
+    /**
+     * Iterates over the data items of the specified series in an xy dataset
+     * to find the range of the y-values for the items with x-values in the
+     * given range.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param visibleSeriesKeys  the keys for the series to include
+     *     (<code>null</code> not permitted).
+     * @param xRange  the x-range (<code>null</code> not permitted).
+     * @param includeInterval  a flag that determines, for an
+     *          {@link IntervalXYDataset}, whether the y-interval or just the
+     *          y-value is used to determine the overall range.
+     *
+     * @return The range (possibly <code>null</code>).
+     *
+     * @since 1.0.13
+     */
+    public static Range iterateToFindRangeBounds(XYDataset dataset,
+            List visibleSeriesKeys, Range xRange, boolean includeInterval) {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        if (visibleSeriesKeys == null) {
+            throw new IllegalArgumentException(
+                    "Null 'visibleSeriesKeys' argument.");
+        }
+        if (xRange == null) {
+            throw new IllegalArgumentException("Null 'xRange' argument.");
+        }
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        IntervalXYDataset ixyd = null;
+        OHLCDataset ohlc = null;
+        if (includeInterval && dataset instanceof IntervalXYDataset) {
+            ixyd = (IntervalXYDataset) dataset;
+        }
+        else if (includeInterval && dataset instanceof OHLCDataset) {
+            ohlc = (OHLCDataset) dataset;
+        }
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            Comparable seriesKey = (Comparable) iterator.next();
+            int series = dataset.indexOf(seriesKey);
+            if (series < 0) {
+                throw new IllegalArgumentException("Unrecognised series key: "
+                        + seriesKey);
+            }
+            int itemCount = dataset.getItemCount(series);
+            for (int item = 0; item < itemCount; item++) {
+                double x = dataset.getXValue(series, item);
+                if (!xRange.contains(x)) {
+                    continue;
+                }
+                double lvalue;
+                double uvalue;
+                if (ixyd != null) {
+                    lvalue = ixyd.getStartYValue(series, item);
+                    uvalue = ixyd.getEndYValue(series, item);
+                }
+                else if (ohlc != null) {
+                    lvalue = ohlc.getLowValue(series, item);
+                    uvalue = ohlc.getHighValue(series, item);
+                }
+                else {
+                    lvalue = dataset.getYValue(series, item);
+                    uvalue = lvalue;
+                }
+                if (!Double.isNaN(lvalue)) {
+                    minimum = Math.min(minimum, lvalue);
+                }
+                if (!Double.isNaN(uvalue)) {
+                    maximum = Math.max(maximum, uvalue);
+                }
+            }
+        }
+        if (minimum == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+        else {
+            return new Range(minimum, maximum);
+        }
+    }
+
     /**
      * Iterates over the data item of the category dataset to find
      * the range bounds.
@@ -989,6 +1112,168 @@ public final class DatasetUtilities {
         }
     }
 
+    /**
+     * Iterates over a range of items in one series of an {@link XYDataset}
+     * to find the range of x-values.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param series  the series index.
+     * @param firstItem  the index of the first item.
+     * @param lastItem  the index of the last item.
+     * @param includeInterval  a flag that determines, for an
+     *          {@link IntervalXYDataset}, whether the x-interval or just the
+     *          x-value is used to determine the overall range.
+     *
+     * @return The range (possibly <code>null</code>).
+     *
+     * @since 1.0.13
+     */
+    public static Range iterateDomainBounds(XYDataset dataset, int series,
+            int firstItem, int lastItem, boolean includeInterval) {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        IntervalXYDataset ixyd = null;
+        if (includeInterval && dataset instanceof IntervalXYDataset) {
+            ixyd = (IntervalXYDataset) dataset;
+        }
+        for (int item = firstItem; item <= lastItem; item++) {
+            double lvalue;
+            double uvalue;
+            if (ixyd != null) {
+                lvalue = ixyd.getStartXValue(series, item);
+                uvalue = ixyd.getEndXValue(series, item);
+            }
+            else {
+                lvalue = dataset.getXValue(series, item);
+                uvalue = lvalue;
+            }
+            if (!Double.isNaN(lvalue)) {
+                minimum = Math.min(minimum, lvalue);
+            }
+            if (!Double.isNaN(uvalue)) {
+                maximum = Math.max(maximum, uvalue);
+            }
+        }
+        if (minimum > maximum) {
+            return null;
+        }
+        return new Range(minimum, maximum);
+    }
+
+    /**
+     * Iterates over a range of items in one series of an {@link XYDataset}
+     * to find the range of y-values.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param series  the series index.
+     * @param firstItem  the index of the first item.
+     * @param lastItem  the index of the last item.
+     * @param includeInterval  a flag that determines, for an
+     *          {@link IntervalXYDataset} or {@link OHLCDataset}, whether the
+     *          y-interval or just the y-value is used to determine the
+     *          overall range.
+     *
+     * @return The range (possibly <code>null</code>).
+     *
+     * @since 1.0.13
+     */
+    public static Range iterateRangeBounds(XYDataset dataset, int series,
+            int firstItem, int lastItem, boolean includeInterval) {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        IntervalXYDataset ixyd = null;
+        OHLCDataset ohlc = null;
+        if (includeInterval && dataset instanceof IntervalXYDataset) {
+            ixyd = (IntervalXYDataset) dataset;
+        }
+        else if (includeInterval && dataset instanceof OHLCDataset) {
+            ohlc = (OHLCDataset) dataset;
+        }
+        for (int item = firstItem; item <= lastItem; item++) {
+            double lvalue;
+            double uvalue;
+            if (ixyd != null) {
+                lvalue = ixyd.getStartYValue(series, item);
+                uvalue = ixyd.getEndYValue(series, item);
+            }
+            else if (ohlc != null) {
+                lvalue = ohlc.getLowValue(series, item);
+                uvalue = ohlc.getHighValue(series, item);
+            }
+            else {
+                lvalue = dataset.getYValue(series, item);
+                uvalue = lvalue;
+            }
+            if (!Double.isNaN(lvalue)) {
+                minimum = Math.min(minimum, lvalue);
+            }
+            if (!Double.isNaN(uvalue)) {
+                maximum = Math.max(maximum, uvalue);
+            }
+        }
+        if (minimum > maximum) {
+            return null;
+        }
+        return new Range(minimum, maximum);
+    }
+
+    /**
+     * Iterates over a range of columns in one row of a
+     * {@link CategoryDataset} to find the range of values.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param row  the row index.
+     * @param firstColumn  the index of the first column.
+     * @param lastColumn  the index of the last column.
+     * @param includeInterval  a flag that determines, for an
+     *          {@link IntervalCategoryDataset}, whether the interval or just
+     *          the value is used to determine the overall range.
+     *
+     * @return The range (possibly <code>null</code>).
+     *
+     * @since 1.0.13
+     */
+    public static Range iterateRangeBounds(CategoryDataset dataset, int row,
+            int firstColumn, int lastColumn, boolean includeInterval) {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        IntervalCategoryDataset icd = null;
+        if (includeInterval && dataset instanceof IntervalCategoryDataset) {
+            icd = (IntervalCategoryDataset) dataset;
+        }
+        for (int column = firstColumn; column <= lastColumn; column++) {
+            Number lvalue;
+            Number uvalue;
+            if (icd != null) {
+                lvalue = icd.getStartValue(row, column);
+                uvalue = icd.getEndValue(row, column);
+            }
+            else {
+                lvalue = dataset.getValue(row, column);
+                uvalue = lvalue;
+            }
+            if (lvalue != null && !Double.isNaN(lvalue.doubleValue())) {
+                minimum = Math.min(minimum, lvalue.doubleValue());
+            }
+            if (uvalue != null && !Double.isNaN(uvalue.doubleValue())) {
+                maximum = Math.max(maximum, uvalue.doubleValue());
+            }
+        }
+        if (minimum > maximum) {
+            return null;
+        }
+        return new Range(minimum, maximum);
+    }
+
     /**
      * Finds the minimum domain (or X) value for the specified dataset.  This
      * is easy if the dataset implements the {@link DomainInfo} interface (a
@@ -0,0 +1,483 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------
+ * MinMaxIndex.java
+ * ----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.general;
+
+import org.jfree.data.Range;
+
+/**
+ * An index that records the minimum and maximum of a sequence of values (for
+ * example, the y-values in a series) in blocks, so that the range of the
+ * values between any two item indices can be found without visiting every
+ * item.  The blocks are summarised again in larger blocks, and so on, so a
+ * query visits at most <code>2 * blockSize</code> entries on each level of
+ * the index.
+ * <P>
+ * The index does not store the values itself, it reads them (when it needs
+ * to) through the {@link #getItemCount()} and {@link #getValue(int)} methods.
+ * The owner of the index must report every change to the values by calling
+ * one of {@link #itemAppended(double)}, {@link #itemsRemoved(int, int)},
+ * {@link #itemChanged(int)} or {@link #invalidate()}.  Appending items,
+ * removing items from either end of the sequence and changing an item are
+ * incremental updates; other changes invalidate the index and it is rebuilt
+ * when it is next queried.
+ * <P>
+ * <code>Double.NaN</code> values are ignored.
+ *
+ * @since 1.0.13
+ */
+public abstract class MinMaxIndex {
+
+    /** The default block size. */
+    public static final int DEFAULT_BLOCK_SIZE = 32;
+
+    /** The number of entries summarised by each entry on the next level. */
+    private int blockSize;
+
+    /**
+     * The minimum for each block, one array per level (level 0 summarises
+     * the values, level 1 summarises the level 0 blocks, and so on).
+     */
+    private double[][] minima;
+
+    /** The maximum for each block, one array per level. */
+    private double[][] maxima;
+
+    /** The number of levels in use. */
+    private int levels;
+
+    /**
+     * The position of the first item.  Removing items from the start of the
+     * sequence increases the offset, so that the blocks don't need to be
+     * recalculated.
+     */
+    private int offset;
+
+    /** The number of items in the index. */
+    private int count;
+
+    /** A flag that indicates whether or not the index is up-to-date. */
+    private boolean valid;
+
+    /**
+     * Creates a new index with the default block size.
+     */
+    public MinMaxIndex() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Creates a new index.
+     *
+     * @param blockSize  the block size (must be at least 2).
+     */
+    public MinMaxIndex(int blockSize) {
+        if (blockSize < 2) {
+            throw new IllegalArgumentException("Requires 'blockSize' >= 2.");
+        }
+        this.blockSize = blockSize;
+        this.minima = new double[0][];
+        this.maxima = new double[0][];
+        this.valid = false;
+    }
+
+    /**
+     * Returns the number of items in the indexed sequence.
+     *
+     * @return The item count.
+     */
+    protected abstract int getItemCount();
+
+    /**
+     * Returns a value from the indexed sequence.
+     *
+     * @param index  the item index (zero-based).
+     *
+     * @return The value (<code>Double.NaN</code> values are ignored).
+     */
+    protected abstract double getValue(int index);
+
+    /**
+     * Returns the block size for the index.
+     *
+     * @return The block size.
+     */
+    public int getBlockSize() {
+        return this.blockSize;
+    }
+
+    /**
+     * Marks the index as out-of-date.  It will be rebuilt the next time it
+     * is queried.
+     */
+    public void invalidate() {
+        this.valid = false;
+    }
+
+    /**
+     * Updates the index after an item has been appended to the end of the
+     * sequence.
+     *
+     * @param value  the new value.
+     */
+    public void itemAppended(double value) {
+        if (this.valid) {
+            append(value);
+        }
+    }
+
+    /**
+     * Updates the index after the items from <code>start</code> to
+     * <code>end</code> inclusive have been removed from the sequence.  The
+     * indices are those the items had before they were removed.
+     *
+     * @param start  the index of the first item removed.
+     * @param end  the index of the last item removed.
+     */
+    public void itemsRemoved(int start, int end) {
+        if (!this.valid || end < start) {
+            return;
+        }
+        int n = end - start + 1;
+        if (n >= this.count) {
+            this.valid = false;
+        }
+        else if (start == 0) {
+            this.offset += n;
+            this.count -= n;
+            if (this.offset > this.count) {
+                // mostly empty space now, so rebuild when next queried
+                this.valid = false;
+            }
+        }
+        else if (end == this.count - 1) {
+            this.count -= n;
+            refresh(this.offset + this.count - 1);
+        }
+        else {
+            this.valid = false;
+        }
+    }
+
+    /**
+     * Updates the index after the value of an item has changed.
+     *
+     * @param index  the item index.
+     */
+    public void itemChanged(int index) {
+        if (this.valid) {
+            refresh(this.offset + index);
+        }
+    }
+
+    /**
+     * Returns the range of the values for the items from <code>start</code>
+     * to <code>end</code> inclusive.
+     *
+     * @param start  the index of the first item.
+     * @param end  the index of the last item.
+     *
+     * @return The range (<code>null</code> if there are no values, other
+     *     than <code>Double.NaN</code>, in the specified items).
+     */
+    public Range getRange(int start, int end) {
+        if (!this.valid) {
+            rebuild();
+        }
+        if (start < 0 || end >= this.count) {
+            throw new IndexOutOfBoundsException("Requires 0 <= start <= end < "
+                    + this.count + ".");
+        }
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        int lo = this.offset + start;
+        int hi = this.offset + end;
+        int level = -1;
+        while (lo <= hi) {
+            if (level == this.levels - 1 || hi - lo < 2 * this.blockSize) {
+                for (int p = lo; p <= hi; p++) {
+                    double a = getMinimum(level, p);
+                    double b = getMaximum(level, p);
+                    if (a < min) {
+                        min = a;
+                    }
+                    if (b > max) {
+                        max = b;
+                    }
+                }
+                break;
+            }
+            // visit the entries at each end that are not part of a whole
+            // block on the next level up
+            while (lo % this.blockSize != 0) {
+                double a = getMinimum(level, lo);
+                double b = getMaximum(level, lo);
+                if (a < min) {
+                    min = a;
+                }
+                if (b > max) {
+                    max = b;
+                }
+                lo++;
+            }
+            while ((hi + 1) % this.blockSize != 0) {
+                double a = getMinimum(level, hi);
+                double b = getMaximum(level, hi);
+                if (a < min) {
+                    min = a;
+                }
+                if (b > max) {
+                    max = b;
+                }
+                hi--;
+            }
+            lo = lo / this.blockSize;
+            hi = (hi + 1) / this.blockSize - 1;
+            level++;
+        }
+        if (min > max) {
+            return null;
+        }
+        return new Range(min, max);
+    }
+
+    /**
+     * Returns the range of all the values in the sequence.
+     *
+     * @return The range (<code>null</code> if there are no values, other
+     *     than <code>Double.NaN</code>).
+     */
+    public Range getRange() {
+        if (!this.valid) {
+            rebuild();
+        }
+        if (this.count == 0) {
+            return null;
+        }
+        return getRange(0, this.count - 1);
+    }
+
+    /**
+     * Returns the minimum for an entry on the specified level.  Level -1
+     * refers to the values themselves.
+     *
+     * @param level  the level.
+     * @param p  the position on the level.
+     *
+     * @return The minimum (<code>Double.NaN</code> possible).
+     */
+    private double getMinimum(int level, int p) {
+        if (level < 0) {
+            return getValue(p - this.offset);
+        }
+        return this.minima[level][p];
+    }
+
+    /**
+     * Returns the maximum for an entry on the specified level.  Level -1
+     * refers to the values themselves.
+     *
+     * @param level  the level.
+     * @param p  the position on the level.
+     *
+     * @return The maximum (<code>Double.NaN</code> possible).
+     */
+    private double getMaximum(int level, int p) {
+        if (level < 0) {
+            return getValue(p - this.offset);
+        }
+        return this.maxima[level][p];
+    }
+
+    /**
+     * Rebuilds the index from the values.
+     */
+    private void rebuild() {
+        this.levels = 0;
+        this.offset = 0;
+        this.count = 0;
+        int n = getItemCount();
+        for (int i = 0; i < n; i++) {
+            append(getValue(i));
+        }
+        this.valid = true;
+    }
+
+    /**
+     * Adds a value to the end of the index.
+     *
+     * @param value  the value.
+     */
+    private void append(double value) {
+        int p = this.offset + this.count;
+        this.count++;
+        int node = p;
+        boolean first = true;
+        for (int level = 0; level < this.levels; level++) {
+            first = first && (node % this.blockSize == 0);
+            node = node / this.blockSize;
+            ensureCapacity(level, node);
+            double[] mins = this.minima[level];
+            double[] maxs = this.maxima[level];
+            if (first || Double.isNaN(mins[node])) {
+                mins[node] = value;
+                maxs[node] = value;
+            }
+            else if (value < mins[node]) {
+                mins[node] = value;
+            }
+            else if (value > maxs[node]) {
+                maxs[node] = value;
+            }
+        }
+        // add a level whenever the top level has more than one block's worth
+        // of entries
+        int top = (this.levels == 0 ? p : p / span(this.levels));
+        if (top >= this.blockSize) {
+            addLevel();
+        }
+    }
+
+    /**
+     * Returns the number of positions covered by one entry on the specified
+     * level (the block size raised to the power <code>level + 1</code>).
+     *
+     * @param levelCount  the level plus one.
+     *
+     * @return The span.
+     */
+    private int span(int levelCount) {
+        int result = 1;
+        for (int i = 0; i < levelCount; i++) {
+            result = result * this.blockSize;
+        }
+        return result;
+    }
+
+    /**
+     * Adds a new top level to the index.
+     */
+    private void addLevel() {
+        int level = this.levels;
+        double[][] mm = new double[level + 1][];
+        double[][] xx = new double[level + 1][];
+        System.arraycopy(this.minima, 0, mm, 0, level);
+        System.arraycopy(this.maxima, 0, xx, 0, level);
+        mm[level] = new double[this.blockSize];
+        xx[level] = new double[this.blockSize];
+        this.minima = mm;
+        this.maxima = xx;
+        this.levels++;
+        int last = (this.offset + this.count - 1) / span(level + 1);
+        for (int node = 0; node <= last; node++) {
+            ensureCapacity(level, node);
+            summarise(level, node);
+        }
+    }
+
+    /**
+     * Makes sure that there is room for an entry on the specified level.
+     *
+     * @param level  the level.
+     * @param node  the entry position.
+     */
+    private void ensureCapacity(int level, int node) {
+        double[] mins = this.minima[level];
+        if (node < mins.length) {
+            return;
+        }
+        int capacity = Math.max(mins.length * 2, node + 1);
+        double[] mm = new double[capacity];
+        double[] xx = new double[capacity];
+        System.arraycopy(mins, 0, mm, 0, mins.length);
+        System.arraycopy(this.maxima[level], 0, xx, 0, mins.length);
+        this.minima[level] = mm;
+        this.maxima[level] = xx;
+    }
+
+    /**
+     * Recalculates the entries that cover the specified position, on every
+     * level.
+     *
+     * @param p  the position.
+     */
+    private void refresh(int p) {
+        int node = p;
+        for (int level = 0; level < this.levels; level++) {
+            node = node / this.blockSize;
+            summarise(level, node);
+        }
+    }
+
+    /**
+     * Recalculates one entry from the entries (or values) that it covers.
+     * Positions that are no longer part of the sequence are skipped.
+     *
+     * @param level  the level.
+     * @param node  the entry position.
+     */
+    private void summarise(int level, int node) {
+        int first = node * this.blockSize;
+        int last = first + this.blockSize - 1;
+        int end = this.offset + this.count - 1;
+        if (level == 0) {
+            first = Math.max(first, this.offset);
+        }
+        else {
+            end = end / span(level);
+        }
+        last = Math.min(last, end);
+        double min = Double.NaN;
+        double max = Double.NaN;
+        for (int p = first; p <= last; p++) {
+            double a = getMinimum(level - 1, p);
+            double b = getMaximum(level - 1, p);
+            if (Double.isNaN(min) || a < min) {
+                min = a;
+            }
+            if (Double.isNaN(max) || b > max) {
+                max = b;
+            }
+        }
+        this.minima[level][node] = min;
+        this.maxima[level][node] = max;
+    }
+
+}
@@ -49,6 +49,10 @@
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 04-May-2006 : Updated API docs (DG);
  * 26-Sep-2007 : Added isEmpty() and getItemCount() methods (DG);
+ * 18-Oct-2026 : Send a summary of the change with each change event (DG);
+ * 18-Oct-2026 : Implemented ChangeBatchParticipant (DG);
+ * 18-Oct-2026 : Send a change event when the key changes (DG);
+ * 18-Oct-2026 : Added hasRecordedChange() (DG);
  *
  */
 
@@ -72,7 +76,8 @@ import org.jfree.util.ObjectUtilities;
  * You can also register a {@link SeriesChangeListener} to receive notification
  * of changes to the series data.
  */
-public abstract class Series implements Cloneable, Serializable {
+public abstract class Series implements Cloneable, Serializable,
+        ChangeBatchParticipant {
 
     /** For serialization. */
     private static final long serialVersionUID = -6906561437538683581L;
@@ -92,6 +97,18 @@ public abstract class Series implements Cloneable, Serializable {
     /** A flag that controls whether or not changes are notified. */
     private boolean notify;
 
+    /**
+     * A summary of the changes recorded since the last change event was sent
+     * (<code>null</code> if there are none).
+     */
+    private transient SeriesChangeInfo pendingChange;
+
+    /**
+     * The event deferred while a {@link ChangeBatch} is open
+     * (<code>null</code> if there is none).
+     */
+    private transient SeriesChangeEvent batchedEvent;
+
     /**
      * Creates a new series with the specified key.
      *
@@ -131,7 +148,10 @@ public abstract class Series implements Cloneable, Serializable {
 
     /**
      * Sets the key for the series and sends a <code>PropertyChangeEvent</code>
-     * (with the property name "Key") to all registered listeners.
+     * (with the property name "Key") to all registered property change
+     * listeners, and a {@link SeriesChangeEvent} (without a summary, since
+     * the change is not to the items) to all registered listeners, so that a
+     * chart legend that shows the key is updated.
      *
      * @param key  the key (<code>null</code> not permitted).
      *
@@ -144,6 +164,10 @@ public abstract class Series implements Cloneable, Serializable {
         Comparable old = this.key;
         this.key = key;
         this.propertyChangeSupport.firePropertyChange("Key", old, key);
+        if (this.notify) {
+            this.pendingChange = null;
+            notifyListeners(new SeriesChangeEvent(this));
+        }
     }
 
     /**
@@ -238,6 +262,8 @@ public abstract class Series implements Cloneable, Serializable {
     public Object clone() throws CloneNotSupportedException {
 
         Series clone = (Series) super.clone();
+        clone.pendingChange = null;
+        clone.batchedEvent = null;
         clone.listeners = new EventListenerList();
         clone.propertyChangeSupport = new PropertyChangeSupport(clone);
         return clone;
@@ -310,17 +336,100 @@ public abstract class Series implements Cloneable, Serializable {
      */
     public void fireSeriesChanged() {
         if (this.notify) {
-            notifyListeners(new SeriesChangeEvent(this));
+            SeriesChangeInfo summary = this.pendingChange;
+            this.pendingChange = null;
+            notifyListeners(new SeriesChangeEvent(this, summary));
         }
     }
 
     /**
-     * Sends a change event to all registered listeners.
+     * Records a change to the items in the series, so that the next
+     * {@link SeriesChangeEvent} can carry a summary of what changed (see
+     * {@link SeriesChangeEvent#getSummary()}).  Changes recorded between two
+     * events are merged.  Subclasses should call this method for every
+     * change to their items, using {@link SeriesChangeType#STRUCTURE} for a
+     * change that cannot be described by a range of items, otherwise
+     * listeners may be sent a summary that omits the change.
+     *
+     * @param type  the type of change (<code>null</code> not permitted).
+     * @param firstItem  the index of the first item affected.
+     * @param lastItem  the index of the last item affected.
+     *
+     * @since 1.0.13
+     */
+    protected void recordChange(SeriesChangeType type, int firstItem,
+            int lastItem) {
+        SeriesChangeInfo change = new SeriesChangeInfo(type, firstItem,
+                lastItem);
+        if (this.pendingChange == null) {
+            this.pendingChange = change;
+        }
+        else {
+            this.pendingChange = this.pendingChange.merge(change);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if a change has been recorded with
+     * {@link #recordChange(SeriesChangeType, int, int)} since the last change
+     * event was sent.  A call to {@link #fireSeriesChanged()} when no change
+     * has been recorded usually means that the items were modified outside
+     * the series (for example, a data item was updated directly).
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.13
+     */
+    protected boolean hasRecordedChange() {
+        return this.pendingChange != null;
+    }
+
+    /**
+     * Sends a change event to all registered listeners.  If a
+     * {@link ChangeBatch} is open, the event is merged with any other events
+     * deferred by this series, and sent when the batch is closed.
      *
      * @param event  contains information about the event that triggered the
      *               notification.
      */
     protected void notifyListeners(SeriesChangeEvent event) {
+        if (this.batchedEvent != null) {
+            SeriesChangeInfo s1 = this.batchedEvent.getSummary();
+            SeriesChangeInfo s2 = event.getSummary();
+            SeriesChangeInfo merged = null;
+            if (s1 != null && s2 != null) {
+                merged = s1.merge(s2);
+            }
+            this.batchedEvent = new SeriesChangeEvent(this, merged);
+            return;
+        }
+        if (ChangeBatch.defer(this, ChangeBatch.SERIES)) {
+            this.batchedEvent = event;
+            return;
+        }
+        dispatch(event);
+    }
+
+    /**
+     * Sends the change event that has been deferred during a batch (if any)
+     * to all registered listeners.
+     *
+     * @since 1.0.13
+     */
+    public void fireBatchedChange() {
+        SeriesChangeEvent event = this.batchedEvent;
+        this.batchedEvent = null;
+        if (event != null) {
+            dispatch(event);
+        }
+    }
+
+    /**
+     * Sends a change event to all registered listeners.
+     *
+     * @param event  the event.
+     */
+    private void dispatch(SeriesChangeEvent event) {
 
         Object[] listenerList = this.listeners.getListenerList();
         for (int i = listenerList.length - 2; i >= 0; i -= 2) {
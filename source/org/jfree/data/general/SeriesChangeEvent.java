@@ -36,6 +36,7 @@
  * -------
  * 15-Nov-2001 : Version 1 (DG);
  * 18-Aug-2003 : Implemented Serializable (DG);
+ * 18-Oct-2026 : Added summary attribute (DG);
  *
  */
 
@@ -52,13 +53,42 @@ public class SeriesChangeEvent extends EventObject implements Serializable {
     /** For serialization. */
     private static final long serialVersionUID = 1593866085210089052L;
 
+    /** A summary of the change (<code>null</code> if unknown). */
+    private SeriesChangeInfo summary;
+
     /**
      * Constructs a new event.
      *
      * @param source  the source of the change event.
      */
     public SeriesChangeEvent(Object source) {
+        this(source, null);
+    }
+
+    /**
+     * Constructs a new event.
+     *
+     * @param source  the source of the change event.
+     * @param summary  a summary of the change (<code>null</code> permitted,
+     *     meaning that any part of the series may have changed).
+     *
+     * @since 1.0.13
+     */
+    public SeriesChangeEvent(Object source, SeriesChangeInfo summary) {
         super(source);
+        this.summary = summary;
+    }
+
+    /**
+     * Returns a summary of the change, if one is available.
+     *
+     * @return The summary (possibly <code>null</code>, in which case any part
+     *     of the series may have changed).
+     *
+     * @since 1.0.13
+     */
+    public SeriesChangeInfo getSummary() {
+        return this.summary;
     }
 
 }
@@ -0,0 +1,221 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------
+ * SeriesChangeInfo.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+
+package org.jfree.data.general;
+
+import java.io.Serializable;
+
+/**
+ * A summary of a change to a series: the type of change and the range of
+ * items affected.  Listeners can use this information to update derived
+ * values (for example, the cached axis ranges in a plot) without scanning
+ * every item in the series.  Instances of this class are immutable.
+ * <p>
+ * The item indices refer to the state of the series <i>after</i> the change
+ * for {@link SeriesChangeType#ADD} and {@link SeriesChangeType#UPDATE}, and
+ * to the state <i>before</i> the change for {@link SeriesChangeType#REMOVE}.
+ * For {@link SeriesChangeType#STRUCTURE} the indices are not defined and
+ * listeners should treat the whole series as changed.
+ *
+ * @since 1.0.13
+ */
+public class SeriesChangeInfo implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 6183428711053289632L;
+
+    /** The type of change. */
+    private SeriesChangeType type;
+
+    /** The index of the first item affected. */
+    private int firstItem;
+
+    /** The index of the last item affected. */
+    private int lastItem;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param type  the type of change (<code>null</code> not permitted).
+     * @param firstItem  the index of the first item affected.
+     * @param lastItem  the index of the last item affected.
+     */
+    public SeriesChangeInfo(SeriesChangeType type, int firstItem,
+            int lastItem) {
+        if (type == null) {
+            throw new IllegalArgumentException("Null 'type' argument.");
+        }
+        if (type != SeriesChangeType.STRUCTURE
+                && (firstItem < 0 || lastItem < firstItem)) {
+            throw new IllegalArgumentException(
+                    "Requires 0 <= firstItem <= lastItem.");
+        }
+        this.type = type;
+        this.firstItem = firstItem;
+        this.lastItem = lastItem;
+    }
+
+    /**
+     * Returns the type of change.
+     *
+     * @return The type (never <code>null</code>).
+     */
+    public SeriesChangeType getType() {
+        return this.type;
+    }
+
+    /**
+     * Returns the index of the first item affected by the change.
+     *
+     * @return The item index.
+     */
+    public int getFirstItem() {
+        return this.firstItem;
+    }
+
+    /**
+     * Returns the index of the last item affected by the change.
+     *
+     * @return The item index.
+     */
+    public int getLastItem() {
+        return this.lastItem;
+    }
+
+    /**
+     * Returns a summary that describes this change followed by
+     * <code>next</code>.  Where the two changes cannot be described by a
+     * single range of items, the result has the type
+     * {@link SeriesChangeType#STRUCTURE}.
+     *
+     * @param next  the change that follows this one (<code>null</code> not
+     *     permitted).
+     *
+     * @return The combined summary (never <code>null</code>).
+     */
+    public SeriesChangeInfo merge(SeriesChangeInfo next) {
+        if (next == null) {
+            throw new IllegalArgumentException("Null 'next' argument.");
+        }
+        int count = next.lastItem - next.firstItem + 1;
+        if (this.type == SeriesChangeType.ADD) {
+            if (next.type == SeriesChangeType.ADD
+                    && next.firstItem >= this.firstItem
+                    && next.firstItem <= this.lastItem + 1) {
+                // the new items extend the block of added items
+                return new SeriesChangeInfo(SeriesChangeType.ADD,
+                        this.firstItem, this.lastItem + count);
+            }
+            if (next.type == SeriesChangeType.UPDATE
+                    && next.firstItem >= this.firstItem
+                    && next.lastItem <= this.lastItem) {
+                return this;
+            }
+        }
+        else if (this.type == SeriesChangeType.UPDATE) {
+            if (next.type == SeriesChangeType.UPDATE) {
+                return new SeriesChangeInfo(SeriesChangeType.UPDATE,
+                        Math.min(this.firstItem, next.firstItem),
+                        Math.max(this.lastItem, next.lastItem));
+            }
+        }
+        else if (this.type == SeriesChangeType.REMOVE) {
+            if (next.type == SeriesChangeType.REMOVE
+                    && next.firstItem <= this.firstItem
+                    && next.lastItem + 1 >= this.firstItem) {
+                // the removed items are adjacent to the earlier removal
+                int removed = this.lastItem - this.firstItem + 1;
+                return new SeriesChangeInfo(SeriesChangeType.REMOVE,
+                        next.firstItem, next.lastItem + removed);
+            }
+        }
+        return new SeriesChangeInfo(SeriesChangeType.STRUCTURE, -1, -1);
+    }
+
+    /**
+     * Tests this instance for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof SeriesChangeInfo)) {
+            return false;
+        }
+        SeriesChangeInfo that = (SeriesChangeInfo) obj;
+        if (!this.type.equals(that.type)) {
+            return false;
+        }
+        if (this.firstItem != that.firstItem) {
+            return false;
+        }
+        if (this.lastItem != that.lastItem) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        int result = this.type.hashCode();
+        result = 37 * result + this.firstItem;
+        result = 37 * result + this.lastItem;
+        return result;
+    }
+
+    /**
+     * Returns a string describing this instance, for debugging.
+     *
+     * @return A string.
+     */
+    public String toString() {
+        return this.type + "[" + this.firstItem + ", " + this.lastItem + "]";
+    }
+
+}
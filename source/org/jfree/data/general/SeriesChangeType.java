@@ -0,0 +1,151 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------
+ * SeriesChangeType.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+
+package org.jfree.data.general;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+
+/**
+ * The type of change described by a {@link SeriesChangeInfo} instance.
+ *
+ * @since 1.0.13
+ */
+public final class SeriesChangeType implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2719348412350981243L;
+
+    /** One or more items were added to the series. */
+    public static final SeriesChangeType ADD
+            = new SeriesChangeType("SeriesChangeType.ADD");
+
+    /** One or more items were removed from the series. */
+    public static final SeriesChangeType REMOVE
+            = new SeriesChangeType("SeriesChangeType.REMOVE");
+
+    /** The values of one or more items in the series were changed. */
+    public static final SeriesChangeType UPDATE
+            = new SeriesChangeType("SeriesChangeType.UPDATE");
+
+    /**
+     * The series changed in a way that cannot be described by a single
+     * range of items.
+     */
+    public static final SeriesChangeType STRUCTURE
+            = new SeriesChangeType("SeriesChangeType.STRUCTURE");
+
+    /** The name. */
+    private String name;
+
+    /**
+     * Private constructor.
+     *
+     * @param name  the name.
+     */
+    private SeriesChangeType(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns a string representing the object.
+     *
+     * @return The string.
+     */
+    public String toString() {
+        return this.name;
+    }
+
+    /**
+     * Returns <code>true</code> if this object is equal to the specified
+     * object, and <code>false</code> otherwise.
+     *
+     * @param obj  the other object.
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SeriesChangeType)) {
+            return false;
+        }
+        SeriesChangeType that = (SeriesChangeType) obj;
+        if (!this.name.equals(that.toString())) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code value for the object.
+     *
+     * @return The hashcode
+     */
+    public int hashCode() {
+        return this.name.hashCode();
+    }
+
+    /**
+     * Ensures that serialization returns the unique instances.
+     *
+     * @return The object.
+     *
+     * @throws ObjectStreamException if there is a problem.
+     */
+    private Object readResolve() throws ObjectStreamException {
+        if (this.equals(SeriesChangeType.ADD)) {
+            return SeriesChangeType.ADD;
+        }
+        else if (this.equals(SeriesChangeType.REMOVE)) {
+            return SeriesChangeType.REMOVE;
+        }
+        else if (this.equals(SeriesChangeType.UPDATE)) {
+            return SeriesChangeType.UPDATE;
+        }
+        else if (this.equals(SeriesChangeType.STRUCTURE)) {
+            return SeriesChangeType.STRUCTURE;
+        }
+        return null;
+    }
+
+}
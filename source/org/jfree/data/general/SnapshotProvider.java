@@ -0,0 +1,67 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------
+ * SnapshotProvider.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+
+package org.jfree.data.general;
+
+/**
+ * An interface (optional) that can be implemented by a {@link Dataset} that
+ * may be updated by one thread while it is read by another.  Plots that
+ * recognise this interface take a snapshot of the dataset at the start of
+ * each rendering pass, and draw the items from the snapshot, so that the
+ * item counts and values are consistent for the duration of the pass.
+ *
+ * @since 1.0.13
+ */
+public interface SnapshotProvider {
+
+    /**
+     * Returns an immutable copy of the current state of the dataset.  The
+     * snapshot implements the same dataset interface(s) as this dataset and
+     * {@link DatasetSnapshot} (returning this dataset as the source), and
+     * is not affected by subsequent changes to this dataset.  Implementations
+     * should make this operation cheap (for example, by sharing the
+     * underlying storage), since it is called for each rendering pass.
+     *
+     * @return The snapshot (never <code>null</code>).
+     */
+    public Dataset createSnapshot();
+
+}
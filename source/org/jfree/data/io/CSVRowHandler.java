@@ -0,0 +1,70 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------
+ * CSVRowHandler.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.io;
+
+/**
+ * A callback that receives the rows parsed by a {@link MappedCSVReader} in
+ * streaming mode.
+ *
+ * @see MappedCSVReader#stream(int[], CSVRowHandler)
+ *
+ * @since 1.0.13
+ */
+public interface CSVRowHandler {
+
+    /**
+     * Receives one row.  The array is reused for the next row, so the
+     * handler must copy any values that it needs to keep.
+     *
+     * @param values  the values for the selected columns, in the order that
+     *     the columns were selected (timestamps are given in milliseconds
+     *     since 1-Jan-1970 UTC, and empty fields are
+     *     <code>Double.NaN</code>).
+     */
+    public void handleRow(double[] values);
+
+    /**
+     * Called after each block of the file has been parsed (and once at the
+     * end), so that the handler can publish the rows received so far.
+     */
+    public void blockCompleted();
+
+}
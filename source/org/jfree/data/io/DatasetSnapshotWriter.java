@@ -0,0 +1,435 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------------
+ * DatasetSnapshotWriter.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * Writes datasets to snapshot files that can be opened with
+ * {@link MappedXYDataset} and {@link MappedCategoryDataset}.  A snapshot is
+ * a binary file with the values stored in primitive columns, so it can be
+ * memory-mapped and read without deserializing the whole dataset.  Any
+ * {@link XYDataset} (for example an
+ * {@link org.jfree.data.xy.XYSeriesCollection} or a
+ * {@link org.jfree.data.time.TimeSeriesCollection}) or
+ * {@link CategoryDataset} can be written.
+ * <P>
+ * The format (all values big-endian, each aligned to its own size) is:
+ * <ul>
+ * <li>a header: the magic number <code>0x4A464453</code> ("JFDS"), the
+ *     version (a short, currently 1) and the type (a short, 1 for XY and 2
+ *     for category data);</li>
+ * <li>for XY data: the block size and the series count (ints), the series
+ *     keys, then for each series the item count, flags (ints), the offsets
+ *     of the x-column, y-column and block summaries (longs) and the
+ *     minimum and maximum x- and y-values (doubles);</li>
+ * <li>for category data: the row and column counts (ints), the row keys,
+ *     the column keys, the minimum and maximum values (doubles), and the
+ *     values in row order;</li>
+ * <li>the columns, as arrays of doubles.</li>
+ * </ul>
+ * Keys are written as strings (an int length followed by UTF-16
+ * characters), and are read back as <code>String</code> instances.  Missing
+ * values are written as <code>Double.NaN</code>.  The block summaries hold
+ * the minimum and maximum x- and y-values of each block of
+ * {@link #getBlockSize()} items, and let {@link MappedXYDataset} find the
+ * range of the y-values for an x-range without reading every item.
+ *
+ * @since 1.0.13
+ */
+public class DatasetSnapshotWriter {
+
+    /** The default block size for the XY summaries. */
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    /** The block size (zero for no summaries). */
+    private int blockSize;
+
+    /**
+     * Creates a new writer.
+     */
+    public DatasetSnapshotWriter() {
+        this.blockSize = DEFAULT_BLOCK_SIZE;
+    }
+
+    /**
+     * Returns the number of items summarised by each entry in the block
+     * summaries written for XY datasets.
+     *
+     * @return The block size (zero if no summaries are written).
+     *
+     * @see #setBlockSize(int)
+     */
+    public int getBlockSize() {
+        return this.blockSize;
+    }
+
+    /**
+     * Sets the number of items summarised by each entry in the block
+     * summaries written for XY datasets.  Smaller blocks make range queries
+     * faster, at the cost of a larger file (32 bytes per block).
+     *
+     * @param size  the block size (zero for no summaries, otherwise at least
+     *     2).
+     *
+     * @see #getBlockSize()
+     */
+    public void setBlockSize(int size) {
+        if (size < 0 || size == 1) {
+            throw new IllegalArgumentException(
+                    "Requires 'size' to be zero or at least 2.");
+        }
+        this.blockSize = size;
+    }
+
+    /**
+     * Writes an XY dataset to a file.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param file  the file (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void writeXYDataset(XYDataset dataset, File file)
+            throws IOException {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        if (file == null) {
+            throw new IllegalArgumentException("Null 'file' argument.");
+        }
+        int seriesCount = dataset.getSeriesCount();
+        int[] flags = new int[seriesCount];
+        double[][] bounds = new double[seriesCount][];
+        double[][] summaries = new double[seriesCount][];
+        long position = 16;
+        for (int s = 0; s < seriesCount; s++) {
+            bounds[s] = new double[] {Double.NaN, Double.NaN, Double.NaN,
+                    Double.NaN};
+            summaries[s] = summarise(dataset, s, bounds[s]);
+            if (isSorted(dataset, s)) {
+                flags[s] = SnapshotFile.SORTED;
+            }
+            position += keyLength(dataset.getSeriesKey(s));
+        }
+        position = align(position, 8) + 64L * seriesCount;
+
+        DataOutputStream out = open(file);
+        try {
+            writeHeader(out, SnapshotFile.XY);
+            out.writeInt(this.blockSize);
+            out.writeInt(seriesCount);
+            for (int s = 0; s < seriesCount; s++) {
+                writeKey(out, dataset.getSeriesKey(s));
+            }
+            pad(out, 8);
+            for (int s = 0; s < seriesCount; s++) {
+                int itemCount = dataset.getItemCount(s);
+                out.writeInt(itemCount);
+                out.writeInt(flags[s]);
+                out.writeLong(position);
+                out.writeLong(position + 8L * itemCount);
+                out.writeLong(position + 16L * itemCount);
+                for (int i = 0; i < 4; i++) {
+                    out.writeDouble(bounds[s][i]);
+                }
+                position += 16L * itemCount + 8L * summaries[s].length;
+            }
+            for (int s = 0; s < seriesCount; s++) {
+                int itemCount = dataset.getItemCount(s);
+                for (int i = 0; i < itemCount; i++) {
+                    out.writeDouble(dataset.getXValue(s, i));
+                }
+                for (int i = 0; i < itemCount; i++) {
+                    out.writeDouble(dataset.getYValue(s, i));
+                }
+                double[] summary = summaries[s];
+                for (int i = 0; i < summary.length; i++) {
+                    out.writeDouble(summary[i]);
+                }
+            }
+        }
+        finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Writes a category dataset to a file.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param file  the file (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void writeCategoryDataset(CategoryDataset dataset, File file)
+            throws IOException {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        if (file == null) {
+            throw new IllegalArgumentException("Null 'file' argument.");
+        }
+        int rowCount = dataset.getRowCount();
+        int columnCount = dataset.getColumnCount();
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        for (int r = 0; r < rowCount; r++) {
+            for (int c = 0; c < columnCount; c++) {
+                double v = doubleValue(dataset.getValue(r, c));
+                if (!Double.isNaN(v)) {
+                    minimum = Math.min(minimum, v);
+                    maximum = Math.max(maximum, v);
+                }
+            }
+        }
+        if (minimum > maximum) {
+            minimum = Double.NaN;
+            maximum = Double.NaN;
+        }
+
+        DataOutputStream out = open(file);
+        try {
+            writeHeader(out, SnapshotFile.CATEGORY);
+            out.writeInt(rowCount);
+            out.writeInt(columnCount);
+            for (int r = 0; r < rowCount; r++) {
+                writeKey(out, dataset.getRowKey(r));
+            }
+            for (int c = 0; c < columnCount; c++) {
+                writeKey(out, dataset.getColumnKey(c));
+            }
+            pad(out, 8);
+            out.writeDouble(minimum);
+            out.writeDouble(maximum);
+            for (int r = 0; r < rowCount; r++) {
+                for (int c = 0; c < columnCount; c++) {
+                    out.writeDouble(doubleValue(dataset.getValue(r, c)));
+                }
+            }
+        }
+        finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Calculates the block summaries for a series, and the bounds of the
+     * whole series.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param bounds  an array that receives the minimum and maximum x- and
+     *     y-values (left as <code>Double.NaN</code> if there are none).
+     *
+     * @return The summaries (four values for each block).
+     */
+    private double[] summarise(XYDataset dataset, int series,
+            double[] bounds) {
+        int itemCount = dataset.getItemCount(series);
+        int size = (this.blockSize > 0 ? this.blockSize : itemCount);
+        int blocks = (size > 0 ? (itemCount + size - 1) / size : 0);
+        double[] block = new double[4 * blocks];
+        for (int b = 0; b < blocks; b++) {
+            int start = b * size;
+            int end = Math.min(start + size, itemCount);
+            double minX = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY;
+            double minY = Double.POSITIVE_INFINITY;
+            double maxY = Double.NEGATIVE_INFINITY;
+            for (int i = start; i < end; i++) {
+                double x = dataset.getXValue(series, i);
+                if (!Double.isNaN(x)) {
+                    minX = Math.min(minX, x);
+                    maxX = Math.max(maxX, x);
+                }
+                double y = dataset.getYValue(series, i);
+                if (!Double.isNaN(y)) {
+                    minY = Math.min(minY, y);
+                    maxY = Math.max(maxY, y);
+                }
+            }
+            block[4 * b] = (minX <= maxX ? minX : Double.NaN);
+            block[4 * b + 1] = (minX <= maxX ? maxX : Double.NaN);
+            block[4 * b + 2] = (minY <= maxY ? minY : Double.NaN);
+            block[4 * b + 3] = (minY <= maxY ? maxY : Double.NaN);
+            for (int i = 0; i < 4; i += 2) {
+                double min = block[4 * b + i];
+                double max = block[4 * b + i + 1];
+                if (!Double.isNaN(min)) {
+                    bounds[i] = (Double.isNaN(bounds[i]) ? min
+                            : Math.min(bounds[i], min));
+                    bounds[i + 1] = (Double.isNaN(bounds[i + 1]) ? max
+                            : Math.max(bounds[i + 1], max));
+                }
+            }
+        }
+        if (this.blockSize == 0) {
+            return new double[0];
+        }
+        return block;
+    }
+
+    /**
+     * Returns <code>true</code> if the x-values in a series are in
+     * ascending order (and none of them is <code>Double.NaN</code>).
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     *
+     * @return A boolean.
+     */
+    private static boolean isSorted(XYDataset dataset, int series) {
+        int itemCount = dataset.getItemCount(series);
+        double previous = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < itemCount; i++) {
+            double x = dataset.getXValue(series, i);
+            if (!(x >= previous)) {
+                return false;
+            }
+            previous = x;
+        }
+        return true;
+    }
+
+    /**
+     * Opens a buffered output stream for a file.
+     *
+     * @param file  the file.
+     *
+     * @return The stream.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static DataOutputStream open(File file) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(file), 65536));
+    }
+
+    /**
+     * Writes the magic number, version and type.
+     *
+     * @param out  the output stream.
+     * @param type  the type code.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void writeHeader(DataOutputStream out, int type)
+            throws IOException {
+        out.writeInt(SnapshotFile.MAGIC);
+        out.writeShort(SnapshotFile.VERSION);
+        out.writeShort(type);
+    }
+
+    /**
+     * Returns the number of bytes used to write a key.
+     *
+     * @param key  the key.
+     *
+     * @return The number of bytes.
+     */
+    private static long keyLength(Comparable key) {
+        return align(4 + 2L * String.valueOf(key).length(), 4);
+    }
+
+    /**
+     * Writes a key.
+     *
+     * @param out  the output stream.
+     * @param key  the key.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void writeKey(DataOutputStream out, Comparable key)
+            throws IOException {
+        String s = String.valueOf(key);
+        out.writeInt(s.length());
+        out.writeChars(s);
+        pad(out, 4);
+    }
+
+    /**
+     * Writes zero bytes up to a multiple of the specified size.  This is
+     * only used for the header, which is much smaller than 2 GB.
+     *
+     * @param out  the output stream.
+     * @param size  the alignment.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void pad(DataOutputStream out, int size)
+            throws IOException {
+        while (out.size() % size != 0) {
+            out.writeByte(0);
+        }
+    }
+
+    /**
+     * Rounds a position up to a multiple of the specified size.
+     *
+     * @param position  the position.
+     * @param size  the alignment (a power of two).
+     *
+     * @return The aligned position.
+     */
+    private static long align(long position, int size) {
+        return (position + size - 1) & ~((long) size - 1);
+    }
+
+    /**
+     * Returns the value of a number as a double.
+     *
+     * @param n  the number (<code>null</code> permitted).
+     *
+     * @return The value (<code>Double.NaN</code> for <code>null</code>).
+     */
+    private static double doubleValue(Number n) {
+        return (n != null ? n.doubleValue() : Double.NaN);
+    }
+
+}
@@ -0,0 +1,171 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------
+ * DecimalParser.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Used by the XML pull parser (DG);
+ *
+ */
+
+package org.jfree.data.io;
+
+/**
+ * Converts decimal text to a <code>double</code> without creating any
+ * objects, for the common case of a number with at most 18 significant
+ * digits and a small exponent.  Such a number is converted exactly: the
+ * digits are collected in a <code>long</code>, which is then multiplied or
+ * divided by an exact power of ten, so the result is correctly rounded and
+ * equal to the result of <code>Double.parseDouble()</code>.  For any other
+ * text {@link #parse(CharSequence, int, int)} returns
+ * <code>Double.NaN</code>, and the caller should use
+ * <code>Double.parseDouble()</code> (which also handles the special values
+ * and reports invalid numbers).
+ * <P>
+ * This is used by {@link MappedCSVReader} and by the XML dataset reader in
+ * the <code>org.jfree.data.xml</code> package.
+ *
+ * @since 1.0.13
+ */
+public final class DecimalParser {
+
+    /** Exact powers of ten, for converting decimal numbers. */
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4,
+            1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+            1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    /** The largest integer that a double can represent exactly. */
+    private static final long MAX_EXACT = 1L << 53;
+
+    /**
+     * Private constructor prevents object creation.
+     */
+    private DecimalParser() {
+    }
+
+    /**
+     * Converts part of a character sequence to a <code>double</code>, if it
+     * holds a decimal number (with an optional sign, fraction and exponent)
+     * that can be converted exactly.  The text should not contain any white
+     * space.
+     *
+     * @param text  the text (<code>null</code> not permitted).
+     * @param start  the index of the first character.
+     * @param end  the index after the last character.
+     *
+     * @return The value, or <code>Double.NaN</code> if the text is not a
+     *     decimal number that can be converted exactly.
+     */
+    public static double parse(CharSequence text, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        char ch;
+        if (i < end && ((ch = text.charAt(i)) == '-' || ch == '+')) {
+            negative = (ch == '-');
+            i++;
+        }
+        long mantissa = 0L;
+        int digits = 0;
+        int exponent = 0;
+        boolean exact = true;
+        boolean found = false;
+        while (i < end && (ch = text.charAt(i)) >= '0' && ch <= '9') {
+            if (digits < 18) {
+                mantissa = mantissa * 10 + (ch - '0');
+                if (mantissa != 0) {
+                    digits++;
+                }
+            }
+            else {
+                exponent++;
+                exact = exact && (ch == '0');
+            }
+            found = true;
+            i++;
+        }
+        if (i < end && text.charAt(i) == '.') {
+            i++;
+            while (i < end && (ch = text.charAt(i)) >= '0' && ch <= '9') {
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (ch - '0');
+                    if (mantissa != 0) {
+                        digits++;
+                    }
+                    exponent--;
+                }
+                else {
+                    exact = exact && (ch == '0');
+                }
+                found = true;
+                i++;
+            }
+        }
+        if (found && i < end && ((ch = text.charAt(i)) == 'e' || ch == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && ((ch = text.charAt(i)) == '-' || ch == '+')) {
+                negativeExponent = (ch == '-');
+                i++;
+            }
+            int x = 0;
+            boolean expDigits = false;
+            while (i < end && (ch = text.charAt(i)) >= '0' && ch <= '9'
+                    && x < 100000) {
+                x = x * 10 + (ch - '0');
+                expDigits = true;
+                i++;
+            }
+            exponent += (negativeExponent ? -x : x);
+            found = expDigits;
+        }
+        if (!found || !exact || i != end || mantissa >= MAX_EXACT) {
+            return Double.NaN;
+        }
+        double result;
+        if (mantissa == 0L) {
+            result = 0.0;
+        }
+        else if (exponent >= 0 && exponent <= 22) {
+            result = mantissa * POWERS_OF_TEN[exponent];
+        }
+        else if (exponent < 0 && exponent >= -22) {
+            result = mantissa / POWERS_OF_TEN[-exponent];
+        }
+        else {
+            return Double.NaN;
+        }
+        return (negative ? -result : result);
+    }
+
+}
@@ -0,0 +1,1663 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * MappedCSVReader.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Don't truncate fractional seconds to the previous ms (DG);
+ * 18-Oct-2026 : Moved the number conversion to DecimalParser (DG);
+ * 18-Oct-2026 : Restore interrupt status after joining threads (DG);
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.time.Millisecond;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Reads large CSV files into datasets.  The file is memory-mapped (in blocks
+ * of at most {@link #getBlockSize()} bytes) and the numbers and timestamps
+ * are parsed directly from the bytes, without creating intermediate
+ * <code>String</code> objects.  When the thread count is greater than one,
+ * the blocks are parsed in parallel and the results are combined in file
+ * order.
+ * <P>
+ * The file must use a single-byte (ASCII compatible) encoding, and text
+ * fields must not contain line breaks.  Columns are identified by their
+ * index, starting from zero.  Empty fields are read as missing values.
+ * <P>
+ * This class requires JRE 1.4 or later.
+ *
+ * @see CSV
+ *
+ * @since 1.0.13
+ */
+public class MappedCSVReader {
+
+    /** Timestamps are given in milliseconds since 1-Jan-1970 UTC. */
+    public static final int TIMESTAMP_MILLISECONDS = 0;
+
+    /** Timestamps are given in seconds since 1-Jan-1970 UTC. */
+    public static final int TIMESTAMP_SECONDS = 1;
+
+    /**
+     * Timestamps are given in the ISO 8601 format
+     * <code>yyyy-MM-dd[('T'|' ')HH:mm[:ss[.SSS]]][Z|(+|-)HH[:]mm]</code>.
+     * Timestamps without a zone offset are interpreted in the reader's time
+     * zone.
+     */
+    public static final int TIMESTAMP_ISO8601 = 2;
+
+    /** The default block size (256 megabytes). */
+    public static final int DEFAULT_BLOCK_SIZE = 1 << 28;
+
+    /** The number of milliseconds in a day. */
+    private static final long MILLIS_PER_DAY = 24L * 60L * 60L * 1000L;
+
+    /** The file. */
+    private File file;
+
+    /** The field delimiter. */
+    private char fieldDelimiter;
+
+    /** The text delimiter. */
+    private char textDelimiter;
+
+    /** A flag that indicates whether the first line holds column names. */
+    private boolean header;
+
+    /** The timestamp format. */
+    private int timestampFormat;
+
+    /** The time zone for timestamps without a zone offset. */
+    private TimeZone timeZone;
+
+    /** The index of the timestamp column (-1 for none). */
+    private int timestampColumn;
+
+    /** The number of threads used to parse the file. */
+    private int threadCount;
+
+    /** The maximum number of bytes that are mapped at once. */
+    private int blockSize;
+
+    /**
+     * Creates a new reader for the specified file.  The field delimiter is
+     * a comma, the text delimiter is a double-quote, the first line is
+     * expected to hold the column names and the file is parsed by a single
+     * thread.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     */
+    public MappedCSVReader(File file) {
+        if (file == null) {
+            throw new IllegalArgumentException("Null 'file' argument.");
+        }
+        this.file = file;
+        this.fieldDelimiter = ',';
+        this.textDelimiter = '"';
+        this.header = true;
+        this.timestampFormat = TIMESTAMP_ISO8601;
+        this.timeZone = TimeZone.getDefault();
+        this.timestampColumn = -1;
+        this.threadCount = 1;
+        this.blockSize = DEFAULT_BLOCK_SIZE;
+    }
+
+    /**
+     * Returns the file.
+     *
+     * @return The file (never <code>null</code>).
+     */
+    public File getFile() {
+        return this.file;
+    }
+
+    /**
+     * Returns the field delimiter.
+     *
+     * @return The field delimiter.
+     */
+    public char getFieldDelimiter() {
+        return this.fieldDelimiter;
+    }
+
+    /**
+     * Sets the field delimiter.
+     *
+     * @param delimiter  the delimiter (an ASCII character, usually a comma,
+     *     semi-colon, tab or space).
+     */
+    public void setFieldDelimiter(char delimiter) {
+        if (delimiter > 127 || delimiter == '\n' || delimiter == '\r') {
+            throw new IllegalArgumentException(
+                    "Requires an ASCII delimiter other than a line break.");
+        }
+        this.fieldDelimiter = delimiter;
+    }
+
+    /**
+     * Returns the text delimiter.
+     *
+     * @return The text delimiter.
+     */
+    public char getTextDelimiter() {
+        return this.textDelimiter;
+    }
+
+    /**
+     * Sets the text delimiter.
+     *
+     * @param delimiter  the delimiter (an ASCII character, usually a single
+     *     or double quote).
+     */
+    public void setTextDelimiter(char delimiter) {
+        if (delimiter > 127 || delimiter == '\n' || delimiter == '\r') {
+            throw new IllegalArgumentException(
+                    "Requires an ASCII delimiter other than a line break.");
+        }
+        this.textDelimiter = delimiter;
+    }
+
+    /**
+     * Returns the flag that indicates whether the first line of the file
+     * holds the column names.
+     *
+     * @return A boolean.
+     */
+    public boolean hasHeader() {
+        return this.header;
+    }
+
+    /**
+     * Sets the flag that indicates whether the first line of the file holds
+     * the column names.
+     *
+     * @param header  the flag.
+     */
+    public void setHeader(boolean header) {
+        this.header = header;
+    }
+
+    /**
+     * Returns the timestamp format.
+     *
+     * @return The timestamp format.
+     */
+    public int getTimestampFormat() {
+        return this.timestampFormat;
+    }
+
+    /**
+     * Sets the timestamp format.
+     *
+     * @param format  one of {@link #TIMESTAMP_MILLISECONDS},
+     *     {@link #TIMESTAMP_SECONDS} and {@link #TIMESTAMP_ISO8601}.
+     */
+    public void setTimestampFormat(int format) {
+        if (format < TIMESTAMP_MILLISECONDS || format > TIMESTAMP_ISO8601) {
+            throw new IllegalArgumentException("Unknown timestamp format.");
+        }
+        this.timestampFormat = format;
+    }
+
+    /**
+     * Returns the time zone used for ISO 8601 timestamps that do not
+     * specify a zone offset.
+     *
+     * @return The time zone (never <code>null</code>).
+     */
+    public TimeZone getTimeZone() {
+        return this.timeZone;
+    }
+
+    /**
+     * Sets the time zone used for ISO 8601 timestamps that do not specify a
+     * zone offset.
+     *
+     * @param zone  the time zone (<code>null</code> not permitted).
+     */
+    public void setTimeZone(TimeZone zone) {
+        if (zone == null) {
+            throw new IllegalArgumentException("Null 'zone' argument.");
+        }
+        this.timeZone = zone;
+    }
+
+    /**
+     * Returns the index of the column that holds timestamps.
+     *
+     * @return The column index (-1 if there is no timestamp column).
+     */
+    public int getTimestampColumn() {
+        return this.timestampColumn;
+    }
+
+    /**
+     * Sets the index of the column that holds timestamps.  Wherever this
+     * column is selected, its values are parsed according to the timestamp
+     * format and reported in milliseconds since 1-Jan-1970 UTC.
+     *
+     * @param column  the column index (-1 for none).
+     */
+    public void setTimestampColumn(int column) {
+        if (column < -1) {
+            throw new IllegalArgumentException("Requires 'column' >= -1.");
+        }
+        this.timestampColumn = column;
+    }
+
+    /**
+     * Returns the number of threads used to parse the file.
+     *
+     * @return The thread count.
+     */
+    public int getThreadCount() {
+        return this.threadCount;
+    }
+
+    /**
+     * Sets the number of threads used to parse the file (the calling thread
+     * is one of them).  Streaming always uses the calling thread only.
+     *
+     * @param count  the thread count (at least 1).
+     */
+    public void setThreadCount(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Requires 'count' >= 1.");
+        }
+        this.threadCount = count;
+    }
+
+    /**
+     * Returns the maximum number of bytes that are mapped at once.
+     *
+     * @return The block size.
+     */
+    public int getBlockSize() {
+        return this.blockSize;
+    }
+
+    /**
+     * Sets the maximum number of bytes that are mapped at once.  A block is
+     * extended to the end of the line that it finishes in, so it can be
+     * slightly larger than this.
+     *
+     * @param size  the block size (at least 1).
+     */
+    public void setBlockSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Requires 'size' >= 1.");
+        }
+        this.blockSize = size;
+    }
+
+    /**
+     * Returns the column names from the first line of the file.
+     *
+     * @return The column names (an empty array if the reader is configured
+     *     to read files without a header).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public String[] getColumnNames() throws IOException {
+        if (!this.header) {
+            return new String[0];
+        }
+        FileInputStream in = new FileInputStream(this.file);
+        try {
+            return readHeader(in.getChannel(), new long[1]);
+        }
+        finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Reads an {@link XYSeriesCollection} from the file, with one series for
+     * each of the y-columns.  The series keys are the column names (or
+     * "Column n" for files without a header).
+     *
+     * @param xColumn  the index of the column holding the x-values (if this
+     *     is the timestamp column, the x-values are in milliseconds).
+     * @param yColumns  the indices of the columns holding the y-values
+     *     (<code>null</code> not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem, or a value cannot be
+     *     parsed.
+     */
+    public XYSeriesCollection readXYSeriesCollection(int xColumn,
+            int[] yColumns) throws IOException {
+        int[] columns = prepend(xColumn, yColumns);
+        ColumnBuffer data = new ColumnBuffer(columns.length, false);
+        String[] names = read(columns, -1, data);
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        for (int s = 0; s < yColumns.length; s++) {
+            XYSeries series = new XYSeries(columnName(names, yColumns[s]));
+            double[] x = data.values[0];
+            double[] y = data.values[s + 1];
+            for (int i = 0; i < data.size; i++) {
+                if (Double.isNaN(x[i])) {
+                    continue;
+                }
+                if (Double.isNaN(y[i])) {
+                    series.add(x[i], null, false);
+                }
+                else {
+                    series.add(x[i], y[i], false);
+                }
+            }
+            dataset.addSeries(series);
+        }
+        return dataset;
+    }
+
+    /**
+     * Reads a {@link TimeSeriesCollection} from the file, with one series
+     * for each of the value columns.  The series keys are the column names
+     * (or "Column n" for files without a header).  Each timestamp must fall
+     * in a different time period.
+     *
+     * @param timeColumn  the index of the column holding the timestamps
+     *     (this overrides the reader's timestamp column).
+     * @param valueColumns  the indices of the columns holding the values
+     *     (<code>null</code> not permitted).
+     * @param timePeriodClass  the time period class for the series
+     *     (<code>null</code> not permitted, for example
+     *     <code>Millisecond.class</code>).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem, or a value cannot be
+     *     parsed.
+     */
+    public TimeSeriesCollection readTimeSeriesCollection(int timeColumn,
+            int[] valueColumns, Class timePeriodClass) throws IOException {
+        if (timePeriodClass == null) {
+            throw new IllegalArgumentException(
+                    "Null 'timePeriodClass' argument.");
+        }
+        int[] columns = prepend(timeColumn, valueColumns);
+        ColumnBuffer data = new ColumnBuffer(columns.length, false);
+        int saved = this.timestampColumn;
+        String[] names;
+        try {
+            this.timestampColumn = timeColumn;
+            names = read(columns, -1, data);
+        }
+        finally {
+            this.timestampColumn = saved;
+        }
+        TimeSeriesCollection dataset = new TimeSeriesCollection(
+                this.timeZone);
+        double[] t = data.values[0];
+        RegularTimePeriod[] periods = new RegularTimePeriod[data.size];
+        for (int i = 0; i < data.size; i++) {
+            if (!Double.isNaN(t[i])) {
+                periods[i] = createPeriod(timePeriodClass, (long) t[i]);
+            }
+        }
+        for (int s = 0; s < valueColumns.length; s++) {
+            TimeSeries series = new TimeSeries(columnName(names,
+                    valueColumns[s]), timePeriodClass);
+            double[] v = data.values[s + 1];
+            for (int i = 0; i < data.size; i++) {
+                if (periods[i] == null) {
+                    continue;
+                }
+                if (Double.isNaN(v[i])) {
+                    series.add(periods[i], null, false);
+                }
+                else {
+                    series.add(periods[i], v[i], false);
+                }
+            }
+            dataset.addSeries(series);
+        }
+        return dataset;
+    }
+
+    /**
+     * Reads a {@link DefaultCategoryDataset} from the file.  Each line
+     * supplies one row: the row key is taken from the key column, and the
+     * column keys are the names of the value columns (or "Column n" for
+     * files without a header).  Empty fields are skipped.
+     *
+     * @param keyColumn  the index of the column holding the row keys.
+     * @param valueColumns  the indices of the columns holding the values
+     *     (<code>null</code> not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem, or a value cannot be
+     *     parsed.
+     */
+    public DefaultCategoryDataset readCategoryDataset(int keyColumn,
+            int[] valueColumns) throws IOException {
+        if (keyColumn < 0) {
+            throw new IllegalArgumentException("Requires 'keyColumn' >= 0.");
+        }
+        int[] columns = prepend(-1, valueColumns);
+        ColumnBuffer data = new ColumnBuffer(columns.length, true);
+        String[] names = read(columns, keyColumn, data);
+        Comparable[] columnKeys = new Comparable[valueColumns.length];
+        for (int c = 0; c < valueColumns.length; c++) {
+            columnKeys[c] = columnName(names, valueColumns[c]);
+        }
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        for (int i = 0; i < data.size; i++) {
+            for (int c = 0; c < valueColumns.length; c++) {
+                double v = data.values[c + 1][i];
+                if (!Double.isNaN(v)) {
+                    dataset.addValue(v, data.keys[i], columnKeys[c]);
+                }
+            }
+        }
+        return dataset;
+    }
+
+    /**
+     * Parses the file in order, passing the values of the selected columns
+     * for each row to a handler as soon as the row has been parsed.  The
+     * file is parsed by the calling thread only.
+     *
+     * @param columns  the indices of the columns to read (<code>null</code>
+     *     not permitted).
+     * @param handler  the handler (<code>null</code> not permitted).
+     *
+     * @return The number of rows parsed.
+     *
+     * @throws IOException if there is an I/O problem, or a value cannot be
+     *     parsed.
+     */
+    public long stream(int[] columns, CSVRowHandler handler)
+            throws IOException {
+        if (columns == null) {
+            throw new IllegalArgumentException("Null 'columns' argument.");
+        }
+        if (handler == null) {
+            throw new IllegalArgumentException("Null 'handler' argument.");
+        }
+        FileInputStream in = new FileInputStream(this.file);
+        try {
+            FileChannel channel = in.getChannel();
+            long[] start = new long[1];
+            if (this.header) {
+                readHeader(channel, start);
+            }
+            List blocks = findBlocks(channel, start[0], 1);
+            Parser parser = new Parser(columns, -1);
+            HandlerSink sink = new HandlerSink(handler);
+            for (int i = 0; i < blocks.size(); i++) {
+                long[] block = (long[]) blocks.get(i);
+                parser.parse(map(channel, block), block[0], sink);
+                handler.blockCompleted();
+            }
+            if (blocks.isEmpty()) {
+                handler.blockCompleted();
+            }
+            return sink.count;
+        }
+        finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Parses the file in order, appending the values in two columns to an
+     * existing series.  A {@link org.jfree.data.general.SeriesChangeEvent}
+     * is sent to the series' listeners after each block of the file.
+     *
+     * @param xColumn  the index of the column holding the x-values.
+     * @param yColumn  the index of the column holding the y-values.
+     * @param series  the series (<code>null</code> not permitted).
+     *
+     * @return The number of rows parsed.
+     *
+     * @throws IOException if there is an I/O problem, or a value cannot be
+     *     parsed.
+     */
+    public long stream(int xColumn, int yColumn, final XYSeries series)
+            throws IOException {
+        if (series == null) {
+            throw new IllegalArgumentException("Null 'series' argument.");
+        }
+        return stream(new int[] {xColumn, yColumn}, new CSVRowHandler() {
+            public void handleRow(double[] values) {
+                if (Double.isNaN(values[0])) {
+                    return;
+                }
+                if (Double.isNaN(values[1])) {
+                    series.add(values[0], null, false);
+                }
+                else {
+                    series.add(values[0], values[1], false);
+                }
+            }
+            public void blockCompleted() {
+                series.fireSeriesChanged();
+            }
+        });
+    }
+
+    /**
+     * Parses the file in order, appending the values in two columns to an
+     * existing time series.  The timestamps are converted to the series'
+     * time period class, and a
+     * {@link org.jfree.data.general.SeriesChangeEvent} is sent to the
+     * series' listeners after each block of the file.
+     *
+     * @param timeColumn  the index of the column holding the timestamps
+     *     (this overrides the reader's timestamp column).
+     * @param valueColumn  the index of the column holding the values.
+     * @param series  the series (<code>null</code> not permitted).
+     *
+     * @return The number of rows parsed.
+     *
+     * @throws IOException if there is an I/O problem, or a value cannot be
+     *     parsed.
+     */
+    public long stream(int timeColumn, int valueColumn,
+            final TimeSeries series) throws IOException {
+        if (series == null) {
+            throw new IllegalArgumentException("Null 'series' argument.");
+        }
+        final Class periodClass = series.getTimePeriodClass();
+        int saved = this.timestampColumn;
+        try {
+            this.timestampColumn = timeColumn;
+            return stream(new int[] {timeColumn, valueColumn},
+                    new CSVRowHandler() {
+                public void handleRow(double[] values) {
+                    if (Double.isNaN(values[0])) {
+                        return;
+                    }
+                    RegularTimePeriod period = createPeriod(periodClass,
+                            (long) values[0]);
+                    if (Double.isNaN(values[1])) {
+                        series.add(period, null, false);
+                    }
+                    else {
+                        series.add(period, values[1], false);
+                    }
+                }
+                public void blockCompleted() {
+                    series.fireSeriesChanged();
+                }
+            });
+        }
+        finally {
+            this.timestampColumn = saved;
+        }
+    }
+
+    /**
+     * Creates a time period containing the specified instant.
+     *
+     * @param periodClass  the time period class.
+     * @param millis  the instant.
+     *
+     * @return The time period.
+     */
+    private RegularTimePeriod createPeriod(Class periodClass, long millis) {
+        if (periodClass == Millisecond.class) {
+            return new Millisecond(new Date(millis), this.timeZone);
+        }
+        return RegularTimePeriod.createInstance(periodClass, new Date(millis),
+                this.timeZone);
+    }
+
+    /**
+     * Returns the name for a column.
+     *
+     * @param names  the column names from the header.
+     * @param column  the column index.
+     *
+     * @return The name.
+     */
+    private static String columnName(String[] names, int column) {
+        if (column < names.length) {
+            return names[column];
+        }
+        return "Column " + column;
+    }
+
+    /**
+     * Returns a new array with an item added at the start.
+     *
+     * @param first  the first item.
+     * @param rest  the remaining items (<code>null</code> not permitted).
+     *
+     * @return The array.
+     */
+    private static int[] prepend(int first, int[] rest) {
+        if (rest == null) {
+            throw new IllegalArgumentException("Null 'columns' argument.");
+        }
+        int[] result = new int[rest.length + 1];
+        result[0] = first;
+        System.arraycopy(rest, 0, result, 1, rest.length);
+        return result;
+    }
+
+    /**
+     * Parses the file (in parallel, if the thread count permits) into a
+     * buffer.
+     *
+     * @param columns  the columns to read (-1 entries are skipped).
+     * @param keyColumn  the column holding the row keys (or -1).
+     * @param result  the buffer that receives the data.
+     *
+     * @return The column names from the header (possibly empty).
+     *
+     * @throws IOException if there is an I/O problem, or a value cannot be
+     *     parsed.
+     */
+    private String[] read(int[] columns, int keyColumn, ColumnBuffer result)
+            throws IOException {
+        FileInputStream in = new FileInputStream(this.file);
+        try {
+            FileChannel channel = in.getChannel();
+            long[] start = new long[1];
+            String[] names = new String[0];
+            if (this.header) {
+                names = readHeader(channel, start);
+            }
+            List blocks = findBlocks(channel, start[0], this.threadCount);
+            int taskCount = Math.min(this.threadCount, blocks.size());
+            ColumnBuffer[] parts = new ColumnBuffer[blocks.size()];
+            ParsingTask[] tasks = new ParsingTask[Math.max(taskCount, 1)];
+            int[] next = new int[1];
+            for (int t = 0; t < tasks.length; t++) {
+                tasks[t] = new ParsingTask(channel, blocks, parts, next,
+                        new Parser(columns, keyColumn), columns.length,
+                        keyColumn >= 0);
+            }
+            Thread[] threads = new Thread[tasks.length];
+            for (int t = 1; t < tasks.length; t++) {
+                threads[t] = new Thread(tasks[t], "MappedCSVReader-" + t);
+                threads[t].start();
+            }
+            tasks[0].run();
+            boolean interrupted = false;
+            for (int t = 1; t < tasks.length; t++) {
+                boolean joined = false;
+                while (!joined) {
+                    try {
+                        threads[t].join();
+                        joined = true;
+                    }
+                    catch (InterruptedException e) {
+                        // keep waiting, the results are needed, but restore
+                        // the interrupt status afterwards
+                        interrupted = true;
+                    }
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            for (int t = 0; t < tasks.length; t++) {
+                Throwable error = tasks[t].error;
+                if (error instanceof IOException) {
+                    throw (IOException) error;
+                }
+                else if (error instanceof RuntimeException) {
+                    throw (RuntimeException) error;
+                }
+                else if (error instanceof Error) {
+                    throw (Error) error;
+                }
+            }
+            for (int i = 0; i < parts.length; i++) {
+                result.append(parts[i]);
+            }
+            return names;
+        }
+        finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Reads the header line.
+     *
+     * @param channel  the file channel.
+     * @param start  an array that receives the position of the first data
+     *     line.
+     *
+     * @return The column names.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private String[] readHeader(FileChannel channel, long[] start)
+            throws IOException {
+        long end = findLineStart(channel, 0L);
+        start[0] = end;
+        if (end == 0L) {
+            return new String[0];
+        }
+        if (end > Integer.MAX_VALUE) {
+            throw new IOException("The header line is too long.");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) end);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                break;
+            }
+        }
+        final List names = new ArrayList();
+        Parser parser = new Parser(new int[0], -1);
+        parser.parseFields(buffer, 0, buffer.position(), names);
+        return (String[]) names.toArray(new String[names.size()]);
+    }
+
+    /**
+     * Divides the data lines into blocks that end at line boundaries.
+     *
+     * @param channel  the file channel.
+     * @param start  the position of the first data line.
+     * @param parts  the minimum number of blocks to aim for (so that each
+     *     thread has work to do).
+     *
+     * @return A list of <code>long[] {start, end}</code> arrays.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private List findBlocks(FileChannel channel, long start, int parts)
+            throws IOException {
+        long size = channel.size();
+        long target = Math.min(this.blockSize,
+                Math.max(1L, (size - start + parts - 1) / parts));
+        List blocks = new ArrayList();
+        long pos = start;
+        while (pos < size) {
+            long end = Math.min(size, pos + target);
+            if (end < size) {
+                end = findLineStart(channel, end - 1);
+            }
+            if (end - pos > Integer.MAX_VALUE) {
+                throw new IOException("A line is too long to be mapped.");
+            }
+            blocks.add(new long[] {pos, end});
+            pos = end;
+        }
+        return blocks;
+    }
+
+    /**
+     * Returns the position that follows the first line feed at or after the
+     * specified position (or the size of the file, if there is none).
+     *
+     * @param channel  the file channel.
+     * @param from  the position to search from.
+     *
+     * @return The start of the next line.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static long findLineStart(FileChannel channel, long from)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        long pos = from;
+        while (true) {
+            buffer.clear();
+            int n = channel.read(buffer, pos);
+            if (n <= 0) {
+                return channel.size();
+            }
+            for (int i = 0; i < n; i++) {
+                if (buffer.get(i) == '\n') {
+                    return pos + i + 1;
+                }
+            }
+            pos += n;
+        }
+    }
+
+    /**
+     * Maps a block of the file.
+     *
+     * @param channel  the file channel.
+     * @param block  the block (<code>{start, end}</code>).
+     *
+     * @return The mapped buffer.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static MappedByteBuffer map(FileChannel channel, long[] block)
+            throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, block[0],
+                block[1] - block[0]);
+    }
+
+    /**
+     * Receives the rows from a {@link Parser}.
+     */
+    private interface RowSink {
+
+        /**
+         * Receives one row.
+         *
+         * @param values  the values (reused for the next row).
+         * @param key  the row key (<code>null</code> if no key column was
+         *     selected).
+         */
+        void row(double[] values, String key);
+
+    }
+
+    /**
+     * A sink that passes rows to a {@link CSVRowHandler}.
+     */
+    private static class HandlerSink implements RowSink {
+
+        /** The handler. */
+        private CSVRowHandler handler;
+
+        /** The number of rows received. */
+        private long count;
+
+        /**
+         * Creates a new sink.
+         *
+         * @param handler  the handler.
+         */
+        HandlerSink(CSVRowHandler handler) {
+            this.handler = handler;
+        }
+
+        /**
+         * Passes a row to the handler.
+         *
+         * @param values  the values.
+         * @param key  ignored.
+         */
+        public void row(double[] values, String key) {
+            this.count++;
+            this.handler.handleRow(values);
+        }
+
+    }
+
+    /**
+     * A sink that stores the rows in primitive arrays, one per column.
+     */
+    private static class ColumnBuffer implements RowSink {
+
+        /** The values (one array per selected column). */
+        double[][] values;
+
+        /** The row keys (<code>null</code> if keys are not stored). */
+        String[] keys;
+
+        /** The number of rows. */
+        int size;
+
+        /**
+         * Creates a new buffer.
+         *
+         * @param columnCount  the number of columns.
+         * @param storeKeys  store the row keys?
+         */
+        ColumnBuffer(int columnCount, boolean storeKeys) {
+            this.values = new double[columnCount][16];
+            if (storeKeys) {
+                this.keys = new String[16];
+            }
+        }
+
+        /**
+         * Ensures that there is room for the specified number of rows.
+         *
+         * @param capacity  the capacity.
+         */
+        private void ensureCapacity(int capacity) {
+            int length = this.values[0].length;
+            if (capacity <= length) {
+                return;
+            }
+            int newLength = Math.max(capacity, length * 2);
+            for (int c = 0; c < this.values.length; c++) {
+                double[] v = new double[newLength];
+                System.arraycopy(this.values[c], 0, v, 0, this.size);
+                this.values[c] = v;
+            }
+            if (this.keys != null) {
+                String[] k = new String[newLength];
+                System.arraycopy(this.keys, 0, k, 0, this.size);
+                this.keys = k;
+            }
+        }
+
+        /**
+         * Stores a row.
+         *
+         * @param row  the values.
+         * @param key  the row key.
+         */
+        public void row(double[] row, String key) {
+            ensureCapacity(this.size + 1);
+            for (int c = 0; c < row.length; c++) {
+                this.values[c][this.size] = row[c];
+            }
+            if (this.keys != null) {
+                this.keys[this.size] = key;
+            }
+            this.size++;
+        }
+
+        /**
+         * Appends the rows from another buffer.
+         *
+         * @param other  the other buffer.
+         */
+        void append(ColumnBuffer other) {
+            ensureCapacity(this.size + other.size);
+            for (int c = 0; c < this.values.length; c++) {
+                System.arraycopy(other.values[c], 0, this.values[c],
+                        this.size, other.size);
+            }
+            if (this.keys != null) {
+                System.arraycopy(other.keys, 0, this.keys, this.size,
+                        other.size);
+            }
+            this.size += other.size;
+        }
+
+    }
+
+    /**
+     * Parses blocks of the file, taking the next unparsed block until there
+     * are none left.
+     */
+    private static class ParsingTask implements Runnable {
+
+        /** The file channel. */
+        private FileChannel channel;
+
+        /** The blocks. */
+        private List blocks;
+
+        /** The results (one buffer per block). */
+        private ColumnBuffer[] results;
+
+        /** The index of the next block (shared by the tasks). */
+        private int[] next;
+
+        /** The parser. */
+        private Parser parser;
+
+        /** The number of columns. */
+        private int columnCount;
+
+        /** Store the row keys? */
+        private boolean storeKeys;
+
+        /** The error thrown while parsing (if any). */
+        private Throwable error;
+
+        /**
+         * Creates a new task.
+         *
+         * @param channel  the file channel.
+         * @param blocks  the blocks.
+         * @param results  the results.
+         * @param next  the index of the next block.
+         * @param parser  the parser.
+         * @param columnCount  the number of columns.
+         * @param storeKeys  store the row keys?
+         */
+        ParsingTask(FileChannel channel, List blocks, ColumnBuffer[] results,
+                int[] next, Parser parser, int columnCount,
+                boolean storeKeys) {
+            this.channel = channel;
+            this.blocks = blocks;
+            this.results = results;
+            this.next = next;
+            this.parser = parser;
+            this.columnCount = columnCount;
+            this.storeKeys = storeKeys;
+        }
+
+        /**
+         * Parses blocks until there are none left, or an error occurs.
+         */
+        public void run() {
+            try {
+                while (true) {
+                    int index;
+                    synchronized (this.next) {
+                        index = this.next[0];
+                        if (index >= this.blocks.size()) {
+                            return;
+                        }
+                        this.next[0]++;
+                    }
+                    long[] block = (long[]) this.blocks.get(index);
+                    ColumnBuffer buffer = new ColumnBuffer(this.columnCount,
+                            this.storeKeys);
+                    this.parser.parse(map(this.channel, block), block[0],
+                            buffer);
+                    synchronized (this.results) {
+                        this.results[index] = buffer;
+                    }
+                }
+            }
+            catch (Throwable t) {
+                this.error = t;
+                synchronized (this.next) {
+                    // stop the other tasks
+                    this.next[0] = this.blocks.size();
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Parses lines of CSV data from a buffer.  A parser is used by one
+     * thread at a time.
+     */
+    private class Parser {
+
+        /** The field delimiter. */
+        private byte fd;
+
+        /** The text delimiter. */
+        private byte td;
+
+        /**
+         * The position in the values array for each column (-1 if the
+         * column is not selected).
+         */
+        private int[] slots;
+
+        /** The column holding the row keys (-1 for none). */
+        private int keyColumn;
+
+        /** The values for the current row. */
+        private double[] values;
+
+        /** The timestamp format. */
+        private int format;
+
+        /** The column holding timestamps (-1 for none). */
+        private int timeColumn;
+
+        /** The time zone. */
+        private TimeZone zone;
+
+        /** A view of the buffer as characters, for parsing numbers. */
+        private ByteSequence chars;
+
+        /**
+         * Creates a parser.
+         *
+         * @param columns  the columns to read (-1 entries are skipped).
+         * @param keyColumn  the column holding the row keys (or -1).
+         */
+        Parser(int[] columns, int keyColumn) {
+            this.fd = (byte) MappedCSVReader.this.fieldDelimiter;
+            this.td = (byte) MappedCSVReader.this.textDelimiter;
+            this.format = MappedCSVReader.this.timestampFormat;
+            this.timeColumn = MappedCSVReader.this.timestampColumn;
+            this.zone = MappedCSVReader.this.timeZone;
+            this.keyColumn = keyColumn;
+            int max = keyColumn;
+            for (int i = 0; i < columns.length; i++) {
+                max = Math.max(max, columns[i]);
+            }
+            this.slots = new int[max + 1];
+            for (int i = 0; i < this.slots.length; i++) {
+                this.slots[i] = -1;
+            }
+            for (int i = 0; i < columns.length; i++) {
+                if (columns[i] >= 0) {
+                    this.slots[columns[i]] = i;
+                }
+            }
+            this.values = new double[columns.length];
+            this.chars = new ByteSequence();
+        }
+
+        /**
+         * Parses the lines in a buffer.
+         *
+         * @param buffer  the buffer.
+         * @param offset  the file position of the start of the buffer (used
+         *     in error messages).
+         * @param sink  the sink that receives the rows.
+         *
+         * @throws IOException if a value cannot be parsed.
+         */
+        void parse(ByteBuffer buffer, long offset, RowSink sink)
+                throws IOException {
+            int limit = buffer.limit();
+            int p = 0;
+            while (p < limit) {
+                byte b = buffer.get(p);
+                if (b == '\n' || b == '\r') {  // skip blank lines
+                    p++;
+                    continue;
+                }
+                for (int i = 0; i < this.values.length; i++) {
+                    this.values[i] = Double.NaN;
+                }
+                String key = null;
+                int column = 0;
+                while (true) {
+                    int start = p;
+                    int end;
+                    if (p < limit && buffer.get(p) == this.td) {
+                        p = skipQuoted(buffer, p, limit);
+                        end = p;
+                        while (p < limit && !isFieldEnd(buffer.get(p))) {
+                            p++;
+                        }
+                    }
+                    else {
+                        while (p < limit && !isFieldEnd(buffer.get(p))) {
+                            p++;
+                        }
+                        end = p;
+                    }
+                    if (column < this.slots.length) {
+                        int slot = this.slots[column];
+                        if (slot >= 0) {
+                            this.values[slot] = (column == this.timeColumn
+                                    ? parseTimestamp(buffer, start, end,
+                                    offset) : parseNumber(buffer, start, end,
+                                    offset));
+                        }
+                        if (column == this.keyColumn) {
+                            key = unquote(buffer, start, end);
+                        }
+                    }
+                    if (p < limit && buffer.get(p) == this.fd) {
+                        p++;
+                        column++;
+                    }
+                    else {
+                        break;
+                    }
+                }
+                while (p < limit && (buffer.get(p) == '\r'
+                        || buffer.get(p) == '\n')) {
+                    p++;
+                }
+                sink.row(this.values, key);
+            }
+        }
+
+        /**
+         * Parses the fields in a single line as strings.
+         *
+         * @param buffer  the buffer.
+         * @param start  the start of the line.
+         * @param limit  the end of the line.
+         * @param result  the list that receives the fields.
+         */
+        void parseFields(ByteBuffer buffer, int start, int limit,
+                List result) {
+            int p = start;
+            while (true) {
+                int s = p;
+                if (p < limit && buffer.get(p) == this.td) {
+                    p = skipQuoted(buffer, p, limit);
+                }
+                while (p < limit && !isFieldEnd(buffer.get(p))) {
+                    p++;
+                }
+                result.add(unquote(buffer, s, p));
+                if (p < limit && buffer.get(p) == this.fd) {
+                    p++;
+                }
+                else {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Returns <code>true</code> if a byte ends a field.
+         *
+         * @param b  the byte.
+         *
+         * @return A boolean.
+         */
+        private boolean isFieldEnd(byte b) {
+            return b == this.fd || b == '\n' || b == '\r';
+        }
+
+        /**
+         * Skips a quoted section (a doubled text delimiter is an escaped
+         * delimiter).
+         *
+         * @param buffer  the buffer.
+         * @param p  the position of the opening delimiter.
+         * @param limit  the limit.
+         *
+         * @return The position after the closing delimiter.
+         */
+        private int skipQuoted(ByteBuffer buffer, int p, int limit) {
+            p++;
+            while (p < limit) {
+                if (buffer.get(p) == this.td) {
+                    if (p + 1 < limit && buffer.get(p + 1) == this.td) {
+                        p += 2;
+                        continue;
+                    }
+                    return p + 1;
+                }
+                p++;
+            }
+            return p;
+        }
+
+        /**
+         * Returns the text of a field, without surrounding white space and
+         * text delimiters.
+         *
+         * @param buffer  the buffer.
+         * @param start  the start of the field.
+         * @param end  the end of the field.
+         *
+         * @return The text.
+         */
+        private String unquote(ByteBuffer buffer, int start, int end) {
+            while (start < end && buffer.get(start) == ' ') {
+                start++;
+            }
+            while (end > start && buffer.get(end - 1) == ' ') {
+                end--;
+            }
+            boolean quoted = false;
+            if (end - start >= 2 && buffer.get(start) == this.td
+                    && buffer.get(end - 1) == this.td) {
+                start++;
+                end--;
+                quoted = true;
+            }
+            StringBuffer b = new StringBuffer(end - start);
+            for (int i = start; i < end; i++) {
+                char c = (char) (buffer.get(i) & 0xFF);
+                b.append(c);
+                if (quoted && c == this.td && i + 1 < end
+                        && buffer.get(i + 1) == this.td) {
+                    i++;
+                }
+            }
+            return b.toString();
+        }
+
+        /**
+         * Parses a number.  Numbers with at most 18 significant digits and
+         * a small exponent are converted exactly without creating any
+         * objects (see {@link DecimalParser}), other numbers are passed to
+         * <code>Double.parseDouble()</code>.
+         *
+         * @param buffer  the buffer.
+         * @param start  the start of the field.
+         * @param end  the end of the field.
+         * @param offset  the file position of the buffer.
+         *
+         * @return The value (<code>Double.NaN</code> for an empty field).
+         *
+         * @throws IOException if the field is not a number.
+         */
+        private double parseNumber(ByteBuffer buffer, int start, int end,
+                long offset) throws IOException {
+            int s = start;
+            int e = end;
+            while (s < e && buffer.get(s) == ' ') {
+                s++;
+            }
+            while (e > s && buffer.get(e - 1) == ' ') {
+                e--;
+            }
+            if (e - s >= 2 && buffer.get(s) == this.td
+                    && buffer.get(e - 1) == this.td) {
+                s++;
+                e--;
+            }
+            if (s == e) {
+                return Double.NaN;
+            }
+            this.chars.setBuffer(buffer);
+            double result = DecimalParser.parse(this.chars, s, e);
+            if (!Double.isNaN(result)) {
+                return result;
+            }
+            String text = unquote(buffer, s, e);
+            try {
+                return Double.parseDouble(text);
+            }
+            catch (NumberFormatException ex) {
+                throw new IOException("Invalid number '" + text
+                        + "' at position " + (offset + s) + ".");
+            }
+        }
+
+        /**
+         * Parses a timestamp.
+         *
+         * @param buffer  the buffer.
+         * @param start  the start of the field.
+         * @param end  the end of the field.
+         * @param offset  the file position of the buffer.
+         *
+         * @return The timestamp in milliseconds since 1-Jan-1970 UTC
+         *     (<code>Double.NaN</code> for an empty field).
+         *
+         * @throws IOException if the field is not a valid timestamp.
+         */
+        private double parseTimestamp(ByteBuffer buffer, int start, int end,
+                long offset) throws IOException {
+            if (this.format == TIMESTAMP_MILLISECONDS) {
+                return Math.floor(parseNumber(buffer, start, end, offset));
+            }
+            if (this.format == TIMESTAMP_SECONDS) {
+                return secondsToMilliseconds(parseNumber(buffer, start, end,
+                        offset));
+            }
+            int s = start;
+            int e = end;
+            while (s < e && (buffer.get(s) == ' '
+                    || buffer.get(s) == this.td)) {
+                s++;
+            }
+            while (e > s && (buffer.get(e - 1) == ' '
+                    || buffer.get(e - 1) == this.td)) {
+                e--;
+            }
+            if (s == e) {
+                return Double.NaN;
+            }
+            // yyyy-MM-dd
+            int year = digits(buffer, s, 4, e);
+            int month = (expect(buffer, s + 4, '-', e)
+                    ? digits(buffer, s + 5, 2, e) : -1);
+            int day = (expect(buffer, s + 7, '-', e)
+                    ? digits(buffer, s + 8, 2, e) : -1);
+            if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31) {
+                throw invalidTimestamp(buffer, s, e, offset);
+            }
+            int p = s + 10;
+            long millis = 0L;
+            if (p < e && (buffer.get(p) == 'T' || buffer.get(p) == ' ')) {
+                // HH:mm[:ss[.SSS]]
+                int hour = digits(buffer, p + 1, 2, e);
+                int minute = (expect(buffer, p + 3, ':', e)
+                        ? digits(buffer, p + 4, 2, e) : -1);
+                if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+                    throw invalidTimestamp(buffer, s, e, offset);
+                }
+                millis = (hour * 60L + minute) * 60000L;
+                p += 6;
+                if (expect(buffer, p, ':', e)) {
+                    int second = digits(buffer, p + 1, 2, e);
+                    if (second < 0 || second > 60) {
+                        throw invalidTimestamp(buffer, s, e, offset);
+                    }
+                    millis += second * 1000L;
+                    p += 3;
+                    if (expect(buffer, p, '.', e)) {
+                        p++;
+                        int scale = 100;
+                        byte b;
+                        while (p < e && (b = buffer.get(p)) >= '0'
+                                && b <= '9') {
+                            millis += (b - '0') * scale;
+                            scale = scale / 10;
+                            p++;
+                        }
+                    }
+                }
+            }
+            long local = daysFromCivil(year, month, day) * MILLIS_PER_DAY
+                    + millis;
+            if (p == e) {
+                long guess = local - this.zone.getRawOffset();
+                return local - this.zone.getOffset(guess);
+            }
+            byte b = buffer.get(p);
+            if (b == 'Z' && p + 1 == e) {
+                return local;
+            }
+            if (b == '+' || b == '-') {
+                int hours = digits(buffer, p + 1, 2, e);
+                int q = p + 3;
+                if (expect(buffer, q, ':', e)) {
+                    q++;
+                }
+                int minutes = digits(buffer, q, 2, e);
+                if (hours >= 0 && minutes >= 0 && q + 2 == e) {
+                    long zoneOffset = (hours * 60L + minutes) * 60000L;
+                    return (b == '+' ? local - zoneOffset
+                            : local + zoneOffset);
+                }
+            }
+            throw invalidTimestamp(buffer, s, e, offset);
+        }
+
+        /**
+         * Creates the exception for an invalid timestamp.
+         *
+         * @param buffer  the buffer.
+         * @param start  the start of the field.
+         * @param end  the end of the field.
+         * @param offset  the file position of the buffer.
+         *
+         * @return The exception.
+         */
+        private IOException invalidTimestamp(ByteBuffer buffer, int start,
+                int end, long offset) {
+            return new IOException("Invalid timestamp '"
+                    + unquote(buffer, start, end) + "' at position "
+                    + (offset + start) + ".");
+        }
+
+    }
+
+    /**
+     * A view of the bytes in a buffer as a sequence of (ISO-8859-1)
+     * characters, so that numbers can be parsed by {@link DecimalParser}
+     * without copying the bytes.  The view is reused for each field.
+     */
+    private static class ByteSequence implements CharSequence {
+
+        /** The buffer. */
+        private ByteBuffer buffer;
+
+        /**
+         * Sets the buffer.
+         *
+         * @param buffer  the buffer.
+         */
+        public void setBuffer(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Returns the character at an (absolute) position in the buffer.
+         *
+         * @param index  the position.
+         *
+         * @return The character.
+         */
+        public char charAt(int index) {
+            return (char) (this.buffer.get(index) & 0xFF);
+        }
+
+        /**
+         * Returns the length of the sequence (the buffer's limit).
+         *
+         * @return The length.
+         */
+        public int length() {
+            return this.buffer.limit();
+        }
+
+        /**
+         * Returns part of the sequence.
+         *
+         * @param start  the index of the first character.
+         * @param end  the index after the last character.
+         *
+         * @return The characters.
+         */
+        public CharSequence subSequence(int start, int end) {
+            StringBuffer b = new StringBuffer(end - start);
+            for (int i = start; i < end; i++) {
+                b.append(charAt(i));
+            }
+            return b.toString();
+        }
+
+        /**
+         * Returns the sequence as a string.
+         *
+         * @return A string.
+         */
+        public String toString() {
+            return subSequence(0, length()).toString();
+        }
+
+    }
+
+    /**
+     * Parses a fixed number of decimal digits.
+     *
+     * @param buffer  the buffer.
+     * @param p  the position of the first digit.
+     * @param count  the number of digits.
+     * @param limit  the limit.
+     *
+     * @return The value, or -1 if the digits are not present.
+     */
+    private static int digits(ByteBuffer buffer, int p, int count,
+            int limit) {
+        if (p + count > limit) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = p; i < p + count; i++) {
+            byte b = buffer.get(i);
+            if (b < '0' || b > '9') {
+                return -1;
+            }
+            result = result * 10 + (b - '0');
+        }
+        return result;
+    }
+
+    /**
+     * Converts a time in seconds to whole milliseconds, dropping any
+     * fraction of a millisecond.  The seconds are parsed from a decimal, so
+     * a value such as 1.001 is held as a double just below the exact
+     * value, and the product is within a few units in the last place of the
+     * whole number of milliseconds.  In that case the product is rounded
+     * rather than truncated, so that the result is not one millisecond early.
+     *
+     * @param seconds  the time in seconds.
+     *
+     * @return The time in milliseconds.
+     */
+    private static double secondsToMilliseconds(double seconds) {
+        double millis = seconds * 1000.0;
+        double nearest = Math.rint(millis);
+        if (Math.abs(millis - nearest) <= 2.0 * Math.ulp(millis)) {
+            return nearest;
+        }
+        return Math.floor(millis);
+    }
+
+    /**
+     * Returns <code>true</code> if the buffer holds the specified character
+     * at a position.
+     *
+     * @param buffer  the buffer.
+     * @param p  the position.
+     * @param c  the character.
+     * @param limit  the limit.
+     *
+     * @return A boolean.
+     */
+    private static boolean expect(ByteBuffer buffer, int p, char c,
+            int limit) {
+        return p < limit && buffer.get(p) == c;
+    }
+
+    /**
+     * Returns the number of days from 1-Jan-1970 to the specified date (in
+     * the proleptic Gregorian calendar).
+     *
+     * @param year  the year.
+     * @param month  the month (1 to 12).
+     * @param day  the day of the month.
+     *
+     * @return The number of days.
+     */
+    static long daysFromCivil(int year, int month, int day) {
+        long y = (month <= 2 ? year - 1 : year);
+        long era = (y >= 0 ? y : y - 399) / 400;
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5
+                + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100
+                + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+}
@@ -0,0 +1,379 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------------
+ * MappedCategoryDataset.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.general.AbstractDataset;
+
+/**
+ * A read-only {@link CategoryDataset} backed by a memory-mapped snapshot
+ * file written by {@link DatasetSnapshotWriter}.  Opening a snapshot reads
+ * only the row and column keys, the values are read from the mapped file
+ * when they are requested.
+ * <P>
+ * The keys are <code>String</code> instances, and missing values are
+ * returned as <code>null</code>.  The file should not be modified while it
+ * is open.  A serialized dataset records only the file, which is mapped
+ * again when the dataset is deserialized.
+ * <P>
+ * This class requires JRE 1.4 or later.
+ *
+ * @since 1.0.13
+ */
+public class MappedCategoryDataset extends AbstractDataset
+        implements CategoryDataset, RangeInfo {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3412276843216893095L;
+
+    /** The snapshot file. */
+    private File file;
+
+    /** The mapped file. */
+    private transient SnapshotFile data;
+
+    /** The row keys. */
+    private transient List rowKeys;
+
+    /** The column keys. */
+    private transient List columnKeys;
+
+    /** The row index (an <code>Integer</code>) for each row key. */
+    private transient Map rowIndices;
+
+    /** The column index (an <code>Integer</code>) for each column key. */
+    private transient Map columnIndices;
+
+    /** The offset of the first value. */
+    private transient long offset;
+
+    /** The range of the values (<code>null</code> if there are none). */
+    private transient Range range;
+
+    /**
+     * Opens a snapshot file.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O problem, or the file is not a
+     *     category snapshot.
+     */
+    public MappedCategoryDataset(File file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Null 'file' argument.");
+        }
+        this.file = file;
+        open();
+    }
+
+    /**
+     * Maps the file and reads the header.
+     *
+     * @throws IOException if there is an I/O problem, or the file is not a
+     *     category snapshot.
+     */
+    private void open() throws IOException {
+        SnapshotFile in = new SnapshotFile(this.file, SnapshotFile.CATEGORY);
+        int rowCount = in.readInt();
+        int columnCount = in.readInt();
+        if (rowCount < 0 || columnCount < 0) {
+            throw new IOException("Corrupt snapshot: " + this.file);
+        }
+        this.rowIndices = new HashMap();
+        this.rowKeys = readKeys(in, rowCount, this.rowIndices);
+        this.columnIndices = new HashMap();
+        this.columnKeys = readKeys(in, columnCount, this.columnIndices);
+        in.align(8);
+        double minimum = in.readDouble();
+        double maximum = in.readDouble();
+        this.range = (Double.isNaN(minimum) ? null
+                : new Range(minimum, maximum));
+        this.offset = in.getPosition();
+        in.checkRegion(this.offset, 8L * rowCount * columnCount);
+        this.data = in;
+    }
+
+    /**
+     * Reads a list of keys.
+     *
+     * @param in  the file.
+     * @param count  the number of keys.
+     * @param indices  a map that receives the index of each key.
+     *
+     * @return An unmodifiable list of the keys.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static List readKeys(SnapshotFile in, int count, Map indices)
+            throws IOException {
+        String[] keys = new String[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = in.readKey();
+            indices.put(keys[i], new Integer(i));
+        }
+        return Collections.unmodifiableList(Arrays.asList(keys));
+    }
+
+    /**
+     * Returns the snapshot file.
+     *
+     * @return The file (never <code>null</code>).
+     */
+    public File getFile() {
+        return this.file;
+    }
+
+    /**
+     * Returns the number of rows in the table.
+     *
+     * @return The row count.
+     */
+    public int getRowCount() {
+        return this.rowKeys.size();
+    }
+
+    /**
+     * Returns the number of columns in the table.
+     *
+     * @return The column count.
+     */
+    public int getColumnCount() {
+        return this.columnKeys.size();
+    }
+
+    /**
+     * Returns a row key.
+     *
+     * @param row  the row index (zero-based).
+     *
+     * @return The row key.
+     */
+    public Comparable getRowKey(int row) {
+        return (Comparable) this.rowKeys.get(row);
+    }
+
+    /**
+     * Returns the row index for a given key.
+     *
+     * @param key  the row key (<code>null</code> not permitted).
+     *
+     * @return The row index, or <code>-1</code> if the key is not
+     *     recognised.
+     */
+    public int getRowIndex(Comparable key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Null 'key' argument.");
+        }
+        Integer i = (Integer) this.rowIndices.get(key);
+        return (i != null ? i.intValue() : -1);
+    }
+
+    /**
+     * Returns the row keys.
+     *
+     * @return The keys (an unmodifiable list).
+     */
+    public List getRowKeys() {
+        return this.rowKeys;
+    }
+
+    /**
+     * Returns a column key.
+     *
+     * @param column  the column index (zero-based).
+     *
+     * @return The column key.
+     */
+    public Comparable getColumnKey(int column) {
+        return (Comparable) this.columnKeys.get(column);
+    }
+
+    /**
+     * Returns the column index for a given key.
+     *
+     * @param key  the column key (<code>null</code> not permitted).
+     *
+     * @return The column index, or <code>-1</code> if the key is not
+     *     recognised.
+     */
+    public int getColumnIndex(Comparable key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Null 'key' argument.");
+        }
+        Integer i = (Integer) this.columnIndices.get(key);
+        return (i != null ? i.intValue() : -1);
+    }
+
+    /**
+     * Returns the column keys.
+     *
+     * @return The keys (an unmodifiable list).
+     */
+    public List getColumnKeys() {
+        return this.columnKeys;
+    }
+
+    /**
+     * Returns a value from the table.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (<code>Double.NaN</code> for a missing value).
+     */
+    public double getDoubleValue(int row, int column) {
+        int columnCount = this.columnKeys.size();
+        if (row < 0 || row >= this.rowKeys.size() || column < 0
+                || column >= columnCount) {
+            throw new IndexOutOfBoundsException("Cell (" + row + ", "
+                    + column + ") out of bounds.");
+        }
+        return this.data.getDouble(this.offset
+                + 8L * ((long) row * columnCount + column));
+    }
+
+    /**
+     * Returns a value from the table.
+     *
+     * @param row  the row index (zero-based).
+     * @param column  the column index (zero-based).
+     *
+     * @return The value (possibly <code>null</code>).
+     */
+    public Number getValue(int row, int column) {
+        double value = getDoubleValue(row, column);
+        return (Double.isNaN(value) ? null : new Double(value));
+    }
+
+    /**
+     * Returns the value for a pair of keys.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     * @param columnKey  the column key (<code>null</code> not permitted).
+     *
+     * @return The value (possibly <code>null</code>).
+     *
+     * @throws UnknownKeyException if either key is not defined in the dataset.
+     */
+    public Number getValue(Comparable rowKey, Comparable columnKey) {
+        if (rowKey == null) {
+            throw new IllegalArgumentException("Null 'rowKey' argument.");
+        }
+        if (columnKey == null) {
+            throw new IllegalArgumentException("Null 'columnKey' argument.");
+        }
+        int column = getColumnIndex(columnKey);
+        if (column < 0) {
+            throw new UnknownKeyException("Unrecognised columnKey: "
+                    + columnKey);
+        }
+        int row = getRowIndex(rowKey);
+        if (row < 0) {
+            throw new UnknownKeyException("Unrecognised rowKey: " + rowKey);
+        }
+        return getValue(row, column);
+    }
+
+    /**
+     * Returns the minimum value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there are no
+     *     values).
+     */
+    public double getRangeLowerBound(boolean includeInterval) {
+        return (this.range != null ? this.range.getLowerBound()
+                : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there are no
+     *     values).
+     */
+    public double getRangeUpperBound(boolean includeInterval) {
+        return (this.range != null ? this.range.getUpperBound()
+                : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the values in the dataset.  This is read from the
+     * header, and does not require a pass through the data.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The range (<code>null</code> if there are no values).
+     */
+    public Range getRangeBounds(boolean includeInterval) {
+        return this.range;
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        open();
+    }
+
+}
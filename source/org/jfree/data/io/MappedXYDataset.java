@@ -0,0 +1,577 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * MappedXYDataset.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.Iterator;
+import java.util.List;
+
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.xy.AbstractXYDataset;
+import org.jfree.data.xy.XYRangeInfo;
+
+/**
+ * A read-only {@link org.jfree.data.xy.XYDataset} backed by a
+ * memory-mapped snapshot file written by {@link DatasetSnapshotWriter}.
+ * Opening a snapshot reads only the header (the series keys, item counts
+ * and bounds), the x- and y-values are read from the mapped file when they
+ * are requested, so the dataset uses very little heap however large the
+ * file is.  The block summaries in the file are used to find the range of
+ * the y-values for an x-range without reading every item.
+ * <P>
+ * The series keys are <code>String</code> instances, and missing y-values
+ * are returned as <code>null</code> (the snapshot does not distinguish
+ * between <code>null</code> and <code>Double.NaN</code>).  The file should
+ * not be modified while it is open.  A serialized dataset records only the
+ * file, which is mapped again when the dataset is deserialized.
+ * <P>
+ * This class requires JRE 1.4 or later.
+ *
+ * @since 1.0.13
+ */
+public class MappedXYDataset extends AbstractXYDataset
+        implements DomainInfo, RangeInfo, XYRangeInfo {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -7012850734628462581L;
+
+    /** The snapshot file. */
+    private File file;
+
+    /** The mapped file. */
+    private transient SnapshotFile data;
+
+    /** The number of items in each block summary (zero if none). */
+    private transient int blockSize;
+
+    /** The series keys. */
+    private transient String[] keys;
+
+    /** The item count for each series. */
+    private transient int[] itemCounts;
+
+    /** The flags for each series. */
+    private transient int[] flags;
+
+    /** The offset of the x-values for each series. */
+    private transient long[] xOffsets;
+
+    /** The offset of the y-values for each series. */
+    private transient long[] yOffsets;
+
+    /** The offset of the block summaries for each series. */
+    private transient long[] summaryOffsets;
+
+    /**
+     * The minimum and maximum x- and y-values for each series (four values
+     * per series).
+     */
+    private transient double[] bounds;
+
+    /**
+     * Opens a snapshot file.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O problem, or the file is not an
+     *     XY snapshot.
+     */
+    public MappedXYDataset(File file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Null 'file' argument.");
+        }
+        this.file = file;
+        open();
+    }
+
+    /**
+     * Maps the file and reads the header.
+     *
+     * @throws IOException if there is an I/O problem, or the file is not an
+     *     XY snapshot.
+     */
+    private void open() throws IOException {
+        SnapshotFile in = new SnapshotFile(this.file, SnapshotFile.XY);
+        this.blockSize = in.readInt();
+        int seriesCount = in.readInt();
+        if (this.blockSize < 0 || seriesCount < 0) {
+            throw new IOException("Corrupt snapshot: " + this.file);
+        }
+        this.keys = new String[seriesCount];
+        for (int s = 0; s < seriesCount; s++) {
+            this.keys[s] = in.readKey();
+        }
+        in.align(8);
+        this.itemCounts = new int[seriesCount];
+        this.flags = new int[seriesCount];
+        this.xOffsets = new long[seriesCount];
+        this.yOffsets = new long[seriesCount];
+        this.summaryOffsets = new long[seriesCount];
+        this.bounds = new double[4 * seriesCount];
+        for (int s = 0; s < seriesCount; s++) {
+            int n = in.readInt();
+            this.itemCounts[s] = n;
+            this.flags[s] = in.readInt();
+            this.xOffsets[s] = in.readLong();
+            this.yOffsets[s] = in.readLong();
+            this.summaryOffsets[s] = in.readLong();
+            for (int i = 0; i < 4; i++) {
+                this.bounds[4 * s + i] = in.readDouble();
+            }
+            in.checkRegion(this.xOffsets[s], 8L * n);
+            in.checkRegion(this.yOffsets[s], 8L * n);
+            in.checkRegion(this.summaryOffsets[s], 32L * blockCount(s));
+        }
+        this.data = in;
+    }
+
+    /**
+     * Returns the snapshot file.
+     *
+     * @return The file (never <code>null</code>).
+     */
+    public File getFile() {
+        return this.file;
+    }
+
+    /**
+     * Returns the number of items summarised by each entry in the block
+     * summaries.
+     *
+     * @return The block size (zero if the file has no summaries).
+     */
+    public int getBlockSize() {
+        return this.blockSize;
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    public int getSeriesCount() {
+        return this.keys.length;
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     *
+     * @return The key for the series.
+     */
+    public Comparable getSeriesKey(int series) {
+        return this.keys[series];
+    }
+
+    /**
+     * Returns the number of items in a series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     *
+     * @return The item count.
+     */
+    public int getItemCount(int series) {
+        return this.itemCounts[series];
+    }
+
+    /**
+     * Returns the order of the x-values in the dataset.
+     *
+     * @return {@link DomainOrder#ASCENDING} if the x-values in every series
+     *     are in ascending order, and {@link DomainOrder#NONE} otherwise.
+     */
+    public DomainOrder getDomainOrder() {
+        for (int s = 0; s < this.flags.length; s++) {
+            if ((this.flags[s] & SnapshotFile.SORTED) == 0) {
+                return DomainOrder.NONE;
+            }
+        }
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param item  the item index (in the range <code>0</code> to
+     *     <code>getItemCount(series) - 1</code>).
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int series, int item) {
+        checkItem(series, item);
+        return this.data.getDouble(this.xOffsets[series] + 8L * item);
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param item  the item index (in the range <code>0</code> to
+     *     <code>getItemCount(series) - 1</code>).
+     *
+     * @return The x-value (never <code>null</code>).
+     */
+    public Number getX(int series, int item) {
+        return new Double(getXValue(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param item  the item index (in the range <code>0</code> to
+     *     <code>getItemCount(series) - 1</code>).
+     *
+     * @return The y-value (<code>Double.NaN</code> for a missing value).
+     */
+    public double getYValue(int series, int item) {
+        checkItem(series, item);
+        return this.data.getDouble(this.yOffsets[series] + 8L * item);
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     * @param item  the item index (in the range <code>0</code> to
+     *     <code>getItemCount(series) - 1</code>).
+     *
+     * @return The y-value (possibly <code>null</code>).
+     */
+    public Number getY(int series, int item) {
+        double y = getYValue(series, item);
+        return (Double.isNaN(y) ? null : new Double(y));
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  ignored, there is no x-interval.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there are no
+     *     x-values).
+     */
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  ignored, there is no x-interval.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there are no
+     *     x-values).
+     */
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the x-values in the dataset.  This is read from
+     * the header, and does not require a pass through the data.
+     *
+     * @param includeInterval  ignored, there is no x-interval.
+     *
+     * @return The range (<code>null</code> if there are no x-values).
+     */
+    public Range getDomainBounds(boolean includeInterval) {
+        return getBounds(0);
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  ignored, there is no y-interval.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there are no
+     *     y-values).
+     */
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  ignored, there is no y-interval.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there are no
+     *     y-values).
+     */
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset.  This is read from
+     * the header, and does not require a pass through the data.
+     *
+     * @param includeInterval  ignored, there is no y-interval.
+     *
+     * @return The range (<code>null</code> if there are no y-values).
+     */
+    public Range getRangeBounds(boolean includeInterval) {
+        return getBounds(2);
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset for the specified
+     * series, considering only the items with x-values in the given range.
+     * Blocks that lie entirely within (or outside) the x-range are handled
+     * with their summaries, so only the items in the blocks at the edges of
+     * the range are read.
+     *
+     * @param visibleSeriesKeys  the keys for the series to include
+     *     (<code>null</code> not permitted).
+     * @param xRange  the x-range (<code>null</code> not permitted).
+     * @param includeInterval  ignored, there is no y-interval.
+     *
+     * @return The range (possibly <code>null</code>).
+     */
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        if (visibleSeriesKeys == null) {
+            throw new IllegalArgumentException(
+                    "Null 'visibleSeriesKeys' argument.");
+        }
+        if (xRange == null) {
+            throw new IllegalArgumentException("Null 'xRange' argument.");
+        }
+        double[] minMax = new double[] {Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY};
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            Comparable key = (Comparable) iterator.next();
+            int series = indexOf(key);
+            if (series < 0) {
+                throw new IllegalArgumentException("Unrecognised series key: "
+                        + key);
+            }
+            findYRange(series, xRange.getLowerBound(),
+                    xRange.getUpperBound(), minMax);
+        }
+        if (minMax[0] > minMax[1]) {
+            return null;
+        }
+        return new Range(minMax[0], minMax[1]);
+    }
+
+    /**
+     * Updates the minimum and maximum with the y-values of the items in a
+     * series that have an x-value in the specified range.
+     *
+     * @param series  the series index.
+     * @param lower  the lower bound of the x-range.
+     * @param upper  the upper bound of the x-range.
+     * @param minMax  the minimum and maximum (updated by this method).
+     */
+    private void findYRange(int series, double lower, double upper,
+            double[] minMax) {
+        boolean sorted = (this.flags[series] & SnapshotFile.SORTED) != 0;
+        int start = 0;
+        int end = this.itemCounts[series];
+        if (sorted) {
+            start = findItemIndex(series, lower, false);
+            end = findItemIndex(series, upper, true);
+        }
+        long summaries = this.summaryOffsets[series];
+        int i = start;
+        while (i < end) {
+            if (this.blockSize > 0 && i % this.blockSize == 0
+                    && i + this.blockSize <= end) {
+                long b = summaries + 32L * (i / this.blockSize);
+                double minX = this.data.getDouble(b);
+                double maxX = this.data.getDouble(b + 8);
+                boolean inside = sorted || (minX >= lower && maxX <= upper);
+                if (inside || Double.isNaN(minX) || maxX < lower
+                        || minX > upper) {
+                    if (inside) {
+                        double minY = this.data.getDouble(b + 16);
+                        if (!Double.isNaN(minY)) {
+                            minMax[0] = Math.min(minMax[0], minY);
+                            minMax[1] = Math.max(minMax[1],
+                                    this.data.getDouble(b + 24));
+                        }
+                    }
+                    i += this.blockSize;
+                    continue;
+                }
+            }
+            if (sorted || contains(getXValue(series, i), lower, upper)) {
+                double y = getYValue(series, i);
+                if (!Double.isNaN(y)) {
+                    minMax[0] = Math.min(minMax[0], y);
+                    minMax[1] = Math.max(minMax[1], y);
+                }
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if a value lies within a range.
+     *
+     * @param x  the value.
+     * @param lower  the lower bound.
+     * @param upper  the upper bound.
+     *
+     * @return A boolean.
+     */
+    private static boolean contains(double x, double lower, double upper) {
+        return x >= lower && x <= upper;
+    }
+
+    /**
+     * Returns the index of the first item with an x-value greater than (or,
+     * if <code>inclusive</code> is <code>false</code>, equal to) the
+     * specified value.  This is only valid for a sorted series.
+     *
+     * @param series  the series index.
+     * @param x  the x-value.
+     * @param inclusive  include items with an x-value equal to
+     *     <code>x</code> in the search?
+     *
+     * @return The item index (in the range <code>0</code> to
+     *     <code>getItemCount(series)</code>).
+     */
+    private int findItemIndex(int series, double x, boolean inclusive) {
+        long offset = this.xOffsets[series];
+        int low = 0;
+        int high = this.itemCounts[series];
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            double v = this.data.getDouble(offset + 8L * mid);
+            if (v < x || (inclusive && v == x)) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Combines the bounds recorded in the header for all series.
+     *
+     * @param index  the index of the minimum in the bounds for each series
+     *     (0 for the x-values, 2 for the y-values).
+     *
+     * @return The range (<code>null</code> if there are no values).
+     */
+    private Range getBounds(int index) {
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        for (int s = 0; s < this.keys.length; s++) {
+            double min = this.bounds[4 * s + index];
+            if (!Double.isNaN(min)) {
+                minimum = Math.min(minimum, min);
+                maximum = Math.max(maximum, this.bounds[4 * s + index + 1]);
+            }
+        }
+        if (minimum > maximum) {
+            return null;
+        }
+        return new Range(minimum, maximum);
+    }
+
+    /**
+     * Returns the number of block summaries for a series.
+     *
+     * @param series  the series index.
+     *
+     * @return The number of blocks.
+     */
+    private int blockCount(int series) {
+        if (this.blockSize == 0) {
+            return 0;
+        }
+        return (this.itemCounts[series] + this.blockSize - 1)
+                / this.blockSize;
+    }
+
+    /**
+     * Checks an item index, since the mapped file would otherwise return
+     * values from a neighbouring column.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     */
+    private void checkItem(int series, int item) {
+        if (item < 0 || item >= this.itemCounts[series]) {
+            throw new IndexOutOfBoundsException("Item " + item
+                    + " out of bounds for series " + series + ".");
+        }
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        open();
+    }
+
+}
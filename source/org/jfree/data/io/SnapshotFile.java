@@ -0,0 +1,277 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------
+ * SnapshotFile.java
+ * -----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A read-only, memory-mapped view of a dataset snapshot file (see
+ * {@link DatasetSnapshotWriter} for the format).  The file is mapped in
+ * segments of 1 GB, so files larger than 2 GB can be read.  Every value in
+ * the file is aligned to its own size and the segment size is a multiple of
+ * eight, so a value never spans two segments.
+ * <P>
+ * The header is read through a cursor ({@link #readInt()} and so on),
+ * the columns are read with the absolute methods, which are safe to call
+ * from several threads.
+ */
+final class SnapshotFile {
+
+    /** The magic number at the start of every snapshot ("JFDS"). */
+    static final int MAGIC = 0x4A464453;
+
+    /** The current version of the format. */
+    static final int VERSION = 1;
+
+    /** The type code for an XY dataset. */
+    static final int XY = 1;
+
+    /** The type code for a category dataset. */
+    static final int CATEGORY = 2;
+
+    /** A series flag indicating that the x-values are in ascending order. */
+    static final int SORTED = 1;
+
+    /** The number of bits in the offset within a segment. */
+    private static final int SEGMENT_SHIFT = 30;
+
+    /** The mask for the offset within a segment. */
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    /** The mapped segments. */
+    private ByteBuffer[] segments;
+
+    /** The file length. */
+    private long length;
+
+    /** The position of the header cursor. */
+    private long position;
+
+    /**
+     * Maps a snapshot file and checks its header.  On return, the cursor is
+     * positioned after the type code.
+     *
+     * @param file  the file (<code>null</code> not permitted).
+     * @param type  the expected type code.
+     *
+     * @throws IOException if there is an I/O problem, or the file is not a
+     *     snapshot of the expected type.
+     */
+    SnapshotFile(File file, int type) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("Null 'file' argument.");
+        }
+        RandomAccessFile in = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = in.getChannel();
+            this.length = channel.size();
+            int count = (int) ((this.length + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+            this.segments = new ByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long start = (long) i << SEGMENT_SHIFT;
+                long size = Math.min(SEGMENT_MASK + 1, this.length - start);
+                this.segments[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                        start, size);
+            }
+        }
+        finally {
+            in.close();
+        }
+        if (this.length < 8 || readInt() != MAGIC) {
+            throw new IOException("Not a dataset snapshot: " + file);
+        }
+        int version = readShort();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported snapshot version " + version
+                    + ": " + file);
+        }
+        int actual = readShort();
+        if (actual != type) {
+            throw new IOException("Unexpected snapshot type " + actual
+                    + ": " + file);
+        }
+    }
+
+    /**
+     * Returns the segment containing a position, after checking that a
+     * value of the specified size lies within the file.
+     *
+     * @param pos  the position.
+     * @param size  the size of the value.
+     *
+     * @return The segment.
+     *
+     * @throws IOException if the value lies (partly) outside the file.
+     */
+    private ByteBuffer segment(long pos, int size) throws IOException {
+        if (pos < 0 || pos + size > this.length) {
+            throw new IOException("Truncated snapshot.");
+        }
+        return this.segments[(int) (pos >>> SEGMENT_SHIFT)];
+    }
+
+    /**
+     * Checks that a region lies within the file.
+     *
+     * @param pos  the start of the region.
+     * @param size  the size of the region in bytes.
+     *
+     * @throws IOException if the region lies (partly) outside the file.
+     */
+    void checkRegion(long pos, long size) throws IOException {
+        if (pos < 0 || size < 0 || pos + size > this.length) {
+            throw new IOException("Truncated snapshot.");
+        }
+    }
+
+    /**
+     * Returns the double at the specified position.  The position is not
+     * checked, callers should use {@link #checkRegion(long, long)} first.
+     *
+     * @param pos  the position (a multiple of eight).
+     *
+     * @return The value.
+     */
+    double getDouble(long pos) {
+        return this.segments[(int) (pos >>> SEGMENT_SHIFT)].getDouble(
+                (int) (pos & SEGMENT_MASK));
+    }
+
+    /**
+     * Moves the cursor forward to a multiple of the specified size.
+     *
+     * @param size  the alignment (a power of two).
+     */
+    void align(int size) {
+        this.position = (this.position + size - 1) & ~((long) size - 1);
+    }
+
+    /**
+     * Returns the position of the cursor.
+     *
+     * @return The position.
+     */
+    long getPosition() {
+        return this.position;
+    }
+
+    /**
+     * Reads a short at the cursor.
+     *
+     * @return The value.
+     *
+     * @throws IOException if the end of the file is reached.
+     */
+    int readShort() throws IOException {
+        ByteBuffer b = segment(this.position, 2);
+        int result = b.getShort((int) (this.position & SEGMENT_MASK));
+        this.position += 2;
+        return result;
+    }
+
+    /**
+     * Reads an int at the cursor.
+     *
+     * @return The value.
+     *
+     * @throws IOException if the end of the file is reached.
+     */
+    int readInt() throws IOException {
+        ByteBuffer b = segment(this.position, 4);
+        int result = b.getInt((int) (this.position & SEGMENT_MASK));
+        this.position += 4;
+        return result;
+    }
+
+    /**
+     * Reads a long at the cursor.
+     *
+     * @return The value.
+     *
+     * @throws IOException if the end of the file is reached.
+     */
+    long readLong() throws IOException {
+        ByteBuffer b = segment(this.position, 8);
+        long result = b.getLong((int) (this.position & SEGMENT_MASK));
+        this.position += 8;
+        return result;
+    }
+
+    /**
+     * Reads a double at the cursor.
+     *
+     * @return The value.
+     *
+     * @throws IOException if the end of the file is reached.
+     */
+    double readDouble() throws IOException {
+        ByteBuffer b = segment(this.position, 8);
+        double result = b.getDouble((int) (this.position & SEGMENT_MASK));
+        this.position += 8;
+        return result;
+    }
+
+    /**
+     * Reads a key (a length followed by UTF-16 characters, padded to a
+     * multiple of four bytes) at the cursor.
+     *
+     * @return The key.
+     *
+     * @throws IOException if the end of the file is reached.
+     */
+    String readKey() throws IOException {
+        int count = readInt();
+        checkRegion(this.position, 2L * count);
+        char[] chars = new char[count];
+        for (int i = 0; i < count; i++) {
+            ByteBuffer b = segment(this.position, 2);
+            chars[i] = b.getChar((int) (this.position & SEGMENT_MASK));
+            this.position += 2;
+        }
+        align(4);
+        return new String(chars);
+    }
+
+}
@@ -0,0 +1,121 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * IncrementalJDBCDataset.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.jdbc;
+
+import java.sql.SQLException;
+
+/**
+ * A dataset that is populated from a database and can append the rows that
+ * have been added since the last query, without reading the whole table
+ * again.  Each dataset records a key from the last row that it has read,
+ * and passes this key as the parameter of an incremental query.
+ * <P>
+ * Each query can also be run in two steps: {@link #readQuery(String)} and
+ * {@link #readIncrementalQuery(String)} read the rows without changing the
+ * dataset, and the {@link JDBCDatasetUpdate#apply()} method of the result
+ * adds the rows to the dataset.
+ *
+ * @see JDBCDatasetRefresher
+ *
+ * @since 1.0.13
+ */
+public interface IncrementalJDBCDataset {
+
+    /**
+     * Replaces the contents of the dataset with the rows returned by a
+     * query.
+     *
+     * @param query  the query.
+     *
+     * @throws SQLException if there is a problem executing the query.
+     */
+    public void executeQuery(String query) throws SQLException;
+
+    /**
+     * Adds the rows returned by a query to the dataset.  The query has a
+     * single parameter, which is set to the key of the last row read (see
+     * {@link #getLastKey()}).
+     *
+     * @param query  the query.
+     *
+     * @return The number of rows read.
+     *
+     * @throws SQLException if there is a problem executing the query, or if
+     *     no rows have been read yet.
+     */
+    public int executeIncrementalQuery(String query) throws SQLException;
+
+    /**
+     * Reads the rows returned by a query, without changing the dataset.
+     * Applying the result replaces the contents of the dataset, as
+     * {@link #executeQuery(String)} does.
+     *
+     * @param query  the query.
+     *
+     * @return The rows.
+     *
+     * @throws SQLException if there is a problem executing the query.
+     */
+    public JDBCDatasetUpdate readQuery(String query) throws SQLException;
+
+    /**
+     * Reads the rows returned by an incremental query (see
+     * {@link #executeIncrementalQuery(String)}), without changing the
+     * dataset.  Applying the result adds the rows to the dataset.
+     *
+     * @param query  the query.
+     *
+     * @return The rows.
+     *
+     * @throws SQLException if there is a problem executing the query, or if
+     *     no rows have been read yet.
+     */
+    public JDBCDatasetUpdate readIncrementalQuery(String query)
+            throws SQLException;
+
+    /**
+     * Returns the key of the last row that has been read.
+     *
+     * @return The key (<code>null</code> if no rows have been read).
+     */
+    public Comparable getLastKey();
+
+}
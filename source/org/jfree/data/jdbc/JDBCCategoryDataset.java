@@ -58,22 +58,30 @@
  * ------------- JFREECHART 1.0.0 ---------------------------------------------
  * 08-Mar-2006 : Fixed bug 1445748 where an exception is thrown if
  *               executeQuery() is called more than once (DG);
+ * 18-Oct-2026 : Added fetch size and incremental queries, read values
+ *               with typed getters and send a single change event (DG);
+ * 18-Oct-2026 : Read the rows for a query separately from applying them to
+ *               the dataset (DG);
  *
  */
 
 package org.jfree.data.jdbc;
 
 import java.sql.Connection;
-import java.sql.Date;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Timestamp;
 import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.jfree.data.category.CategoryDataset;
 import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.ChangeBatch;
 
 /**
  * A {@link CategoryDataset} implementation over a database JDBC result set.
@@ -83,6 +91,10 @@ import org.jfree.data.category.DefaultCategoryDataset;
  * column represents a series).  Subsequent calls to
  * {@link #executeQuery(String)} will refresh the dataset.
  * <p>
+ * The {@link #readQuery(String)} and {@link #readIncrementalQuery(String)}
+ * methods read the rows without changing the dataset, so that the query can
+ * run on a background thread (see {@link JDBCDatasetRefresher}).
+ * <p>
  * The database connection is read-only and no write back facility exists.
  * <p>
  * NOTE: Many people have found this class too restrictive in general use.
@@ -90,7 +102,8 @@ import org.jfree.data.category.DefaultCategoryDataset;
  * data from a <code>ResultSet</code> and populate a
  * {@link DefaultCategoryDataset} directly.
  */
-public class JDBCCategoryDataset extends DefaultCategoryDataset {
+public class JDBCCategoryDataset extends DefaultCategoryDataset
+        implements IncrementalJDBCDataset {
 
     /** For serialization. */
     static final long serialVersionUID = -3080395327918844965L;
@@ -105,6 +118,11 @@ public class JDBCCategoryDataset extends DefaultCategoryDataset {
      */
     private boolean transpose = true;
 
+    /** The fetch size for queries (0 to use the driver's default). */
+    private int fetchSize;
+
+    /** The key from the first column of the last row read. */
+    private String lastKey;
 
     /**
      * Creates a new dataset with a database connection.
@@ -175,6 +193,50 @@ public class JDBCCategoryDataset extends DefaultCategoryDataset {
         this.transpose = transpose;
     }
 
+    /**
+     * Returns the number of rows that the JDBC driver is asked to fetch from
+     * the database at a time.
+     *
+     * @return The fetch size (0 if the driver's default is used).
+     *
+     * @see #setFetchSize(int)
+     *
+     * @since 1.0.13
+     */
+    public int getFetchSize() {
+        return this.fetchSize;
+    }
+
+    /**
+     * Sets the number of rows that the JDBC driver is asked to fetch from
+     * the database at a time.
+     *
+     * @param size  the fetch size (0 to use the driver's default).
+     *
+     * @see #getFetchSize()
+     *
+     * @since 1.0.13
+     */
+    public void setFetchSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Requires 'size' >= 0.");
+        }
+        this.fetchSize = size;
+    }
+
+    /**
+     * Returns the key (from the first column) of the last row that has been
+     * read, which is the value that
+     * {@link #executeIncrementalQuery(String)} continues from.
+     *
+     * @return The key (possibly <code>null</code>).
+     *
+     * @since 1.0.13
+     */
+    public Comparable getLastKey() {
+        return this.lastKey;
+    }
+
     /**
      * Populates the dataset by executing the supplied query against the
      * existing database connection.  If no connection exists then no action
@@ -205,114 +267,351 @@ public class JDBCCategoryDataset extends DefaultCategoryDataset {
      * @throws SQLException if there is a problem executing the query.
      */
     public void executeQuery(Connection con, String query) throws SQLException {
+        readQuery(con, query).apply();
+    }
 
+    /**
+     * Reads the rows returned by a query, using the existing database
+     * connection, without changing the dataset.  Applying the result
+     * replaces the contents of the dataset, as
+     * {@link #executeQuery(String)} does.
+     *
+     * @param query  the query.
+     *
+     * @return The rows.
+     *
+     * @throws SQLException if there is a problem executing the query.
+     *
+     * @since 1.0.13
+     */
+    public JDBCDatasetUpdate readQuery(String query) throws SQLException {
+        return readQuery(this.connection, query);
+    }
+
+    /**
+     * Reads the rows returned by a query, without changing the dataset.
+     *
+     * @param con  the connection.
+     * @param query  the query.
+     *
+     * @return The rows.
+     *
+     * @throws SQLException if there is a problem executing the query.
+     */
+    private JDBCDatasetUpdate readQuery(Connection con, String query)
+            throws SQLException {
         Statement statement = null;
         ResultSet resultSet = null;
         try {
             statement = con.createStatement();
+            if (this.fetchSize > 0) {
+                statement.setFetchSize(this.fetchSize);
+            }
             resultSet = statement.executeQuery(query);
-            ResultSetMetaData metaData = resultSet.getMetaData();
+            Update result = new Update(true);
+            readRows(resultSet, result);
+            return result;
+        }
+        finally {
+            close(resultSet, statement);
+        }
+    }
 
-            int columnCount = metaData.getColumnCount();
+    /**
+     * Adds the rows returned by a query to the dataset, using the existing
+     * database connection.  See
+     * {@link #executeIncrementalQuery(Connection, String)} for details.
+     *
+     * @param query  the query (<code>null</code> not permitted).
+     *
+     * @return The number of rows read.
+     *
+     * @throws SQLException if there is a problem executing the query.
+     *
+     * @since 1.0.13
+     */
+    public int executeIncrementalQuery(String query) throws SQLException {
+        return executeIncrementalQuery(this.connection, query);
+    }
 
-            if (columnCount < 2) {
-                throw new SQLException(
-                    "JDBCCategoryDataset.executeQuery() : insufficient columns "
-                    + "returned from the database.");
-            }
+    /**
+     * Adds the rows returned by a query to the dataset, without removing the
+     * existing data.  The query must have a single parameter, which is set
+     * to the key (from the first column) of the last row that has been read,
+     * and must return the same columns as the query that populated the
+     * dataset.  For example:
+     * <pre>
+     * SELECT DAY, SALES, RETURNS FROM TOTALS WHERE DAY &gt; ? ORDER BY DAY
+     * </pre>
+     * Values for existing keys are replaced.  A single
+     * {@link org.jfree.data.general.DatasetChangeEvent} is sent to the
+     * registered listeners if any rows are read.
+     *
+     * @param con  the connection (<code>null</code> not permitted).
+     * @param query  the query (<code>null</code> not permitted).
+     *
+     * @return The number of rows read.
+     *
+     * @throws SQLException if there is a problem executing the query, or if
+     *     no rows have been read yet.
+     *
+     * @since 1.0.13
+     */
+    public int executeIncrementalQuery(Connection con, String query)
+            throws SQLException {
+        return readIncrementalQuery(con, query).apply();
+    }
 
-            // Remove any previous old data
-            int i = getRowCount();
-            while (--i >= 0) {
-                removeRow(i);
+    /**
+     * Reads the rows returned by an incremental query, using the existing
+     * database connection, without changing the dataset.  Applying the
+     * result adds the rows to the dataset, as
+     * {@link #executeIncrementalQuery(String)} does.
+     *
+     * @param query  the query (<code>null</code> not permitted).
+     *
+     * @return The rows.
+     *
+     * @throws SQLException if there is a problem executing the query, or if
+     *     no rows have been read yet.
+     *
+     * @since 1.0.13
+     */
+    public JDBCDatasetUpdate readIncrementalQuery(String query)
+            throws SQLException {
+        return readIncrementalQuery(this.connection, query);
+    }
+
+    /**
+     * Reads the rows returned by an incremental query, without changing the
+     * dataset.
+     *
+     * @param con  the connection.
+     * @param query  the query.
+     *
+     * @return The rows.
+     *
+     * @throws SQLException if there is a problem executing the query, or if
+     *     no rows have been read yet.
+     */
+    private JDBCDatasetUpdate readIncrementalQuery(Connection con,
+            String query) throws SQLException {
+        if (this.lastKey == null) {
+            throw new SQLException("There is no row to continue from, "
+                    + "executeQuery() must return at least one row first.");
+        }
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        try {
+            statement = con.prepareStatement(query);
+            if (this.fetchSize > 0) {
+                statement.setFetchSize(this.fetchSize);
             }
+            statement.setString(1, this.lastKey);
+            resultSet = statement.executeQuery();
+            Update result = new Update(false);
+            readRows(resultSet, result);
+            return result;
+        }
+        finally {
+            close(resultSet, statement);
+        }
+    }
+
+    /**
+     * Reads the rows from a result set, without changing the dataset.
+     *
+     * @param resultSet  the result set.
+     * @param update  the update that the values are added to.
+     *
+     * @throws SQLException if there is a problem reading the rows.
+     */
+    private void readRows(ResultSet resultSet, Update update)
+            throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+
+        if (columnCount < 2) {
+            throw new SQLException(
+                "JDBCCategoryDataset.executeQuery() : insufficient columns "
+                + "returned from the database.");
+        }
+
+        Comparable[] columnKeys = new Comparable[columnCount + 1];
+        int[] columnTypes = new int[columnCount + 1];
+        for (int column = 2; column <= columnCount; column++) {
+            columnKeys[column] = metaData.getColumnName(column);
+            columnTypes[column] = metaData.getColumnType(column);
+        }
+
+        while (resultSet.next()) {
+            // first column contains the row key...
+            String rowKey = resultSet.getString(1);
+            for (int column = 2; column <= columnCount; column++) {
 
-            while (resultSet.next()) {
-                // first column contains the row key...
-                Comparable rowKey = resultSet.getString(1);
-                for (int column = 2; column <= columnCount; column++) {
-
-                    Comparable columnKey = metaData.getColumnName(column);
-                    int columnType = metaData.getColumnType(column);
-
-                    switch (columnType) {
-                        case Types.TINYINT:
-                        case Types.SMALLINT:
-                        case Types.INTEGER:
-                        case Types.BIGINT:
-                        case Types.FLOAT:
-                        case Types.DOUBLE:
-                        case Types.DECIMAL:
-                        case Types.NUMERIC:
-                        case Types.REAL: {
-                            Number value = (Number) resultSet.getObject(column);
-                            if (this.transpose) {
-                                setValue(value, columnKey, rowKey);
-                            }
-                            else {
-                                setValue(value, rowKey, columnKey);
-                            }
-                            break;
+                Comparable columnKey = columnKeys[column];
+                Number value = null;
+                boolean store = true;
+                switch (columnTypes[column]) {
+                    case Types.TINYINT:
+                    case Types.SMALLINT:
+                    case Types.INTEGER:
+                    case Types.BIGINT:
+                    case Types.FLOAT:
+                    case Types.DOUBLE:
+                    case Types.DECIMAL:
+                    case Types.NUMERIC:
+                    case Types.REAL: {
+                        double v = resultSet.getDouble(column);
+                        if (!resultSet.wasNull()) {
+                            value = new Double(v);
+                        }
+                        break;
+                    }
+                    case Types.DATE:
+                    case Types.TIME:
+                    case Types.TIMESTAMP: {
+                        Timestamp date = resultSet.getTimestamp(column);
+                        if (date != null) {
+                            value = new Long(date.getTime());
                         }
-                        case Types.DATE:
-                        case Types.TIME:
-                        case Types.TIMESTAMP: {
-                            Date date = (Date) resultSet.getObject(column);
-                            Number value = new Long(date.getTime());
-                            if (this.transpose) {
-                                setValue(value, columnKey, rowKey);
-                            }
-                            else {
-                                setValue(value, rowKey, columnKey);
-                            }
-                            break;
+                        break;
+                    }
+                    case Types.CHAR:
+                    case Types.VARCHAR:
+                    case Types.LONGVARCHAR: {
+                        String string = resultSet.getString(column);
+                        try {
+                            value = Double.valueOf(string);
                         }
-                        case Types.CHAR:
-                        case Types.VARCHAR:
-                        case Types.LONGVARCHAR: {
-                            String string
-                                = (String) resultSet.getObject(column);
-                            try {
-                                Number value = Double.valueOf(string);
-                                if (this.transpose) {
-                                    setValue(value, columnKey, rowKey);
-                                }
-                                else {
-                                    setValue(value, rowKey, columnKey);
-                                }
-                            }
-                            catch (NumberFormatException e) {
-                                // suppress (value defaults to null)
-                            }
-                            break;
+                        catch (NumberFormatException e) {
+                            // suppress (value defaults to null)
+                            store = false;
                         }
-                        default:
-                            // not a value, can't use it (defaults to null)
-                            break;
+                        break;
                     }
+                    default:
+                        // not a value, can't use it (defaults to null)
+                        store = false;
+                        break;
+                }
+                if (!store) {
+                    continue;
+                }
+                if (this.transpose) {
+                    update.add(value, columnKey, rowKey);
+                }
+                else {
+                    update.add(value, rowKey, columnKey);
                 }
             }
+            update.last = rowKey;
+            update.count++;
+        }
+    }
 
-            fireDatasetChanged();
+    /**
+     * Closes a result set and a statement, ignoring any exceptions.
+     *
+     * @param resultSet  the result set (<code>null</code> permitted).
+     * @param statement  the statement (<code>null</code> permitted).
+     */
+    private void close(ResultSet resultSet, Statement statement) {
+        if (resultSet != null) {
+            try {
+                resultSet.close();
+            }
+            catch (Exception e) {
+                // report this?
+            }
         }
-        finally {
-            if (resultSet != null) {
-                try {
-                    resultSet.close();
+        if (statement != null) {
+            try {
+                statement.close();
+            }
+            catch (Exception e) {
+                // report this?
+            }
+        }
+    }
+
+    /**
+     * The values read by a query, waiting to be applied to the dataset.
+     */
+    private class Update implements JDBCDatasetUpdate {
+
+        /** Replace the existing data? */
+        private boolean replace;
+
+        /** The values, with the row and column keys (in groups of three). */
+        private List values;
+
+        /** The number of rows read. */
+        private int count;
+
+        /** The key of the last row read. */
+        private String last;
+
+        /**
+         * Creates a new instance with no values.
+         *
+         * @param replace  replace the existing data?
+         */
+        public Update(boolean replace) {
+            this.replace = replace;
+            this.values = new ArrayList();
+        }
+
+        /**
+         * Adds a value.
+         *
+         * @param value  the value (<code>null</code> permitted).
+         * @param rowKey  the row key.
+         * @param columnKey  the column key.
+         */
+        private void add(Number value, Comparable rowKey,
+                Comparable columnKey) {
+            this.values.add(value);
+            this.values.add(rowKey);
+            this.values.add(columnKey);
+        }
+
+        /**
+         * Applies the values to the dataset, sending a single change event.
+         *
+         * @return The number of rows read, or -1 if the values replaced the
+         *     contents of the dataset.
+         */
+        public int apply() {
+            JDBCCategoryDataset d = JDBCCategoryDataset.this;
+            ChangeBatch batch = ChangeBatch.begin();
+            try {
+                if (this.replace) {
+                    // Remove any previous old data
+                    int i = d.getRowCount();
+                    while (--i >= 0) {
+                        d.removeRow(i);
+                    }
+                    d.lastKey = null;
                 }
-                catch (Exception e) {
-                    // report this?
+                for (int i = 0; i < this.values.size(); i += 3) {
+                    d.setValue((Number) this.values.get(i),
+                            (Comparable) this.values.get(i + 1),
+                            (Comparable) this.values.get(i + 2));
                 }
-            }
-            if (statement != null) {
-                try {
-                    statement.close();
+                if (this.count > 0) {
+                    d.lastKey = this.last;
                 }
-                catch (Exception e) {
-                    // report this?
+                if (this.replace) {
+                    d.fireDatasetChanged();
                 }
             }
+            finally {
+                batch.end();
+            }
+            return (this.replace ? -1 : this.count);
         }
+
     }
 
 }
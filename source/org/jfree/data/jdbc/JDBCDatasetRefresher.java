@@ -0,0 +1,248 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * JDBCDatasetRefresher.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.jdbc;
+
+import java.lang.reflect.InvocationTargetException;
+import java.sql.SQLException;
+import java.util.Timer;
+import java.util.TimerTask;
+
+import javax.swing.SwingUtilities;
+
+import org.jfree.util.Log;
+
+/**
+ * Refreshes an {@link IncrementalJDBCDataset} at regular intervals on a
+ * background thread.  Until the dataset holds at least one row, each refresh
+ * runs the full query, and after that each refresh runs the incremental
+ * query so that only the new rows are read from the database.
+ * <P>
+ * The queries run on the refresher's thread, but the rows are added to the
+ * dataset, and its listeners are notified, on the Swing event dispatch
+ * thread, which is the thread that draws a chart displayed in a Swing
+ * component.  The refresher waits for the rows to be added before it runs
+ * the next query.
+ *
+ * @since 1.0.13
+ */
+public class JDBCDatasetRefresher {
+
+    /** The dataset. */
+    private IncrementalJDBCDataset dataset;
+
+    /** The query that populates the dataset. */
+    private String query;
+
+    /** The query that reads the new rows. */
+    private String incrementalQuery;
+
+    /** The time between refreshes (in milliseconds). */
+    private long period;
+
+    /** The timer (<code>null</code> when the refresher is stopped). */
+    private Timer timer;
+
+    /** The exception thrown by the last refresh (if any). */
+    private volatile SQLException lastException;
+
+    /**
+     * Creates a new refresher.  The refresher does nothing until
+     * {@link #start()} is called.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param query  the query that populates the dataset (<code>null</code>
+     *     not permitted).
+     * @param incrementalQuery  the query that reads the new rows, see
+     *     {@link IncrementalJDBCDataset#executeIncrementalQuery(String)}
+     *     (<code>null</code> not permitted).
+     * @param period  the time between refreshes (in milliseconds).
+     */
+    public JDBCDatasetRefresher(IncrementalJDBCDataset dataset, String query,
+            String incrementalQuery, long period) {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        if (query == null) {
+            throw new IllegalArgumentException("Null 'query' argument.");
+        }
+        if (incrementalQuery == null) {
+            throw new IllegalArgumentException(
+                    "Null 'incrementalQuery' argument.");
+        }
+        if (period <= 0L) {
+            throw new IllegalArgumentException("Requires 'period' > 0.");
+        }
+        this.dataset = dataset;
+        this.query = query;
+        this.incrementalQuery = incrementalQuery;
+        this.period = period;
+    }
+
+    /**
+     * Returns the dataset.
+     *
+     * @return The dataset (never <code>null</code>).
+     */
+    public IncrementalJDBCDataset getDataset() {
+        return this.dataset;
+    }
+
+    /**
+     * Returns the time between refreshes.
+     *
+     * @return The period (in milliseconds).
+     */
+    public long getPeriod() {
+        return this.period;
+    }
+
+    /**
+     * Returns the exception thrown by the most recent refresh.
+     *
+     * @return The exception (<code>null</code> if the most recent refresh
+     *     succeeded).
+     */
+    public SQLException getLastException() {
+        return this.lastException;
+    }
+
+    /**
+     * Returns <code>true</code> if the refresher has been started, and
+     * <code>false</code> otherwise.
+     *
+     * @return A boolean.
+     */
+    public synchronized boolean isRunning() {
+        return this.timer != null;
+    }
+
+    /**
+     * Starts refreshing the dataset on a background (daemon) thread, with
+     * the rows added to the dataset on the event dispatch thread.  The
+     * first refresh takes place immediately.  If the refresher is already
+     * running, this method does nothing.
+     */
+    public synchronized void start() {
+        if (this.timer != null) {
+            return;
+        }
+        this.timer = new Timer(true);
+        this.timer.schedule(new TimerTask() {
+            public void run() {
+                final JDBCDatasetUpdate update;
+                try {
+                    update = read();
+                }
+                catch (SQLException e) {
+                    Log.warn("JDBCDatasetRefresher: refresh failed ("
+                            + e.getMessage() + ").");
+                    return;
+                }
+                try {
+                    SwingUtilities.invokeAndWait(new Runnable() {
+                        public void run() {
+                            update.apply();
+                        }
+                    });
+                }
+                catch (InterruptedException e) {
+                    cancel();
+                }
+                catch (InvocationTargetException e) {
+                    Log.warn("JDBCDatasetRefresher: update failed ("
+                            + e.getTargetException() + ").");
+                }
+            }
+        }, 0L, this.period);
+    }
+
+    /**
+     * Stops refreshing the dataset.  A refresh that is in progress is
+     * completed.
+     */
+    public synchronized void stop() {
+        if (this.timer != null) {
+            this.timer.cancel();
+            this.timer = null;
+        }
+    }
+
+    /**
+     * Refreshes the dataset on the calling thread, which should be the
+     * thread that draws the charts for the dataset.
+     *
+     * @return The number of rows read by the incremental query, or -1 if
+     *     the full query was run.
+     *
+     * @throws SQLException if there is a problem executing the query.
+     */
+    public int refresh() throws SQLException {
+        return read().apply();
+    }
+
+    /**
+     * Runs the full query, or the incremental query once the dataset holds
+     * a row, without changing the dataset.
+     *
+     * @return The rows read by the query.
+     *
+     * @throws SQLException if there is a problem executing the query.
+     */
+    private JDBCDatasetUpdate read() throws SQLException {
+        try {
+            JDBCDatasetUpdate result;
+            if (this.dataset.getLastKey() == null) {
+                result = this.dataset.readQuery(this.query);
+            }
+            else {
+                result = this.dataset.readIncrementalQuery(
+                        this.incrementalQuery);
+            }
+            this.lastException = null;
+            return result;
+        }
+        catch (SQLException e) {
+            this.lastException = e;
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * JDBCDatasetUpdate.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.jdbc;
+
+/**
+ * The rows read by a query for an {@link IncrementalJDBCDataset}, waiting
+ * to be applied to the dataset.  Reading the rows does not change the
+ * dataset, so the query can run on a background thread while the dataset
+ * is updated (and its listeners are notified) on the thread that displays
+ * the chart.
+ *
+ * @see IncrementalJDBCDataset#readQuery(String)
+ * @see IncrementalJDBCDataset#readIncrementalQuery(String)
+ *
+ * @since 1.0.13
+ */
+public interface JDBCDatasetUpdate {
+
+    /**
+     * Applies the rows to the dataset and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to the dataset's
+     * listeners.  An update should be applied once only, and before the
+     * next query is read for the same dataset.
+     *
+     * @return The number of rows added, or -1 if the rows replaced the
+     *     contents of the dataset.
+     */
+    public int apply();
+
+}
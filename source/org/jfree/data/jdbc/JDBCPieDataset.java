@@ -52,6 +52,10 @@
  * 04-Dec-2003 : Added missing Javadocs (DG);
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 02-Feb-2007 : Removed author tags all over JFreeChart sources (DG);
+ * 18-Oct-2026 : Added fetch size and incremental queries, and send a single
+ *               change event (DG);
+ * 18-Oct-2026 : Read the rows for a query separately from applying them to
+ *               the dataset (DG);
  *
  */
 
@@ -59,13 +63,17 @@ package org.jfree.data.jdbc;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.jfree.data.general.ChangeBatch;
 import org.jfree.data.general.DefaultPieDataset;
 import org.jfree.data.general.PieDataset;
 
@@ -75,8 +83,13 @@ import org.jfree.data.general.PieDataset;
  * A query should be supplied that returns data in two columns, the first
  * containing VARCHAR data, and the second containing numerical data.  The
  * data is cached in-memory and can be refreshed at any time.
+ * <P>
+ * The {@link #readQuery(String)} and {@link #readIncrementalQuery(String)}
+ * methods read the rows without changing the dataset, so that the query can
+ * run on a background thread (see {@link JDBCDatasetRefresher}).
  */
-public class JDBCPieDataset extends DefaultPieDataset {
+public class JDBCPieDataset extends DefaultPieDataset
+        implements IncrementalJDBCDataset {
 
     /** For serialization. */
     static final long serialVersionUID = -8753216855496746108L;
@@ -84,6 +97,12 @@ public class JDBCPieDataset extends DefaultPieDataset {
     /** The database connection. */
     private transient Connection connection;
 
+    /** The fetch size for queries (0 to use the driver's default). */
+    private int fetchSize;
+
+    /** The key from the first column of the last row read. */
+    private String lastKey;
+
     /**
      * Creates a new JDBCPieDataset and establishes a new database connection.
      *
@@ -136,6 +155,50 @@ public class JDBCPieDataset extends DefaultPieDataset {
         executeQuery(query);
     }
 
+    /**
+     * Returns the number of rows that the JDBC driver is asked to fetch from
+     * the database at a time.
+     *
+     * @return The fetch size (0 if the driver's default is used).
+     *
+     * @see #setFetchSize(int)
+     *
+     * @since 1.0.13
+     */
+    public int getFetchSize() {
+        return this.fetchSize;
+    }
+
+    /**
+     * Sets the number of rows that the JDBC driver is asked to fetch from
+     * the database at a time.
+     *
+     * @param size  the fetch size (0 to use the driver's default).
+     *
+     * @see #getFetchSize()
+     *
+     * @since 1.0.13
+     */
+    public void setFetchSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Requires 'size' >= 0.");
+        }
+        this.fetchSize = size;
+    }
+
+    /**
+     * Returns the key (from the first column) of the last row that has been
+     * read, which is the value that
+     * {@link #executeIncrementalQuery(String)} continues from.
+     *
+     * @return The key (possibly <code>null</code>).
+     *
+     * @since 1.0.13
+     */
+    public Comparable getLastKey() {
+        return this.lastKey;
+    }
+
     /**
      *  ExecuteQuery will attempt execute the query passed to it against the
      *  existing database connection.  If no connection exists then no action
@@ -164,73 +227,231 @@ public class JDBCPieDataset extends DefaultPieDataset {
      * @throws SQLException if there is a problem executing the query.
      */
     public void executeQuery(Connection con, String query) throws SQLException {
+        readQuery(con, query).apply();
+    }
 
+    /**
+     * Reads the rows returned by a query, using the existing database
+     * connection, without changing the dataset.  Applying the result has the
+     * same effect as {@link #executeQuery(String)}.
+     *
+     * @param query  the query.
+     *
+     * @return The rows.
+     *
+     * @throws SQLException if there is a problem executing the query.
+     *
+     * @since 1.0.13
+     */
+    public JDBCDatasetUpdate readQuery(String query) throws SQLException {
+        return readQuery(this.connection, query);
+    }
+
+    /**
+     * Reads the rows returned by a query, without changing the dataset.
+     *
+     * @param con  the connection.
+     * @param query  the query.
+     *
+     * @return The rows.
+     *
+     * @throws SQLException if there is a problem executing the query.
+     */
+    private JDBCDatasetUpdate readQuery(Connection con, String query)
+            throws SQLException {
         Statement statement = null;
         ResultSet resultSet = null;
-
         try {
             statement = con.createStatement();
+            if (this.fetchSize > 0) {
+                statement.setFetchSize(this.fetchSize);
+            }
             resultSet = statement.executeQuery(query);
-            ResultSetMetaData metaData = resultSet.getMetaData();
+            Update result = new Update(true);
+            readRows(resultSet, result);
+            return result;
+        }
+        finally {
+            close(resultSet, statement);
+        }
+    }
 
-            int columnCount = metaData.getColumnCount();
-            if (columnCount != 2) {
-                throw new SQLException(
-                    "Invalid sql generated.  PieDataSet requires 2 columns only"
-                );
-            }
+    /**
+     * Adds the rows returned by a query to the dataset, using the existing
+     * database connection.  See
+     * {@link #executeIncrementalQuery(Connection, String)} for details.
+     *
+     * @param query  the query (<code>null</code> not permitted).
+     *
+     * @return The number of rows read.
+     *
+     * @throws SQLException if there is a problem executing the query.
+     *
+     * @since 1.0.13
+     */
+    public int executeIncrementalQuery(String query) throws SQLException {
+        return executeIncrementalQuery(this.connection, query);
+    }
 
-            int columnType = metaData.getColumnType(2);
-            double value = Double.NaN;
-            while (resultSet.next()) {
-                Comparable key = resultSet.getString(1);
-                switch (columnType) {
-                    case Types.NUMERIC:
-                    case Types.REAL:
-                    case Types.INTEGER:
-                    case Types.DOUBLE:
-                    case Types.FLOAT:
-                    case Types.DECIMAL:
-                    case Types.BIGINT:
-                        value = resultSet.getDouble(2);
-                        setValue(key, value);
-                        break;
-
-                    case Types.DATE:
-                    case Types.TIME:
-                    case Types.TIMESTAMP:
-                        Timestamp date = resultSet.getTimestamp(2);
-                        value = date.getTime();
-                        setValue(key, value);
-                        break;
-
-                    default:
-                        System.err.println(
-                            "JDBCPieDataset - unknown data type"
-                        );
-                        break;
-                }
-            }
+    /**
+     * Adds the rows returned by a query to the dataset.  The query must have
+     * a single parameter, which is set to the key (from the first column) of
+     * the last row that has been read, and must return two columns like the
+     * query that populated the dataset.  For example:
+     * <pre>
+     * SELECT REGION, SALES FROM TOTALS WHERE REGION &gt; ? ORDER BY REGION
+     * </pre>
+     * Values for existing keys are replaced.  A single
+     * {@link org.jfree.data.general.DatasetChangeEvent} is sent to the
+     * registered listeners if any rows are read.
+     *
+     * @param con  the connection (<code>null</code> not permitted).
+     * @param query  the query (<code>null</code> not permitted).
+     *
+     * @return The number of rows read.
+     *
+     * @throws SQLException if there is a problem executing the query, or if
+     *     no rows have been read yet.
+     *
+     * @since 1.0.13
+     */
+    public int executeIncrementalQuery(Connection con, String query)
+            throws SQLException {
+        return readIncrementalQuery(con, query).apply();
+    }
 
-            fireDatasetChanged();
+    /**
+     * Reads the rows returned by an incremental query, using the existing
+     * database connection, without changing the dataset.  Applying the
+     * result adds the rows to the dataset, as
+     * {@link #executeIncrementalQuery(String)} does.
+     *
+     * @param query  the query (<code>null</code> not permitted).
+     *
+     * @return The rows.
+     *
+     * @throws SQLException if there is a problem executing the query, or if
+     *     no rows have been read yet.
+     *
+     * @since 1.0.13
+     */
+    public JDBCDatasetUpdate readIncrementalQuery(String query)
+            throws SQLException {
+        return readIncrementalQuery(this.connection, query);
+    }
 
+    /**
+     * Reads the rows returned by an incremental query, without changing the
+     * dataset.
+     *
+     * @param con  the connection.
+     * @param query  the query.
+     *
+     * @return The rows.
+     *
+     * @throws SQLException if there is a problem executing the query, or if
+     *     no rows have been read yet.
+     */
+    private JDBCDatasetUpdate readIncrementalQuery(Connection con,
+            String query) throws SQLException {
+        if (this.lastKey == null) {
+            throw new SQLException("There is no row to continue from, "
+                    + "executeQuery() must return at least one row first.");
+        }
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        try {
+            statement = con.prepareStatement(query);
+            if (this.fetchSize > 0) {
+                statement.setFetchSize(this.fetchSize);
+            }
+            statement.setString(1, this.lastKey);
+            resultSet = statement.executeQuery();
+            Update result = new Update(false);
+            readRows(resultSet, result);
+            return result;
         }
         finally {
-            if (resultSet != null) {
-                try {
-                    resultSet.close();
-                }
-                catch (Exception e) {
-                    System.err.println("JDBCPieDataset: swallowing exception.");
-                }
+            close(resultSet, statement);
+        }
+    }
+
+    /**
+     * Reads the rows from a result set, without changing the dataset.
+     *
+     * @param resultSet  the result set.
+     * @param update  the update that the values are added to.
+     *
+     * @throws SQLException if there is a problem reading the rows.
+     */
+    private void readRows(ResultSet resultSet, Update update)
+            throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+
+        int columnCount = metaData.getColumnCount();
+        if (columnCount != 2) {
+            throw new SQLException(
+                "Invalid sql generated.  PieDataSet requires 2 columns only"
+            );
+        }
+
+        int columnType = metaData.getColumnType(2);
+        double value = Double.NaN;
+        while (resultSet.next()) {
+            String key = resultSet.getString(1);
+            switch (columnType) {
+                case Types.NUMERIC:
+                case Types.REAL:
+                case Types.INTEGER:
+                case Types.DOUBLE:
+                case Types.FLOAT:
+                case Types.DECIMAL:
+                case Types.BIGINT:
+                    value = resultSet.getDouble(2);
+                    update.add(key, value);
+                    break;
+
+                case Types.DATE:
+                case Types.TIME:
+                case Types.TIMESTAMP:
+                    Timestamp date = resultSet.getTimestamp(2);
+                    value = date.getTime();
+                    update.add(key, value);
+                    break;
+
+                default:
+                    System.err.println(
+                        "JDBCPieDataset - unknown data type"
+                    );
+                    break;
             }
-            if (statement != null) {
-                try {
-                    statement.close();
-                }
-                catch (Exception e) {
-                    System.err.println("JDBCPieDataset: swallowing exception.");
-                }
+            update.last = key;
+            update.count++;
+        }
+    }
+
+    /**
+     * Closes a result set and a statement, reporting any exceptions to
+     * <code>System.err</code>.
+     *
+     * @param resultSet  the result set (<code>null</code> permitted).
+     * @param statement  the statement (<code>null</code> permitted).
+     */
+    private void close(ResultSet resultSet, Statement statement) {
+        if (resultSet != null) {
+            try {
+                resultSet.close();
+            }
+            catch (Exception e) {
+                System.err.println("JDBCPieDataset: swallowing exception.");
+            }
+        }
+        if (statement != null) {
+            try {
+                statement.close();
+            }
+            catch (Exception e) {
+                System.err.println("JDBCPieDataset: swallowing exception.");
             }
         }
     }
@@ -247,4 +468,72 @@ public class JDBCPieDataset extends DefaultPieDataset {
             System.err.println("JdbcXYDataset: swallowing exception.");
         }
     }
+
+    /**
+     * The values read by a query, waiting to be applied to the dataset.
+     */
+    private class Update implements JDBCDatasetUpdate {
+
+        /** A flag that indicates whether the query populated the dataset. */
+        private boolean replace;
+
+        /** The keys and values (in pairs). */
+        private List values;
+
+        /** The number of rows read. */
+        private int count;
+
+        /** The key of the last row read. */
+        private String last;
+
+        /**
+         * Creates a new instance with no values.
+         *
+         * @param replace  a flag that indicates whether the query populated
+         *     the dataset.
+         */
+        public Update(boolean replace) {
+            this.replace = replace;
+            this.values = new ArrayList();
+        }
+
+        /**
+         * Adds a value.
+         *
+         * @param key  the key.
+         * @param value  the value.
+         */
+        private void add(String key, double value) {
+            this.values.add(key);
+            this.values.add(new Double(value));
+        }
+
+        /**
+         * Applies the values to the dataset, sending a single change event.
+         *
+         * @return The number of rows read, or -1 if the query populated the
+         *     dataset.
+         */
+        public int apply() {
+            JDBCPieDataset d = JDBCPieDataset.this;
+            ChangeBatch batch = ChangeBatch.begin();
+            try {
+                for (int i = 0; i < this.values.size(); i += 2) {
+                    d.setValue((Comparable) this.values.get(i),
+                            (Number) this.values.get(i + 1));
+                }
+                if (this.count > 0) {
+                    d.lastKey = this.last;
+                }
+                if (this.replace) {
+                    d.fireDatasetChanged();
+                }
+            }
+            finally {
+                batch.end();
+            }
+            return (this.replace ? -1 : this.count);
+        }
+
+    }
 }
@@ -66,6 +66,11 @@
  *               release (DG);
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 17-Oct-2006 : Deprecated unused methods - see bug 1578293 (DG);
+ * 18-Oct-2026 : Store the data in primitive arrays, added fetch size and
+ *               incremental queries (DG);
+ * 18-Oct-2026 : Read the rows for a query separately from applying them to
+ *               the dataset (DG);
+ * 18-Oct-2026 : Keep driver objects for BIGINT/DECIMAL/NUMERIC (DG);
  *
  */
 
@@ -73,13 +78,13 @@ package org.jfree.data.jdbc;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Timestamp;
 import java.sql.Types;
-import java.util.ArrayList;
-import java.util.Date;
 
 import org.jfree.data.Range;
 import org.jfree.data.RangeInfo;
@@ -95,11 +100,25 @@ import org.jfree.util.Log;
  * the string sql query.  The sql query must return at least two columns.
  * The first column will be the x-axis and remaining columns y-axis values.
  * executeQuery can be called a number of times.
+ * <P>
+ * The values are stored as <code>double</code> primitives.  For BIGINT,
+ * DECIMAL and NUMERIC columns, which may hold values that a
+ * <code>double</code> cannot represent exactly, the objects returned by the
+ * driver are kept as well, so that {@link #getX(int, int)} and
+ * {@link #getY(int, int)} return them unchanged.
+ * <P>
+ * New rows can be appended to the dataset with
+ * {@link #executeIncrementalQuery(String)}, which fetches only the rows
+ * after the last x-value that has been read.  The
+ * {@link #readQuery(String)} and {@link #readIncrementalQuery(String)}
+ * methods read the rows without changing the dataset, so that the query can
+ * run on a background thread (see {@link JDBCDatasetRefresher}).
  *
  * The database connection is read-only and no write back facility exists.
  */
 public class JDBCXYDataset extends AbstractXYDataset
-        implements XYDataset, TableXYDataset, RangeInfo {
+        implements XYDataset, TableXYDataset, RangeInfo,
+        IncrementalJDBCDataset {
 
     /** The database connection. */
     private transient Connection connection;
@@ -107,8 +126,42 @@ public class JDBCXYDataset extends AbstractXYDataset
     /** Column names. */
     private String[] columnNames = {};
 
-    /** Rows. */
-    private ArrayList rows;
+    /** The number of rows. */
+    private int itemCount;
+
+    /** The x-values (<code>Double.NaN</code> for null values). */
+    private double[] xValues;
+
+    /**
+     * The y-values, indexed by series then item (<code>Double.NaN</code> for
+     * null values).
+     */
+    private double[][] yValues;
+
+    /**
+     * The x-values as returned by the driver, or <code>null</code> if the
+     * x-column doesn't need them (see {@link #keepsObjects(int)}).
+     */
+    private Number[] xObjects;
+
+    /**
+     * The y-values as returned by the driver, indexed by series then item
+     * (the array for a series is <code>null</code> if the column doesn't
+     * need them).
+     */
+    private Number[][] yObjects;
+
+    /**
+     * A flag that indicates that the query returned no rows, in which case
+     * the dataset holds a single row of zero values.
+     */
+    private boolean placeholder;
+
+    /** The x-value of the last row read (<code>Double.NaN</code> if none). */
+    private double lastKey;
+
+    /** The fetch size for queries (0 to use the driver's default). */
+    private int fetchSize;
 
     /** The maximum y value of the returned result set */
     private double maxValue = 0.0;
@@ -124,7 +177,10 @@ public class JDBCXYDataset extends AbstractXYDataset
      * connection.
      */
     private JDBCXYDataset() {
-        this.rows = new ArrayList();
+        this.xValues = new double[0];
+        this.yValues = new double[0][0];
+        this.yObjects = new Number[0][];
+        this.lastKey = Double.NaN;
     }
 
     /**
@@ -197,6 +253,55 @@ public class JDBCXYDataset extends AbstractXYDataset
         this.isTimeSeries = timeSeries;
     }
 
+    /**
+     * Returns the number of rows that the JDBC driver is asked to fetch from
+     * the database at a time.
+     *
+     * @return The fetch size (0 if the driver's default is used).
+     *
+     * @see #setFetchSize(int)
+     *
+     * @since 1.0.13
+     */
+    public int getFetchSize() {
+        return this.fetchSize;
+    }
+
+    /**
+     * Sets the number of rows that the JDBC driver is asked to fetch from
+     * the database at a time.  Some drivers read the entire result into
+     * memory by default, so a fetch size can reduce the memory used by
+     * large queries.
+     *
+     * @param size  the fetch size (0 to use the driver's default).
+     *
+     * @see #getFetchSize()
+     *
+     * @since 1.0.13
+     */
+    public void setFetchSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Requires 'size' >= 0.");
+        }
+        this.fetchSize = size;
+    }
+
+    /**
+     * Returns the x-value of the last row that has been read, which is the
+     * value that {@link #executeIncrementalQuery(String)} continues from.
+     * For time series data, the value is in milliseconds.
+     *
+     * @return The x-value (possibly <code>null</code>).
+     *
+     * @since 1.0.13
+     */
+    public Comparable getLastKey() {
+        if (Double.isNaN(this.lastKey)) {
+            return null;
+        }
+        return new Double(this.lastKey);
+    }
+
     /**
      * ExecuteQuery will attempt execute the query passed to it against the
      * existing database connection.  If no connection exists then no action
@@ -228,6 +333,39 @@ public class JDBCXYDataset extends AbstractXYDataset
      */
     public void executeQuery(Connection con, String query)
         throws SQLException {
+        readQuery(con, query).apply();
+    }
+
+    /**
+     * Reads the rows returned by a query, using the existing database
+     * connection, without changing the dataset.  Applying the result
+     * replaces the contents of the dataset, as
+     * {@link #executeQuery(String)} does.
+     *
+     * @param query  the query (<code>null</code> not permitted).
+     *
+     * @return The rows.
+     *
+     * @throws SQLException if there is a problem executing the query.
+     *
+     * @since 1.0.13
+     */
+    public JDBCDatasetUpdate readQuery(String query) throws SQLException {
+        return readQuery(this.connection, query);
+    }
+
+    /**
+     * Reads the rows returned by a query, without changing the dataset.
+     *
+     * @param con  the connection.
+     * @param query  the query.
+     *
+     * @return The rows.
+     *
+     * @throws SQLException if there is a problem executing the query.
+     */
+    private JDBCDatasetUpdate readQuery(Connection con, String query)
+            throws SQLException {
 
         if (con == null) {
             throw new SQLException(
@@ -239,49 +377,15 @@ public class JDBCXYDataset extends AbstractXYDataset
         Statement statement = null;
         try {
             statement = con.createStatement();
+            if (this.fetchSize > 0) {
+                statement.setFetchSize(this.fetchSize);
+            }
             resultSet = statement.executeQuery(query);
             ResultSetMetaData metaData = resultSet.getMetaData();
 
             int numberOfColumns = metaData.getColumnCount();
-            int numberOfValidColumns = 0;
-            int [] columnTypes = new int[numberOfColumns];
-            for (int column = 0; column < numberOfColumns; column++) {
-                try {
-                    int type = metaData.getColumnType(column + 1);
-                    switch (type) {
-
-                        case Types.NUMERIC:
-                        case Types.REAL:
-                        case Types.INTEGER:
-                        case Types.DOUBLE:
-                        case Types.FLOAT:
-                        case Types.DECIMAL:
-                        case Types.BIT:
-                        case Types.DATE:
-                        case Types.TIME:
-                        case Types.TIMESTAMP:
-                        case Types.BIGINT:
-                        case Types.SMALLINT:
-                            ++numberOfValidColumns;
-                            columnTypes[column] = type;
-                            break;
-                        default:
-                            Log.warn(
-                                "Unable to load column "
-                                + column + " (" + type + ","
-                                + metaData.getColumnClassName(column + 1)
-                                + ")"
-                            );
-                            columnTypes[column] = Types.NULL;
-                            break;
-                    }
-                }
-                catch (SQLException e) {
-                    columnTypes[column] = Types.NULL;
-                    throw e;
-                }
-            }
-
+            int[] columnTypes = getColumnTypes(metaData);
+            int numberOfValidColumns = countValidColumns(columnTypes);
 
             if (numberOfValidColumns <= 1) {
                 throw new SQLException(
@@ -290,131 +394,365 @@ public class JDBCXYDataset extends AbstractXYDataset
             }
 
             /// First column is X data
-            this.columnNames = new String[numberOfValidColumns - 1];
+            String[] names = new String[numberOfValidColumns - 1];
             /// Get the column names and cache them.
             int currentColumn = 0;
             for (int column = 1; column < numberOfColumns; column++) {
                 if (columnTypes[column] != Types.NULL) {
-                    this.columnNames[currentColumn]
-                        = metaData.getColumnLabel(column + 1);
+                    names[currentColumn] = metaData.getColumnLabel(column + 1);
                     ++currentColumn;
                 }
             }
 
-            // Might need to add, to free memory from any previous result sets
-            if (this.rows != null) {
-                for (int column = 0; column < this.rows.size(); column++) {
-                    ArrayList row = (ArrayList) this.rows.get(column);
-                    row.clear();
-                }
-                this.rows.clear();
-            }
-
             // Are we working with a time series.
+            boolean timeSeries;
             switch (columnTypes[0]) {
                 case Types.DATE:
                 case Types.TIME:
                 case Types.TIMESTAMP:
-                    this.isTimeSeries = true;
+                    timeSeries = true;
                     break;
                 default :
-                    this.isTimeSeries = false;
+                    timeSeries = false;
                     break;
             }
 
-            // Get all rows.
-            // rows = new ArrayList();
-            while (resultSet.next()) {
-                ArrayList newRow = new ArrayList();
-                for (int column = 0; column < numberOfColumns; column++) {
-                    Object xObject = resultSet.getObject(column + 1);
-                    switch (columnTypes[column]) {
-                        case Types.NUMERIC:
-                        case Types.REAL:
-                        case Types.INTEGER:
-                        case Types.DOUBLE:
-                        case Types.FLOAT:
-                        case Types.DECIMAL:
-                        case Types.BIGINT:
-                        case Types.SMALLINT:
-                            newRow.add(xObject);
-                            break;
-
-                        case Types.DATE:
-                        case Types.TIME:
-                        case Types.TIMESTAMP:
-                            newRow.add(new Long(((Date) xObject).getTime()));
-                            break;
-                        case Types.NULL:
-                            break;
-                        default:
-                            System.err.println("Unknown data");
-                            columnTypes[column] = Types.NULL;
-                            break;
-                    }
-                }
-                this.rows.add(newRow);
-            }
+            Update result = new Update(names, names.length, timeSeries);
+            result.readRows(resultSet, columnTypes);
+            return result;
+        }
+        finally {
+            close(resultSet, statement);
+        }
 
-            /// a kludge to make everything work when no rows returned
-            if (this.rows.size() == 0) {
-                ArrayList newRow = new ArrayList();
-                for (int column = 0; column < numberOfColumns; column++) {
-                    if (columnTypes[column] != Types.NULL) {
-                        newRow.add(new Integer(0));
-                    }
-                }
-                this.rows.add(newRow);
-            }
+    }
+
+    /**
+     * Appends the rows returned by a query to the dataset, using the
+     * existing database connection.  See
+     * {@link #executeIncrementalQuery(Connection, String)} for details.
+     *
+     * @param query  the query (<code>null</code> not permitted).
+     *
+     * @return The number of rows appended.
+     *
+     * @throws SQLException if there is a problem executing the query.
+     *
+     * @since 1.0.13
+     */
+    public int executeIncrementalQuery(String query) throws SQLException {
+        return executeIncrementalQuery(this.connection, query);
+    }
 
-            /// Determine max and min values.
-            if (this.rows.size() < 1) {
-                this.maxValue = 0.0;
-                this.minValue = 0.0;
+    /**
+     * Appends the rows returned by a query to the dataset.  The query must
+     * have a single parameter, which is set to the x-value of the last row
+     * that has been read (as a <code>Timestamp</code> for time series data,
+     * and as a <code>double</code> otherwise), and must return the same
+     * columns as the query that populated the dataset, in ascending order of
+     * x-value.  For example:
+     * <pre>
+     * SELECT TIME, TEMPERATURE FROM READINGS WHERE TIME &gt; ? ORDER BY TIME
+     * </pre>
+     * A single {@link org.jfree.data.general.DatasetChangeEvent} is sent to
+     * the registered listeners if any rows are appended.
+     *
+     * @param con  the connection (<code>null</code> not permitted).
+     * @param query  the query (<code>null</code> not permitted).
+     *
+     * @return The number of rows appended.
+     *
+     * @throws SQLException if there is a problem executing the query, or if
+     *     no rows have been read yet.
+     *
+     * @since 1.0.13
+     */
+    public int executeIncrementalQuery(Connection con, String query)
+            throws SQLException {
+        return readIncrementalQuery(con, query).apply();
+    }
+
+    /**
+     * Reads the rows returned by an incremental query, using the existing
+     * database connection, without changing the dataset.  Applying the
+     * result appends the rows to the dataset, as
+     * {@link #executeIncrementalQuery(String)} does.
+     *
+     * @param query  the query (<code>null</code> not permitted).
+     *
+     * @return The rows.
+     *
+     * @throws SQLException if there is a problem executing the query, or if
+     *     no rows have been read yet.
+     *
+     * @since 1.0.13
+     */
+    public JDBCDatasetUpdate readIncrementalQuery(String query)
+            throws SQLException {
+        return readIncrementalQuery(this.connection, query);
+    }
+
+    /**
+     * Reads the rows returned by an incremental query, without changing the
+     * dataset.
+     *
+     * @param con  the connection.
+     * @param query  the query.
+     *
+     * @return The rows.
+     *
+     * @throws SQLException if there is a problem executing the query, or if
+     *     no rows have been read yet.
+     */
+    private JDBCDatasetUpdate readIncrementalQuery(Connection con,
+            String query) throws SQLException {
+        if (con == null) {
+            throw new SQLException(
+                    "There is no database to execute the query.");
+        }
+        if (Double.isNaN(this.lastKey)) {
+            throw new SQLException("There is no row to continue from, "
+                    + "executeQuery() must return at least one row first.");
+        }
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        try {
+            statement = con.prepareStatement(query);
+            if (this.fetchSize > 0) {
+                statement.setFetchSize(this.fetchSize);
+            }
+            if (this.isTimeSeries) {
+                statement.setTimestamp(1, new Timestamp((long) this.lastKey));
             }
             else {
-                ArrayList row = (ArrayList) this.rows.get(0);
-                this.maxValue = Double.NEGATIVE_INFINITY;
-                this.minValue = Double.POSITIVE_INFINITY;
-                for (int rowNum = 0; rowNum < this.rows.size(); ++rowNum) {
-                    row = (ArrayList) this.rows.get(rowNum);
-                    for (int column = 1; column < numberOfColumns; column++) {
-                        Object testValue = row.get(column);
-                        if (testValue != null) {
-                            double test = ((Number) testValue).doubleValue();
-
-                            if (test < this.minValue) {
-                                this.minValue = test;
-                            }
-                            if (test > this.maxValue) {
-                                this.maxValue = test;
-                            }
-                        }
-                    }
-                }
+                statement.setDouble(1, this.lastKey);
             }
-
-            fireDatasetChanged(); // Tell the listeners a new table has arrived.
+            resultSet = statement.executeQuery();
+            int[] columnTypes = getColumnTypes(resultSet.getMetaData());
+            if (countValidColumns(columnTypes)
+                    != this.columnNames.length + 1) {
+                throw new SQLException("The incremental query must return "
+                        + "the same columns as the original query.");
+            }
+            Update result = new Update(null, this.columnNames.length,
+                    this.isTimeSeries);
+            result.readRows(resultSet, columnTypes);
+            return result;
         }
         finally {
-            if (resultSet != null) {
-                try {
-                    resultSet.close();
-                }
-                catch (Exception e) {
-                    // TODO: is this a good idea?
-                }
+            close(resultSet, statement);
+        }
+    }
+
+    /**
+     * Returns the types of the columns in a result set, with
+     * <code>Types.NULL</code> for columns that cannot be used.
+     *
+     * @param metaData  the result set meta data.
+     *
+     * @return The column types.
+     *
+     * @throws SQLException if there is a problem reading the meta data.
+     */
+    private int[] getColumnTypes(ResultSetMetaData metaData)
+            throws SQLException {
+        int numberOfColumns = metaData.getColumnCount();
+        int [] columnTypes = new int[numberOfColumns];
+        for (int column = 0; column < numberOfColumns; column++) {
+            int type = metaData.getColumnType(column + 1);
+            switch (type) {
+
+                case Types.NUMERIC:
+                case Types.REAL:
+                case Types.INTEGER:
+                case Types.DOUBLE:
+                case Types.FLOAT:
+                case Types.DECIMAL:
+                case Types.BIT:
+                case Types.DATE:
+                case Types.TIME:
+                case Types.TIMESTAMP:
+                case Types.BIGINT:
+                case Types.SMALLINT:
+                    columnTypes[column] = type;
+                    break;
+                default:
+                    Log.warn(
+                        "Unable to load column "
+                        + column + " (" + type + ","
+                        + metaData.getColumnClassName(column + 1)
+                        + ")"
+                    );
+                    columnTypes[column] = Types.NULL;
+                    break;
+            }
+        }
+        return columnTypes;
+    }
+
+    /**
+     * Returns the number of usable columns.
+     *
+     * @param columnTypes  the column types.
+     *
+     * @return The number of columns with a type other than
+     *     <code>Types.NULL</code>.
+     */
+    private static int countValidColumns(int[] columnTypes) {
+        int result = 0;
+        for (int column = 0; column < columnTypes.length; column++) {
+            if (columnTypes[column] != Types.NULL) {
+                result++;
             }
-            if (statement != null) {
-                try {
-                    statement.close();
+        }
+        return result;
+    }
+
+    /**
+     * Returns <code>true</code> if the values in a column of the specified
+     * type may lose precision when converted to <code>double</code>, in
+     * which case the objects returned by the driver are kept.
+     *
+     * @param type  the column type.
+     *
+     * @return A boolean.
+     */
+    private static boolean keepsObjects(int type) {
+        return type == Types.BIGINT || type == Types.DECIMAL
+                || type == Types.NUMERIC;
+    }
+
+    /**
+     * Reads a value from the current row of a result set, without creating
+     * an object for numerical columns.
+     *
+     * @param resultSet  the result set.
+     * @param column  the column index (starting from 1).
+     * @param type  the column type.
+     *
+     * @return The value (<code>Double.NaN</code> for a null value).
+     *
+     * @throws SQLException if there is a problem reading the value.
+     */
+    private static double readValue(ResultSet resultSet, int column,
+            int type) throws SQLException {
+        switch (type) {
+            case Types.DATE:
+            case Types.TIME:
+            case Types.TIMESTAMP:
+                Timestamp timestamp = resultSet.getTimestamp(column);
+                return (timestamp != null ? timestamp.getTime() : Double.NaN);
+            case Types.BIT:
+                boolean b = resultSet.getBoolean(column);
+                return (resultSet.wasNull() ? Double.NaN : (b ? 1.0 : 0.0));
+            default:
+                double value = resultSet.getDouble(column);
+                return (resultSet.wasNull() ? Double.NaN : value);
+        }
+    }
+
+    /**
+     * Ensures that the arrays have room for the specified number of rows.
+     *
+     * @param capacity  the number of rows.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= this.xValues.length) {
+            return;
+        }
+        int newLength = Math.max(capacity, this.xValues.length * 2);
+        this.xValues = grow(this.xValues, this.itemCount, newLength);
+        this.xObjects = grow(this.xObjects, this.itemCount, newLength);
+        for (int s = 0; s < this.yValues.length; s++) {
+            this.yValues[s] = grow(this.yValues[s], this.itemCount, newLength);
+            this.yObjects[s] = grow(this.yObjects[s], this.itemCount,
+                    newLength);
+        }
+    }
+
+    /**
+     * Returns a copy of an array with a new length.
+     *
+     * @param array  the array.
+     * @param count  the number of values to copy.
+     * @param length  the new length.
+     *
+     * @return The new array.
+     */
+    private static double[] grow(double[] array, int count, int length) {
+        double[] result = new double[length];
+        System.arraycopy(array, 0, result, 0, count);
+        return result;
+    }
+
+    /**
+     * Returns a copy of an array with a new length.
+     *
+     * @param array  the array (<code>null</code> permitted).
+     * @param count  the number of values to copy.
+     * @param length  the new length.
+     *
+     * @return The new array (<code>null</code> if <code>array</code> is
+     *     <code>null</code>).
+     */
+    private static Number[] grow(Number[] array, int count, int length) {
+        if (array == null) {
+            return null;
+        }
+        Number[] result = new Number[length];
+        System.arraycopy(array, 0, result, 0, count);
+        return result;
+    }
+
+    /**
+     * Updates the minimum and maximum y-values to include the rows from the
+     * specified row onwards.  If the row index is zero, the range is
+     * recalculated.
+     *
+     * @param first  the index of the first row to include.
+     */
+    private void updateRange(int first) {
+        if (first == 0) {
+            this.maxValue = Double.NEGATIVE_INFINITY;
+            this.minValue = Double.POSITIVE_INFINITY;
+        }
+        for (int s = 0; s < this.yValues.length; s++) {
+            double[] y = this.yValues[s];
+            for (int item = first; item < this.itemCount; item++) {
+                double test = y[item];
+                if (test < this.minValue) {
+                    this.minValue = test;
                 }
-                catch (Exception e) {
-                    // TODO: is this a good idea?
+                if (test > this.maxValue) {
+                    this.maxValue = test;
                 }
             }
         }
+    }
 
+    /**
+     * Closes a result set and a statement, ignoring any exceptions.
+     *
+     * @param resultSet  the result set (<code>null</code> permitted).
+     * @param statement  the statement (<code>null</code> permitted).
+     */
+    private void close(ResultSet resultSet, Statement statement) {
+        if (resultSet != null) {
+            try {
+                resultSet.close();
+            }
+            catch (Exception e) {
+                // TODO: is this a good idea?
+            }
+        }
+        if (statement != null) {
+            try {
+                statement.close();
+            }
+            catch (Exception e) {
+                // TODO: is this a good idea?
+            }
+        }
     }
 
     /**
@@ -425,13 +763,40 @@ public class JDBCXYDataset extends AbstractXYDataset
      * @param  seriesIndex  the series (zero-based index).
      * @param  itemIndex  the item (zero-based index).
      *
-     * @return The x-value
+     * @return The x-value (a <code>Long</code> for time series data, the
+     *     object returned by the driver for BIGINT, DECIMAL and NUMERIC
+     *     columns, and a <code>Double</code> otherwise).
      *
      * @see XYDataset
      */
     public Number getX(int seriesIndex, int itemIndex) {
-        ArrayList row = (ArrayList) this.rows.get(itemIndex);
-        return (Number) row.get(0);
+        double x = getXValue(seriesIndex, itemIndex);
+        if (Double.isNaN(x)) {
+            return null;
+        }
+        if (this.xObjects != null && this.xObjects[itemIndex] != null) {
+            return this.xObjects[itemIndex];
+        }
+        if (this.isTimeSeries) {
+            return new Long((long) x);
+        }
+        return new Double(x);
+    }
+
+    /**
+     * Returns the x-value for the specified series and item.
+     *
+     * @param  seriesIndex  the series (zero-based index).
+     * @param  itemIndex  the item (zero-based index).
+     *
+     * @return The x-value (<code>Double.NaN</code> for a null value).
+     */
+    public double getXValue(int seriesIndex, int itemIndex) {
+        if (itemIndex >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Index: " + itemIndex
+                    + ", Size: " + this.itemCount);
+        }
+        return this.xValues[itemIndex];
     }
 
     /**
@@ -440,13 +805,37 @@ public class JDBCXYDataset extends AbstractXYDataset
      * @param  seriesIndex  the series (zero-based index).
      * @param  itemIndex  the item (zero-based index).
      *
-     * @return The yValue value
+     * @return The y-value (the object returned by the driver for BIGINT,
+     *     DECIMAL and NUMERIC columns, and a <code>Double</code> otherwise).
      *
      * @see XYDataset
      */
     public Number getY(int seriesIndex, int itemIndex) {
-        ArrayList row = (ArrayList) this.rows.get(itemIndex);
-        return (Number) row.get(seriesIndex + 1);
+        double y = getYValue(seriesIndex, itemIndex);
+        if (Double.isNaN(y)) {
+            return null;
+        }
+        Number[] objects = this.yObjects[seriesIndex];
+        if (objects != null && objects[itemIndex] != null) {
+            return objects[itemIndex];
+        }
+        return new Double(y);
+    }
+
+    /**
+     * Returns the y-value for the specified series and item.
+     *
+     * @param  seriesIndex  the series (zero-based index).
+     * @param  itemIndex  the item (zero-based index).
+     *
+     * @return The y-value (<code>Double.NaN</code> for a null value).
+     */
+    public double getYValue(int seriesIndex, int itemIndex) {
+        if (itemIndex >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Index: " + itemIndex
+                    + ", Size: " + this.itemCount);
+        }
+        return this.yValues[seriesIndex][itemIndex];
     }
 
     /**
@@ -459,7 +848,7 @@ public class JDBCXYDataset extends AbstractXYDataset
      * @see XYDataset
      */
     public int getItemCount(int seriesIndex) {
-        return this.rows.size();
+        return this.itemCount;
     }
 
     /**
@@ -582,4 +971,215 @@ public class JDBCXYDataset extends AbstractXYDataset
         return new Range(this.minValue, this.maxValue);
     }
 
+    /**
+     * The rows read by a query, waiting to be applied to the dataset.
+     */
+    private class Update implements JDBCDatasetUpdate {
+
+        /**
+         * The column names, or <code>null</code> if the rows are appended to
+         * the dataset.
+         */
+        private String[] names;
+
+        /** A flag that indicates whether the x-values are times. */
+        private boolean timeSeries;
+
+        /** The number of rows. */
+        private int count;
+
+        /** The x-values. */
+        private double[] x;
+
+        /** The y-values (one array for each series). */
+        private double[][] y;
+
+        /**
+         * The x-values returned by the driver (<code>null</code> if they
+         * aren't kept).
+         */
+        private Number[] xObjects;
+
+        /**
+         * The y-values returned by the driver (one array for each series,
+         * <code>null</code> if they aren't kept).
+         */
+        private Number[][] yObjects;
+
+        /** The last x-value that is not <code>Double.NaN</code>. */
+        private double last;
+
+        /**
+         * Creates a new instance with no rows.
+         *
+         * @param names  the column names (<code>null</code> if the rows are
+         *     appended to the dataset).
+         * @param seriesCount  the number of series.
+         * @param timeSeries  a flag that indicates whether the x-values are
+         *     times.
+         */
+        public Update(String[] names, int seriesCount, boolean timeSeries) {
+            this.names = names;
+            this.timeSeries = timeSeries;
+            this.x = new double[0];
+            this.y = new double[seriesCount][0];
+            this.yObjects = new Number[seriesCount][];
+            this.last = Double.NaN;
+        }
+
+        /**
+         * Reads the rows from a result set.
+         *
+         * @param resultSet  the result set.
+         * @param columnTypes  the column types.
+         *
+         * @throws SQLException if there is a problem reading the rows.
+         */
+        private void readRows(ResultSet resultSet, int[] columnTypes)
+                throws SQLException {
+            int series = -1;
+            for (int column = 0; column < columnTypes.length; column++) {
+                if (columnTypes[column] == Types.NULL) {
+                    continue;
+                }
+                if (keepsObjects(columnTypes[column])) {
+                    if (series < 0) {
+                        this.xObjects = new Number[this.x.length];
+                    }
+                    else {
+                        this.yObjects[series] = new Number[this.x.length];
+                    }
+                }
+                series++;
+            }
+            while (resultSet.next()) {
+                if (this.count == this.x.length) {
+                    int length = Math.max(16, this.count * 2);
+                    this.x = grow(this.x, this.count, length);
+                    this.xObjects = grow(this.xObjects, this.count, length);
+                    for (int s = 0; s < this.y.length; s++) {
+                        this.y[s] = grow(this.y[s], this.count, length);
+                        this.yObjects[s] = grow(this.yObjects[s], this.count,
+                                length);
+                    }
+                }
+                series = -1;
+                for (int column = 0; column < columnTypes.length; column++) {
+                    int type = columnTypes[column];
+                    if (type == Types.NULL) {
+                        continue;
+                    }
+                    double value;
+                    Number object = null;
+                    if (keepsObjects(type)) {
+                        Object o = resultSet.getObject(column + 1);
+                        if (o instanceof Number) {
+                            object = (Number) o;
+                            value = object.doubleValue();
+                        }
+                        else {
+                            value = Double.NaN;
+                        }
+                    }
+                    else {
+                        value = readValue(resultSet, column + 1, type);
+                    }
+                    if (series < 0) {
+                        this.x[this.count] = value;
+                        if (object != null) {
+                            this.xObjects[this.count] = object;
+                        }
+                        if (!Double.isNaN(value)) {
+                            this.last = value;
+                        }
+                    }
+                    else {
+                        this.y[series][this.count] = value;
+                        if (object != null) {
+                            this.yObjects[series][this.count] = object;
+                        }
+                    }
+                    series++;
+                }
+                this.count++;
+            }
+        }
+
+        /**
+         * Applies the rows to the dataset.  If the dataset holds the
+         * placeholder row, the appended rows replace it.
+         *
+         * @return The number of rows appended, or -1 if the rows replaced the
+         *     contents of the dataset.
+         */
+        public int apply() {
+            JDBCXYDataset d = JDBCXYDataset.this;
+            if (this.names != null) {
+                d.columnNames = this.names;
+                d.isTimeSeries = this.timeSeries;
+                d.xValues = this.x;
+                d.yValues = this.y;
+                d.xObjects = this.xObjects;
+                d.yObjects = this.yObjects;
+                d.itemCount = this.count;
+                d.placeholder = false;
+                d.lastKey = this.last;
+
+                /// a kludge to make everything work when no rows returned
+                if (d.itemCount == 0) {
+                    d.ensureCapacity(1);
+                    d.itemCount = 1;
+                    d.placeholder = true;
+                }
+
+                /// Determine max and min values.
+                d.updateRange(0);
+                d.fireDatasetChanged();
+                return -1;
+            }
+            if (this.count == 0) {
+                return 0;
+            }
+            if (d.placeholder) {
+                d.itemCount = 0;
+                d.placeholder = false;
+            }
+            int first = d.itemCount;
+            d.ensureCapacity(first + this.count);
+            System.arraycopy(this.x, 0, d.xValues, first, this.count);
+            copyObjects(this.xObjects, d.xObjects, first);
+            for (int s = 0; s < this.y.length; s++) {
+                System.arraycopy(this.y[s], 0, d.yValues[s], first,
+                        this.count);
+                copyObjects(this.yObjects[s], d.yObjects[s], first);
+            }
+            d.itemCount = first + this.count;
+            if (!Double.isNaN(this.last)) {
+                d.lastKey = this.last;
+            }
+            d.updateRange(first);
+            d.fireDatasetChanged();
+            return this.count;
+        }
+
+        /**
+         * Copies the objects for a column into the dataset.  Nothing is
+         * copied if the dataset doesn't keep objects for the column, and
+         * if this update has none the dataset falls back to the
+         * <code>double</code> values.
+         *
+         * @param source  the objects read (<code>null</code> permitted).
+         * @param target  the dataset's objects (<code>null</code>
+         *     permitted).
+         * @param first  the index of the first appended row.
+         */
+        private void copyObjects(Number[] source, Number[] target,
+                int first) {
+            if (source != null && target != null) {
+                System.arraycopy(source, 0, target, first, this.count);
+            }
+        }
+
+    }
+
 }
@@ -0,0 +1,100 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------
+ * CumulativeSum.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.statistics;
+
+/**
+ * The running total of the values in a sequence.  Missing values are
+ * skipped.
+ *
+ * @since 1.0.13
+ */
+public class CumulativeSum extends RollingStatistic {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 5508372719120345812L;
+
+    /** The sum of the values so far. */
+    private double sum;
+
+    /** A flag that records whether any (non-missing) values were added. */
+    private boolean started;
+
+    /**
+     * Creates a new instance.
+     */
+    public CumulativeSum() {
+        super();
+    }
+
+    /**
+     * Returns zero, since the sum depends on all the values added.
+     *
+     * @return Zero.
+     */
+    public int getWindowSize() {
+        return 0;
+    }
+
+    /**
+     * Clears the state of the statistic.
+     */
+    public void reset() {
+        this.sum = 0.0;
+        this.started = false;
+    }
+
+    /**
+     * Adds a value and returns the running total.
+     *
+     * @param value  the value (<code>Double.NaN</code> for a missing value).
+     *
+     * @return The total (<code>Double.NaN</code> if only missing values have
+     *     been added).
+     */
+    public double add(double value) {
+        if (!Double.isNaN(value)) {
+            this.sum += value;
+            this.started = true;
+        }
+        return (this.started ? this.sum : Double.NaN);
+    }
+
+}
@@ -0,0 +1,139 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------------
+ * ExponentialMovingAverage.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.statistics;
+
+/**
+ * An exponential moving average.  The first value starts the average, and
+ * each later value <code>x</code> updates it to
+ * <code>average + alpha * (x - average)</code>.  Missing values leave the
+ * average unchanged.  The smoothing factor that corresponds to an
+ * <code>n</code>-period moving average is <code>2 / (n + 1)</code>, see
+ * {@link #forPeriodCount(int)}.
+ *
+ * @since 1.0.13
+ */
+public class ExponentialMovingAverage extends RollingStatistic {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -1409632958236398817L;
+
+    /** The smoothing factor. */
+    private double alpha;
+
+    /** The current average (<code>Double.NaN</code> before any values). */
+    private double average;
+
+    /**
+     * Creates a new moving average.
+     *
+     * @param alpha  the smoothing factor (greater than zero and at most 1).
+     */
+    public ExponentialMovingAverage(double alpha) {
+        if (!(alpha > 0.0 && alpha <= 1.0)) {
+            throw new IllegalArgumentException(
+                    "Requires 0.0 < alpha <= 1.0.");
+        }
+        this.alpha = alpha;
+        this.average = Double.NaN;
+    }
+
+    /**
+     * Creates a moving average with the smoothing factor
+     * <code>2 / (periodCount + 1)</code>.
+     *
+     * @param periodCount  the number of periods (at least 1).
+     *
+     * @return The moving average.
+     */
+    public static ExponentialMovingAverage forPeriodCount(int periodCount) {
+        if (periodCount < 1) {
+            throw new IllegalArgumentException(
+                    "Requires 'periodCount' >= 1.");
+        }
+        return new ExponentialMovingAverage(2.0 / (periodCount + 1));
+    }
+
+    /**
+     * Returns the smoothing factor.
+     *
+     * @return The smoothing factor.
+     */
+    public double getAlpha() {
+        return this.alpha;
+    }
+
+    /**
+     * Returns zero, since the average depends on all the values added.
+     *
+     * @return Zero.
+     */
+    public int getWindowSize() {
+        return 0;
+    }
+
+    /**
+     * Clears the state of the statistic.
+     */
+    public void reset() {
+        this.average = Double.NaN;
+    }
+
+    /**
+     * Adds a value and returns the updated average.
+     *
+     * @param value  the value (<code>Double.NaN</code> for a missing value).
+     *
+     * @return The average (<code>Double.NaN</code> if no values have been
+     *     added).
+     */
+    public double add(double value) {
+        if (!Double.isNaN(value)) {
+            if (Double.isNaN(this.average)) {
+                this.average = value;
+            }
+            else {
+                this.average += this.alpha * (value - this.average);
+            }
+        }
+        return this.average;
+    }
+
+}
@@ -0,0 +1,142 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * RollingExtremum.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.statistics;
+
+/**
+ * The base class for {@link RollingMinimum} and {@link RollingMaximum}.
+ * The positions of the candidate values are kept in a monotonic queue, so
+ * each value is added and removed at most once and the extreme value is
+ * always at the head of the queue.
+ *
+ * @since 1.0.13
+ */
+abstract class RollingExtremum extends RollingWindowStatistic {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 6297281646474101232L;
+
+    /** A flag that selects the maximum (rather than the minimum). */
+    private boolean maximum;
+
+    /**
+     * The positions of the candidates (a circular buffer, with the oldest
+     * candidate at the head).
+     */
+    private long[] queue;
+
+    /** The index of the head of the queue. */
+    private int head;
+
+    /** The number of positions in the queue. */
+    private int size;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param windowSize  the number of values in the window (at least 1).
+     * @param maximum  track the maximum (<code>true</code>) or the minimum
+     *     (<code>false</code>)?
+     */
+    RollingExtremum(int windowSize, boolean maximum) {
+        super(windowSize);
+        this.maximum = maximum;
+        this.queue = new long[windowSize];
+    }
+
+    /**
+     * Clears the state of the statistic.
+     */
+    public void reset() {
+        super.reset();
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Adds a value and returns the extreme value in the window.
+     *
+     * @param value  the value (<code>Double.NaN</code> for a missing value).
+     *
+     * @return The minimum or maximum (<code>Double.NaN</code> if the window
+     *     contains only missing values).
+     */
+    public double add(double value) {
+        long position = getAddedCount();
+        push(value);
+        int capacity = this.queue.length;
+        // drop the candidate that has left the window...
+        if (this.size > 0 && this.queue[this.head] <= position - capacity) {
+            this.head = (this.head + 1) % capacity;
+            this.size--;
+        }
+        if (!Double.isNaN(value)) {
+            // drop the candidates that can no longer be the extreme value...
+            while (this.size > 0) {
+                int tail = (this.head + this.size - 1) % capacity;
+                double v = getValue(this.queue[tail]);
+                if (this.maximum ? v > value : v < value) {
+                    break;
+                }
+                this.size--;
+            }
+            this.queue[(this.head + this.size) % capacity] = position;
+            this.size++;
+        }
+        if (this.size == 0) {
+            return Double.NaN;
+        }
+        return getValue(this.queue[this.head]);
+    }
+
+    /**
+     * Returns a clone of the statistic, including its current state.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        RollingExtremum clone = (RollingExtremum) super.clone();
+        clone.queue = (long[]) this.queue.clone();
+        return clone;
+    }
+
+}
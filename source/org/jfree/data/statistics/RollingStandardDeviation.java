@@ -0,0 +1,152 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------------
+ * RollingStandardDeviation.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.statistics;
+
+/**
+ * The sample standard deviation of the most recent values in a sequence
+ * (calculated in the same way as {@link Statistics#getStdDev(Number[])}).
+ * The mean and the sum of squared deviations are updated as values enter
+ * and leave the window, and recalculated from the window once every
+ * {@link #getWindowSize()} values to limit rounding errors.  Missing values
+ * are ignored.
+ *
+ * @since 1.0.13
+ */
+public class RollingStandardDeviation extends RollingWindowStatistic {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -8137026152964528745L;
+
+    /** The number of values (excluding missing values) in the window. */
+    private int count;
+
+    /** The mean of the values in the window. */
+    private double mean;
+
+    /** The sum of the squared deviations from the mean. */
+    private double squares;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param windowSize  the number of values in the window (at least 2).
+     */
+    public RollingStandardDeviation(int windowSize) {
+        super(windowSize);
+        if (windowSize < 2) {
+            throw new IllegalArgumentException(
+                    "Requires 'windowSize' >= 2.");
+        }
+    }
+
+    /**
+     * Clears the state of the statistic.
+     */
+    public void reset() {
+        super.reset();
+        this.count = 0;
+        this.mean = 0.0;
+        this.squares = 0.0;
+    }
+
+    /**
+     * Adds a value and returns the standard deviation of the values in the
+     * window.
+     *
+     * @param value  the value (<code>Double.NaN</code> for a missing value).
+     *
+     * @return The standard deviation (<code>Double.NaN</code> if there are
+     *     fewer than two values in the window).
+     */
+    public double add(double value) {
+        double old = push(value);
+        if (!Double.isNaN(old)) {
+            this.count--;
+            if (this.count == 0) {
+                this.mean = 0.0;
+                this.squares = 0.0;
+            }
+            else {
+                double delta = old - this.mean;
+                this.mean -= delta / this.count;
+                this.squares -= delta * (old - this.mean);
+            }
+        }
+        if (!Double.isNaN(value)) {
+            this.count++;
+            double delta = value - this.mean;
+            this.mean += delta / this.count;
+            this.squares += delta * (value - this.mean);
+        }
+        if (isWindowBoundary()) {
+            recalculate();
+        }
+        if (this.count < 2) {
+            return Double.NaN;
+        }
+        return Math.sqrt(Math.max(this.squares, 0.0) / (this.count - 1));
+    }
+
+    /**
+     * Recalculates the mean and squared deviations from the window.
+     */
+    private void recalculate() {
+        long end = getAddedCount();
+        long start = end - getCount();
+        double total = 0.0;
+        for (long i = start; i < end; i++) {
+            double v = getValue(i);
+            if (!Double.isNaN(v)) {
+                total += v;
+            }
+        }
+        this.mean = (this.count > 0 ? total / this.count : 0.0);
+        this.squares = 0.0;
+        for (long i = start; i < end; i++) {
+            double v = getValue(i);
+            if (!Double.isNaN(v)) {
+                double d = v - this.mean;
+                this.squares += d * d;
+            }
+        }
+    }
+
+}
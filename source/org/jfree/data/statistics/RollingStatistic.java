@@ -0,0 +1,110 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------
+ * RollingStatistic.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+
+/**
+ * A statistic that is updated one value at a time, such as a moving
+ * average.  Each call to {@link #add(double)} appends a value to the
+ * sequence and returns the statistic for the sequence so far, in constant
+ * (or amortised constant) time.  This is used by
+ * {@link org.jfree.data.time.DerivedTimeSeries} and
+ * {@link org.jfree.data.xy.DerivedXYSeries} to maintain a derived series as
+ * items are appended to a source series.
+ * <P>
+ * <code>Double.NaN</code> is treated as a missing value: it is counted in
+ * the window of a windowed statistic, but does not contribute to the
+ * result.  An instance holds the state for one sequence, so it should not
+ * be shared between derived series.
+ *
+ * @since 1.0.13
+ */
+public abstract class RollingStatistic implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2716413420857683051L;
+
+    /**
+     * Default constructor.
+     */
+    protected RollingStatistic() {
+        super();
+    }
+
+    /**
+     * Returns the number of values that the statistic depends on.  A
+     * derived series uses this to recalculate only the affected part of the
+     * series after a change to the source.
+     *
+     * @return The window size, or zero if the statistic depends on all the
+     *     values added since the last reset.
+     */
+    public abstract int getWindowSize();
+
+    /**
+     * Clears the state of the statistic, so that the next value starts a
+     * new sequence.
+     */
+    public abstract void reset();
+
+    /**
+     * Adds a value to the sequence and returns the updated statistic.
+     *
+     * @param value  the value (<code>Double.NaN</code> for a missing value).
+     *
+     * @return The statistic (<code>Double.NaN</code> if it is not defined,
+     *     for example when there are no values in the window).
+     */
+    public abstract double add(double value);
+
+    /**
+     * Returns a clone of the statistic, including its current state.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        return super.clone();
+    }
+
+}
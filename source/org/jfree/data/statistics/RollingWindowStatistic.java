@@ -0,0 +1,167 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * RollingWindowStatistic.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.statistics;
+
+/**
+ * A base class for statistics calculated over the most recent values in a
+ * sequence.  The values in the window are held in a circular buffer, so
+ * subclasses can remove the value that drops out of the window in constant
+ * time.
+ *
+ * @since 1.0.13
+ */
+public abstract class RollingWindowStatistic extends RollingStatistic {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4810569283340427815L;
+
+    /** The values in the window (a circular buffer). */
+    private double[] window;
+
+    /** The number of values added since the last reset. */
+    private long added;
+
+    /**
+     * Creates a new statistic.
+     *
+     * @param windowSize  the number of values in the window (at least 1).
+     */
+    protected RollingWindowStatistic(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException(
+                    "Requires 'windowSize' >= 1.");
+        }
+        this.window = new double[windowSize];
+    }
+
+    /**
+     * Returns the number of values in the window.
+     *
+     * @return The window size.
+     */
+    public int getWindowSize() {
+        return this.window.length;
+    }
+
+    /**
+     * Clears the window.  Subclasses that override this method should call
+     * the superclass method.
+     */
+    public void reset() {
+        this.added = 0;
+    }
+
+    /**
+     * Returns the number of values added since the last reset.
+     *
+     * @return The count.
+     */
+    protected long getAddedCount() {
+        return this.added;
+    }
+
+    /**
+     * Returns the number of values currently in the window.
+     *
+     * @return The count (at most {@link #getWindowSize()}).
+     */
+    protected int getCount() {
+        return (int) Math.min(this.added, this.window.length);
+    }
+
+    /**
+     * Returns a value in the window.
+     *
+     * @param sequence  the position of the value in the sequence (the first
+     *     value added after a reset is at position zero).  This must lie
+     *     within the window.
+     *
+     * @return The value.
+     */
+    protected double getValue(long sequence) {
+        return this.window[(int) (sequence % this.window.length)];
+    }
+
+    /**
+     * Adds a value to the window.
+     *
+     * @param value  the value.
+     *
+     * @return The value that dropped out of the window
+     *     (<code>Double.NaN</code> if the window was not full).
+     */
+    protected double push(double value) {
+        int slot = (int) (this.added % this.window.length);
+        double result = Double.NaN;
+        if (this.added >= this.window.length) {
+            result = this.window[slot];
+        }
+        this.window[slot] = value;
+        this.added++;
+        return result;
+    }
+
+    /**
+     * Returns <code>true</code> if the window has just filled up again,
+     * which happens once every {@link #getWindowSize()} values.  Subclasses
+     * that maintain running sums use this to recalculate them from the
+     * window, so that rounding errors do not accumulate.
+     *
+     * @return A boolean.
+     */
+    protected boolean isWindowBoundary() {
+        return this.added % this.window.length == 0;
+    }
+
+    /**
+     * Returns a clone of the statistic, including its current state.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        RollingWindowStatistic clone = (RollingWindowStatistic) super.clone();
+        clone.window = (double[]) this.window.clone();
+        return clone;
+    }
+
+}
@@ -0,0 +1,111 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------
+ * SimpleMovingAverage.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.statistics;
+
+/**
+ * The mean of the most recent values in a sequence.  Missing values in the
+ * window are ignored, so the mean is calculated from the values that are
+ * present.  Before the window has filled, the mean of the values so far is
+ * returned.
+ *
+ * @since 1.0.13
+ */
+public class SimpleMovingAverage extends RollingWindowStatistic {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -4427412393095185046L;
+
+    /** The sum of the values in the window. */
+    private double sum;
+
+    /** The number of values (excluding missing values) in the window. */
+    private int count;
+
+    /**
+     * Creates a new moving average.
+     *
+     * @param windowSize  the number of values in the average (at least 1).
+     */
+    public SimpleMovingAverage(int windowSize) {
+        super(windowSize);
+    }
+
+    /**
+     * Clears the state of the statistic.
+     */
+    public void reset() {
+        super.reset();
+        this.sum = 0.0;
+        this.count = 0;
+    }
+
+    /**
+     * Adds a value and returns the mean of the values in the window.
+     *
+     * @param value  the value (<code>Double.NaN</code> for a missing value).
+     *
+     * @return The mean (<code>Double.NaN</code> if the window contains only
+     *     missing values).
+     */
+    public double add(double value) {
+        double old = push(value);
+        if (!Double.isNaN(old)) {
+            this.sum -= old;
+            this.count--;
+        }
+        if (!Double.isNaN(value)) {
+            this.sum += value;
+            this.count++;
+        }
+        if (isWindowBoundary()) {
+            this.sum = 0.0;
+            long end = getAddedCount();
+            for (long i = end - getCount(); i < end; i++) {
+                double v = getValue(i);
+                if (!Double.isNaN(v)) {
+                    this.sum += v;
+                }
+            }
+        }
+        return (this.count > 0 ? this.sum / this.count : Double.NaN);
+    }
+
+}
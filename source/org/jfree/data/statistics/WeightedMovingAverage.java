@@ -0,0 +1,142 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------------
+ * WeightedMovingAverage.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.statistics;
+
+/**
+ * A linearly weighted mean of the most recent values in a sequence: the
+ * newest value has weight <code>n</code>, the one before it
+ * <code>n - 1</code>, and so on down to weight 1 for the oldest value in a
+ * window of <code>n</code> values.  Missing values are left out of both
+ * the weighted sum and the sum of the weights.
+ *
+ * @since 1.0.13
+ */
+public class WeightedMovingAverage extends RollingWindowStatistic {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2069741232427452617L;
+
+    /** The weighted sum of the values in the window. */
+    private double weightedSum;
+
+    /** The sum of the weights of the values in the window. */
+    private double weights;
+
+    /** The (unweighted) sum of the values in the window. */
+    private double sum;
+
+    /** The number of values (excluding missing values) in the window. */
+    private int count;
+
+    /**
+     * Creates a new moving average.
+     *
+     * @param windowSize  the number of values in the average (at least 1).
+     */
+    public WeightedMovingAverage(int windowSize) {
+        super(windowSize);
+    }
+
+    /**
+     * Clears the state of the statistic.
+     */
+    public void reset() {
+        super.reset();
+        this.weightedSum = 0.0;
+        this.weights = 0.0;
+        this.sum = 0.0;
+        this.count = 0;
+    }
+
+    /**
+     * Adds a value and returns the weighted mean of the values in the
+     * window.
+     *
+     * @param value  the value (<code>Double.NaN</code> for a missing value).
+     *
+     * @return The weighted mean (<code>Double.NaN</code> if the window
+     *     contains only missing values).
+     */
+    public double add(double value) {
+        boolean full = getAddedCount() >= getWindowSize();
+        double old = push(value);
+        if (full) {
+            // every value moves down one weight, and the oldest (weight 1)
+            // drops out...
+            this.weightedSum -= this.sum;
+            this.weights -= this.count;
+            if (!Double.isNaN(old)) {
+                this.sum -= old;
+                this.count--;
+            }
+        }
+        if (!Double.isNaN(value)) {
+            int weight = getCount();
+            this.weightedSum += weight * value;
+            this.weights += weight;
+            this.sum += value;
+            this.count++;
+        }
+        if (isWindowBoundary()) {
+            recalculate();
+        }
+        return (this.weights > 0.0 ? this.weightedSum / this.weights
+                : Double.NaN);
+    }
+
+    /**
+     * Recalculates the running sums from the values in the window.
+     */
+    private void recalculate() {
+        this.weightedSum = 0.0;
+        this.sum = 0.0;
+        long end = getAddedCount();
+        long start = end - getCount();
+        for (long i = start; i < end; i++) {
+            double v = getValue(i);
+            if (!Double.isNaN(v)) {
+                this.weightedSum += (i - start + 1) * v;
+                this.sum += v;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,1039 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * CompactTimeSeries.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Store items in a circular buffer so that removing the oldest
+ *               items is a constant time operation (DG);
+ * 18-Oct-2026 : Update the value index when the series changes (DG);
+ * 18-Oct-2026 : Reject unsupported time period classes (DG);
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesException;
+import org.jfree.util.ObjectUtilities;
+
+/**
+ * A {@link TimeSeries} that stores its data in arrays of primitives rather
+ * than in a list of {@link TimeSeriesDataItem} objects.  For each item the
+ * series records the serial index of the time period (used for lookups),
+ * the first and last millisecond of the period (evaluated in the series time
+ * zone) and the value, which takes 32 bytes per item.  Finding the index of
+ * a time period is a binary search over a <code>long[]</code> array and
+ * does not create any objects.
+ * <P>
+ * When a {@link TimeSeriesCollection} with the same time zone as the series
+ * asks for x-values, they are read directly from the millisecond arrays.
+ * <P>
+ * The arrays are used as a circular buffer, so removing the oldest items
+ * (as happens when a new item is added to a series that has reached its
+ * maximum item count or maximum item age) does not shift the remaining
+ * items.  This makes the series well suited to a sliding window over a
+ * stream of values.
+ * <P>
+ * The API is the same as for {@link TimeSeries}, with the following
+ * differences:
+ * <ul>
+ * <li>a <code>null</code> value is stored as <code>Double.NaN</code>, so the
+ *     two cannot be distinguished;</li>
+ * <li>the time period and data item objects returned by the series are
+ *     created on demand and are not backed by the series, so updating a
+ *     data item has no effect on the series;</li>
+ * <li>the time period class must be {@link FixedMillisecond} or have a
+ *     constructor with <code>(Date, TimeZone)</code> arguments, as the
+ *     standard periods do, so that the periods can be created again;</li>
+ * <li>the inherited <code>data</code> list is not used.</li>
+ * </ul>
+ *
+ * @since 1.0.13
+ */
+public class CompactTimeSeries extends TimeSeries {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -3245138920456219315L;
+
+    /** The default initial capacity. */
+    private static final int DEFAULT_INITIAL_CAPACITY = 64;
+
+    /** The time zone used to evaluate the time periods. */
+    private TimeZone timeZone;
+
+    /** A working calendar (uses {@link #timeZone}). */
+    private Calendar workingCalendar;
+
+    /** The serial index for each time period. */
+    private long[] periodIndices;
+
+    /** The first millisecond of each time period. */
+    private long[] firstMillis;
+
+    /** The last millisecond of each time period. */
+    private long[] lastMillis;
+
+    /** The values (<code>Double.NaN</code> for null). */
+    private double[] values;
+
+    /** The array index of the first item in the series. */
+    private int head;
+
+    /** The number of items in the series. */
+    private int itemCount;
+
+    /**
+     * Creates a new empty series for {@link Day} data, using the default
+     * time zone.
+     *
+     * @param name  the series name (<code>null</code> not permitted).
+     */
+    public CompactTimeSeries(Comparable name) {
+        this(name, Day.class);
+    }
+
+    /**
+     * Creates a new empty series using the default time zone.
+     *
+     * @param name  the series name (<code>null</code> not permitted).
+     * @param timePeriodClass  the type of time period (<code>null</code> not
+     *                         permitted).
+     */
+    public CompactTimeSeries(Comparable name, Class timePeriodClass) {
+        this(name, timePeriodClass, TimeZone.getDefault());
+    }
+
+    /**
+     * Creates a new empty series.
+     *
+     * @param name  the series name (<code>null</code> not permitted).
+     * @param timePeriodClass  the type of time period (<code>null</code> not
+     *                         permitted).
+     * @param zone  the time zone used to calculate the first and last
+     *              millisecond of each time period (<code>null</code> not
+     *              permitted).
+     */
+    public CompactTimeSeries(Comparable name, Class timePeriodClass,
+            TimeZone zone) {
+        this(name, DEFAULT_DOMAIN_DESCRIPTION, DEFAULT_RANGE_DESCRIPTION,
+                timePeriodClass, zone, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty series.
+     *
+     * @param name  the series name (<code>null</code> not permitted).
+     * @param domain  the domain description (<code>null</code> permitted).
+     * @param range  the range description (<code>null</code> permitted).
+     * @param timePeriodClass  the type of time period (<code>null</code> not
+     *                         permitted).
+     * @param zone  the time zone used to calculate the first and last
+     *              millisecond of each time period (<code>null</code> not
+     *              permitted).
+     * @param initialCapacity  the initial capacity (must be positive).
+     */
+    public CompactTimeSeries(Comparable name, String domain, String range,
+            Class timePeriodClass, TimeZone zone, int initialCapacity) {
+        super(name, domain, range, timePeriodClass);
+        if (timePeriodClass == null) {
+            throw new IllegalArgumentException(
+                    "Null 'timePeriodClass' argument.");
+        }
+        if (zone == null) {
+            throw new IllegalArgumentException("Null 'zone' argument.");
+        }
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException(
+                    "Requires 'initialCapacity' > 0.");
+        }
+        if (!FixedMillisecond.class.equals(timePeriodClass)
+                && RegularTimePeriod.createInstance(timePeriodClass,
+                new Date(0L), zone) == null) {
+            throw new IllegalArgumentException("Unsupported time period "
+                    + "class " + timePeriodClass.getName() + ", requires a "
+                    + "constructor with (Date, TimeZone) arguments.");
+        }
+        this.timeZone = zone;
+        this.workingCalendar = Calendar.getInstance(zone);
+        this.periodIndices = new long[initialCapacity];
+        this.firstMillis = new long[initialCapacity];
+        this.lastMillis = new long[initialCapacity];
+        this.values = new double[initialCapacity];
+        this.head = 0;
+        this.itemCount = 0;
+    }
+
+    /**
+     * Returns the time zone used to evaluate the time periods in the series.
+     *
+     * @return The time zone (never <code>null</code>).
+     */
+    public TimeZone getTimeZone() {
+        return this.timeZone;
+    }
+
+    /**
+     * Returns the number of items in the series.
+     *
+     * @return The item count.
+     */
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Sets the maximum number of items that will be retained in the series.
+     * If the series currently holds more items than this, the oldest items
+     * are removed and a {@link SeriesChangeEvent} is sent to all registered
+     * listeners.
+     *
+     * @param maximum  the maximum number of items for the series.
+     */
+    public void setMaximumItemCount(int maximum) {
+        super.setMaximumItemCount(maximum);
+        if (this.itemCount > maximum) {
+            delete(0, this.itemCount - maximum - 1);
+        }
+    }
+
+    /**
+     * Returns a list containing a copy of the data items in the series.
+     * The list is unmodifiable and is not updated if the series changes.
+     *
+     * @return The list of data items.
+     */
+    public List getItems() {
+        List result = new java.util.ArrayList(this.itemCount);
+        for (int i = 0; i < this.itemCount; i++) {
+            result.add(getDataItem(i));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns a new data item containing the time period and value at the
+     * specified index.
+     *
+     * @param index  the item index.
+     *
+     * @return The data item.
+     */
+    public TimeSeriesDataItem getDataItem(int index) {
+        return new TimeSeriesDataItem(getTimePeriod(index),
+                toNumber(this.values[slot(index)]));
+    }
+
+    /**
+     * Returns a new data item for the specified time period, or
+     * <code>null</code> if the series contains no value for that period.
+     *
+     * @param period  the time period (<code>null</code> not permitted).
+     *
+     * @return The data item (possibly <code>null</code>).
+     */
+    public TimeSeriesDataItem getDataItem(RegularTimePeriod period) {
+        int index = getIndex(period);
+        if (index >= 0) {
+            return new TimeSeriesDataItem(period,
+                    toNumber(this.values[slot(index)]));
+        }
+        return null;
+    }
+
+    /**
+     * Returns the time period at the specified index.  The period is created
+     * on demand from the first millisecond of the period.
+     *
+     * @param index  the index of the data item.
+     *
+     * @return The time period.
+     */
+    public RegularTimePeriod getTimePeriod(int index) {
+        checkIndex(index);
+        Date d = new Date(this.firstMillis[slot(index)]);
+        if (FixedMillisecond.class.equals(this.timePeriodClass)) {
+            return new FixedMillisecond(d);
+        }
+        return RegularTimePeriod.createInstance(this.timePeriodClass, d,
+                this.timeZone);
+    }
+
+    /**
+     * Returns the first millisecond of the time period at the specified
+     * index, evaluated in the series time zone.
+     *
+     * @param index  the item index.
+     *
+     * @return The first millisecond.
+     */
+    public long getFirstMillisecond(int index) {
+        checkIndex(index);
+        return this.firstMillis[slot(index)];
+    }
+
+    /**
+     * Returns the last millisecond of the time period at the specified
+     * index, evaluated in the series time zone.
+     *
+     * @param index  the item index.
+     *
+     * @return The last millisecond.
+     */
+    public long getLastMillisecond(int index) {
+        checkIndex(index);
+        return this.lastMillis[slot(index)];
+    }
+
+    /**
+     * Returns the index for the item (if any) that corresponds to a time
+     * period.  This is a binary search over the serial indices of the time
+     * periods in the series.
+     *
+     * @param period  the time period (<code>null</code> not permitted).
+     *
+     * @return The index, or a negative value encoding the insertion point
+     *     (in the same way as <code>Collections.binarySearch()</code>).
+     */
+    public int getIndex(RegularTimePeriod period) {
+        if (period == null) {
+            throw new IllegalArgumentException("Null 'period' argument.");
+        }
+        if (!period.getClass().equals(this.timePeriodClass)) {
+            return -1;
+        }
+        return search(period.getSerialIndex());
+    }
+
+    /**
+     * Returns the value at the specified index.
+     *
+     * @param index  index of a value.
+     *
+     * @return The value (possibly <code>null</code>).
+     */
+    public Number getValue(int index) {
+        return toNumber(getDoubleValue(index));
+    }
+
+    /**
+     * Returns the value at the specified index as a double primitive.
+     *
+     * @param index  index of a value.
+     *
+     * @return The value (<code>Double.NaN</code> for a <code>null</code>
+     *     value).
+     */
+    public double getDoubleValue(int index) {
+        checkIndex(index);
+        return this.values[slot(index)];
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param item  the (timeperiod, value) pair (<code>null</code> not
+     *              permitted).
+     * @param notify  notify listeners?
+     */
+    public void add(TimeSeriesDataItem item, boolean notify) {
+        if (item == null) {
+            throw new IllegalArgumentException("Null 'item' argument.");
+        }
+        add(item.getPeriod(), toDouble(item.getValue()), notify);
+    }
+
+    /**
+     * Adds a new data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param period  the time period (<code>null</code> not permitted).
+     * @param value  the value (<code>null</code> permitted).
+     * @param notify  notify listeners?
+     */
+    public void add(RegularTimePeriod period, Number value, boolean notify) {
+        add(period, toDouble(value), notify);
+    }
+
+    /**
+     * Adds a new data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param period  the time period (<code>null</code> not permitted).
+     * @param value  the value.
+     * @param notify  notify listeners?
+     *
+     * @throws SeriesException if the period is not an instance of the time
+     *     period class for the series, or the series already contains an
+     *     item for the period.
+     */
+    public void add(RegularTimePeriod period, double value, boolean notify) {
+        checkPeriod(period);
+        long key = period.getSerialIndex();
+        int index = this.itemCount;
+        if (this.itemCount > 0
+                && key <= this.periodIndices[slot(index - 1)]) {
+            index = search(key);
+            if (index >= 0) {
+                StringBuffer b = new StringBuffer();
+                b.append("You are attempting to add an observation for ");
+                b.append("the time period ");
+                b.append(period.toString());
+                b.append(" but the series already contains an observation");
+                b.append(" for that time period. Duplicates are not ");
+                b.append("permitted.  Try using the addOrUpdate() method.");
+                throw new SeriesException(b.toString());
+            }
+            index = -index - 1;
+        }
+        insertItem(index, key, period, value);
+        if (this.itemCount > getMaximumItemCount()) {
+            removeItems(0, 0);
+        }
+        removeAgedItems(false);
+        if (notify) {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Updates (changes) the value for a time period.  Throws a
+     * {@link SeriesException} if the period does not exist.
+     *
+     * @param period  the period (<code>null</code> not permitted).
+     * @param value  the value (<code>null</code> permitted).
+     */
+    public void update(RegularTimePeriod period, Number value) {
+        int index = getIndex(period);
+        if (index < 0) {
+            throw new SeriesException(
+                "TimeSeries.update(TimePeriod, Number):  period does not exist."
+            );
+        }
+        this.values[slot(index)] = toDouble(value);
+        itemChanged(index);
+        fireSeriesChanged();
+    }
+
+    /**
+     * Updates (changes) the value of a data item.
+     *
+     * @param index  the index of the data item.
+     * @param value  the new value (<code>null</code> permitted).
+     */
+    public void update(int index, Number value) {
+        checkIndex(index);
+        this.values[slot(index)] = toDouble(value);
+        itemChanged(index);
+        fireSeriesChanged();
+    }
+
+    /**
+     * Adds or updates an item in the times series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param period  the time period to add/update (<code>null</code> not
+     *                permitted).
+     * @param value  the new value (<code>null</code> permitted).
+     *
+     * @return A copy of the overwritten data item, or <code>null</code> if no
+     *         item was overwritten.
+     */
+    public TimeSeriesDataItem addOrUpdate(RegularTimePeriod period,
+            Number value) {
+        return addOrUpdate(period, toDouble(value));
+    }
+
+    /**
+     * Adds or updates an item in the times series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param period  the time period to add/update (<code>null</code> not
+     *                permitted).
+     * @param value  the new value.
+     *
+     * @return A copy of the overwritten data item, or <code>null</code> if no
+     *         item was overwritten.
+     */
+    public TimeSeriesDataItem addOrUpdate(RegularTimePeriod period,
+            double value) {
+        checkPeriod(period);
+        TimeSeriesDataItem overwritten = null;
+        long key = period.getSerialIndex();
+        int index = search(key);
+        if (index >= 0) {
+            int i = slot(index);
+            overwritten = new TimeSeriesDataItem(period,
+                    toNumber(this.values[i]));
+            this.values[i] = value;
+            itemChanged(index);
+        }
+        else {
+            insertItem(-index - 1, key, period, value);
+            if (this.itemCount > getMaximumItemCount()) {
+                removeItems(0, 0);
+            }
+        }
+        removeAgedItems(false);
+        fireSeriesChanged();
+        return overwritten;
+    }
+
+    /**
+     * Age items in the series.  Ensure that the timespan from the youngest to
+     * the oldest record in the series does not exceed maximumItemAge time
+     * periods.  Oldest records will be removed if required.
+     *
+     * @param notify  controls whether or not a {@link SeriesChangeEvent} is
+     *                sent to registered listeners IF any items are removed.
+     */
+    public void removeAgedItems(boolean notify) {
+        if (this.itemCount > 1) {
+            removeItemsBefore(this.periodIndices[slot(this.itemCount - 1)],
+                    notify);
+        }
+    }
+
+    /**
+     * Age items in the series.  Ensure that the timespan from the supplied
+     * time to the oldest record in the series does not exceed history count.
+     * oldest records will be removed if required.
+     *
+     * @param latest  the time to be compared against when aging data
+     *     (specified in milliseconds).
+     * @param notify  controls whether or not a {@link SeriesChangeEvent} is
+     *                sent to registered listeners IF any items are removed.
+     */
+    public void removeAgedItems(long latest, boolean notify) {
+        RegularTimePeriod newest;
+        if (FixedMillisecond.class.equals(this.timePeriodClass)) {
+            newest = new FixedMillisecond(latest);
+        }
+        else {
+            newest = RegularTimePeriod.createInstance(this.timePeriodClass,
+                    new Date(latest), this.timeZone);
+        }
+        if (newest != null) {
+            removeItemsBefore(newest.getSerialIndex(), notify);
+        }
+    }
+
+    /**
+     * Removes all data items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     */
+    public void clear() {
+        if (this.itemCount > 0) {
+            int count = this.itemCount;
+            this.head = 0;
+            this.itemCount = 0;
+            itemsRemoved(0, count - 1);
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Deletes the data item for the given time period and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.  If there is no
+     * item with the specified time period, this method does nothing.
+     *
+     * @param period  the period of the item to delete (<code>null</code> not
+     *                permitted).
+     */
+    public void delete(RegularTimePeriod period) {
+        int index = getIndex(period);
+        if (index >= 0) {
+            removeItems(index, index);
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Deletes data from start until end index (end inclusive).
+     *
+     * @param start  the index of the first period to delete.
+     * @param end  the index of the last period to delete.
+     */
+    public void delete(int start, int end) {
+        if (end < start) {
+            throw new IllegalArgumentException("Requires start <= end.");
+        }
+        removeItems(start, end);
+        fireSeriesChanged();
+    }
+
+    /**
+     * Returns a clone of the time series.
+     *
+     * @return A clone of the time series.
+     *
+     * @throws CloneNotSupportedException not thrown by this class, but
+     *         subclasses may differ.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        CompactTimeSeries clone = (CompactTimeSeries) super.clone();
+        clone.workingCalendar = (Calendar) this.workingCalendar.clone();
+        clone.periodIndices = (long[]) this.periodIndices.clone();
+        clone.firstMillis = (long[]) this.firstMillis.clone();
+        clone.lastMillis = (long[]) this.lastMillis.clone();
+        clone.values = (double[]) this.values.clone();
+        return clone;
+    }
+
+    /**
+     * Creates a new timeseries by copying a subset of the data in this time
+     * series.
+     *
+     * @param start  the index of the first time period to copy.
+     * @param end  the index of the last time period to copy.
+     *
+     * @return A series containing a copy of this times series from start
+     *         until end.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    public TimeSeries createCopy(int start, int end)
+            throws CloneNotSupportedException {
+        if (start < 0) {
+            throw new IllegalArgumentException("Requires start >= 0.");
+        }
+        if (end < start) {
+            throw new IllegalArgumentException("Requires start <= end.");
+        }
+        if (this.itemCount == 0) {
+            return copyRange(0, 0);
+        }
+        checkIndex(end);
+        return copyRange(start, end - start + 1);
+    }
+
+    /**
+     * Creates a new timeseries by copying a subset of the data in this time
+     * series.
+     *
+     * @param start  the first time period to copy (<code>null</code> not
+     *         permitted).
+     * @param end  the last time period to copy (<code>null</code> not
+     *         permitted).
+     *
+     * @return A time series containing a copy of this time series from start
+     *         until end.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    public TimeSeries createCopy(RegularTimePeriod start,
+            RegularTimePeriod end) throws CloneNotSupportedException {
+        if (start == null) {
+            throw new IllegalArgumentException("Null 'start' argument.");
+        }
+        if (end == null) {
+            throw new IllegalArgumentException("Null 'end' argument.");
+        }
+        if (start.compareTo(end) > 0) {
+            throw new IllegalArgumentException(
+                    "Requires start on or before end.");
+        }
+        int startIndex = getIndex(start);
+        if (startIndex < 0) {
+            startIndex = -(startIndex + 1);
+        }
+        int endIndex = getIndex(end);
+        if (endIndex < 0) {
+            endIndex = -(endIndex + 1) - 1;
+        }
+        if (endIndex < startIndex || startIndex >= this.itemCount) {
+            return copyRange(0, 0);
+        }
+        return copyRange(startIndex, endIndex - startIndex + 1);
+    }
+
+    /**
+     * Tests the series for equality with another object.
+     *
+     * @param object  the object (<code>null</code> permitted).
+     *
+     * @return <code>true</code> or <code>false</code>.
+     */
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (!(object instanceof CompactTimeSeries)) {
+            return false;
+        }
+        CompactTimeSeries that = (CompactTimeSeries) object;
+        if (!getClass().equals(that.getClass())) {
+            return false;
+        }
+        if (!getKey().equals(that.getKey())) {
+            return false;
+        }
+        if (!ObjectUtilities.equal(getDescription(), that.getDescription())) {
+            return false;
+        }
+        if (!ObjectUtilities.equal(getDomainDescription(),
+                that.getDomainDescription())) {
+            return false;
+        }
+        if (!ObjectUtilities.equal(getRangeDescription(),
+                that.getRangeDescription())) {
+            return false;
+        }
+        if (!this.timePeriodClass.equals(that.timePeriodClass)) {
+            return false;
+        }
+        if (!this.timeZone.equals(that.timeZone)) {
+            return false;
+        }
+        if (getMaximumItemAge() != that.getMaximumItemAge()) {
+            return false;
+        }
+        if (getMaximumItemCount() != that.getMaximumItemCount()) {
+            return false;
+        }
+        if (this.itemCount != that.itemCount) {
+            return false;
+        }
+        for (int i = 0; i < this.itemCount; i++) {
+            int s1 = slot(i);
+            int s2 = that.slot(i);
+            if (this.periodIndices[s1] != that.periodIndices[s2]) {
+                return false;
+            }
+            if (Double.doubleToLongBits(this.values[s1])
+                    != Double.doubleToLongBits(that.values[s2])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for the series.
+     *
+     * @return The hash code.
+     */
+    public int hashCode() {
+        int result = super.hashCode();
+        result = 29 * result + this.timeZone.hashCode();
+        return result;
+    }
+
+    /**
+     * Checks that a time period is not <code>null</code> and is an instance
+     * of the time period class for the series.
+     *
+     * @param period  the period.
+     */
+    private void checkPeriod(RegularTimePeriod period) {
+        if (period == null) {
+            throw new IllegalArgumentException("Null 'period' argument.");
+        }
+        if (!period.getClass().equals(this.timePeriodClass)) {
+            StringBuffer b = new StringBuffer();
+            b.append("You are trying to add data where the time period class ");
+            b.append("is ");
+            b.append(period.getClass().getName());
+            b.append(", but the TimeSeries is expecting an instance of ");
+            b.append(this.timePeriodClass.getName());
+            b.append(".");
+            throw new SeriesException(b.toString());
+        }
+    }
+
+    /**
+     * Searches for the item with the given period serial index.
+     *
+     * @param key  the serial index.
+     *
+     * @return The item index, or <code>-(insertionPoint) - 1</code> if there
+     *     is no item with that serial index.
+     */
+    private int search(long key) {
+        int low = 0;
+        int high = this.itemCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long k = this.periodIndices[slot(mid)];
+            if (k < key) {
+                low = mid + 1;
+            }
+            else if (k > key) {
+                high = mid - 1;
+            }
+            else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the array index for the item with the specified (zero-based)
+     * index in the series.
+     *
+     * @param index  the item index (in the range <code>0</code> to
+     *     <code>getItemCount()</code>).
+     *
+     * @return The array index.
+     */
+    private int slot(int index) {
+        int i = this.head + index;
+        if (i >= this.values.length) {
+            i = i - this.values.length;
+        }
+        return i;
+    }
+
+    /**
+     * Copies a range of items, in series order, to the start of the
+     * specified arrays.
+     *
+     * @param start  the index of the first item to copy.
+     * @param count  the number of items to copy.
+     * @param pp  the destination for the period serial indices.
+     * @param ff  the destination for the first milliseconds.
+     * @param ll  the destination for the last milliseconds.
+     * @param vv  the destination for the values.
+     */
+    private void copyItems(int start, int count, long[] pp, long[] ff,
+            long[] ll, double[] vv) {
+        if (count <= 0) {
+            return;
+        }
+        int first = slot(start);
+        int n = Math.min(count, this.values.length - first);
+        System.arraycopy(this.periodIndices, first, pp, 0, n);
+        System.arraycopy(this.firstMillis, first, ff, 0, n);
+        System.arraycopy(this.lastMillis, first, ll, 0, n);
+        System.arraycopy(this.values, first, vv, 0, n);
+        if (n < count) {
+            // the range wraps around the end of the arrays
+            int rest = count - n;
+            System.arraycopy(this.periodIndices, 0, pp, n, rest);
+            System.arraycopy(this.firstMillis, 0, ff, n, rest);
+            System.arraycopy(this.lastMillis, 0, ll, n, rest);
+            System.arraycopy(this.values, 0, vv, n, rest);
+        }
+    }
+
+    /**
+     * Moves <code>count</code> items, starting at item index
+     * <code>from</code>, by <code>offset</code> places.  Items are copied in
+     * an order that is safe for overlapping ranges.
+     *
+     * @param from  the index of the first item to move.
+     * @param count  the number of items to move.
+     * @param offset  the distance to move the items.
+     */
+    private void moveItems(int from, int count, int offset) {
+        int capacity = this.values.length;
+        int step = (offset > 0 ? -1 : 1);
+        int i = (offset > 0 ? from + count - 1 : from);
+        for (int n = 0; n < count; n++) {
+            int src = slot(i);
+            int dst = (src + offset + capacity) % capacity;
+            this.periodIndices[dst] = this.periodIndices[src];
+            this.firstMillis[dst] = this.firstMillis[src];
+            this.lastMillis[dst] = this.lastMillis[src];
+            this.values[dst] = this.values[src];
+            i += step;
+        }
+    }
+
+    /**
+     * Inserts an item at the specified index, growing the storage arrays if
+     * necessary.  Appending an item (or inserting one at the start of the
+     * series) does not move any existing items, otherwise the items on the
+     * shorter side of the insertion point are moved.  No event is sent.
+     *
+     * @param index  the index.
+     * @param key  the period serial index.
+     * @param period  the period.
+     * @param value  the value.
+     */
+    private void insertItem(int index, long key, RegularTimePeriod period,
+            double value) {
+        if (this.itemCount == this.values.length) {
+            int capacity = this.values.length * 2;
+            long[] pp = new long[capacity];
+            long[] ff = new long[capacity];
+            long[] ll = new long[capacity];
+            double[] vv = new double[capacity];
+            copyItems(0, this.itemCount, pp, ff, ll, vv);
+            this.periodIndices = pp;
+            this.firstMillis = ff;
+            this.lastMillis = ll;
+            this.values = vv;
+            this.head = 0;
+        }
+        if (index < this.itemCount / 2) {
+            // open a gap by moving the leading items back one place
+            this.head = (this.head == 0 ? this.values.length : this.head) - 1;
+            moveItems(1, index, -1);
+        }
+        else {
+            moveItems(index, this.itemCount - index, 1);
+        }
+        int i = slot(index);
+        this.periodIndices[i] = key;
+        this.firstMillis[i] = period.getFirstMillisecond(this.workingCalendar);
+        this.lastMillis[i] = period.getLastMillisecond(this.workingCalendar);
+        this.values[i] = value;
+        this.itemCount++;
+        itemAdded(index);
+    }
+
+    /**
+     * Removes the items from <code>start</code> to <code>end</code>
+     * inclusive.  Removing items from the start or end of the series takes
+     * constant time, otherwise the items on the shorter side of the removed
+     * range are moved.  No event is sent.
+     *
+     * @param start  the index of the first item to remove.
+     * @param end  the index of the last item to remove.
+     */
+    private void removeItems(int start, int end) {
+        checkIndex(start);
+        checkIndex(end);
+        int count = end - start + 1;
+        int tail = this.itemCount - end - 1;
+        if (start < tail) {
+            moveItems(0, start, count);
+            this.head = slot(count);
+        }
+        else {
+            moveItems(end + 1, tail, -count);
+        }
+        this.itemCount -= count;
+        if (this.itemCount == 0) {
+            this.head = 0;
+        }
+        itemsRemoved(start, end);
+    }
+
+    /**
+     * Removes the items that are more than the maximum item age before the
+     * period with the specified serial index.
+     *
+     * @param latest  the serial index of the latest period.
+     * @param notify  notify listeners if items are removed?
+     */
+    private void removeItemsBefore(long latest, boolean notify) {
+        long maxAge = getMaximumItemAge();
+        int count = 0;
+        while (count < this.itemCount
+                && (latest - this.periodIndices[slot(count)]) > maxAge) {
+            count++;
+        }
+        if (count > 0) {
+            removeItems(0, count - 1);
+            if (notify) {
+                fireSeriesChanged();
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of this series containing the specified items.
+     *
+     * @param start  the index of the first item.
+     * @param count  the number of items.
+     *
+     * @return The copy.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    private CompactTimeSeries copyRange(int start, int count)
+            throws CloneNotSupportedException {
+        CompactTimeSeries copy = (CompactTimeSeries) super.clone();
+        int capacity = Math.max(count, 1);
+        copy.workingCalendar = (Calendar) this.workingCalendar.clone();
+        copy.periodIndices = new long[capacity];
+        copy.firstMillis = new long[capacity];
+        copy.lastMillis = new long[capacity];
+        copy.values = new double[capacity];
+        copyItems(start, count, copy.periodIndices, copy.firstMillis,
+                copy.lastMillis, copy.values);
+        copy.head = 0;
+        copy.itemCount = count;
+        return copy;
+    }
+
+    /**
+     * Checks that an item index is valid.
+     *
+     * @param index  the index.
+     *
+     * @throws IndexOutOfBoundsException if the index is not valid.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.itemCount);
+        }
+    }
+
+    /**
+     * Converts a <code>Number</code> to a double, mapping <code>null</code>
+     * to <code>Double.NaN</code>.
+     *
+     * @param n  the number (<code>null</code> permitted).
+     *
+     * @return The double value.
+     */
+    private static double toDouble(Number n) {
+        return (n != null ? n.doubleValue() : Double.NaN);
+    }
+
+    /**
+     * Converts a double to a <code>Number</code>, mapping
+     * <code>Double.NaN</code> to <code>null</code>.
+     *
+     * @param d  the value.
+     *
+     * @return The number (possibly <code>null</code>).
+     */
+    private static Number toNumber(double d) {
+        return (Double.isNaN(d) ? null : new Double(d));
+    }
+
+}
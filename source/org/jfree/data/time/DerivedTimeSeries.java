@@ -0,0 +1,340 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ----------------------
+ * DerivedTimeSeries.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.general.SeriesChangeType;
+import org.jfree.data.statistics.RollingStatistic;
+
+/**
+ * A time series that is derived from another time series by applying a
+ * {@link RollingStatistic} (for example a
+ * {@link org.jfree.data.statistics.SimpleMovingAverage}) to its values.  The
+ * derived series has one item for each item in the source series, with the
+ * same time period, and is an ordinary {@link TimeSeries} that can be added
+ * to a {@link TimeSeriesCollection}.
+ * <P>
+ * The derived series listens for changes to the source series and uses the
+ * summary in each {@link SeriesChangeEvent} to do as little work as
+ * possible: items appended to the source are processed in constant time
+ * each, a change to an existing item recalculates the items from that point
+ * on (for a windowed statistic, only the values in the window before the
+ * change are read again), and items removed from the start of the source
+ * (for example by the maximum item count or age) are removed from the
+ * derived series without changing the remaining values.  When the source
+ * combines several kinds of change in one event, the derived series matches
+ * its last time period against the source to find the new items.  Changes
+ * to other existing items that are combined with those in the same event
+ * (which can only happen while the source's notification is switched off)
+ * are not detected, call {@link #recalculate()} after such changes.
+ * <P>
+ * The derived series should not be modified directly.  To stop it from
+ * tracking the source, remove it as a listener from the source series.
+ *
+ * @since 1.0.13
+ */
+public class DerivedTimeSeries extends TimeSeries
+        implements SeriesChangeListener {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -7356380468719341386L;
+
+    /** The source series. */
+    private TimeSeries source;
+
+    /** The statistic. */
+    private RollingStatistic statistic;
+
+    /**
+     * The value of the last source item processed (<code>Double.NaN</code>
+     * for <code>null</code>).
+     */
+    private double lastSourceValue;
+
+    /**
+     * Creates a new series that tracks the source series.
+     *
+     * @param name  the series name (<code>null</code> not permitted).
+     * @param source  the source series (<code>null</code> not permitted).
+     * @param statistic  the statistic (<code>null</code> not permitted).
+     *     This instance holds the state for the series, so it should not
+     *     be shared.
+     */
+    public DerivedTimeSeries(Comparable name, TimeSeries source,
+            RollingStatistic statistic) {
+        super(name, checkSource(source).getTimePeriodClass());
+        if (statistic == null) {
+            throw new IllegalArgumentException("Null 'statistic' argument.");
+        }
+        this.source = source;
+        this.statistic = statistic;
+        this.source.addChangeListener(this);
+        recalculateFrom(0);
+    }
+
+    /**
+     * Checks the source argument for the constructor.
+     *
+     * @param source  the source series.
+     *
+     * @return The source series.
+     */
+    private static TimeSeries checkSource(TimeSeries source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Null 'source' argument.");
+        }
+        return source;
+    }
+
+    /**
+     * Returns the source series.
+     *
+     * @return The source series (never <code>null</code>).
+     */
+    public TimeSeries getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the statistic used to calculate the values in this series.
+     *
+     * @return The statistic (never <code>null</code>).
+     */
+    public RollingStatistic getStatistic() {
+        return this.statistic;
+    }
+
+    /**
+     * Recalculates all the items in this series from the source series, and
+     * sends a {@link SeriesChangeEvent} to all registered listeners.
+     */
+    public void recalculate() {
+        recalculateFrom(0);
+        fireSeriesChanged();
+    }
+
+    /**
+     * Receives notification of a change to the source series, and updates
+     * this series.
+     *
+     * @param event  the event.
+     */
+    public void seriesChanged(SeriesChangeEvent event) {
+        if (event.getSource() != this.source) {
+            return;
+        }
+        SeriesChangeInfo summary = event.getSummary();
+        int count = this.data.size();
+        if (summary == null
+                || summary.getType() == SeriesChangeType.STRUCTURE) {
+            synchronise();
+        }
+        else if (summary.getType() == SeriesChangeType.ADD) {
+            if (summary.getFirstItem() == count) {
+                append(count);
+            }
+            else {
+                recalculateFrom(Math.min(summary.getFirstItem(), count));
+            }
+        }
+        else if (summary.getType() == SeriesChangeType.REMOVE) {
+            if (summary.getFirstItem() == 0) {
+                removeFirst(Math.min(summary.getLastItem() + 1, count));
+            }
+            else {
+                recalculateFrom(Math.min(summary.getFirstItem(), count));
+            }
+        }
+        else {
+            recalculateFrom(Math.min(summary.getFirstItem(), count));
+        }
+        fireSeriesChanged();
+    }
+
+    /**
+     * Brings this series up to date after a change that was not described
+     * by a single range of items.  If the last time period in this series is
+     * still in the source series, items removed from the start of the
+     * source are removed from this series and any new items are appended,
+     * otherwise the whole series is recalculated.
+     */
+    private void synchronise() {
+        int count = this.data.size();
+        int sourceCount = this.source.getItemCount();
+        if (count == 0 || sourceCount == 0) {
+            recalculateFrom(0);
+            return;
+        }
+        int last = this.source.getIndex(getTimePeriod(count - 1));
+        int removed = count - 1 - last;
+        if (last < 0 || removed < 0 || !getTimePeriod(removed).equals(
+                this.source.getTimePeriod(0))) {
+            recalculateFrom(0);
+            return;
+        }
+        removeFirst(removed);
+        if (sameValue(getSourceValue(last), this.lastSourceValue)) {
+            append(last + 1);
+        }
+        else {
+            recalculateFrom(last);
+        }
+    }
+
+    /**
+     * Removes items from the start of this series.  The values of the
+     * remaining items, and the state of the statistic, are not changed
+     * unless the series is now empty.
+     *
+     * @param count  the number of items to remove.
+     */
+    private void removeFirst(int count) {
+        if (count > 0) {
+            this.data.subList(0, count).clear();
+            itemsRemoved(0, count - 1);
+        }
+        if (this.data.isEmpty()) {
+            this.statistic.reset();
+        }
+    }
+
+    /**
+     * Recalculates the items in this series from the specified index
+     * onwards.  For a windowed statistic only the source values in the
+     * window before the index are read again, otherwise the statistic is
+     * recalculated from the first item.
+     *
+     * @param index  the index of the first item to recalculate.
+     */
+    private void recalculateFrom(int index) {
+        int count = this.data.size();
+        if (index < count) {
+            this.data.subList(index, count).clear();
+            itemsRemoved(index, count - 1);
+        }
+        this.statistic.reset();
+        int window = this.statistic.getWindowSize();
+        int start = (window > 0 ? Math.max(0, index - window + 1) : 0);
+        for (int i = start; i < index; i++) {
+            this.lastSourceValue = getSourceValue(i);
+            this.statistic.add(this.lastSourceValue);
+        }
+        append(index);
+    }
+
+    /**
+     * Adds the items for the source items from the specified index onwards.
+     * The statistic must hold the state for the source items before the
+     * index.
+     *
+     * @param index  the index of the first source item to process.
+     */
+    private void append(int index) {
+        int sourceCount = this.source.getItemCount();
+        for (int i = index; i < sourceCount; i++) {
+            double value = getSourceValue(i);
+            double result = this.statistic.add(value);
+            this.data.add(new TimeSeriesDataItem(this.source.getTimePeriod(i),
+                    Double.isNaN(result) ? null : new Double(result)));
+            itemAdded(this.data.size() - 1);
+            this.lastSourceValue = value;
+        }
+    }
+
+    /**
+     * Returns a value from the source series.
+     *
+     * @param index  the item index.
+     *
+     * @return The value (<code>Double.NaN</code> for <code>null</code>).
+     */
+    private double getSourceValue(int index) {
+        Number n = this.source.getValue(index);
+        return (n != null ? n.doubleValue() : Double.NaN);
+    }
+
+    /**
+     * Returns <code>true</code> if two values are equal, treating
+     * <code>Double.NaN</code> as equal to itself.
+     *
+     * @param v1  the first value.
+     * @param v2  the second value.
+     *
+     * @return A boolean.
+     */
+    private static boolean sameValue(double v1, double v2) {
+        return v1 == v2 || (Double.isNaN(v1) && Double.isNaN(v2));
+    }
+
+    /**
+     * Returns a clone of the series.  The clone has its own copy of the
+     * statistic, but is not registered as a listener with the source series.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        DerivedTimeSeries clone = (DerivedTimeSeries) super.clone();
+        clone.statistic = (RollingStatistic) this.statistic.clone();
+        return clone;
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.source.addChangeListener(this);
+    }
+
+}
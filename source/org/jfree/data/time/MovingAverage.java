@@ -43,6 +43,9 @@
  *               getYValue() (DG);
  * 11-Jan-2005 : Removed deprecated code in preparation for the 1.0.0
  *               release (DG);
+ * 18-Oct-2026 : Calculate the moving averages in a single pass with a
+ *               sliding window (DG);
+ * 18-Oct-2026 : Use a compensated sum for the sliding window (DG);
  *
  */
 
@@ -53,7 +56,11 @@ import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
 
 /**
- * A utility class for calculating moving averages of time series data.
+ * A utility class for calculating moving averages of time series data.  The
+ * methods in this class create a new series from the current values in the
+ * source; to maintain a moving average as items are added to a series, use
+ * a {@link DerivedTimeSeries} (or {@link org.jfree.data.xy.DerivedXYSeries})
+ * instead.
  */
 public class MovingAverage {
 
@@ -123,8 +130,9 @@ public class MovingAverage {
         }
 
         TimeSeries result = new TimeSeries(name, source.getTimePeriodClass());
+        int itemCount = source.getItemCount();
 
-        if (source.getItemCount() > 0) {
+        if (itemCount > 0) {
 
             // if the initial averaging period is to be excluded, then
             // calculate the index of the
@@ -132,45 +140,39 @@ public class MovingAverage {
             long firstSerial
                     = source.getDataItem(0).getPeriod().getSerialIndex() + skip;
 
-            for (int i = source.getItemCount() - 1; i >= 0; i--) {
+            // the window holds the items from 'start' to 'i', and slides
+            // forward through the series...
+            WindowSum window = new WindowSum();
+            int start = 0;
+            for (int i = 0; i < itemCount; i++) {
 
                 // get the current data item...
                 TimeSeriesDataItem current = source.getDataItem(i);
                 RegularTimePeriod period = current.getPeriod();
                 long serial = period.getSerialIndex();
+                window.add(current.getValue());
+
+                // drop the items that are too old for this average...
+                long serialLimit = serial - periodCount;
+                while (start < i - periodCount + 1
+                        || source.getTimePeriod(start).getSerialIndex()
+                        <= serialLimit) {
+                    window.remove(source.getValue(start));
+                    start++;
+                }
+                if (window.isWindowBoundary()) {
+                    window.clear();
+                    for (int j = start; j <= i; j++) {
+                        window.add(source.getValue(j));
+                    }
+                }
 
                 if (serial >= firstSerial) {
-                    // work out the average for the earlier values...
-                    int n = 0;
-                    double sum = 0.0;
-                    long serialLimit = period.getSerialIndex() - periodCount;
-                    int offset = 0;
-                    boolean finished = false;
-
-                    while ((offset < periodCount) && (!finished)) {
-                        if ((i - offset) >= 0) {
-                            TimeSeriesDataItem item = source.getDataItem(
-                                    i - offset);
-                            RegularTimePeriod p = item.getPeriod();
-                            Number v = item.getValue();
-                            long currentIndex = p.getSerialIndex();
-                            if (currentIndex > serialLimit) {
-                                if (v != null) {
-                                    sum = sum + v.doubleValue();
-                                    n = n + 1;
-                                }
-                            }
-                            else {
-                                finished = true;
-                            }
-                        }
-                        offset = offset + 1;
-                    }
-                    if (n > 0) {
-                        result.add(period, sum / n);
+                    if (window.getCount() > 0) {
+                        result.add(period, window.getAverage(), false);
                     }
                     else {
-                        result.add(period, null);
+                        result.add(period, null, false);
                     }
                 }
 
@@ -310,53 +312,87 @@ public class MovingAverage {
         }
 
         XYSeries result = new XYSeries(name);
+        int itemCount = source.getItemCount(series);
 
-        if (source.getItemCount(series) > 0) {
+        if (itemCount > 0) {
 
             // if the initial averaging period is to be excluded, then
             // calculate the lowest x-value to have an average calculated...
             double first = source.getXValue(series, 0) + skip;
 
-            for (int i = source.getItemCount(series) - 1; i >= 0; i--) {
-
-                // get the current data item...
-                double x = source.getXValue(series, i);
-
-                if (x >= first) {
-                    // work out the average for the earlier values...
-                    int n = 0;
-                    double sum = 0.0;
+            if (isAscending(source, series)) {
+                // the window holds the items from 'start' to 'i', and slides
+                // forward through the series...
+                WindowSum window = new WindowSum();
+                int start = 0;
+                for (int i = 0; i < itemCount; i++) {
+                    double x = source.getXValue(series, i);
+                    window.add(source.getY(series, i));
                     double limit = x - period;
-                    int offset = 0;
-                    boolean finished = false;
-
-                    while (!finished) {
-                        if ((i - offset) >= 0) {
-                            double xx = source.getXValue(series, i - offset);
-                            Number yy = source.getY(series, i - offset);
-                            if (xx > limit) {
-                                if (yy != null) {
-                                    sum = sum + yy.doubleValue();
-                                    n = n + 1;
+                    while (start <= i
+                            && !(source.getXValue(series, start) > limit)) {
+                        window.remove(source.getY(series, start));
+                        start++;
+                    }
+                    if (window.isWindowBoundary()) {
+                        window.clear();
+                        for (int j = start; j <= i; j++) {
+                            window.add(source.getY(series, j));
+                        }
+                    }
+                    if (x >= first) {
+                        if (window.getCount() > 0) {
+                            result.add(x, window.getAverage());
+                        }
+                        else {
+                            result.add(x, null);
+                        }
+                    }
+                }
+            }
+            else {
+                for (int i = source.getItemCount(series) - 1; i >= 0; i--) {
+
+                    // get the current data item...
+                    double x = source.getXValue(series, i);
+
+                    if (x >= first) {
+                        // work out the average for the earlier values...
+                        int n = 0;
+                        double sum = 0.0;
+                        double limit = x - period;
+                        int offset = 0;
+                        boolean finished = false;
+
+                        while (!finished) {
+                            if ((i - offset) >= 0) {
+                                double xx = source.getXValue(series,
+                                        i - offset);
+                                Number yy = source.getY(series, i - offset);
+                                if (xx > limit) {
+                                    if (yy != null) {
+                                        sum = sum + yy.doubleValue();
+                                        n = n + 1;
+                                    }
+                                }
+                                else {
+                                    finished = true;
                                 }
                             }
                             else {
                                 finished = true;
                             }
+                            offset = offset + 1;
+                        }
+                        if (n > 0) {
+                            result.add(x, sum / n);
                         }
                         else {
-                            finished = true;
+                            result.add(x, null);
                         }
-                        offset = offset + 1;
                     }
-                    if (n > 0) {
-                        result.add(x, sum / n);
-                    }
-                    else {
-                        result.add(x, null);
-                    }
-                }
 
+                }
             }
         }
 
@@ -364,4 +400,173 @@ public class MovingAverage {
 
     }
 
+    /**
+     * Returns <code>true</code> if the x-values in a series are in ascending
+     * order (and none of them is <code>Double.NaN</code>), in which case the
+     * moving average can be calculated in a single pass.
+     *
+     * @param source  the dataset.
+     * @param series  the series index.
+     *
+     * @return A boolean.
+     */
+    private static boolean isAscending(XYDataset source, int series) {
+        double previous = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < source.getItemCount(series); i++) {
+            double x = source.getXValue(series, i);
+            if (!(x >= previous)) {
+                return false;
+            }
+            previous = x;
+        }
+        return true;
+    }
+
+    /**
+     * The sum of the values in a sliding window.  Values enter and leave the
+     * window one at a time, <code>null</code> values are ignored.  Infinite
+     * and <code>Double.NaN</code> values are counted rather than summed, so
+     * that they do not affect the average once they have left the window.
+     * <P>
+     * The finite values are summed with a compensation term (Neumaier's
+     * variant of Kahan summation), so that a large value leaving the window
+     * does not take the small values with it.  The caller should also
+     * recalculate the sum from the window contents whenever
+     * {@link #isWindowBoundary()} returns <code>true</code>, so that the
+     * remaining rounding errors do not accumulate across the series.
+     */
+    private static class WindowSum {
+
+        /** The sum of the finite values. */
+        private double sum;
+
+        /** The low order part of the sum, lost to rounding in 'sum'. */
+        private double compensation;
+
+        /** The number of values removed since the sum was recalculated. */
+        private int removed;
+
+        /** The number of (non-<code>null</code>) values. */
+        private int count;
+
+        /** The number of <code>Double.NaN</code> values. */
+        private int nanCount;
+
+        /** The number of positive infinite values. */
+        private int positiveCount;
+
+        /** The number of negative infinite values. */
+        private int negativeCount;
+
+        /**
+         * Adds a value to the window.
+         *
+         * @param value  the value (<code>null</code> permitted).
+         */
+        public void add(Number value) {
+            if (value != null) {
+                update(value.doubleValue(), 1);
+            }
+        }
+
+        /**
+         * Removes a value from the window.
+         *
+         * @param value  the value (<code>null</code> permitted).
+         */
+        public void remove(Number value) {
+            if (value != null) {
+                update(value.doubleValue(), -1);
+                this.removed++;
+            }
+        }
+
+        /**
+         * Returns <code>true</code> if every value that was in the window
+         * when the sum was last calculated from scratch has since been
+         * removed.  Recalculating the sum at these points costs no more than
+         * the values that have passed through the window.
+         *
+         * @return A boolean.
+         */
+        public boolean isWindowBoundary() {
+            return this.removed > 0 && this.removed >= this.count;
+        }
+
+        /**
+         * Removes all values from the window.
+         */
+        public void clear() {
+            this.sum = 0.0;
+            this.compensation = 0.0;
+            this.removed = 0;
+            this.count = 0;
+            this.nanCount = 0;
+            this.positiveCount = 0;
+            this.negativeCount = 0;
+        }
+
+        /**
+         * Adds or removes a value.
+         *
+         * @param v  the value.
+         * @param delta  1 to add the value, -1 to remove it.
+         */
+        private void update(double v, int delta) {
+            this.count += delta;
+            if (Double.isNaN(v)) {
+                this.nanCount += delta;
+            }
+            else if (v == Double.POSITIVE_INFINITY) {
+                this.positiveCount += delta;
+            }
+            else if (v == Double.NEGATIVE_INFINITY) {
+                this.negativeCount += delta;
+            }
+            else {
+                double x = delta * v;
+                double t = this.sum + x;
+                if (Math.abs(this.sum) >= Math.abs(x)) {
+                    this.compensation += (this.sum - t) + x;
+                }
+                else {
+                    this.compensation += (x - t) + this.sum;
+                }
+                this.sum = t;
+            }
+            if (this.count == 0) {
+                clear();
+            }
+        }
+
+        /**
+         * Returns the number of (non-<code>null</code>) values in the window.
+         *
+         * @return The count.
+         */
+        public int getCount() {
+            return this.count;
+        }
+
+        /**
+         * Returns the average of the values in the window.
+         *
+         * @return The average.
+         */
+        public double getAverage() {
+            if (this.nanCount > 0
+                    || (this.positiveCount > 0 && this.negativeCount > 0)) {
+                return Double.NaN;
+            }
+            if (this.positiveCount > 0) {
+                return Double.POSITIVE_INFINITY;
+            }
+            if (this.negativeCount > 0) {
+                return Double.NEGATIVE_INFINITY;
+            }
+            return (this.sum + this.compensation) / this.count;
+        }
+
+    }
+
 }
@@ -74,6 +74,10 @@
  * 21-Nov-2007 : Fixed clone() method (bug 1832432) (DG);
  * 10-Jan-2008 : Fixed createCopy(RegularTimePeriod, RegularTimePeriod) (bug
  *               1864222) (DG);
+ * 18-Oct-2026 : Added an index for the values, with new methods getMinY(),
+ *               getMaxY() and getValueRange() (DG);
+ * 18-Oct-2026 : Record a summary of each change for the change events (DG);
+ * 18-Oct-2026 : Rebuild value index after an unrecorded change (DG);
  *
  */
 
@@ -88,13 +92,26 @@ import java.util.Date;
 import java.util.List;
 import java.util.TimeZone;
 
+import org.jfree.data.Range;
+import org.jfree.data.general.MinMaxIndex;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.general.SeriesException;
 import org.jfree.util.ObjectUtilities;
 
 /**
  * Represents a sequence of zero or more data items in the form (period, value).
+ * <P>
+ * The series keeps an index of the minimum and maximum values (see
+ * {@link MinMaxIndex}), so that the range of the values in the series, or in
+ * a subrange of the items, can be found without iterating over all the
+ * items.  The index is updated by the methods that modify the series.  If
+ * you change a data item directly, call {@link #fireSeriesChanged()}
+ * afterwards, which also discards the index so that it is rebuilt when next
+ * needed.  A subclass that modifies the <code>data</code> list directly
+ * should update the index by calling the {@link #itemAdded(int)},
+ * {@link #itemsRemoved(int, int)} or {@link #itemChanged(int)} method.
  */
 public class TimeSeries extends Series implements Cloneable, Serializable {
 
@@ -128,6 +145,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      */
     private long maximumItemAge;
 
+    /** An index of the values (created on demand, not serialized). */
+    private transient MinMaxIndex valueIndex;
+
     /**
      * Creates a new (empty) time series.  By default, a daily time series is
      * created.  Use one of the other constructors if you require a different
@@ -326,7 +346,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     }
 
     /**
-     * Returns a data item for the series.
+     * Returns a data item for the series.  If you modify the item, call
+     * {@link #fireSeriesChanged()} afterwards.
      *
      * @param index  the item index (zero-based).
      *
@@ -463,6 +484,151 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
 
     }
 
+    /**
+     * Returns the smallest value in the series, ignoring any
+     * <code>null</code> and <code>Double.NaN</code> values.
+     *
+     * @return The smallest value (<code>Double.NaN</code> if the series
+     *     contains no values).
+     *
+     * @see #getMaxY()
+     *
+     * @since 1.0.13
+     */
+    public double getMinY() {
+        Range r = getValueIndex().getRange();
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the largest value in the series, ignoring any
+     * <code>null</code> and <code>Double.NaN</code> values.
+     *
+     * @return The largest value (<code>Double.NaN</code> if the series
+     *     contains no values).
+     *
+     * @see #getMinY()
+     *
+     * @since 1.0.13
+     */
+    public double getMaxY() {
+        Range r = getValueIndex().getRange();
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the values for the items from <code>start</code>
+     * to <code>end</code> inclusive, ignoring any <code>null</code> and
+     * <code>Double.NaN</code> values.
+     *
+     * @param start  the index of the first item.
+     * @param end  the index of the last item.
+     *
+     * @return The range (<code>null</code> if there are no values in the
+     *     specified items).
+     *
+     * @since 1.0.13
+     */
+    public Range getValueRange(int start, int end) {
+        return getValueIndex().getRange(start, end);
+    }
+
+    /**
+     * Sends a change event to all registered listeners.  If no change has
+     * been recorded by the methods that modify the series, the items may
+     * have been changed directly, so the value index is discarded (it is
+     * rebuilt when next needed).
+     */
+    public void fireSeriesChanged() {
+        if (!hasRecordedChange() && this.valueIndex != null) {
+            this.valueIndex.invalidate();
+        }
+        super.fireSeriesChanged();
+    }
+
+    /**
+     * Returns the index of the values, creating it if necessary.
+     *
+     * @return The index.
+     */
+    private MinMaxIndex getValueIndex() {
+        if (this.valueIndex == null) {
+            this.valueIndex = new MinMaxIndex() {
+                protected int getItemCount() {
+                    return TimeSeries.this.getItemCount();
+                }
+                protected double getValue(int index) {
+                    Number n = TimeSeries.this.getValue(index);
+                    return (n != null ? n.doubleValue() : Double.NaN);
+                }
+            };
+        }
+        return this.valueIndex;
+    }
+
+    /**
+     * Updates the value index after an item has been added to the series,
+     * and records the change for the next {@link SeriesChangeEvent}.  This
+     * method is called by the methods that add items to the series,
+     * subclasses that modify the <code>data</code> list directly should call
+     * it too.
+     *
+     * @param index  the index of the new item.
+     *
+     * @since 1.0.13
+     */
+    protected void itemAdded(int index) {
+        recordChange(SeriesChangeType.ADD, index, index);
+        if (this.valueIndex == null) {
+            return;
+        }
+        if (index == getItemCount() - 1) {
+            Number n = getValue(index);
+            this.valueIndex.itemAppended(n != null ? n.doubleValue()
+                    : Double.NaN);
+        }
+        else {
+            this.valueIndex.invalidate();
+        }
+    }
+
+    /**
+     * Updates the value index after the items from <code>start</code> to
+     * <code>end</code> inclusive have been removed from the series, and
+     * records the change for the next {@link SeriesChangeEvent}.  This
+     * method is called by the methods that remove items from the series,
+     * subclasses that modify the <code>data</code> list directly should call
+     * it too.
+     *
+     * @param start  the index of the first item removed.
+     * @param end  the index of the last item removed.
+     *
+     * @since 1.0.13
+     */
+    protected void itemsRemoved(int start, int end) {
+        recordChange(SeriesChangeType.REMOVE, start, end);
+        if (this.valueIndex != null) {
+            this.valueIndex.itemsRemoved(start, end);
+        }
+    }
+
+    /**
+     * Updates the value index after the value of an item has changed, and
+     * records the change for the next {@link SeriesChangeEvent}.  This
+     * method is called by the methods that update items in the series, if
+     * you change a data item directly you should call it too.
+     *
+     * @param index  the index of the item.
+     *
+     * @since 1.0.13
+     */
+    protected void itemChanged(int index) {
+        recordChange(SeriesChangeType.UPDATE, index, index);
+        if (this.valueIndex != null) {
+            this.valueIndex.itemChanged(index);
+        }
+    }
+
     /**
      * Adds a data item to the series and sends a
      * {@link org.jfree.data.general.SeriesChangeEvent} to all registered
@@ -504,18 +670,21 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         int count = getItemCount();
         if (count == 0) {
             this.data.add(item);
+            itemAdded(0);
             added = true;
         }
         else {
             RegularTimePeriod last = getTimePeriod(getItemCount() - 1);
             if (item.getPeriod().compareTo(last) > 0) {
                 this.data.add(item);
+                itemAdded(count);
                 added = true;
             }
             else {
                 int index = Collections.binarySearch(this.data, item);
                 if (index < 0) {
                     this.data.add(-index - 1, item);
+                    itemAdded(-index - 1);
                     added = true;
                 }
                 else {
@@ -534,6 +703,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
                 this.data.remove(0);
+                itemsRemoved(0, 0);
             }
 
             removeAgedItems(false);  // remove old items if necessary, but
@@ -613,6 +783,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         if (index >= 0) {
             TimeSeriesDataItem pair = (TimeSeriesDataItem) this.data.get(index);
             pair.setValue(value);
+            itemChanged(index);
             fireSeriesChanged();
         }
         else {
@@ -632,6 +803,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     public void update(int index, Number value) {
         TimeSeriesDataItem item = getDataItem(index);
         item.setValue(value);
+        itemChanged(index);
         fireSeriesChanged();
     }
 
@@ -701,6 +873,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
                 = (TimeSeriesDataItem) this.data.get(index);
             overwritten = (TimeSeriesDataItem) existing.clone();
             existing.setValue(value);
+            itemChanged(index);
             removeAgedItems(false);  // remove old items if necessary, but
                                      // don't notify anyone, because that
                                      // happens next anyway...
@@ -708,10 +881,12 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         }
         else {
             this.data.add(-index - 1, new TimeSeriesDataItem(period, value));
+            itemAdded(-index - 1);
 
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
                 this.data.remove(0);
+                itemsRemoved(0, 0);
             }
 
             removeAgedItems(false);  // remove old items if necessary, but
@@ -736,14 +911,17 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         // count...
         if (getItemCount() > 1) {
             long latest = getTimePeriod(getItemCount() - 1).getSerialIndex();
-            boolean removed = false;
+            int removed = 0;
             while ((latest - getTimePeriod(0).getSerialIndex())
                     > this.maximumItemAge) {
                 this.data.remove(0);
-                removed = true;
+                removed++;
             }
-            if (removed && notify) {
-                fireSeriesChanged();
+            if (removed > 0) {
+                itemsRemoved(0, removed - 1);
+                if (notify) {
+                    fireSeriesChanged();
+                }
             }
         }
     }
@@ -783,14 +961,17 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
 
         // check if there are any values earlier than specified by the history
         // count...
-        boolean removed = false;
+        int removed = 0;
         while (getItemCount() > 0 && (index
                 - getTimePeriod(0).getSerialIndex()) > this.maximumItemAge) {
             this.data.remove(0);
-            removed = true;
+            removed++;
         }
-        if (removed && notify) {
-            fireSeriesChanged();
+        if (removed > 0) {
+            itemsRemoved(0, removed - 1);
+            if (notify) {
+                fireSeriesChanged();
+            }
         }
     }
 
@@ -800,7 +981,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      */
     public void clear() {
         if (this.data.size() > 0) {
+            int count = this.data.size();
             this.data.clear();
+            itemsRemoved(0, count - 1);
             fireSeriesChanged();
         }
     }
@@ -817,6 +1000,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         int index = getIndex(period);
         if (index >= 0) {
             this.data.remove(index);
+            itemsRemoved(index, index);
             fireSeriesChanged();
         }
     }
@@ -834,6 +1018,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         for (int i = 0; i <= (end - start); i++) {
             this.data.remove(start);
         }
+        itemsRemoved(start, end);
         fireSeriesChanged();
     }
 
@@ -855,6 +1040,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     public Object clone() throws CloneNotSupportedException {
         TimeSeries clone = (TimeSeries) super.clone();
         clone.data = (List) ObjectUtilities.deepClone(this.data);
+        clone.valueIndex = null;
         return clone;
     }
 
@@ -882,6 +1068,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         TimeSeries copy = (TimeSeries) super.clone();
 
         copy.data = new java.util.ArrayList();
+        copy.valueIndex = null;
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
                 TimeSeriesDataItem item
@@ -944,6 +1131,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         if (emptyRange) {
             TimeSeries copy = (TimeSeries) super.clone();
             copy.data = new java.util.ArrayList();
+            copy.valueIndex = null;
             return copy;
         }
         else {
@@ -77,6 +77,10 @@
  *               by x-value (ascending) (DG);
  * 08-May-2007 : Added indexOf(TimeSeries) method (DG);
  * 18-Jan-2008 : Changed getSeries(String) to getSeries(Comparable) (DG);
+ * 18-Oct-2026 : Read x and y-values directly from CompactTimeSeries
+ *               instances, added getYValue() override (DG);
+ * 18-Oct-2026 : Implemented RangeInfo and XYRangeInfo (DG);
+ * 18-Oct-2026 : Added getSeriesIndex(Series) override (DG);
  *
  */
 
@@ -93,10 +97,13 @@ import java.util.TimeZone;
 import org.jfree.data.DomainInfo;
 import org.jfree.data.DomainOrder;
 import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.Series;
 import org.jfree.data.xy.AbstractIntervalXYDataset;
 import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYRangeInfo;
 import org.jfree.util.ObjectUtilities;
 
 /**
@@ -104,9 +111,14 @@ import org.jfree.util.ObjectUtilities;
  * {@link org.jfree.data.xy.XYDataset} interface, as well as the extended
  * {@link IntervalXYDataset} interface.  This makes it a convenient dataset for
  * use with the {@link org.jfree.chart.plot.XYPlot} class.
+ * <P>
+ * The {@link RangeInfo} and {@link XYRangeInfo} methods use the value index
+ * maintained by each series, so finding the range of the y-values does not
+ * require iterating over all the data items.
  */
 public class TimeSeriesCollection extends AbstractIntervalXYDataset
-        implements XYDataset, IntervalXYDataset, DomainInfo, Serializable {
+        implements XYDataset, IntervalXYDataset, DomainInfo, RangeInfo,
+                   XYRangeInfo, Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = 834149929022371137L;
@@ -286,6 +298,27 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         return this.data.indexOf(series);
     }
 
+    /**
+     * Returns the index of the specified series in this collection, or -1.
+     * Unlike {@link #indexOf(TimeSeries)}, this method tests for the same
+     * instance rather than an equal series.
+     *
+     * @param series  the series (<code>null</code> permitted).
+     *
+     * @return The series index, or -1.
+     *
+     * @since 1.0.13
+     */
+    protected int getSeriesIndex(Series series) {
+        int count = this.data.size();
+        for (int i = 0; i < count; i++) {
+            if (this.data.get(i) == series) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Returns a series.
      *
@@ -418,6 +451,10 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      */
     public double getXValue(int series, int item) {
         TimeSeries s = (TimeSeries) this.data.get(series);
+        CompactTimeSeries cs = getCompactSeries(s);
+        if (cs != null) {
+            return getX(cs, item);
+        }
         TimeSeriesDataItem i = s.getDataItem(item);
         RegularTimePeriod period = i.getPeriod();
         return getX(period);
@@ -433,6 +470,10 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      */
     public Number getX(int series, int item) {
         TimeSeries ts = (TimeSeries) this.data.get(series);
+        CompactTimeSeries cs = getCompactSeries(ts);
+        if (cs != null) {
+            return new Long(getX(cs, item));
+        }
         TimeSeriesDataItem dp = ts.getDataItem(item);
         RegularTimePeriod period = dp.getPeriod();
         return new Long(getX(period));
@@ -459,6 +500,50 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         return result;
     }
 
+    /**
+     * Returns the x-value for an item in a {@link CompactTimeSeries}, read
+     * directly from the time period bounds stored in the series.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    private long getX(CompactTimeSeries series, int item) {
+        long result = 0L;
+        if (this.xPosition == TimePeriodAnchor.START) {
+            result = series.getFirstMillisecond(item);
+        }
+        else if (this.xPosition == TimePeriodAnchor.MIDDLE) {
+            long m1 = series.getFirstMillisecond(item);
+            long m2 = series.getLastMillisecond(item);
+            result = m1 + (m2 - m1) / 2;
+        }
+        else if (this.xPosition == TimePeriodAnchor.END) {
+            result = series.getLastMillisecond(item);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the series cast to a {@link CompactTimeSeries} if it is an
+     * instance of that class AND it evaluates its time periods using the
+     * same time zone as this collection, otherwise returns <code>null</code>.
+     *
+     * @param series  the series.
+     *
+     * @return The compact series, or <code>null</code>.
+     */
+    private CompactTimeSeries getCompactSeries(TimeSeries series) {
+        if (series instanceof CompactTimeSeries) {
+            CompactTimeSeries cs = (CompactTimeSeries) series;
+            if (cs.getTimeZone().equals(this.workingCalendar.getTimeZone())) {
+                return cs;
+            }
+        }
+        return null;
+    }
+
     /**
      * Returns the starting X value for the specified series and item.
      *
@@ -469,6 +554,10 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      */
     public synchronized Number getStartX(int series, int item) {
         TimeSeries ts = (TimeSeries) this.data.get(series);
+        CompactTimeSeries cs = getCompactSeries(ts);
+        if (cs != null) {
+            return new Long(cs.getFirstMillisecond(item));
+        }
         TimeSeriesDataItem dp = ts.getDataItem(item);
         return new Long(dp.getPeriod().getFirstMillisecond(
                 this.workingCalendar));
@@ -484,6 +573,10 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      */
     public synchronized Number getEndX(int series, int item) {
         TimeSeries ts = (TimeSeries) this.data.get(series);
+        CompactTimeSeries cs = getCompactSeries(ts);
+        if (cs != null) {
+            return new Long(cs.getLastMillisecond(item));
+        }
         TimeSeriesDataItem dp = ts.getDataItem(item);
         return new Long(dp.getPeriod().getLastMillisecond(
                 this.workingCalendar));
@@ -499,8 +592,28 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      */
     public Number getY(int series, int item) {
         TimeSeries ts = (TimeSeries) this.data.get(series);
-        TimeSeriesDataItem dp = ts.getDataItem(item);
-        return dp.getValue();
+        return ts.getValue(item);
+    }
+
+    /**
+     * Returns the y-value (as a double primitive) for an item within a
+     * series.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The y-value (<code>Double.NaN</code> for a <code>null</code>
+     *     value).
+     *
+     * @since 1.0.13
+     */
+    public double getYValue(int series, int item) {
+        TimeSeries ts = (TimeSeries) this.data.get(series);
+        if (ts instanceof CompactTimeSeries) {
+            return ((CompactTimeSeries) ts).getDoubleValue(item);
+        }
+        Number y = ts.getValue(item);
+        return (y != null ? y.doubleValue() : Double.NaN);
     }
 
     /**
@@ -603,7 +716,19 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         while (iterator.hasNext()) {
             TimeSeries series = (TimeSeries) iterator.next();
             int count = series.getItemCount();
-            if (count > 0) {
+            CompactTimeSeries cs = getCompactSeries(series);
+            if (count > 0 && cs != null) {
+                Range temp;
+                if (!includeInterval) {
+                    temp = new Range(getX(cs, 0), getX(cs, count - 1));
+                }
+                else {
+                    temp = new Range(cs.getFirstMillisecond(0),
+                            cs.getLastMillisecond(count - 1));
+                }
+                result = Range.combine(result, temp);
+            }
+            else if (count > 0) {
                 RegularTimePeriod start = series.getTimePeriod(0);
                 RegularTimePeriod end = series.getTimePeriod(count - 1);
                 Range temp;
@@ -621,6 +746,144 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         return result;
     }
 
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account (ignored,
+     *                         since the y-interval is always zero for this
+     *                         dataset).
+     *
+     * @return The minimum value (<code>Double.NaN</code> if the dataset
+     *     contains no y-values).
+     *
+     * @since 1.0.13
+     */
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account (ignored,
+     *                         since the y-interval is always zero for this
+     *                         dataset).
+     *
+     * @return The maximum value (<code>Double.NaN</code> if the dataset
+     *     contains no y-values).
+     *
+     * @since 1.0.13
+     */
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account (ignored,
+     *                         since the y-interval is always zero for this
+     *                         dataset).
+     *
+     * @return The range (<code>null</code> if the dataset contains no
+     *     y-values).
+     *
+     * @since 1.0.13
+     */
+    public Range getRangeBounds(boolean includeInterval) {
+        Range result = null;
+        Iterator iterator = this.data.iterator();
+        while (iterator.hasNext()) {
+            TimeSeries series = (TimeSeries) iterator.next();
+            double minY = series.getMinY();
+            if (!Double.isNaN(minY)) {
+                result = Range.combine(result, new Range(minY,
+                        series.getMaxY()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset for the specified
+     * series, considering only the items with x-values in the given range.
+     * The items are found with a binary search on the x-values, so this
+     * method does not need to look at every item in the range.
+     *
+     * @param visibleSeriesKeys  the keys for the series to include
+     *     (<code>null</code> not permitted).
+     * @param xRange  the x-range (<code>null</code> not permitted).
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account (ignored,
+     *                         since the y-interval is always zero for this
+     *                         dataset).
+     *
+     * @return The range (possibly <code>null</code>).
+     *
+     * @since 1.0.13
+     */
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        if (visibleSeriesKeys == null) {
+            throw new IllegalArgumentException(
+                    "Null 'visibleSeriesKeys' argument.");
+        }
+        if (xRange == null) {
+            throw new IllegalArgumentException("Null 'xRange' argument.");
+        }
+        Range result = null;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            Comparable key = (Comparable) iterator.next();
+            int series = indexOf(key);
+            if (series < 0) {
+                throw new IllegalArgumentException("Unrecognised series key: "
+                        + key);
+            }
+            int start = findItemIndex(series, xRange.getLowerBound(), false);
+            int end = findItemIndex(series, xRange.getUpperBound(), true) - 1;
+            if (start <= end) {
+                result = Range.combine(result,
+                        getSeries(series).getValueRange(start, end));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the index of the first item in a series with an x-value
+     * greater than (or, if <code>inclusive</code> is <code>false</code>, equal
+     * to) the specified value.
+     *
+     * @param series  the series index.
+     * @param x  the x-value.
+     * @param inclusive  include items with an x-value equal to
+     *     <code>x</code> in the search?
+     *
+     * @return The item index (in the range <code>0</code> to
+     *     <code>getItemCount(series)</code>).
+     */
+    private int findItemIndex(int series, double x, boolean inclusive) {
+        int low = 0;
+        int high = getItemCount(series);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            double v = getXValue(series, mid);
+            if (v < x || (inclusive && v == x)) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
     /**
      * Tests this time series collection for equality with another object.
      *
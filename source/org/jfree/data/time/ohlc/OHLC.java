@@ -35,6 +35,7 @@
  * Changes
  * -------
  * 04-Dec-2006 : Version 1 (DG);
+ * 18-Oct-2026 : Added volume (DG);
  *
  */
 
@@ -62,6 +63,9 @@ public class OHLC implements Serializable {
     /** The low value. */
     private double low;
 
+    /** The volume (<code>Double.NaN</code> if not recorded). */
+    private double volume;
+
     /**
      * Creates a new instance of <code>OHLC</code>.
      *
@@ -71,10 +75,27 @@ public class OHLC implements Serializable {
      * @param low  the low value.
      */
     public OHLC(double open, double high, double low, double close) {
+        this(open, high, low, close, Double.NaN);
+    }
+
+    /**
+     * Creates a new instance of <code>OHLC</code> that includes a volume.
+     *
+     * @param open  the open value.
+     * @param high  the high value.
+     * @param low  the low value.
+     * @param close  the close value.
+     * @param volume  the volume (<code>Double.NaN</code> if not recorded).
+     *
+     * @since 1.0.13
+     */
+    public OHLC(double open, double high, double low, double close,
+            double volume) {
         this.open = open;
         this.close = close;
         this.high = high;
         this.low = low;
+        this.volume = volume;
     }
 
     /**
@@ -113,6 +134,17 @@ public class OHLC implements Serializable {
         return this.low;
     }
 
+    /**
+     * Returns the volume.
+     *
+     * @return The volume (<code>Double.NaN</code> if not recorded).
+     *
+     * @since 1.0.13
+     */
+    public double getVolume() {
+        return this.volume;
+    }
+
     /**
      * Tests this instance for equality with an arbitrary object.
      *
@@ -140,6 +172,10 @@ public class OHLC implements Serializable {
         if (this.low != that.low) {
             return false;
         }
+        if (Double.doubleToLongBits(this.volume)
+                != Double.doubleToLongBits(that.volume)) {
+            return false;
+        }
         return true;
     }
 
@@ -0,0 +1,331 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------
+ * OHLCAggregator.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.time.ohlc;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.jfree.data.time.RegularTimePeriod;
+
+/**
+ * Aggregates a stream of (time, price, volume) ticks into open-high-low-close
+ * bars in one or more {@link OHLCSeries}, each with its own time period
+ * class (for example, {@link org.jfree.data.time.Minute} bars in one series
+ * and {@link org.jfree.data.time.Hour} bars in another, from the same feed).
+ * The series can be added to an {@link OHLCSeriesCollection} and displayed
+ * with a {@link org.jfree.chart.renderer.xy.CandlestickRenderer} or
+ * {@link org.jfree.chart.renderer.xy.HighLowRenderer}.
+ * <P>
+ * The values for the open (most recent) bar in each series are held in
+ * fields of the aggregator, so a tick that falls within the open bar does
+ * not create any objects and does not change the series.  When a tick
+ * starts a new bar, the final values of the previous bar are written to the
+ * series, the new bar is added, and a single
+ * {@link org.jfree.data.general.SeriesChangeEvent} is sent.  To show the
+ * latest values of the open bars in between, call {@link #flush()} (for
+ * example, from a timer that runs at the chart's refresh rate).
+ * <P>
+ * Ticks are expected in time order.  A tick that is earlier than the open
+ * bar for a series is ignored for that series.  If a series already
+ * contains an item for the period of a new bar, that item is continued
+ * rather than replaced.
+ * <P>
+ * This class is not thread-safe.
+ *
+ * @since 1.0.13
+ */
+public class OHLCAggregator {
+
+    /** The time zone used to create the time periods. */
+    private TimeZone zone;
+
+    /** A calendar for the time zone. */
+    private Calendar calendar;
+
+    /** The bars (one for each series). */
+    private List bars;
+
+    /**
+     * Creates a new aggregator that uses the default time zone.
+     */
+    public OHLCAggregator() {
+        this(TimeZone.getDefault());
+    }
+
+    /**
+     * Creates a new aggregator.
+     *
+     * @param zone  the time zone used to create the time periods
+     *     (<code>null</code> not permitted).
+     */
+    public OHLCAggregator(TimeZone zone) {
+        if (zone == null) {
+            throw new IllegalArgumentException("Null 'zone' argument.");
+        }
+        this.zone = zone;
+        this.calendar = Calendar.getInstance(zone);
+        this.bars = new java.util.ArrayList();
+    }
+
+    /**
+     * Returns the time zone used to create the time periods.
+     *
+     * @return The time zone (never <code>null</code>).
+     */
+    public TimeZone getTimeZone() {
+        return this.zone;
+    }
+
+    /**
+     * Adds a series that will receive bars for the specified time period
+     * class.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     * @param periodClass  the time period class (<code>null</code> not
+     *     permitted).  This must be a subclass of {@link RegularTimePeriod}
+     *     with a constructor that takes a <code>Date</code> and a
+     *     <code>TimeZone</code>.
+     */
+    public void addSeries(OHLCSeries series, Class periodClass) {
+        if (series == null) {
+            throw new IllegalArgumentException("Null 'series' argument.");
+        }
+        if (periodClass == null) {
+            throw new IllegalArgumentException("Null 'periodClass' argument.");
+        }
+        if (!RegularTimePeriod.class.isAssignableFrom(periodClass)
+                || RegularTimePeriod.createInstance(periodClass, new Date(0L),
+                this.zone) == null) {
+            throw new IllegalArgumentException(
+                    "Unsupported 'periodClass' argument.");
+        }
+        this.bars.add(new Bar(series, periodClass));
+    }
+
+    /**
+     * Returns the number of series that receive bars from this aggregator.
+     *
+     * @return The series count.
+     */
+    public int getSeriesCount() {
+        return this.bars.size();
+    }
+
+    /**
+     * Returns a series that receives bars from this aggregator.
+     *
+     * @param index  the series index (zero-based).
+     *
+     * @return The series.
+     */
+    public OHLCSeries getSeries(int index) {
+        return ((Bar) this.bars.get(index)).series;
+    }
+
+    /**
+     * Adds a tick to the bars for all series.
+     *
+     * @param time  the time of the tick (in milliseconds since
+     *     1-Jan-1970 GMT).
+     * @param price  the price (ticks with a price of <code>Double.NaN</code>
+     *     are ignored).
+     * @param volume  the volume (use zero if the feed does not report it).
+     */
+    public void addTick(long time, double price, double volume) {
+        if (Double.isNaN(price)) {
+            return;
+        }
+        int count = this.bars.size();
+        for (int i = 0; i < count; i++) {
+            Bar bar = (Bar) this.bars.get(i);
+            if (time > bar.last) {
+                startBar(bar, time, price, volume);
+            }
+            else if (time >= bar.first) {
+                if (price > bar.high) {
+                    bar.high = price;
+                }
+                if (price < bar.low) {
+                    bar.low = price;
+                }
+                bar.close = price;
+                bar.volume += volume;
+                bar.dirty = true;
+            }
+        }
+    }
+
+    /**
+     * Writes the current values of the open bars to the series, sending a
+     * {@link org.jfree.data.general.SeriesChangeEvent} for each series that
+     * has changed since the last flush (or the start of the bar).
+     */
+    public void flush() {
+        int count = this.bars.size();
+        for (int i = 0; i < count; i++) {
+            Bar bar = (Bar) this.bars.get(i);
+            if (bar.dirty) {
+                writeBar(bar, true);
+            }
+        }
+    }
+
+    /**
+     * Completes the open bar (if there is one) and starts a new bar for the
+     * specified tick, sending a single change event for the series.
+     *
+     * @param bar  the bar.
+     * @param time  the time of the tick.
+     * @param price  the price.
+     * @param volume  the volume.
+     */
+    private void startBar(Bar bar, long time, double price, double volume) {
+        OHLCSeries series = bar.series;
+        if (bar.period != null) {
+            writeBar(bar, false);
+        }
+        RegularTimePeriod period = RegularTimePeriod.createInstance(
+                bar.periodClass, new Date(time), this.zone);
+        bar.period = period;
+        bar.first = period.getFirstMillisecond(this.calendar);
+        bar.last = period.getLastMillisecond(this.calendar);
+        int index = series.indexOf(period);
+        if (index >= 0) {
+            OHLCItem item = (OHLCItem) series.getDataItem(index);
+            bar.open = item.getOpenValue();
+            bar.high = Math.max(item.getHighValue(), price);
+            bar.low = Math.min(item.getLowValue(), price);
+            bar.close = price;
+            double v = item.getVolumeValue();
+            bar.volume = (Double.isNaN(v) ? volume : v + volume);
+            writeBar(bar, false);
+        }
+        else {
+            bar.open = price;
+            bar.high = price;
+            bar.low = price;
+            bar.close = price;
+            bar.volume = volume;
+            series.add(new OHLCItem(period, price, price, price, price,
+                    volume), false);
+        }
+        bar.dirty = false;
+        series.fireSeriesChanged();
+    }
+
+    /**
+     * Writes the values of a bar to its item in the series.  If the item
+     * is no longer in the series, nothing is written.
+     *
+     * @param bar  the bar.
+     * @param notify  notify listeners?
+     */
+    private void writeBar(Bar bar, boolean notify) {
+        int index = bar.series.indexOf(bar.period);
+        if (index >= 0) {
+            bar.series.updateByIndex(index, new OHLC(bar.open, bar.high,
+                    bar.low, bar.close, bar.volume), notify);
+        }
+        bar.dirty = false;
+    }
+
+    /**
+     * The state of the open bar for one series.
+     */
+    private static class Bar {
+
+        /** The series. */
+        private OHLCSeries series;
+
+        /** The time period class. */
+        private Class periodClass;
+
+        /**
+         * The period for the open bar (<code>null</code> before the first
+         * tick).
+         */
+        private RegularTimePeriod period;
+
+        /** The first millisecond of the open bar. */
+        private long first;
+
+        /** The last millisecond of the open bar. */
+        private long last;
+
+        /** The open value. */
+        private double open;
+
+        /** The high value. */
+        private double high;
+
+        /** The low value. */
+        private double low;
+
+        /** The close value. */
+        private double close;
+
+        /** The volume. */
+        private double volume;
+
+        /**
+         * A flag that indicates whether the open bar has changed since it
+         * was last written to the series.
+         */
+        private boolean dirty;
+
+        /**
+         * Creates a new bar.
+         *
+         * @param series  the series.
+         * @param periodClass  the time period class.
+         */
+        public Bar(OHLCSeries series, Class periodClass) {
+            this.series = series;
+            this.periodClass = periodClass;
+            this.first = Long.MAX_VALUE;
+            this.last = Long.MIN_VALUE;
+        }
+
+    }
+
+}
@@ -35,6 +35,7 @@
  * Changes
  * -------
  * 04-Dec-2006 : Version 1 (DG);
+ * 18-Oct-2026 : Added volume (DG);
  *
  */
 
@@ -64,6 +65,23 @@ public class OHLCItem extends ComparableObjectItem {
         super(period, new OHLC(open, high, low, close));
     }
 
+    /**
+     * Creates a new instance of <code>OHLCItem</code> that includes a volume.
+     *
+     * @param period  the time period.
+     * @param open  the open-value.
+     * @param high  the high-value.
+     * @param low  the low-value.
+     * @param close  the close-value.
+     * @param volume  the volume (<code>Double.NaN</code> if not recorded).
+     *
+     * @since 1.0.13
+     */
+    public OHLCItem(RegularTimePeriod period, double open, double high,
+            double low, double close, double volume) {
+        super(period, new OHLC(open, high, low, close, volume));
+    }
+
     /**
      * Returns the period.
      *
@@ -142,4 +160,21 @@ public class OHLCItem extends ComparableObjectItem {
         }
     }
 
+    /**
+     * Returns the volume.
+     *
+     * @return The volume (<code>Double.NaN</code> if not recorded).
+     *
+     * @since 1.0.13
+     */
+    public double getVolumeValue() {
+        OHLC ohlc = (OHLC) getObject();
+        if (ohlc != null) {
+            return ohlc.getVolume();
+        }
+        else {
+            return Double.NaN;
+        }
+    }
+
 }
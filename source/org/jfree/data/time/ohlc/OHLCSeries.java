@@ -35,6 +35,7 @@
  * Changes
  * -------
  * 04-Dec-2006 : Version 1 (DG);
+ * 18-Oct-2026 : Added add(OHLCItem, boolean) and updateByIndex() (DG);
  *
  */
 
@@ -98,14 +99,50 @@ public class OHLCSeries extends ComparableObjectSeries {
      */
     public void add(RegularTimePeriod period, double open, double high,
             double low, double close) {
+        add(new OHLCItem(period, open, high, low, close), true);
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link org.jfree.data.general.SeriesChangeEvent} to all registered
+     * listeners.
+     *
+     * @param item  the item (<code>null</code> not permitted).
+     * @param notify  notify listeners?
+     *
+     * @since 1.0.13
+     */
+    public void add(OHLCItem item, boolean notify) {
+        if (item == null) {
+            throw new IllegalArgumentException("Null 'item' argument.");
+        }
         if (getItemCount() > 0) {
             OHLCItem item0 = (OHLCItem) this.getDataItem(0);
-            if (!period.getClass().equals(item0.getPeriod().getClass())) {
+            if (!item.getPeriod().getClass().equals(
+                    item0.getPeriod().getClass())) {
                 throw new IllegalArgumentException(
                         "Can't mix RegularTimePeriod class types.");
             }
         }
-        super.add(new OHLCItem(period, open, high, low, close), true);
+        super.add(item, notify);
+    }
+
+    /**
+     * Updates the values for an item in the series and, if requested, sends
+     * a {@link org.jfree.data.general.SeriesChangeEvent} to all registered
+     * listeners.
+     *
+     * @param index  the item index.
+     * @param ohlc  the new values (<code>null</code> not permitted).
+     * @param notify  notify listeners?
+     *
+     * @since 1.0.13
+     */
+    public void updateByIndex(int index, OHLC ohlc, boolean notify) {
+        if (ohlc == null) {
+            throw new IllegalArgumentException("Null 'ohlc' argument.");
+        }
+        super.updateByIndex(index, ohlc, notify);
     }
 
 }
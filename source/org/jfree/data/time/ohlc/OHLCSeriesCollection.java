@@ -36,6 +36,7 @@
  * -------
  * 04-Dec-2006 : Version 1 (DG);
  * 10-Jul-2008 : Added accessor methods for xPosition attribute (DG);
+ * 18-Oct-2026 : Return the volume for items that record it (DG);
  */
 
 package org.jfree.data.time.ohlc;
@@ -341,29 +342,30 @@ public class OHLCSeriesCollection extends AbstractXYDataset
     }
 
     /**
-     * Returns <code>null</code> always, because this dataset doesn't record
-     * any volume data.
+     * Returns the volume for an item within a series.
      *
-     * @param series  the series index (ignored).
-     * @param item  the item index (ignored).
+     * @param series  the series index.
+     * @param item  the item index.
      *
-     * @return <code>null</code>.
+     * @return The volume (<code>null</code> if the item has no volume).
      */
     public Number getVolume(int series, int item) {
-        return null;
+        double volume = getVolumeValue(series, item);
+        return (Double.isNaN(volume) ? null : new Double(volume));
     }
 
     /**
-     * Returns <code>Double.NaN</code> always, because this dataset doesn't
-     * record any volume data.
+     * Returns the volume for an item within a series.
      *
-     * @param series  the series index (ignored).
-     * @param item  the item index (ignored).
+     * @param series  the series index.
+     * @param item  the item index.
      *
-     * @return <code>Double.NaN</code>.
+     * @return The volume (<code>Double.NaN</code> if the item has no volume).
      */
     public double getVolumeValue(int series, int item) {
-        return Double.NaN;
+        OHLCSeries s = (OHLCSeries) this.data.get(series);
+        OHLCItem di = (OHLCItem) s.getDataItem(item);
+        return di.getVolumeValue();
     }
 
     /**
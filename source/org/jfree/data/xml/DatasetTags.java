@@ -35,6 +35,7 @@
  * Changes
  * -------
  * 23-Jan-2003 : Version 1 (DG);
+ * 18-Oct-2026 : Added tags for XY, time series and OHLC datasets (DG);
  *
  */
 
@@ -63,4 +64,90 @@ public interface DatasetTags {
     /** The 'Value' element name. */
     public static final String VALUE_TAG = "Value";
 
+    /**
+     * The 'XYDataset' element name.
+     *
+     * @since 1.0.13
+     */
+    public static final String XYDATASET_TAG = "XYDataset";
+
+    /**
+     * The 'TimeSeriesDataset' element name.
+     *
+     * @since 1.0.13
+     */
+    public static final String TIMESERIESDATASET_TAG = "TimeSeriesDataset";
+
+    /**
+     * The 'OHLCDataset' element name.
+     *
+     * @since 1.0.13
+     */
+    public static final String OHLCDATASET_TAG = "OHLCDataset";
+
+    /**
+     * The 'X' element name.
+     *
+     * @since 1.0.13
+     */
+    public static final String X_TAG = "X";
+
+    /**
+     * The 'Y' element name.
+     *
+     * @since 1.0.13
+     */
+    public static final String Y_TAG = "Y";
+
+    /**
+     * The 'Time' element name (the value is the first millisecond of a time
+     * period).
+     *
+     * @since 1.0.13
+     */
+    public static final String TIME_TAG = "Time";
+
+    /**
+     * The 'Open' element name.
+     *
+     * @since 1.0.13
+     */
+    public static final String OPEN_TAG = "Open";
+
+    /**
+     * The 'High' element name.
+     *
+     * @since 1.0.13
+     */
+    public static final String HIGH_TAG = "High";
+
+    /**
+     * The 'Low' element name.
+     *
+     * @since 1.0.13
+     */
+    public static final String LOW_TAG = "Low";
+
+    /**
+     * The 'Close' element name.
+     *
+     * @since 1.0.13
+     */
+    public static final String CLOSE_TAG = "Close";
+
+    /**
+     * The name of the attribute that holds a series key.
+     *
+     * @since 1.0.13
+     */
+    public static final String NAME_ATTRIBUTE = "name";
+
+    /**
+     * The name of the attribute that holds the time period class of a
+     * series (for example 'Day', or a fully qualified class name).
+     *
+     * @since 1.0.13
+     */
+    public static final String TIME_PERIOD_ATTRIBUTE = "timePeriod";
+
 }
@@ -0,0 +1,896 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------
+ * DatasetXMLReader.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.xml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.ChangeBatch;
+import org.jfree.data.general.Dataset;
+import org.jfree.data.general.DefaultPieDataset;
+import org.jfree.data.general.Series;
+import org.jfree.data.time.Day;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.time.ohlc.OHLCSeries;
+import org.jfree.data.time.ohlc.OHLCSeriesCollection;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Reads datasets from XML, one item at a time.  The reader understands the
+ * format read by {@link DatasetReader} (for pie and category datasets) and
+ * written by {@link DatasetXMLWriter}, which adds elements for XY, time
+ * series and OHLC datasets:
+ * <pre>
+ * &lt;XYDataset&gt;
+ *   &lt;Series name="S1"&gt;
+ *     &lt;Item&gt;&lt;X&gt;1.0&lt;/X&gt;&lt;Y&gt;4.5&lt;/Y&gt;&lt;/Item&gt;
+ *   &lt;/Series&gt;
+ * &lt;/XYDataset&gt;
+ *
+ * &lt;TimeSeriesDataset&gt;
+ *   &lt;Series name="S1" timePeriod="Day"&gt;
+ *     &lt;Item&gt;&lt;Time&gt;1199145600000&lt;/Time&gt;&lt;Value&gt;4.5&lt;/Value&gt;&lt;/Item&gt;
+ *   &lt;/Series&gt;
+ * &lt;/TimeSeriesDataset&gt;
+ *
+ * &lt;OHLCDataset&gt;
+ *   &lt;Series name="S1" timePeriod="Day"&gt;
+ *     &lt;Item&gt;&lt;Time&gt;1199145600000&lt;/Time&gt;&lt;Open&gt;1.0&lt;/Open&gt;
+ *       &lt;High&gt;2.0&lt;/High&gt;&lt;Low&gt;0.5&lt;/Low&gt;&lt;Close&gt;1.5&lt;/Close&gt;&lt;/Item&gt;
+ *   &lt;/Series&gt;
+ * &lt;/OHLCDataset&gt;</pre>
+ * Times are given in milliseconds since 1-Jan-1970 UTC, and an empty (or
+ * non-numerical) value is read as <code>null</code>.
+ * <P>
+ * Unlike {@link DatasetReader}, this class does not build a tree of handler
+ * objects, and the items can be read in chunks with the
+ * <code>readItems()</code> methods, which append to an existing dataset and
+ * send a single change event per chunk.  This makes it possible to load
+ * large files progressively, for example:
+ * <pre>
+ * DatasetXMLReader reader = new DatasetXMLReader(in);
+ * while (reader.readItems(dataset, 10000) &gt; 0) {
+ *     // the chart has been updated
+ * }
+ * reader.close();</pre>
+ *
+ * @since 1.0.13
+ */
+public class DatasetXMLReader implements DatasetTags {
+
+    /** The parser. */
+    private XMLPullParser parser;
+
+    /** The time zone used to create time periods. */
+    private TimeZone timeZone;
+
+    /** The name of the root element (<code>null</code> until read). */
+    private String datasetType;
+
+    /** A flag that indicates that the end of the dataset was reached. */
+    private boolean finished;
+
+    /** The key of the current series (<code>null</code> outside a series). */
+    private Comparable seriesKey;
+
+    /** The time period class of the current series (possibly null). */
+    private Class periodClass;
+
+    /** The dataset that the current series was looked up in. */
+    private Dataset target;
+
+    /** The current series in the target dataset. */
+    private Object series;
+
+    /** The constructor for the time periods of the current series. */
+    private Constructor periodConstructor;
+
+    /** The series that have been changed without notification. */
+    private List changed;
+
+    /** The key of the current item. */
+    private String key;
+
+    /** The value of the current item. */
+    private double value;
+
+    /** The x-value of the current item. */
+    private double x;
+
+    /** The y-value of the current item. */
+    private double y;
+
+    /** The time of the current item. */
+    private double time;
+
+    /** The open value of the current item. */
+    private double open;
+
+    /** The high value of the current item. */
+    private double high;
+
+    /** The low value of the current item. */
+    private double low;
+
+    /** The close value of the current item. */
+    private double close;
+
+    /**
+     * Creates a reader for a byte stream.  The encoding is taken from the
+     * XML declaration (the default is UTF-8).
+     *
+     * @param in  the stream (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public DatasetXMLReader(InputStream in) throws IOException {
+        this(createReader(in));
+    }
+
+    /**
+     * Creates a reader for a character stream.
+     *
+     * @param in  the stream (<code>null</code> not permitted).
+     */
+    public DatasetXMLReader(Reader in) {
+        if (in == null) {
+            throw new IllegalArgumentException("Null 'in' argument.");
+        }
+        this.parser = new XMLPullParser(in);
+        this.timeZone = TimeZone.getDefault();
+        this.changed = new ArrayList();
+    }
+
+    /**
+     * Creates a reader for a byte stream.
+     *
+     * @param in  the stream.
+     *
+     * @return The reader.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static Reader createReader(InputStream in) throws IOException {
+        if (in == null) {
+            throw new IllegalArgumentException("Null 'in' argument.");
+        }
+        return XMLPullParser.createReader(in);
+    }
+
+    /**
+     * Returns the time zone used to create the time periods for time series
+     * and OHLC data.
+     *
+     * @return The time zone (never <code>null</code>).
+     */
+    public TimeZone getTimeZone() {
+        return this.timeZone;
+    }
+
+    /**
+     * Sets the time zone used to create the time periods for time series
+     * and OHLC data.
+     *
+     * @param zone  the time zone (<code>null</code> not permitted).
+     */
+    public void setTimeZone(TimeZone zone) {
+        if (zone == null) {
+            throw new IllegalArgumentException("Null 'zone' argument.");
+        }
+        this.timeZone = zone;
+    }
+
+    /**
+     * Returns the name of the root element, which identifies the type of
+     * dataset (see {@link DatasetTags}).
+     *
+     * @return The name.
+     *
+     * @throws IOException if there is an I/O problem, or the document is
+     *     empty.
+     */
+    public String getDatasetType() throws IOException {
+        if (this.datasetType == null) {
+            if (this.parser.next() != XMLPullParser.START_ELEMENT) {
+                throw this.parser.error("No dataset found");
+            }
+            this.datasetType = this.parser.getName();
+        }
+        return this.datasetType;
+    }
+
+    /**
+     * Reads the dataset, creating a dataset of the type that matches the
+     * root element: a {@link DefaultPieDataset}, a
+     * {@link DefaultCategoryDataset}, an {@link XYSeriesCollection}, a
+     * {@link TimeSeriesCollection} or an {@link OHLCSeriesCollection}.
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem, or the document is not
+     *     a dataset.
+     */
+    public Dataset readDataset() throws IOException {
+        String type = getDatasetType();
+        if (type.equals(PIEDATASET_TAG)) {
+            return readPieDataset();
+        }
+        else if (type.equals(CATEGORYDATASET_TAG)) {
+            return readCategoryDataset();
+        }
+        else if (type.equals(XYDATASET_TAG)) {
+            return readXYSeriesCollection();
+        }
+        else if (type.equals(TIMESERIESDATASET_TAG)) {
+            return readTimeSeriesCollection();
+        }
+        else if (type.equals(OHLCDATASET_TAG)) {
+            return readOHLCSeriesCollection();
+        }
+        throw this.parser.error("Unknown dataset type <" + type + ">");
+    }
+
+    /**
+     * Reads a pie dataset.
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem, or the document is not
+     *     a pie dataset.
+     */
+    public DefaultPieDataset readPieDataset() throws IOException {
+        DefaultPieDataset dataset = new DefaultPieDataset();
+        readItems(dataset, Integer.MAX_VALUE);
+        return dataset;
+    }
+
+    /**
+     * Reads a category dataset.
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem, or the document is not
+     *     a category dataset.
+     */
+    public DefaultCategoryDataset readCategoryDataset() throws IOException {
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        readItems(dataset, Integer.MAX_VALUE);
+        return dataset;
+    }
+
+    /**
+     * Reads an XY dataset.
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem, or the document is not
+     *     an XY dataset.
+     */
+    public XYSeriesCollection readXYSeriesCollection() throws IOException {
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        readItems(dataset, Integer.MAX_VALUE);
+        return dataset;
+    }
+
+    /**
+     * Reads a time series dataset.
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem, or the document is not
+     *     a time series dataset.
+     */
+    public TimeSeriesCollection readTimeSeriesCollection()
+            throws IOException {
+        TimeSeriesCollection dataset = new TimeSeriesCollection(
+                this.timeZone);
+        readItems(dataset, Integer.MAX_VALUE);
+        return dataset;
+    }
+
+    /**
+     * Reads an OHLC dataset.
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem, or the document is not
+     *     an OHLC dataset.
+     */
+    public OHLCSeriesCollection readOHLCSeriesCollection()
+            throws IOException {
+        OHLCSeriesCollection dataset = new OHLCSeriesCollection();
+        readItems(dataset, Integer.MAX_VALUE);
+        return dataset;
+    }
+
+    /**
+     * Reads up to the specified number of items from a pie dataset, and adds
+     * them to a dataset (replacing the values for existing keys).  The
+     * dataset's listeners receive a single event.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param maxItems  the maximum number of items to read.
+     *
+     * @return The number of items read (zero at the end of the dataset).
+     *
+     * @throws IOException if there is an I/O problem, or the document is not
+     *     a pie dataset.
+     */
+    public int readItems(DefaultPieDataset dataset, int maxItems)
+            throws IOException {
+        checkArguments(dataset, maxItems, PIEDATASET_TAG);
+        int count = 0;
+        ChangeBatch batch = ChangeBatch.begin();
+        try {
+            while (count < maxItems && nextItem()) {
+                dataset.setValue(requireKey(), toNumber(this.value));
+                count++;
+            }
+        }
+        finally {
+            batch.end();
+        }
+        return count;
+    }
+
+    /**
+     * Reads up to the specified number of items from a category dataset,
+     * and adds them to a dataset (replacing existing values).  Each series
+     * is a row in the dataset.  The dataset's listeners receive a single
+     * event.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param maxItems  the maximum number of items to read.
+     *
+     * @return The number of items read (zero at the end of the dataset).
+     *
+     * @throws IOException if there is an I/O problem, or the document is not
+     *     a category dataset.
+     */
+    public int readItems(DefaultCategoryDataset dataset, int maxItems)
+            throws IOException {
+        checkArguments(dataset, maxItems, CATEGORYDATASET_TAG);
+        int count = 0;
+        ChangeBatch batch = ChangeBatch.begin();
+        try {
+            while (count < maxItems && nextItem()) {
+                dataset.setValue(toNumber(this.value), requireSeriesKey(),
+                        requireKey());
+                count++;
+            }
+        }
+        finally {
+            batch.end();
+        }
+        return count;
+    }
+
+    /**
+     * Reads up to the specified number of items from an XY dataset, and
+     * adds them to a dataset.  Series that do not exist in the dataset are
+     * created.  Each series that changes sends a single event.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param maxItems  the maximum number of items to read.
+     *
+     * @return The number of items read (zero at the end of the dataset).
+     *
+     * @throws IOException if there is an I/O problem, or the document is not
+     *     an XY dataset.
+     */
+    public int readItems(XYSeriesCollection dataset, int maxItems)
+            throws IOException {
+        checkArguments(dataset, maxItems, XYDATASET_TAG);
+        int count = 0;
+        ChangeBatch batch = ChangeBatch.begin();
+        try {
+            while (count < maxItems && nextItem()) {
+                XYSeries s = (XYSeries) this.series;
+                if (s == null || this.target != dataset) {
+                    s = findSeries(dataset);
+                }
+                if (Double.isNaN(this.x)) {
+                    throw this.parser.error("Missing <" + X_TAG + ">");
+                }
+                if (Double.isNaN(this.y)) {
+                    s.add(this.x, null, false);
+                }
+                else {
+                    s.add(this.x, this.y, false);
+                }
+                count++;
+            }
+        }
+        finally {
+            fireChanges();
+            batch.end();
+        }
+        return count;
+    }
+
+    /**
+     * Reads up to the specified number of items from a time series dataset,
+     * and adds them to a dataset.  Series that do not exist in the dataset
+     * are created.  Each series that changes sends a single event.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param maxItems  the maximum number of items to read.
+     *
+     * @return The number of items read (zero at the end of the dataset).
+     *
+     * @throws IOException if there is an I/O problem, or the document is not
+     *     a time series dataset.
+     */
+    public int readItems(TimeSeriesCollection dataset, int maxItems)
+            throws IOException {
+        checkArguments(dataset, maxItems, TIMESERIESDATASET_TAG);
+        int count = 0;
+        ChangeBatch batch = ChangeBatch.begin();
+        try {
+            while (count < maxItems && nextItem()) {
+                TimeSeries s = (TimeSeries) this.series;
+                if (s == null || this.target != dataset) {
+                    s = findSeries(dataset);
+                }
+                RegularTimePeriod period = createPeriod();
+                if (Double.isNaN(this.value)) {
+                    s.add(period, null, false);
+                }
+                else {
+                    s.add(period, this.value, false);
+                }
+                count++;
+            }
+        }
+        finally {
+            fireChanges();
+            batch.end();
+        }
+        return count;
+    }
+
+    /**
+     * Reads up to the specified number of items from an OHLC dataset, and
+     * adds them to a dataset.  Series that do not exist in the dataset are
+     * created.  The dataset's listeners receive a single event.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param maxItems  the maximum number of items to read.
+     *
+     * @return The number of items read (zero at the end of the dataset).
+     *
+     * @throws IOException if there is an I/O problem, or the document is not
+     *     an OHLC dataset.
+     */
+    public int readItems(OHLCSeriesCollection dataset, int maxItems)
+            throws IOException {
+        checkArguments(dataset, maxItems, OHLCDATASET_TAG);
+        int count = 0;
+        ChangeBatch batch = ChangeBatch.begin();
+        try {
+            while (count < maxItems && nextItem()) {
+                OHLCSeries s = (OHLCSeries) this.series;
+                if (s == null || this.target != dataset) {
+                    s = findSeries(dataset);
+                }
+                s.add(createPeriod(), this.open, this.high, this.low,
+                        this.close);
+                count++;
+            }
+        }
+        finally {
+            batch.end();
+        }
+        return count;
+    }
+
+    /**
+     * Closes the underlying stream.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void close() throws IOException {
+        this.parser.close();
+    }
+
+    /**
+     * Checks the arguments for the <code>readItems()</code> methods, and the
+     * dataset type.
+     *
+     * @param dataset  the dataset.
+     * @param maxItems  the maximum number of items.
+     * @param type  the expected root element.
+     *
+     * @throws IOException if the root element is not the expected one.
+     */
+    private void checkArguments(Dataset dataset, int maxItems, String type)
+            throws IOException {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+        if (maxItems < 1) {
+            throw new IllegalArgumentException("Requires 'maxItems' >= 1.");
+        }
+        if (!getDatasetType().equals(type)) {
+            throw this.parser.error("Expected <" + type + "> but found <"
+                    + this.datasetType + ">");
+        }
+    }
+
+    /**
+     * Reads the next item, entering and leaving series as necessary.
+     *
+     * @return <code>true</code> if an item was read, and <code>false</code>
+     *     at the end of the dataset.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private boolean nextItem() throws IOException {
+        while (!this.finished) {
+            if (!this.parser.nextChild()) {
+                if (this.seriesKey != null) {
+                    // the end of a series
+                    this.seriesKey = null;
+                    this.series = null;
+                    continue;
+                }
+                this.finished = true;
+                return false;
+            }
+            String name = this.parser.getName();
+            if (this.seriesKey == null && name.equals(SERIES_TAG)) {
+                String k = this.parser.getAttribute(NAME_ATTRIBUTE);
+                this.seriesKey = (k != null ? k : "");
+                this.periodClass = getPeriodClass(this.parser.getAttribute(
+                        TIME_PERIOD_ATTRIBUTE));
+                this.series = null;
+            }
+            else if (name.equals(ITEM_TAG)) {
+                readItem();
+                return true;
+            }
+            else {
+                this.parser.skipElement();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the child elements of an item (after the start tag).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void readItem() throws IOException {
+        this.key = null;
+        this.value = Double.NaN;
+        this.x = Double.NaN;
+        this.y = Double.NaN;
+        this.time = Double.NaN;
+        this.open = Double.NaN;
+        this.high = Double.NaN;
+        this.low = Double.NaN;
+        this.close = Double.NaN;
+        while (this.parser.nextChild()) {
+            String name = this.parser.getName();
+            if (this.parser.next() != XMLPullParser.END_ELEMENT) {
+                // not a simple element, ignore it
+                this.parser.skipElement();
+                this.parser.skipElement();
+            }
+            else if (name.equals(VALUE_TAG)) {
+                this.value = this.parser.getNumber();
+            }
+            else if (name.equals(KEY_TAG)) {
+                this.key = this.parser.getText();
+            }
+            else if (name.equals(X_TAG)) {
+                this.x = this.parser.getNumber();
+            }
+            else if (name.equals(Y_TAG)) {
+                this.y = this.parser.getNumber();
+            }
+            else if (name.equals(TIME_TAG)) {
+                this.time = this.parser.getNumber();
+            }
+            else if (name.equals(OPEN_TAG)) {
+                this.open = this.parser.getNumber();
+            }
+            else if (name.equals(HIGH_TAG)) {
+                this.high = this.parser.getNumber();
+            }
+            else if (name.equals(LOW_TAG)) {
+                this.low = this.parser.getNumber();
+            }
+            else if (name.equals(CLOSE_TAG)) {
+                this.close = this.parser.getNumber();
+            }
+        }
+    }
+
+    /**
+     * Returns the key of the current item.
+     *
+     * @return The key.
+     *
+     * @throws IOException if the item has no key.
+     */
+    private String requireKey() throws IOException {
+        if (this.key == null) {
+            throw this.parser.error("Missing <" + KEY_TAG + ">");
+        }
+        return this.key;
+    }
+
+    /**
+     * Returns the key of the current series.
+     *
+     * @return The key.
+     *
+     * @throws IOException if the item is not in a series.
+     */
+    private Comparable requireSeriesKey() throws IOException {
+        if (this.seriesKey == null) {
+            throw this.parser.error("Expected <" + SERIES_TAG + ">");
+        }
+        return this.seriesKey;
+    }
+
+    /**
+     * Converts a value to a <code>Number</code>.
+     *
+     * @param v  the value.
+     *
+     * @return The number (<code>null</code> for <code>Double.NaN</code>).
+     */
+    private static Number toNumber(double v) {
+        return (Double.isNaN(v) ? null : new Double(v));
+    }
+
+    /**
+     * Returns the time period class for a value of the
+     * {@link #TIME_PERIOD_ATTRIBUTE} attribute.
+     *
+     * @param name  the class name, either fully qualified or in the
+     *     <code>org.jfree.data.time</code> package (<code>null</code>
+     *     permitted).
+     *
+     * @return The class (<code>null</code> if <code>name</code> is
+     *     <code>null</code>).
+     *
+     * @throws IOException if the class is not a time period class.
+     */
+    private Class getPeriodClass(String name) throws IOException {
+        if (name == null) {
+            return null;
+        }
+        String className = name;
+        if (name.indexOf('.') < 0) {
+            className = "org.jfree.data.time." + name;
+        }
+        try {
+            Class c = Class.forName(className);
+            if (RegularTimePeriod.class.isAssignableFrom(c)) {
+                return c;
+            }
+        }
+        catch (ClassNotFoundException e) {
+            // fall through
+        }
+        throw this.parser.error("Unknown time period class '" + name + "'");
+    }
+
+    /**
+     * Creates the time period for the current item.
+     *
+     * @return The time period.
+     *
+     * @throws IOException if the item has no time, or the period cannot be
+     *     created.
+     */
+    private RegularTimePeriod createPeriod() throws IOException {
+        if (Double.isNaN(this.time)) {
+            throw this.parser.error("Missing <" + TIME_TAG + ">");
+        }
+        Date date = new Date((long) this.time);
+        try {
+            return (RegularTimePeriod) this.periodConstructor.newInstance(
+                    new Object[] {date, this.timeZone});
+        }
+        catch (Exception e) {
+            throw this.parser.error("Cannot create a time period for "
+                    + date.getTime());
+        }
+    }
+
+    /**
+     * Prepares the constructor for the time periods of a series.
+     *
+     * @param c  the time period class.
+     *
+     * @throws IOException if the class has no suitable constructor.
+     */
+    private void preparePeriods(Class c) throws IOException {
+        try {
+            this.periodConstructor = c.getDeclaredConstructor(
+                    new Class[] {Date.class, TimeZone.class});
+        }
+        catch (NoSuchMethodException e) {
+            throw this.parser.error("The class " + c.getName()
+                    + " has no (Date, TimeZone) constructor");
+        }
+    }
+
+    /**
+     * Finds the current series in an XY dataset, creating it if necessary.
+     *
+     * @param dataset  the dataset.
+     *
+     * @return The series.
+     *
+     * @throws IOException if the item is not in a series.
+     */
+    private XYSeries findSeries(XYSeriesCollection dataset)
+            throws IOException {
+        Comparable k = requireSeriesKey();
+        XYSeries s = null;
+        for (int i = 0; i < dataset.getSeriesCount() && s == null; i++) {
+            if (k.equals(dataset.getSeriesKey(i))) {
+                s = dataset.getSeries(i);
+            }
+        }
+        if (s == null) {
+            s = new XYSeries(k);
+            dataset.addSeries(s);
+        }
+        setSeries(dataset, s, true);
+        return s;
+    }
+
+    /**
+     * Finds the current series in a time series dataset, creating it if
+     * necessary.
+     *
+     * @param dataset  the dataset.
+     *
+     * @return The series.
+     *
+     * @throws IOException if the item is not in a series.
+     */
+    private TimeSeries findSeries(TimeSeriesCollection dataset)
+            throws IOException {
+        Comparable k = requireSeriesKey();
+        TimeSeries s = null;
+        for (int i = 0; i < dataset.getSeriesCount() && s == null; i++) {
+            if (k.equals(dataset.getSeriesKey(i))) {
+                s = dataset.getSeries(i);
+            }
+        }
+        if (s == null) {
+            Class c = (this.periodClass != null ? this.periodClass
+                    : Day.class);
+            s = new TimeSeries(k, c);
+            dataset.addSeries(s);
+        }
+        preparePeriods(s.getTimePeriodClass());
+        setSeries(dataset, s, true);
+        return s;
+    }
+
+    /**
+     * Finds the current series in an OHLC dataset, creating it if
+     * necessary.
+     *
+     * @param dataset  the dataset.
+     *
+     * @return The series.
+     *
+     * @throws IOException if the item is not in a series.
+     */
+    private OHLCSeries findSeries(OHLCSeriesCollection dataset)
+            throws IOException {
+        Comparable k = requireSeriesKey();
+        OHLCSeries s = null;
+        for (int i = 0; i < dataset.getSeriesCount() && s == null; i++) {
+            if (k.equals(dataset.getSeriesKey(i))) {
+                s = dataset.getSeries(i);
+            }
+        }
+        if (s == null) {
+            s = new OHLCSeries(k);
+            dataset.addSeries(s);
+        }
+        Class c = this.periodClass;
+        if (s.getItemCount() > 0) {
+            c = s.getPeriod(0).getClass();
+        }
+        preparePeriods(c != null ? c : Day.class);
+        setSeries(dataset, s, false);
+        return s;
+    }
+
+    /**
+     * Records the current series.
+     *
+     * @param dataset  the dataset that contains the series.
+     * @param s  the series.
+     * @param notifyLater  a flag that indicates that the items are added
+     *     without notification, so that {@link #fireChanges()} must send
+     *     an event for the series.
+     */
+    private void setSeries(Dataset dataset, Object s, boolean notifyLater) {
+        this.target = dataset;
+        this.series = s;
+        if (notifyLater) {
+            for (int i = 0; i < this.changed.size(); i++) {
+                if (this.changed.get(i) == s) {
+                    return;
+                }
+            }
+            this.changed.add(s);
+        }
+    }
+
+    /**
+     * Sends a change event for each series that has been changed without
+     * notification.
+     */
+    private void fireChanges() {
+        for (int i = 0; i < this.changed.size(); i++) {
+            ((Series) this.changed.get(i)).fireSeriesChanged();
+        }
+        this.changed.clear();
+        // look the series up again in the next chunk, so that it is
+        // recorded as changed
+        this.series = null;
+    }
+
+}
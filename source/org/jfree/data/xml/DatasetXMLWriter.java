@@ -0,0 +1,422 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------
+ * DatasetXMLWriter.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.xml;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.general.PieDataset;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.time.ohlc.OHLCItem;
+import org.jfree.data.time.ohlc.OHLCSeries;
+import org.jfree.data.time.ohlc.OHLCSeriesCollection;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * Writes datasets to XML, in the format read by {@link DatasetXMLReader}
+ * (and, for pie and category datasets, by {@link DatasetReader}).  Each
+ * of the <code>write</code> methods writes a complete document, so a
+ * writer should be used for one dataset only.  Null values are written as
+ * empty elements.
+ *
+ * @since 1.0.13
+ */
+public class DatasetXMLWriter implements DatasetTags {
+
+    /** The package for time period classes that need no qualification. */
+    private static final String TIME_PACKAGE = "org.jfree.data.time.";
+
+    /** The output. */
+    private Writer out;
+
+    /** The encoding (<code>null</code> if unknown). */
+    private String encoding;
+
+    /**
+     * Creates a writer that writes to a character stream.  The XML
+     * declaration does not specify an encoding, so the stream should use
+     * UTF-8 (or UTF-16) if the data will be read from a byte stream.
+     *
+     * @param out  the output stream (<code>null</code> not permitted).
+     */
+    public DatasetXMLWriter(Writer out) {
+        if (out == null) {
+            throw new IllegalArgumentException("Null 'out' argument.");
+        }
+        this.out = out;
+    }
+
+    /**
+     * Creates a writer that writes to a byte stream, using the UTF-8
+     * encoding.
+     *
+     * @param out  the output stream (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public DatasetXMLWriter(OutputStream out) throws IOException {
+        if (out == null) {
+            throw new IllegalArgumentException("Null 'out' argument.");
+        }
+        this.encoding = "UTF-8";
+        this.out = new BufferedWriter(new OutputStreamWriter(out,
+                this.encoding));
+    }
+
+    /**
+     * Writes a pie dataset.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void writePieDataset(PieDataset dataset) throws IOException {
+        checkDataset(dataset);
+        startDocument(PIEDATASET_TAG);
+        for (int i = 0; i < dataset.getItemCount(); i++) {
+            this.out.write("  <" + ITEM_TAG + ">");
+            writeKey(dataset.getKey(i));
+            writeElement(VALUE_TAG, dataset.getValue(i));
+            this.out.write("</" + ITEM_TAG + ">\n");
+        }
+        endDocument(PIEDATASET_TAG);
+    }
+
+    /**
+     * Writes a category dataset, with one series for each row.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void writeCategoryDataset(CategoryDataset dataset)
+            throws IOException {
+        checkDataset(dataset);
+        startDocument(CATEGORYDATASET_TAG);
+        for (int r = 0; r < dataset.getRowCount(); r++) {
+            startSeries(dataset.getRowKey(r), null);
+            for (int c = 0; c < dataset.getColumnCount(); c++) {
+                this.out.write("    <" + ITEM_TAG + ">");
+                writeKey(dataset.getColumnKey(c));
+                writeElement(VALUE_TAG, dataset.getValue(r, c));
+                this.out.write("</" + ITEM_TAG + ">\n");
+            }
+            endSeries();
+        }
+        endDocument(CATEGORYDATASET_TAG);
+    }
+
+    /**
+     * Writes an XY dataset.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void writeXYDataset(XYDataset dataset) throws IOException {
+        checkDataset(dataset);
+        startDocument(XYDATASET_TAG);
+        for (int s = 0; s < dataset.getSeriesCount(); s++) {
+            startSeries(dataset.getSeriesKey(s), null);
+            int itemCount = dataset.getItemCount(s);
+            for (int i = 0; i < itemCount; i++) {
+                this.out.write("    <" + ITEM_TAG + ">");
+                writeElement(X_TAG, dataset.getXValue(s, i));
+                writeElement(Y_TAG, dataset.getYValue(s, i));
+                this.out.write("</" + ITEM_TAG + ">\n");
+            }
+            endSeries();
+        }
+        endDocument(XYDATASET_TAG);
+    }
+
+    /**
+     * Writes a time series dataset.  Each time period is written as its
+     * first millisecond.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void writeTimeSeriesCollection(TimeSeriesCollection dataset)
+            throws IOException {
+        checkDataset(dataset);
+        startDocument(TIMESERIESDATASET_TAG);
+        for (int s = 0; s < dataset.getSeriesCount(); s++) {
+            TimeSeries series = dataset.getSeries(s);
+            startSeries(series.getKey(), series.getTimePeriodClass());
+            int itemCount = series.getItemCount();
+            for (int i = 0; i < itemCount; i++) {
+                this.out.write("    <" + ITEM_TAG + ">");
+                writeTime(series.getTimePeriod(i));
+                writeElement(VALUE_TAG, series.getValue(i));
+                this.out.write("</" + ITEM_TAG + ">\n");
+            }
+            endSeries();
+        }
+        endDocument(TIMESERIESDATASET_TAG);
+    }
+
+    /**
+     * Writes an OHLC dataset.  Each time period is written as its first
+     * millisecond.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void writeOHLCSeriesCollection(OHLCSeriesCollection dataset)
+            throws IOException {
+        checkDataset(dataset);
+        startDocument(OHLCDATASET_TAG);
+        for (int s = 0; s < dataset.getSeriesCount(); s++) {
+            OHLCSeries series = dataset.getSeries(s);
+            int itemCount = series.getItemCount();
+            Class periodClass = null;
+            if (itemCount > 0) {
+                periodClass = series.getPeriod(0).getClass();
+            }
+            startSeries(series.getKey(), periodClass);
+            for (int i = 0; i < itemCount; i++) {
+                OHLCItem item = (OHLCItem) series.getDataItem(i);
+                this.out.write("    <" + ITEM_TAG + ">");
+                writeTime(item.getPeriod());
+                writeElement(OPEN_TAG, item.getOpenValue());
+                writeElement(HIGH_TAG, item.getHighValue());
+                writeElement(LOW_TAG, item.getLowValue());
+                writeElement(CLOSE_TAG, item.getCloseValue());
+                this.out.write("</" + ITEM_TAG + ">\n");
+            }
+            endSeries();
+        }
+        endDocument(OHLCDATASET_TAG);
+    }
+
+    /**
+     * Flushes the output.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void flush() throws IOException {
+        this.out.flush();
+    }
+
+    /**
+     * Closes the output.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void close() throws IOException {
+        this.out.close();
+    }
+
+    /**
+     * Checks that a dataset is not <code>null</code>.
+     *
+     * @param dataset  the dataset.
+     */
+    private static void checkDataset(Object dataset) {
+        if (dataset == null) {
+            throw new IllegalArgumentException("Null 'dataset' argument.");
+        }
+    }
+
+    /**
+     * Writes the XML declaration and the start tag of the root element.
+     *
+     * @param root  the name of the root element.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void startDocument(String root) throws IOException {
+        this.out.write("<?xml version=\"1.0\"");
+        if (this.encoding != null) {
+            this.out.write(" encoding=\"" + this.encoding + "\"");
+        }
+        this.out.write("?>\n<" + root + ">\n");
+    }
+
+    /**
+     * Writes the end tag of the root element and flushes the output.
+     *
+     * @param root  the name of the root element.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void endDocument(String root) throws IOException {
+        this.out.write("</" + root + ">\n");
+        this.out.flush();
+    }
+
+    /**
+     * Writes the start tag for a series.
+     *
+     * @param key  the series key.
+     * @param periodClass  the time period class (<code>null</code>
+     *     permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void startSeries(Comparable key, Class periodClass)
+            throws IOException {
+        this.out.write("  <" + SERIES_TAG + " " + NAME_ATTRIBUTE + "=\"");
+        writeEscaped(String.valueOf(key));
+        this.out.write('"');
+        if (periodClass != null) {
+            String name = periodClass.getName();
+            if (name.startsWith(TIME_PACKAGE)
+                    && name.indexOf('.', TIME_PACKAGE.length()) < 0) {
+                name = name.substring(TIME_PACKAGE.length());
+            }
+            this.out.write(" " + TIME_PERIOD_ATTRIBUTE + "=\"" + name + "\"");
+        }
+        this.out.write(">\n");
+    }
+
+    /**
+     * Writes the end tag for a series.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void endSeries() throws IOException {
+        this.out.write("  </" + SERIES_TAG + ">\n");
+    }
+
+    /**
+     * Writes a key element.
+     *
+     * @param key  the key.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeKey(Comparable key) throws IOException {
+        this.out.write("<" + KEY_TAG + ">");
+        writeEscaped(String.valueOf(key));
+        this.out.write("</" + KEY_TAG + ">");
+    }
+
+    /**
+     * Writes a time element.
+     *
+     * @param period  the time period.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeTime(RegularTimePeriod period) throws IOException {
+        this.out.write("<" + TIME_TAG + ">");
+        this.out.write(Long.toString(period.getFirstMillisecond()));
+        this.out.write("</" + TIME_TAG + ">");
+    }
+
+    /**
+     * Writes an element holding a number.
+     *
+     * @param name  the element name.
+     * @param value  the value (<code>null</code> permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeElement(String name, Number value) throws IOException {
+        writeElement(name, (value != null ? value.doubleValue()
+                : Double.NaN));
+    }
+
+    /**
+     * Writes an element holding a number.
+     *
+     * @param name  the element name.
+     * @param value  the value (<code>Double.NaN</code> is written as an
+     *     empty element).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeElement(String name, double value) throws IOException {
+        this.out.write('<');
+        this.out.write(name);
+        this.out.write('>');
+        if (!Double.isNaN(value)) {
+            this.out.write(Double.toString(value));
+        }
+        this.out.write("</");
+        this.out.write(name);
+        this.out.write('>');
+    }
+
+    /**
+     * Writes text, replacing the characters that have a special meaning in
+     * XML with references.
+     *
+     * @param text  the text.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeEscaped(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<':
+                    this.out.write("&lt;");
+                    break;
+                case '>':
+                    this.out.write("&gt;");
+                    break;
+                case '&':
+                    this.out.write("&amp;");
+                    break;
+                case '"':
+                    this.out.write("&quot;");
+                    break;
+                case '\'':
+                    this.out.write("&apos;");
+                    break;
+                default:
+                    this.out.write(c);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,824 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------
+ * XMLPullParser.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Use DecimalParser to convert numbers (DG);
+ *
+ */
+
+package org.jfree.data.xml;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.CharBuffer;
+
+import org.jfree.data.io.DecimalParser;
+
+/**
+ * A small pull parser for the XML files read by {@link DatasetXMLReader}.
+ * The caller asks for one event at a time, and the character data between
+ * two tags is collected in a reusable buffer, so that numbers can be
+ * converted without creating intermediate objects.  Element names are
+ * taken from a symbol table, so a name that has been seen before does not
+ * create a new string.
+ * <P>
+ * The parser checks that the document is well-formed (every element is
+ * closed by a matching tag), supports the predefined and numeric character
+ * references, CDATA sections and comments, and skips processing
+ * instructions and document type declarations.  It does not support
+ * namespaces or DTD-defined entities.
+ */
+final class XMLPullParser {
+
+    /** The event for the start of an element. */
+    static final int START_ELEMENT = 1;
+
+    /** The event for the end of an element. */
+    static final int END_ELEMENT = 2;
+
+    /** The event for the end of the document. */
+    static final int END_DOCUMENT = 3;
+
+    /** The source. */
+    private Reader in;
+
+    /** The input buffer. */
+    private char[] buffer;
+
+    /** The position of the next character in the buffer. */
+    private int pos;
+
+    /** The number of characters in the buffer. */
+    private int limit;
+
+    /** The current line number (for error messages). */
+    private int line;
+
+    /** The character data since the last tag. */
+    private char[] text;
+
+    /**
+     * A view of the text buffer, for parsing numbers (<code>null</code>
+     * until the first number is read).
+     */
+    private CharBuffer chars;
+
+    /** The length of the character data. */
+    private int textLength;
+
+    /** A temporary buffer for names and attribute values. */
+    private char[] scratch;
+
+    /** A temporary buffer for character references. */
+    private char[] reference;
+
+    /** The symbol table (open addressing, the length is a power of two). */
+    private String[] symbols;
+
+    /** The number of symbols. */
+    private int symbolCount;
+
+    /** The names of the open elements. */
+    private String[] stack;
+
+    /** The number of open elements. */
+    private int depth;
+
+    /** The name of the current element. */
+    private String name;
+
+    /** The attribute names of the current start tag. */
+    private String[] attributeNames;
+
+    /** The attribute values of the current start tag. */
+    private String[] attributeValues;
+
+    /** The number of attributes. */
+    private int attributeCount;
+
+    /** A flag that indicates that an empty element tag is to be closed. */
+    private boolean pendingEnd;
+
+    /**
+     * Creates a parser that reads from a character stream.
+     *
+     * @param in  the source.
+     */
+    XMLPullParser(Reader in) {
+        this.in = in;
+        this.buffer = new char[8192];
+        this.line = 1;
+        this.text = new char[64];
+        this.scratch = new char[64];
+        this.reference = new char[10];
+        this.symbols = new String[64];
+        this.stack = new String[16];
+        this.attributeNames = new String[4];
+        this.attributeValues = new String[4];
+    }
+
+    /**
+     * Creates a reader for a byte stream, using the encoding given by the
+     * byte order mark or the XML declaration (UTF-8 if neither is present).
+     *
+     * @param in  the byte stream.
+     *
+     * @return The reader.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    static Reader createReader(InputStream in) throws IOException {
+        BufferedInputStream bin = new BufferedInputStream(in);
+        bin.mark(512);
+        byte[] head = new byte[512];
+        int n = 0;
+        while (n < head.length) {
+            int count = bin.read(head, n, head.length - n);
+            if (count < 0) {
+                break;
+            }
+            n += count;
+        }
+        bin.reset();
+        if (n >= 2 && ((head[0] == (byte) 0xFE && head[1] == (byte) 0xFF)
+                || (head[0] == (byte) 0xFF && head[1] == (byte) 0xFE))) {
+            return new InputStreamReader(bin, "UTF-16");
+        }
+        int start = 0;
+        if (n >= 3 && head[0] == (byte) 0xEF && head[1] == (byte) 0xBB
+                && head[2] == (byte) 0xBF) {
+            start = 3;
+            bin.skip(3);
+        }
+        String encoding = "UTF-8";
+        String prolog = new String(head, start, n - start, "ISO-8859-1");
+        if (prolog.startsWith("<?xml")) {
+            int end = prolog.indexOf("?>");
+            int e = prolog.indexOf("encoding");
+            if (e > 0 && (end < 0 || e < end)) {
+                int q = e + 8;
+                while (q < prolog.length() && prolog.charAt(q) != '"'
+                        && prolog.charAt(q) != '\'') {
+                    q++;
+                }
+                if (q < prolog.length()) {
+                    int q2 = prolog.indexOf(prolog.charAt(q), q + 1);
+                    if (q2 > q) {
+                        encoding = prolog.substring(q + 1, q2);
+                    }
+                }
+            }
+        }
+        return new InputStreamReader(bin, encoding);
+    }
+
+    /**
+     * Returns the current line number.
+     *
+     * @return The line number.
+     */
+    int getLineNumber() {
+        return this.line;
+    }
+
+    /**
+     * Returns the name of the current element (for the start and end
+     * events).
+     *
+     * @return The name.
+     */
+    String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns the number of open elements.
+     *
+     * @return The depth.
+     */
+    int getDepth() {
+        return this.depth;
+    }
+
+    /**
+     * Returns the value of an attribute of the current start tag.
+     *
+     * @param attributeName  the attribute name.
+     *
+     * @return The value (<code>null</code> if the attribute is not present).
+     */
+    String getAttribute(String attributeName) {
+        for (int i = 0; i < this.attributeCount; i++) {
+            if (this.attributeNames[i].equals(attributeName)) {
+                return this.attributeValues[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the character data between the previous tag and the current
+     * tag, without leading and trailing white space.
+     *
+     * @return The text.
+     */
+    String getText() {
+        int s = 0;
+        int e = this.textLength;
+        while (s < e && this.text[s] <= ' ') {
+            s++;
+        }
+        while (e > s && this.text[e - 1] <= ' ') {
+            e--;
+        }
+        return new String(this.text, s, e - s);
+    }
+
+    /**
+     * Returns the character data between the previous tag and the current
+     * tag as a number.
+     *
+     * @return The number (<code>Double.NaN</code> if there is no text, or
+     *     the text is not a number).
+     */
+    double getNumber() {
+        int s = 0;
+        int e = this.textLength;
+        char[] t = this.text;
+        while (s < e && t[s] <= ' ') {
+            s++;
+        }
+        while (e > s && t[e - 1] <= ' ') {
+            e--;
+        }
+        if (s == e) {
+            return Double.NaN;
+        }
+        if (this.chars == null || this.chars.array() != t) {
+            this.chars = CharBuffer.wrap(t);
+        }
+        double result = DecimalParser.parse(this.chars, s, e);
+        if (!Double.isNaN(result)) {
+            return result;
+        }
+        try {
+            return Double.parseDouble(new String(t, s, e - s));
+        }
+        catch (NumberFormatException ex) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Reads the next start tag, end tag or the end of the document.  The
+     * character data before the tag is available from {@link #getText()}
+     * and {@link #getNumber()} until the next call to this method.
+     *
+     * @return The event ({@link #START_ELEMENT}, {@link #END_ELEMENT} or
+     *     {@link #END_DOCUMENT}).
+     *
+     * @throws IOException if there is an I/O problem or the document is not
+     *     well-formed.
+     */
+    int next() throws IOException {
+        this.textLength = 0;
+        if (this.pendingEnd) {
+            this.pendingEnd = false;
+            this.depth--;
+            return END_ELEMENT;
+        }
+        while (true) {
+            int c = read();
+            if (c < 0) {
+                if (this.depth > 0) {
+                    throw error("Unexpected end of document, expected </"
+                            + this.stack[this.depth - 1] + ">");
+                }
+                return END_DOCUMENT;
+            }
+            if (c == '&') {
+                appendText(readReference());
+            }
+            else if (c != '<') {
+                appendText((char) c);
+            }
+            else {
+                c = read();
+                if (c == '/') {
+                    String tagName = readName(read());
+                    skipWhitespace();
+                    expect('>');
+                    if (this.depth == 0
+                            || this.stack[this.depth - 1] != tagName) {
+                        throw error("Unexpected </" + tagName + ">");
+                    }
+                    this.depth--;
+                    this.name = tagName;
+                    return END_ELEMENT;
+                }
+                else if (c == '?') {
+                    skipPast("?>");
+                }
+                else if (c == '!') {
+                    c = read();
+                    if (c == '-') {
+                        expect('-');
+                        skipPast("-->");
+                    }
+                    else if (c == '[') {
+                        skipExpected("CDATA[");
+                        readCData();
+                    }
+                    else {
+                        skipDeclaration();
+                    }
+                }
+                else {
+                    readStartTag(c);
+                    return START_ELEMENT;
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves to the next start tag, skipping any end tags and character data,
+     * unless the current element ends first.
+     *
+     * @return <code>true</code> if a start tag was found, and
+     *     <code>false</code> if the element that was open when this method
+     *     was called has ended.
+     *
+     * @throws IOException if there is an I/O problem or the document is not
+     *     well-formed.
+     */
+    boolean nextChild() throws IOException {
+        int d = this.depth;
+        while (true) {
+            int event = next();
+            if (event == START_ELEMENT) {
+                return true;
+            }
+            if (event == END_DOCUMENT || this.depth < d) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Skips the rest of the current element (including its children).
+     *
+     * @throws IOException if there is an I/O problem or the document is not
+     *     well-formed.
+     */
+    void skipElement() throws IOException {
+        int d = this.depth;
+        while (this.depth >= d) {
+            if (next() == END_DOCUMENT) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Closes the source.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    void close() throws IOException {
+        this.in.close();
+    }
+
+    /**
+     * Creates an exception for a problem in the document.
+     *
+     * @param message  the message.
+     *
+     * @return The exception.
+     */
+    IOException error(String message) {
+        return new IOException(message + " (line " + this.line + ").");
+    }
+
+    /**
+     * Reads a start tag (after the '&lt;').
+     *
+     * @param first  the first character of the name.
+     *
+     * @throws IOException if there is a problem.
+     */
+    private void readStartTag(int first) throws IOException {
+        this.name = readName(first);
+        this.attributeCount = 0;
+        while (true) {
+            skipWhitespace();
+            int c = read();
+            if (c == '>') {
+                break;
+            }
+            if (c == '/') {
+                expect('>');
+                this.pendingEnd = true;
+                break;
+            }
+            String attributeName = readName(c);
+            skipWhitespace();
+            expect('=');
+            skipWhitespace();
+            int quote = read();
+            if (quote != '"' && quote != '\'') {
+                throw error("Expected a quoted attribute value");
+            }
+            int length = 0;
+            while (true) {
+                c = read();
+                if (c < 0) {
+                    throw error("Unexpected end of document");
+                }
+                if (c == quote) {
+                    break;
+                }
+                char ch = (c == '&' ? readReference() : (char) c);
+                if (length == this.scratch.length) {
+                    this.scratch = grow(this.scratch);
+                }
+                this.scratch[length++] = ch;
+            }
+            if (this.attributeCount == this.attributeNames.length) {
+                String[] names = new String[this.attributeCount * 2];
+                String[] values = new String[this.attributeCount * 2];
+                System.arraycopy(this.attributeNames, 0, names, 0,
+                        this.attributeCount);
+                System.arraycopy(this.attributeValues, 0, values, 0,
+                        this.attributeCount);
+                this.attributeNames = names;
+                this.attributeValues = values;
+            }
+            this.attributeNames[this.attributeCount] = attributeName;
+            this.attributeValues[this.attributeCount]
+                    = new String(this.scratch, 0, length);
+            this.attributeCount++;
+        }
+        if (this.depth == this.stack.length) {
+            String[] s = new String[this.depth * 2];
+            System.arraycopy(this.stack, 0, s, 0, this.depth);
+            this.stack = s;
+        }
+        this.stack[this.depth++] = this.name;
+    }
+
+    /**
+     * Reads a name and returns the matching string from the symbol table.
+     *
+     * @param first  the first character.
+     *
+     * @return The name.
+     *
+     * @throws IOException if there is a problem.
+     */
+    private String readName(int first) throws IOException {
+        if (first < 0 || !isNameChar(first) || first == '-' || first == '.'
+                || (first >= '0' && first <= '9')) {
+            throw error("Invalid name");
+        }
+        int length = 0;
+        int hash = 0;
+        int c = first;
+        while (c >= 0 && isNameChar(c)) {
+            if (length == this.scratch.length) {
+                this.scratch = grow(this.scratch);
+            }
+            this.scratch[length++] = (char) c;
+            hash = 31 * hash + c;
+            c = read();
+        }
+        unread();
+        return symbol(this.scratch, length, hash);
+    }
+
+    /**
+     * Returns the string in the symbol table with the specified characters,
+     * adding it if necessary.
+     *
+     * @param chars  the characters.
+     * @param length  the number of characters.
+     * @param hash  the hash code of the characters.
+     *
+     * @return The string.
+     */
+    private String symbol(char[] chars, int length, int hash) {
+        int mask = this.symbols.length - 1;
+        int i = hash & mask;
+        while (this.symbols[i] != null) {
+            String s = this.symbols[i];
+            if (s.length() == length) {
+                boolean same = true;
+                for (int j = 0; j < length && same; j++) {
+                    same = (s.charAt(j) == chars[j]);
+                }
+                if (same) {
+                    return s;
+                }
+            }
+            i = (i + 1) & mask;
+        }
+        String s = new String(chars, 0, length);
+        this.symbols[i] = s;
+        this.symbolCount++;
+        if (this.symbolCount * 2 > this.symbols.length) {
+            String[] old = this.symbols;
+            this.symbols = new String[old.length * 2];
+            mask = this.symbols.length - 1;
+            for (int j = 0; j < old.length; j++) {
+                if (old[j] != null) {
+                    int k = old[j].hashCode() & mask;
+                    while (this.symbols[k] != null) {
+                        k = (k + 1) & mask;
+                    }
+                    this.symbols[k] = old[j];
+                }
+            }
+        }
+        return s;
+    }
+
+    /**
+     * Returns <code>true</code> if a character can appear in a name.
+     *
+     * @param c  the character.
+     *
+     * @return A boolean.
+     */
+    private static boolean isNameChar(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')
+                || (c >= '0' && c <= '9') || c == '_' || c == '-' || c == '.'
+                || c == ':' || c > 127;
+    }
+
+    /**
+     * Reads a character reference or predefined entity reference (after the
+     * '&amp;').
+     *
+     * @return The character.
+     *
+     * @throws IOException if there is a problem.
+     */
+    private char readReference() throws IOException {
+        int length = 0;
+        int c = read();
+        while (c >= 0 && c != ';' && length < this.reference.length) {
+            this.reference[length++] = (char) c;
+            c = read();
+        }
+        if (c != ';') {
+            throw error("Invalid reference");
+        }
+        String ref = new String(this.reference, 0, length);
+        if (ref.equals("lt")) {
+            return '<';
+        }
+        else if (ref.equals("gt")) {
+            return '>';
+        }
+        else if (ref.equals("amp")) {
+            return '&';
+        }
+        else if (ref.equals("quot")) {
+            return '"';
+        }
+        else if (ref.equals("apos")) {
+            return '\'';
+        }
+        else if (ref.startsWith("#")) {
+            try {
+                if (ref.startsWith("#x")) {
+                    return (char) Integer.parseInt(ref.substring(2), 16);
+                }
+                return (char) Integer.parseInt(ref.substring(1));
+            }
+            catch (NumberFormatException e) {
+                // fall through
+            }
+        }
+        throw error("Unknown reference &" + ref + ";");
+    }
+
+    /**
+     * Reads a CDATA section (after the '&lt;![CDATA[') into the text.
+     *
+     * @throws IOException if there is a problem.
+     */
+    private void readCData() throws IOException {
+        int brackets = 0;
+        while (true) {
+            int c = read();
+            if (c < 0) {
+                throw error("Unterminated CDATA section");
+            }
+            if (c == '>' && brackets >= 2) {
+                this.textLength -= 2;
+                return;
+            }
+            brackets = (c == ']' ? brackets + 1 : 0);
+            appendText((char) c);
+        }
+    }
+
+    /**
+     * Skips a declaration such as a document type declaration (after the
+     * '&lt;!'), including any internal subset.
+     *
+     * @throws IOException if there is a problem.
+     */
+    private void skipDeclaration() throws IOException {
+        int nesting = 0;
+        while (true) {
+            int c = read();
+            if (c < 0) {
+                throw error("Unterminated declaration");
+            }
+            if (c == '[') {
+                nesting++;
+            }
+            else if (c == ']') {
+                nesting--;
+            }
+            else if (c == '>' && nesting <= 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Skips characters up to and including the specified terminator.
+     *
+     * @param terminator  the terminator.
+     *
+     * @throws IOException if there is a problem.
+     */
+    private void skipPast(String terminator) throws IOException {
+        int matched = 0;
+        while (matched < terminator.length()) {
+            int c = read();
+            if (c < 0) {
+                throw error("Expected '" + terminator + "'");
+            }
+            if (c == terminator.charAt(matched)) {
+                matched++;
+            }
+            else {
+                matched = (c == terminator.charAt(0) ? 1 : 0);
+            }
+        }
+    }
+
+    /**
+     * Reads the specified characters.
+     *
+     * @param expected  the characters.
+     *
+     * @throws IOException if other characters are found.
+     */
+    private void skipExpected(String expected) throws IOException {
+        for (int i = 0; i < expected.length(); i++) {
+            expect(expected.charAt(i));
+        }
+    }
+
+    /**
+     * Reads the specified character.
+     *
+     * @param expected  the character.
+     *
+     * @throws IOException if another character is found.
+     */
+    private void expect(char expected) throws IOException {
+        if (read() != expected) {
+            throw error("Expected '" + expected + "'");
+        }
+    }
+
+    /**
+     * Skips white space.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void skipWhitespace() throws IOException {
+        int c = read();
+        while (c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+            c = read();
+        }
+        unread();
+    }
+
+    /**
+     * Appends a character to the text.
+     *
+     * @param c  the character.
+     */
+    private void appendText(char c) {
+        if (this.textLength == this.text.length) {
+            this.text = grow(this.text);
+        }
+        this.text[this.textLength++] = c;
+    }
+
+    /**
+     * Returns a copy of an array with twice the length.
+     *
+     * @param array  the array.
+     *
+     * @return The new array.
+     */
+    private static char[] grow(char[] array) {
+        char[] result = new char[array.length * 2];
+        System.arraycopy(array, 0, result, 0, array.length);
+        return result;
+    }
+
+    /**
+     * Reads the next character.
+     *
+     * @return The character, or -1 at the end of the input.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private int read() throws IOException {
+        if (this.limit < 0) {
+            return -1;
+        }
+        if (this.pos == this.limit) {
+            // keep the last character, so that it can be unread
+            if (this.limit > 0) {
+                this.buffer[0] = this.buffer[this.limit - 1];
+                this.pos = 1;
+            }
+            else {
+                this.pos = 0;
+            }
+            int n = this.in.read(this.buffer, this.pos,
+                    this.buffer.length - this.pos);
+            if (n <= 0) {
+                this.limit = -1;
+                return -1;
+            }
+            this.limit = this.pos + n;
+        }
+        char c = this.buffer[this.pos++];
+        if (c == '\n') {
+            this.line++;
+        }
+        return c;
+    }
+
+    /**
+     * Steps back one character (the last character read by
+     * {@link #read()}, which must not have been the end of the input).
+     */
+    private void unread() {
+        if (this.limit < 0) {
+            return;
+        }
+        this.pos--;
+        if (this.buffer[this.pos] == '\n') {
+            this.line--;
+        }
+    }
+
+}
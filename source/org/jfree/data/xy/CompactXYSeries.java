@@ -0,0 +1,826 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------
+ * CompactXYSeries.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Store items in a circular buffer so that removing the oldest
+ *               items is a constant time operation (DG);
+ * 18-Oct-2026 : Update the x and y-value indices when the series changes (DG);
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesException;
+
+/**
+ * An {@link XYSeries} that stores its data in two arrays of double
+ * primitives, rather than in a list of {@link XYDataItem} objects.  This
+ * uses roughly 16 bytes per data item (compared with 50 or more bytes for
+ * the standard series), and the {@link #getXValue(int)} and
+ * {@link #getYValue(int)} methods read the arrays directly, so that
+ * renderers drawing an {@link XYSeriesCollection} don't need to unbox any
+ * values.
+ * <P>
+ * The API is the same as for {@link XYSeries}, with the following
+ * differences:
+ * <ul>
+ * <li>a <code>null</code> y-value is stored as <code>Double.NaN</code>, so
+ *     the two cannot be distinguished (both are returned as
+ *     <code>null</code> by the {@link #getY(int)} method);</li>
+ * <li>the {@link XYDataItem} instances returned by
+ *     {@link #getDataItem(int)} and {@link #getItems()} are created on
+ *     demand and are not backed by the series, so updating them has no
+ *     effect on the series;</li>
+ * <li>the inherited <code>data</code> list is not used.</li>
+ * </ul>
+ * <P>
+ * The arrays are used as a circular buffer, so removing items from the
+ * start of the series (which happens on every append once the maximum item
+ * count is reached, see {@link #setMaximumItemCount(int)}) does not shift
+ * the remaining items.  This makes the series well suited to a sliding
+ * window over a stream of (x, y) values.
+ *
+ * @since 1.0.13
+ */
+public class CompactXYSeries extends XYSeries {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2286926541434404556L;
+
+    /** The default initial capacity. */
+    private static final int DEFAULT_INITIAL_CAPACITY = 64;
+
+    /** Storage for the x-values. */
+    private double[] xValues;
+
+    /** Storage for the y-values (<code>Double.NaN</code> for null). */
+    private double[] yValues;
+
+    /** The array index of the first item in the series. */
+    private int head;
+
+    /** The number of items in the series. */
+    private int itemCount;
+
+    /**
+     * Creates a new empty series.  By default, items added to the series will
+     * be sorted into ascending order by x-value, and duplicate x-values will
+     * be allowed.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     */
+    public CompactXYSeries(Comparable key) {
+        this(key, true, true);
+    }
+
+    /**
+     * Constructs a new empty series, with the auto-sort flag set as requested,
+     * and duplicate values allowed.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     */
+    public CompactXYSeries(Comparable key, boolean autoSort) {
+        this(key, autoSort, true);
+    }
+
+    /**
+     * Constructs a new empty series.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     * @param allowDuplicateXValues  a flag that controls whether duplicate
+     *                               x-values are allowed.
+     */
+    public CompactXYSeries(Comparable key, boolean autoSort,
+            boolean allowDuplicateXValues) {
+        this(key, autoSort, allowDuplicateXValues, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new empty series with storage pre-allocated for the
+     * specified number of items.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     * @param allowDuplicateXValues  a flag that controls whether duplicate
+     *                               x-values are allowed.
+     * @param initialCapacity  the initial capacity (must be positive).
+     */
+    public CompactXYSeries(Comparable key, boolean autoSort,
+            boolean allowDuplicateXValues, int initialCapacity) {
+        super(key, autoSort, allowDuplicateXValues);
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException(
+                    "Requires 'initialCapacity' > 0.");
+        }
+        this.xValues = new double[initialCapacity];
+        this.yValues = new double[initialCapacity];
+        this.head = 0;
+        this.itemCount = 0;
+    }
+
+    /**
+     * Returns the number of items in the series.
+     *
+     * @return The item count.
+     */
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns a list containing a copy of the data items in the series.
+     * The list is unmodifiable and is not updated if the series changes.
+     *
+     * @return The list of data items.
+     */
+    public List getItems() {
+        List result = new java.util.ArrayList(this.itemCount);
+        for (int i = 0; i < this.itemCount; i++) {
+            result.add(getDataItem(i));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Sets the maximum number of items that will be retained in the series.
+     * If the series currently holds more items than this, the oldest items
+     * are removed and a {@link SeriesChangeEvent} is sent to all registered
+     * listeners.
+     *
+     * @param maximum  the maximum number of items for the series.
+     */
+    public void setMaximumItemCount(int maximum) {
+        boolean dataRemoved = false;
+        if (this.itemCount > maximum) {
+            removeItems(0, this.itemCount - Math.max(maximum, 0) - 1);
+            dataRemoved = true;
+        }
+        super.setMaximumItemCount(maximum);
+        if (dataRemoved) {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Adds a data item to the series and sends a {@link SeriesChangeEvent} to
+     * all registered listeners.
+     *
+     * @param x  the x value.
+     * @param y  the y value.
+     */
+    public void add(double x, double y) {
+        add(x, y, true);
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x value.
+     * @param y  the y value.
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     *
+     * @throws SeriesException if the x-value is a duplicate and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series.
+     */
+    public void add(double x, double y, boolean notify) {
+        int index;
+        if (getAutoSort()) {
+            // add *after* any existing duplicates, as XYSeries does
+            index = upperBound(x);
+            if (!getAllowDuplicateXValues() && index > 0
+                    && this.xValues[slot(index - 1)] == x) {
+                throw new SeriesException("X-value already exists.");
+            }
+        }
+        else {
+            if (!getAllowDuplicateXValues() && indexOf(x) >= 0) {
+                throw new SeriesException("X-value already exists.");
+            }
+            index = this.itemCount;
+        }
+        insertItem(index, x, y);
+        if (this.itemCount > getMaximumItemCount()) {
+            removeItems(0, 0);
+        }
+        if (notify) {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Adds new data to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-value (<code>null</code> not permitted).
+     * @param y  the y-value (<code>null</code> permitted).
+     * @param notify  a flag the controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     */
+    public void add(Number x, Number y, boolean notify) {
+        if (x == null) {
+            throw new IllegalArgumentException("Null 'x' argument.");
+        }
+        add(x.doubleValue(), toDouble(y), notify);
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param item  the (x, y) item (<code>null</code> not permitted).
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     */
+    public void add(XYDataItem item, boolean notify) {
+        if (item == null) {
+            throw new IllegalArgumentException("Null 'item' argument.");
+        }
+        add(item.getXValue(), item.getYValue(), notify);
+    }
+
+    /**
+     * Deletes a range of items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param start  the start index (zero-based).
+     * @param end  the end index (zero-based).
+     */
+    public void delete(int start, int end) {
+        removeItems(start, end);
+        fireSeriesChanged();
+    }
+
+    /**
+     * Removes the item at the specified index and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the index.
+     *
+     * @return The item removed.
+     */
+    public XYDataItem remove(int index) {
+        XYDataItem result = getDataItem(index);
+        removeItems(index, index);
+        fireSeriesChanged();
+        return result;
+    }
+
+    /**
+     * Removes all data items from the series.
+     */
+    public void clear() {
+        if (this.itemCount > 0) {
+            int count = this.itemCount;
+            this.head = 0;
+            this.itemCount = 0;
+            itemsRemoved(0, count - 1);
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Returns a new data item containing the values at the specified index.
+     *
+     * @param index  the index.
+     *
+     * @return The data item with the specified index.
+     */
+    public XYDataItem getDataItem(int index) {
+        checkIndex(index);
+        int i = slot(index);
+        return new XYDataItem(new Double(this.xValues[i]),
+                toNumber(this.yValues[i]));
+    }
+
+    /**
+     * Returns the x-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value (never <code>null</code>).
+     */
+    public Number getX(int index) {
+        return new Double(getXValue(index));
+    }
+
+    /**
+     * Returns the y-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (possibly <code>null</code>).
+     */
+    public Number getY(int index) {
+        return toNumber(getYValue(index));
+    }
+
+    /**
+     * Returns the x-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int index) {
+        checkIndex(index);
+        return this.xValues[slot(index)];
+    }
+
+    /**
+     * Returns the y-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (possibly <code>Double.NaN</code>).
+     */
+    public double getYValue(int index) {
+        checkIndex(index);
+        return this.yValues[slot(index)];
+    }
+
+    /**
+     * Updates the value of an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the item (zero based index).
+     * @param y  the new value (<code>null</code> permitted).
+     *
+     * @deprecated Renamed {@link #updateByIndex(int, Number)} to avoid
+     *         confusion with the {@link #update(Number, Number)} method.
+     */
+    public void update(int index, Number y) {
+        checkIndex(index);
+        this.yValues[slot(index)] = toDouble(y);
+        itemChanged(index);
+        fireSeriesChanged();
+    }
+
+    /**
+     * Updates an item in the series.
+     *
+     * @param x  the x-value (<code>null</code> not permitted).
+     * @param y  the y-value (<code>null</code> permitted).
+     *
+     * @throws SeriesException if there is no existing item with the specified
+     *         x-value.
+     */
+    public void update(Number x, Number y) {
+        int index = indexOf(x);
+        if (index < 0) {
+            throw new SeriesException("No observation for x = " + x);
+        }
+        this.yValues[slot(index)] = toDouble(y);
+        itemChanged(index);
+        fireSeriesChanged();
+    }
+
+    /**
+     * Adds or updates an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-value (<code>null</code> not permitted).
+     * @param y  the y-value (<code>null</code> permitted).
+     *
+     * @return A copy of the overwritten data item, or <code>null</code> if no
+     *         item was overwritten.
+     */
+    public XYDataItem addOrUpdate(Number x, Number y) {
+        if (x == null) {
+            throw new IllegalArgumentException("Null 'x' argument.");
+        }
+        return addOrUpdate(x.doubleValue(), toDouble(y));
+    }
+
+    /**
+     * Adds or updates an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     *
+     * @return A copy of the overwritten data item, or <code>null</code> if no
+     *         item was overwritten.
+     */
+    public XYDataItem addOrUpdate(double x, double y) {
+        if (getAllowDuplicateXValues()) {
+            add(x, y);
+            return null;
+        }
+        XYDataItem overwritten = null;
+        int index = indexOf(x);
+        if (index >= 0) {
+            overwritten = getDataItem(index);
+            this.yValues[slot(index)] = y;
+            itemChanged(index);
+        }
+        else {
+            if (getAutoSort()) {
+                insertItem(-index - 1, x, y);
+            }
+            else {
+                insertItem(this.itemCount, x, y);
+            }
+            if (this.itemCount > getMaximumItemCount()) {
+                removeItems(0, 0);
+            }
+        }
+        fireSeriesChanged();
+        return overwritten;
+    }
+
+    /**
+     * Returns the index of the item with the specified x-value, or a negative
+     * index if the series does not contain an item with that x-value.
+     *
+     * @param x  the x-value (<code>null</code> not permitted).
+     *
+     * @return The index.
+     */
+    public int indexOf(Number x) {
+        if (x == null) {
+            throw new IllegalArgumentException("Null 'x' argument.");
+        }
+        return indexOf(x.doubleValue());
+    }
+
+    /**
+     * Returns the index of the (first) item with the specified x-value, or a
+     * negative index if the series does not contain an item with that
+     * x-value.  For a sorted series, the negative index encodes the insertion
+     * point in the same way as <code>Collections.binarySearch()</code>.
+     *
+     * @param x  the x-value.
+     *
+     * @return The index.
+     */
+    public int indexOf(double x) {
+        if (getAutoSort()) {
+            int low = lowerBound(x);
+            if (low < this.itemCount && this.xValues[slot(low)] == x) {
+                return low;
+            }
+            return -low - 1;
+        }
+        for (int i = 0; i < this.itemCount; i++) {
+            if (this.xValues[slot(i)] == x) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a new array containing the x and y values from this series.
+     *
+     * @return A new array containing the x and y values from this series.
+     */
+    public double[][] toArray() {
+        double[][] result = new double[2][this.itemCount];
+        copyItems(0, this.itemCount, result[0], result[1]);
+        return result;
+    }
+
+    /**
+     * Returns a clone of the series.
+     *
+     * @return A clone of the series.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        CompactXYSeries clone = (CompactXYSeries) super.clone();
+        clone.xValues = (double[]) this.xValues.clone();
+        clone.yValues = (double[]) this.yValues.clone();
+        return clone;
+    }
+
+    /**
+     * Creates a new series by copying a subset of the data in this series.
+     *
+     * @param start  the index of the first item to copy.
+     * @param end  the index of the last item to copy.
+     *
+     * @return A series containing a copy of this series from start until end.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    public XYSeries createCopy(int start, int end)
+            throws CloneNotSupportedException {
+        CompactXYSeries copy = (CompactXYSeries) super.clone();
+        int count = 0;
+        if (this.itemCount > 0) {
+            checkIndex(start);
+            checkIndex(end);
+            count = Math.max(end - start + 1, 0);
+        }
+        copy.xValues = new double[Math.max(count, 1)];
+        copy.yValues = new double[Math.max(count, 1)];
+        copyItems(start, count, copy.xValues, copy.yValues);
+        copy.head = 0;
+        copy.itemCount = count;
+        return copy;
+    }
+
+    /**
+     * Tests this series for equality with an arbitrary object.  Note that a
+     * <code>CompactXYSeries</code> is never considered equal to a standard
+     * {@link XYSeries}, even if the two contain the same data.
+     *
+     * @param obj  the object to test against for equality
+     *             (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof CompactXYSeries)) {
+            return false;
+        }
+        // the superclass compares the (unused) data lists, which are empty
+        if (!super.equals(obj)) {
+            return false;
+        }
+        CompactXYSeries that = (CompactXYSeries) obj;
+        if (this.itemCount != that.itemCount) {
+            return false;
+        }
+        for (int i = 0; i < this.itemCount; i++) {
+            int s1 = slot(i);
+            int s2 = that.slot(i);
+            if (Double.doubleToLongBits(this.xValues[s1])
+                    != Double.doubleToLongBits(that.xValues[s2])) {
+                return false;
+            }
+            if (Double.doubleToLongBits(this.yValues[s1])
+                    != Double.doubleToLongBits(that.yValues[s2])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of the first item with an x-value greater than or
+     * equal to <code>x</code> (only valid for a sorted series).
+     *
+     * @param x  the x-value.
+     *
+     * @return The index (in the range <code>0</code> to
+     *     <code>getItemCount()</code>).
+     */
+    private int lowerBound(double x) {
+        int low = 0;
+        int high = this.itemCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.xValues[slot(mid)] < x) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first item with an x-value greater than
+     * <code>x</code> (only valid for a sorted series).
+     *
+     * @param x  the x-value.
+     *
+     * @return The index (in the range <code>0</code> to
+     *     <code>getItemCount()</code>).
+     */
+    private int upperBound(double x) {
+        int low = 0;
+        int high = this.itemCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.xValues[slot(mid)] <= x) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the array index for the item with the specified (zero-based)
+     * index in the series.
+     *
+     * @param index  the item index (in the range <code>0</code> to
+     *     <code>getItemCount()</code>).
+     *
+     * @return The array index.
+     */
+    private int slot(int index) {
+        int i = this.head + index;
+        if (i >= this.xValues.length) {
+            i = i - this.xValues.length;
+        }
+        return i;
+    }
+
+    /**
+     * Copies a range of items, in series order, to the start of the
+     * specified arrays.
+     *
+     * @param start  the index of the first item to copy.
+     * @param count  the number of items to copy.
+     * @param xx  the destination for the x-values.
+     * @param yy  the destination for the y-values.
+     */
+    private void copyItems(int start, int count, double[] xx, double[] yy) {
+        if (count <= 0) {
+            return;
+        }
+        int first = slot(start);
+        int n = Math.min(count, this.xValues.length - first);
+        System.arraycopy(this.xValues, first, xx, 0, n);
+        System.arraycopy(this.yValues, first, yy, 0, n);
+        if (n < count) {
+            // the range wraps around the end of the arrays
+            System.arraycopy(this.xValues, 0, xx, n, count - n);
+            System.arraycopy(this.yValues, 0, yy, n, count - n);
+        }
+    }
+
+    /**
+     * Moves <code>count</code> items, starting at item index
+     * <code>from</code>, by <code>offset</code> places.  Items are copied in
+     * an order that is safe for overlapping ranges.
+     *
+     * @param from  the index of the first item to move.
+     * @param count  the number of items to move.
+     * @param offset  the distance to move the items.
+     */
+    private void moveItems(int from, int count, int offset) {
+        int capacity = this.xValues.length;
+        int step = (offset > 0 ? -1 : 1);
+        int i = (offset > 0 ? from + count - 1 : from);
+        for (int n = 0; n < count; n++) {
+            int src = slot(i);
+            int dst = (src + offset + capacity) % capacity;
+            this.xValues[dst] = this.xValues[src];
+            this.yValues[dst] = this.yValues[src];
+            i += step;
+        }
+    }
+
+    /**
+     * Inserts an item at the specified index, growing the storage arrays if
+     * necessary.  Appending an item (or inserting one at the start of the
+     * series) does not move any existing items, otherwise the items on the
+     * shorter side of the insertion point are moved.  No event is sent.
+     *
+     * @param index  the index.
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void insertItem(int index, double x, double y) {
+        if (this.itemCount == this.xValues.length) {
+            int capacity = this.xValues.length * 2;
+            double[] xx = new double[capacity];
+            double[] yy = new double[capacity];
+            copyItems(0, this.itemCount, xx, yy);
+            this.xValues = xx;
+            this.yValues = yy;
+            this.head = 0;
+        }
+        if (index < this.itemCount / 2) {
+            // open a gap by moving the leading items back one place
+            this.head = (this.head == 0 ? this.xValues.length : this.head) - 1;
+            moveItems(1, index, -1);
+        }
+        else {
+            moveItems(index, this.itemCount - index, 1);
+        }
+        int i = slot(index);
+        this.xValues[i] = x;
+        this.yValues[i] = y;
+        this.itemCount++;
+        itemAdded(index);
+    }
+
+    /**
+     * Removes the items from <code>start</code> to <code>end</code>
+     * inclusive.  Removing items from the start or end of the series takes
+     * constant time, otherwise the items on the shorter side of the removed
+     * range are moved.  No event is sent.
+     *
+     * @param start  the index of the first item to remove.
+     * @param end  the index of the last item to remove.
+     */
+    private void removeItems(int start, int end) {
+        if (end < start) {
+            return;
+        }
+        checkIndex(start);
+        checkIndex(end);
+        int count = end - start + 1;
+        int tail = this.itemCount - end - 1;
+        if (start < tail) {
+            moveItems(0, start, count);
+            this.head = slot(count);
+        }
+        else {
+            moveItems(end + 1, tail, -count);
+        }
+        this.itemCount -= count;
+        if (this.itemCount == 0) {
+            this.head = 0;
+        }
+        itemsRemoved(start, end);
+    }
+
+    /**
+     * Checks that an item index is valid.
+     *
+     * @param index  the index.
+     *
+     * @throws IndexOutOfBoundsException if the index is not valid.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.itemCount);
+        }
+    }
+
+    /**
+     * Converts a <code>Number</code> to a double, mapping <code>null</code>
+     * to <code>Double.NaN</code>.
+     *
+     * @param n  the number (<code>null</code> permitted).
+     *
+     * @return The double value.
+     */
+    private static double toDouble(Number n) {
+        return (n != null ? n.doubleValue() : Double.NaN);
+    }
+
+    /**
+     * Converts a double to a <code>Number</code>, mapping
+     * <code>Double.NaN</code> to <code>null</code>.
+     *
+     * @param d  the value.
+     *
+     * @return The number (possibly <code>null</code>).
+     */
+    private static Number toNumber(double d) {
+        return (Double.isNaN(d) ? null : new Double(d));
+    }
+
+}
@@ -0,0 +1,653 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * ConcurrentXYSeries.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Keep the bounds up to date as items are removed (DG);
+ *
+ */
+
+
+package org.jfree.data.xy;
+
+import java.io.Serializable;
+
+import org.jfree.data.Range;
+import org.jfree.data.general.Series;
+
+/**
+ * A series of (x, y) data items that can be appended to by several threads
+ * while it is being read (for example, by a chart that is being drawn).
+ * <P>
+ * The items are stored in fixed size blocks of primitive <code>double</code>
+ * values.  Each change creates a new immutable view of the items that
+ * shares the existing blocks, and publishes it with a single (volatile)
+ * write, so readers never block and never see a partially applied change.
+ * Items are only ever added at the end of the series (in the order that they
+ * arrive) or removed from the start of the series (when the maximum item
+ * count is exceeded), so an append never overwrites a value that might be
+ * visible to a reader.  Writers synchronize on the series, but only for the
+ * time it takes to copy the new values into place.
+ * <P>
+ * Unlike {@link XYSeries}, this series does not send a
+ * {@link org.jfree.data.general.SeriesChangeEvent} for each change, since
+ * that would run the listeners (typically a plot and a chart) on the
+ * writer's thread.  Instead, the changes are tracked with a modification
+ * count that is checked by {@link ConcurrentXYSeriesCollection}.
+ *
+ * @see ConcurrentXYSeriesCollection
+ *
+ * @since 1.0.13
+ */
+public class ConcurrentXYSeries extends Series {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 8240946211617934380L;
+
+    /** The current view of the items. */
+    private volatile Items items;
+
+    /** The maximum number of items for the series. */
+    private volatile int maximumItemCount;
+
+    /** The number of changes made to the series. */
+    private volatile int modificationCount;
+
+    /**
+     * Creates a new empty series with no limit on the number of items.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     */
+    public ConcurrentXYSeries(Comparable key) {
+        this(key, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new empty series.  When the number of items exceeds the
+     * specified maximum, the oldest items are removed.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param maximumItemCount  the maximum number of items (must be
+     *     positive).
+     */
+    public ConcurrentXYSeries(Comparable key, int maximumItemCount) {
+        super(key);
+        if (maximumItemCount <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'maximumItemCount' > 0.");
+        }
+        this.items = Items.EMPTY;
+        this.maximumItemCount = maximumItemCount;
+    }
+
+    /**
+     * Returns the number of items in the series.
+     *
+     * @return The item count.
+     */
+    public int getItemCount() {
+        return this.items.getItemCount();
+    }
+
+    /**
+     * Returns the maximum number of items that will be retained in the
+     * series.
+     *
+     * @return The maximum item count.
+     *
+     * @see #setMaximumItemCount(int)
+     */
+    public int getMaximumItemCount() {
+        return this.maximumItemCount;
+    }
+
+    /**
+     * Sets the maximum number of items that will be retained in the series.
+     * If the series currently contains more items, the oldest items are
+     * removed.
+     *
+     * @param maximum  the maximum number of items (must be positive).
+     *
+     * @see #getMaximumItemCount()
+     */
+    public void setMaximumItemCount(int maximum) {
+        if (maximum <= 0) {
+            throw new IllegalArgumentException("Requires 'maximum' > 0.");
+        }
+        synchronized (this) {
+            this.maximumItemCount = maximum;
+            Items current = this.items;
+            if (current.getItemCount() > maximum) {
+                this.items = current.removeFirst(
+                        current.getItemCount() - maximum);
+                this.modificationCount++;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of changes that have been made to the series.  The
+     * count can be compared with an earlier value to find out if the series
+     * has changed.
+     *
+     * @return The modification count.
+     */
+    public int getModificationCount() {
+        return this.modificationCount;
+    }
+
+    /**
+     * Returns the x-value for an item in the series.  Note that the items
+     * may be shifted by other threads between calls to this method, use
+     * {@link ConcurrentXYSeriesCollection#createSnapshot()} to read a
+     * consistent set of values.
+     *
+     * @param index  the item index.
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int index) {
+        return this.items.getXValue(index);
+    }
+
+    /**
+     * Returns the y-value for an item in the series.  Note that the items
+     * may be shifted by other threads between calls to this method, use
+     * {@link ConcurrentXYSeriesCollection#createSnapshot()} to read a
+     * consistent set of values.
+     *
+     * @param index  the item index.
+     *
+     * @return The y-value.
+     */
+    public double getYValue(int index) {
+        return this.items.getYValue(index);
+    }
+
+    /**
+     * Adds an item to the end of the series.  This method can be called by
+     * several threads at once.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value (<code>Double.NaN</code> for a missing value).
+     */
+    public void add(double x, double y) {
+        add(new double[] {x}, new double[] {y});
+    }
+
+    /**
+     * Adds several items to the end of the series.  The items become visible
+     * to readers together.  This method can be called by several threads at
+     * once.
+     *
+     * @param xValues  the x-values (<code>null</code> not permitted).
+     * @param yValues  the y-values (<code>null</code> not permitted).
+     */
+    public void add(double[] xValues, double[] yValues) {
+        if (xValues == null) {
+            throw new IllegalArgumentException("Null 'xValues' argument.");
+        }
+        if (yValues == null) {
+            throw new IllegalArgumentException("Null 'yValues' argument.");
+        }
+        if (xValues.length != yValues.length) {
+            throw new IllegalArgumentException(
+                    "Requires xValues.length == yValues.length.");
+        }
+        synchronized (this) {
+            this.items = this.items.append(xValues, yValues,
+                    this.maximumItemCount);
+            this.modificationCount++;
+        }
+    }
+
+    /**
+     * Removes all items from the series.
+     */
+    public void clear() {
+        synchronized (this) {
+            if (this.items.getItemCount() > 0) {
+                this.items = Items.EMPTY;
+                this.modificationCount++;
+            }
+        }
+    }
+
+    /**
+     * Returns the current (immutable) view of the items in the series.
+     *
+     * @return The items.
+     */
+    Items getItems() {
+        return this.items;
+    }
+
+    /**
+     * Tests this series for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof ConcurrentXYSeries)) {
+            return false;
+        }
+        if (!super.equals(obj)) {
+            return false;
+        }
+        ConcurrentXYSeries that = (ConcurrentXYSeries) obj;
+        if (this.maximumItemCount != that.maximumItemCount) {
+            return false;
+        }
+        Items i1 = this.items;
+        Items i2 = that.items;
+        int count = i1.getItemCount();
+        if (count != i2.getItemCount()) {
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            if (Double.doubleToLongBits(i1.getXValue(i))
+                    != Double.doubleToLongBits(i2.getXValue(i))) {
+                return false;
+            }
+            if (Double.doubleToLongBits(i1.getYValue(i))
+                    != Double.doubleToLongBits(i2.getYValue(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        int result = super.hashCode();
+        result = 29 * result + this.maximumItemCount;
+        result = 29 * result + this.items.getItemCount();
+        return result;
+    }
+
+    /**
+     * Returns a clone of the series.  The clone does not share any storage
+     * with this series.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        ConcurrentXYSeries clone = (ConcurrentXYSeries) super.clone();
+        clone.items = this.items.copy();
+        clone.modificationCount = 0;
+        return clone;
+    }
+
+    /**
+     * An immutable view of the items in a {@link ConcurrentXYSeries}.  The
+     * items are stored in blocks, and the view covers the items from
+     * <code>start</code> (inclusive) to <code>end</code> (exclusive).
+     * Different views can share blocks, but a view never sees a value
+     * written after it was created.
+     */
+    static final class Items implements Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -3128006826453106613L;
+
+        /** The number of bits used for the offset within a block. */
+        static final int BLOCK_SHIFT = 10;
+
+        /** The number of items in each block. */
+        static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+        /** The mask for the offset within a block. */
+        static final int BLOCK_MASK = BLOCK_SIZE - 1;
+
+        /** An empty view. */
+        static final Items EMPTY = new Items(new double[0][], new double[0][],
+                0, 0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, true,
+                true);
+
+        /** The blocks of x-values. */
+        private final double[][] x;
+
+        /** The blocks of y-values. */
+        private final double[][] y;
+
+        /** The position of the first item. */
+        private final int start;
+
+        /** The position after the last item. */
+        private final int end;
+
+        /** The minimum x-value (if known). */
+        private final double minX;
+
+        /** The maximum x-value (if known). */
+        private final double maxX;
+
+        /** The minimum y-value (if known). */
+        private final double minY;
+
+        /** The maximum y-value (if known). */
+        private final double maxY;
+
+        /**
+         * A flag that indicates whether the minimum and maximum values are
+         * known (they are tracked as items are appended and removed by
+         * {@link #append(double[], double[], int)}, but are unknown after
+         * {@link #removeFirst(int)} until the next append).
+         */
+        private final boolean boundsKnown;
+
+        /**
+         * A flag that indicates whether the x-values are in ascending order
+         * (in which case the minimum x-value is the first).
+         */
+        private final boolean xAscending;
+
+        /**
+         * Creates a new view.
+         *
+         * @param x  the blocks of x-values.
+         * @param y  the blocks of y-values.
+         * @param start  the position of the first item.
+         * @param end  the position after the last item.
+         * @param minX  the minimum x-value.
+         * @param maxX  the maximum x-value.
+         * @param minY  the minimum y-value.
+         * @param maxY  the maximum y-value.
+         * @param boundsKnown  are the minimum and maximum values known?
+         * @param xAscending  are the x-values in ascending order?
+         */
+        private Items(double[][] x, double[][] y, int start, int end,
+                double minX, double maxX, double minY, double maxY,
+                boolean boundsKnown, boolean xAscending) {
+            this.x = x;
+            this.y = y;
+            this.start = start;
+            this.end = end;
+            this.minX = minX;
+            this.maxX = maxX;
+            this.minY = minY;
+            this.maxY = maxY;
+            this.boundsKnown = boundsKnown;
+            this.xAscending = xAscending;
+        }
+
+        /**
+         * Returns the number of items.
+         *
+         * @return The item count.
+         */
+        int getItemCount() {
+            return this.end - this.start;
+        }
+
+        /**
+         * Returns an x-value.
+         *
+         * @param index  the item index.
+         *
+         * @return The x-value.
+         */
+        double getXValue(int index) {
+            int p = position(index);
+            return this.x[p >> BLOCK_SHIFT][p & BLOCK_MASK];
+        }
+
+        /**
+         * Returns a y-value.
+         *
+         * @param index  the item index.
+         *
+         * @return The y-value.
+         */
+        double getYValue(int index) {
+            int p = position(index);
+            return this.y[p >> BLOCK_SHIFT][p & BLOCK_MASK];
+        }
+
+        /**
+         * Returns the storage position for an item.
+         *
+         * @param index  the item index.
+         *
+         * @return The position.
+         */
+        private int position(int index) {
+            if (index < 0 || index >= this.end - this.start) {
+                throw new IndexOutOfBoundsException("Index " + index
+                        + " out of bounds for " + (this.end - this.start)
+                        + " items.");
+            }
+            return this.start + index;
+        }
+
+        /**
+         * Returns the range of the x-values, ignoring <code>NaN</code>.
+         *
+         * @return The range (<code>null</code> if there are no values).
+         */
+        Range getXRange() {
+            if (this.boundsKnown) {
+                return (this.minX <= this.maxX
+                        ? new Range(this.minX, this.maxX) : null);
+            }
+            return findRange(this.x, this.start, this.end);
+        }
+
+        /**
+         * Returns the range of the y-values, ignoring <code>NaN</code>.
+         *
+         * @return The range (<code>null</code> if there are no values).
+         */
+        Range getYRange() {
+            if (this.boundsKnown) {
+                return (this.minY <= this.maxY
+                        ? new Range(this.minY, this.maxY) : null);
+            }
+            return findRange(this.y, this.start, this.end);
+        }
+
+        /**
+         * Finds the range of the values in some blocks.
+         *
+         * @param blocks  the blocks.
+         * @param start  the position of the first value.
+         * @param end  the position after the last value.
+         *
+         * @return The range (<code>null</code> if there are no values).
+         */
+        private static Range findRange(double[][] blocks, int start,
+                int end) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int p = start; p < end; p++) {
+                double v = blocks[p >> BLOCK_SHIFT][p & BLOCK_MASK];
+                if (v < min) {
+                    min = v;
+                }
+                if (v > max) {
+                    max = v;
+                }
+            }
+            return (min <= max ? new Range(min, max) : null);
+        }
+
+        /**
+         * Returns a new view with the specified items appended (and the
+         * oldest items removed, if necessary).  This must only be called by
+         * the thread that holds the series lock, and only on the current
+         * view.
+         * <P>
+         * The bounds of the new view are known.  When items are removed,
+         * the bounds are recalculated only if a removed value was one of
+         * them (the minimum x-value is taken from the first item when the
+         * x-values are ascending), so the cost is proportional to the
+         * number of items appended and removed for typical data.
+         *
+         * @param xValues  the x-values.
+         * @param yValues  the y-values.
+         * @param maximumItemCount  the maximum item count.
+         *
+         * @return The new view.
+         */
+        Items append(double[] xValues, double[] yValues,
+                int maximumItemCount) {
+            double[][] xb = this.x;
+            double[][] yb = this.y;
+            int s = this.start;
+            int e = this.end;
+            double x0 = this.minX;
+            double x1 = this.maxX;
+            double y0 = this.minY;
+            double y1 = this.maxY;
+            boolean ascending = this.xAscending;
+            double last = (e > s ? xb[(e - 1) >> BLOCK_SHIFT][(e - 1)
+                    & BLOCK_MASK] : Double.NEGATIVE_INFINITY);
+            for (int i = 0; i < xValues.length; i++) {
+                if (e == xb.length << BLOCK_SHIFT) {
+                    // the blocks are full, so add a new one (the existing
+                    // blocks are shared, except for those that only hold
+                    // removed items)...
+                    int first = s >> BLOCK_SHIFT;
+                    int used = xb.length - first;
+                    double[][] xn = new double[used + 1][];
+                    double[][] yn = new double[used + 1][];
+                    System.arraycopy(xb, first, xn, 0, used);
+                    System.arraycopy(yb, first, yn, 0, used);
+                    xn[used] = new double[BLOCK_SIZE];
+                    yn[used] = new double[BLOCK_SIZE];
+                    xb = xn;
+                    yb = yn;
+                    s -= first << BLOCK_SHIFT;
+                    e -= first << BLOCK_SHIFT;
+                }
+                double xv = xValues[i];
+                double yv = yValues[i];
+                xb[e >> BLOCK_SHIFT][e & BLOCK_MASK] = xv;
+                yb[e >> BLOCK_SHIFT][e & BLOCK_MASK] = yv;
+                e++;
+                ascending = ascending && xv >= last;
+                last = xv;
+                if (xv < x0) {
+                    x0 = xv;
+                }
+                if (xv > x1) {
+                    x1 = xv;
+                }
+                if (yv < y0) {
+                    y0 = yv;
+                }
+                if (yv > y1) {
+                    y1 = yv;
+                }
+            }
+            boolean xKnown = this.boundsKnown;
+            boolean yKnown = this.boundsKnown;
+            if (e - s > maximumItemCount) {
+                // only the removal of a bound makes the bounds unknown...
+                int s1 = e - maximumItemCount;
+                for (int p = s; p < s1 && (xKnown || yKnown); p++) {
+                    double xv = xb[p >> BLOCK_SHIFT][p & BLOCK_MASK];
+                    double yv = yb[p >> BLOCK_SHIFT][p & BLOCK_MASK];
+                    xKnown = xKnown && !(xv <= x0 || xv >= x1);
+                    yKnown = yKnown && !(yv <= y0 || yv >= y1);
+                }
+                s = s1;
+            }
+            if (!xKnown) {
+                if (ascending && s < e) {
+                    // the maximum is the last value, which is tracked above
+                    x0 = xb[s >> BLOCK_SHIFT][s & BLOCK_MASK];
+                }
+                else {
+                    Range r = findRange(xb, s, e);
+                    x0 = (r != null ? r.getLowerBound()
+                            : Double.POSITIVE_INFINITY);
+                    x1 = (r != null ? r.getUpperBound()
+                            : Double.NEGATIVE_INFINITY);
+                }
+            }
+            if (!yKnown) {
+                Range r = findRange(yb, s, e);
+                y0 = (r != null ? r.getLowerBound() : Double.POSITIVE_INFINITY);
+                y1 = (r != null ? r.getUpperBound() : Double.NEGATIVE_INFINITY);
+            }
+            return new Items(xb, yb, s, e, x0, x1, y0, y1, true, ascending);
+        }
+
+        /**
+         * Returns a new view with the specified number of items removed
+         * from the start.
+         *
+         * @param count  the number of items to remove.
+         *
+         * @return The new view.
+         */
+        Items removeFirst(int count) {
+            return new Items(this.x, this.y, this.start + count, this.end,
+                    this.minX, this.maxX, this.minY, this.maxY, false,
+                    this.xAscending);
+        }
+
+        /**
+         * Returns a view that holds the same items in new blocks.
+         *
+         * @return The copy.
+         */
+        Items copy() {
+            int count = getItemCount();
+            double[] xv = new double[count];
+            double[] yv = new double[count];
+            for (int i = 0; i < count; i++) {
+                xv[i] = getXValue(i);
+                yv[i] = getYValue(i);
+            }
+            return EMPTY.append(xv, yv, Integer.MAX_VALUE);
+        }
+
+    }
+
+}
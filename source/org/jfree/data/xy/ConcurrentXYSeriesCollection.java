@@ -0,0 +1,622 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------------------
+ * ConcurrentXYSeriesCollection.java
+ * ---------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Added serialVersionUID to the snapshot class (DG);
+ *
+ */
+
+
+package org.jfree.data.xy;
+
+import java.io.Serializable;
+
+import org.jfree.data.DomainInfo;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.general.Dataset;
+import org.jfree.data.general.DatasetSnapshot;
+import org.jfree.data.general.SnapshotProvider;
+import org.jfree.util.ObjectUtilities;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A collection of {@link ConcurrentXYSeries} objects that can be updated by
+ * several threads while a chart is being drawn.  Each rendering pass of an
+ * {@link org.jfree.chart.plot.XYPlot} reads the items from a snapshot (see
+ * {@link #createSnapshot()}) that is taken in constant time and is not
+ * affected by later updates, so the item counts and values are consistent
+ * for the whole pass.
+ * <P>
+ * Changes to the series (and to the collection) do not send a
+ * {@link org.jfree.data.general.DatasetChangeEvent} immediately, since that
+ * would run the plot and chart listeners on the writer's thread.  Instead,
+ * the thread that owns the chart (for example, a
+ * <code>javax.swing.Timer</code> on the event dispatch thread) should call
+ * {@link #fireDatasetChangedIfModified()} at the desired refresh rate.
+ *
+ * @see ConcurrentXYSeries
+ *
+ * @since 1.0.13
+ */
+public class ConcurrentXYSeriesCollection extends AbstractXYDataset
+        implements DomainInfo, RangeInfo, SnapshotProvider, PublicCloneable,
+        Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -4683529532426317802L;
+
+    /** The series (this array is replaced, never modified). */
+    private volatile ConcurrentXYSeries[] data;
+
+    /** The series when the last event was sent. */
+    private transient ConcurrentXYSeries[] notifiedData;
+
+    /** The total series modification count when the last event was sent. */
+    private transient int notifiedCount;
+
+    /**
+     * Creates a new empty collection.
+     */
+    public ConcurrentXYSeriesCollection() {
+        this.data = new ConcurrentXYSeries[0];
+    }
+
+    /**
+     * Returns the number of series in the collection.
+     *
+     * @return The series count.
+     */
+    public int getSeriesCount() {
+        return this.data.length;
+    }
+
+    /**
+     * Returns a series from the collection.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The series.
+     *
+     * @throws IllegalArgumentException if <code>series</code> is not in the
+     *     range <code>0</code> to <code>getSeriesCount() - 1</code>.
+     */
+    public ConcurrentXYSeries getSeries(int series) {
+        ConcurrentXYSeries[] s = this.data;
+        if ((series < 0) || (series >= s.length)) {
+            throw new IllegalArgumentException("Series index out of bounds");
+        }
+        return s[series];
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     *
+     * @return The key for a series.
+     */
+    public Comparable getSeriesKey(int series) {
+        return getSeries(series).getKey();
+    }
+
+    /**
+     * Adds a series to the collection.  Registered listeners are not
+     * notified until {@link #fireDatasetChangedIfModified()} is called.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     */
+    public void addSeries(ConcurrentXYSeries series) {
+        if (series == null) {
+            throw new IllegalArgumentException("Null 'series' argument.");
+        }
+        synchronized (this) {
+            ConcurrentXYSeries[] s = this.data;
+            ConcurrentXYSeries[] n = new ConcurrentXYSeries[s.length + 1];
+            System.arraycopy(s, 0, n, 0, s.length);
+            n[s.length] = series;
+            this.data = n;
+        }
+    }
+
+    /**
+     * Removes a series from the collection.  Registered listeners are not
+     * notified until {@link #fireDatasetChangedIfModified()} is called.
+     *
+     * @param series  the series (<code>null</code> not permitted).
+     */
+    public void removeSeries(ConcurrentXYSeries series) {
+        if (series == null) {
+            throw new IllegalArgumentException("Null 'series' argument.");
+        }
+        synchronized (this) {
+            ConcurrentXYSeries[] s = this.data;
+            for (int i = 0; i < s.length; i++) {
+                if (s[i] == series) {
+                    ConcurrentXYSeries[] n
+                            = new ConcurrentXYSeries[s.length - 1];
+                    System.arraycopy(s, 0, n, 0, i);
+                    System.arraycopy(s, i + 1, n, i, s.length - i - 1);
+                    this.data = n;
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of items in a series.  Note that the count may be
+     * changed by other threads at any time, use {@link #createSnapshot()} to
+     * read a consistent set of values.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The item count.
+     */
+    public int getItemCount(int series) {
+        return getSeries(series).getItemCount();
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public double getXValue(int series, int item) {
+        return getSeries(series).getXValue(item);
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    public Number getX(int series, int item) {
+        return new Double(getXValue(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value.
+     */
+    public double getYValue(int series, int item) {
+        return getSeries(series).getYValue(item);
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value (possibly <code>null</code>).
+     */
+    public Number getY(int series, int item) {
+        double y = getYValue(series, item);
+        return (Double.isNaN(y) ? null : new Double(y));
+    }
+
+    /**
+     * Returns an immutable snapshot of the collection.  The snapshot shares
+     * storage with the series, so this is a constant time operation (per
+     * series).  The snapshot implements {@link XYDataset},
+     * {@link DomainInfo} and {@link RangeInfo}.
+     *
+     * @return The snapshot.
+     */
+    public Dataset createSnapshot() {
+        ConcurrentXYSeries[] s = this.data;
+        Comparable[] keys = new Comparable[s.length];
+        ConcurrentXYSeries.Items[] items
+                = new ConcurrentXYSeries.Items[s.length];
+        for (int i = 0; i < s.length; i++) {
+            keys[i] = s[i].getKey();
+            items[i] = s[i].getItems();
+        }
+        return new Snapshot(this, keys, items);
+    }
+
+    /**
+     * Sends a {@link org.jfree.data.general.DatasetChangeEvent} to all
+     * registered listeners if the collection, or any of its series, has
+     * changed since the last call to this method.  The listeners are called
+     * on the thread that calls this method.
+     *
+     * @return A boolean that indicates whether or not an event was sent.
+     */
+    public boolean fireDatasetChangedIfModified() {
+        ConcurrentXYSeries[] s = this.data;
+        int count = 0;
+        for (int i = 0; i < s.length; i++) {
+            count += s[i].getModificationCount();
+        }
+        synchronized (this) {
+            if (s == this.notifiedData && count == this.notifiedCount) {
+                return false;
+            }
+            this.notifiedData = s;
+            this.notifiedCount = count;
+        }
+        fireDatasetChanged();
+        return true;
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The minimum value (or <code>Double.NaN</code>).
+     */
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The maximum value (or <code>Double.NaN</code>).
+     */
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the x-values in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The range (<code>null</code> if the dataset has no values).
+     */
+    public Range getDomainBounds(boolean includeInterval) {
+        return ((Snapshot) createSnapshot()).getDomainBounds(includeInterval);
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The minimum value (or <code>Double.NaN</code>).
+     */
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The maximum value (or <code>Double.NaN</code>).
+     */
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The range (<code>null</code> if the dataset has no values).
+     */
+    public Range getRangeBounds(boolean includeInterval) {
+        return ((Snapshot) createSnapshot()).getRangeBounds(includeInterval);
+    }
+
+    /**
+     * Tests this collection for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof ConcurrentXYSeriesCollection)) {
+            return false;
+        }
+        ConcurrentXYSeriesCollection that = (ConcurrentXYSeriesCollection) obj;
+        ConcurrentXYSeries[] s1 = this.data;
+        ConcurrentXYSeries[] s2 = that.data;
+        if (s1.length != s2.length) {
+            return false;
+        }
+        for (int i = 0; i < s1.length; i++) {
+            if (!ObjectUtilities.equal(s1[i], s2[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    public int hashCode() {
+        ConcurrentXYSeries[] s = this.data;
+        int result = 193;
+        for (int i = 0; i < s.length; i++) {
+            result = 29 * result + s[i].hashCode();
+        }
+        return result;
+    }
+
+    /**
+     * Returns a clone of this collection.  The series are also cloned.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem.
+     */
+    public Object clone() throws CloneNotSupportedException {
+        ConcurrentXYSeriesCollection clone
+                = (ConcurrentXYSeriesCollection) super.clone();
+        ConcurrentXYSeries[] s = this.data;
+        ConcurrentXYSeries[] n = new ConcurrentXYSeries[s.length];
+        for (int i = 0; i < s.length; i++) {
+            n[i] = (ConcurrentXYSeries) s[i].clone();
+        }
+        clone.data = n;
+        clone.notifiedData = null;
+        clone.notifiedCount = 0;
+        return clone;
+    }
+
+    /**
+     * An immutable snapshot of a {@link ConcurrentXYSeriesCollection}.
+     */
+    private static class Snapshot extends AbstractXYDataset
+            implements DomainInfo, RangeInfo, DatasetSnapshot {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -141737871791646838L;
+
+        /** The collection that the snapshot was taken from. */
+        private ConcurrentXYSeriesCollection source;
+
+        /** The series keys. */
+        private Comparable[] keys;
+
+        /** The items for each series. */
+        private ConcurrentXYSeries.Items[] items;
+
+        /**
+         * Creates a new snapshot.
+         *
+         * @param source  the collection that the snapshot is taken from.
+         * @param keys  the series keys.
+         * @param items  the items for each series.
+         */
+        Snapshot(ConcurrentXYSeriesCollection source, Comparable[] keys,
+                ConcurrentXYSeries.Items[] items) {
+            this.source = source;
+            this.keys = keys;
+            this.items = items;
+        }
+
+        /**
+         * Returns the collection that this snapshot was taken from.
+         *
+         * @return The source collection.
+         */
+        public Dataset getSource() {
+            return this.source;
+        }
+
+        /**
+         * Returns the number of series in the dataset.
+         *
+         * @return The series count.
+         */
+        public int getSeriesCount() {
+            return this.keys.length;
+        }
+
+        /**
+         * Returns the key for a series.
+         *
+         * @param series  the series index (zero-based).
+         *
+         * @return The key.
+         */
+        public Comparable getSeriesKey(int series) {
+            return this.keys[series];
+        }
+
+        /**
+         * Returns the number of items in a series.
+         *
+         * @param series  the series index (zero-based).
+         *
+         * @return The item count.
+         */
+        public int getItemCount(int series) {
+            return this.items[series].getItemCount();
+        }
+
+        /**
+         * Returns the x-value for an item within a series.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The x-value.
+         */
+        public double getXValue(int series, int item) {
+            return this.items[series].getXValue(item);
+        }
+
+        /**
+         * Returns the x-value for an item within a series.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The x-value.
+         */
+        public Number getX(int series, int item) {
+            return new Double(getXValue(series, item));
+        }
+
+        /**
+         * Returns the y-value for an item within a series.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The y-value.
+         */
+        public double getYValue(int series, int item) {
+            return this.items[series].getYValue(item);
+        }
+
+        /**
+         * Returns the y-value for an item within a series.
+         *
+         * @param series  the series index (zero-based).
+         * @param item  the item index (zero-based).
+         *
+         * @return The y-value (possibly <code>null</code>).
+         */
+        public Number getY(int series, int item) {
+            double y = getYValue(series, item);
+            return (Double.isNaN(y) ? null : new Double(y));
+        }
+
+        /**
+         * Returns the minimum x-value in the dataset.
+         *
+         * @param includeInterval  ignored.
+         *
+         * @return The minimum value (or <code>Double.NaN</code>).
+         */
+        public double getDomainLowerBound(boolean includeInterval) {
+            Range r = getDomainBounds(includeInterval);
+            return (r != null ? r.getLowerBound() : Double.NaN);
+        }
+
+        /**
+         * Returns the maximum x-value in the dataset.
+         *
+         * @param includeInterval  ignored.
+         *
+         * @return The maximum value (or <code>Double.NaN</code>).
+         */
+        public double getDomainUpperBound(boolean includeInterval) {
+            Range r = getDomainBounds(includeInterval);
+            return (r != null ? r.getUpperBound() : Double.NaN);
+        }
+
+        /**
+         * Returns the range of the x-values in the dataset.
+         *
+         * @param includeInterval  ignored.
+         *
+         * @return The range (<code>null</code> if there are no values).
+         */
+        public Range getDomainBounds(boolean includeInterval) {
+            Range result = null;
+            for (int i = 0; i < this.items.length; i++) {
+                result = Range.combine(result, this.items[i].getXRange());
+            }
+            return result;
+        }
+
+        /**
+         * Returns the minimum y-value in the dataset.
+         *
+         * @param includeInterval  ignored.
+         *
+         * @return The minimum value (or <code>Double.NaN</code>).
+         */
+        public double getRangeLowerBound(boolean includeInterval) {
+            Range r = getRangeBounds(includeInterval);
+            return (r != null ? r.getLowerBound() : Double.NaN);
+        }
+
+        /**
+         * Returns the maximum y-value in the dataset.
+         *
+         * @param includeInterval  ignored.
+         *
+         * @return The maximum value (or <code>Double.NaN</code>).
+         */
+        public double getRangeUpperBound(boolean includeInterval) {
+            Range r = getRangeBounds(includeInterval);
+            return (r != null ? r.getUpperBound() : Double.NaN);
+        }
+
+        /**
+         * Returns the range of the y-values in the dataset.
+         *
+         * @param includeInterval  ignored.
+         *
+         * @return The range (<code>null</code> if there are no values).
+         */
+        public Range getRangeBounds(boolean includeInterval) {
+            Range result = null;
+            for (int i = 0; i < this.items.length; i++) {
+                result = Range.combine(result, this.items[i].getYRange());
+            }
+            return result;
+        }
+
+    }
+
+}
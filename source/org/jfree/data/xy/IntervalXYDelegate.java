@@ -46,6 +46,8 @@
  * 06-Oct-2005 : Implemented DatasetChangeListener to recalculate
  *               autoIntervalWidth (DG);
  * 02-Feb-2007 : Removed author tags all over JFreeChart sources (DG);
+ * 18-Oct-2026 : Update the automatic interval width incrementally when
+ *               items are added (DG);
  *
  */
 
@@ -59,6 +61,8 @@ import org.jfree.data.RangeInfo;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetChangeListener;
 import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.util.PublicCloneable;
 
 /**
@@ -373,15 +377,25 @@ public class IntervalXYDelegate implements DatasetChangeListener,
 
     /**
      * Handles events from the dataset by recalculating the interval if
-     * necessary.
+     * necessary.  When the event reports that items were added to a single
+     * series, only the gaps next to the new items are examined.
      *
      * @param e  the event.
      */
     public void datasetChanged(DatasetChangeEvent e) {
-        // TODO: by coding the event with some information about what changed
-        // in the dataset, we could make the recalculation of the interval
-        // more efficient in some cases...
-        if (this.autoWidth) {
+        if (!this.autoWidth) {
+            return;
+        }
+        SeriesChangeInfo summary = e.getSummary();
+        if (summary != null && summary.getType() == SeriesChangeType.ADD
+                && e.getSeriesIndex() >= 0) {
+            // adding items can only split existing gaps, so the minimum can
+            // only get smaller
+            this.autoIntervalWidth = Math.min(this.autoIntervalWidth,
+                    calculateIntervalForItems(e.getSeriesIndex(),
+                    summary.getFirstItem(), summary.getLastItem()));
+        }
+        else {
             this.autoIntervalWidth = recalculateInterval();
         }
     }
@@ -421,6 +435,32 @@ public class IntervalXYDelegate implements DatasetChangeListener,
         return result;
     }
 
+    /**
+     * Calculates the interval width for the gaps either side of a range of
+     * items in a series.
+     *
+     * @param series  the series index.
+     * @param first  the index of the first item.
+     * @param last  the index of the last item.
+     *
+     * @return The interval width.
+     */
+    private double calculateIntervalForItems(int series, int first,
+            int last) {
+        double result = Double.POSITIVE_INFINITY;
+        int start = Math.max(first, 1);
+        int end = Math.min(last + 1, this.dataset.getItemCount(series) - 1);
+        if (start <= end) {
+            double prev = this.dataset.getXValue(series, start - 1);
+            for (int item = start; item <= end; item++) {
+                double x = this.dataset.getXValue(series, item);
+                result = Math.min(result, x - prev);
+                prev = x;
+            }
+        }
+        return result;
+    }
+
     /**
      * Tests the delegate for equality with an arbitrary object.
      *
@@ -71,6 +71,12 @@
  * 01-May-2008 : Fixed bug 1955483 in addOrUpdate() method, thanks to
  *               Ted Schwartz (DG);
  * 24-Nov-2008 : Further fix for 1955483 (DG);
+ * 18-Oct-2026 : Added getXValue(int) and getYValue(int) methods (DG);
+ * 18-Oct-2026 : Added indices for the x and y-values, with new methods
+ *               getMinX(), getMaxX(), getMinY(), getMaxY() and
+ *               getYRange() (DG);
+ * 18-Oct-2026 : Record a summary of each change for the change events (DG);
+ * 18-Oct-2026 : Rebuild indices after an unrecorded change (DG);
  *
  */
 
@@ -80,8 +86,11 @@ import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
 
+import org.jfree.data.Range;
+import org.jfree.data.general.MinMaxIndex;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.general.SeriesException;
 import org.jfree.util.ObjectUtilities;
 
@@ -91,6 +100,17 @@ import org.jfree.util.ObjectUtilities;
  * and duplicate x-values are permitted.  Both the sorting and duplicate
  * defaults can be changed in the constructor.  Y-values can be
  * <code>null</code> to represent missing values.
+ * <P>
+ * The series keeps an index of the minimum and maximum x and y-values (see
+ * {@link MinMaxIndex}), so that the bounds of the series, or the range of the
+ * y-values within a subrange of x-values, can be found without iterating
+ * over all the items.  The index is updated by the methods that modify the
+ * series.  If you change a data item directly, call
+ * {@link #fireSeriesChanged()} afterwards, which also discards the index so
+ * that it is rebuilt when next needed.  A subclass that modifies the
+ * <code>data</code> list directly should update the index by calling the
+ * {@link #itemAdded(int)}, {@link #itemsRemoved(int, int)} or
+ * {@link #itemChanged(int)} method.
  */
 public class XYSeries extends Series implements Cloneable, Serializable {
 
@@ -113,6 +133,12 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     /** A flag that controls whether or not duplicate x-values are allowed. */
     private boolean allowDuplicateXValues;
 
+    /** An index of the x-values (created on demand, not serialized). */
+    private transient MinMaxIndex xIndex;
+
+    /** An index of the y-values (created on demand, not serialized). */
+    private transient MinMaxIndex yIndex;
+
     /**
      * Creates a new empty series.  By default, items added to the series will
      * be sorted into ascending order by x-value, and duplicate x-values will
@@ -222,12 +248,13 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public void setMaximumItemCount(int maximum) {
         this.maximumItemCount = maximum;
-        boolean dataRemoved = false;
+        int removed = 0;
         while (this.data.size() > maximum) {
             this.data.remove(0);
-            dataRemoved = true;
+            removed++;
         }
-        if (dataRemoved) {
+        if (removed > 0) {
+            itemsRemoved(0, removed - 1);
             fireSeriesChanged();
         }
     }
@@ -352,6 +379,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             int index = Collections.binarySearch(this.data, item);
             if (index < 0) {
                 this.data.add(-index - 1, item);
+                itemAdded(-index - 1);
             }
             else {
                 if (this.allowDuplicateXValues) {
@@ -367,6 +395,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
                     else {
                         this.data.add(item);
                     }
+                    itemAdded(index);
                 }
                 else {
                     throw new SeriesException("X-value already exists.");
@@ -383,9 +412,11 @@ public class XYSeries extends Series implements Cloneable, Serializable {
                 }
             }
             this.data.add(item);
+            itemAdded(this.data.size() - 1);
         }
         if (getItemCount() > this.maximumItemCount) {
             this.data.remove(0);
+            itemsRemoved(0, 0);
         }
         if (notify) {
             fireSeriesChanged();
@@ -403,6 +434,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         for (int i = start; i <= end; i++) {
             this.data.remove(start);
         }
+        itemsRemoved(start, end);
         fireSeriesChanged();
     }
 
@@ -416,6 +448,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public XYDataItem remove(int index) {
         XYDataItem result = (XYDataItem) this.data.remove(index);
+        itemsRemoved(index, index);
         fireSeriesChanged();
         return result;
     }
@@ -437,13 +470,16 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public void clear() {
         if (this.data.size() > 0) {
+            int count = this.data.size();
             this.data.clear();
+            itemsRemoved(0, count - 1);
             fireSeriesChanged();
         }
     }
 
     /**
-     * Return the data item with the specified index.
+     * Return the data item with the specified index.  If you modify the
+     * item, call {@link #fireSeriesChanged()} afterwards.
      *
      * @param index  the index.
      *
@@ -475,6 +511,320 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         return getDataItem(index).getY();
     }
 
+    /**
+     * Returns the x-value at the specified index as a double primitive.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value.
+     *
+     * @see #getX(int)
+     *
+     * @since 1.0.13
+     */
+    public double getXValue(int index) {
+        return getDataItem(index).getXValue();
+    }
+
+    /**
+     * Returns the y-value at the specified index as a double primitive.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (<code>Double.NaN</code> if the y-value is
+     *     <code>null</code>).
+     *
+     * @see #getY(int)
+     *
+     * @since 1.0.13
+     */
+    public double getYValue(int index) {
+        return getDataItem(index).getYValue();
+    }
+
+    /**
+     * Returns the smallest x-value in the series, ignoring any
+     * <code>Double.NaN</code> values.
+     *
+     * @return The smallest x-value (<code>Double.NaN</code> if the series
+     *     contains no x-values).
+     *
+     * @see #getMaxX()
+     *
+     * @since 1.0.13
+     */
+    public double getMinX() {
+        Range r = getXIndex().getRange();
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the largest x-value in the series, ignoring any
+     * <code>Double.NaN</code> values.
+     *
+     * @return The largest x-value (<code>Double.NaN</code> if the series
+     *     contains no x-values).
+     *
+     * @see #getMinX()
+     *
+     * @since 1.0.13
+     */
+    public double getMaxX() {
+        Range r = getXIndex().getRange();
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the smallest y-value in the series, ignoring any
+     * <code>null</code> and <code>Double.NaN</code> values.
+     *
+     * @return The smallest y-value (<code>Double.NaN</code> if the series
+     *     contains no y-values).
+     *
+     * @see #getMaxY()
+     *
+     * @since 1.0.13
+     */
+    public double getMinY() {
+        Range r = getYIndex().getRange();
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the largest y-value in the series, ignoring any
+     * <code>null</code> and <code>Double.NaN</code> values.
+     *
+     * @return The largest y-value (<code>Double.NaN</code> if the series
+     *     contains no y-values).
+     *
+     * @see #getMinY()
+     *
+     * @since 1.0.13
+     */
+    public double getMaxY() {
+        Range r = getYIndex().getRange();
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the y-values for the items from
+     * <code>start</code> to <code>end</code> inclusive, ignoring any
+     * <code>null</code> and <code>Double.NaN</code> values.
+     *
+     * @param start  the index of the first item.
+     * @param end  the index of the last item.
+     *
+     * @return The range (<code>null</code> if there are no y-values in the
+     *     specified items).
+     *
+     * @since 1.0.13
+     */
+    public Range getYRange(int start, int end) {
+        return getYIndex().getRange(start, end);
+    }
+
+    /**
+     * Returns the range of the y-values for the items that have an x-value
+     * within the specified range, ignoring any <code>null</code> and
+     * <code>Double.NaN</code> values.  For a sorted series, the items are
+     * found with a binary search and this method does not need to look at
+     * every item in the range.
+     *
+     * @param xRange  the x-range (<code>null</code> not permitted).
+     *
+     * @return The range (<code>null</code> if there are no y-values for the
+     *     specified x-range).
+     *
+     * @since 1.0.13
+     */
+    public Range getYRange(Range xRange) {
+        if (xRange == null) {
+            throw new IllegalArgumentException("Null 'xRange' argument.");
+        }
+        if (!this.autoSort) {
+            double minimum = Double.POSITIVE_INFINITY;
+            double maximum = Double.NEGATIVE_INFINITY;
+            int count = getItemCount();
+            for (int i = 0; i < count; i++) {
+                if (xRange.contains(getXValue(i))) {
+                    double y = getYValue(i);
+                    if (!Double.isNaN(y)) {
+                        minimum = Math.min(minimum, y);
+                        maximum = Math.max(maximum, y);
+                    }
+                }
+            }
+            if (minimum > maximum) {
+                return null;
+            }
+            return new Range(minimum, maximum);
+        }
+        int start = findItemIndex(xRange.getLowerBound(), false);
+        int end = findItemIndex(xRange.getUpperBound(), true) - 1;
+        if (end < start) {
+            return null;
+        }
+        return getYRange(start, end);
+    }
+
+    /**
+     * Returns the index of the first item with an x-value greater than (or,
+     * if <code>inclusive</code> is <code>false</code>, equal to) the
+     * specified value.  This is only valid for a sorted series.
+     *
+     * @param x  the x-value.
+     * @param inclusive  include items with an x-value equal to
+     *     <code>x</code> in the search?
+     *
+     * @return The item index (in the range <code>0</code> to
+     *     <code>getItemCount()</code>).
+     */
+    private int findItemIndex(double x, boolean inclusive) {
+        int low = 0;
+        int high = getItemCount();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            double v = getXValue(mid);
+            if (v < x || (inclusive && v == x)) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Sends a change event to all registered listeners.  If no change has
+     * been recorded by the methods that modify the series, the items may
+     * have been changed directly, so the x and y-value indices are discarded
+     * (they are rebuilt when next needed).
+     */
+    public void fireSeriesChanged() {
+        if (!hasRecordedChange()) {
+            if (this.xIndex != null) {
+                this.xIndex.invalidate();
+            }
+            if (this.yIndex != null) {
+                this.yIndex.invalidate();
+            }
+        }
+        super.fireSeriesChanged();
+    }
+
+    /**
+     * Returns the index of the x-values, creating it if necessary.
+     *
+     * @return The index.
+     */
+    private MinMaxIndex getXIndex() {
+        if (this.xIndex == null) {
+            this.xIndex = new MinMaxIndex() {
+                protected int getItemCount() {
+                    return XYSeries.this.getItemCount();
+                }
+                protected double getValue(int index) {
+                    return getXValue(index);
+                }
+            };
+        }
+        return this.xIndex;
+    }
+
+    /**
+     * Returns the index of the y-values, creating it if necessary.
+     *
+     * @return The index.
+     */
+    private MinMaxIndex getYIndex() {
+        if (this.yIndex == null) {
+            this.yIndex = new MinMaxIndex() {
+                protected int getItemCount() {
+                    return XYSeries.this.getItemCount();
+                }
+                protected double getValue(int index) {
+                    return getYValue(index);
+                }
+            };
+        }
+        return this.yIndex;
+    }
+
+    /**
+     * Updates the x and y-value indices after an item has been added to the
+     * series, and records the change for the next {@link SeriesChangeEvent}.
+     * This method is called by the methods that add items to the series,
+     * subclasses that modify the <code>data</code> list directly should call
+     * it too.
+     *
+     * @param index  the index of the new item.
+     *
+     * @since 1.0.13
+     */
+    protected void itemAdded(int index) {
+        recordChange(SeriesChangeType.ADD, index, index);
+        if (this.xIndex == null && this.yIndex == null) {
+            return;
+        }
+        if (index == getItemCount() - 1) {
+            if (this.xIndex != null) {
+                this.xIndex.itemAppended(getXValue(index));
+            }
+            if (this.yIndex != null) {
+                this.yIndex.itemAppended(getYValue(index));
+            }
+        }
+        else {
+            if (this.xIndex != null) {
+                this.xIndex.invalidate();
+            }
+            if (this.yIndex != null) {
+                this.yIndex.invalidate();
+            }
+        }
+    }
+
+    /**
+     * Updates the x and y-value indices after the items from
+     * <code>start</code> to <code>end</code> inclusive have been removed from
+     * the series, and records the change for the next
+     * {@link SeriesChangeEvent}.  This method is called by the methods that
+     * remove items from the series, subclasses that modify the
+     * <code>data</code> list directly should call it too.
+     *
+     * @param start  the index of the first item removed.
+     * @param end  the index of the last item removed.
+     *
+     * @since 1.0.13
+     */
+    protected void itemsRemoved(int start, int end) {
+        recordChange(SeriesChangeType.REMOVE, start, end);
+        if (this.xIndex != null) {
+            this.xIndex.itemsRemoved(start, end);
+        }
+        if (this.yIndex != null) {
+            this.yIndex.itemsRemoved(start, end);
+        }
+    }
+
+    /**
+     * Updates the y-value index after the y-value of an item has changed,
+     * and records the change for the next {@link SeriesChangeEvent}.  This
+     * method is called by the methods that update items in the series,
+     * if you change a data item directly you should call it too.
+     *
+     * @param index  the index of the item.
+     *
+     * @since 1.0.13
+     */
+    protected void itemChanged(int index) {
+        recordChange(SeriesChangeType.UPDATE, index, index);
+        if (this.yIndex != null) {
+            this.yIndex.itemChanged(index);
+        }
+    }
+
     /**
      * Updates the value of an item in the series and sends a
      * {@link SeriesChangeEvent} to all registered listeners.
@@ -488,6 +838,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public void update(int index, Number y) {
         XYDataItem item = getDataItem(index);
         item.setY(y);
+        itemChanged(index);
         fireSeriesChanged();
     }
 
@@ -521,6 +872,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         else {
             XYDataItem item = getDataItem(index);
             item.setY(y);
+            itemChanged(index);
             fireSeriesChanged();
         }
     }
@@ -571,6 +923,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
                 throw new SeriesException("Couldn't clone XYDataItem!");
             }
             existing.setY(y);
+            itemChanged(index);
         }
         else {
             // if the series is sorted, the negative index is a result from
@@ -579,13 +932,16 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             // append the value to the list...
             if (this.autoSort) {
                 this.data.add(-index - 1, new XYDataItem(x, y));
+                itemAdded(-index - 1);
             }
             else {
                 this.data.add(new XYDataItem(x, y));
+                itemAdded(this.data.size() - 1);
             }
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
                 this.data.remove(0);
+                itemsRemoved(0, 0);
             }
         }
         fireSeriesChanged();
@@ -650,6 +1006,8 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public Object clone() throws CloneNotSupportedException {
         XYSeries clone = (XYSeries) super.clone();
         clone.data = (List) ObjectUtilities.deepClone(this.data);
+        clone.xIndex = null;
+        clone.yIndex = null;
         return clone;
     }
 
@@ -668,6 +1026,8 @@ public class XYSeries extends Series implements Cloneable, Serializable {
 
         XYSeries copy = (XYSeries) super.clone();
         copy.data = new java.util.ArrayList();
+        copy.xIndex = null;
+        copy.yIndex = null;
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
                 XYDataItem item = (XYDataItem) this.data.get(index);
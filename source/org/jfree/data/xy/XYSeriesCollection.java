@@ -52,6 +52,11 @@
  * 08-May-2007 : Added indexOf(XYSeries) method (DG);
  * 03-Dec-2007 : Added getSeries(Comparable) method (DG);
  * 22-Apr-2008 : Implemented PublicCloneable (DG);
+ * 18-Oct-2026 : Added getXValue() and getYValue() overrides that read
+ *               primitive values from the series (DG);
+ * 18-Oct-2026 : Implemented RangeInfo and XYRangeInfo, and find the domain
+ *               bounds using the series indices (DG);
+ * 18-Oct-2026 : Added getSeriesIndex(Series) override (DG);
  *
  */
 
@@ -64,19 +69,22 @@ import java.util.List;
 
 import org.jfree.data.DomainInfo;
 import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
 import org.jfree.data.UnknownKeyException;
 import org.jfree.data.general.DatasetChangeEvent;
-import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.general.Series;
 import org.jfree.util.ObjectUtilities;
 import org.jfree.util.PublicCloneable;
 
 /**
  * Represents a collection of {@link XYSeries} objects that can be used as a
- * dataset.
+ * dataset.  The {@link DomainInfo}, {@link RangeInfo} and {@link XYRangeInfo}
+ * methods use the indices maintained by each series, so finding the bounds
+ * of the dataset does not require iterating over all the data items.
  */
 public class XYSeriesCollection extends AbstractIntervalXYDataset
-        implements IntervalXYDataset, DomainInfo, PublicCloneable,
-                   Serializable {
+        implements IntervalXYDataset, DomainInfo, RangeInfo, XYRangeInfo,
+                   PublicCloneable, Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = -7590013825931496766L;
@@ -217,6 +225,27 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
         return this.data.indexOf(series);
     }
 
+    /**
+     * Returns the index of the specified series in this collection, or -1.
+     * Unlike {@link #indexOf(XYSeries)}, this method tests for the same
+     * instance rather than an equal series.
+     *
+     * @param series  the series (<code>null</code> permitted).
+     *
+     * @return The series index, or -1.
+     *
+     * @since 1.0.13
+     */
+    protected int getSeriesIndex(Series series) {
+        int count = this.data.size();
+        for (int i = 0; i < count; i++) {
+            if (this.data.get(i) == series) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Returns a series from the collection.
      *
@@ -301,8 +330,24 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
      */
     public Number getX(int series, int item) {
         XYSeries ts = (XYSeries) this.data.get(series);
-        XYDataItem xyItem = ts.getDataItem(item);
-        return xyItem.getX();
+        return ts.getX(item);
+    }
+
+    /**
+     * Returns the x-value for the specified series and item as a double
+     * primitive.  This avoids creating (or unboxing) a <code>Number</code>
+     * instance where the series can supply the value directly.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The x-value.
+     *
+     * @since 1.0.13
+     */
+    public double getXValue(int series, int item) {
+        XYSeries ts = (XYSeries) this.data.get(series);
+        return ts.getXValue(item);
     }
 
     /**
@@ -338,11 +383,25 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
      * @return The value (possibly <code>null</code>).
      */
     public Number getY(int series, int index) {
-
         XYSeries ts = (XYSeries) this.data.get(series);
-        XYDataItem xyItem = ts.getDataItem(index);
-        return xyItem.getY();
+        return ts.getY(index);
+    }
 
+    /**
+     * Returns the y-value for the specified series and item as a double
+     * primitive.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The y-value (<code>Double.NaN</code> for a <code>null</code>
+     *     value).
+     *
+     * @since 1.0.13
+     */
+    public double getYValue(int series, int item) {
+        XYSeries ts = (XYSeries) this.data.get(series);
+        return ts.getYValue(item);
     }
 
     /**
@@ -458,9 +517,121 @@ public class XYSeriesCollection extends AbstractIntervalXYDataset
             return this.intervalDelegate.getDomainBounds(includeInterval);
         }
         else {
-            return DatasetUtilities.iterateDomainBounds(this, includeInterval);
+            Range result = null;
+            Iterator iterator = this.data.iterator();
+            while (iterator.hasNext()) {
+                XYSeries series = (XYSeries) iterator.next();
+                double minX = series.getMinX();
+                if (!Double.isNaN(minX)) {
+                    result = Range.combine(result, new Range(minX,
+                            series.getMaxX()));
+                }
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account (ignored,
+     *                         since the y-interval is always zero for this
+     *                         dataset).
+     *
+     * @return The minimum value (<code>Double.NaN</code> if the dataset
+     *     contains no y-values).
+     *
+     * @since 1.0.13
+     */
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getLowerBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account (ignored,
+     *                         since the y-interval is always zero for this
+     *                         dataset).
+     *
+     * @return The maximum value (<code>Double.NaN</code> if the dataset
+     *     contains no y-values).
+     *
+     * @since 1.0.13
+     */
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return (r != null ? r.getUpperBound() : Double.NaN);
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account (ignored,
+     *                         since the y-interval is always zero for this
+     *                         dataset).
+     *
+     * @return The range (<code>null</code> if the dataset contains no
+     *     y-values).
+     *
+     * @since 1.0.13
+     */
+    public Range getRangeBounds(boolean includeInterval) {
+        Range result = null;
+        Iterator iterator = this.data.iterator();
+        while (iterator.hasNext()) {
+            XYSeries series = (XYSeries) iterator.next();
+            double minY = series.getMinY();
+            if (!Double.isNaN(minY)) {
+                result = Range.combine(result, new Range(minY,
+                        series.getMaxY()));
+            }
         }
+        return result;
+    }
 
+    /**
+     * Returns the range of the y-values in the dataset for the specified
+     * series, considering only the items with x-values in the given range.
+     *
+     * @param visibleSeriesKeys  the keys for the series to include
+     *     (<code>null</code> not permitted).
+     * @param xRange  the x-range (<code>null</code> not permitted).
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account (ignored,
+     *                         since the y-interval is always zero for this
+     *                         dataset).
+     *
+     * @return The range (possibly <code>null</code>).
+     *
+     * @since 1.0.13
+     */
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        if (visibleSeriesKeys == null) {
+            throw new IllegalArgumentException(
+                    "Null 'visibleSeriesKeys' argument.");
+        }
+        if (xRange == null) {
+            throw new IllegalArgumentException("Null 'xRange' argument.");
+        }
+        Range result = null;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            Comparable key = (Comparable) iterator.next();
+            int series = indexOf(key);
+            if (series < 0) {
+                throw new IllegalArgumentException("Unrecognised series key: "
+                        + key);
+            }
+            result = Range.combine(result, getSeries(series).getYRange(xRange));
+        }
+        return result;
     }
 
     /**
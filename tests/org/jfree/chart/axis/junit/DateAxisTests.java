@@ -43,6 +43,8 @@
  *               new tests that check that the previousStandardDate and the
  *               next standard date do in fact span the reference date (DG);
  * 25-Nov-2008 : Added testBug2201869 (DG);
+ * 18-Oct-2026 : Added testTickCache() and testTickMarkPosition() (DG);
+ * 18-Oct-2026 : Added testTickCacheTimeZone() (DG);
  *
  */
 
@@ -80,6 +82,7 @@ import org.jfree.data.time.Day;
 import org.jfree.data.time.Hour;
 import org.jfree.data.time.Millisecond;
 import org.jfree.data.time.Month;
+import org.jfree.data.time.RegularTimePeriod;
 import org.jfree.data.time.Second;
 import org.jfree.data.time.Year;
 import org.jfree.ui.RectangleEdge;
@@ -1186,4 +1189,149 @@ public class DateAxisTests extends TestCase {
         assertEquals("31-May-2008", t3.getText());
     }
 
+    /**
+     * Checks that the ticks are reused while the axis is unchanged.
+     */
+    public void testTickCache() {
+        final int[] count = new int[1];
+        TimeZone tz = TimeZone.getTimeZone("GMT");
+        DateAxis axis = new DateAxis("Date", tz, Locale.UK) {
+            protected void selectAutoTickUnit(Graphics2D g2,
+                    Rectangle2D dataArea, RectangleEdge edge) {
+                count[0]++;
+                super.selectAutoTickUnit(g2, dataArea, edge);
+            }
+        };
+        GregorianCalendar c = new GregorianCalendar(tz, Locale.UK);
+        Day d1 = new Day(1, 3, 2008);
+        d1.peg(c);
+        Day d2 = new Day(30, 6, 2008);
+        d2.peg(c);
+        axis.setRange(d1.getStart(), d2.getEnd());
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 200.0, 100.0);
+        List ticks1 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.LEFT);
+        List ticks2 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.LEFT);
+        assertEquals(1, count[0]);
+        assertEquals(ticks1, ticks2);
+
+        axis.setDateFormatOverride(new SimpleDateFormat("yyyy", Locale.UK));
+        List ticks3 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.LEFT);
+        assertEquals(2, count[0]);
+        assertEquals("2008", ((DateTick) ticks3.get(0)).getText());
+        g2.dispose();
+    }
+
+    /**
+     * A change to the time zone of the date format override must not leave
+     * the axis with stale tick labels.
+     */
+    public void testTickCacheTimeZone() {
+        TimeZone tz = TimeZone.getTimeZone("GMT");
+        DateAxis axis = new DateAxis("Date", tz, Locale.UK);
+        axis.setRange(new Date(0L), new Date(10L * 60L * 60L * 1000L));
+        SimpleDateFormat format = new SimpleDateFormat("HH:mm", Locale.UK);
+        format.setTimeZone(tz);
+        axis.setDateFormatOverride(format);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 200.0, 100.0);
+        List ticks1 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.LEFT);
+        DateTick t1 = (DateTick) ticks1.get(0);
+        assertEquals(format.format(t1.getDate()), t1.getText());
+
+        // the format is equal to the previous one, but the labels differ
+        format.setTimeZone(TimeZone.getTimeZone("GMT+05:30"));
+        List ticks2 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.LEFT);
+        DateTick t2 = (DateTick) ticks2.get(0);
+        assertEquals(t1.getDate(), t2.getDate());
+        assertEquals(format.format(t2.getDate()), t2.getText());
+        assertFalse(t1.getText().equals(t2.getText()));
+        g2.dispose();
+    }
+
+    /**
+     * Checks the tick dates for each tick mark position, for month and year
+     * tick units.
+     */
+    public void testTickMarkPosition() {
+        TimeZone tz = TimeZone.getTimeZone("America/New_York");
+        GregorianCalendar c = new GregorianCalendar(tz, Locale.US);
+        DateAxis axis = new DateAxis("Date", tz, Locale.US);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 200.0, 100.0);
+
+        axis.setTickUnit(new DateTickUnit(DateTickUnit.MONTH, 1));
+        Day d1 = new Day(1, 1, 2008);
+        d1.peg(c);
+        Day d2 = new Day(31, 12, 2008);
+        d2.peg(c);
+        axis.setRange(d1.getStart(), d2.getEnd());
+        checkTicks(axis, g2, area, DateTickMarkPosition.START,
+                new Month(3, 2008), c);
+        checkTicks(axis, g2, area, DateTickMarkPosition.MIDDLE,
+                new Month(3, 2008), c);
+        checkTicks(axis, g2, area, DateTickMarkPosition.END,
+                new Month(3, 2008), c);
+
+        axis.setTickUnit(new DateTickUnit(DateTickUnit.YEAR, 1));
+        Day d3 = new Day(31, 12, 2012);
+        d3.peg(c);
+        axis.setRange(d1.getStart(), d3.getEnd());
+        checkTicks(axis, g2, area, DateTickMarkPosition.START,
+                new Year(2009), c);
+        checkTicks(axis, g2, area, DateTickMarkPosition.MIDDLE,
+                new Year(2009), c);
+        checkTicks(axis, g2, area, DateTickMarkPosition.END,
+                new Year(2009), c);
+        g2.dispose();
+    }
+
+    /**
+     * Checks that a tick on the axis falls at the specified position in a
+     * time period.
+     *
+     * @param axis  the axis.
+     * @param g2  the graphics device.
+     * @param area  the data area.
+     * @param position  the tick mark position.
+     * @param period  a time period that should have a tick.
+     * @param c  the calendar for the time period.
+     */
+    private void checkTicks(DateAxis axis, Graphics2D g2, Rectangle2D area,
+            DateTickMarkPosition position, RegularTimePeriod period,
+            Calendar c) {
+        axis.setTickMarkPosition(position);
+        long expected;
+        if (position == DateTickMarkPosition.START) {
+            expected = period.getFirstMillisecond(c);
+        }
+        else if (position == DateTickMarkPosition.MIDDLE) {
+            expected = period.getMiddleMillisecond(c);
+        }
+        else {
+            expected = period.getLastMillisecond(c);
+        }
+        List ticks = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.BOTTOM);
+        boolean found = false;
+        for (int i = 0; i < ticks.size(); i++) {
+            DateTick tick = (DateTick) ticks.get(i);
+            if (tick.getDate().getTime() == expected) {
+                found = true;
+            }
+        }
+        assertTrue(found);
+    }
+
 }
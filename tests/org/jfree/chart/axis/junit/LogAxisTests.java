@@ -36,18 +36,22 @@
  * -------
  * 11-Jul-2007 : Version 1 (DG);
  * 08-Apr-2008 : Fixed incorrect testEquals() method (DG);
+ * 18-Oct-2026 : Added testTickCache() (DG);
  *
  */
 
 package org.jfree.chart.axis.junit;
 
+import java.awt.Graphics2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInput;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
+import java.util.List;
 
 import junit.framework.Test;
 import junit.framework.TestCase;
@@ -55,6 +59,7 @@ import junit.framework.TestSuite;
 
 import org.jfree.chart.ChartFactory;
 import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.AxisState;
 import org.jfree.chart.axis.LogAxis;
 import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.PlotOrientation;
@@ -322,4 +327,36 @@ public class LogAxisTests extends TestCase {
         LogAxis axis = new LogAxis("Log Axis");
         assertTrue(axis.isTickMarksVisible());
     }
+
+    /**
+     * Checks that the ticks are reused while the axis is unchanged.
+     */
+    public void testTickCache() {
+        final int[] count = new int[1];
+        LogAxis axis = new LogAxis("Log Axis") {
+            protected void selectAutoTickUnit(Graphics2D g2,
+                    Rectangle2D dataArea, RectangleEdge edge) {
+                count[0]++;
+                super.selectAutoTickUnit(g2, dataArea, edge);
+            }
+        };
+        axis.setRange(1.0, 1000.0);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 200.0, 100.0);
+        List ticks1 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.LEFT);
+        List ticks2 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.LEFT);
+        assertEquals(1, count[0]);
+        assertEquals(ticks1, ticks2);
+
+        axis.setBase(2.0);
+        List ticks3 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.LEFT);
+        assertEquals(2, count[0]);
+        assertFalse(ticks1.equals(ticks3));
+        g2.dispose();
+    }
 }
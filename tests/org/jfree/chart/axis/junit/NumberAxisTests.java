@@ -42,12 +42,16 @@
  * 11-Jan-2006 : Fixed testAutoRange2() and testAutoRange3() following changes
  *               to BarRenderer (DG);
  * 20-Feb-2006 : Added rangeType field to equals() test (DG);
+ * 18-Oct-2026 : Added testTickCache() (DG);
  *
  */
 
 package org.jfree.chart.axis.junit;
 
+import java.awt.Font;
+import java.awt.Graphics2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInput;
@@ -55,6 +59,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
 import java.text.DecimalFormat;
+import java.util.List;
 
 import junit.framework.Test;
 import junit.framework.TestCase;
@@ -62,7 +67,9 @@ import junit.framework.TestSuite;
 
 import org.jfree.chart.ChartFactory;
 import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.AxisState;
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.NumberTick;
 import org.jfree.chart.axis.NumberTickUnit;
 import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.PlotOrientation;
@@ -456,4 +463,72 @@ public class NumberAxisTests extends TestCase {
         //assertEquals(0.0, axis.getLowerBound(), EPSILON);
     }
 
+    /**
+     * Checks that the ticks are reused while the range, length, location,
+     * font and formatter for the axis are unchanged, and recalculated
+     * otherwise.
+     */
+    public void testTickCache() {
+        final int[] count = new int[1];
+        NumberAxis axis = new NumberAxis("X") {
+            protected void selectAutoTickUnit(Graphics2D g2,
+                    Rectangle2D dataArea, RectangleEdge edge) {
+                count[0]++;
+                super.selectAutoTickUnit(g2, dataArea, edge);
+            }
+        };
+        axis.setRange(0.0, 100.0);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 200.0, 100.0);
+        List ticks1 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.BOTTOM);
+        assertEquals(1, count[0]);
+
+        // the same axis length at a different position reuses the ticks
+        List ticks2 = axis.refreshTicks(g2, new AxisState(),
+                new Rectangle2D.Double(10.0, 20.0, 200.0, 100.0),
+                RectangleEdge.BOTTOM);
+        assertEquals(1, count[0]);
+        assertEquals(ticks1, ticks2);
+        assertTrue(ticks1 != ticks2);
+
+        axis.setRange(0.0, 50.0);
+        List ticks3 = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.BOTTOM);
+        assertEquals(2, count[0]);
+        assertFalse(ticks1.equals(ticks3));
+
+        axis.refreshTicks(g2, new AxisState(),
+                new Rectangle2D.Double(0.0, 0.0, 300.0, 100.0),
+                RectangleEdge.BOTTOM);
+        assertEquals(3, count[0]);
+        axis.refreshTicks(g2, new AxisState(), area, RectangleEdge.TOP);
+        assertEquals(4, count[0]);
+        axis.setTickLabelFont(new Font("Dialog", Font.BOLD, 14));
+        axis.refreshTicks(g2, new AxisState(), area, RectangleEdge.TOP);
+        assertEquals(5, count[0]);
+
+        DecimalFormat formatter = new DecimalFormat("0.00");
+        axis.setNumberFormatOverride(formatter);
+        List ticks = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.TOP);
+        assertEquals(6, count[0]);
+        assertEquals("0.00", ((NumberTick) ticks.get(0)).getText());
+
+        // a change to the formatter itself is noticed
+        formatter.applyPattern("0.0");
+        ticks = axis.refreshTicks(g2, new AxisState(), area,
+                RectangleEdge.TOP);
+        assertEquals(7, count[0]);
+        assertEquals("0.0", ((NumberTick) ticks.get(0)).getText());
+
+        // any other change to the axis discards the ticks
+        axis.setMinorTickCount(2);
+        axis.refreshTicks(g2, new AxisState(), area, RectangleEdge.TOP);
+        assertEquals(8, count[0]);
+        g2.dispose();
+    }
+
 }
@@ -0,0 +1,231 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------------------
+ * StreamingPNGEncoderAdapterTests.java
+ * ------------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+
+package org.jfree.chart.encoders.junit;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.encoders.StreamingPNGEncoderAdapter;
+
+/**
+ * Tests for the {@link StreamingPNGEncoderAdapter} class.
+ */
+public class StreamingPNGEncoderAdapterTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(StreamingPNGEncoderAdapterTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public StreamingPNGEncoderAdapterTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a test image.
+     *
+     * @param width  the width.
+     * @param height  the height.
+     * @param type  the image type.
+     *
+     * @return The image.
+     */
+    private BufferedImage createImage(int width, int height, int type) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        Graphics2D g2 = image.createGraphics();
+        g2.setPaint(new GradientPaint(0f, 0f, Color.red, width, height,
+                new Color(0, 0, 255, 100)));
+        g2.fillRect(0, 0, width, height / 2);
+        g2.setColor(Color.green);
+        for (int i = 0; i < width; i += 7) {
+            g2.drawLine(i, 0, width - i, height);
+        }
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Checks that the decoded image has the same pixels as the original.
+     *
+     * @param original  the original image.
+     * @param png  the encoded image.
+     * @param alpha  was alpha encoded?
+     *
+     * @throws IOException if there is a problem decoding.
+     */
+    private void checkDecoded(BufferedImage original, byte[] png,
+            boolean alpha) throws IOException {
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(png));
+        assertEquals(original.getWidth(), decoded.getWidth());
+        assertEquals(original.getHeight(), decoded.getHeight());
+        for (int y = 0; y < original.getHeight(); y++) {
+            for (int x = 0; x < original.getWidth(); x++) {
+                int expected = original.getRGB(x, y);
+                if (!alpha) {
+                    expected = expected | 0xFF000000;
+                }
+                assertEquals("(" + x + ", " + y + ")", expected,
+                        decoded.getRGB(x, y));
+            }
+        }
+    }
+
+    /**
+     * Encodes some images on a single thread and checks the results.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testEncode() throws IOException {
+        StreamingPNGEncoderAdapter encoder = new StreamingPNGEncoderAdapter();
+        BufferedImage image = createImage(200, 150,
+                BufferedImage.TYPE_INT_ARGB);
+        checkDecoded(image, encoder.encode(image), false);
+        encoder.setEncodingAlpha(true);
+        checkDecoded(image, encoder.encode(image), true);
+        encoder.setQuality(0.0f);
+        checkDecoded(image, encoder.encode(image), true);
+
+        // other image types
+        image = createImage(50, 40, BufferedImage.TYPE_INT_RGB);
+        checkDecoded(image, encoder.encode(image), true);
+        image = createImage(50, 40, BufferedImage.TYPE_3BYTE_BGR);
+        checkDecoded(image, encoder.encode(image), true);
+
+        // an empty image is still a valid PNG
+        image = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+        checkDecoded(image, encoder.encode(image), true);
+    }
+
+    /**
+     * Encodes an image with several threads and checks the result.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testEncodeInParallel() throws IOException {
+        BufferedImage image = createImage(600, 400,
+                BufferedImage.TYPE_INT_ARGB);
+        StreamingPNGEncoderAdapter encoder
+                = new StreamingPNGEncoderAdapter(4);
+        checkDecoded(image, encoder.encode(image), false);
+        encoder.setEncodingAlpha(true);
+        encoder.setQuality(1.0f);
+        checkDecoded(image, encoder.encode(image), true);
+    }
+
+    /**
+     * Checks that the encoder reuses its threads, and that an interrupt
+     * while waiting for the other threads is not lost.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testWorkerThreads() throws IOException {
+        BufferedImage image = createImage(600, 400,
+                BufferedImage.TYPE_INT_ARGB);
+        StreamingPNGEncoderAdapter encoder
+                = new StreamingPNGEncoderAdapter(3);
+        for (int i = 0; i < 5; i++) {
+            checkDecoded(image, encoder.encode(image), false);
+        }
+        Thread[] threads = new Thread[Thread.activeCount() + 10];
+        int count = Thread.enumerate(threads);
+        int workers = 0;
+        for (int i = 0; i < count; i++) {
+            if (threads[i].getName().startsWith("StreamingPNGEncoder-")) {
+                workers++;
+            }
+        }
+        // the threads stay for reuse, but no more than the largest thread
+        // count used in these tests (less the calling thread) are started
+        assertTrue(workers >= 1);
+        assertTrue(workers <= 3);
+
+        Thread.currentThread().interrupt();
+        byte[] png = encoder.encode(image);
+        assertTrue(Thread.interrupted());
+        checkDecoded(image, png, false);
+    }
+
+    /**
+     * Some checks for the argument checking.
+     */
+    public void testArguments() {
+        StreamingPNGEncoderAdapter encoder = new StreamingPNGEncoderAdapter();
+        assertEquals(6.0f, encoder.getQuality(), 0.0f);
+        assertEquals(1, encoder.getThreadCount());
+        boolean pass = false;
+        try {
+            encoder.setQuality(10.0f);
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+        pass = false;
+        try {
+            encoder.setThreadCount(0);
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+}
@@ -35,11 +35,13 @@
  * Changes
  * -------
  * 19-May-2004 : Version 1 (DG);
+ * 18-Oct-2026 : Added testGetEntity() and testGetEntities() (DG);
  *
  */
 
 package org.jfree.chart.entity.junit;
 
+import java.awt.geom.Ellipse2D;
 import java.awt.geom.Rectangle2D;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -47,11 +49,16 @@ import java.io.ObjectInput;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
 
 import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
+import org.jfree.chart.entity.ChartEntity;
 import org.jfree.chart.entity.PieSectionEntity;
 import org.jfree.chart.entity.StandardEntityCollection;
 import org.jfree.data.general.DefaultPieDataset;
@@ -153,4 +160,117 @@ public class StandardEntityCollectionTests extends TestCase {
         assertEquals(c1, c2);
     }
 
+    /**
+     * Creates a collection with many small entities and some large ones.
+     *
+     * @return The collection.
+     */
+    private StandardEntityCollection createEntities() {
+        StandardEntityCollection c = new StandardEntityCollection();
+        c.add(new ChartEntity(new Rectangle2D.Double(0, 0, 500, 400)));
+        Random random = new Random(13L);
+        for (int i = 0; i < 2000; i++) {
+            double x = random.nextDouble() * 500.0;
+            double y = random.nextDouble() * 400.0;
+            double w = random.nextDouble() * 12.0;
+            if (i % 2 == 0) {
+                c.add(new ChartEntity(new Rectangle2D.Double(x, y, w, w)));
+            }
+            else {
+                c.add(new ChartEntity(new Ellipse2D.Double(x, y, w, w)));
+            }
+            if (i == 1000) {
+                c.add(new ChartEntity(new Rectangle2D.Double(100, 100, 200,
+                        200)));
+            }
+        }
+        c.add(new ChartEntity(new Rectangle2D.Double(450, 350, 100, 100)));
+        return c;
+    }
+
+    /**
+     * Checks that getEntity(double, double) returns the last entity
+     * containing the point, as a linear search does.
+     */
+    public void testGetEntity() {
+        StandardEntityCollection c = createEntities();
+        Random random = new Random(17L);
+        for (int i = 0; i < 2000; i++) {
+            double x = random.nextDouble() * 600.0 - 50.0;
+            double y = random.nextDouble() * 500.0 - 50.0;
+            ChartEntity expected = null;
+            for (int j = c.getEntityCount() - 1; j >= 0; j--) {
+                if (c.getEntity(j).getArea().contains(x, y)) {
+                    expected = c.getEntity(j);
+                    break;
+                }
+            }
+            assertSame(expected, c.getEntity(x, y));
+        }
+
+        // the index must be updated when entities are added
+        ChartEntity e = new ChartEntity(new Rectangle2D.Double(10, 10, 5, 5));
+        c.add(e);
+        assertSame(e, c.getEntity(12.0, 12.0));
+        c.clear();
+        assertNull(c.getEntity(12.0, 12.0));
+    }
+
+    /**
+     * The index must be updated when entities are removed with the iterator,
+     * or when the area of an entity is replaced.
+     */
+    public void testIndexUpdates() {
+        StandardEntityCollection c = createEntities();
+        ChartEntity e = new ChartEntity(new Rectangle2D.Double(10, 10, 5, 5));
+        c.add(e);
+        assertSame(e, c.getEntity(12.0, 12.0));
+        Iterator iterator = c.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() == e) {
+                iterator.remove();
+            }
+        }
+        assertTrue(c.getEntity(12.0, 12.0) != e);
+        assertFalse(c.getEntities(new Rectangle2D.Double(11, 11, 2,
+                2)).contains(e));
+
+        ChartEntity last = c.getEntity(c.getEntityCount() - 1);
+        assertSame(last, c.getEntity(460.0, 360.0));
+        last.setArea(new Rectangle2D.Double(-100, -100, 10, 10));
+        assertSame(last, c.getEntity(-95.0, -95.0));
+        assertTrue(c.getEntity(460.0, 360.0) != last);
+        assertEquals(1, c.getEntities(new Rectangle2D.Double(-99, -99, 1,
+                1)).size());
+    }
+
+    /**
+     * Some checks for the getEntities(Rectangle2D) method.
+     */
+    public void testGetEntities() {
+        StandardEntityCollection c = createEntities();
+        Random random = new Random(19L);
+        for (int i = 0; i < 200; i++) {
+            Rectangle2D r = new Rectangle2D.Double(random.nextDouble() * 600.0
+                    - 50.0, random.nextDouble() * 500.0 - 50.0,
+                    random.nextDouble() * 80.0, random.nextDouble() * 80.0);
+            List expected = new ArrayList();
+            for (int j = 0; j < c.getEntityCount(); j++) {
+                if (c.getEntity(j).getArea().intersects(r)) {
+                    expected.add(c.getEntity(j));
+                }
+            }
+            assertEquals(expected, c.getEntities(r));
+        }
+
+        // a small collection
+        StandardEntityCollection c2 = new StandardEntityCollection();
+        ChartEntity e = new ChartEntity(new Rectangle2D.Double(10, 10, 5, 5));
+        c2.add(e);
+        assertEquals(1, c2.getEntities(new Rectangle2D.Double(0, 0, 12,
+                12)).size());
+        assertEquals(0, c2.getEntities(new Rectangle2D.Double(0, 0, 5,
+                5)).size());
+    }
+
 }
@@ -79,6 +79,7 @@ public class ChartPackageTests extends TestCase {
         suite.addTestSuite(PaintMapTests.class);
         suite.addTestSuite(PieChartTests.class);
         suite.addTestSuite(PieChart3DTests.class);
+        suite.addTestSuite(RenderTimingTests.class);
         suite.addTestSuite(ScatterPlotTests.class);
         suite.addTestSuite(StackedAreaChartTests.class);
         suite.addTestSuite(StackedBarChartTests.class);
@@ -40,8 +40,11 @@
 
 package org.jfree.chart.junit;
 
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
 import java.util.EventListener;
 
+import javax.swing.SwingUtilities;
 import javax.swing.event.CaretListener;
 
 import junit.framework.Test;
@@ -52,6 +55,8 @@ import org.jfree.chart.ChartMouseEvent;
 import org.jfree.chart.ChartMouseListener;
 import org.jfree.chart.ChartPanel;
 import org.jfree.chart.JFreeChart;
+import org.jfree.chart.event.ChartProgressEvent;
+import org.jfree.chart.event.ChartProgressListener;
 import org.jfree.chart.plot.XYPlot;
 
 /**
@@ -59,6 +64,9 @@ import org.jfree.chart.plot.XYPlot;
  */
 public class ChartPanelTests extends TestCase implements ChartMouseListener {
 
+    /** A tolerance for equality tests. */
+    private static final double EPSILON = 0.0000000001;
+
     /**
      * Returns the tests as a test suite.
      *
@@ -133,6 +141,109 @@ public class ChartPanelTests extends TestCase implements ChartMouseListener {
         assertTrue(pass);
     }
 
+    /**
+     * Some checks for the asyncRendering and maximumFrameRate attributes.
+     */
+    public void testAsyncRenderingAttributes() {
+        ChartPanel p = new ChartPanel(null);
+        assertFalse(p.isAsyncRendering());
+        assertEquals(0.0, p.getMaximumFrameRate(), EPSILON);
+        p.setAsyncRendering(true);
+        assertTrue(p.isAsyncRendering());
+        p.setMaximumFrameRate(25.0);
+        assertEquals(25.0, p.getMaximumFrameRate(), EPSILON);
+        boolean pass = false;
+        try {
+            p.setMaximumFrameRate(-1.0);
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+        pass = false;
+        try {
+            p.setMaximumFrameRate(Double.NaN);
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * Checks that in asynchronous mode the chart is drawn off the calling
+     * thread, and that a burst of change events is coalesced into a small
+     * number of drawings.
+     */
+    public void testAsyncRendering() throws Exception {
+        JFreeChart chart = new JFreeChart(new XYPlot());
+        final int[] drawings = new int[1];
+        chart.addProgressListener(new ChartProgressListener() {
+            public void chartProgress(ChartProgressEvent event) {
+                if (event.getType() == ChartProgressEvent.DRAWING_FINISHED) {
+                    synchronized (drawings) {
+                        drawings[0]++;
+                    }
+                }
+            }
+        });
+        ChartPanel p = new ChartPanel(chart);
+        p.setAsyncRendering(true);
+        p.setMaximumFrameRate(10.0);
+        p.setSize(300, 200);
+        BufferedImage image = new BufferedImage(300, 200,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        p.paintComponent(g2);
+        waitForDrawing(p);
+        assertEquals(300.0, p.getChartRenderingInfo().getChartArea()
+                .getWidth(), EPSILON);
+        assertEquals(200.0, p.getChartRenderingInfo().getChartArea()
+                .getHeight(), EPSILON);
+
+        int before;
+        synchronized (drawings) {
+            before = drawings[0];
+        }
+        for (int i = 0; i < 100; i++) {
+            chart.setTitle("Title " + i);
+        }
+        Thread.sleep(500);
+        waitForDrawing(p);
+        int count;
+        synchronized (drawings) {
+            count = drawings[0] - before;
+        }
+        assertTrue(count >= 1);
+        assertTrue(count < 10);
+        g2.dispose();
+    }
+
+    /**
+     * Waits (up to 10 seconds) until an asynchronous drawing has been
+     * delivered to the panel, then flushes the event queue.
+     *
+     * @param p  the panel.
+     */
+    private void waitForDrawing(ChartPanel p) throws Exception {
+        long end = System.currentTimeMillis() + 10000L;
+        while (p.getChartRenderingInfo().getChartArea().getWidth() == 0.0
+                && System.currentTimeMillis() < end) {
+            Thread.sleep(10);
+            SwingUtilities.invokeAndWait(new Runnable() {
+                public void run() {
+                    // flush
+                }
+            });
+        }
+        Thread.sleep(200);
+        SwingUtilities.invokeAndWait(new Runnable() {
+            public void run() {
+                // flush
+            }
+        });
+    }
+
     /**
      * Ignores a mouse click event.
      *
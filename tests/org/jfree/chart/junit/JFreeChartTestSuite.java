@@ -46,6 +46,11 @@
  * 08-Jun-2005 : Added tests for org.jfree.chart.needle package (DG);
  * 26-Jan-2007 : Added tests for org.jfree.data.time.ohlc package (DG);
  * 24-Oct-2007 : Added tests for org.jfree.chart.plot.dial package (DG);
+ * 18-Oct-2026 : Added tests for org.jfree.chart.servlet package (DG);
+ * 18-Oct-2026 : Added tests for org.jfree.chart.encoders package (DG);
+ * 18-Oct-2026 : Added tests for org.jfree.data.io package (DG);
+ * 18-Oct-2026 : Added tests for org.jfree.data.xml package (DG);
+ * 18-Oct-2026 : Added tests for org.jfree.data.jdbc package (DG);
  *
  */
 
@@ -58,6 +63,7 @@ import junit.framework.TestSuite;
 import org.jfree.chart.annotations.junit.AnnotationsPackageTests;
 import org.jfree.chart.axis.junit.AxisPackageTests;
 import org.jfree.chart.block.junit.BlockPackageTests;
+import org.jfree.chart.encoders.junit.EncodersPackageTests;
 import org.jfree.chart.entity.junit.EntityPackageTests;
 import org.jfree.chart.labels.junit.LabelsPackageTests;
 import org.jfree.chart.needle.junit.NeedlePackageTests;
@@ -66,14 +72,18 @@ import org.jfree.chart.plot.junit.PlotPackageTests;
 import org.jfree.chart.renderer.category.junit.RendererCategoryPackageTests;
 import org.jfree.chart.renderer.junit.RendererPackageTests;
 import org.jfree.chart.renderer.xy.junit.RendererXYPackageTests;
+import org.jfree.chart.servlet.junit.ServletPackageTests;
 import org.jfree.chart.title.junit.TitlePackageTests;
 import org.jfree.chart.urls.junit.UrlsPackageTests;
 import org.jfree.data.category.junit.DataCategoryPackageTests;
 import org.jfree.data.gantt.junit.DataGanttPackageTests;
+import org.jfree.data.io.junit.DataIOPackageTests;
+import org.jfree.data.jdbc.junit.DataJDBCPackageTests;
 import org.jfree.data.junit.DataPackageTests;
 import org.jfree.data.statistics.junit.DataStatisticsPackageTests;
 import org.jfree.data.time.junit.DataTimePackageTests;
 import org.jfree.data.time.ohlc.junit.OHLCPackageTests;
+import org.jfree.data.xml.junit.DataXMLPackageTests;
 import org.jfree.data.xy.junit.DataXYPackageTests;
 
 /**
@@ -93,6 +103,7 @@ public class JFreeChartTestSuite extends TestCase {
         suite.addTest(AnnotationsPackageTests.suite());
         suite.addTest(AxisPackageTests.suite());
         suite.addTest(BlockPackageTests.suite());
+        suite.addTest(EncodersPackageTests.suite());
         suite.addTest(EntityPackageTests.suite());
         suite.addTest(LabelsPackageTests.suite());
         suite.addTest(NeedlePackageTests.suite());
@@ -101,6 +112,7 @@ public class JFreeChartTestSuite extends TestCase {
         suite.addTest(RendererPackageTests.suite());
         suite.addTest(RendererCategoryPackageTests.suite());
         suite.addTest(RendererXYPackageTests.suite());
+        suite.addTest(ServletPackageTests.suite());
         suite.addTest(TitlePackageTests.suite());
         suite.addTest(UrlsPackageTests.suite());
         suite.addTest(DataPackageTests.suite());
@@ -110,6 +122,9 @@ public class JFreeChartTestSuite extends TestCase {
         suite.addTest(OHLCPackageTests.suite());
         suite.addTest(DataXYPackageTests.suite());
         suite.addTest(DataGanttPackageTests.suite());
+        suite.addTest(DataIOPackageTests.suite());
+        suite.addTest(DataJDBCPackageTests.suite());
+        suite.addTest(DataXMLPackageTests.suite());
         return suite;
     }
 
@@ -40,6 +40,7 @@
  *               null titles cannot be created (DG);
  * 24-Nov-2005 : Removed OldLegend (DG);
  * 16-May-2007 : Added some new tests (DG);
+ * 18-Oct-2026 : Added testChangeBatch() (DG);
  *
  */
 
@@ -69,15 +70,19 @@ import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.plot.PiePlot;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.RingPlot;
+import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.title.LegendTitle;
 import org.jfree.chart.title.TextTitle;
 import org.jfree.chart.title.Title;
 import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.ChangeBatch;
 import org.jfree.data.general.DefaultPieDataset;
 import org.jfree.data.time.Day;
 import org.jfree.data.time.RegularTimePeriod;
 import org.jfree.data.time.TimeSeries;
 import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 import org.jfree.ui.Align;
 import org.jfree.ui.RectangleEdge;
 import org.jfree.ui.RectangleInsets;
@@ -577,6 +582,9 @@ public class JFreeChartTests extends TestCase implements ChartChangeListener {
     /** The last ChartChangeEvent received. */
     private ChartChangeEvent lastChartChangeEvent;
 
+    /** The number of chart change events received. */
+    private int chartChangeCount;
+
     /**
      * Records the last chart change event.
      *
@@ -584,6 +592,46 @@ public class JFreeChartTests extends TestCase implements ChartChangeListener {
      */
     public void chartChanged(ChartChangeEvent event) {
         this.lastChartChangeEvent = event;
+        this.chartChangeCount++;
+    }
+
+    /**
+     * A batch spanning several datasets and charts should result in a single
+     * event from each chart.
+     */
+    public void testChangeBatch() {
+        XYSeriesCollection d1 = new XYSeriesCollection();
+        XYSeriesCollection d2 = new XYSeriesCollection();
+        for (int i = 0; i < 300; i++) {
+            d1.addSeries(new XYSeries("S" + i));
+            d2.addSeries(new XYSeries("S" + i));
+        }
+        JFreeChart c1 = ChartFactory.createXYLineChart("Chart 1", "X", "Y",
+                d1, PlotOrientation.VERTICAL, true, false, false);
+        JFreeChart c2 = ChartFactory.createXYLineChart("Chart 2", "X", "Y",
+                d2, PlotOrientation.VERTICAL, true, false, false);
+        c1.addChangeListener(this);
+        c2.addChangeListener(this);
+        this.chartChangeCount = 0;
+        ChangeBatch batch = ChangeBatch.begin();
+        for (int i = 0; i < 300; i++) {
+            d1.getSeries(i).add(1.0, i);
+            d2.getSeries(i).add(1.0, -i);
+        }
+        c1.setTitle("Changed");
+        assertEquals(0, this.chartChangeCount);
+        batch.end();
+        assertEquals(2, this.chartChangeCount);
+        XYPlot plot = (XYPlot) c1.getPlot();
+        assertEquals(299.0, plot.getRangeAxis().getUpperBound(), 30.0);
+
+        // a chart with notification switched off receives no event
+        c2.setNotify(false);
+        this.chartChangeCount = 0;
+        batch = ChangeBatch.begin();
+        d2.getSeries(0).add(2.0, 1.0);
+        batch.end();
+        assertEquals(0, this.chartChangeCount);
     }
 
 }
@@ -0,0 +1,398 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ *
+ * ----------------------
+ * RenderTimingTests.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.chart.junit;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.event.RenderPhase;
+import org.jfree.chart.event.RenderTimer;
+import org.jfree.chart.event.RenderTimingEvent;
+import org.jfree.chart.event.RenderTimingListener;
+import org.jfree.chart.plot.CrosshairState;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRendererState;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Tests for the {@link RenderTimingListener} support in {@link JFreeChart}.
+ */
+public class RenderTimingTests extends TestCase {
+
+    /**
+     * A listener that records the events it receives.
+     */
+    static class RecordingListener implements RenderTimingListener {
+
+        /** The events received. */
+        List events = new ArrayList();
+
+        /**
+         * Records an event.
+         *
+         * @param event  the event.
+         */
+        public void renderPhaseCompleted(RenderTimingEvent event) {
+            this.events.add(event);
+        }
+
+        /**
+         * Returns the events for a phase.
+         *
+         * @param phase  the phase.
+         *
+         * @return The events.
+         */
+        List getEvents(RenderPhase phase) {
+            List result = new ArrayList();
+            for (int i = 0; i < this.events.size(); i++) {
+                RenderTimingEvent e = (RenderTimingEvent) this.events.get(i);
+                if (e.getPhase() == phase) {
+                    result.add(e);
+                }
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * A renderer that fails while drawing.
+     */
+    static class FailingRenderer extends XYLineAndShapeRenderer {
+
+        /**
+         * Throws an exception.
+         */
+        public void drawItem(Graphics2D g2, XYItemRendererState state,
+                Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot,
+                ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
+                int series, int item, CrosshairState crosshairState,
+                int pass) {
+            throw new IllegalStateException("Failed.");
+        }
+
+    }
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(RenderTimingTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public RenderTimingTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates an XY chart with one series of 100 items.
+     *
+     * @return The chart.
+     */
+    private JFreeChart createXYChart() {
+        XYSeries series = new XYSeries("S1");
+        for (int i = 0; i < 100; i++) {
+            series.add(i, i % 7);
+        }
+        return ChartFactory.createXYLineChart("Title", "X", "Y",
+                new XYSeriesCollection(series), PlotOrientation.VERTICAL,
+                true, true, false);
+    }
+
+    /**
+     * Draws a chart to an image.
+     *
+     * @param chart  the chart.
+     * @param info  the rendering info (<code>null</code> permitted).
+     */
+    private void draw(JFreeChart chart, ChartRenderingInfo info) {
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        try {
+            chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300), null,
+                    info);
+        }
+        finally {
+            g2.dispose();
+        }
+    }
+
+    /**
+     * Checks the phases reported for an XY chart.
+     */
+    public void testXYPlotPhases() {
+        JFreeChart chart = createXYChart();
+        XYPlot plot = (XYPlot) chart.getPlot();
+        plot.setRenderer(new XYLineAndShapeRenderer(true, true));
+        RecordingListener listener = new RecordingListener();
+        chart.addRenderTimingListener(listener);
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        draw(chart, info);
+        assertNull(RenderTimer.getActive());
+
+        // the chart phase completes last and contains everything else
+        RenderTimingEvent last = (RenderTimingEvent) listener.events.get(
+                listener.events.size() - 1);
+        assertEquals(RenderPhase.CHART, last.getPhase());
+        assertEquals(0, last.getDepth());
+        assertSame(chart, last.getChart());
+        assertEquals(1, listener.getEvents(RenderPhase.CHART).size());
+        // the renderer makes two passes over the items
+        assertEquals(200, last.getItemsDrawn());
+        assertEquals(0, last.getItemsSkipped());
+        assertEquals(info.getEntityCollection().getEntityCount(),
+                last.getEntitiesCreated());
+        assertTrue(last.getTextMeasurements() > 0);
+        assertTrue(last.getNanos() > 0L);
+
+        assertEquals(1, listener.getEvents(RenderPhase.TITLE).size());
+        assertEquals(1, listener.getEvents(RenderPhase.LEGEND).size());
+        // the title and legend text is measured
+        RenderTimingEvent title = (RenderTimingEvent) listener.getEvents(
+                RenderPhase.TITLE).get(0);
+        assertTrue(title.getTextMeasurements() > 0);
+        RenderTimingEvent legend = (RenderTimingEvent) listener.getEvents(
+                RenderPhase.LEGEND).get(0);
+        assertTrue(legend.getTextMeasurements() > 0);
+        assertEquals(1, listener.getEvents(RenderPhase.PLOT).size());
+        assertEquals(2, listener.getEvents(RenderPhase.AXIS_LAYOUT).size());
+        // the axes are drawn twice (before and after the gridlines)
+        assertEquals(4, listener.getEvents(RenderPhase.AXIS_DRAW).size());
+        assertEquals(1, listener.getEvents(RenderPhase.RENDERER).size());
+        List passes = listener.getEvents(RenderPhase.RENDERER_PASS);
+        assertEquals(2, passes.size());
+        RenderTimingEvent pass = (RenderTimingEvent) passes.get(1);
+        assertEquals(1, pass.getIndex());
+        // chart > plot > renderer > pass
+        assertEquals(3, pass.getDepth());
+        assertSame(plot.getRenderer(), pass.getOwner());
+        assertEquals(100, pass.getItemsDrawn());
+        RenderTimingEvent renderer = (RenderTimingEvent) listener.getEvents(
+                RenderPhase.RENDERER).get(0);
+        assertEquals(200, renderer.getItemsDrawn());
+        assertEquals(100, renderer.getEntitiesCreated());
+
+        RenderTimingEvent plotEvent = (RenderTimingEvent) listener.getEvents(
+                RenderPhase.PLOT).get(0);
+        assertEquals(1, plotEvent.getDepth());
+        assertTrue(plotEvent.getNanos() <= last.getNanos());
+    }
+
+    /**
+     * Items outside the visible range are reported as skipped.
+     */
+    public void testItemsSkipped() {
+        JFreeChart chart = createXYChart();
+        XYPlot plot = (XYPlot) chart.getPlot();
+        plot.getDomainAxis().setRange(10.0, 19.0);
+        RecordingListener listener = new RecordingListener();
+        chart.addRenderTimingListener(listener);
+        draw(chart, null);
+        RenderTimingEvent e = (RenderTimingEvent) listener.getEvents(
+                RenderPhase.RENDERER).get(0);
+        // the live items include one item either side of the visible range,
+        // and the renderer makes two passes
+        assertEquals(24, e.getItemsDrawn());
+        assertEquals(176, e.getItemsSkipped());
+        assertEquals(0, e.getEntitiesCreated());
+    }
+
+    /**
+     * Checks the phases reported for a category chart.
+     */
+    public void testCategoryPlotPhases() {
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        dataset.addValue(1.0, "R1", "C1");
+        dataset.addValue(2.0, "R1", "C2");
+        dataset.addValue(3.0, "R2", "C1");
+        dataset.addValue(4.0, "R2", "C2");
+        JFreeChart chart = ChartFactory.createBarChart("Title", "Category",
+                "Value", dataset, PlotOrientation.VERTICAL, false, false,
+                false);
+        RecordingListener listener = new RecordingListener();
+        chart.addRenderTimingListener(listener);
+        draw(chart, null);
+        assertEquals(1, listener.getEvents(RenderPhase.RENDERER).size());
+        assertEquals(2, listener.getEvents(RenderPhase.AXIS_LAYOUT).size());
+        assertEquals(1, listener.getEvents(RenderPhase.ANNOTATIONS).size());
+        RenderTimingEvent e = (RenderTimingEvent) listener.getEvents(
+                RenderPhase.CHART).get(0);
+        assertEquals(4, e.getItemsDrawn());
+        assertTrue(e.getTextMeasurements() > 0);
+    }
+
+    /**
+     * No events are recorded once the listener has been removed.
+     */
+    public void testRemoveListener() {
+        JFreeChart chart = createXYChart();
+        RecordingListener listener = new RecordingListener();
+        chart.addRenderTimingListener(listener);
+        chart.removeRenderTimingListener(listener);
+        draw(chart, null);
+        assertEquals(0, listener.events.size());
+    }
+
+    /**
+     * The timer is released (and the completed phases are delivered) when
+     * drawing fails.
+     */
+    public void testFailure() {
+        JFreeChart chart = createXYChart();
+        XYPlot plot = (XYPlot) chart.getPlot();
+        plot.setRenderer(new FailingRenderer());
+        RecordingListener listener = new RecordingListener();
+        chart.addRenderTimingListener(listener);
+        boolean pass = false;
+        try {
+            draw(chart, null);
+        }
+        catch (IllegalStateException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+        assertNull(RenderTimer.getActive());
+        assertEquals(1, listener.getEvents(RenderPhase.CHART).size());
+        assertEquals(1, listener.getEvents(RenderPhase.PLOT).size());
+
+        // the next draw is unaffected
+        plot.setRenderer(new XYLineAndShapeRenderer());
+        listener.events.clear();
+        draw(chart, null);
+        RenderTimingEvent e = (RenderTimingEvent) listener.getEvents(
+                RenderPhase.CHART).get(0);
+        assertEquals(0, e.getDepth());
+    }
+
+    /**
+     * A phase that fails is ended before the exception reaches the caller,
+     * so the phases that follow are nested correctly.
+     */
+    public void testFailureCaught() {
+        JFreeChart chart = createXYChart();
+        XYPlot plot = (XYPlot) chart.getPlot();
+        plot.setRenderer(new FailingRenderer());
+        RecordingListener listener = new RecordingListener();
+        RenderTimer timer = RenderTimer.start(chart,
+                new RenderTimingListener[] {listener}, null);
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        try {
+            try {
+                plot.render(g2, new Rectangle2D.Double(0, 0, 400, 300), 0,
+                        null, new CrosshairState());
+                fail();
+            }
+            catch (IllegalStateException e) {
+                // expected
+            }
+            timer.startPhase(RenderPhase.LEGEND, null);
+            timer.endPhase();
+        }
+        finally {
+            timer.finish();
+            g2.dispose();
+        }
+        assertEquals(1, listener.getEvents(RenderPhase.RENDERER_PASS).size());
+        assertEquals(1, listener.getEvents(RenderPhase.RENDERER).size());
+        RenderTimingEvent e = (RenderTimingEvent) listener.getEvents(
+                RenderPhase.LEGEND).get(0);
+        assertEquals(1, e.getDepth());
+    }
+
+    /**
+     * Serialize a phase and check that the unique instance is restored.
+     */
+    public void testPhaseSerialization() {
+        RenderPhase p1 = RenderPhase.RENDERER_PASS;
+        RenderPhase p2 = null;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            ObjectOutput out = new ObjectOutputStream(buffer);
+            out.writeObject(p1);
+            out.close();
+
+            ObjectInput in = new ObjectInputStream(
+                    new ByteArrayInputStream(buffer.toByteArray()));
+            p2 = (RenderPhase) in.readObject();
+            in.close();
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+        assertSame(p1, p2);
+    }
+
+}
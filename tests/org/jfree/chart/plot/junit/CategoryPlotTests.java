@@ -44,6 +44,8 @@
  * 23-Apr-2008 : Extended testEquals() and testCloning(), and added
  *               testCloning2() and testCloning3() (DG);
  * 26-Jun-2008 : Updated testEquals() (DG);
+ * 18-Oct-2026 : Added testDataBoundsCache() (DG);
+ * 18-Oct-2026 : Added testDrawConcurrentDatasetWithAnchor() (DG);
  *
  */
 
@@ -55,6 +57,7 @@ import java.awt.GradientPaint;
 import java.awt.Graphics2D;
 import java.awt.Stroke;
 import java.awt.geom.Line2D;
+import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
@@ -71,6 +74,7 @@ import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.LegendItem;
 import org.jfree.chart.LegendItemCollection;
@@ -81,6 +85,9 @@ import org.jfree.chart.axis.AxisSpace;
 import org.jfree.chart.axis.CategoryAnchor;
 import org.jfree.chart.axis.CategoryAxis;
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.CategoryItemEntity;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.MarkerChangeListener;
 import org.jfree.chart.plot.CategoryMarker;
 import org.jfree.chart.plot.CategoryPlot;
@@ -94,8 +101,10 @@ import org.jfree.chart.renderer.category.BarRenderer;
 import org.jfree.chart.renderer.category.CategoryItemRenderer;
 import org.jfree.chart.renderer.category.DefaultCategoryItemRenderer;
 import org.jfree.chart.renderer.category.LineAndShapeRenderer;
+import org.jfree.chart.renderer.category.StackedBarRenderer;
 import org.jfree.data.Range;
 import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.category.ConcurrentCategoryDataset;
 import org.jfree.data.category.DefaultCategoryDataset;
 import org.jfree.ui.Layer;
 import org.jfree.ui.RectangleInsets;
@@ -866,6 +875,39 @@ public class CategoryPlotTests extends TestCase {
         assertTrue(success);
     }
 
+    /**
+     * Draws a bar chart for a {@link ConcurrentCategoryDataset} with an
+     * anchor point (as a chart panel does after a mouse click), and checks
+     * that the entities refer to the dataset rather than to the snapshot
+     * that is drawn.
+     */
+    public void testDrawConcurrentDatasetWithAnchor() {
+        ConcurrentCategoryDataset dataset = new ConcurrentCategoryDataset();
+        dataset.setValue(1.0, "R1", "C1");
+        dataset.setValue(2.0, "R1", "C2");
+        dataset.setValue(3.0, "R2", "C1");
+        JFreeChart chart = ChartFactory.createBarChart("Title", "X", "Y",
+                dataset, PlotOrientation.VERTICAL, true, true, false);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100),
+                new Point2D.Double(100, 50), info);
+        g2.dispose();
+        EntityCollection entities = info.getEntityCollection();
+        int count = 0;
+        for (int i = 0; i < entities.getEntityCount(); i++) {
+            ChartEntity entity = entities.getEntity(i);
+            if (entity instanceof CategoryItemEntity) {
+                assertTrue(((CategoryItemEntity) entity).getDataset()
+                        == dataset);
+                count++;
+            }
+        }
+        assertEquals(3, count);
+    }
+
     /**
      * Some checks for the getDomainAxisIndex() method.
      */
@@ -1014,5 +1056,54 @@ public class CategoryPlotTests extends TestCase {
         assertEquals(yAxis2, plot.getRangeAxisForDataset(0));
     }
 
+    /**
+     * A dataset that counts the number of values read.
+     */
+    static class CountingCategoryDataset extends DefaultCategoryDataset {
+
+        int readCount;
+
+        public Number getValue(int row, int column) {
+            this.readCount++;
+            return super.getValue(row, column);
+        }
+
+    }
+
+    /**
+     * Checks that the data bounds are extended (without a full rescan of the
+     * dataset) when values are added, and recalculated for other changes.
+     */
+    public void testDataBoundsCache() {
+        CountingCategoryDataset dataset = new CountingCategoryDataset();
+        for (int r = 0; r < 3; r++) {
+            for (int c = 0; c < 3; c++) {
+                dataset.addValue(r + c + 1.0, "R" + r, "C" + c);
+            }
+        }
+        NumberAxis yAxis = new NumberAxis("Y");
+        CategoryPlot plot = new CategoryPlot(dataset, new CategoryAxis("X"),
+                yAxis, new BarRenderer());
+        assertEquals(new Range(0.0, 5.0), plot.getDataRange(yAxis));
+
+        // adding a value reads only that value...
+        int count = dataset.readCount;
+        dataset.addValue(9.0, "R1", "C3");
+        assertEquals(new Range(0.0, 9.0), plot.getDataRange(yAxis));
+        assertEquals(count + 1, dataset.readCount);
+
+        // ...but removing a value triggers a full recalculation
+        dataset.removeValue("R1", "C3");
+        assertEquals(new Range(0.0, 5.0), plot.getDataRange(yAxis));
+        assertTrue(dataset.readCount > count + 1);
+
+        // the stacked renderer overrides the bounds calculation
+        plot.setRenderer(new StackedBarRenderer());
+        assertEquals(new Range(0.0, 12.0), plot.getDataRange(yAxis));
+        dataset.addValue(3.0, "R0", "C3");
+        assertEquals(new Range(0.0, 12.0), plot.getDataRange(yAxis));
+        dataset.setValue(10.0, "R2", "C3");
+        assertEquals(new Range(0.0, 13.0), plot.getDataRange(yAxis));
+    }
 
 }
@@ -44,6 +44,12 @@
  * 24-May-2007 : Added testDrawSeriesWithZeroItems() (DG);
  * 07-Apr-2008 : Added testRemoveDomainMarker() and
  *               testRemoveRangeMarker() (DG);
+ * 18-Oct-2026 : Added testDrawWithDecimation() (DG);
+ * 18-Oct-2026 : Added renderingThreadCount to testEquals(), and added
+ *               testDrawInParallel() (DG);
+ * 18-Oct-2026 : Added testDataBoundsCache() (DG);
+ * 18-Oct-2026 : Added testDrawConcurrentDatasetWithAnchor() (DG);
+ * 18-Oct-2026 : Added testDrawWithDecimationIntervalRenderer() (DG);
  *
  */
 
@@ -71,32 +77,45 @@ import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.LegendItemCollection;
 import org.jfree.chart.annotations.XYTextAnnotation;
 import org.jfree.chart.axis.AxisLocation;
 import org.jfree.chart.axis.DateAxis;
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.XYItemEntity;
 import org.jfree.chart.event.MarkerChangeListener;
 import org.jfree.chart.labels.StandardXYToolTipGenerator;
 import org.jfree.chart.plot.IntervalMarker;
 import org.jfree.chart.plot.Marker;
 import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.SeriesRenderingOrder;
 import org.jfree.chart.plot.ValueMarker;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.DecimationMode;
 import org.jfree.chart.renderer.xy.DefaultXYItemRenderer;
+import org.jfree.chart.renderer.xy.DeviationRenderer;
 import org.jfree.chart.renderer.xy.StandardXYItemRenderer;
+import org.jfree.chart.renderer.xy.XYAreaRenderer;
 import org.jfree.chart.renderer.xy.XYBarRenderer;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
 import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.Range;
 import org.jfree.data.time.Day;
 import org.jfree.data.time.TimeSeries;
 import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.ConcurrentXYSeries;
+import org.jfree.data.xy.ConcurrentXYSeriesCollection;
 import org.jfree.data.xy.DefaultXYDataset;
 import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
+import org.jfree.data.xy.YIntervalSeries;
+import org.jfree.data.xy.YIntervalSeriesCollection;
 import org.jfree.date.MonthConstants;
 import org.jfree.ui.Layer;
 import org.jfree.ui.RectangleInsets;
@@ -427,6 +446,11 @@ public class XYPlotTests extends TestCase {
         assertFalse(plot1.equals(plot2));
         plot2.mapDatasetToRangeAxes(0, axisIndices);
         assertTrue(plot1.equals(plot2));
+
+        plot1.setRenderingThreadCount(4);
+        assertFalse(plot1.equals(plot2));
+        plot2.setRenderingThreadCount(4);
+        assertTrue(plot1.equals(plot2));
     }
 
     /**
@@ -1062,6 +1086,248 @@ public class XYPlotTests extends TestCase {
         assertTrue(success);
     }
 
+    /**
+     * Draws a chart with many more items than pixels, and checks that
+     * min/max decimation does not change the picture.
+     */
+    public void testDrawWithDecimation() {
+        XYSeries series = new XYSeries("S1");
+        for (int i = 0; i < 20000; i++) {
+            series.add(i, Math.sin(i / 500.0) + ((i * 7919) % 101) / 50.0);
+        }
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                new XYSeriesCollection(series), PlotOrientation.VERTICAL,
+                false, false, false);
+        chart.setAntiAlias(false);
+        XYPlot plot = (XYPlot) chart.getPlot();
+        XYLineAndShapeRenderer renderer
+                = (XYLineAndShapeRenderer) plot.getRenderer();
+        int[] expected = drawChart(chart);
+        renderer.setDecimationMode(DecimationMode.MIN_MAX);
+        assertTrue(Arrays.equals(expected, drawChart(chart)));
+        renderer.setDecimationMode(DecimationMode.LTTB);
+        drawChart(chart);
+
+        // the series path is not compared, since line joins may differ
+        renderer.setDrawSeriesLineAsPath(true);
+        renderer.setDecimationMode(DecimationMode.MIN_MAX);
+        drawChart(chart);
+
+        StandardXYItemRenderer standardRenderer = new StandardXYItemRenderer();
+        plot.setRenderer(standardRenderer);
+        expected = drawChart(chart);
+        standardRenderer.setDecimationMode(DecimationMode.MIN_MAX);
+        assertTrue(Arrays.equals(expected, drawChart(chart)));
+
+        // check a renderer that processes all items
+        XYAreaRenderer areaRenderer = new XYAreaRenderer();
+        areaRenderer.setDecimationMode(DecimationMode.MIN_MAX);
+        plot.setRenderer(areaRenderer);
+        drawChart(chart);
+        plot.setOrientation(PlotOrientation.HORIZONTAL);
+        drawChart(chart);
+    }
+
+    /**
+     * The entities for a decimated series refer to the plot's dataset and to
+     * the item indices in that dataset.
+     */
+    public void testDecimationEntities() {
+        XYSeries series = new XYSeries("S1");
+        for (int i = 0; i < 20000; i++) {
+            series.add(i, Math.sin(i / 500.0) + ((i * 7919) % 101) / 50.0);
+        }
+        XYSeriesCollection dataset = new XYSeriesCollection(series);
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                dataset, PlotOrientation.VERTICAL, false, true, false);
+        XYPlot plot = (XYPlot) chart.getPlot();
+        XYLineAndShapeRenderer renderer
+                = (XYLineAndShapeRenderer) plot.getRenderer();
+        renderer.setDecimationMode(DecimationMode.MIN_MAX);
+        StandardXYToolTipGenerator generator
+                = new StandardXYToolTipGenerator();
+        renderer.setBaseToolTipGenerator(generator);
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        drawChart(chart, info);
+        EntityCollection entities = info.getEntityCollection();
+        int itemEntities = 0;
+        int lastItem = -1;
+        for (int i = 0; i < entities.getEntityCount(); i++) {
+            ChartEntity entity = entities.getEntity(i);
+            if (!(entity instanceof XYItemEntity)) {
+                continue;
+            }
+            XYItemEntity e = (XYItemEntity) entity;
+            itemEntities++;
+            assertSame(dataset, e.getDataset());
+            assertTrue(e.getItem() > lastItem);
+            lastItem = e.getItem();
+            assertEquals(generator.generateToolTip(dataset, 0, e.getItem()),
+                    e.getToolTipText());
+        }
+        assertTrue(itemEntities > 0);
+        assertTrue(itemEntities < 20000);
+        assertTrue(lastItem > itemEntities);
+    }
+
+    /**
+     * Draws charts with renderers that need an {@link IntervalXYDataset},
+     * and checks that the decimation mode is ignored for them.
+     */
+    public void testDrawWithDecimationIntervalRenderer() {
+        XYSeries series = new XYSeries("S1");
+        YIntervalSeries intervalSeries = new YIntervalSeries("S1");
+        for (int i = 0; i < 20000; i++) {
+            double y = Math.sin(i / 500.0) + ((i * 7919) % 101) / 50.0;
+            series.add(i, y);
+            intervalSeries.add(i, y, y - 0.5, y + 0.5);
+        }
+        JFreeChart chart = ChartFactory.createXYBarChart("Title", "X", false,
+                "Y", new XYSeriesCollection(series),
+                PlotOrientation.VERTICAL, false, false, false);
+        chart.setAntiAlias(false);
+        XYPlot plot = (XYPlot) chart.getPlot();
+        XYBarRenderer barRenderer = (XYBarRenderer) plot.getRenderer();
+        assertFalse(barRenderer.getSupportsDecimation());
+        int[] expected = drawChart(chart);
+        barRenderer.setDecimationMode(DecimationMode.MIN_MAX);
+        assertTrue(Arrays.equals(expected, drawChart(chart)));
+
+        YIntervalSeriesCollection intervalDataset
+                = new YIntervalSeriesCollection();
+        intervalDataset.addSeries(intervalSeries);
+        plot.setDataset(intervalDataset);
+        DeviationRenderer deviationRenderer = new DeviationRenderer();
+        plot.setRenderer(deviationRenderer);
+        assertFalse(deviationRenderer.getSupportsDecimation());
+        expected = drawChart(chart);
+        deviationRenderer.setDecimationMode(DecimationMode.LTTB);
+        assertTrue(Arrays.equals(expected, drawChart(chart)));
+    }
+
+    /**
+     * Draws a chart using several threads, and checks that the picture and
+     * the entities are the same as for sequential drawing.
+     */
+    public void testDrawInParallel() {
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        for (int s = 0; s < 3; s++) {
+            XYSeries series = new XYSeries("S" + s);
+            for (int i = 0; i < 6000; i++) {
+                series.add(i, s + Math.sin(i / (100.0 + s)));
+            }
+            dataset.addSeries(series);
+        }
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                dataset, PlotOrientation.VERTICAL, false, true, false);
+        chart.setAntiAlias(false);
+        XYPlot plot = (XYPlot) chart.getPlot();
+        XYLineAndShapeRenderer renderer
+                = (XYLineAndShapeRenderer) plot.getRenderer();
+        renderer.setBaseShapesVisible(true);
+        ChartRenderingInfo info1 = new ChartRenderingInfo();
+        int[] expected = drawChart(chart, info1);
+        plot.setRenderingThreadCount(4);
+        ChartRenderingInfo info2 = new ChartRenderingInfo();
+        assertTrue(Arrays.equals(expected, drawChart(chart, info2)));
+        EntityCollection entities1 = info1.getEntityCollection();
+        EntityCollection entities2 = info2.getEntityCollection();
+        assertEquals(entities1.getEntityCount(), entities2.getEntityCount());
+        for (int i = 0; i < entities1.getEntityCount(); i++) {
+            ChartEntity e1 = entities1.getEntity(i);
+            ChartEntity e2 = entities2.getEntity(i);
+            assertEquals(e1.toString(), e2.toString());
+            assertEquals(e1.getToolTipText(), e2.getToolTipText());
+            assertEquals(e1.getArea().getBounds2D(),
+                    e2.getArea().getBounds2D());
+        }
+
+        // the forward series order
+        plot.setSeriesRenderingOrder(SeriesRenderingOrder.FORWARD);
+        plot.setRenderingThreadCount(1);
+        expected = drawChart(chart);
+        plot.setRenderingThreadCount(3);
+        assertTrue(Arrays.equals(expected, drawChart(chart)));
+
+        // an interrupt doesn't stop the drawing, and isn't lost either
+        Thread.currentThread().interrupt();
+        int[] pixels = drawChart(chart);
+        assertTrue(Thread.interrupted());
+        assertTrue(Arrays.equals(expected, pixels));
+
+        // a renderer that depends on previous items draws sequentially
+        plot.setRenderer(new XYAreaRenderer());
+        plot.setRenderingThreadCount(1);
+        expected = drawChart(chart);
+        plot.setRenderingThreadCount(4);
+        assertTrue(Arrays.equals(expected, drawChart(chart)));
+    }
+
+    /**
+     * Draws a chart for a {@link ConcurrentXYSeriesCollection} with an
+     * anchor point, and checks that the entities refer to the collection
+     * rather than to the snapshot that is drawn.
+     */
+    public void testDrawConcurrentDatasetWithAnchor() {
+        ConcurrentXYSeries series = new ConcurrentXYSeries("S1");
+        for (int i = 0; i < 10; i++) {
+            series.add(i, i * i);
+        }
+        ConcurrentXYSeriesCollection dataset
+                = new ConcurrentXYSeriesCollection();
+        dataset.addSeries(series);
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                dataset, PlotOrientation.VERTICAL, false, true, false);
+        XYLineAndShapeRenderer renderer = (XYLineAndShapeRenderer)
+                ((XYPlot) chart.getPlot()).getRenderer();
+        renderer.setBaseShapesVisible(true);
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300),
+                new Point2D.Double(200, 150), info);
+        g2.dispose();
+        EntityCollection entities = info.getEntityCollection();
+        int count = 0;
+        for (int i = 0; i < entities.getEntityCount(); i++) {
+            ChartEntity entity = entities.getEntity(i);
+            if (entity instanceof XYItemEntity) {
+                assertTrue(((XYItemEntity) entity).getDataset() == dataset);
+                count++;
+            }
+        }
+        assertEquals(10, count);
+    }
+
+    /**
+     * Draws a chart to an image and returns the pixels.
+     *
+     * @param chart  the chart.
+     *
+     * @return The pixels.
+     */
+    private int[] drawChart(JFreeChart chart) {
+        return drawChart(chart, null);
+    }
+
+    /**
+     * Draws a chart to an image and returns the pixels.
+     *
+     * @param chart  the chart.
+     * @param info  the rendering info (<code>null</code> permitted).
+     *
+     * @return The pixels.
+     */
+    private int[] drawChart(JFreeChart chart, ChartRenderingInfo info) {
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300), null, info);
+        g2.dispose();
+        return image.getRGB(0, 0, 400, 300, null, 0, 400);
+    }
+
     /**
      * Check that removing a marker that isn't assigned to the plot returns
      * false.
@@ -1181,4 +1447,69 @@ public class XYPlotTests extends TestCase {
         plot.mapDatasetToRangeAxes(0, axisIndices);
         assertEquals(yAxis2, plot.getRangeAxisForDataset(0));
     }
+
+    /**
+     * A collection that counts the number of times the bounds are requested.
+     */
+    static class CountingXYSeriesCollection extends XYSeriesCollection {
+
+        int boundsCount;
+
+        public Range getDomainBounds(boolean includeInterval) {
+            this.boundsCount++;
+            return super.getDomainBounds(includeInterval);
+        }
+
+        public Range getRangeBounds(boolean includeInterval) {
+            this.boundsCount++;
+            return super.getRangeBounds(includeInterval);
+        }
+
+    }
+
+    /**
+     * Checks that the data bounds are extended (without a full rescan of the
+     * dataset) when items are appended, and recalculated for other changes.
+     */
+    public void testDataBoundsCache() {
+        XYSeries s1 = new XYSeries("S1");
+        s1.add(1.0, 10.0);
+        s1.add(2.0, 20.0);
+        CountingXYSeriesCollection dataset = new CountingXYSeriesCollection();
+        dataset.addSeries(s1);
+        NumberAxis xAxis = new NumberAxis("X");
+        NumberAxis yAxis = new NumberAxis("Y");
+        XYPlot plot = new XYPlot(dataset, xAxis, yAxis,
+                new XYLineAndShapeRenderer());
+        assertEquals(new Range(1.0, 2.0), plot.getDataRange(xAxis));
+        assertEquals(new Range(10.0, 20.0), plot.getDataRange(yAxis));
+        int count = dataset.boundsCount;
+
+        // appending items should not require a rescan...
+        s1.add(3.0, 35.0);
+        s1.add(-1.0, 5.0);
+        assertEquals(new Range(-1.0, 3.0), plot.getDataRange(xAxis));
+        assertEquals(new Range(5.0, 35.0), plot.getDataRange(yAxis));
+        assertEquals(count, dataset.boundsCount);
+
+        // ...but removing an item does
+        s1.remove(new Double(3.0));
+        assertEquals(new Range(-1.0, 2.0), plot.getDataRange(xAxis));
+        assertEquals(new Range(5.0, 20.0), plot.getDataRange(yAxis));
+        assertTrue(dataset.boundsCount > count);
+
+        // a renderer that overrides the bounds calculation is respected
+        XYBarRenderer r = new XYBarRenderer();
+        plot.setRenderer(r);
+        s1.add(4.0, 40.0);
+        assertEquals(r.findDomainBounds(dataset), plot.getDataRange(xAxis));
+        assertEquals(r.findRangeBounds(dataset), plot.getDataRange(yAxis));
+        assertFalse(new Range(-1.0, 4.0).equals(plot.getDataRange(xAxis)));
+
+        // as is a change of renderer
+        plot.setRenderer(new XYLineAndShapeRenderer());
+        assertEquals(new Range(-1.0, 4.0), plot.getDataRange(xAxis));
+        assertEquals(new Range(5.0, 40.0), plot.getDataRange(yAxis));
+    }
+
 }
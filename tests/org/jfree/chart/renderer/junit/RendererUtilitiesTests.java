@@ -35,18 +35,23 @@
  * Changes
  * -------
  * 19-Apr-2007 : Version 1 (DG);
+ * 18-Oct-2026 : Added testDecimateMinMax() and testDecimateLTTB() (DG);
  *
  */
 
 package org.jfree.chart.renderer.junit;
 
+import java.awt.geom.Rectangle2D;
+
 import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
+import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.renderer.RendererUtilities;
 import org.jfree.data.DomainOrder;
 import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.ui.RectangleEdge;
 
 /**
  * Some checks for the {@link RendererUtilities} class.
@@ -437,5 +442,83 @@ public class RendererUtilitiesTests extends TestCase {
                 5.0));
     }
 
+    /**
+     * Some checks for the decimateMinMax() method.
+     */
+    public void testDecimateMinMax() {
+        // 40 items, 10 per pixel column
+        double[] x = new double[40];
+        double[] y = new double[40];
+        for (int i = 0; i < 40; i++) {
+            x[i] = i + 0.5;
+            y[i] = (i * 7) % 10;
+        }
+        y[25] = Double.NaN;
+        y[26] = Double.NaN;
+        y[27] = Double.NaN;
+        DefaultXYDataset d = new DefaultXYDataset();
+        d.addSeries("S1", new double[][] {x, y});
+        NumberAxis axis = new NumberAxis("X");
+        axis.setRange(0.0, 40.0);
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 4.0, 10.0);
+        int[] items = RendererUtilities.decimateMinMax(d, 0, 0, 39, axis,
+                area, RectangleEdge.BOTTOM);
+        int[] expected = new int[] {0, 7, 9, 10, 17, 19, 20, 24, 25, 27, 28,
+                29, 30, 37, 39};
+        assertEquals(expected.length, items.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], items[i]);
+        }
+
+        // a subrange
+        items = RendererUtilities.decimateMinMax(d, 0, 5, 12, axis, area,
+                RectangleEdge.BOTTOM);
+        expected = new int[] {5, 6, 7, 9, 10, 11, 12};
+        assertEquals(expected.length, items.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], items[i]);
+        }
+
+        // an empty range
+        assertEquals(0, RendererUtilities.decimateMinMax(d, 0, 5, 4, axis,
+                area, RectangleEdge.BOTTOM).length);
+    }
+
+    /**
+     * Some checks for the decimateLTTB() method.
+     */
+    public void testDecimateLTTB() {
+        double[] x = new double[100];
+        double[] y = new double[100];
+        for (int i = 0; i < 100; i++) {
+            x[i] = i;
+            y[i] = 0.0;
+        }
+        y[42] = 10.0;
+        y[77] = -10.0;
+        DefaultXYDataset d = new DefaultXYDataset();
+        d.addSeries("S1", new double[][] {x, y});
+
+        int[] items = RendererUtilities.decimateLTTB(d, 0, 0, 99, 10);
+        assertEquals(10, items.length);
+        assertEquals(0, items[0]);
+        assertEquals(99, items[9]);
+        boolean found42 = false;
+        boolean found77 = false;
+        for (int i = 1; i < items.length; i++) {
+            assertTrue(items[i] > items[i - 1]);
+            found42 = found42 || items[i] == 42;
+            found77 = found77 || items[i] == 77;
+        }
+        assertTrue(found42);
+        assertTrue(found77);
+
+        // no reduction required
+        items = RendererUtilities.decimateLTTB(d, 0, 10, 14, 10);
+        assertEquals(5, items.length);
+        assertEquals(10, items[0]);
+        assertEquals(14, items[4]);
+    }
+
 
 }
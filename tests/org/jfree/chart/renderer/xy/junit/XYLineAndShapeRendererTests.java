@@ -39,6 +39,7 @@
  * 21-Feb-2007 : Check independence in testCloning() (DG);
  * 17-May-2007 : Added testGetLegendItemSeriesIndex() (DG);
  * 22-Apr-2008 : Added testPublicCloneable() (DG);
+ * 18-Oct-2026 : Added decimationMode to testEquals() (DG);
  *
  */
 
@@ -63,6 +64,7 @@ import org.jfree.chart.LegendItem;
 import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.DecimationMode;
 import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
 import org.jfree.chart.urls.TimeSeriesURLGenerator;
 import org.jfree.data.Range;
@@ -124,6 +126,11 @@ public class XYLineAndShapeRendererTests extends TestCase {
         r2.setLegendLine(new Line2D.Double(1.0, 2.0, 3.0, 4.0));
         assertTrue(r1.equals(r2));
 
+        r1.setDecimationMode(DecimationMode.MIN_MAX);
+        assertFalse(r1.equals(r2));
+        r2.setDecimationMode(DecimationMode.MIN_MAX);
+        assertTrue(r1.equals(r2));
+
         r1.setShapesVisible(true);
         assertFalse(r1.equals(r2));
         r2.setShapesVisible(true);
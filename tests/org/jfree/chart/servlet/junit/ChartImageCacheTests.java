@@ -0,0 +1,210 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * ChartImageCacheTests.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+
+package org.jfree.chart.servlet.junit;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.servlet.CachedChartImage;
+import org.jfree.chart.servlet.ChartImageCache;
+
+/**
+ * Tests for the {@link ChartImageCache} class.
+ */
+public class ChartImageCacheTests extends TestCase {
+
+    /**
+     * A cache with a clock that is controlled by the tests.
+     */
+    static class TestCache extends ChartImageCache {
+
+        /** The current time. */
+        long time;
+
+        /**
+         * Creates a new cache.
+         *
+         * @param maximumSize  the maximum size.
+         * @param timeToLive  the time-to-live.
+         */
+        public TestCache(long maximumSize, long timeToLive) {
+            super(maximumSize, timeToLive);
+        }
+
+        /**
+         * Returns the current time.
+         *
+         * @return The time.
+         */
+        protected long currentTime() {
+            return this.time;
+        }
+
+    }
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(ChartImageCacheTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public ChartImageCacheTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Some checks for the put() and get() methods.
+     */
+    public void testPutAndGet() {
+        ChartImageCache cache = new ChartImageCache(100, 0);
+        byte[] data = new byte[10];
+        cache.put("A", data, "image/png");
+        assertEquals(10, cache.getSize());
+        assertEquals(1, cache.getImageCount());
+        CachedChartImage image = cache.get("A");
+        assertEquals("A", image.getKey());
+        assertTrue(data == image.getData());
+        assertEquals("image/png", image.getMimeType());
+        assertNull(cache.get("B"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        // replacing an image updates the size
+        cache.put("A", new byte[20], null);
+        assertEquals(20, cache.getSize());
+        assertEquals(1, cache.getImageCount());
+
+        assertTrue(cache.remove("A"));
+        assertFalse(cache.remove("A"));
+        assertEquals(0, cache.getSize());
+
+        cache.resetStatistics();
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+
+        boolean pass = false;
+        try {
+            cache.put(null, data, null);
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * Checks that the least recently used images are evicted first.
+     */
+    public void testEviction() {
+        ChartImageCache cache = new ChartImageCache(30, 0);
+        cache.put("A", new byte[10], null);
+        cache.put("B", new byte[10], null);
+        cache.put("C", new byte[10], null);
+        assertNotNull(cache.get("A"));  // now B is the least recently used
+        cache.put("D", new byte[10], null);
+        assertEquals(30, cache.getSize());
+        assertNull(cache.get("B"));
+        assertNotNull(cache.get("A"));
+        assertNotNull(cache.get("C"));
+        assertNotNull(cache.get("D"));
+
+        // a large image can evict several others
+        cache.put("E", new byte[25], null);
+        assertEquals(1, cache.getImageCount());
+        assertEquals(25, cache.getSize());
+
+        // an image that is too large is not stored at all
+        cache.put("F", new byte[31], null);
+        assertNull(cache.get("F"));
+        assertEquals(25, cache.getSize());
+
+        cache.clear();
+        assertEquals(0, cache.getSize());
+        assertEquals(0, cache.getImageCount());
+    }
+
+    /**
+     * Checks that images expire after the time-to-live.
+     */
+    public void testTimeToLive() {
+        TestCache cache = new TestCache(100, 1000);
+        cache.time = 5000;
+        cache.put("A", new byte[10], null);
+        cache.time = 5500;
+        cache.put("B", new byte[10], null);
+        cache.time = 5999;
+        assertNotNull(cache.get("A"));
+        cache.time = 6000;
+        assertNull(cache.get("A"));
+        assertEquals(1, cache.getImageCount());
+        assertEquals(1, cache.getMissCount());
+        cache.time = 6600;
+        assertEquals(1, cache.purgeExpired());
+        assertEquals(0, cache.getImageCount());
+        assertEquals(0, cache.getSize());
+    }
+
+    /**
+     * Some checks for the createKey() method.
+     */
+    public void testCreateKey() {
+        byte[] d1 = new byte[] {1, 2, 3};
+        byte[] d2 = new byte[] {1, 2, 3};
+        byte[] d3 = new byte[] {1, 2, 4};
+        String k1 = ChartImageCache.createKey(d1);
+        assertEquals(32, k1.length());
+        assertEquals(k1, ChartImageCache.createKey(d2));
+        assertFalse(k1.equals(ChartImageCache.createKey(d3)));
+        assertEquals("d41d8cd98f00b204e9800998ecf8427e",
+                ChartImageCache.createKey(new byte[0]));
+    }
+
+}
@@ -0,0 +1,230 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------------
+ * ServletUtilitiesTests.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.chart.servlet.junit;
+
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.servlet.ServletContext;
+import javax.servlet.http.HttpSession;
+import javax.servlet.http.HttpSessionContext;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.servlet.ChartDeleter;
+import org.jfree.chart.servlet.ChartImageCache;
+import org.jfree.chart.servlet.ServletUtilities;
+import org.jfree.data.general.DefaultPieDataset;
+
+/**
+ * Tests for the {@link ServletUtilities} class.
+ */
+public class ServletUtilitiesTests extends TestCase {
+
+    /**
+     * A session that just holds attributes.
+     */
+    static class TestSession implements HttpSession {
+
+        /** The session id. */
+        private String id;
+
+        /** The attributes. */
+        private Map attributes = new HashMap();
+
+        /**
+         * Creates a new session.
+         *
+         * @param id  the session id.
+         */
+        public TestSession(String id) {
+            this.id = id;
+        }
+
+        /**
+         * Returns the session id.
+         *
+         * @return The id.
+         */
+        public String getId() {
+            return this.id;
+        }
+
+        /**
+         * Returns an attribute.
+         *
+         * @param name  the attribute name.
+         *
+         * @return The attribute value (possibly <code>null</code>).
+         */
+        public Object getAttribute(String name) {
+            return this.attributes.get(name);
+        }
+
+        /**
+         * Sets an attribute.
+         *
+         * @param name  the attribute name.
+         * @param value  the attribute value.
+         */
+        public void setAttribute(String name, Object value) {
+            this.attributes.put(name, value);
+        }
+
+        // the remaining methods are not used by the tests...
+
+        public long getCreationTime() {
+            return 0L;
+        }
+
+        public long getLastAccessedTime() {
+            return 0L;
+        }
+
+        public ServletContext getServletContext() {
+            return null;
+        }
+
+        public void setMaxInactiveInterval(int interval) {
+        }
+
+        public int getMaxInactiveInterval() {
+            return 0;
+        }
+
+        public HttpSessionContext getSessionContext() {
+            return null;
+        }
+
+        public Object getValue(String name) {
+            return getAttribute(name);
+        }
+
+        public Enumeration getAttributeNames() {
+            return null;
+        }
+
+        public String[] getValueNames() {
+            return null;
+        }
+
+        public void putValue(String name, Object value) {
+            setAttribute(name, value);
+        }
+
+        public void removeAttribute(String name) {
+            this.attributes.remove(name);
+        }
+
+        public void removeValue(String name) {
+            removeAttribute(name);
+        }
+
+        public void invalidate() {
+        }
+
+        public boolean isNew() {
+            return false;
+        }
+
+    }
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(ServletUtilitiesTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public ServletUtilitiesTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Identical charts saved to the cache for different sessions, or as
+     * "one-time" charts, must have different keys, since the
+     * {@link org.jfree.chart.servlet.DisplayChart} servlet removes a
+     * one-time chart once it has been served.
+     */
+    public void testCacheKeys() throws Exception {
+        DefaultPieDataset dataset = new DefaultPieDataset();
+        dataset.setValue("A", 1.0);
+        JFreeChart chart = ChartFactory.createPieChart("Title", dataset,
+                false, false, false);
+        ChartImageCache cache = new ChartImageCache(1000000, 0);
+        ServletUtilities.setChartCache(cache);
+        try {
+            String k1 = ServletUtilities.saveChartAsPNG(chart, 100, 50, null);
+            String k2 = ServletUtilities.saveChartAsPNG(chart, 100, 50, null);
+            assertFalse(k1.equals(k2));
+            assertNotNull(cache.get(k1));
+            assertNotNull(cache.get(k2));
+
+            TestSession s1 = new TestSession("S1");
+            TestSession s2 = new TestSession("S2");
+            String k3 = ServletUtilities.saveChartAsPNG(chart, 100, 50, s1);
+            String k4 = ServletUtilities.saveChartAsPNG(chart, 100, 50, s2);
+            assertFalse(k3.equals(k4));
+            assertEquals(k3, ServletUtilities.saveChartAsPNG(chart, 100, 50,
+                    s1));
+            ChartDeleter d1 = (ChartDeleter) s1.getAttribute(
+                    "JFreeChart_Deleter");
+            assertTrue(d1.isChartAvailable(k3));
+            assertFalse(d1.isChartAvailable(k4));
+        }
+        finally {
+            ServletUtilities.setChartCache(null);
+        }
+    }
+
+}
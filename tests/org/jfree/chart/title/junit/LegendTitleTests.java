@@ -36,6 +36,8 @@
  * -------
  * 25-Feb-2005 : Version 1 (DG);
  * 16-Mar-2005 : Extended testEquals() (DG);
+ * 18-Oct-2026 : Added tests for the cached legend item blocks (DG);
+ * 18-Oct-2026 : Added testLegendNotReachable() (DG);
  *
  */
 
@@ -44,20 +46,33 @@ package org.jfree.chart.title.junit;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.GradientPaint;
+import java.awt.Graphics2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInput;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
+import java.lang.ref.WeakReference;
 
 import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
+import org.jfree.chart.LegendItem;
+import org.jfree.chart.LegendItemCollection;
+import org.jfree.chart.LegendItemSource;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.block.RectangleConstraint;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
 import org.jfree.chart.title.LegendTitle;
+import org.jfree.data.Range;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.jfree.ui.Size2D;
 import org.jfree.ui.RectangleAnchor;
 import org.jfree.ui.RectangleEdge;
 
@@ -192,4 +207,179 @@ public class LegendTitleTests extends TestCase {
         assertTrue(t2.getSources()[0].equals(plot));
     }
 
+    /**
+     * Arranges a legend and returns the first block in its item container.
+     *
+     * @param legend  the legend.
+     * @param width  the available width.
+     *
+     * @return The first block (<code>null</code> if there are no blocks).
+     */
+    private Object arrange(LegendTitle legend, double width) {
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        legend.arrange(g2, new RectangleConstraint(width,
+                new Range(0.0, 1000.0)));
+        g2.dispose();
+        if (legend.getItemContainer().isEmpty()) {
+            return null;
+        }
+        return legend.getItemContainer().getBlocks().get(0);
+    }
+
+    /**
+     * The legend item blocks should be reused until the plot reports a
+     * change that might affect the legend items.
+     */
+    public void testCachedBlocks() {
+        XYSeries s1 = new XYSeries("S1");
+        s1.add(1.0, 1.0);
+        XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
+        XYPlot plot = new XYPlot(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), renderer);
+        LegendTitle legend = new LegendTitle(plot);
+        Object b1 = arrange(legend, 200.0);
+        assertEquals(1, legend.getItemContainer().getBlocks().size());
+
+        // a change to the values in a series doesn't affect the legend
+        s1.add(2.0, 2.0);
+        s1.updateByIndex(0, new Double(3.0));
+        assertSame(b1, arrange(legend, 200.0));
+
+        // ...nor does a change that leaves the legend items unchanged
+        plot.getDomainAxis().setRange(0.0, 10.0);
+        assertSame(b1, arrange(legend, 200.0));
+
+        // a new series adds a legend item
+        XYSeries s2 = new XYSeries("S2");
+        dataset.addSeries(s2);
+        Object b2 = arrange(legend, 200.0);
+        assertNotSame(b1, b2);
+        assertEquals(2, legend.getItemContainer().getBlocks().size());
+
+        // changing the series paint or the series key changes the items
+        renderer.setSeriesPaint(0, Color.red);
+        Object b3 = arrange(legend, 200.0);
+        assertNotSame(b2, b3);
+        s1.setKey("Series 1");
+        Object b4 = arrange(legend, 200.0);
+        assertNotSame(b3, b4);
+
+        // as does a change to the legend itself
+        legend.setItemFont(new Font("Dialog", Font.PLAIN, 9));
+        assertNotSame(b4, arrange(legend, 200.0));
+
+        // hiding a series removes its legend item
+        renderer.setSeriesVisibleInLegend(1, Boolean.FALSE);
+        arrange(legend, 200.0);
+        assertEquals(1, legend.getItemContainer().getBlocks().size());
+    }
+
+    /**
+     * The cached arrangement must be updated when the space available for
+     * the legend changes.
+     */
+    public void testCachedArrangement() {
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        for (int i = 0; i < 10; i++) {
+            dataset.addSeries(new XYSeries("Series " + i));
+        }
+        XYPlot plot = new XYPlot(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), new XYLineAndShapeRenderer());
+        LegendTitle legend = new LegendTitle(plot);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        Size2D wide = legend.arrange(g2, new RectangleConstraint(2000.0,
+                new Range(0.0, 1000.0)));
+        Size2D narrow = legend.arrange(g2, new RectangleConstraint(200.0,
+                new Range(0.0, 1000.0)));
+        assertTrue(narrow.getHeight() > wide.getHeight());
+        Size2D wide2 = legend.arrange(g2, new RectangleConstraint(2000.0,
+                new Range(0.0, 1000.0)));
+        assertEquals(wide.getWidth(), wide2.getWidth(), 0.0000001);
+        assertEquals(wide.getHeight(), wide2.getHeight(), 0.0000001);
+        g2.dispose();
+    }
+
+    /**
+     * A source that is not a plot can't report changes, so the legend items
+     * are checked each time the legend is arranged.
+     */
+    public void testOtherSource() {
+        final LegendItemCollection items = new LegendItemCollection();
+        items.add(new LegendItem("A"));
+        LegendItemSource source = new LegendItemSource() {
+            public LegendItemCollection getLegendItems() {
+                return items;
+            }
+        };
+        LegendTitle legend = new LegendTitle(source);
+        Object b1 = arrange(legend, 200.0);
+        assertSame(b1, arrange(legend, 200.0));
+        items.add(new LegendItem("B"));
+        assertNotSame(b1, arrange(legend, 200.0));
+        assertEquals(2, legend.getItemContainer().getBlocks().size());
+    }
+
+    /**
+     * A clone should track the changes to the plot independently.
+     */
+    public void testCloneTracksSource() {
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        dataset.addSeries(new XYSeries("S1"));
+        XYPlot plot = new XYPlot(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), new XYLineAndShapeRenderer());
+        LegendTitle t1 = new LegendTitle(plot);
+        arrange(t1, 200.0);
+        LegendTitle t2 = null;
+        try {
+            t2 = (LegendTitle) t1.clone();
+        }
+        catch (CloneNotSupportedException e) {
+            fail(e.toString());
+        }
+        assertNotSame(t1.getItemContainer(), t2.getItemContainer());
+        arrange(t2, 200.0);
+        dataset.addSeries(new XYSeries("S2"));
+        arrange(t1, 200.0);
+        arrange(t2, 200.0);
+        assertEquals(2, t1.getItemContainer().getBlocks().size());
+        assertEquals(2, t2.getItemContainer().getBlocks().size());
+    }
+
+    /**
+     * The plot that is the source for a legend must not keep the legend (or
+     * a clone of it) reachable.
+     */
+    public void testLegendNotReachable() {
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        dataset.addSeries(new XYSeries("S1"));
+        XYPlot plot = new XYPlot(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), new XYLineAndShapeRenderer());
+        LegendTitle t1 = new LegendTitle(plot);
+        WeakReference ref1 = new WeakReference(new LegendTitle(plot));
+        WeakReference ref2 = null;
+        try {
+            ref2 = new WeakReference(t1.clone());
+        }
+        catch (CloneNotSupportedException e) {
+            fail(e.toString());
+        }
+        for (int i = 0; i < 20 && (ref1.get() != null
+                || ref2.get() != null); i++) {
+            System.gc();
+        }
+        assertNull(ref1.get());
+        assertNull(ref2.get());
+
+        // the remaining legend still tracks the plot
+        arrange(t1, 200.0);
+        dataset.addSeries(new XYSeries("S2"));
+        arrange(t1, 200.0);
+        assertEquals(2, t1.getItemContainer().getBlocks().size());
+    }
+
 }
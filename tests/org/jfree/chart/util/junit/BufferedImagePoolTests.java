@@ -0,0 +1,162 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * BufferedImagePoolTests.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+
+package org.jfree.chart.util.junit;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.ChartUtilities;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.util.BufferedImagePool;
+
+/**
+ * Tests for the {@link BufferedImagePool} class.
+ */
+public class BufferedImagePoolTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(BufferedImagePoolTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public BufferedImagePoolTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Checks that released images are reused, and are cleared first.
+     */
+    public void testReuse() {
+        BufferedImagePool pool = new BufferedImagePool(2);
+        BufferedImage image = pool.acquire(20, 10,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.setColor(Color.red);
+        g2.fillRect(0, 0, 20, 10);
+        g2.dispose();
+        pool.release(image);
+        assertEquals(1, pool.getImageCount());
+
+        // a different size or type gets a new image
+        assertTrue(image != pool.acquire(20, 11,
+                BufferedImage.TYPE_INT_ARGB));
+        assertTrue(image != pool.acquire(20, 10,
+                BufferedImage.TYPE_INT_RGB));
+
+        BufferedImage reused = pool.acquire(20, 10,
+                BufferedImage.TYPE_INT_ARGB);
+        assertTrue(image == reused);
+        assertEquals(0, pool.getImageCount());
+        assertEquals(0, reused.getRGB(5, 5));
+    }
+
+    /**
+     * Checks that the pool keeps no more than the maximum number of images
+     * per size.
+     */
+    public void testMaximum() {
+        BufferedImagePool pool = new BufferedImagePool(2);
+        for (int i = 0; i < 3; i++) {
+            pool.release(new BufferedImage(5, 5,
+                    BufferedImage.TYPE_INT_RGB));
+        }
+        assertEquals(2, pool.getImageCount());
+        pool.release(new BufferedImage(6, 5, BufferedImage.TYPE_INT_RGB));
+        assertEquals(3, pool.getImageCount());
+        pool.clear();
+        assertEquals(0, pool.getImageCount());
+    }
+
+    /**
+     * Checks that ChartUtilities returns a pooled image to the pool when
+     * the chart can't be drawn.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testChartUtilitiesDrawFailure() throws IOException {
+        JFreeChart chart = new JFreeChart(new XYPlot()) {
+            public void draw(Graphics2D g2, Rectangle2D area,
+                    Point2D anchor, ChartRenderingInfo info) {
+                throw new IllegalStateException("Can't draw.");
+            }
+        };
+        BufferedImagePool pool = new BufferedImagePool(2);
+        BufferedImagePool saved = ChartUtilities.getImagePool();
+        ChartUtilities.setImagePool(pool);
+        try {
+            boolean pass = false;
+            try {
+                ChartUtilities.writeChartAsPNG(new ByteArrayOutputStream(),
+                        chart, 20, 10);
+            }
+            catch (IllegalStateException e) {
+                pass = true;
+            }
+            assertTrue(pass);
+            assertEquals(1, pool.getImageCount());
+        }
+        finally {
+            ChartUtilities.setImagePool(saved);
+        }
+    }
+
+}
@@ -0,0 +1,246 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------------
+ * TextMeasurementCacheTests.java
+ * ------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.chart.util.junit;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Shape;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.util.TextMeasurementCache;
+import org.jfree.text.G2TextMeasurer;
+import org.jfree.text.TextBlock;
+import org.jfree.text.TextUtilities;
+import org.jfree.ui.Size2D;
+import org.jfree.ui.TextAnchor;
+
+/**
+ * Tests for the {@link TextMeasurementCache} class.
+ */
+public class TextMeasurementCacheTests extends TestCase {
+
+    /** A font for testing. */
+    private static final Font FONT = new Font("SansSerif", Font.PLAIN, 12);
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(TextMeasurementCacheTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public TextMeasurementCacheTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a graphics device for testing.
+     *
+     * @param image  the image.
+     *
+     * @return The graphics device.
+     */
+    private Graphics2D createGraphics(BufferedImage image) {
+        Graphics2D g2 = image.createGraphics();
+        g2.setFont(FONT);
+        g2.setPaint(Color.black);
+        return g2;
+    }
+
+    /**
+     * Checks that the cached bounds are the same as the bounds calculated
+     * by {@link TextUtilities}, and that the hits and misses are counted.
+     */
+    public void testGetTextBounds() {
+        TextMeasurementCache cache = new TextMeasurementCache(100);
+        Graphics2D g2 = createGraphics(new BufferedImage(10, 10,
+                BufferedImage.TYPE_INT_RGB));
+        Rectangle2D expected = TextUtilities.getTextBounds("Category 1", g2,
+                g2.getFontMetrics());
+        assertEquals(expected, cache.getTextBounds("Category 1", g2));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(expected, cache.getTextBounds("Category 1", FONT, g2));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(0.5, cache.getHitRate(), 0.0000001);
+
+        // the returned rectangle can be modified without changing the cache
+        cache.getTextBounds("Category 1", g2).setRect(0.0, 0.0, 1.0, 1.0);
+        assertEquals(expected, cache.getTextBounds("Category 1", g2));
+
+        // a different font is a different key
+        Font bold = FONT.deriveFont(Font.BOLD);
+        cache.getTextBounds("Category 1", bold, g2);
+        assertEquals(2, cache.getMissCount());
+
+        assertEquals(g2.getFontMetrics().stringWidth("Category 1"),
+                cache.getStringWidth("Category 1", FONT, g2));
+        g2.dispose();
+    }
+
+    /**
+     * Checks that the number of entries in the cache does not exceed the
+     * capacity.
+     */
+    public void testCapacity() {
+        TextMeasurementCache cache = new TextMeasurementCache(10);
+        Graphics2D g2 = createGraphics(new BufferedImage(10, 10,
+                BufferedImage.TYPE_INT_RGB));
+        for (int i = 0; i < 100; i++) {
+            cache.getTextBounds(String.valueOf(i), g2);
+            assertTrue(cache.getSize() <= 10);
+        }
+        assertEquals(100, cache.getMissCount());
+
+        // the most recent strings are still in the cache
+        cache.getTextBounds("99", g2);
+        assertEquals(1, cache.getHitCount());
+
+        cache.clear();
+        assertEquals(0, cache.getSize());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+        assertEquals(0.0, cache.getHitRate(), 0.0);
+        g2.dispose();
+
+        boolean pass = false;
+        try {
+            new TextMeasurementCache(1);
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * Checks that a text block created by the cache has the same dimensions
+     * as one created by {@link TextUtilities}.
+     */
+    public void testCreateTextBlock() {
+        TextMeasurementCache cache = new TextMeasurementCache(100);
+        Graphics2D g2 = createGraphics(new BufferedImage(10, 10,
+                BufferedImage.TYPE_INT_RGB));
+        String text = "A category label that is too long for one line";
+        TextBlock b1 = TextUtilities.createTextBlock(text, FONT, Color.black,
+                80.0f, 3, new G2TextMeasurer(g2));
+        TextBlock b2 = cache.createTextBlock(text, FONT, Color.black, 80.0f,
+                3, g2);
+        assertEquals(b1.getLines().size(), b2.getLines().size());
+        Size2D s1 = b1.calculateDimensions(g2);
+        Size2D s2 = b2.calculateDimensions(g2);
+        assertEquals(s1.getWidth(), s2.getWidth(), 0.0000001);
+        assertEquals(s1.getHeight(), s2.getHeight(), 0.0000001);
+
+        // the block measures itself with the shared cache
+        TextMeasurementCache shared = TextMeasurementCache.getSharedInstance();
+        long hits = shared.getHitCount();
+        b2.calculateDimensions(g2);
+        assertTrue(shared.getHitCount() > hits);
+
+        TextBlock b3 = TextUtilities.createTextBlock("Line 1\nLine 2", FONT,
+                Color.black);
+        TextBlock b4 = cache.createTextBlock("Line 1\nLine 2", FONT,
+                Color.black);
+        s1 = b3.calculateDimensions(g2);
+        s2 = b4.calculateDimensions(g2);
+        assertEquals(s1.getWidth(), s2.getWidth(), 0.0000001);
+        assertEquals(s1.getHeight(), s2.getHeight(), 0.0000001);
+        g2.dispose();
+    }
+
+    /**
+     * Checks that rotated strings are drawn in the same place as by
+     * {@link TextUtilities}.
+     */
+    public void testDrawRotatedString() {
+        TextMeasurementCache cache = new TextMeasurementCache(100);
+        BufferedImage i1 = new BufferedImage(200, 200,
+                BufferedImage.TYPE_INT_RGB);
+        BufferedImage i2 = new BufferedImage(200, 200,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g1 = createGraphics(i1);
+        Graphics2D g2 = createGraphics(i2);
+        g1.setPaint(Color.white);
+        g2.setPaint(Color.white);
+        TextAnchor[] anchors = new TextAnchor[] {TextAnchor.TOP_LEFT,
+                TextAnchor.CENTER, TextAnchor.BASELINE_RIGHT,
+                TextAnchor.HALF_ASCENT_CENTER, TextAnchor.BOTTOM_RIGHT};
+        for (int i = 0; i < anchors.length; i++) {
+            float y = 20.0f + i * 35.0f;
+            TextUtilities.drawRotatedString("Label", g1, 100.0f, y,
+                    anchors[i], Math.PI / 4, TextAnchor.CENTER);
+            cache.drawRotatedString("Label", g2, 100.0f, y, anchors[i],
+                    Math.PI / 4, TextAnchor.CENTER);
+            TextUtilities.drawAlignedString("Text", g1, 40.0f, y,
+                    anchors[i]);
+            cache.drawAlignedString("Text", g2, 40.0f, y, anchors[i]);
+            Shape s1 = TextUtilities.calculateRotatedStringBounds("Label",
+                    g1, 100.0f, y, anchors[i], Math.PI / 4,
+                    anchors[anchors.length - 1 - i]);
+            Shape s2 = cache.calculateRotatedStringBounds("Label", g2,
+                    100.0f, y, anchors[i], Math.PI / 4,
+                    anchors[anchors.length - 1 - i]);
+            assertEquals(s1.getBounds2D(), s2.getBounds2D());
+        }
+        g1.dispose();
+        g2.dispose();
+        for (int x = 0; x < 200; x++) {
+            for (int y = 0; y < 200; y++) {
+                assertEquals(i1.getRGB(x, y), i2.getRGB(x, y));
+            }
+        }
+    }
+
+}
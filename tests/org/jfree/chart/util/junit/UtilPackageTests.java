@@ -37,6 +37,8 @@
  * 23-Nov-2006 : Version 1 (DG);
  * 08-Apr-2008 : Added LogFormatTests (DG);
  * 05-Nov-2008 : Added LineUtilitiesTests (DG);
+ * 18-Oct-2026 : Added BufferedImagePoolTests (DG);
+ * 18-Oct-2026 : Added TextMeasurementCacheTests (DG);
  *
  */
 
@@ -60,9 +62,11 @@ public class UtilPackageTests extends TestCase {
      */
     public static Test suite() {
         TestSuite suite = new TestSuite("org.jfree.chart.util");
+        suite.addTestSuite(BufferedImagePoolTests.class);
         suite.addTestSuite(LineUtilitiesTests.class);
         suite.addTestSuite(LogFormatTests.class);
         suite.addTestSuite(RelativeDateFormatTests.class);
+        suite.addTestSuite(TextMeasurementCacheTests.class);
         return suite;
     }
 
@@ -0,0 +1,303 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ *
+ * -----------------------------------
+ * ConcurrentCategoryDatasetTests.java
+ * -----------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.category.junit;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.category.ConcurrentCategoryDataset;
+import org.jfree.data.category.DefaultCategoryDataset;
+
+/**
+ * Tests for the {@link ConcurrentCategoryDataset} class.
+ */
+public class ConcurrentCategoryDatasetTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(ConcurrentCategoryDatasetTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public ConcurrentCategoryDatasetTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Some checks for the setValue() and getValue() methods.
+     */
+    public void testSetValue() {
+        ConcurrentCategoryDataset d = new ConcurrentCategoryDataset();
+        d.setValue(1.0, "R1", "C1");
+        d.setValue(new Integer(2), "R2", "C2");
+        for (int c = 3; c <= 10; c++) {
+            d.setValue(c, "R1", "C" + c);
+        }
+        assertEquals(2, d.getRowCount());
+        assertEquals(10, d.getColumnCount());
+        assertEquals(new Double(1.0), d.getValue("R1", "C1"));
+        assertNull(d.getValue("R1", "C2"));
+        assertEquals(new Double(2.0), d.getValue(1, 1));
+        assertEquals(new Double(10.0), d.getValue(0, 9));
+        assertNull(d.getValue(1, 9));
+        assertEquals("C5", d.getColumnKey(4));
+        assertEquals(1, d.getRowIndex("R2"));
+        assertEquals(-1, d.getColumnIndex("XX"));
+        d.setValue(null, "R1", "C1");
+        assertNull(d.getValue(0, 0));
+        d.removeValue("R2", "C2");
+        assertNull(d.getValue(1, 1));
+        assertEquals(2, d.getRowCount());
+
+        boolean pass = false;
+        try {
+            d.getValue("R1", "XX");
+        }
+        catch (UnknownKeyException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+
+        pass = false;
+        try {
+            d.setValue(1.0, null, "C1");
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+
+        d.clear();
+        assertEquals(0, d.getRowCount());
+        assertEquals(0, d.getColumnCount());
+    }
+
+    /**
+     * Some checks for the incrementValue() method.
+     */
+    public void testIncrementValue() {
+        ConcurrentCategoryDataset d = new ConcurrentCategoryDataset();
+        d.incrementValue(1.5, "R1", "C1");
+        d.incrementValue(2.0, "R1", "C1");
+        assertEquals(new Double(3.5), d.getValue("R1", "C1"));
+    }
+
+    /**
+     * A snapshot is not affected by later changes to the dataset.
+     */
+    public void testSnapshot() {
+        ConcurrentCategoryDataset d = new ConcurrentCategoryDataset();
+        d.setValue(1.0, "R1", "C1");
+        CategoryDataset snapshot = (CategoryDataset) d.createSnapshot();
+        d.setValue(2.0, "R1", "C1");
+        d.setValue(3.0, "R2", "C2");
+        assertEquals(1, snapshot.getRowCount());
+        assertEquals(1, snapshot.getColumnCount());
+        assertEquals(new Double(1.0), snapshot.getValue(0, 0));
+        d.clear();
+        assertEquals(new Double(1.0), snapshot.getValue("R1", "C1"));
+    }
+
+    /**
+     * Confirm that the equals method compares the values with any category
+     * dataset.
+     */
+    public void testEquals() {
+        ConcurrentCategoryDataset d1 = new ConcurrentCategoryDataset();
+        DefaultCategoryDataset d2 = new DefaultCategoryDataset();
+        assertTrue(d1.equals(d2));
+        d1.setValue(1.0, "R1", "C1");
+        assertFalse(d1.equals(d2));
+        d2.setValue(1.0, "R1", "C1");
+        assertTrue(d1.equals(d2));
+        d1.setValue(2.0, "R2", "C1");
+        d2.setValue(2.0, "R2", "C1");
+        assertTrue(d1.equals(d2));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    public void testCloning() {
+        ConcurrentCategoryDataset d1 = new ConcurrentCategoryDataset();
+        d1.setValue(1.0, "R1", "C1");
+        ConcurrentCategoryDataset d2 = null;
+        try {
+            d2 = (ConcurrentCategoryDataset) d1.clone();
+        }
+        catch (CloneNotSupportedException e) {
+            e.printStackTrace();
+        }
+        assertTrue(d1 != d2);
+        assertTrue(d1.getClass() == d2.getClass());
+        assertTrue(d1.equals(d2));
+
+        // check independence
+        d1.setValue(2.0, "R1", "C1");
+        assertFalse(d1.equals(d2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    public void testSerialization() {
+        ConcurrentCategoryDataset d1 = new ConcurrentCategoryDataset();
+        d1.setValue(1.0, "R1", "C1");
+        d1.setValue(2.0, "R2", "C2");
+        ConcurrentCategoryDataset d2 = null;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            ObjectOutput out = new ObjectOutputStream(buffer);
+            out.writeObject(d1);
+            out.close();
+
+            ObjectInput in = new ObjectInputStream(
+                    new ByteArrayInputStream(buffer.toByteArray()));
+            d2 = (ConcurrentCategoryDataset) in.readObject();
+            in.close();
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+        assertEquals(d1, d2);
+        d2.setValue(3.0, "R3", "C1");
+        assertEquals(3, d2.getRowCount());
+    }
+
+    /**
+     * Several threads update the dataset while the chart is drawn
+     * continuously.  Each rendering pass must complete without an exception,
+     * and no updates may be lost.
+     */
+    public void testConcurrentUpdates() throws InterruptedException {
+        final int writerCount = 8;
+        final int updateCount = 2000;
+        final ConcurrentCategoryDataset dataset
+                = new ConcurrentCategoryDataset();
+        JFreeChart chart = ChartFactory.createStackedBarChart("Test", "X", "Y",
+                dataset, PlotOrientation.VERTICAL, true, false, false);
+        final List failures = Collections.synchronizedList(new ArrayList());
+        Thread[] writers = new Thread[writerCount];
+        for (int w = 0; w < writerCount; w++) {
+            final String rowKey = "R" + w;
+            writers[w] = new Thread() {
+                public void run() {
+                    try {
+                        for (int i = 0; i < updateCount; i++) {
+                            dataset.incrementValue(1.0, rowKey, "C" + (i % 20));
+                            dataset.incrementValue(1.0, "Total", "C0");
+                            if (i % 100 == 0) {
+                                Thread.yield();
+                            }
+                        }
+                    }
+                    catch (Throwable t) {
+                        failures.add(t);
+                    }
+                }
+            };
+        }
+        for (int w = 0; w < writerCount; w++) {
+            writers[w].start();
+        }
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        Rectangle2D area = new Rectangle2D.Double(0, 0, 400, 300);
+        boolean running = true;
+        while (running) {
+            running = false;
+            for (int w = 0; w < writerCount; w++) {
+                running = running || writers[w].isAlive();
+            }
+            dataset.fireDatasetChangedIfModified();
+            chart.draw(g2, area);
+            CategoryDataset snapshot
+                    = (CategoryDataset) dataset.createSnapshot();
+            assertEquals(snapshot.getRowCount(),
+                    snapshot.getRowKeys().size());
+            assertEquals(snapshot.getColumnCount(),
+                    snapshot.getColumnKeys().size());
+        }
+        g2.dispose();
+        for (int w = 0; w < writerCount; w++) {
+            writers[w].join();
+        }
+        assertEquals(Collections.EMPTY_LIST, failures);
+        assertEquals(new Double(writerCount * updateCount),
+                dataset.getValue("Total", "C0"));
+        for (int w = 0; w < writerCount; w++) {
+            for (int c = 0; c < 20; c++) {
+                assertEquals(new Double(updateCount / 20),
+                        dataset.getValue("R" + w, "C" + c));
+            }
+        }
+    }
+
+}
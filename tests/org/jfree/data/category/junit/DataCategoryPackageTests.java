@@ -40,6 +40,9 @@
  * 26-Jul-2006 : Added CategoryToPieDatasetTests (DG);
  * 08-Mar-2007 : Added DefaultIntervalCategoryDatasetTests (DG);
  * 09-May-2008 : Added SlidingCategoryDatasetTests (DG);
+ * 18-Oct-2026 : Added DenseCategoryDatasetTests and
+ *               SparseCategoryDatasetTests (DG);
+ * 18-Oct-2026 : Added ConcurrentCategoryDatasetTests (DG);
  *
  */
 
@@ -64,9 +67,12 @@ public class DataCategoryPackageTests extends TestCase {
     public static Test suite() {
         TestSuite suite = new TestSuite("org.jfree.data.category");
         suite.addTestSuite(CategoryToPieDatasetTests.class);
+        suite.addTestSuite(ConcurrentCategoryDatasetTests.class);
         suite.addTestSuite(DefaultCategoryDatasetTests.class);
         suite.addTestSuite(DefaultIntervalCategoryDatasetTests.class);
+        suite.addTestSuite(DenseCategoryDatasetTests.class);
         suite.addTestSuite(SlidingCategoryDatasetTests.class);
+        suite.addTestSuite(SparseCategoryDatasetTests.class);
         return suite;
     }
 
@@ -38,6 +38,7 @@
  * 08-Mar-2007 : Added testCloning() (DG);
  * 21-Nov-2007 : Added testBug1835955() method (DG);
  * 09-May-2008 : Added testPublicCloneable() (DG);
+ * 18-Oct-2026 : Added testChangeSummary() (DG);
  *
  */
 
@@ -56,12 +57,29 @@ import junit.framework.TestSuite;
 
 import org.jfree.data.UnknownKeyException;
 import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.util.PublicCloneable;
 
 /**
  * Tests for the {@link DefaultCategoryDataset} class.
  */
-public class DefaultCategoryDatasetTests extends TestCase {
+public class DefaultCategoryDatasetTests extends TestCase
+        implements DatasetChangeListener {
+
+    /** The last event received. */
+    private DatasetChangeEvent lastEvent;
+
+    /**
+     * Records the last event.
+     *
+     * @param event  the event.
+     */
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.lastEvent = event;
+    }
 
     /**
      * Returns the tests as a test suite.
@@ -421,4 +439,28 @@ public class DefaultCategoryDatasetTests extends TestCase {
         assertTrue(pass);
     }
 
+    /**
+     * Checks the summary that is sent when a single value is added or
+     * updated.
+     */
+    public void testChangeSummary() {
+        DefaultCategoryDataset d = new DefaultCategoryDataset();
+        d.addChangeListener(this);
+        d.addValue(1.0, "R1", "C1");
+        d.addValue(2.0, "R2", "C2");
+        assertEquals(1, this.lastEvent.getSeriesIndex());
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.ADD, 1, 1),
+                this.lastEvent.getSummary());
+        d.setValue(3.0, "R2", "C1");
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.ADD, 0, 0),
+                this.lastEvent.getSummary());
+        d.setValue(4.0, "R1", "C1");
+        assertEquals(0, this.lastEvent.getSeriesIndex());
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.UPDATE, 0, 0),
+                this.lastEvent.getSummary());
+        d.removeValue("R1", "C1");
+        assertEquals(-1, this.lastEvent.getSeriesIndex());
+        assertNull(this.lastEvent.getSummary());
+    }
+
 }
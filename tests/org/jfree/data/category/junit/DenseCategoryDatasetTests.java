@@ -0,0 +1,111 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------------
+ * DenseCategoryDatasetTests.java
+ * ------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Moved the common tests to DoubleCategoryDatasetTests (DG);
+ *
+ */
+
+
+package org.jfree.data.category.junit;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.jfree.data.category.DenseCategoryDataset;
+import org.jfree.data.category.DoubleCategoryDataset;
+
+/**
+ * Tests for the {@link DenseCategoryDataset} class.  Most of the tests are
+ * inherited from {@link DoubleCategoryDatasetTests}.
+ */
+public class DenseCategoryDatasetTests extends DoubleCategoryDatasetTests {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DenseCategoryDatasetTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public DenseCategoryDatasetTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a new (empty) dataset.
+     *
+     * @return The dataset.
+     */
+    protected DoubleCategoryDataset createDataset() {
+        return new DenseCategoryDataset();
+    }
+
+    /**
+     * Removing rows and columns keeps the remaining values in place, as the
+     * matrix is compacted.
+     */
+    public void testRemoveRowAndColumn() {
+        DenseCategoryDataset d = new DenseCategoryDataset();
+        for (int r = 0; r < 20; r++) {
+            for (int c = 0; c < 20; c++) {
+                d.setValue(r * 100 + c, "R" + r, "C" + c);
+            }
+        }
+        d.removeRow("R3");
+        d.removeColumn("C5");
+        d.removeColumn(0);
+        assertEquals(19, d.getRowCount());
+        assertEquals(18, d.getColumnCount());
+        for (int r = 0; r < d.getRowCount(); r++) {
+            for (int c = 0; c < d.getColumnCount(); c++) {
+                String rk = (String) d.getRowKey(r);
+                String ck = (String) d.getColumnKey(c);
+                double expected = Integer.parseInt(rk.substring(1)) * 100
+                        + Integer.parseInt(ck.substring(1));
+                assertEquals(expected, d.getDoubleValue(r, c), 0.0);
+            }
+        }
+    }
+
+}
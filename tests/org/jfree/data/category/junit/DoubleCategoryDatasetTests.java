@@ -0,0 +1,274 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------------
+ * DoubleCategoryDatasetTests.java
+ * -------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.category.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.jfree.data.Range;
+import org.jfree.data.UnknownKeyException;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.category.DoubleCategoryDataset;
+import org.jfree.data.general.DatasetUtilities;
+
+/**
+ * Tests that apply to every subclass of {@link DoubleCategoryDataset}.  The
+ * subclass tests provide the dataset to test, and add any checks that are
+ * specific to the way the values are stored.
+ */
+public abstract class DoubleCategoryDatasetTests extends TestCase {
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public DoubleCategoryDatasetTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a new (empty) dataset of the class being tested.
+     *
+     * @return The dataset.
+     */
+    protected abstract DoubleCategoryDataset createDataset();
+
+    /**
+     * Some checks for the getValue() methods.
+     */
+    public void testGetValue() {
+        DoubleCategoryDataset d = createDataset();
+        d.addValue(1.0, "R1", "C1");
+        d.addValue(new Integer(2), "R1", "C2");
+        d.addValue(null, "R2", "C1");
+        assertEquals(new Double(1.0), d.getValue("R1", "C1"));
+        assertEquals(new Double(2.0), d.getValue(0, 1));
+        assertNull(d.getValue("R2", "C1"));
+        assertNull(d.getValue("R2", "C2"));
+        assertTrue(Double.isNaN(d.getDoubleValue(1, 1)));
+        assertEquals(1, d.getRowIndex("R2"));
+        assertEquals(-1, d.getColumnIndex("XX"));
+
+        boolean pass = false;
+        try {
+            d.getValue("XX", "C1");
+        }
+        catch (UnknownKeyException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+        pass = false;
+        try {
+            d.getValue(0, 2);
+        }
+        catch (IndexOutOfBoundsException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * Performs a random sequence of updates on this dataset and on a
+     * {@link DefaultCategoryDataset}, and checks that they agree.
+     */
+    public void testAgainstDefaultCategoryDataset() {
+        Random random = new Random(7L);
+        DoubleCategoryDataset d1 = createDataset();
+        DefaultCategoryDataset d2 = new DefaultCategoryDataset();
+        for (int i = 0; i < 3000; i++) {
+            String rowKey = "R" + random.nextInt(30);
+            String columnKey = "C" + random.nextInt(40);
+            int op = random.nextInt(20);
+            if (op == 0 && d2.getRowCount() > 0) {
+                int row = random.nextInt(d2.getRowCount());
+                d1.removeRow(row);
+                d2.removeRow(row);
+            }
+            else if (op == 1 && d2.getColumnCount() > 0) {
+                int column = random.nextInt(d2.getColumnCount());
+                d1.removeColumn(column);
+                d2.removeColumn(column);
+            }
+            else if (op < 5 && d2.getRowIndex(rowKey) >= 0
+                    && d2.getColumnIndex(columnKey) >= 0) {
+                d1.removeValue(rowKey, columnKey);
+                d2.removeValue(rowKey, columnKey);
+            }
+            else if (op == 5) {
+                d1.setValue(null, rowKey, columnKey);
+                d2.setValue(null, rowKey, columnKey);
+            }
+            else {
+                double v = random.nextInt(1000) / 10.0;
+                d1.setValue(v, rowKey, columnKey);
+                d2.setValue(v, rowKey, columnKey);
+            }
+            if (i % 100 == 0) {
+                assertEquals(d2, d1);
+            }
+        }
+        assertEquals(d2, d1);
+        assertEquals(d1, d2);
+        assertEquals(DatasetUtilities.iterateRangeBounds(d2),
+                DatasetUtilities.findRangeBounds(d1));
+        for (int r = 0; r < d2.getRowCount(); r++) {
+            assertEquals(r, d1.getRowIndex(d2.getRowKey(r)));
+        }
+        for (int c = 0; c < d2.getColumnCount(); c++) {
+            assertEquals(c, d1.getColumnIndex(d2.getColumnKey(c)));
+        }
+    }
+
+    /**
+     * Values are compared as doubles, so the type of Number used for a value
+     * in the other dataset doesn't matter.
+     */
+    public void testEqualsWithOtherNumberTypes() {
+        DoubleCategoryDataset d1 = createDataset();
+        d1.setValue(1.0, "R1", "C1");
+        d1.setValue(null, "R1", "C2");
+        DefaultCategoryDataset d2 = new DefaultCategoryDataset();
+        d2.setValue(new Integer(1), "R1", "C1");
+        d2.setValue(null, "R1", "C2");
+        assertTrue(d1.equals(d2));
+        d2.setValue(new Float(1.5f), "R1", "C1");
+        assertFalse(d1.equals(d2));
+        d2.setValue(new Integer(1), "R1", "C1");
+        d2.setValue(new Integer(0), "R1", "C2");
+        assertFalse(d1.equals(d2));
+        d1.setValue(0.0, "R1", "C2");
+        assertTrue(d1.equals(d2));
+    }
+
+    /**
+     * Some checks for the removeValue() method.
+     */
+    public void testRemoveValue() {
+        DoubleCategoryDataset d = createDataset();
+        d.addValue(1.0, "R1", "C1");
+        d.addValue(2.0, "R1", "C2");
+        d.addValue(3.0, "R2", "C2");
+        d.removeValue("R2", "C2");  // empties row R2
+        assertEquals(1, d.getRowCount());
+        assertEquals(2, d.getColumnCount());
+        d.removeValue("R1", "C1");  // empties column C1
+        assertEquals(1, d.getColumnCount());
+        assertEquals("C2", d.getColumnKey(0));
+        assertEquals(0, d.getColumnIndex("C2"));
+        assertEquals(new Double(2.0), d.getValue(0, 0));
+    }
+
+    /**
+     * Some checks for the getRangeBounds() method.
+     */
+    public void testGetRangeBounds() {
+        DoubleCategoryDataset d = createDataset();
+        assertNull(d.getRangeBounds(false));
+        d.addValue(1.0, "R1", "C1");
+        d.addValue(-2.0, "R2", "C2");
+        d.addValue(null, "R3", "C3");
+        assertEquals(new Range(-2.0, 1.0), d.getRangeBounds(false));
+        assertEquals(-2.0, d.getRangeLowerBound(true), 0.0);
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    public void testCloning() {
+        DoubleCategoryDataset d1 = createDataset();
+        d1.setValue(1.0, "R1", "C1");
+        d1.setValue(2.0, "R2", "C2");
+        DoubleCategoryDataset d2 = null;
+        try {
+            d2 = (DoubleCategoryDataset) d1.clone();
+        }
+        catch (CloneNotSupportedException e) {
+            e.printStackTrace();
+        }
+        assertTrue(d1 != d2);
+        assertTrue(d1.getClass() == d2.getClass());
+        assertTrue(d1.equals(d2));
+
+        // check independence
+        d1.setValue(3.0, "R1", "C1");
+        assertFalse(d1.equals(d2));
+        d2.setValue(3.0, "R1", "C1");
+        d2.setValue(4.0, "R3", "C1");
+        assertFalse(d1.equals(d2));
+        assertEquals(2, d1.getRowCount());
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    public void testSerialization() {
+        DoubleCategoryDataset d1 = createDataset();
+        d1.setValue(23.4, "R1", "C1");
+        d1.setValue(null, "R2", "C2");
+        DoubleCategoryDataset d2 = null;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            ObjectOutput out = new ObjectOutputStream(buffer);
+            out.writeObject(d1);
+            out.close();
+
+            ObjectInput in = new ObjectInputStream(
+                    new ByteArrayInputStream(buffer.toByteArray()));
+            d2 = (DoubleCategoryDataset) in.readObject();
+            in.close();
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+        assertEquals(d1, d2);
+        d2.setValue(1.0, "R3", "C3");
+        assertEquals(new Double(1.0), d2.getValue("R3", "C3"));
+    }
+
+}
@@ -0,0 +1,202 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------------
+ * SparseCategoryDatasetTests.java
+ * -------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Replaced the copied tests with sparse-specific tests (DG);
+ *
+ */
+
+
+package org.jfree.data.category.junit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.jfree.data.Range;
+import org.jfree.data.category.DoubleCategoryDataset;
+import org.jfree.data.category.SparseCategoryDataset;
+
+/**
+ * Tests for the {@link SparseCategoryDataset} class.  The tests that apply
+ * to all {@link DoubleCategoryDataset} classes are inherited from
+ * {@link DoubleCategoryDatasetTests}, the tests here cover the hash tables
+ * that hold the values for each row.
+ */
+public class SparseCategoryDatasetTests extends DoubleCategoryDatasetTests {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(SparseCategoryDatasetTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public SparseCategoryDatasetTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a new (empty) dataset.
+     *
+     * @return The dataset.
+     */
+    protected DoubleCategoryDataset createDataset() {
+        return new SparseCategoryDataset();
+    }
+
+    /**
+     * Values that are removed from a row leave empty cells, and the values
+     * that share the row's hash table with them are still found.
+     */
+    public void testRemovedValuesAreEmpty() {
+        SparseCategoryDataset d = new SparseCategoryDataset();
+        d.setValue(0.0, "R0", "C0");
+        d.setValue(0.0, "R1", "C0");
+        for (int c = 0; c < 500; c++) {
+            d.setValue(c, "R0", "C" + c);
+        }
+        List columns = new ArrayList();
+        for (int c = 0; c < 500; c++) {
+            columns.add(new Integer(c));
+        }
+        Collections.shuffle(columns, new Random(3L));
+        for (int i = 0; i < 400; i++) {
+            int c = ((Integer) columns.get(i)).intValue();
+            if (i % 2 == 0) {
+                d.setValue(null, "R0", "C" + c);
+            }
+            else {
+                d.setValue(Double.NaN, "R0", "C" + c);
+            }
+        }
+        for (int i = 0; i < 500; i++) {
+            int c = ((Integer) columns.get(i)).intValue();
+            if (i < 400) {
+                assertNull(d.getValue("R0", "C" + c));
+                assertTrue(Double.isNaN(d.getDoubleValue(0, c)));
+            }
+            else {
+                assertEquals(c, d.getDoubleValue(0, c), 0.0);
+            }
+        }
+        // the cells can be filled again
+        d.setValue(-1.0, "R0", "C" + columns.get(0));
+        assertEquals(new Double(-1.0), d.getValue("R0",
+                "C" + columns.get(0)));
+
+        // a removed column's values do not reappear in a new column
+        d.removeColumn("C499");
+        d.setValue(1.0, "R1", "C500");
+        assertNull(d.getValue("R0", "C500"));
+        assertEquals(500, d.getColumnCount());
+    }
+
+    /**
+     * A large table with few values.
+     */
+    public void testLargeSparseTable() {
+        SparseCategoryDataset d = new SparseCategoryDataset();
+        int n = 5000;
+        for (int i = 0; i < n; i++) {
+            d.setValue(i, "R" + i, "C" + i);
+        }
+        d.setValue(-1.0, "R0", "C" + (n - 1));
+        assertEquals(n, d.getRowCount());
+        assertEquals(n, d.getColumnCount());
+        assertEquals(new Range(-1.0, n - 1), d.getRangeBounds(false));
+        assertNull(d.getValue(1, 0));
+        assertNull(d.getValue(n - 1, 0));
+        assertEquals(new Double(-1.0), d.getValue(0, n - 1));
+
+        // removing a column keeps the other values with their keys
+        d.removeColumn("C10");
+        assertEquals(n - 1, d.getColumnCount());
+        assertEquals(n, d.getRowCount());
+        assertEquals(10, d.getColumnIndex("C11"));
+        assertEquals(11.0, d.getValue("R11", "C11").doubleValue(), 0.0);
+        for (int c = 0; c < d.getColumnCount(); c++) {
+            assertNull(d.getValue(10, c));
+            int r = (c < 10 ? c : c + 1);
+            assertEquals(r, d.getDoubleValue(r, c), 0.0);
+        }
+    }
+
+    /**
+     * A clone has its own row tables and column identifiers.
+     */
+    public void testCloneIndependence() throws CloneNotSupportedException {
+        SparseCategoryDataset d1 = new SparseCategoryDataset();
+        d1.setValue(1.0, "R1", "C1");
+        d1.setValue(2.0, "R1", "C2");
+        d1.setValue(3.0, "R2", "C3");
+        SparseCategoryDataset d2 = (SparseCategoryDataset) d1.clone();
+
+        // changes to the clone, including ones that grow its tables...
+        for (int c = 0; c < 100; c++) {
+            d2.setValue(c, "R1", "X" + c);
+        }
+        d2.setValue(null, "R1", "C2");
+        d2.removeColumn("C1");
+        d2.setValue(4.0, "R2", "C4");
+
+        // ...do not change the original
+        assertEquals(3, d1.getColumnCount());
+        assertEquals(new Double(1.0), d1.getValue("R1", "C1"));
+        assertEquals(new Double(2.0), d1.getValue("R1", "C2"));
+        assertEquals(new Double(3.0), d1.getValue("R2", "C3"));
+
+        // and changes to the original do not change the clone
+        d1.setValue(null, "R2", "C3");
+        d1.setValue(5.0, "R1", "C3");
+        assertEquals(new Double(3.0), d2.getValue("R2", "C3"));
+        assertNull(d2.getValue("R1", "C3"));
+        assertNull(d2.getValue("R1", "C2"));
+        assertEquals(new Double(99.0), d2.getValue("R1", "X99"));
+    }
+
+}
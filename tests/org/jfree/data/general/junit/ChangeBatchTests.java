@@ -0,0 +1,246 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ *
+ * ---------------------
+ * ChangeBatchTests.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.general.junit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.ChangeBatch;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.general.SeriesChangeType;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Tests for the {@link ChangeBatch} class.
+ */
+public class ChangeBatchTests extends TestCase
+        implements SeriesChangeListener, DatasetChangeListener {
+
+    /** The series events received. */
+    private List seriesEvents = new ArrayList();
+
+    /** The dataset events received. */
+    private List datasetEvents = new ArrayList();
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(ChangeBatchTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public ChangeBatchTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Records a series change event.
+     *
+     * @param event  the event.
+     */
+    public void seriesChanged(SeriesChangeEvent event) {
+        this.seriesEvents.add(event);
+    }
+
+    /**
+     * Records a dataset change event.
+     *
+     * @param event  the event.
+     */
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.datasetEvents.add(event);
+    }
+
+    /**
+     * Changes to a series are delivered as a single merged event when the
+     * batch closes.
+     */
+    public void testSeries() {
+        XYSeries s1 = new XYSeries("S1");
+        s1.addChangeListener(this);
+        ChangeBatch batch = ChangeBatch.begin();
+        assertTrue(ChangeBatch.isActive());
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        s1.add(3.0, 3.0);
+        assertEquals(0, this.seriesEvents.size());
+        assertEquals(1, batch.getPendingCount());
+        batch.end();
+        assertFalse(ChangeBatch.isActive());
+        assertEquals(1, this.seriesEvents.size());
+        SeriesChangeEvent event = (SeriesChangeEvent) this.seriesEvents.get(0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.ADD, 0, 2),
+                event.getSummary());
+
+        // after the batch, events are delivered immediately
+        s1.add(4.0, 4.0);
+        assertEquals(2, this.seriesEvents.size());
+
+        // a change that can't be summarised clears the summary
+        batch = ChangeBatch.begin();
+        s1.add(5.0, 5.0);
+        s1.remove(0);
+        batch.end();
+        assertEquals(3, this.seriesEvents.size());
+        event = (SeriesChangeEvent) this.seriesEvents.get(2);
+        assertEquals(SeriesChangeType.STRUCTURE, event.getSummary().getType());
+    }
+
+    /**
+     * Changes to many series in a collection result in a single dataset
+     * event.
+     */
+    public void testSeriesCollection() {
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        for (int i = 0; i < 300; i++) {
+            dataset.addSeries(new XYSeries("S" + i));
+        }
+        dataset.addChangeListener(this);
+        ChangeBatch batch = ChangeBatch.begin();
+        for (int i = 0; i < 300; i++) {
+            XYSeries s = dataset.getSeries(i);
+            s.add(1.0, i);
+            s.add(2.0, i);
+        }
+        assertEquals(0, this.datasetEvents.size());
+        batch.end();
+        assertEquals(1, this.datasetEvents.size());
+        DatasetChangeEvent event
+                = (DatasetChangeEvent) this.datasetEvents.get(0);
+        assertEquals(-1, event.getSeriesIndex());
+        assertNull(event.getSummary());
+
+        // changes to a single series retain the summary
+        this.datasetEvents.clear();
+        batch = ChangeBatch.begin();
+        dataset.getSeries(3).add(3.0, 3.0);
+        dataset.getSeries(3).add(4.0, 4.0);
+        batch.end();
+        assertEquals(1, this.datasetEvents.size());
+        event = (DatasetChangeEvent) this.datasetEvents.get(0);
+        assertEquals(3, event.getSeriesIndex());
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.ADD, 2, 3),
+                event.getSummary());
+    }
+
+    /**
+     * Nested batches are delivered when the outermost batch closes.
+     */
+    public void testNested() {
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        dataset.addChangeListener(this);
+        ChangeBatch outer = ChangeBatch.begin();
+        ChangeBatch inner = ChangeBatch.begin();
+        assertSame(outer, inner);
+        dataset.addValue(1.0, "R1", "C1");
+        inner.end();
+        assertTrue(ChangeBatch.isActive());
+        dataset.addValue(2.0, "R1", "C2");
+        assertEquals(0, this.datasetEvents.size());
+        outer.end();
+        assertEquals(1, this.datasetEvents.size());
+        DatasetChangeEvent event
+                = (DatasetChangeEvent) this.datasetEvents.get(0);
+        assertEquals(0, event.getSeriesIndex());
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.ADD, 0, 1),
+                event.getSummary());
+
+        boolean pass = false;
+        try {
+            outer.end();
+        }
+        catch (IllegalStateException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * If a listener throws an exception, the other events are still
+     * delivered.
+     */
+    public void testListenerFailure() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2");
+        s1.addChangeListener(new SeriesChangeListener() {
+            public void seriesChanged(SeriesChangeEvent event) {
+                throw new IllegalArgumentException("Failed.");
+            }
+        });
+        s2.addChangeListener(this);
+        ChangeBatch batch = ChangeBatch.begin();
+        s1.add(1.0, 1.0);
+        s2.add(1.0, 1.0);
+        boolean pass = false;
+        try {
+            batch.end();
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+        assertFalse(ChangeBatch.isActive());
+        assertEquals(1, this.seriesEvents.size());
+
+        // the series can still send events
+        s2.add(2.0, 2.0);
+        assertEquals(2, this.seriesEvents.size());
+    }
+
+}
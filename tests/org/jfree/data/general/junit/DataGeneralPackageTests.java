@@ -36,6 +36,9 @@
  * -------
  * 23-Aug-2004 : Restructured org.jfree.data package (DG);
  * 18-Jan-2005 : Added main() method (DG);
+ * 18-Oct-2026 : Added MinMaxIndexTests (DG);
+ * 18-Oct-2026 : Added SeriesChangeInfoTests (DG);
+ * 18-Oct-2026 : Added ChangeBatchTests (DG);
  *
  */
 
@@ -59,12 +62,15 @@ public class DataGeneralPackageTests extends TestCase {
      */
     public static Test suite() {
         TestSuite suite = new TestSuite("org.jfree.data.general");
+        suite.addTestSuite(ChangeBatchTests.class);
         suite.addTestSuite(DatasetGroupTests.class);
         suite.addTestSuite(DatasetUtilitiesTests.class);
         suite.addTestSuite(DefaultKeyedValueDatasetTests.class);
         suite.addTestSuite(DefaultKeyedValuesDatasetTests.class);
         suite.addTestSuite(DefaultKeyedValues2DDatasetTests.class);
         suite.addTestSuite(DefaultPieDatasetTests.class);
+        suite.addTestSuite(MinMaxIndexTests.class);
+        suite.addTestSuite(SeriesChangeInfoTests.class);
         return suite;
     }
 
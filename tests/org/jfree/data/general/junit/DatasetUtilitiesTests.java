@@ -43,11 +43,15 @@
  * 28-Mar-2008 : Added and renamed various tests (DG);
  * 08-Oct-2008 : New tests to support patch 2131001 and related 
  *               changes (DG);
+ * 18-Oct-2026 : Added testIterateToFindRangeBounds() (DG);
  *
  */
 
 package org.jfree.data.general.junit;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
@@ -998,4 +1002,26 @@ public class DatasetUtilitiesTests extends TestCase {
         return dataset;
     }
 
+
+    /**
+     * Some checks for the iterateToFindRangeBounds() method.
+     */
+    public void testIterateToFindRangeBounds() {
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        dataset.addSeries("S1", new double[][] {{1.0, 2.0, 3.0, 4.0},
+                {5.0, Double.NaN, 1.0, 9.0}});
+        dataset.addSeries("S2", new double[][] {{1.0, 2.0, 3.0},
+                {-5.0, 3.0, 2.0}});
+        List keys = new ArrayList();
+        keys.add("S1");
+        assertEquals(new Range(1.0, 5.0), DatasetUtilities.findRangeBounds(
+                dataset, keys, new Range(1.0, 3.0), false));
+        assertNull(DatasetUtilities.iterateToFindRangeBounds(dataset, keys,
+                new Range(1.8, 2.2), false));
+        keys.add("S2");
+        assertEquals(new Range(1.0, 3.0),
+                DatasetUtilities.iterateToFindRangeBounds(dataset, keys,
+                new Range(1.8, 3.2), false));
+    }
+
 }
@@ -0,0 +1,259 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------
+ * MinMaxIndexTests.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.general.junit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.Range;
+import org.jfree.data.general.MinMaxIndex;
+
+/**
+ * Tests for the {@link MinMaxIndex} class.
+ */
+public class MinMaxIndexTests extends TestCase {
+
+    /**
+     * An index over a list of <code>Double</code> objects.
+     */
+    static class ListIndex extends MinMaxIndex {
+
+        /** The values. */
+        List values = new ArrayList();
+
+        /**
+         * Creates a new index.
+         *
+         * @param blockSize  the block size.
+         */
+        ListIndex(int blockSize) {
+            super(blockSize);
+        }
+
+        /**
+         * Returns the number of values.
+         *
+         * @return The number of values.
+         */
+        protected int getItemCount() {
+            return this.values.size();
+        }
+
+        /**
+         * Returns a value.
+         *
+         * @param index  the index.
+         *
+         * @return The value.
+         */
+        protected double getValue(int index) {
+            return ((Double) this.values.get(index)).doubleValue();
+        }
+
+        /**
+         * Appends a value and updates the index.
+         *
+         * @param v  the value.
+         */
+        void append(double v) {
+            this.values.add(new Double(v));
+            itemAppended(v);
+        }
+
+        /**
+         * Removes some values and updates the index.
+         *
+         * @param start  the index of the first value to remove.
+         * @param end  the index of the last value to remove.
+         */
+        void remove(int start, int end) {
+            for (int i = start; i <= end; i++) {
+                this.values.remove(start);
+            }
+            itemsRemoved(start, end);
+        }
+
+        /**
+         * Changes a value and updates the index.
+         *
+         * @param index  the index.
+         * @param v  the new value.
+         */
+        void set(int index, double v) {
+            this.values.set(index, new Double(v));
+            itemChanged(index);
+        }
+
+        /**
+         * Finds the range of some values by iterating over them.
+         *
+         * @param start  the index of the first value.
+         * @param end  the index of the last value.
+         *
+         * @return The range (possibly <code>null</code>).
+         */
+        Range iterate(int start, int end) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = start; i <= end; i++) {
+                double v = getValue(i);
+                if (!Double.isNaN(v)) {
+                    min = Math.min(min, v);
+                    max = Math.max(max, v);
+                }
+            }
+            return (min <= max ? new Range(min, max) : null);
+        }
+    }
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(MinMaxIndexTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public MinMaxIndexTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Some checks for an empty index, and for a sequence containing only
+     * <code>Double.NaN</code> values.
+     */
+    public void testEmpty() {
+        ListIndex index = new ListIndex(4);
+        assertNull(index.getRange());
+        index.append(Double.NaN);
+        index.append(Double.NaN);
+        assertNull(index.getRange());
+        index.append(3.0);
+        assertEquals(new Range(3.0, 3.0), index.getRange());
+        assertNull(index.getRange(0, 1));
+    }
+
+    /**
+     * A block size less than 2 is not permitted.
+     */
+    public void testConstructor() {
+        boolean pass = false;
+        try {
+            new ListIndex(1);
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * Compares the results for random sub-ranges against the results from
+     * iterating over the values, while the sequence is modified in all the
+     * supported ways.
+     */
+    public void testRandomUpdates() {
+        Random random = new Random(123L);
+        int[] blockSizes = new int[] {2, 3, 32};
+        for (int b = 0; b < blockSizes.length; b++) {
+            ListIndex index = new ListIndex(blockSizes[b]);
+            for (int i = 0; i < 500; i++) {
+                index.append(random.nextInt(1000));
+            }
+            for (int step = 0; step < 2000; step++) {
+                int op = random.nextInt(10);
+                int n = index.values.size();
+                if (op < 5 || n < 10) {
+                    index.append(random.nextInt(10) == 0 ? Double.NaN
+                            : random.nextInt(1000));
+                }
+                else if (op == 5) {
+                    index.remove(0, random.nextInt(3));
+                }
+                else if (op == 6) {
+                    index.remove(n - 1 - random.nextInt(3), n - 1);
+                }
+                else if (op == 7) {
+                    index.set(random.nextInt(n), random.nextInt(2000) - 500);
+                }
+                else if (op == 8 && step % 50 == 0) {
+                    int i = random.nextInt(n - 2) + 1;
+                    index.remove(i, i);
+                    // removing from the middle is not incremental
+                }
+                n = index.values.size();
+                int start = random.nextInt(n);
+                int end = start + random.nextInt(n - start);
+                assertEquals(index.iterate(start, end),
+                        index.getRange(start, end));
+                assertEquals(index.iterate(0, n - 1), index.getRange());
+            }
+        }
+    }
+
+    /**
+     * Check that the index is rebuilt after a call to invalidate().
+     */
+    public void testInvalidate() {
+        ListIndex index = new ListIndex(2);
+        for (int i = 0; i < 20; i++) {
+            index.append(i);
+        }
+        assertEquals(new Range(0.0, 19.0), index.getRange());
+        index.values.set(7, new Double(-7.0));
+        index.values.add(3, new Double(50.0));
+        index.invalidate();
+        assertEquals(new Range(-7.0, 50.0), index.getRange());
+        assertEquals(new Range(1.0, 50.0), index.getRange(1, 5));
+    }
+
+}
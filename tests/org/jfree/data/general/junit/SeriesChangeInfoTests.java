@@ -0,0 +1,203 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------------
+ * SeriesChangeInfoTests.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+
+package org.jfree.data.general.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeType;
+
+/**
+ * Tests for the {@link SeriesChangeInfo} class.
+ */
+public class SeriesChangeInfoTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(SeriesChangeInfoTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public SeriesChangeInfoTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param type  the type.
+     * @param first  the first item.
+     * @param last  the last item.
+     *
+     * @return The instance.
+     */
+    private SeriesChangeInfo info(SeriesChangeType type, int first,
+            int last) {
+        return new SeriesChangeInfo(type, first, last);
+    }
+
+    /**
+     * Some checks for the merge() method.
+     */
+    public void testMerge() {
+        SeriesChangeType add = SeriesChangeType.ADD;
+        SeriesChangeType remove = SeriesChangeType.REMOVE;
+        SeriesChangeType update = SeriesChangeType.UPDATE;
+        SeriesChangeType structure = SeriesChangeType.STRUCTURE;
+
+        // appends and inserts within the added block
+        assertEquals(info(add, 5, 6), info(add, 5, 5).merge(info(add, 6, 6)));
+        assertEquals(info(add, 5, 7), info(add, 5, 6).merge(info(add, 5, 5)));
+        assertEquals(structure,
+                info(add, 5, 5).merge(info(add, 4, 4)).getType());
+        assertEquals(structure,
+                info(add, 5, 5).merge(info(add, 7, 7)).getType());
+
+        // updates to added items
+        assertEquals(info(add, 5, 6),
+                info(add, 5, 6).merge(info(update, 6, 6)));
+        assertEquals(structure,
+                info(add, 5, 6).merge(info(update, 4, 4)).getType());
+        assertEquals(info(update, 2, 9),
+                info(update, 2, 3).merge(info(update, 9, 9)));
+        assertEquals(structure,
+                info(update, 2, 3).merge(info(add, 4, 4)).getType());
+
+        // repeated removal from the start of a series
+        assertEquals(info(remove, 0, 1),
+                info(remove, 0, 0).merge(info(remove, 0, 0)));
+        assertEquals(info(remove, 2, 7),
+                info(remove, 4, 7).merge(info(remove, 2, 3)));
+        assertEquals(structure,
+                info(remove, 4, 7).merge(info(remove, 1, 2)).getType());
+
+        // eviction of the oldest item after an append
+        assertEquals(structure,
+                info(add, 10, 10).merge(info(remove, 0, 0)).getType());
+        assertEquals(structure,
+                info(structure, -1, -1).merge(info(add, 0, 0)).getType());
+    }
+
+    /**
+     * Checks the argument validation in the constructor.
+     */
+    public void testConstructor() {
+        boolean pass = false;
+        try {
+            info(null, 0, 0);
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+        pass = false;
+        try {
+            info(SeriesChangeType.ADD, 3, 2);
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    public void testEquals() {
+        SeriesChangeInfo i1 = info(SeriesChangeType.ADD, 1, 2);
+        SeriesChangeInfo i2 = info(SeriesChangeType.ADD, 1, 2);
+        assertTrue(i1.equals(i2));
+        assertEquals(i1.hashCode(), i2.hashCode());
+        i1 = info(SeriesChangeType.UPDATE, 1, 2);
+        assertFalse(i1.equals(i2));
+        i2 = info(SeriesChangeType.UPDATE, 1, 2);
+        assertTrue(i1.equals(i2));
+        i1 = info(SeriesChangeType.UPDATE, 0, 2);
+        assertFalse(i1.equals(i2));
+        i2 = info(SeriesChangeType.UPDATE, 0, 2);
+        assertTrue(i1.equals(i2));
+        i1 = info(SeriesChangeType.UPDATE, 0, 3);
+        assertFalse(i1.equals(i2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    public void testSerialization() {
+        SeriesChangeInfo i1 = info(SeriesChangeType.REMOVE, 3, 4);
+        SeriesChangeInfo i2 = null;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            ObjectOutput out = new ObjectOutputStream(buffer);
+            out.writeObject(i1);
+            out.close();
+
+            ObjectInput in = new ObjectInputStream(
+                    new ByteArrayInputStream(buffer.toByteArray()));
+            i2 = (SeriesChangeInfo) in.readObject();
+            in.close();
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+        assertEquals(i1, i2);
+        assertSame(SeriesChangeType.REMOVE, i2.getType());
+    }
+
+}
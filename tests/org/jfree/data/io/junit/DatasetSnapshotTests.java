@@ -0,0 +1,344 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ *
+ * -------------------------
+ * DatasetSnapshotTests.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.io.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.io.DatasetSnapshotWriter;
+import org.jfree.data.io.MappedCategoryDataset;
+import org.jfree.data.io.MappedXYDataset;
+import org.jfree.data.time.Day;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Tests for the {@link DatasetSnapshotWriter}, {@link MappedXYDataset} and
+ * {@link MappedCategoryDataset} classes.
+ */
+public class DatasetSnapshotTests extends TestCase {
+
+    /** The files created by the tests. */
+    private List files = new ArrayList();
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DatasetSnapshotTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public DatasetSnapshotTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Deletes the files created by the tests.
+     */
+    protected void tearDown() {
+        for (int i = 0; i < this.files.size(); i++) {
+            ((File) this.files.get(i)).delete();
+        }
+    }
+
+    /**
+     * Creates a temporary file.
+     *
+     * @return The file.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private File createFile() throws IOException {
+        File file = File.createTempFile("jfreechart", ".jfds");
+        this.files.add(file);
+        return file;
+    }
+
+    /**
+     * Creates a dataset with a sorted series of 5000 items (x = i,
+     * y = sin(i / 100.0)) and an unsorted series with a missing value.
+     *
+     * @return The dataset.
+     */
+    private XYSeriesCollection createXYDataset() {
+        XYSeries s1 = new XYSeries("S1");
+        for (int i = 0; i < 5000; i++) {
+            s1.add(i, Math.sin(i / 100.0));
+        }
+        XYSeries s2 = new XYSeries("S2", false);
+        s2.add(3.0, 30.0);
+        s2.add(1.0, null);
+        s2.add(2.0, -20.0);
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        dataset.addSeries(s1);
+        dataset.addSeries(s2);
+        return dataset;
+    }
+
+    /**
+     * Writes an XY dataset and checks the values read back.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testXYDataset() throws IOException {
+        XYSeriesCollection source = createXYDataset();
+        File file = createFile();
+        new DatasetSnapshotWriter().writeXYDataset(source, file);
+        MappedXYDataset d = new MappedXYDataset(file);
+        assertEquals(2, d.getSeriesCount());
+        assertEquals("S1", d.getSeriesKey(0));
+        assertEquals("S2", d.getSeriesKey(1));
+        assertEquals(5000, d.getItemCount(0));
+        assertEquals(3, d.getItemCount(1));
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i, d.getXValue(0, i), 0.0);
+            assertEquals(Math.sin(i / 100.0), d.getYValue(0, i), 0.0);
+        }
+        assertEquals(new Double(3.0), d.getX(1, 0));
+        assertNull(d.getY(1, 1));
+        assertEquals(-20.0, d.getYValue(1, 2), 0.0);
+        assertEquals(DomainOrder.NONE, d.getDomainOrder());
+        assertEquals(new Range(0.0, 4999.0), d.getDomainBounds(false));
+        assertEquals(-20.0, d.getRangeLowerBound(false), 0.0);
+        assertEquals(30.0, d.getRangeUpperBound(false), 0.0);
+        assertEquals(DatasetSnapshotWriter.DEFAULT_BLOCK_SIZE,
+                d.getBlockSize());
+    }
+
+    /**
+     * An item index past the end of a series should not return values from
+     * the next column.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testItemOutOfBounds() throws IOException {
+        File file = createFile();
+        new DatasetSnapshotWriter().writeXYDataset(createXYDataset(), file);
+        MappedXYDataset d = new MappedXYDataset(file);
+        boolean pass = false;
+        try {
+            d.getYValue(1, 3);
+        }
+        catch (IndexOutOfBoundsException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * Checks the y-range for an x-range against a plain pass through the
+     * source data, with and without block summaries.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testRangeBoundsForXRange() throws IOException {
+        XYSeriesCollection source = createXYDataset();
+        int[] blockSizes = new int[] {0, 2, 64, 1024};
+        double[][] ranges = new double[][] {{0.0, 4999.0}, {10.5, 900.2},
+                {1000.0, 1100.0}, {2.0, 3.0}, {-5.0, -1.0}};
+        for (int b = 0; b < blockSizes.length; b++) {
+            DatasetSnapshotWriter writer = new DatasetSnapshotWriter();
+            writer.setBlockSize(blockSizes[b]);
+            File file = createFile();
+            writer.writeXYDataset(source, file);
+            MappedXYDataset d = new MappedXYDataset(file);
+            for (int r = 0; r < ranges.length; r++) {
+                Range xRange = new Range(ranges[r][0], ranges[r][1]);
+                List keys = Arrays.asList(new String[] {"S1", "S2"});
+                assertEquals(source.getRangeBounds(keys, xRange, false),
+                        d.getRangeBounds(keys, xRange, false));
+                keys = Arrays.asList(new String[] {"S2"});
+                assertEquals(source.getRangeBounds(keys, xRange, false),
+                        d.getRangeBounds(keys, xRange, false));
+            }
+        }
+    }
+
+    /**
+     * A time series collection is written with the millisecond x-values.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testTimeSeriesCollection() throws IOException {
+        TimeSeries s = new TimeSeries("T", Day.class);
+        Day day = new Day(1, 1, 2008);
+        for (int i = 0; i < 10; i++) {
+            s.add(day, i * 2.0);
+            day = (Day) day.next();
+        }
+        TimeSeriesCollection source = new TimeSeriesCollection(s);
+        File file = createFile();
+        new DatasetSnapshotWriter().writeXYDataset(source, file);
+        MappedXYDataset d = new MappedXYDataset(file);
+        assertEquals(DomainOrder.ASCENDING, d.getDomainOrder());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(source.getXValue(0, i), d.getXValue(0, i), 0.0);
+            assertEquals(i * 2.0, d.getYValue(0, i), 0.0);
+        }
+    }
+
+    /**
+     * Writes a category dataset and checks the values read back.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testCategoryDataset() throws IOException {
+        DefaultCategoryDataset source = new DefaultCategoryDataset();
+        source.addValue(1.0, "R1", "C1");
+        source.addValue(2.0, "R1", "C2");
+        source.addValue(-3.0, "R2", "C1");
+        source.addValue(null, "R2", "C2");
+        File file = createFile();
+        new DatasetSnapshotWriter().writeCategoryDataset(source, file);
+        MappedCategoryDataset d = new MappedCategoryDataset(file);
+        assertEquals(source.getRowKeys(), d.getRowKeys());
+        assertEquals(source.getColumnKeys(), d.getColumnKeys());
+        assertEquals(new Double(2.0), d.getValue("R1", "C2"));
+        assertEquals(-3.0, d.getDoubleValue(1, 0), 0.0);
+        assertNull(d.getValue(1, 1));
+        assertEquals(1, d.getRowIndex("R2"));
+        assertEquals(-1, d.getColumnIndex("C3"));
+        assertEquals(new Range(-3.0, 2.0), d.getRangeBounds(false));
+    }
+
+    /**
+     * An empty category dataset has no range.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testEmptyCategoryDataset() throws IOException {
+        File file = createFile();
+        new DatasetSnapshotWriter().writeCategoryDataset(
+                new DefaultCategoryDataset(), file);
+        MappedCategoryDataset d = new MappedCategoryDataset(file);
+        assertEquals(0, d.getRowCount());
+        assertEquals(0, d.getColumnCount());
+        assertNull(d.getRangeBounds(false));
+    }
+
+    /**
+     * Opening a category snapshot as an XY dataset, or a file that is not a
+     * snapshot, should fail.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void testWrongFile() throws IOException {
+        File file = createFile();
+        new DatasetSnapshotWriter().writeCategoryDataset(
+                new DefaultCategoryDataset(), file);
+        boolean pass = false;
+        try {
+            new MappedXYDataset(file);
+        }
+        catch (IOException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+
+        File other = createFile();
+        OutputStream out = new FileOutputStream(other);
+        try {
+            out.write("X,Y\r\n1,2\r\n".getBytes("ISO-8859-1"));
+        }
+        finally {
+            out.close();
+        }
+        pass = false;
+        try {
+            new MappedCategoryDataset(other);
+        }
+        catch (IOException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check the values.
+     *
+     * @throws Exception if there is a problem.
+     */
+    public void testSerialization() throws Exception {
+        File file = createFile();
+        new DatasetSnapshotWriter().writeXYDataset(createXYDataset(), file);
+        MappedXYDataset d1 = new MappedXYDataset(file);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(d1);
+        out.close();
+        ObjectInput in = new ObjectInputStream(
+                new ByteArrayInputStream(buffer.toByteArray()));
+        MappedXYDataset d2 = (MappedXYDataset) in.readObject();
+        in.close();
+        assertEquals(d1.getItemCount(0), d2.getItemCount(0));
+        assertEquals(d1.getYValue(0, 1234), d2.getYValue(0, 1234), 0.0);
+        assertEquals(d1.getSeriesKey(1), d2.getSeriesKey(1));
+    }
+
+}
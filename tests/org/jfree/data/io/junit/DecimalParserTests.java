@@ -0,0 +1,178 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -----------------------
+ * DecimalParserTests.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.io.junit;
+
+import java.util.Random;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.io.DecimalParser;
+
+/**
+ * Tests for the {@link DecimalParser} class.
+ */
+public class DecimalParserTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DecimalParserTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public DecimalParserTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Parses a string.
+     *
+     * @param s  the string.
+     *
+     * @return The value.
+     */
+    private double parse(String s) {
+        return DecimalParser.parse(s, 0, s.length());
+    }
+
+    /**
+     * Checks that a string is converted to the same value as
+     * <code>Double.parseDouble()</code>.
+     *
+     * @param s  the string.
+     */
+    private void check(String s) {
+        double expected = Double.parseDouble(s);
+        assertEquals(s, Double.doubleToLongBits(expected),
+                Double.doubleToLongBits(parse(s)));
+    }
+
+    /**
+     * Some checks for numbers that are converted exactly.
+     */
+    public void testExact() {
+        check("0");
+        check("-0");
+        check("-0.0");
+        check("+1");
+        check("1.001");
+        check("-12.5");
+        check(".5");
+        check("5.");
+        check("1e3");
+        check("1.5E-3");
+        check("1234567890123456");
+        check("1234567890123456e4");
+        check("0.1234567890123450");
+        check("9007199254740991");
+        check("1e22");
+        check("1e-22");
+    }
+
+    /**
+     * Text that cannot be converted exactly is left to
+     * <code>Double.parseDouble()</code>.
+     */
+    public void testNotExact() {
+        assertTrue(Double.isNaN(parse("")));
+        assertTrue(Double.isNaN(parse("-")));
+        assertTrue(Double.isNaN(parse(".")));
+        assertTrue(Double.isNaN(parse("1e")));
+        assertTrue(Double.isNaN(parse("1x")));
+        assertTrue(Double.isNaN(parse(" 1")));
+        assertTrue(Double.isNaN(parse("NaN")));
+        assertTrue(Double.isNaN(parse("Infinity")));
+        assertTrue(Double.isNaN(parse("1e23")));
+        assertTrue(Double.isNaN(parse("1e-23")));
+        assertTrue(Double.isNaN(parse("9007199254740993")));
+        assertTrue(Double.isNaN(parse("123456789012345678")));
+        assertTrue(Double.isNaN(parse("1234567890123456789")));
+    }
+
+    /**
+     * Part of a sequence can be parsed.
+     */
+    public void testRange() {
+        String s = "ab-2.25,";
+        assertEquals(-2.25, DecimalParser.parse(s, 2, 7), 0.0);
+        assertEquals(2.0, DecimalParser.parse(s, 3, 4), 0.0);
+    }
+
+    /**
+     * Random numbers are either converted to the same value as
+     * <code>Double.parseDouble()</code>, or left to that method.
+     */
+    public void testRandom() {
+        Random random = new Random(11L);
+        int converted = 0;
+        for (int i = 0; i < 10000; i++) {
+            long m = random.nextLong() % 1000000000000000L;
+            int scale = random.nextInt(20);
+            StringBuffer b = new StringBuffer(Long.toString(Math.abs(m)));
+            while (b.length() <= scale) {
+                b.insert(0, '0');
+            }
+            b.insert(b.length() - scale, '.');
+            if (m < 0) {
+                b.insert(0, '-');
+            }
+            String text = b.toString();
+            double value = parse(text);
+            if (!Double.isNaN(value)) {
+                assertEquals(text, Double.doubleToLongBits(
+                        Double.parseDouble(text)),
+                        Double.doubleToLongBits(value));
+                converted++;
+            }
+        }
+        assertTrue(converted > 9000);
+    }
+
+}
@@ -0,0 +1,443 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ *
+ * -------------------------
+ * MappedCSVReaderTests.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Added testFractionalSeconds() (DG);
+ *
+ */
+
+package org.jfree.data.io.junit;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.io.CSVRowHandler;
+import org.jfree.data.io.MappedCSVReader;
+import org.jfree.data.time.Day;
+import org.jfree.data.time.Millisecond;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Tests for the {@link MappedCSVReader} class.
+ */
+public class MappedCSVReaderTests extends TestCase {
+
+    /** The files created by the tests. */
+    private List files = new ArrayList();
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(MappedCSVReaderTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public MappedCSVReaderTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Deletes the files created by the tests.
+     */
+    protected void tearDown() {
+        for (int i = 0; i < this.files.size(); i++) {
+            ((File) this.files.get(i)).delete();
+        }
+    }
+
+    /**
+     * Writes some text to a temporary file.
+     *
+     * @param text  the text.
+     *
+     * @return The file.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private File createFile(String text) throws IOException {
+        File file = File.createTempFile("jfreechart", ".csv");
+        this.files.add(file);
+        OutputStream out = new FileOutputStream(file);
+        try {
+            out.write(text.getBytes("ISO-8859-1"));
+        }
+        finally {
+            out.close();
+        }
+        return file;
+    }
+
+    /**
+     * Creates a file with 1000 rows, x = i, y1 = i * 0.5, y2 = -i.
+     *
+     * @return The file.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private File createLargeFile() throws IOException {
+        StringBuffer b = new StringBuffer("X,Y1,Y2\r\n");
+        for (int i = 0; i < 1000; i++) {
+            b.append(i).append(',').append(i * 0.5).append(',').append(-i);
+            b.append("\r\n");
+        }
+        return createFile(b.toString());
+    }
+
+    /**
+     * Some checks for reading an XYSeriesCollection.
+     */
+    public void testReadXYSeriesCollection() throws IOException {
+        File file = createFile("X,A,B,C\n1,2.5,3e2,x\n2,,-0.125,y\n"
+                + "3,4,1.0E-3,z\n");
+        MappedCSVReader reader = new MappedCSVReader(file);
+        XYSeriesCollection dataset = reader.readXYSeriesCollection(0,
+                new int[] {2, 1});
+        assertEquals(2, dataset.getSeriesCount());
+        assertEquals("B", dataset.getSeriesKey(0));
+        assertEquals("A", dataset.getSeriesKey(1));
+        assertEquals(300.0, dataset.getYValue(0, 0), 0.0);
+        assertEquals(-0.125, dataset.getYValue(0, 1), 0.0);
+        assertEquals(0.001, dataset.getYValue(0, 2), 0.0);
+        assertEquals(2.5, dataset.getYValue(1, 0), 0.0);
+        assertNull(dataset.getY(1, 1));
+        assertEquals(3.0, dataset.getXValue(1, 2), 0.0);
+    }
+
+    /**
+     * Parsing in several blocks and threads must give the same result as
+     * parsing in one block.
+     */
+    public void testParallel() throws IOException {
+        File file = createLargeFile();
+        MappedCSVReader reader = new MappedCSVReader(file);
+        XYSeriesCollection d1 = reader.readXYSeriesCollection(0,
+                new int[] {1, 2});
+        reader.setBlockSize(100);
+        reader.setThreadCount(4);
+        XYSeriesCollection d2 = reader.readXYSeriesCollection(0,
+                new int[] {1, 2});
+        assertEquals(d1, d2);
+        assertEquals(1000, d2.getItemCount(0));
+        assertEquals(499.5, d2.getYValue(0, 999), 0.0);
+        assertEquals(-999.0, d2.getYValue(1, 999), 0.0);
+    }
+
+    /**
+     * Numbers that cannot be converted exactly by the fast path should still
+     * give the same result as Double.parseDouble().
+     */
+    public void testNumbers() throws IOException {
+        String[] numbers = {"0", "-0.0", "+7", "0.1", "123456789.123456789",
+                "1.7976931348623157E308", "4.9e-324", "12345678901234567890",
+                ".5", "5.", "1e22", "1e23", "0.3333333333333333333333",
+                " 42 ", "\"3.25\""};
+        StringBuffer b = new StringBuffer();
+        for (int i = 0; i < numbers.length; i++) {
+            b.append(numbers[i]).append('\n');
+        }
+        MappedCSVReader reader = new MappedCSVReader(createFile(
+                b.toString()));
+        reader.setHeader(false);
+        final List values = new ArrayList();
+        reader.stream(new int[] {0}, new CSVRowHandler() {
+            public void handleRow(double[] row) {
+                values.add(new Double(row[0]));
+            }
+            public void blockCompleted() {
+                // ignore
+            }
+        });
+        assertEquals(numbers.length, values.size());
+        for (int i = 0; i < numbers.length; i++) {
+            String n = numbers[i].replace('"', ' ').trim();
+            assertEquals(n, new Double(n), values.get(i));
+        }
+    }
+
+    /**
+     * An invalid number should be reported with its position.
+     */
+    public void testInvalidNumber() throws IOException {
+        MappedCSVReader reader = new MappedCSVReader(createFile(
+                "X,Y\n1,2\n3,abc\n"));
+        try {
+            reader.readXYSeriesCollection(0, new int[] {1});
+            fail("Should have thrown an IOException.");
+        }
+        catch (IOException e) {
+            assertEquals("Invalid number 'abc' at position 10.",
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Some checks for reading a TimeSeriesCollection with ISO 8601
+     * timestamps.
+     */
+    public void testReadTimeSeriesCollection() throws IOException {
+        File file = createFile("Time,Value\n"
+                + "2008-06-01T12:00:00.250Z,1.0\n"
+                + "2008-06-01 14:30+02:00,2.0\n"
+                + "2008-06-02,3.0\n"
+                + "\n"
+                + "2008-06-03T00:00:01,4.0\n");
+        MappedCSVReader reader = new MappedCSVReader(file);
+        TimeZone zone = TimeZone.getTimeZone("GMT");
+        reader.setTimeZone(zone);
+        TimeSeriesCollection dataset = reader.readTimeSeriesCollection(0,
+                new int[] {1}, Millisecond.class);
+        TimeSeries series = dataset.getSeries(0);
+        assertEquals("Value", series.getKey());
+        assertEquals(4, series.getItemCount());
+        assertEquals(1212321600250L,
+                series.getTimePeriod(0).getFirstMillisecond());
+        assertEquals(1212323400000L,
+                series.getTimePeriod(1).getFirstMillisecond());
+        assertEquals(1212364800000L,
+                series.getTimePeriod(2).getFirstMillisecond());
+        assertEquals(1212451201000L,
+                series.getTimePeriod(3).getFirstMillisecond());
+
+        // without a zone offset, the reader's time zone is used
+        reader.setTimeZone(TimeZone.getTimeZone("Europe/Paris"));
+        dataset = reader.readTimeSeriesCollection(0, new int[] {1},
+                Millisecond.class);
+        assertEquals(1212364800000L - 2 * 60 * 60 * 1000L,
+                dataset.getSeries(0).getTimePeriod(2).getFirstMillisecond());
+    }
+
+    /**
+     * Timestamps in seconds and milliseconds.
+     */
+    public void testNumericTimestamps() throws IOException {
+        File file = createFile("1212321600,1212321600250,5\n");
+        MappedCSVReader reader = new MappedCSVReader(file);
+        reader.setHeader(false);
+        reader.setTimestampFormat(MappedCSVReader.TIMESTAMP_SECONDS);
+        TimeSeriesCollection dataset = reader.readTimeSeriesCollection(0,
+                new int[] {2}, Millisecond.class);
+        assertEquals("Column 2", dataset.getSeriesKey(0));
+        assertEquals(1212321600000L,
+                dataset.getSeries(0).getTimePeriod(0).getFirstMillisecond());
+        reader.setTimestampFormat(MappedCSVReader.TIMESTAMP_MILLISECONDS);
+        dataset = reader.readTimeSeriesCollection(1, new int[] {2},
+                Millisecond.class);
+        assertEquals(1212321600250L,
+                dataset.getSeries(0).getTimePeriod(0).getFirstMillisecond());
+    }
+
+    /**
+     * Timestamps in seconds with a fraction are not rounded down to the
+     * previous millisecond.
+     */
+    public void testFractionalSeconds() throws IOException {
+        File file = createFile("1.001,1\n1077940512.360,2\n"
+                + "1212321600.0015,3\n-0.25,4\n");
+        MappedCSVReader reader = new MappedCSVReader(file);
+        reader.setHeader(false);
+        reader.setTimestampFormat(MappedCSVReader.TIMESTAMP_SECONDS);
+        TimeSeries series = reader.readTimeSeriesCollection(0,
+                new int[] {1}, Millisecond.class).getSeries(0);
+        assertEquals(4, series.getItemCount());
+        assertEquals(-250L, series.getTimePeriod(0).getFirstMillisecond());
+        assertEquals(1001L, series.getTimePeriod(1).getFirstMillisecond());
+        assertEquals(1077940512360L,
+                series.getTimePeriod(2).getFirstMillisecond());
+        // a fraction of a millisecond is dropped
+        assertEquals(1212321600001L,
+                series.getTimePeriod(3).getFirstMillisecond());
+
+        // every millisecond of a second
+        StringBuffer b = new StringBuffer();
+        for (int i = 0; i < 1000; i++) {
+            b.append("1077940512.");
+            b.append(Integer.toString(1000 + i).substring(1));
+            b.append(',').append(i).append('\n');
+        }
+        reader = new MappedCSVReader(createFile(b.toString()));
+        reader.setHeader(false);
+        reader.setTimestampFormat(MappedCSVReader.TIMESTAMP_SECONDS);
+        series = reader.readTimeSeriesCollection(0, new int[] {1},
+                Millisecond.class).getSeries(0);
+        assertEquals(1000, series.getItemCount());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(1077940512000L + i,
+                    series.getTimePeriod(i).getFirstMillisecond());
+        }
+    }
+
+    /**
+     * An invalid timestamp should be reported.
+     */
+    public void testInvalidTimestamp() throws IOException {
+        MappedCSVReader reader = new MappedCSVReader(createFile(
+                "T,V\n2008-13-01,1\n"));
+        try {
+            reader.readTimeSeriesCollection(0, new int[] {1},
+                    Millisecond.class);
+            fail("Should have thrown an IOException.");
+        }
+        catch (IOException e) {
+            assertEquals("Invalid timestamp '2008-13-01' at position 4.",
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Some checks for reading a category dataset with quoted keys.
+     */
+    public void testReadCategoryDataset() throws IOException {
+        File file = createFile("Name;Q1;Q2\n"
+                + "'Apples; red';1;2\n"
+                + "'Pears ''green''';3;\n");
+        MappedCSVReader reader = new MappedCSVReader(file);
+        reader.setFieldDelimiter(';');
+        reader.setTextDelimiter('\'');
+        String[] names = reader.getColumnNames();
+        assertEquals(3, names.length);
+        assertEquals("Q2", names[2]);
+        DefaultCategoryDataset dataset = reader.readCategoryDataset(0,
+                new int[] {1, 2});
+        assertEquals(2, dataset.getRowCount());
+        assertEquals(2, dataset.getColumnCount());
+        assertEquals("Apples; red", dataset.getRowKey(0));
+        assertEquals("Pears 'green'", dataset.getRowKey(1));
+        assertEquals(new Double(2.0), dataset.getValue("Apples; red", "Q2"));
+        assertEquals(new Double(3.0), dataset.getValue("Pears 'green'",
+                "Q1"));
+        assertNull(dataset.getValue("Pears 'green'", "Q2"));
+    }
+
+    /**
+     * Streaming into an existing series sends one event per block.
+     */
+    public void testStreamIntoXYSeries() throws IOException {
+        File file = createLargeFile();
+        MappedCSVReader reader = new MappedCSVReader(file);
+        reader.setBlockSize(4000);
+        XYSeries series = new XYSeries("S");
+        final int[] events = new int[1];
+        series.addChangeListener(new SeriesChangeListener() {
+            public void seriesChanged(SeriesChangeEvent event) {
+                events[0]++;
+            }
+        });
+        long rows = reader.stream(0, 2, series);
+        assertEquals(1000L, rows);
+        assertEquals(1000, series.getItemCount());
+        assertEquals(-500.0, series.getY(500).doubleValue(), 0.0);
+        assertTrue(events[0] > 1);
+    }
+
+    /**
+     * Streaming into an existing time series.
+     */
+    public void testStreamIntoTimeSeries() throws IOException {
+        File file = createFile("2008-06-01,1\n2008-06-02,2\n");
+        MappedCSVReader reader = new MappedCSVReader(file);
+        reader.setHeader(false);
+        reader.setTimeZone(TimeZone.getTimeZone("GMT"));
+        TimeSeries series = new TimeSeries("S", Day.class);
+        reader.stream(0, 1, series);
+        assertEquals(2, series.getItemCount());
+        assertEquals(new Double(2.0), series.getValue(1));
+        assertEquals(-1, reader.getTimestampColumn());
+    }
+
+    /**
+     * An empty file gives an empty dataset.
+     */
+    public void testEmptyFile() throws IOException {
+        MappedCSVReader reader = new MappedCSVReader(createFile(""));
+        reader.setThreadCount(2);
+        assertEquals(0, reader.getColumnNames().length);
+        XYSeriesCollection dataset = reader.readXYSeriesCollection(0,
+                new int[] {1});
+        assertEquals(0, dataset.getItemCount(0));
+    }
+
+    /**
+     * Check the argument checks.
+     */
+    public void testArguments() {
+        try {
+            new MappedCSVReader(null);
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        MappedCSVReader reader = new MappedCSVReader(new File("x.csv"));
+        try {
+            reader.setFieldDelimiter('\n');
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            reader.setThreadCount(0);
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
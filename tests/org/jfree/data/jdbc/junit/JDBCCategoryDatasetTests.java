@@ -0,0 +1,158 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ *
+ * -----------------------------
+ * JDBCCategoryDatasetTests.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.jdbc.junit;
+
+import java.sql.SQLException;
+import java.sql.Types;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.jdbc.JDBCCategoryDataset;
+
+/**
+ * Tests for the {@link JDBCCategoryDataset} class.
+ */
+public class JDBCCategoryDatasetTests extends TestCase
+        implements DatasetChangeListener {
+
+    /** The number of events received. */
+    private int eventCount;
+
+    /**
+     * Counts the events received.
+     *
+     * @param event  the event.
+     */
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.eventCount++;
+    }
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(JDBCCategoryDatasetTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public JDBCCategoryDatasetTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a table.
+     *
+     * @return The table.
+     */
+    private StubDatabase createDatabase() {
+        StubDatabase db = new StubDatabase(new String[] {"DAY", "SALES",
+                "RETURNS"}, new int[] {Types.VARCHAR, Types.INTEGER,
+                Types.DOUBLE});
+        db.addRow(new Object[] {"2008-01-01", new Integer(10),
+                new Double(1.5)});
+        db.addRow(new Object[] {"2008-01-02", new Integer(12), null});
+        return db;
+    }
+
+    /**
+     * Some checks for the executeQuery() method.
+     */
+    public void testExecuteQuery() throws SQLException {
+        StubDatabase db = createDatabase();
+        JDBCCategoryDataset d = new JDBCCategoryDataset(db.getConnection());
+        d.setFetchSize(100);
+        d.addChangeListener(this);
+        d.executeQuery("SELECT DAY, SALES, RETURNS FROM T");
+        assertEquals(100, db.getFetchSize());
+        assertEquals(1, this.eventCount);
+        assertEquals(2, d.getRowCount());
+        assertEquals(2, d.getColumnCount());
+        assertEquals(new Double(10.0), d.getValue("SALES", "2008-01-01"));
+        assertNull(d.getValue("RETURNS", "2008-01-02"));
+        assertEquals("2008-01-02", d.getLastKey());
+
+        // a second query replaces the data
+        d.executeQuery("SELECT DAY, SALES, RETURNS FROM T");
+        assertEquals(2, this.eventCount);
+        assertEquals(2, d.getColumnCount());
+    }
+
+    /**
+     * Some checks for the executeIncrementalQuery() method.
+     */
+    public void testExecuteIncrementalQuery() throws SQLException {
+        StubDatabase db = createDatabase();
+        JDBCCategoryDataset d = new JDBCCategoryDataset(db.getConnection());
+        d.setTranspose(false);
+        try {
+            d.executeIncrementalQuery("SELECT * FROM T WHERE DAY > ?");
+            fail("Should have thrown an SQLException.");
+        }
+        catch (SQLException e) {
+            // expected
+        }
+        d.executeQuery("SELECT DAY, SALES, RETURNS FROM T");
+        d.addChangeListener(this);
+        db.addRow(new Object[] {"2008-01-03", new Integer(7),
+                new Double(0.5)});
+        assertEquals(1, d.executeIncrementalQuery(
+                "SELECT DAY, SALES, RETURNS FROM T WHERE DAY > ?"));
+        assertEquals("2008-01-02", db.getParameter());
+        assertEquals(1, this.eventCount);
+        assertEquals(3, d.getRowCount());
+        assertEquals(new Double(0.5), d.getValue("2008-01-03", "RETURNS"));
+        assertEquals(0, d.executeIncrementalQuery(
+                "SELECT DAY, SALES, RETURNS FROM T WHERE DAY > ?"));
+        assertEquals(1, this.eventCount);
+    }
+
+}
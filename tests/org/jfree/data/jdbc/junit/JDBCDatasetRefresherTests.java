@@ -0,0 +1,180 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ *
+ * ------------------------------
+ * JDBCDatasetRefresherTests.java
+ * ------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.jdbc.junit;
+
+import java.sql.SQLException;
+import java.sql.Types;
+
+import javax.swing.SwingUtilities;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.jdbc.JDBCDatasetRefresher;
+import org.jfree.data.jdbc.JDBCXYDataset;
+
+/**
+ * Tests for the {@link JDBCDatasetRefresher} class.
+ */
+public class JDBCDatasetRefresherTests extends TestCase
+        implements DatasetChangeListener {
+
+    /** The full query. */
+    private static final String QUERY = "SELECT X, Y FROM T";
+
+    /** The incremental query. */
+    private static final String INCREMENTAL_QUERY
+            = "SELECT X, Y FROM T WHERE X > ? ORDER BY X";
+
+    /** The number of events received. */
+    private int eventCount;
+
+    /** The number of events received on another thread. */
+    private int otherThreadCount;
+
+    /**
+     * Records an event, and the thread it was received on.
+     *
+     * @param event  the event.
+     */
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.eventCount++;
+        if (!SwingUtilities.isEventDispatchThread()) {
+            this.otherThreadCount++;
+        }
+    }
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(JDBCDatasetRefresherTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public JDBCDatasetRefresherTests(String name) {
+        super(name);
+    }
+
+    /**
+     * The full query is used until the dataset has a row, and the
+     * incremental query after that.
+     */
+    public void testRefresh() throws SQLException {
+        StubDatabase db = new StubDatabase(new String[] {"X", "Y"},
+                new int[] {Types.DOUBLE, Types.DOUBLE});
+        JDBCXYDataset d = new JDBCXYDataset(db.getConnection());
+        JDBCDatasetRefresher r = new JDBCDatasetRefresher(d, QUERY,
+                INCREMENTAL_QUERY, 1000L);
+        assertEquals(-1, r.refresh());
+        assertEquals(-1, r.refresh());
+        db.addRow(new Object[] {new Double(1.0), new Double(1.0)});
+        assertEquals(-1, r.refresh());
+        assertEquals(1, d.getItemCount());
+        db.addRow(new Object[] {new Double(2.0), new Double(2.0)});
+        assertEquals(1, r.refresh());
+        assertEquals(2, d.getItemCount());
+        assertEquals(0, r.refresh());
+        assertNull(r.getLastException());
+    }
+
+    /**
+     * Checks that the refresher runs in the background until it is stopped,
+     * and that the dataset is updated on the event dispatch thread.
+     */
+    public void testStartAndStop() throws Exception {
+        StubDatabase db = new StubDatabase(new String[] {"X", "Y"},
+                new int[] {Types.DOUBLE, Types.DOUBLE});
+        db.addRow(new Object[] {new Double(1.0), new Double(1.0)});
+        final JDBCXYDataset d = new JDBCXYDataset(db.getConnection());
+        d.addChangeListener(this);
+        JDBCDatasetRefresher r = new JDBCDatasetRefresher(d, QUERY,
+                INCREMENTAL_QUERY, 10L);
+        r.start();
+        assertTrue(r.isRunning());
+        long end = System.currentTimeMillis() + 5000L;
+        while (db.getQueryCount() < 3 && System.currentTimeMillis() < end) {
+            Thread.sleep(10L);
+        }
+        db.addRow(new Object[] {new Double(2.0), new Double(2.0)});
+        int queryCount = db.getQueryCount();
+        while (db.getQueryCount() < queryCount + 2
+                && System.currentTimeMillis() < end) {
+            Thread.sleep(10L);
+        }
+        r.stop();
+        assertFalse(r.isRunning());
+        assertTrue(db.getQueryCount() >= 5);
+        final int[] count = new int[1];
+        SwingUtilities.invokeAndWait(new Runnable() {
+            public void run() {
+                count[0] = d.getItemCount();
+            }
+        });
+        assertEquals(2, count[0]);
+        assertEquals(2, this.eventCount);
+        assertEquals(0, this.otherThreadCount);
+    }
+
+    /**
+     * Check the argument checks.
+     */
+    public void testConstructor() {
+        try {
+            new JDBCDatasetRefresher(null, QUERY, INCREMENTAL_QUERY, 10L);
+            fail("Should have thrown an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ *
+ * ------------------------
+ * JDBCPieDatasetTests.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.jdbc.junit;
+
+import java.sql.SQLException;
+import java.sql.Types;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.jdbc.JDBCPieDataset;
+
+/**
+ * Tests for the {@link JDBCPieDataset} class.
+ */
+public class JDBCPieDatasetTests extends TestCase
+        implements DatasetChangeListener {
+
+    /** The number of events received. */
+    private int eventCount;
+
+    /**
+     * Counts the events received.
+     *
+     * @param event  the event.
+     */
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.eventCount++;
+    }
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(JDBCPieDatasetTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public JDBCPieDatasetTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Some checks for the executeQuery() and executeIncrementalQuery()
+     * methods.
+     */
+    public void testQueries() throws SQLException {
+        StubDatabase db = new StubDatabase(new String[] {"REGION", "SALES"},
+                new int[] {Types.VARCHAR, Types.DOUBLE});
+        db.addRow(new Object[] {"East", new Double(4.0)});
+        db.addRow(new Object[] {"North", new Double(3.0)});
+        JDBCPieDataset d = new JDBCPieDataset(db.getConnection());
+        d.setFetchSize(50);
+        d.addChangeListener(this);
+        d.executeQuery("SELECT REGION, SALES FROM T");
+        assertEquals(50, db.getFetchSize());
+        assertEquals(1, this.eventCount);
+        assertEquals(2, d.getItemCount());
+        assertEquals("North", d.getLastKey());
+
+        db.addRow(new Object[] {"South", new Double(6.0)});
+        db.addRow(new Object[] {"West", new Double(1.0)});
+        assertEquals(2, d.executeIncrementalQuery(
+                "SELECT REGION, SALES FROM T WHERE REGION > ?"));
+        assertEquals("North", db.getParameter());
+        assertEquals(2, this.eventCount);
+        assertEquals(4, d.getItemCount());
+        assertEquals(new Double(1.0), d.getValue("West"));
+    }
+
+}
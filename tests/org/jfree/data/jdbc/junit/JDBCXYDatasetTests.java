@@ -0,0 +1,257 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ *
+ * -----------------------
+ * JDBCXYDatasetTests.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.jdbc.junit;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.jdbc.JDBCDatasetUpdate;
+import org.jfree.data.jdbc.JDBCXYDataset;
+
+/**
+ * Tests for the {@link JDBCXYDataset} class.
+ */
+public class JDBCXYDatasetTests extends TestCase
+        implements DatasetChangeListener {
+
+    /** The number of events received. */
+    private int eventCount;
+
+    /**
+     * Counts the events received.
+     *
+     * @param event  the event.
+     */
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.eventCount++;
+    }
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(JDBCXYDatasetTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public JDBCXYDatasetTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a table with an x-column and two y-columns.
+     *
+     * @return The table.
+     */
+    private StubDatabase createDatabase() {
+        StubDatabase db = new StubDatabase(new String[] {"X", "A", "B"},
+                new int[] {Types.DOUBLE, Types.INTEGER, Types.DOUBLE});
+        db.addRow(new Object[] {new Double(1.0), new Integer(5),
+                new Double(-1.5)});
+        db.addRow(new Object[] {new Double(2.0), null, new Double(7.0)});
+        return db;
+    }
+
+    /**
+     * Some checks for the executeQuery() method.
+     */
+    public void testExecuteQuery() throws SQLException {
+        StubDatabase db = createDatabase();
+        JDBCXYDataset d = new JDBCXYDataset(db.getConnection());
+        d.setFetchSize(500);
+        d.addChangeListener(this);
+        d.executeQuery("SELECT X, A, B FROM T");
+        assertEquals(500, db.getFetchSize());
+        assertEquals(1, this.eventCount);
+        assertEquals(2, d.getSeriesCount());
+        assertEquals("B", d.getSeriesKey(1));
+        assertEquals(2, d.getItemCount());
+        assertEquals(new Double(2.0), d.getX(0, 1));
+        assertEquals(5.0, d.getYValue(0, 0), 0.0);
+        assertNull(d.getY(0, 1));
+        assertTrue(Double.isNaN(d.getYValue(0, 1)));
+        assertEquals(new Range(-1.5, 7.0), d.getRangeBounds(false));
+        assertEquals(new Double(2.0), d.getLastKey());
+        assertFalse(d.isTimeSeries());
+    }
+
+    /**
+     * A query that returns no rows gives a single row of zeros, as before.
+     */
+    public void testEmptyResult() throws SQLException {
+        StubDatabase db = new StubDatabase(new String[] {"X", "Y"},
+                new int[] {Types.DOUBLE, Types.DOUBLE});
+        JDBCXYDataset d = new JDBCXYDataset(db.getConnection());
+        d.executeQuery("SELECT X, Y FROM T");
+        assertEquals(1, d.getItemCount());
+        assertEquals(0.0, d.getYValue(0, 0), 0.0);
+        assertNull(d.getLastKey());
+        try {
+            d.executeIncrementalQuery("SELECT X, Y FROM T WHERE X > ?");
+            fail("Should have thrown an SQLException.");
+        }
+        catch (SQLException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Some checks for the executeIncrementalQuery() method.
+     */
+    public void testExecuteIncrementalQuery() throws SQLException {
+        StubDatabase db = createDatabase();
+        JDBCXYDataset d = new JDBCXYDataset(db.getConnection(),
+                "SELECT X, A, B FROM T");
+        d.addChangeListener(this);
+        db.addRow(new Object[] {new Double(3.0), new Integer(-9),
+                new Double(1.0)});
+        db.addRow(new Object[] {new Double(4.0), new Integer(2),
+                new Double(12.0)});
+        int rowsRead = db.getRowsRead();
+        int count = d.executeIncrementalQuery(
+                "SELECT X, A, B FROM T WHERE X > ? ORDER BY X");
+        assertEquals(2, count);
+        assertEquals(2, db.getRowsRead() - rowsRead);
+        assertEquals(new Double(2.0), db.getParameter());
+        assertEquals(1, this.eventCount);
+        assertEquals(4, d.getItemCount());
+        assertEquals(12.0, d.getYValue(1, 3), 0.0);
+        assertEquals(new Range(-9.0, 12.0), d.getRangeBounds(false));
+
+        // nothing new, no event
+        count = d.executeIncrementalQuery(
+                "SELECT X, A, B FROM T WHERE X > ? ORDER BY X");
+        assertEquals(0, count);
+        assertEquals(new Double(4.0), db.getParameter());
+        assertEquals(1, this.eventCount);
+    }
+
+    /**
+     * Checks for a time series, where the key is passed as a timestamp.
+     */
+    public void testTimeSeries() throws SQLException {
+        StubDatabase db = new StubDatabase(new String[] {"T", "Y"},
+                new int[] {Types.TIMESTAMP, Types.DOUBLE});
+        db.addRow(new Object[] {new Timestamp(1000L), new Double(1.0)});
+        JDBCXYDataset d = new JDBCXYDataset(db.getConnection(),
+                "SELECT T, Y FROM T");
+        assertTrue(d.isTimeSeries());
+        assertEquals(new Long(1000L), d.getX(0, 0));
+        db.addRow(new Object[] {new Timestamp(2000L), new Double(2.0)});
+        assertEquals(1, d.executeIncrementalQuery(
+                "SELECT T, Y FROM T WHERE T > ?"));
+        assertEquals(new Timestamp(1000L), db.getParameter());
+        assertEquals(2000.0, d.getXValue(0, 1), 0.0);
+    }
+
+    /**
+     * BIGINT and DECIMAL values are returned as the driver's objects, without
+     * losing precision.
+     */
+    public void testExactValues() throws SQLException {
+        StubDatabase db = new StubDatabase(new String[] {"X", "A", "B"},
+                new int[] {Types.BIGINT, Types.DECIMAL, Types.DOUBLE});
+        Long x1 = new Long(9007199254740993L);
+        BigDecimal a1 = new BigDecimal("0.10000000000000000001");
+        db.addRow(new Object[] {x1, a1, new Double(1.5)});
+        JDBCXYDataset d = new JDBCXYDataset(db.getConnection(),
+                "SELECT X, A, B FROM T");
+        assertSame(x1, d.getX(0, 0));
+        assertSame(a1, d.getY(0, 0));
+        assertEquals(new Double(1.5), d.getY(1, 0));
+        assertEquals(0.1, d.getYValue(0, 0), 0.0);
+
+        // appended rows keep their objects too, and nulls stay null
+        Long x2 = new Long(9007199254740995L);
+        db.addRow(new Object[] {x2, null, new Double(2.5)});
+        assertEquals(1, d.executeIncrementalQuery(
+                "SELECT X, A, B FROM T WHERE X > ? ORDER BY X"));
+        assertSame(x2, d.getX(0, 1));
+        assertNull(d.getY(0, 1));
+        assertSame(a1, d.getY(0, 0));
+    }
+
+    /**
+     * The readIncrementalQuery() method doesn't change the dataset until
+     * the update is applied.
+     */
+    public void testReadIncrementalQuery() throws SQLException {
+        StubDatabase db = createDatabase();
+        JDBCXYDataset d = new JDBCXYDataset(db.getConnection(),
+                "SELECT X, A, B FROM T");
+        d.addChangeListener(this);
+        db.addRow(new Object[] {new Double(3.0), new Integer(-9),
+                new Double(1.0)});
+        JDBCDatasetUpdate update = d.readIncrementalQuery(
+                "SELECT X, A, B FROM T WHERE X > ? ORDER BY X");
+        assertEquals(2, d.getItemCount());
+        assertEquals(new Double(2.0), d.getLastKey());
+        assertEquals(0, this.eventCount);
+        assertEquals(1, update.apply());
+        assertEquals(3, d.getItemCount());
+        assertEquals(new Double(3.0), d.getLastKey());
+        assertEquals(-9.0, d.getYValue(0, 2), 0.0);
+        assertEquals(1, this.eventCount);
+
+        // a full query replaces the rows when it is applied
+        update = d.readQuery("SELECT X, A, B FROM T");
+        assertEquals(3, d.getItemCount());
+        assertEquals(-1, update.apply());
+        assertEquals(2, this.eventCount);
+    }
+
+}
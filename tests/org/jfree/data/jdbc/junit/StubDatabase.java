@@ -0,0 +1,305 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ *
+ * -----------------
+ * StubDatabase.java
+ * -----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.jdbc.junit;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * A single-table, in-memory stand-in for a database, used to test the JDBC
+ * datasets.  Every query returns all the rows of the table, except that
+ * prepared statements return only the rows where the first column is
+ * greater than the (single) parameter.
+ */
+public class StubDatabase {
+
+    /** The column names. */
+    private String[] columnNames;
+
+    /** The column types (see <code>java.sql.Types</code>). */
+    private int[] columnTypes;
+
+    /** The rows (each an <code>Object[]</code>). */
+    private List rows;
+
+    /** The fetch size of the last statement. */
+    private int fetchSize;
+
+    /** The number of queries executed. */
+    private int queryCount;
+
+    /** The number of rows read from result sets. */
+    private int rowsRead;
+
+    /** The parameter of the last prepared statement. */
+    private Object parameter;
+
+    /**
+     * Creates a new table.
+     *
+     * @param columnNames  the column names.
+     * @param columnTypes  the column types.
+     */
+    public StubDatabase(String[] columnNames, int[] columnTypes) {
+        this.columnNames = columnNames;
+        this.columnTypes = columnTypes;
+        this.rows = new ArrayList();
+    }
+
+    /**
+     * Adds a row to the table.
+     *
+     * @param row  the values.
+     */
+    public synchronized void addRow(Object[] row) {
+        this.rows.add(row);
+    }
+
+    /**
+     * Returns the fetch size of the last statement.
+     *
+     * @return The fetch size.
+     */
+    public int getFetchSize() {
+        return this.fetchSize;
+    }
+
+    /**
+     * Returns the number of queries executed.
+     *
+     * @return The count.
+     */
+    public synchronized int getQueryCount() {
+        return this.queryCount;
+    }
+
+    /**
+     * Returns the number of rows read from result sets.
+     *
+     * @return The count.
+     */
+    public int getRowsRead() {
+        return this.rowsRead;
+    }
+
+    /**
+     * Returns the parameter of the last prepared statement.
+     *
+     * @return The parameter.
+     */
+    public Object getParameter() {
+        return this.parameter;
+    }
+
+    /**
+     * Returns a connection to the database.
+     *
+     * @return The connection.
+     */
+    public Connection getConnection() {
+        return (Connection) create(Connection.class, new Handler());
+    }
+
+    /**
+     * Creates a proxy.
+     *
+     * @param c  the interface.
+     * @param handler  the handler.
+     *
+     * @return The proxy.
+     */
+    private static Object create(Class c, InvocationHandler handler) {
+        return Proxy.newProxyInstance(StubDatabase.class.getClassLoader(),
+                new Class[] {c}, handler);
+    }
+
+    /**
+     * Compares a value from the first column with a parameter.
+     *
+     * @param value  the value.
+     * @param param  the parameter.
+     *
+     * @return A negative, zero or positive value.
+     */
+    private static int compare(Object value, Object param) {
+        if (param instanceof Date) {
+            long t = ((Date) value).getTime();
+            long p = ((Date) param).getTime();
+            return (t < p ? -1 : (t == p ? 0 : 1));
+        }
+        if (param instanceof Number) {
+            double v = ((Number) value).doubleValue();
+            double p = ((Number) param).doubleValue();
+            return (v < p ? -1 : (v == p ? 0 : 1));
+        }
+        return ((String) value).compareTo((String) param);
+    }
+
+    /**
+     * Implements the connection, statement, result set and meta data
+     * interfaces.
+     */
+    private class Handler implements InvocationHandler {
+
+        /** Is this a prepared statement? */
+        private boolean prepared;
+
+        /** The rows of the result set. */
+        private List result;
+
+        /** The current row. */
+        private int cursor = -1;
+
+        /** Was the last value read null? */
+        private boolean wasNull;
+
+        /**
+         * Handles a method call.
+         *
+         * @param proxy  the proxy.
+         * @param method  the method.
+         * @param args  the arguments.
+         *
+         * @return The result.
+         */
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            String name = method.getName();
+            if (name.equals("createStatement")) {
+                return create(Statement.class, new Handler());
+            }
+            if (name.equals("prepareStatement")) {
+                Handler h = new Handler();
+                h.prepared = true;
+                return create(PreparedStatement.class, h);
+            }
+            if (name.equals("setFetchSize")) {
+                StubDatabase.this.fetchSize = ((Integer) args[0]).intValue();
+                return null;
+            }
+            if (name.equals("setTimestamp") || name.equals("setDouble")
+                    || name.equals("setString")) {
+                StubDatabase.this.parameter = args[1];
+                return null;
+            }
+            if (name.equals("executeQuery")) {
+                Handler h = new Handler();
+                h.result = new ArrayList();
+                synchronized (StubDatabase.this) {
+                    StubDatabase.this.queryCount++;
+                    for (int i = 0; i < StubDatabase.this.rows.size(); i++) {
+                        Object[] row = (Object[]) StubDatabase.this.rows.get(
+                                i);
+                        if (!this.prepared || compare(row[0],
+                                StubDatabase.this.parameter) > 0) {
+                            h.result.add(row);
+                        }
+                    }
+                }
+                return create(ResultSet.class, h);
+            }
+            if (name.equals("next")) {
+                this.cursor++;
+                boolean more = this.cursor < this.result.size();
+                if (more) {
+                    StubDatabase.this.rowsRead++;
+                }
+                return Boolean.valueOf(more);
+            }
+            if (name.equals("getMetaData")) {
+                return create(ResultSetMetaData.class, new Handler());
+            }
+            if (name.equals("getColumnCount")) {
+                return new Integer(StubDatabase.this.columnNames.length);
+            }
+            int column = (args != null && args.length == 1
+                    && args[0] instanceof Integer
+                    ? ((Integer) args[0]).intValue() - 1 : -1);
+            if (name.equals("getColumnType")) {
+                return new Integer(StubDatabase.this.columnTypes[column]);
+            }
+            if (name.equals("getColumnName") || name.equals("getColumnLabel")
+                    || name.equals("getColumnClassName")) {
+                return StubDatabase.this.columnNames[column];
+            }
+            if (name.startsWith("get") && column >= 0) {
+                Object value = ((Object[]) this.result.get(
+                        this.cursor))[column];
+                this.wasNull = (value == null);
+                if (name.equals("getDouble")) {
+                    return new Double(value == null ? 0.0
+                            : ((Number) value).doubleValue());
+                }
+                if (name.equals("getBoolean")) {
+                    return Boolean.valueOf(Boolean.TRUE.equals(value));
+                }
+                if (name.equals("getString")) {
+                    return (value == null ? null : value.toString());
+                }
+                return value;
+            }
+            if (name.equals("wasNull")) {
+                return Boolean.valueOf(this.wasNull);
+            }
+            if (name.equals("close")) {
+                return null;
+            }
+            if (name.equals("hashCode")) {
+                return new Integer(System.identityHashCode(proxy));
+            }
+            if (name.equals("equals")) {
+                return Boolean.valueOf(proxy == args[0]);
+            }
+            throw new UnsupportedOperationException(name);
+        }
+
+    }
+
+}
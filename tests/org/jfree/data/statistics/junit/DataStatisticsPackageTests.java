@@ -73,6 +73,7 @@ public class DataStatisticsPackageTests extends TestCase {
         suite.addTestSuite(HistogramDatasetTests.class);
         suite.addTestSuite(MeanAndStandardDeviationTests.class);
         suite.addTestSuite(RegressionTests.class);
+        suite.addTestSuite(RollingStatisticTests.class);
         suite.addTestSuite(SimpleHistogramBinTests.class);
         suite.addTestSuite(SimpleHistogramDatasetTests.class);
         suite.addTestSuite(StatisticsTests.class);
@@ -0,0 +1,319 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * --------------------------
+ * RollingStatisticTests.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.statistics.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.statistics.CumulativeSum;
+import org.jfree.data.statistics.ExponentialMovingAverage;
+import org.jfree.data.statistics.RollingMaximum;
+import org.jfree.data.statistics.RollingMinimum;
+import org.jfree.data.statistics.RollingStandardDeviation;
+import org.jfree.data.statistics.RollingStatistic;
+import org.jfree.data.statistics.SimpleMovingAverage;
+import org.jfree.data.statistics.WeightedMovingAverage;
+
+/**
+ * Tests for the {@link RollingStatistic} subclasses.
+ */
+public class RollingStatisticTests extends TestCase {
+
+    /** The code for the mean in the brute force calculation. */
+    private static final int MEAN = 0;
+
+    /** The code for the weighted mean. */
+    private static final int WEIGHTED_MEAN = 1;
+
+    /** The code for the minimum. */
+    private static final int MINIMUM = 2;
+
+    /** The code for the maximum. */
+    private static final int MAXIMUM = 3;
+
+    /** The code for the standard deviation. */
+    private static final int STANDARD_DEVIATION = 4;
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(RollingStatisticTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public RollingStatisticTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a sequence of random values, with some missing values.
+     *
+     * @param count  the number of values.
+     *
+     * @return The values.
+     */
+    private static double[] createValues(int count) {
+        Random random = new Random(42L);
+        double[] values = new double[count];
+        for (int i = 0; i < count; i++) {
+            if (random.nextInt(10) == 0) {
+                values[i] = Double.NaN;
+            }
+            else {
+                values[i] = 1000.0 + random.nextGaussian() * 50.0;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Calculates a windowed statistic directly from the values.
+     *
+     * @param values  the values.
+     * @param end  the index of the last value in the window.
+     * @param window  the window size.
+     * @param type  the statistic.
+     *
+     * @return The statistic.
+     */
+    private static double calculate(double[] values, int end, int window,
+            int type) {
+        int start = Math.max(0, end - window + 1);
+        double sum = 0.0;
+        double weights = 0.0;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        int n = 0;
+        for (int i = start; i <= end; i++) {
+            double v = values[i];
+            if (!Double.isNaN(v)) {
+                double weight = (type == WEIGHTED_MEAN ? i - start + 1 : 1);
+                sum += weight * v;
+                weights += weight;
+                min = Math.min(min, v);
+                max = Math.max(max, v);
+                n++;
+            }
+        }
+        if (n == 0 || (type == STANDARD_DEVIATION && n < 2)) {
+            return Double.NaN;
+        }
+        if (type == MINIMUM) {
+            return min;
+        }
+        if (type == MAXIMUM) {
+            return max;
+        }
+        if (type == STANDARD_DEVIATION) {
+            double mean = sum / n;
+            double squares = 0.0;
+            for (int i = start; i <= end; i++) {
+                if (!Double.isNaN(values[i])) {
+                    squares += (values[i] - mean) * (values[i] - mean);
+                }
+            }
+            return Math.sqrt(squares / (n - 1));
+        }
+        return sum / weights;
+    }
+
+    /**
+     * Checks a statistic against the brute force calculation.
+     *
+     * @param statistic  the statistic.
+     * @param type  the statistic type.
+     */
+    private void check(RollingStatistic statistic, int type) {
+        double[] values = createValues(2000);
+        int window = statistic.getWindowSize();
+        // run through the values twice, to check that reset() starts a new
+        // sequence...
+        for (int pass = 0; pass < 2; pass++) {
+            for (int i = 0; i < values.length; i++) {
+                double expected = calculate(values, i, window, type);
+                double actual = statistic.add(values[i]);
+                if (Double.isNaN(expected)) {
+                    assertTrue(Double.isNaN(actual));
+                }
+                else {
+                    assertEquals(expected, actual, 1.0E-9);
+                }
+            }
+            statistic.reset();
+        }
+    }
+
+    /**
+     * Some checks for the {@link SimpleMovingAverage} class.
+     */
+    public void testSimpleMovingAverage() {
+        check(new SimpleMovingAverage(1), MEAN);
+        check(new SimpleMovingAverage(7), MEAN);
+        check(new SimpleMovingAverage(100), MEAN);
+    }
+
+    /**
+     * Some checks for the {@link WeightedMovingAverage} class.
+     */
+    public void testWeightedMovingAverage() {
+        check(new WeightedMovingAverage(1), WEIGHTED_MEAN);
+        check(new WeightedMovingAverage(7), WEIGHTED_MEAN);
+        check(new WeightedMovingAverage(100), WEIGHTED_MEAN);
+        WeightedMovingAverage wma = new WeightedMovingAverage(3);
+        wma.add(1.0);
+        wma.add(2.0);
+        assertEquals(14.0 / 6.0, wma.add(3.0), 1.0E-12);
+        assertEquals(20.0 / 6.0, wma.add(4.0), 1.0E-12);
+    }
+
+    /**
+     * Some checks for the {@link RollingMinimum} and {@link RollingMaximum}
+     * classes.
+     */
+    public void testMinimumAndMaximum() {
+        check(new RollingMinimum(1), MINIMUM);
+        check(new RollingMinimum(5), MINIMUM);
+        check(new RollingMinimum(64), MINIMUM);
+        check(new RollingMaximum(1), MAXIMUM);
+        check(new RollingMaximum(5), MAXIMUM);
+        check(new RollingMaximum(64), MAXIMUM);
+    }
+
+    /**
+     * Some checks for the {@link RollingStandardDeviation} class.
+     */
+    public void testStandardDeviation() {
+        check(new RollingStandardDeviation(2), STANDARD_DEVIATION);
+        check(new RollingStandardDeviation(10), STANDARD_DEVIATION);
+        check(new RollingStandardDeviation(250), STANDARD_DEVIATION);
+        RollingStandardDeviation sd = new RollingStandardDeviation(3);
+        assertTrue(Double.isNaN(sd.add(1.0)));
+    }
+
+    /**
+     * Some checks for the {@link ExponentialMovingAverage} class.
+     */
+    public void testExponentialMovingAverage() {
+        ExponentialMovingAverage ema = new ExponentialMovingAverage(0.5);
+        assertEquals(0, ema.getWindowSize());
+        assertTrue(Double.isNaN(ema.add(Double.NaN)));
+        assertEquals(10.0, ema.add(10.0), 0.0);
+        assertEquals(15.0, ema.add(20.0), 0.0);
+        assertEquals(15.0, ema.add(Double.NaN), 0.0);
+        assertEquals(7.5, ema.add(0.0), 0.0);
+        assertEquals(2.0 / 11.0,
+                ExponentialMovingAverage.forPeriodCount(10).getAlpha(), 0.0);
+        boolean pass = false;
+        try {
+            new ExponentialMovingAverage(0.0);
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * Some checks for the {@link CumulativeSum} class.
+     */
+    public void testCumulativeSum() {
+        CumulativeSum sum = new CumulativeSum();
+        assertTrue(Double.isNaN(sum.add(Double.NaN)));
+        assertEquals(1.0, sum.add(1.0), 0.0);
+        assertEquals(1.0, sum.add(Double.NaN), 0.0);
+        assertEquals(-1.5, sum.add(-2.5), 0.0);
+        sum.reset();
+        assertEquals(3.0, sum.add(3.0), 0.0);
+    }
+
+    /**
+     * A clone should have its own copy of the window.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    public void testCloning() throws CloneNotSupportedException {
+        RollingMaximum m1 = new RollingMaximum(3);
+        m1.add(5.0);
+        m1.add(1.0);
+        RollingMaximum m2 = (RollingMaximum) m1.clone();
+        assertEquals(5.0, m1.add(2.0), 0.0);
+        assertEquals(5.0, m2.add(0.0), 0.0);
+        assertEquals(2.0, m1.add(0.0), 0.0);
+        assertEquals(9.0, m2.add(9.0), 0.0);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check that it carries on from
+     * the same state.
+     *
+     * @throws Exception if there is a problem.
+     */
+    public void testSerialization() throws Exception {
+        SimpleMovingAverage a1 = new SimpleMovingAverage(2);
+        a1.add(4.0);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(a1);
+        out.close();
+        ObjectInput in = new ObjectInputStream(
+                new ByteArrayInputStream(buffer.toByteArray()));
+        SimpleMovingAverage a2 = (SimpleMovingAverage) in.readObject();
+        in.close();
+        assertEquals(5.0, a2.add(6.0), 0.0);
+    }
+
+}
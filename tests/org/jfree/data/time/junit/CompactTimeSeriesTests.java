@@ -0,0 +1,411 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * CompactTimeSeriesTests.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.time.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.util.TimeZone;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.general.SeriesException;
+import org.jfree.data.time.CompactTimeSeries;
+import org.jfree.data.time.Day;
+import org.jfree.data.time.FixedMillisecond;
+import org.jfree.data.time.Millisecond;
+import org.jfree.data.time.Month;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimePeriodAnchor;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.time.TimeSeriesDataItem;
+import org.jfree.data.time.Year;
+
+/**
+ * Tests for the {@link CompactTimeSeries} class.
+ */
+public class CompactTimeSeriesTests extends TestCase {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(CompactTimeSeriesTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public CompactTimeSeriesTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    public void testEquals() {
+        CompactTimeSeries s1 = new CompactTimeSeries("S", Year.class);
+        CompactTimeSeries s2 = new CompactTimeSeries("S", Year.class);
+        assertTrue(s1.equals(s2));
+
+        s1.add(new Year(2001), 1.0);
+        assertFalse(s1.equals(s2));
+        s2.add(new Year(2001), 1.0);
+        assertTrue(s1.equals(s2));
+
+        s1.setMaximumItemAge(5);
+        assertFalse(s1.equals(s2));
+        s2.setMaximumItemAge(5);
+        assertTrue(s1.equals(s2));
+
+        s1.setRangeDescription("R");
+        assertFalse(s1.equals(s2));
+        s2.setRangeDescription("R");
+        assertTrue(s1.equals(s2));
+
+        CompactTimeSeries s3 = new CompactTimeSeries("S", Year.class,
+                TimeZone.getTimeZone("Pacific/Auckland"));
+        CompactTimeSeries s4 = new CompactTimeSeries("S", Year.class,
+                TimeZone.getTimeZone("Europe/Paris"));
+        assertFalse(s3.equals(s4));
+
+        // not equal to a regular series
+        TimeSeries s5 = new TimeSeries("S", Year.class);
+        assertFalse(s2.equals(s5));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    public void testSerialization() {
+        CompactTimeSeries s1 = new CompactTimeSeries("S", Day.class);
+        s1.add(new Day(1, 1, 2008), 1.0);
+        s1.add(new Day(3, 1, 2008), null);
+        CompactTimeSeries s2 = null;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            ObjectOutput out = new ObjectOutputStream(buffer);
+            out.writeObject(s1);
+            out.close();
+
+            ObjectInput in = new ObjectInputStream(
+                    new ByteArrayInputStream(buffer.toByteArray()));
+            s2 = (CompactTimeSeries) in.readObject();
+            in.close();
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+        assertEquals(s1, s2);
+    }
+
+    /**
+     * Confirm that cloning works and that the clone is independent.
+     */
+    public void testCloning() throws CloneNotSupportedException {
+        CompactTimeSeries s1 = new CompactTimeSeries("S", Year.class);
+        s1.add(new Year(2007), 1.0);
+        CompactTimeSeries s2 = (CompactTimeSeries) s1.clone();
+        assertTrue(s1 != s2);
+        assertEquals(s1, s2);
+        s2.add(new Year(2008), 2.0);
+        assertFalse(s1.equals(s2));
+        assertEquals(1, s1.getItemCount());
+    }
+
+    /**
+     * Items are kept in order, and the periods are recreated on demand.
+     */
+    public void testAdd() {
+        CompactTimeSeries s1 = new CompactTimeSeries("S", "Time", "Value",
+                Month.class, TimeZone.getDefault(), 1);
+        assertTrue(s1.getMaximumItemCount() == Integer.MAX_VALUE);
+        s1.add(new Month(3, 2008), 3.0);
+        s1.add(new Month(1, 2008), 1.0);
+        s1.add(new TimeSeriesDataItem(new Month(2, 2008), 2.0));
+        s1.add(new Month(4, 2008), null);
+        assertEquals(4, s1.getItemCount());
+        assertEquals(new Month(1, 2008), s1.getTimePeriod(0));
+        assertEquals(new Month(2, 2008), s1.getTimePeriod(1));
+        assertEquals(new Month(3, 2008), s1.getTimePeriod(2));
+        assertEquals(3.0, s1.getDoubleValue(2), EPSILON);
+        assertNull(s1.getValue(3));
+        assertEquals(new Month(5, 2008), s1.getNextTimePeriod());
+        assertEquals(new TimeSeriesDataItem(new Month(2, 2008), 2.0),
+                s1.getDataItem(1));
+
+        try {
+            s1.add(new Month(2, 2008), 9.0);
+            fail("Expected a SeriesException for a duplicate period.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        try {
+            s1.add(new Day(2, 2, 2008), 9.0);
+            fail("Expected a SeriesException for the wrong period class.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Some checks for the getIndex() method.
+     */
+    public void testGetIndex() {
+        CompactTimeSeries s1 = new CompactTimeSeries("S", Year.class);
+        s1.add(new Year(2001), 1.0);
+        s1.add(new Year(2003), 3.0);
+        assertEquals(0, s1.getIndex(new Year(2001)));
+        assertEquals(1, s1.getIndex(new Year(2003)));
+        assertEquals(-2, s1.getIndex(new Year(2002)));
+        assertEquals(-3, s1.getIndex(new Year(2004)));
+        assertEquals(-1, s1.getIndex(new Day(1, 1, 2001)));
+        assertEquals(new Double(3.0), s1.getValue(new Year(2003)));
+        assertNull(s1.getValue(new Year(2002)));
+    }
+
+    /**
+     * A time period class that can't be created again from a millisecond is
+     * rejected by the constructor.
+     */
+    public void testUnsupportedTimePeriodClass() {
+        new CompactTimeSeries("S", FixedMillisecond.class);
+        new CompactTimeSeries("S", Millisecond.class);
+        boolean pass = false;
+        try {
+            new CompactTimeSeries("S", RegularTimePeriod.class);
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+        pass = false;
+        try {
+            new CompactTimeSeries("S", String.class);
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * Some checks for the addOrUpdate() and update() methods.
+     */
+    public void testAddOrUpdate() {
+        CompactTimeSeries s1 = new CompactTimeSeries("S", Year.class);
+        assertNull(s1.addOrUpdate(new Year(2001), 1.0));
+        assertNull(s1.addOrUpdate(new Year(2000), 0.5));
+        TimeSeriesDataItem old = s1.addOrUpdate(new Year(2001), 2.0);
+        assertEquals(new TimeSeriesDataItem(new Year(2001), 1.0), old);
+        assertEquals(2, s1.getItemCount());
+        assertEquals(2.0, s1.getDoubleValue(1), EPSILON);
+
+        s1.update(new Year(2000), new Double(7.0));
+        assertEquals(7.0, s1.getDoubleValue(0), EPSILON);
+        s1.update(1, null);
+        assertNull(s1.getValue(1));
+        try {
+            s1.update(new Year(1999), new Double(1.0));
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Check the maximum item count and age.
+     */
+    public void testMaximumItemCountAndAge() {
+        CompactTimeSeries s1 = new CompactTimeSeries("S", Year.class);
+        for (int i = 2000; i < 2010; i++) {
+            s1.add(new Year(i), i);
+        }
+        s1.setMaximumItemCount(5);
+        assertEquals(5, s1.getItemCount());
+        assertEquals(new Year(2005), s1.getTimePeriod(0));
+        s1.add(new Year(2010), 2010.0);
+        assertEquals(5, s1.getItemCount());
+        assertEquals(new Year(2006), s1.getTimePeriod(0));
+
+        s1.setMaximumItemAge(2);
+        assertEquals(3, s1.getItemCount());
+        assertEquals(new Year(2008), s1.getTimePeriod(0));
+
+        CompactTimeSeries s2 = new CompactTimeSeries("S2",
+                FixedMillisecond.class);
+        s2.setMaximumItemAge(100);
+        s2.add(new FixedMillisecond(1000L), 1.0);
+        s2.add(new FixedMillisecond(1050L), 2.0);
+        assertEquals(2, s2.getItemCount());
+        s2.removeAgedItems(1120L, true);
+        assertEquals(1, s2.getItemCount());
+        assertEquals(new FixedMillisecond(1050L), s2.getTimePeriod(0));
+    }
+
+    /**
+     * Some checks for the delete() and createCopy() methods.
+     */
+    public void testDeleteAndCopy() throws CloneNotSupportedException {
+        CompactTimeSeries s1 = new CompactTimeSeries("S", Year.class);
+        for (int i = 2000; i < 2006; i++) {
+            s1.add(new Year(i), i);
+        }
+        s1.delete(new Year(2001));
+        assertEquals(5, s1.getItemCount());
+        s1.delete(0, 1);
+        assertEquals(new Year(2003), s1.getTimePeriod(0));
+
+        TimeSeries copy = s1.createCopy(1, 2);
+        assertEquals(2, copy.getItemCount());
+        assertEquals(new Year(2004), copy.getTimePeriod(0));
+
+        copy = s1.createCopy(new Year(1990), new Year(2004));
+        assertEquals(2, copy.getItemCount());
+        copy = s1.createCopy(new Year(2010), new Year(2020));
+        assertEquals(0, copy.getItemCount());
+        copy.add(new Year(2011), 1.0);
+        assertEquals(3, s1.getItemCount());
+
+        s1.clear();
+        assertEquals(0, s1.getItemCount());
+    }
+
+    /**
+     * A compact series should give the same values in a collection as a
+     * regular series.
+     */
+    public void testCollection() {
+        TimeZone zone = TimeZone.getTimeZone("Europe/London");
+        TimeSeries s1 = new TimeSeries("S1", Day.class);
+        CompactTimeSeries s2 = new CompactTimeSeries("S2", Day.class, zone);
+        RegularTimePeriod d = new Day(1, 1, 2008);
+        for (int i = 0; i < 100; i++) {
+            s1.add(d, i * 1.5);
+            s2.add(d, i * 1.5);
+            d = d.next();
+        }
+        TimeSeriesCollection dataset = new TimeSeriesCollection(zone);
+        dataset.addSeries(s1);
+        dataset.addSeries(s2);
+        TimePeriodAnchor[] anchors = new TimePeriodAnchor[] {
+            TimePeriodAnchor.START, TimePeriodAnchor.MIDDLE,
+            TimePeriodAnchor.END};
+        for (int a = 0; a < anchors.length; a++) {
+            dataset.setXPosition(anchors[a]);
+            for (int i = 0; i < 100; i++) {
+                assertEquals(dataset.getXValue(0, i), dataset.getXValue(1, i),
+                        EPSILON);
+                assertEquals(dataset.getX(0, i), dataset.getX(1, i));
+                assertEquals(dataset.getYValue(0, i), dataset.getYValue(1, i),
+                        EPSILON);
+                assertEquals(dataset.getStartX(0, i), dataset.getStartX(1, i));
+                assertEquals(dataset.getEndX(0, i), dataset.getEndX(1, i));
+            }
+        }
+        dataset.removeSeries(0);
+        TimeSeriesCollection dataset2 = new TimeSeriesCollection(s1, zone);
+        dataset2.setXPosition(TimePeriodAnchor.END);
+        assertEquals(dataset2.getDomainBounds(true),
+                dataset.getDomainBounds(true));
+        assertEquals(dataset2.getDomainBounds(false),
+                dataset.getDomainBounds(false));
+    }
+
+    /**
+     * Checks that the series gives the same results as a regular series when
+     * the circular buffer used for storage wraps around.
+     */
+    public void testSlidingWindow() throws CloneNotSupportedException {
+        TimeSeries s1 = new TimeSeries("S", FixedMillisecond.class);
+        CompactTimeSeries s2 = new CompactTimeSeries("S", null, null,
+                FixedMillisecond.class, TimeZone.getDefault(), 4);
+        s1.setMaximumItemCount(10);
+        s2.setMaximumItemCount(10);
+        s1.setMaximumItemAge(20L);
+        s2.setMaximumItemAge(20L);
+        for (int i = 0; i < 200; i++) {
+            long t = 3L * i;
+            s1.add(new FixedMillisecond(t), i);
+            s2.add(new FixedMillisecond(t), i);
+            if (i % 5 == 2) {
+                s1.add(new FixedMillisecond(t - 1L), -i);
+                s2.add(new FixedMillisecond(t - 1L), -i);
+            }
+            if (i % 11 == 7) {
+                s1.delete(s1.getTimePeriod(3));
+                s2.delete(s2.getTimePeriod(3));
+            }
+            assertEquals(s1.getItemCount(), s2.getItemCount());
+            for (int j = 0; j < s1.getItemCount(); j++) {
+                assertEquals(s1.getTimePeriod(j), s2.getTimePeriod(j));
+                assertEquals(s1.getValue(j), s2.getValue(j));
+                assertEquals(j, s2.getIndex(s1.getTimePeriod(j)));
+            }
+        }
+        s2.removeAgedItems(600L, true);
+        assertTrue(s2.getItemCount() < s1.getItemCount());
+        assertTrue(s2.getFirstMillisecond(0) >= 580L);
+        s1.delete(0, s1.getItemCount() - s2.getItemCount() - 1);
+        TimeSeries c1 = s1.createCopy(1, 3);
+        TimeSeries c2 = s2.createCopy(1, 3);
+        assertEquals(c1.getItemCount(), c2.getItemCount());
+        for (int j = 0; j < c1.getItemCount(); j++) {
+            assertEquals(c1.getDataItem(j), c2.getDataItem(j));
+        }
+    }
+
+}
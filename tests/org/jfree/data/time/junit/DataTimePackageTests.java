@@ -37,6 +37,7 @@
  * 13-Mar-2001 : Version 1 (DG);
  * 23-Aug-2004 : Restructured org.jfree.data package (DG);
  * 18-Jan-2005 : Added main() method (DG);
+ * 18-Oct-2026 : Added CompactTimeSeriesTests (DG);
  *
  */
 
@@ -60,8 +61,10 @@ public class DataTimePackageTests extends TestCase {
      */
     public static Test suite() {
         TestSuite suite = new TestSuite("org.jfree.data.time");
+        suite.addTestSuite(CompactTimeSeriesTests.class);
         suite.addTestSuite(DateRangeTests.class);
         suite.addTestSuite(DayTests.class);
+        suite.addTestSuite(DerivedTimeSeriesTests.class);
         suite.addTestSuite(FixedMillisecondTests.class);
         suite.addTestSuite(HourTests.class);
         suite.addTestSuite(MinuteTests.class);
@@ -0,0 +1,309 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ---------------------------
+ * DerivedTimeSeriesTests.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.time.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.statistics.CumulativeSum;
+import org.jfree.data.statistics.ExponentialMovingAverage;
+import org.jfree.data.statistics.RollingStatistic;
+import org.jfree.data.statistics.SimpleMovingAverage;
+import org.jfree.data.time.CompactTimeSeries;
+import org.jfree.data.time.Day;
+import org.jfree.data.time.DerivedTimeSeries;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+
+/**
+ * Tests for the {@link DerivedTimeSeries} class.
+ */
+public class DerivedTimeSeriesTests extends TestCase
+        implements SeriesChangeListener {
+
+    /** The number of change events received. */
+    private int events;
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DerivedTimeSeriesTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public DerivedTimeSeriesTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Records a change event.
+     *
+     * @param event  the event.
+     */
+    public void seriesChanged(SeriesChangeEvent event) {
+        this.events++;
+    }
+
+    /**
+     * Creates a series of daily values 1, 2, ..., count.
+     *
+     * @param count  the item count.
+     *
+     * @return The series.
+     */
+    private static TimeSeries createSeries(int count) {
+        TimeSeries series = new TimeSeries("S", Day.class);
+        RegularTimePeriod day = new Day(1, 1, 2008);
+        for (int i = 1; i <= count; i++) {
+            series.add(day, i);
+            day = day.next();
+        }
+        return series;
+    }
+
+    /**
+     * Checks that a derived series has the same periods as the source and
+     * the values that a fresh calculation gives.
+     *
+     * @param derived  the derived series.
+     * @param statistic  a new statistic of the same kind.
+     */
+    private static void checkValues(DerivedTimeSeries derived,
+            RollingStatistic statistic) {
+        TimeSeries source = derived.getSource();
+        assertEquals(source.getItemCount(), derived.getItemCount());
+        int window = statistic.getWindowSize();
+        for (int i = 0; i < source.getItemCount(); i++) {
+            assertEquals(source.getTimePeriod(i), derived.getTimePeriod(i));
+        }
+        // only the items with a full window are independent of any items
+        // removed from the start of the source...
+        int start = (window > 0 ? window - 1 : 0);
+        for (int i = start; i < source.getItemCount(); i++) {
+            statistic.reset();
+            double expected = Double.NaN;
+            for (int j = (window > 0 ? i - window + 1 : 0); j <= i; j++) {
+                Number n = source.getValue(j);
+                expected = statistic.add(n != null ? n.doubleValue()
+                        : Double.NaN);
+            }
+            Number actual = derived.getValue(i);
+            if (Double.isNaN(expected)) {
+                assertNull(actual);
+            }
+            else {
+                assertEquals(expected, actual.doubleValue(), 1.0E-9);
+            }
+        }
+    }
+
+    /**
+     * The derived series is calculated when it is created.
+     */
+    public void testCreate() {
+        TimeSeries source = createSeries(10);
+        DerivedTimeSeries ma = new DerivedTimeSeries("MA", source,
+                new SimpleMovingAverage(3));
+        assertEquals(10, ma.getItemCount());
+        assertEquals(1.0, ma.getValue(0).doubleValue(), 0.0);
+        assertEquals(1.5, ma.getValue(1).doubleValue(), 0.0);
+        assertEquals(2.0, ma.getValue(2).doubleValue(), 0.0);
+        assertEquals(9.0, ma.getValue(9).doubleValue(), 0.0);
+        assertEquals(Day.class, ma.getTimePeriodClass());
+        TimeSeriesCollection dataset = new TimeSeriesCollection(source);
+        dataset.addSeries(ma);
+        assertEquals(9.0, dataset.getYValue(1, 9), 0.0);
+    }
+
+    /**
+     * Items appended to the source are added to the derived series, with one
+     * event for each source event.
+     */
+    public void testAppend() {
+        TimeSeries source = createSeries(5);
+        DerivedTimeSeries ma = new DerivedTimeSeries("MA", source,
+                new SimpleMovingAverage(3));
+        ma.addChangeListener(this);
+        source.add(new Day(6, 1, 2008), 6.0);
+        assertEquals(1, this.events);
+        assertEquals(6, ma.getItemCount());
+        assertEquals(5.0, ma.getValue(5).doubleValue(), 0.0);
+        source.add(new Day(7, 1, 2008), null);
+        assertEquals(5.5, ma.getValue(6).doubleValue(), 0.0);
+        checkValues(ma, new SimpleMovingAverage(3));
+    }
+
+    /**
+     * An update to the last item (for example, a bar that is still open)
+     * recalculates the last derived item.
+     */
+    public void testUpdate() {
+        TimeSeries source = createSeries(5);
+        DerivedTimeSeries ma = new DerivedTimeSeries("MA", source,
+                new SimpleMovingAverage(2));
+        DerivedTimeSeries ema = new DerivedTimeSeries("EMA", source,
+                new ExponentialMovingAverage(0.5));
+        source.update(4, new Double(15.0));
+        assertEquals(9.5, ma.getValue(4).doubleValue(), 0.0);
+        checkValues(ma, new SimpleMovingAverage(2));
+        checkValues(ema, new ExponentialMovingAverage(0.5));
+        source.update(1, null);
+        checkValues(ma, new SimpleMovingAverage(2));
+        checkValues(ema, new ExponentialMovingAverage(0.5));
+    }
+
+    /**
+     * Items inserted or deleted in the middle of the source cause the later
+     * items to be recalculated.
+     */
+    public void testInsertAndDelete() {
+        TimeSeries source = new TimeSeries("S", Day.class);
+        source.add(new Day(1, 1, 2008), 1.0);
+        source.add(new Day(3, 1, 2008), 3.0);
+        source.add(new Day(4, 1, 2008), 4.0);
+        DerivedTimeSeries sum = new DerivedTimeSeries("Sum", source,
+                new CumulativeSum());
+        source.add(new Day(2, 1, 2008), 2.0);
+        assertEquals(4, sum.getItemCount());
+        assertEquals(10.0, sum.getValue(3).doubleValue(), 0.0);
+        checkValues(sum, new CumulativeSum());
+        source.delete(new Day(3, 1, 2008));
+        assertEquals(7.0, sum.getValue(2).doubleValue(), 0.0);
+        checkValues(sum, new CumulativeSum());
+        source.delete(2, 2);
+        assertEquals(2, sum.getItemCount());
+    }
+
+    /**
+     * When a source with a maximum item count drops its oldest item, the
+     * derived series drops the same item and keeps the other values.
+     */
+    public void testMaximumItemCount() {
+        TimeSeries source = createSeries(5);
+        source.setMaximumItemCount(5);
+        DerivedTimeSeries sum = new DerivedTimeSeries("Sum", source,
+                new CumulativeSum());
+        DerivedTimeSeries ma = new DerivedTimeSeries("MA", source,
+                new SimpleMovingAverage(3));
+        RegularTimePeriod day = new Day(6, 1, 2008);
+        for (int i = 6; i <= 20; i++) {
+            source.add(day, i);
+            day = day.next();
+        }
+        assertEquals(5, sum.getItemCount());
+        assertEquals(new Day(16, 1, 2008), sum.getTimePeriod(0));
+        // the running total still includes the items that were dropped...
+        assertEquals(210.0, sum.getValue(4).doubleValue(), 0.0);
+        checkValues(ma, new SimpleMovingAverage(3));
+    }
+
+    /**
+     * Clearing the source clears the derived series and its state.
+     */
+    public void testClear() {
+        TimeSeries source = createSeries(5);
+        DerivedTimeSeries sum = new DerivedTimeSeries("Sum", source,
+                new CumulativeSum());
+        source.clear();
+        assertEquals(0, sum.getItemCount());
+        source.add(new Day(1, 1, 2009), 2.0);
+        assertEquals(2.0, sum.getValue(0).doubleValue(), 0.0);
+    }
+
+    /**
+     * The derived series also tracks a {@link CompactTimeSeries}.
+     */
+    public void testCompactSource() {
+        CompactTimeSeries source = new CompactTimeSeries("S", Day.class);
+        source.setMaximumItemCount(50);
+        DerivedTimeSeries ma = new DerivedTimeSeries("MA", source,
+                new SimpleMovingAverage(10));
+        RegularTimePeriod day = new Day(1, 1, 2008);
+        for (int i = 0; i < 200; i++) {
+            source.add(day, Math.sin(i));
+            day = day.next();
+        }
+        checkValues(ma, new SimpleMovingAverage(10));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check that it still tracks the
+     * (restored) source.
+     *
+     * @throws Exception if there is a problem.
+     */
+    public void testSerialization() throws Exception {
+        TimeSeries source = createSeries(5);
+        DerivedTimeSeries s1 = new DerivedTimeSeries("MA", source,
+                new SimpleMovingAverage(3));
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        ObjectOutput out = new ObjectOutputStream(buffer);
+        out.writeObject(s1);
+        out.close();
+        ObjectInput in = new ObjectInputStream(
+                new ByteArrayInputStream(buffer.toByteArray()));
+        DerivedTimeSeries s2 = (DerivedTimeSeries) in.readObject();
+        in.close();
+        assertEquals(s1, s2);
+        s2.getSource().add(new Day(6, 1, 2008), 6.0);
+        assertEquals(6, s2.getItemCount());
+        assertEquals(5, s1.getItemCount());
+    }
+
+}
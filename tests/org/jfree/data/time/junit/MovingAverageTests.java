@@ -36,6 +36,8 @@
  * -------
  * 14-Aug-2003 : Version 1 (DG);
  * 04-Oct-2004 : Eliminated NumberUtils usage (DG);
+ * 18-Oct-2026 : Added tests for the single pass calculations (DG);
+ * 18-Oct-2026 : Added testLargeValue() (DG);
  *
  */
 
@@ -48,6 +50,8 @@ import junit.framework.TestSuite;
 import org.jfree.data.time.Day;
 import org.jfree.data.time.MovingAverage;
 import org.jfree.data.time.TimeSeries;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 import org.jfree.date.MonthConstants;
 
 /**
@@ -103,6 +107,86 @@ public class MovingAverageTests extends TestCase {
         assertEquals(12.5, value, EPSILON);
     }
 
+    /**
+     * A missing value is left out of the averages that include it, and an
+     * average with no values is <code>null</code>.
+     */
+    public void testNullValues() {
+        TimeSeries source = createDailyTimeSeries1();
+        source.update(new Day(18, MonthConstants.AUGUST, 2003), null);
+        TimeSeries maverage = MovingAverage.createMovingAverage(source,
+                "Moving Average", 3, 0);
+        assertEquals(9, maverage.getItemCount());
+        assertEquals(14.1, maverage.getValue(2).doubleValue(), EPSILON);
+        assertEquals(15.3, maverage.getValue(4).doubleValue(), EPSILON);
+        TimeSeries single = MovingAverage.createMovingAverage(source,
+                "Moving Average", 1, 0);
+        assertNull(single.getValue(3));
+    }
+
+    /**
+     * A test for the values calculated from an xy series, with the x-values
+     * in ascending order and unsorted.
+     */
+    public void testXYSeries() {
+        XYSeries s1 = new XYSeries("S1");
+        s1.add(1.0, 2.0);
+        s1.add(2.0, 4.0);
+        s1.add(4.0, 6.0);
+        s1.add(4.5, null);
+        s1.add(5.0, 9.0);
+        XYSeries s2 = new XYSeries("S2", false);
+        s2.add(1.0, 2.0);
+        s2.add(4.0, 6.0);
+        s2.add(2.0, 4.0);
+        XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        dataset.addSeries(s2);
+        XYSeries ma = MovingAverage.createMovingAverage(dataset, 0, "MA",
+                2.5, 0.0);
+        assertEquals(5, ma.getItemCount());
+        assertEquals(3.0, ma.getY(1).doubleValue(), EPSILON);
+        assertEquals(5.0, ma.getY(2).doubleValue(), EPSILON);
+        assertEquals(6.0, ma.getY(3).doubleValue(), EPSILON);
+        assertEquals(7.5, ma.getY(4).doubleValue(), EPSILON);
+        ma = MovingAverage.createMovingAverage(dataset, 1, "MA", 2.5, 0.0);
+        assertEquals(3, ma.getItemCount());
+        assertEquals(2.0, ma.getY(0).doubleValue(), EPSILON);
+        assertEquals(2.0, ma.getX(1).doubleValue(), EPSILON);
+        assertEquals(4.0, ma.getY(1).doubleValue(), EPSILON);
+        assertEquals(6.0, ma.getY(2).doubleValue(), EPSILON);
+    }
+
+    /**
+     * A large value leaving the window does not take the small values that
+     * shared the window with it.
+     */
+    public void testLargeValue() {
+        TimeSeries source = new TimeSeries("S1", Day.class);
+        source.add(new Day(1, MonthConstants.JANUARY, 2008), 1e20);
+        source.add(new Day(2, MonthConstants.JANUARY, 2008), 1.0);
+        source.add(new Day(3, MonthConstants.JANUARY, 2008), 2.0);
+        source.add(new Day(4, MonthConstants.JANUARY, 2008), 3.0);
+        source.add(new Day(5, MonthConstants.JANUARY, 2008), 4.0);
+        source.add(new Day(6, MonthConstants.JANUARY, 2008), -1e20);
+        source.add(new Day(7, MonthConstants.JANUARY, 2008), 0.1);
+        source.add(new Day(8, MonthConstants.JANUARY, 2008), 0.2);
+        source.add(new Day(9, MonthConstants.JANUARY, 2008), 0.3);
+        TimeSeries ma = MovingAverage.createMovingAverage(source, "MA", 3, 0);
+        assertEquals(2.0, ma.getValue(3).doubleValue(), EPSILON);
+        assertEquals(3.0, ma.getValue(4).doubleValue(), EPSILON);
+        assertEquals(0.2, ma.getValue(8).doubleValue(), EPSILON);
+
+        XYSeries s1 = new XYSeries("S1");
+        for (int i = 0; i < source.getItemCount(); i++) {
+            s1.add(i, source.getValue(i));
+        }
+        XYSeries xy = MovingAverage.createMovingAverage(
+                new XYSeriesCollection(s1), 0, "MA", 2.5, 0.0);
+        assertEquals(2.0, xy.getY(3).doubleValue(), EPSILON);
+        assertEquals(3.0, xy.getY(4).doubleValue(), EPSILON);
+        assertEquals(0.2, xy.getY(8).doubleValue(), EPSILON);
+    }
+
     /**
      * Creates a sample series.
      *
@@ -37,6 +37,7 @@
  * 01-May-2003 : Version 1 (DG);
  * 04-Dec-2003 : Added a test for the getSurroundingItems() method (DG);
  * 08-May-2007 : Added testIndexOf() method (DG);
+ * 18-Oct-2026 : Added testGetRangeBounds() (DG);
  *
  */
 
@@ -48,11 +49,16 @@ import java.io.ObjectInput;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.time.CompactTimeSeries;
 import org.jfree.data.time.Day;
 import org.jfree.data.time.RegularTimePeriod;
 import org.jfree.data.time.TimePeriodAnchor;
@@ -308,4 +314,44 @@ public class TimeSeriesCollectionTests extends TestCase {
         assertEquals(0, dataset.indexOf(s2b));
     }
 
+
+    /**
+     * Some checks for the methods in the RangeInfo and XYRangeInfo
+     * interfaces.
+     */
+    public void testGetRangeBounds() {
+        TimeSeriesCollection dataset = new TimeSeriesCollection();
+        assertNull(dataset.getRangeBounds(false));
+        TimeSeries s1 = new TimeSeries("S1", Day.class);
+        TimeSeries s2 = new CompactTimeSeries("S2", Day.class);
+        RegularTimePeriod d = new Day(1, 1, 2008);
+        for (int i = 0; i < 500; i++) {
+            s1.add(d, Math.sin(i / 10.0) * i);
+            s2.add(d, Math.cos(i / 7.0) * i);
+            d = d.next();
+        }
+        dataset.addSeries(s1);
+        dataset.addSeries(s2);
+        assertEquals(DatasetUtilities.iterateRangeBounds(dataset, false),
+                dataset.getRangeBounds(false));
+
+        List keys = new ArrayList();
+        keys.add("S1");
+        keys.add("S2");
+        TimePeriodAnchor[] anchors = new TimePeriodAnchor[] {
+            TimePeriodAnchor.START, TimePeriodAnchor.MIDDLE,
+            TimePeriodAnchor.END};
+        Range xRange = new Range(new Day(3, 2, 2008).getFirstMillisecond(),
+                new Day(17, 8, 2008).getMiddleMillisecond());
+        for (int a = 0; a < anchors.length; a++) {
+            dataset.setXPosition(anchors[a]);
+            assertEquals(DatasetUtilities.iterateToFindRangeBounds(dataset,
+                    keys, xRange, false), dataset.getRangeBounds(keys, xRange,
+                    false));
+        }
+        s1.setMaximumItemCount(20);
+        assertEquals(DatasetUtilities.iterateRangeBounds(dataset, false),
+                dataset.getRangeBounds(false));
+    }
+
 }
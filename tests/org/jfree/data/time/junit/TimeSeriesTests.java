@@ -45,6 +45,7 @@
  * 31-Oct-2007 : New hashCode() test (DG);
  * 21-Nov-2007 : Added testBug1832432() and testClone2() (DG);
  * 10-Jan-2008 : Added testBug1864222() (DG);
+ * 18-Oct-2026 : Added testGetMinMaxY() (DG);
  *
  */
 
@@ -61,6 +62,7 @@ import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
+import org.jfree.data.Range;
 import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.general.SeriesChangeListener;
 import org.jfree.data.general.SeriesException;
@@ -833,4 +835,58 @@ public class TimeSeriesTests extends TestCase implements SeriesChangeListener {
         assertTrue(pass);
     }
 
+
+    /** A small value used for testing equality of doubles. */
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Some checks for the getMinY(), getMaxY() and getValueRange() methods,
+     * as the series is modified.
+     */
+    public void testGetMinMaxY() throws CloneNotSupportedException {
+        TimeSeries s = new TimeSeries("S", Year.class);
+        assertTrue(Double.isNaN(s.getMinY()));
+        s.add(new Year(2001), 5.0);
+        s.add(new Year(2002), null);
+        s.add(new Year(2003), -2.0);
+        assertEquals(-2.0, s.getMinY(), EPSILON);
+        assertEquals(5.0, s.getMaxY(), EPSILON);
+        assertEquals(new Range(-2.0, -2.0), s.getValueRange(1, 2));
+        s.add(new Year(2000), 7.0);
+        assertEquals(7.0, s.getMaxY(), EPSILON);
+        s.update(0, new Double(1.0));
+        assertEquals(5.0, s.getMaxY(), EPSILON);
+        s.addOrUpdate(new Year(2001), 0.0);
+        assertEquals(1.0, s.getMaxY(), EPSILON);
+        s.delete(new Year(2000));
+        assertEquals(0.0, s.getMaxY(), EPSILON);
+        s.setMaximumItemAge(1);
+        s.add(new Year(2004), 3.0);
+        assertEquals(-2.0, s.getMinY(), EPSILON);
+        assertEquals(3.0, s.getMaxY(), EPSILON);
+        TimeSeries s2 = (TimeSeries) s.clone();
+        s.clear();
+        assertTrue(Double.isNaN(s.getMaxY()));
+        assertEquals(3.0, s2.getMaxY(), EPSILON);
+    }
+
+    /**
+     * The index of the values is rebuilt when an item is changed directly
+     * and the series is then notified.
+     */
+    public void testGetMinMaxYAfterItemChange() {
+        TimeSeries s = new TimeSeries("S", Day.class);
+        Day day = new Day(1, 1, 2001);
+        for (int i = 0; i < 200; i++) {
+            s.add(day, i % 10);
+            day = (Day) day.next();
+        }
+        assertEquals(0.0, s.getMinY(), EPSILON);
+        assertEquals(new Range(0.0, 9.0), s.getValueRange(100, 199));
+        s.getDataItem(150).setValue(new Double(-5.0));
+        s.fireSeriesChanged();
+        assertEquals(-5.0, s.getMinY(), EPSILON);
+        assertEquals(new Range(-5.0, 9.0), s.getValueRange(100, 199));
+    }
+
 }
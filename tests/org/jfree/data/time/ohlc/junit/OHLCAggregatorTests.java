@@ -0,0 +1,241 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * ------------------------
+ * OHLCAggregatorTests.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.time.ohlc.junit;
+
+import java.util.TimeZone;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.time.Hour;
+import org.jfree.data.time.Minute;
+import org.jfree.data.time.ohlc.OHLCAggregator;
+import org.jfree.data.time.ohlc.OHLCItem;
+import org.jfree.data.time.ohlc.OHLCSeries;
+import org.jfree.data.time.ohlc.OHLCSeriesCollection;
+
+/**
+ * Tests for the {@link OHLCAggregator} class.
+ */
+public class OHLCAggregatorTests extends TestCase
+        implements SeriesChangeListener {
+
+    /** The number of change events received. */
+    private int events;
+
+    /**
+     * Records a change event.
+     *
+     * @param event  the event.
+     */
+    public void seriesChanged(SeriesChangeEvent event) {
+        this.events++;
+    }
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(OHLCAggregatorTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public OHLCAggregatorTests(String name) {
+        super(name);
+    }
+
+    /** One minute in milliseconds. */
+    private static final long MINUTE = 60L * 1000L;
+
+    /**
+     * Checks the values of an item in a series.
+     *
+     * @param s  the series.
+     * @param index  the item index.
+     * @param open  the expected open value.
+     * @param high  the expected high value.
+     * @param low  the expected low value.
+     * @param close  the expected close value.
+     * @param volume  the expected volume.
+     */
+    private void checkItem(OHLCSeries s, int index, double open, double high,
+            double low, double close, double volume) {
+        OHLCItem item = (OHLCItem) s.getDataItem(index);
+        assertEquals(open, item.getOpenValue(), 0.0);
+        assertEquals(high, item.getHighValue(), 0.0);
+        assertEquals(low, item.getLowValue(), 0.0);
+        assertEquals(close, item.getCloseValue(), 0.0);
+        assertEquals(volume, item.getVolumeValue(), 0.0);
+    }
+
+    /**
+     * Ticks within a bar are written at the start of the next bar, with a
+     * single event for each new bar.
+     */
+    public void testAddTick() {
+        TimeZone zone = TimeZone.getTimeZone("GMT");
+        OHLCSeries s = new OHLCSeries("S1");
+        s.addChangeListener(this);
+        OHLCAggregator a = new OHLCAggregator(zone);
+        a.addSeries(s, Minute.class);
+
+        a.addTick(0L, 10.0, 1.0);
+        assertEquals(1, s.getItemCount());
+        assertEquals(1, this.events);
+        checkItem(s, 0, 10.0, 10.0, 10.0, 10.0, 1.0);
+
+        a.addTick(1000L, 12.0, 2.0);
+        a.addTick(2000L, 9.0, 3.0);
+        a.addTick(MINUTE - 1, 11.0, 4.0);
+        assertEquals(1, this.events);
+        checkItem(s, 0, 10.0, 10.0, 10.0, 10.0, 1.0);
+
+        a.addTick(MINUTE, 11.5, 5.0);
+        assertEquals(2, s.getItemCount());
+        assertEquals(2, this.events);
+        checkItem(s, 0, 10.0, 12.0, 9.0, 11.0, 10.0);
+        checkItem(s, 1, 11.5, 11.5, 11.5, 11.5, 5.0);
+        assertEquals(new Minute(1, 0, 1, 1, 1970), s.getPeriod(1));
+
+        // a gap in the ticks skips the empty periods
+        a.addTick(5 * MINUTE + 10L, 13.0, 1.0);
+        assertEquals(3, s.getItemCount());
+        assertEquals(3, this.events);
+        assertEquals(new Minute(5, 0, 1, 1, 1970), s.getPeriod(2));
+
+        // a tick before the open bar is ignored
+        a.addTick(MINUTE, 1.0, 1.0);
+        a.flush();
+        checkItem(s, 1, 11.5, 11.5, 11.5, 11.5, 5.0);
+        checkItem(s, 2, 13.0, 13.0, 13.0, 13.0, 1.0);
+    }
+
+    /**
+     * The open bar is written to the series by flush().
+     */
+    public void testFlush() {
+        OHLCSeries s = new OHLCSeries("S1");
+        s.addChangeListener(this);
+        OHLCAggregator a = new OHLCAggregator(TimeZone.getTimeZone("GMT"));
+        a.addSeries(s, Minute.class);
+        a.addTick(0L, 10.0, 1.0);
+        a.addTick(1000L, 11.0, 1.0);
+        a.flush();
+        assertEquals(2, this.events);
+        checkItem(s, 0, 10.0, 11.0, 10.0, 11.0, 2.0);
+
+        // nothing has changed, so no event
+        a.flush();
+        assertEquals(2, this.events);
+    }
+
+    /**
+     * Bars for several periods can be maintained from the same ticks.
+     */
+    public void testMultiplePeriods() {
+        OHLCSeries s1 = new OHLCSeries("Minute");
+        OHLCSeries s2 = new OHLCSeries("Hour");
+        OHLCAggregator a = new OHLCAggregator(TimeZone.getTimeZone("GMT"));
+        a.addSeries(s1, Minute.class);
+        a.addSeries(s2, Hour.class);
+        assertEquals(2, a.getSeriesCount());
+        assertTrue(s2 == a.getSeries(1));
+        for (int i = 0; i < 120; i++) {
+            a.addTick(i * MINUTE, i, 1.0);
+        }
+        a.flush();
+        assertEquals(120, s1.getItemCount());
+        assertEquals(2, s2.getItemCount());
+        checkItem(s2, 0, 0.0, 59.0, 0.0, 59.0, 60.0);
+        checkItem(s2, 1, 60.0, 119.0, 60.0, 119.0, 60.0);
+
+        OHLCSeriesCollection dataset = new OHLCSeriesCollection();
+        dataset.addSeries(s2);
+        assertEquals(new Double(60.0), dataset.getVolume(0, 1));
+    }
+
+    /**
+     * An existing item for the period of a new bar is continued.
+     */
+    public void testExistingItem() {
+        OHLCSeries s = new OHLCSeries("S1");
+        s.add(new Minute(0, 0, 1, 1, 1970), 5.0, 15.0, 4.0, 6.0);
+        OHLCAggregator a = new OHLCAggregator(TimeZone.getTimeZone("GMT"));
+        a.addSeries(s, Minute.class);
+        a.addTick(1000L, 16.0, 2.0);
+        assertEquals(1, s.getItemCount());
+        checkItem(s, 0, 5.0, 16.0, 4.0, 16.0, 2.0);
+    }
+
+    /**
+     * Some checks for the addSeries() method.
+     */
+    public void testAddSeries() {
+        OHLCAggregator a = new OHLCAggregator();
+        boolean pass = false;
+        try {
+            a.addSeries(new OHLCSeries("S1"), String.class);
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+
+        pass = false;
+        try {
+            a.addSeries(null, Minute.class);
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+}
@@ -35,6 +35,7 @@
  * Changes
  * -------
  * 04-Dec-2006 : Version 1 (DG);
+ * 18-Oct-2026 : Added OHLCAggregatorTests (DG);
  *
  */
 
@@ -58,6 +59,7 @@ public class OHLCPackageTests extends TestCase {
      */
     public static Test suite() {
         TestSuite suite = new TestSuite("org.jfree.data.time.ohlc");
+        suite.addTestSuite(OHLCAggregatorTests.class);
         suite.addTestSuite(OHLCItemTests.class);
         suite.addTestSuite(OHLCSeriesCollectionTests.class);
         suite.addTestSuite(OHLCSeriesTests.class);
@@ -35,6 +35,7 @@
  * Changes
  * -------
  * 04-Dec-2006 : Version 1 (DG);
+ * 18-Oct-2026 : Extended testEquals() for the volume (DG);
  *
  */
 
@@ -103,6 +104,11 @@ public class OHLCTests extends TestCase {
         assertFalse(i1.equals(i2));
         i2 = new OHLC(2.2, 4.4, 1.1, 3.3);
         assertTrue(i1.equals(i2));
+
+        i1 = new OHLC(2.2, 4.4, 1.1, 3.3, 5.5);
+        assertFalse(i1.equals(i2));
+        i2 = new OHLC(2.2, 4.4, 1.1, 3.3, 5.5);
+        assertTrue(i1.equals(i2));
     }
 
     /**
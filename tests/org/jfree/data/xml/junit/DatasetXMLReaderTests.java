@@ -0,0 +1,403 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ *
+ * --------------------------
+ * DatasetXMLReaderTests.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.xml.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Date;
+import java.util.TimeZone;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.DefaultPieDataset;
+import org.jfree.data.general.PieDataset;
+import org.jfree.data.time.Day;
+import org.jfree.data.time.Month;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.time.ohlc.OHLCSeries;
+import org.jfree.data.time.ohlc.OHLCSeriesCollection;
+import org.jfree.data.xml.DatasetReader;
+import org.jfree.data.xml.DatasetXMLReader;
+import org.jfree.data.xml.DatasetXMLWriter;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Tests for the {@link DatasetXMLReader} and {@link DatasetXMLWriter}
+ * classes.
+ */
+public class DatasetXMLReaderTests extends TestCase {
+
+    /** The time zone used for the time series tests. */
+    private static final TimeZone GMT = TimeZone.getTimeZone("GMT");
+
+    /** The number of dataset change events received. */
+    private int events;
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DatasetXMLReaderTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public DatasetXMLReaderTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Creates a reader for a string.
+     *
+     * @param xml  the XML.
+     *
+     * @return The reader.
+     */
+    private DatasetXMLReader reader(String xml) {
+        DatasetXMLReader reader = new DatasetXMLReader(new StringReader(xml));
+        reader.setTimeZone(GMT);
+        return reader;
+    }
+
+    /**
+     * Returns a day in January 2008, in the GMT time zone.
+     *
+     * @param d  the day of the month.
+     *
+     * @return The day.
+     */
+    private static Day day(int d) {
+        return new Day(new Date(1199145600000L + (d - 1) * 86400000L), GMT);
+    }
+
+    /**
+     * Reads a pie dataset in the format written by earlier versions.
+     */
+    public void testReadPieDataset() throws IOException {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<!-- a comment -->\n"
+                + "<PieDataset>\n"
+                + "  <Item><Key>A &amp; B</Key><Value>1.5</Value></Item>\n"
+                + "  <Item>\n    <Key><![CDATA[<C>]]></Key>\n"
+                + "    <Value> 2 </Value>\n  </Item>\n"
+                + "  <Item><Key>&#68;</Key><Value></Value></Item>\n"
+                + "</PieDataset>";
+        DatasetXMLReader reader = reader(xml);
+        assertEquals("PieDataset", reader.getDatasetType());
+        DefaultPieDataset d = (DefaultPieDataset) reader.readDataset();
+        assertEquals(3, d.getItemCount());
+        assertEquals(new Double(1.5), d.getValue("A & B"));
+        assertEquals(new Double(2.0), d.getValue("<C>"));
+        assertNull(d.getValue("D"));
+        assertEquals("D", d.getKey(2));
+    }
+
+    /**
+     * Reads a category dataset in the format written by earlier versions.
+     */
+    public void testReadCategoryDataset() throws IOException {
+        String xml = "<CategoryDataset>\n"
+                + "  <Series name=\"S1\">\n"
+                + "    <Item><Key>C1</Key><Value>1.0</Value></Item>\n"
+                + "    <Item><Key>C2</Key><Value>2.0</Value></Item>\n"
+                + "  </Series>\n"
+                + "  <Series name='S2'>\n"
+                + "    <Item><Key>C1</Key><Value>3.0</Value></Item>\n"
+                + "  </Series>\n"
+                + "</CategoryDataset>";
+        DefaultCategoryDataset d = reader(xml).readCategoryDataset();
+        assertEquals(2, d.getRowCount());
+        assertEquals(2, d.getColumnCount());
+        assertEquals(new Double(2.0), d.getValue("S1", "C2"));
+        assertEquals(new Double(3.0), d.getValue("S2", "C1"));
+        assertNull(d.getValue("S2", "C2"));
+    }
+
+    /**
+     * Checks that the existing SAX-based reader can read the output of the
+     * writer.
+     */
+    public void testDatasetReaderCompatibility() throws IOException {
+        DefaultPieDataset pie = new DefaultPieDataset();
+        pie.setValue("A", 1.0);
+        pie.setValue("B <&>", 2.0);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DatasetXMLWriter writer = new DatasetXMLWriter(out);
+        writer.writePieDataset(pie);
+        writer.close();
+        PieDataset pie2 = DatasetReader.readPieDatasetFromXML(
+                new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(pie, pie2);
+
+        DefaultCategoryDataset cat = new DefaultCategoryDataset();
+        cat.addValue(1.0, "S1", "C1");
+        cat.addValue(2.0, "S1", "C2");
+        cat.addValue(3.0, "S2", "C1");
+        cat.addValue(4.0, "S2", "C2");
+        out = new ByteArrayOutputStream();
+        writer = new DatasetXMLWriter(out);
+        writer.writeCategoryDataset(cat);
+        writer.close();
+        CategoryDataset cat2 = DatasetReader.readCategoryDatasetFromXML(
+                new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(cat, cat2);
+    }
+
+    /**
+     * Writes and reads back a pie dataset, through a byte stream.
+     */
+    public void testPieRoundTrip() throws IOException {
+        DefaultPieDataset d1 = new DefaultPieDataset();
+        d1.setValue("A", 1.0);
+        d1.setValue("\u00e9t\u00e9", 2.0);
+        d1.setValue("C", null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DatasetXMLWriter writer = new DatasetXMLWriter(out);
+        writer.writePieDataset(d1);
+        writer.close();
+        DatasetXMLReader reader = new DatasetXMLReader(
+                new ByteArrayInputStream(out.toByteArray()));
+        DefaultPieDataset d2 = reader.readPieDataset();
+        reader.close();
+        assertEquals(d1, d2);
+    }
+
+    /**
+     * Writes and reads back a category dataset.
+     */
+    public void testCategoryRoundTrip() throws IOException {
+        DefaultCategoryDataset d1 = new DefaultCategoryDataset();
+        d1.addValue(1.0, "S1", "C1");
+        d1.addValue(null, "S1", "C2");
+        d1.addValue(-3.25E-10, "S2 \"quoted\"", "C1");
+        d1.addValue(4.0, "S2 \"quoted\"", "C2");
+        StringWriter out = new StringWriter();
+        new DatasetXMLWriter(out).writeCategoryDataset(d1);
+        DefaultCategoryDataset d2 = reader(out.toString())
+                .readCategoryDataset();
+        assertEquals(d1, d2);
+    }
+
+    /**
+     * Writes and reads back an XY dataset.
+     */
+    public void testXYRoundTrip() throws IOException {
+        XYSeriesCollection d1 = new XYSeriesCollection();
+        XYSeries s1 = new XYSeries("S1");
+        s1.add(1.0, 2.0);
+        s1.add(2.0, null);
+        s1.add(3.5, -4.0);
+        XYSeries s2 = new XYSeries("S2");
+        s2.add(10.0, 20.0);
+        d1.addSeries(s1);
+        d1.addSeries(s2);
+        StringWriter out = new StringWriter();
+        new DatasetXMLWriter(out).writeXYDataset(d1);
+        DatasetXMLReader reader = reader(out.toString());
+        assertEquals("XYDataset", reader.getDatasetType());
+        XYSeriesCollection d2 = (XYSeriesCollection) reader.readDataset();
+        assertEquals(d1, d2);
+    }
+
+    /**
+     * Writes and reads back a time series dataset, including a series with
+     * a time period class other than the default.
+     */
+    public void testTimeSeriesRoundTrip() throws IOException {
+        TimeSeriesCollection d1 = new TimeSeriesCollection(GMT);
+        TimeSeries s1 = new TimeSeries("Daily", Day.class);
+        s1.add(day(1), 1.0);
+        s1.add(day(2), null);
+        s1.add(day(5), 3.0);
+        TimeSeries s2 = new TimeSeries("Monthly", Month.class);
+        s2.add(new Month(new Date(0L), GMT), 4.0);
+        d1.addSeries(s1);
+        d1.addSeries(s2);
+        StringWriter out = new StringWriter();
+        new DatasetXMLWriter(out).writeTimeSeriesCollection(d1);
+        assertTrue(out.toString().indexOf("timePeriod=\"Month\"") > 0);
+        TimeSeriesCollection d2 = reader(out.toString())
+                .readTimeSeriesCollection();
+        assertEquals(2, d2.getSeriesCount());
+        assertEquals(s1, d2.getSeries(0));
+        assertEquals(s2, d2.getSeries(1));
+        assertEquals(Month.class, d2.getSeries(1).getTimePeriodClass());
+    }
+
+    /**
+     * Writes and reads back an OHLC dataset.
+     */
+    public void testOHLCRoundTrip() throws IOException {
+        OHLCSeriesCollection d1 = new OHLCSeriesCollection();
+        OHLCSeries s1 = new OHLCSeries("S1");
+        s1.add(day(1), 1.0, 4.0,
+                0.5, 2.0);
+        s1.add(day(2), 2.0, 3.0,
+                1.5, 2.5);
+        d1.addSeries(s1);
+        StringWriter out = new StringWriter();
+        new DatasetXMLWriter(out).writeOHLCSeriesCollection(d1);
+        OHLCSeriesCollection d2 = reader(out.toString())
+                .readOHLCSeriesCollection();
+        assertEquals(d1, d2);
+    }
+
+    /**
+     * Reads a dataset in chunks, appending to an existing dataset, and
+     * checks that there is one change event per chunk.
+     */
+    public void testReadItemsInChunks() throws IOException {
+        XYSeriesCollection d1 = new XYSeriesCollection();
+        XYSeries s1 = new XYSeries("S1");
+        for (int i = 0; i < 25; i++) {
+            s1.add(i, i * 2.0);
+        }
+        XYSeries s2 = new XYSeries("S2");
+        for (int i = 0; i < 10; i++) {
+            s2.add(i, -i);
+        }
+        d1.addSeries(s1);
+        d1.addSeries(s2);
+        StringWriter out = new StringWriter();
+        new DatasetXMLWriter(out).writeXYDataset(d1);
+
+        XYSeriesCollection d2 = new XYSeriesCollection();
+        XYSeries existing = new XYSeries("S1");
+        d2.addSeries(existing);
+        d2.addChangeListener(new DatasetChangeListener() {
+            public void datasetChanged(DatasetChangeEvent event) {
+                DatasetXMLReaderTests.this.events++;
+            }
+        });
+        DatasetXMLReader reader = reader(out.toString());
+        assertEquals(10, reader.readItems(d2, 10));
+        assertEquals(1, this.events);
+        assertEquals(10, existing.getItemCount());
+        assertEquals(10, reader.readItems(d2, 10));
+        assertEquals(2, this.events);
+        assertEquals(10, reader.readItems(d2, 10));
+        assertEquals(3, this.events);
+        assertEquals(5, reader.readItems(d2, 10));
+        assertEquals(0, reader.readItems(d2, 10));
+        assertSame(existing, d2.getSeries(0));
+        assertEquals(d1, d2);
+    }
+
+    /**
+     * Checks that a reader refuses to read the wrong type of dataset.
+     */
+    public void testWrongDatasetType() {
+        try {
+            reader("<PieDataset></PieDataset>").readXYSeriesCollection();
+            fail("Expected an IOException.");
+        }
+        catch (IOException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Checks the handling of malformed documents.
+     */
+    public void testMalformed() {
+        String[] docs = new String[] {
+            "<XYDataset><Series name=\"S\"><Item><X>1</X><Y>2</Y></Item>"
+                    + "</Series>",
+            "<XYDataset><Series name=\"S\"><Item><X>1</Y></Item></Series>"
+                    + "</XYDataset>",
+            "<XYDataset><Series name=\"S\"><Item><Y>2</Y></Item></Series>"
+                    + "</XYDataset>",
+            "<XYDataset><Item><X>1</X><Y>2</Y></Item></XYDataset>",
+            "<XYDataset><Series name=\"S\"><Item><X>1 &bogus; </X>"
+                    + "</Item></Series></XYDataset>"
+        };
+        for (int i = 0; i < docs.length; i++) {
+            try {
+                reader(docs[i]).readXYSeriesCollection();
+                fail("Expected an IOException for document " + i + ".");
+            }
+            catch (IOException e) {
+                // expected
+            }
+        }
+    }
+
+    /**
+     * Checks that null arguments are rejected.
+     */
+    public void testNullArguments() {
+        try {
+            new DatasetXMLWriter(new StringWriter()).writeXYDataset(null);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        catch (IOException e) {
+            fail(e.toString());
+        }
+        try {
+            new DatasetXMLReader((java.io.Reader) null);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
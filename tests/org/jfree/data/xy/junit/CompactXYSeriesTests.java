@@ -0,0 +1,413 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * CompactXYSeriesTests.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.xy.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.general.SeriesException;
+import org.jfree.data.xy.CompactXYSeries;
+import org.jfree.data.xy.XYDataItem;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Tests for the {@link CompactXYSeries} class.
+ */
+public class CompactXYSeriesTests extends TestCase {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(CompactXYSeriesTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public CompactXYSeriesTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    public void testEquals() {
+        CompactXYSeries s1 = new CompactXYSeries("Series");
+        s1.add(1.0, 1.1);
+        CompactXYSeries s2 = new CompactXYSeries("Series");
+        s2.add(1.0, 1.1);
+        assertTrue(s1.equals(s2));
+        assertTrue(s2.equals(s1));
+
+        s1.setKey("Series X");
+        assertFalse(s1.equals(s2));
+        s2.setKey("Series X");
+        assertTrue(s1.equals(s2));
+
+        s1.add(2.0, null);
+        assertFalse(s1.equals(s2));
+        s2.add(2.0, null);
+        assertTrue(s1.equals(s2));
+
+        s1.setMaximumItemCount(10);
+        assertFalse(s1.equals(s2));
+        s2.setMaximumItemCount(10);
+        assertTrue(s1.equals(s2));
+    }
+
+    /**
+     * Some simple checks for the hashCode() method.
+     */
+    public void testHashCode() {
+        CompactXYSeries s1 = new CompactXYSeries("Test");
+        CompactXYSeries s2 = new CompactXYSeries("Test");
+        assertEquals(s1.hashCode(), s2.hashCode());
+        s1.add(1.0, 500.0);
+        s2.add(1.0, 500.0);
+        s1.add(2.0, null);
+        s2.add(2.0, null);
+        s1.add(5.0, 111.0);
+        s2.add(5.0, 111.0);
+        assertEquals(s1, s2);
+        assertEquals(s1.hashCode(), s2.hashCode());
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    public void testCloning() {
+        CompactXYSeries s1 = new CompactXYSeries("S1");
+        s1.add(1.0, 100.0);
+        s1.add(2.0, null);
+        s1.add(3.0, 200.0);
+        CompactXYSeries s2 = null;
+        try {
+            s2 = (CompactXYSeries) s1.clone();
+        }
+        catch (CloneNotSupportedException e) {
+            e.printStackTrace();
+        }
+        assertTrue(s1 != s2);
+        assertTrue(s1.getClass() == s2.getClass());
+        assertTrue(s1.equals(s2));
+
+        // check independence
+        s2.add(4.0, 300.0);
+        assertFalse(s1.equals(s2));
+        s1.add(4.0, 300.0);
+        assertTrue(s1.equals(s2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    public void testSerialization() {
+        CompactXYSeries s1 = new CompactXYSeries("Series");
+        s1.add(1.0, 1.1);
+        s1.add(2.0, null);
+        CompactXYSeries s2 = null;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            ObjectOutput out = new ObjectOutputStream(buffer);
+            out.writeObject(s1);
+            out.close();
+
+            ObjectInput in = new ObjectInputStream(
+                    new ByteArrayInputStream(buffer.toByteArray()));
+            s2 = (CompactXYSeries) in.readObject();
+            in.close();
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+        assertEquals(s1, s2);
+    }
+
+    /**
+     * Items with duplicate x-values should remain in the order they were
+     * added, and the storage should grow as required.
+     */
+    public void testAdd() {
+        CompactXYSeries s1 = new CompactXYSeries("S1", true, true, 2);
+        s1.add(3.0, 5.0);
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        s1.add(2.0, 3.0);
+        s1.add(2.0, 4.0);
+        assertEquals(5, s1.getItemCount());
+        assertEquals(1.0, s1.getYValue(0), EPSILON);
+        assertEquals(2.0, s1.getYValue(1), EPSILON);
+        assertEquals(3.0, s1.getYValue(2), EPSILON);
+        assertEquals(4.0, s1.getYValue(3), EPSILON);
+        assertEquals(5.0, s1.getYValue(4), EPSILON);
+
+        CompactXYSeries s2 = new CompactXYSeries("S2", false, true);
+        s2.add(5.0, 5.5);
+        s2.add(3.0, 3.3);
+        s2.add(new Double(4.0), null);
+        assertEquals(5.0, s2.getXValue(0), EPSILON);
+        assertEquals(3.0, s2.getXValue(1), EPSILON);
+        assertNull(s2.getY(2));
+        assertTrue(Double.isNaN(s2.getYValue(2)));
+
+        CompactXYSeries s3 = new CompactXYSeries("S3", true, false);
+        s3.add(1.0, 1.0);
+        try {
+            s3.add(1.0, 2.0);
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Some checks for the indexOf() method.
+     */
+    public void testIndexOf() {
+        CompactXYSeries s1 = new CompactXYSeries("S1");
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        s1.add(3.0, 3.0);
+        assertEquals(0, s1.indexOf(new Double(1.0)));
+        assertEquals(2, s1.indexOf(new Integer(3)));
+        assertEquals(-3, s1.indexOf(2.5));
+        assertEquals(-4, s1.indexOf(9.0));
+
+        CompactXYSeries s2 = new CompactXYSeries("S2", false, true);
+        s2.add(1.0, 1.0);
+        s2.add(3.0, 3.0);
+        s2.add(2.0, 2.0);
+        assertEquals(1, s2.indexOf(new Double(3.0)));
+        assertEquals(2, s2.indexOf(new Double(2.0)));
+        assertEquals(-1, s2.indexOf(new Double(4.0)));
+    }
+
+    /**
+     * Some checks for the remove() and delete() methods.
+     */
+    public void testRemove() {
+        CompactXYSeries s1 = new CompactXYSeries("S1");
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        s1.add(3.0, 3.0);
+        s1.add(4.0, 4.0);
+        XYDataItem removed = s1.remove(new Double(2.0));
+        assertEquals(new XYDataItem(2.0, 2.0), removed);
+        assertEquals(3, s1.getItemCount());
+        assertEquals(3.0, s1.getXValue(1), EPSILON);
+        s1.delete(0, 1);
+        assertEquals(1, s1.getItemCount());
+        assertEquals(4.0, s1.getXValue(0), EPSILON);
+        s1.clear();
+        assertEquals(0, s1.getItemCount());
+        try {
+            s1.getXValue(0);
+            fail("Expected an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Some checks for the update() and addOrUpdate() methods.
+     */
+    public void testAddOrUpdate() {
+        CompactXYSeries series = new CompactXYSeries("S1", true, false);
+        XYDataItem old = series.addOrUpdate(new Long(2), new Long(3));
+        assertNull(old);
+        old = series.addOrUpdate(1.0, 2.0);
+        assertNull(old);
+        assertEquals(2, series.getItemCount());
+        assertEquals(1.0, series.getXValue(0), EPSILON);
+
+        old = series.addOrUpdate(new Long(1), new Long(99));
+        assertEquals(new XYDataItem(1.0, 2.0), old);
+        assertEquals(2, series.getItemCount());
+        assertEquals(99.0, series.getYValue(0), EPSILON);
+
+        series.update(new Double(2.0), null);
+        assertNull(series.getY(1));
+        try {
+            series.update(new Double(7.0), new Double(1.0));
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+    }
+
+    /**
+     * A simple check that the maximumItemCount attribute is working.
+     */
+    public void testMaximumItemCount() {
+        CompactXYSeries s1 = new CompactXYSeries("S1");
+        s1.setMaximumItemCount(2);
+        s1.add(1.0, 1.1);
+        s1.add(2.0, 2.2);
+        s1.add(3.0, 3.3);
+        assertEquals(2, s1.getItemCount());
+        assertEquals(2.0, s1.getXValue(0), EPSILON);
+        assertEquals(3.0, s1.getXValue(1), EPSILON);
+
+        s1.setMaximumItemCount(1);
+        assertEquals(1, s1.getItemCount());
+        assertEquals(3.0, s1.getXValue(0), EPSILON);
+    }
+
+    /**
+     * Check that the series gives the same results as a regular series when
+     * used in an {@link XYSeriesCollection}.
+     */
+    public void testCollection() {
+        XYSeries s1 = new XYSeries("S1");
+        CompactXYSeries s2 = new CompactXYSeries("S2");
+        for (int i = 0; i < 100; i++) {
+            double x = (i * 37) % 101;
+            s1.add(x, i);
+            s2.add(x, i);
+        }
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        dataset.addSeries(s1);
+        dataset.addSeries(s2);
+        assertEquals(dataset.getItemCount(0), dataset.getItemCount(1));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(dataset.getXValue(0, i), dataset.getXValue(1, i),
+                    EPSILON);
+            assertEquals(dataset.getYValue(0, i), dataset.getYValue(1, i),
+                    EPSILON);
+            assertEquals(dataset.getX(0, i).doubleValue(),
+                    dataset.getX(1, i).doubleValue(), EPSILON);
+        }
+        double[][] a1 = s1.toArray();
+        double[][] a2 = s2.toArray();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(a1[0][i], a2[0][i], EPSILON);
+            assertEquals(a1[1][i], a2[1][i], EPSILON);
+        }
+    }
+
+    /**
+     * Some checks for the createCopy() method.
+     */
+    public void testCreateCopy() throws CloneNotSupportedException {
+        CompactXYSeries s1 = new CompactXYSeries("S1");
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        s1.add(3.0, 3.0);
+        XYSeries s2 = s1.createCopy(1, 2);
+        assertTrue(s2 instanceof CompactXYSeries);
+        assertEquals(2, s2.getItemCount());
+        assertEquals(2.0, s2.getXValue(0), EPSILON);
+        s2.add(4.0, 4.0);
+        assertEquals(3, s1.getItemCount());
+    }
+
+    /**
+     * Checks that the series gives the same results as a regular series when
+     * the circular buffer used for storage wraps around (items are added in
+     * and out of order to a bounded series, and removed from the middle).
+     */
+    public void testSlidingWindow() {
+        XYSeries s1 = new XYSeries("S");
+        CompactXYSeries s2 = new CompactXYSeries("S", true, true, 4);
+        s1.setMaximumItemCount(10);
+        s2.setMaximumItemCount(10);
+        for (int i = 0; i < 200; i++) {
+            double x = (i % 7 == 3 ? i - 4.5 : i);
+            s1.add(x, i * 2.0);
+            s2.add(x, i * 2.0);
+            if (i % 13 == 5) {
+                s1.remove(4);
+                s2.remove(4);
+            }
+            if (i % 17 == 8) {
+                s1.add(x - 0.25, -1.0);
+                s2.add(x - 0.25, -1.0);
+            }
+            assertEquals(s1.getItemCount(), s2.getItemCount());
+            for (int j = 0; j < s1.getItemCount(); j++) {
+                assertEquals(s1.getX(j).doubleValue(), s2.getXValue(j),
+                        EPSILON);
+                assertEquals(s1.getY(j).doubleValue(), s2.getYValue(j),
+                        EPSILON);
+                assertEquals(s1.indexOf(s1.getX(j)), s2.indexOf(s1.getX(j)));
+            }
+        }
+        assertEquals(s1.indexOf(new Double(1000.0)),
+                s2.indexOf(new Double(1000.0)));
+        assertEquals(s1.indexOf(new Double(-1.0)),
+                s2.indexOf(new Double(-1.0)));
+
+        double[][] a1 = s1.toArray();
+        double[][] a2 = s2.toArray();
+        for (int j = 0; j < a1[0].length; j++) {
+            assertEquals(a1[0][j], a2[0][j], EPSILON);
+            assertEquals(a1[1][j], a2[1][j], EPSILON);
+        }
+
+        // a series with a different storage layout can still be equal
+        CompactXYSeries s3 = new CompactXYSeries("S");
+        s3.setMaximumItemCount(10);
+        for (int j = 0; j < s2.getItemCount(); j++) {
+            s3.add(s2.getXValue(j), s2.getYValue(j));
+        }
+        assertEquals(s2, s3);
+    }
+
+}
@@ -0,0 +1,404 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ *
+ * --------------------------------------
+ * ConcurrentXYSeriesCollectionTests.java
+ * --------------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ * 18-Oct-2026 : Added testSlidingWindowBounds() (DG);
+ *
+ */
+
+package org.jfree.data.xy.junit;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.xy.ConcurrentXYSeries;
+import org.jfree.data.xy.ConcurrentXYSeriesCollection;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * Tests for the {@link ConcurrentXYSeriesCollection} class.
+ */
+public class ConcurrentXYSeriesCollectionTests extends TestCase
+        implements DatasetChangeListener {
+
+    /** The number of dataset change events received. */
+    private int eventCount;
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(ConcurrentXYSeriesCollectionTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public ConcurrentXYSeriesCollectionTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Records a dataset change event.
+     *
+     * @param event  the event.
+     */
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.eventCount++;
+    }
+
+    /**
+     * A snapshot is not affected by later changes to the collection.
+     */
+    public void testSnapshot() {
+        ConcurrentXYSeries s1 = new ConcurrentXYSeries("S1", 3);
+        ConcurrentXYSeriesCollection c = new ConcurrentXYSeriesCollection();
+        c.addSeries(s1);
+        s1.add(1.0, 10.0);
+        s1.add(2.0, 20.0);
+        XYDataset snapshot = (XYDataset) c.createSnapshot();
+        s1.add(3.0, 30.0);
+        s1.add(4.0, 40.0);
+        c.addSeries(new ConcurrentXYSeries("S2"));
+        assertEquals(1, snapshot.getSeriesCount());
+        assertEquals("S1", snapshot.getSeriesKey(0));
+        assertEquals(2, snapshot.getItemCount(0));
+        assertEquals(1.0, snapshot.getXValue(0, 0), 0.0);
+        assertEquals(20.0, snapshot.getYValue(0, 1), 0.0);
+        assertEquals(2, c.getSeriesCount());
+        assertEquals(3, c.getItemCount(0));
+        assertEquals(2.0, c.getXValue(0, 0), 0.0);
+        s1.clear();
+        assertEquals(2, snapshot.getItemCount(0));
+        assertEquals(0, c.getItemCount(0));
+    }
+
+    /**
+     * Some checks for the bounds methods.
+     */
+    public void testBounds() {
+        ConcurrentXYSeries s1 = new ConcurrentXYSeries("S1", 2);
+        ConcurrentXYSeriesCollection c = new ConcurrentXYSeriesCollection();
+        c.addSeries(s1);
+        assertNull(c.getDomainBounds(false));
+        assertTrue(Double.isNaN(c.getRangeLowerBound(false)));
+        s1.add(1.0, 10.0);
+        s1.add(2.0, Double.NaN);
+        assertEquals(new Range(1.0, 2.0), c.getDomainBounds(false));
+        assertEquals(new Range(10.0, 10.0), c.getRangeBounds(false));
+        s1.add(3.0, -5.0);
+        assertEquals(new Range(2.0, 3.0), c.getDomainBounds(false));
+        assertEquals(new Range(-5.0, -5.0), c.getRangeBounds(false));
+        ConcurrentXYSeries s2 = new ConcurrentXYSeries("S2");
+        s2.add(-1.0, 50.0);
+        c.addSeries(s2);
+        assertEquals(-1.0, c.getDomainLowerBound(false), 0.0);
+        assertEquals(50.0, c.getRangeUpperBound(false), 0.0);
+    }
+
+    /**
+     * The bounds must remain correct as the oldest items are removed, for
+     * ascending and unordered x-values.
+     */
+    public void testSlidingWindowBounds() {
+        ConcurrentXYSeries s1 = new ConcurrentXYSeries("S1", 100);
+        ConcurrentXYSeriesCollection c = new ConcurrentXYSeriesCollection();
+        c.addSeries(s1);
+        Random random = new Random(12345L);
+        for (int i = 0; i < 3000; i++) {
+            double x = i;
+            if (i >= 2000) {
+                x = random.nextInt(500);
+            }
+            double y = (i % 97 == 0 ? Double.NaN : random.nextInt(1000));
+            s1.add(x, y);
+            if (i == 1500) {
+                s1.setMaximumItemCount(60);
+            }
+            checkBounds(s1, c);
+        }
+    }
+
+    /**
+     * Checks the bounds for a collection with a single series against the
+     * values in the series.
+     *
+     * @param s  the series.
+     * @param c  the collection.
+     */
+    private void checkBounds(ConcurrentXYSeries s,
+            ConcurrentXYSeriesCollection c) {
+        double x0 = Double.POSITIVE_INFINITY;
+        double x1 = Double.NEGATIVE_INFINITY;
+        double y0 = Double.POSITIVE_INFINITY;
+        double y1 = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < s.getItemCount(); i++) {
+            x0 = Math.min(x0, s.getXValue(i));
+            x1 = Math.max(x1, s.getXValue(i));
+            double y = s.getYValue(i);
+            if (!Double.isNaN(y)) {
+                y0 = Math.min(y0, y);
+                y1 = Math.max(y1, y);
+            }
+        }
+        assertEquals(new Range(x0, x1), c.getDomainBounds(false));
+        assertEquals((y0 <= y1 ? new Range(y0, y1) : null),
+                c.getRangeBounds(false));
+    }
+
+    /**
+     * Events are sent only when requested, and only if there are changes.
+     */
+    public void testFireDatasetChangedIfModified() {
+        ConcurrentXYSeries s1 = new ConcurrentXYSeries("S1");
+        ConcurrentXYSeriesCollection c = new ConcurrentXYSeriesCollection();
+        c.addChangeListener(this);
+        c.addSeries(s1);
+        s1.add(1.0, 1.0);
+        assertEquals(0, this.eventCount);
+        assertTrue(c.fireDatasetChangedIfModified());
+        assertEquals(1, this.eventCount);
+        assertFalse(c.fireDatasetChangedIfModified());
+        s1.add(2.0, 2.0);
+        s1.add(3.0, 3.0);
+        assertTrue(c.fireDatasetChangedIfModified());
+        assertEquals(2, this.eventCount);
+        c.removeSeries(s1);
+        assertTrue(c.fireDatasetChangedIfModified());
+        assertEquals(3, this.eventCount);
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    public void testEquals() {
+        ConcurrentXYSeriesCollection c1 = new ConcurrentXYSeriesCollection();
+        ConcurrentXYSeriesCollection c2 = new ConcurrentXYSeriesCollection();
+        assertTrue(c1.equals(c2));
+        ConcurrentXYSeries s1 = new ConcurrentXYSeries("S1");
+        s1.add(1.0, 2.0);
+        c1.addSeries(s1);
+        assertFalse(c1.equals(c2));
+        ConcurrentXYSeries s2 = new ConcurrentXYSeries("S1");
+        s2.add(1.0, 2.0);
+        c2.addSeries(s2);
+        assertTrue(c1.equals(c2));
+        assertEquals(c1.hashCode(), c2.hashCode());
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    public void testCloning() {
+        ConcurrentXYSeriesCollection c1 = new ConcurrentXYSeriesCollection();
+        ConcurrentXYSeries s1 = new ConcurrentXYSeries("S1");
+        s1.add(1.0, 2.0);
+        c1.addSeries(s1);
+        ConcurrentXYSeriesCollection c2 = null;
+        try {
+            c2 = (ConcurrentXYSeriesCollection) c1.clone();
+        }
+        catch (CloneNotSupportedException e) {
+            e.printStackTrace();
+        }
+        assertTrue(c1 != c2);
+        assertTrue(c1.getClass() == c2.getClass());
+        assertTrue(c1.equals(c2));
+
+        // check independence
+        s1.add(2.0, 3.0);
+        assertFalse(c1.equals(c2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    public void testSerialization() {
+        ConcurrentXYSeriesCollection c1 = new ConcurrentXYSeriesCollection();
+        ConcurrentXYSeries s1 = new ConcurrentXYSeries("S1");
+        s1.add(1.0, 2.0);
+        c1.addSeries(s1);
+        ConcurrentXYSeriesCollection c2 = null;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            ObjectOutput out = new ObjectOutputStream(buffer);
+            out.writeObject(c1);
+            out.close();
+
+            ObjectInput in = new ObjectInputStream(
+                    new ByteArrayInputStream(buffer.toByteArray()));
+            c2 = (ConcurrentXYSeriesCollection) in.readObject();
+            in.close();
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+        assertEquals(c1, c2);
+    }
+
+    /**
+     * Several threads append to the series while the chart is drawn
+     * continuously.  Each rendering pass must complete without an exception,
+     * every snapshot must be consistent, and no items may be lost.
+     */
+    public void testConcurrentUpdates() throws InterruptedException {
+        final int writerCount = 8;
+        final int windowSize = 5000;
+        final int passCount = 10;
+        final ConcurrentXYSeriesCollection dataset
+                = new ConcurrentXYSeriesCollection();
+        final ConcurrentXYSeries shared = new ConcurrentXYSeries("Shared");
+        dataset.addSeries(shared);
+        JFreeChart chart = ChartFactory.createXYLineChart("Test", "X", "Y",
+                dataset, PlotOrientation.VERTICAL, true, false, false);
+        final List failures = Collections.synchronizedList(new ArrayList());
+        final boolean[] stop = new boolean[1];
+        final int[] written = new int[writerCount];
+        Thread[] writers = new Thread[writerCount];
+        for (int w = 0; w < writerCount; w++) {
+            final int index = w;
+            final ConcurrentXYSeries series = new ConcurrentXYSeries("S" + w,
+                    windowSize);
+            dataset.addSeries(series);
+            writers[w] = new Thread() {
+                public void run() {
+                    try {
+                        int i = 0;
+                        while (i % 100 != 0 || !isStopped(stop)) {
+                            series.add(i, Math.sin(i / 100.0));
+                            if (i % 10 == 0) {
+                                shared.add(i, -1.0);
+                            }
+                            i++;
+                            if (i % 1000 == 0) {
+                                Thread.yield();
+                            }
+                        }
+                        written[index] = i;
+                    }
+                    catch (Throwable t) {
+                        failures.add(t);
+                    }
+                }
+            };
+        }
+        for (int w = 0; w < writerCount; w++) {
+            writers[w].start();
+        }
+
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        Rectangle2D area = new Rectangle2D.Double(0, 0, 400, 300);
+        for (int pass = 0; pass < passCount; pass++) {
+            dataset.fireDatasetChangedIfModified();
+            chart.draw(g2, area);
+            XYDataset snapshot = (XYDataset) dataset.createSnapshot();
+            for (int s = 1; s < snapshot.getSeriesCount(); s++) {
+                int count = snapshot.getItemCount(s);
+                assertTrue(count <= windowSize);
+                for (int i = 1; i < count; i++) {
+                    assertEquals(snapshot.getXValue(s, i - 1) + 1.0,
+                            snapshot.getXValue(s, i), 0.0);
+                }
+            }
+        }
+        synchronized (stop) {
+            stop[0] = true;
+        }
+        for (int w = 0; w < writerCount; w++) {
+            writers[w].join();
+        }
+        g2.dispose();
+        assertEquals(Collections.EMPTY_LIST, failures);
+
+        int sharedCount = 0;
+        for (int w = 0; w < writerCount; w++) {
+            sharedCount += (written[w] + 9) / 10;
+            ConcurrentXYSeries series = dataset.getSeries(w + 1);
+            assertEquals(Math.min(written[w], windowSize),
+                    series.getItemCount());
+            assertEquals(written[w] - 1,
+                    series.getXValue(series.getItemCount() - 1), 0.0);
+        }
+        assertEquals(sharedCount, shared.getItemCount());
+        assertTrue(dataset.fireDatasetChangedIfModified());
+        XYPlot plot = (XYPlot) chart.getPlot();
+        assertEquals(dataset.getDomainUpperBound(false),
+                plot.getDataRange(plot.getDomainAxis()).getUpperBound(), 0.0);
+    }
+
+    /**
+     * Returns the value of the stop flag.
+     *
+     * @param stop  the flag.
+     *
+     * @return The value.
+     */
+    private static boolean isStopped(boolean[] stop) {
+        synchronized (stop) {
+            return stop[0];
+        }
+    }
+
+}
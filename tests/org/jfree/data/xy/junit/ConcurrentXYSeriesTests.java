@@ -0,0 +1,219 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ *
+ * ----------------------------
+ * ConcurrentXYSeriesTests.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.xy.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.xy.ConcurrentXYSeries;
+
+/**
+ * Tests for the {@link ConcurrentXYSeries} class.
+ */
+public class ConcurrentXYSeriesTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(ConcurrentXYSeriesTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public ConcurrentXYSeriesTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Some checks for the add() methods, across several storage blocks.
+     */
+    public void testAdd() {
+        ConcurrentXYSeries s1 = new ConcurrentXYSeries("S1");
+        assertEquals(0, s1.getItemCount());
+        for (int i = 0; i < 5000; i++) {
+            s1.add(i, 2.0 * i);
+        }
+        assertEquals(5000, s1.getItemCount());
+        assertEquals(0.0, s1.getXValue(0), 0.0);
+        assertEquals(4999.0, s1.getXValue(4999), 0.0);
+        assertEquals(9998.0, s1.getYValue(4999), 0.0);
+        s1.add(new double[] {-1.0, -2.0}, new double[] {1.0, Double.NaN});
+        assertEquals(5002, s1.getItemCount());
+        assertTrue(Double.isNaN(s1.getYValue(5001)));
+
+        boolean pass = false;
+        try {
+            s1.getXValue(5002);
+        }
+        catch (IndexOutOfBoundsException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+
+        pass = false;
+        try {
+            s1.add(new double[1], new double[2]);
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * The oldest items are removed when the maximum item count is exceeded.
+     */
+    public void testMaximumItemCount() {
+        ConcurrentXYSeries s1 = new ConcurrentXYSeries("S1", 1500);
+        for (int i = 0; i < 10000; i++) {
+            s1.add(i, i);
+            assertEquals(Math.min(i + 1, 1500), s1.getItemCount());
+        }
+        assertEquals(8500.0, s1.getXValue(0), 0.0);
+        assertEquals(9999.0, s1.getXValue(1499), 0.0);
+        s1.setMaximumItemCount(10);
+        assertEquals(10, s1.getItemCount());
+        assertEquals(9990.0, s1.getXValue(0), 0.0);
+        s1.clear();
+        assertEquals(0, s1.getItemCount());
+        s1.add(1.0, 2.0);
+        assertEquals(1.0, s1.getXValue(0), 0.0);
+    }
+
+    /**
+     * Each change increments the modification count.
+     */
+    public void testModificationCount() {
+        ConcurrentXYSeries s1 = new ConcurrentXYSeries("S1");
+        int count = s1.getModificationCount();
+        s1.add(1.0, 1.0);
+        assertEquals(count + 1, s1.getModificationCount());
+        s1.clear();
+        assertEquals(count + 2, s1.getModificationCount());
+        s1.clear();
+        assertEquals(count + 2, s1.getModificationCount());
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    public void testEquals() {
+        ConcurrentXYSeries s1 = new ConcurrentXYSeries("S1");
+        ConcurrentXYSeries s2 = new ConcurrentXYSeries("S1");
+        assertTrue(s1.equals(s2));
+        s1.add(1.0, 2.0);
+        assertFalse(s1.equals(s2));
+        s2.add(1.0, 2.0);
+        assertTrue(s1.equals(s2));
+        assertEquals(s1.hashCode(), s2.hashCode());
+        s1.setMaximumItemCount(5);
+        assertFalse(s1.equals(s2));
+        s2.setMaximumItemCount(5);
+        assertTrue(s1.equals(s2));
+    }
+
+    /**
+     * Confirm that cloning works, and that the clone does not share storage
+     * with the original.
+     */
+    public void testCloning() {
+        ConcurrentXYSeries s1 = new ConcurrentXYSeries("S1");
+        s1.add(1.0, 2.0);
+        ConcurrentXYSeries s2 = null;
+        try {
+            s2 = (ConcurrentXYSeries) s1.clone();
+        }
+        catch (CloneNotSupportedException e) {
+            e.printStackTrace();
+        }
+        assertTrue(s1 != s2);
+        assertTrue(s1.getClass() == s2.getClass());
+        assertTrue(s1.equals(s2));
+        s1.add(2.0, 3.0);
+        s2.add(2.0, 4.0);
+        assertEquals(3.0, s1.getYValue(1), 0.0);
+        assertEquals(4.0, s2.getYValue(1), 0.0);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    public void testSerialization() {
+        ConcurrentXYSeries s1 = new ConcurrentXYSeries("S1", 100);
+        for (int i = 0; i < 150; i++) {
+            s1.add(i, i * i);
+        }
+        ConcurrentXYSeries s2 = null;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            ObjectOutput out = new ObjectOutputStream(buffer);
+            out.writeObject(s1);
+            out.close();
+
+            ObjectInput in = new ObjectInputStream(
+                    new ByteArrayInputStream(buffer.toByteArray()));
+            s2 = (ConcurrentXYSeries) in.readObject();
+            in.close();
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+        }
+        assertEquals(s1, s2);
+        s2.add(1000.0, 1.0);
+        assertEquals(100, s2.getItemCount());
+    }
+
+}
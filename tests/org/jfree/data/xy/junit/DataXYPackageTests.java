@@ -45,6 +45,9 @@
  * 27-Nov-2006 : Added MatrixSeriesCollectionTests (DG);
  * 25-Jan-2007 : Added XYBarDatasetTests (DG);
  * 25-May-2007 : Added VectorXXX tests (DG);
+ * 18-Oct-2026 : Added CompactXYSeriesTests (DG);
+ * 18-Oct-2026 : Added ConcurrentXYSeriesTests and
+ *               ConcurrentXYSeriesCollectionTests (DG);
  *
  */
 
@@ -69,6 +72,9 @@ public class DataXYPackageTests extends TestCase {
     public static Test suite() {
         TestSuite suite = new TestSuite("org.jfree.data.xy");
         suite.addTestSuite(CategoryTableXYDatasetTests.class);
+        suite.addTestSuite(CompactXYSeriesTests.class);
+        suite.addTestSuite(ConcurrentXYSeriesCollectionTests.class);
+        suite.addTestSuite(ConcurrentXYSeriesTests.class);
         suite.addTestSuite(DefaultHighLowDatasetTests.class);
         suite.addTestSuite(DefaultIntervalXYDatasetTests.class);
         suite.addTestSuite(DefaultOHLCDatasetTests.class);
@@ -76,6 +82,7 @@ public class DataXYPackageTests extends TestCase {
         suite.addTestSuite(DefaultWindDatasetTests.class);
         suite.addTestSuite(DefaultXYDatasetTests.class);
         suite.addTestSuite(DefaultXYZDatasetTests.class);
+        suite.addTestSuite(DerivedXYSeriesTests.class);
         suite.addTestSuite(IntervalXYDelegateTests.class);
         suite.addTestSuite(MatrixSeriesCollectionTests.class);
         suite.addTestSuite(MatrixSeriesTests.class);
@@ -0,0 +1,141 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2008, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Java is a trademark or registered trademark of Sun Microsystems, Inc.
+ * in the United States and other countries.]
+ *
+ * -------------------------
+ * DerivedXYSeriesTests.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  David Gilbert (for Object Refinery Limited);
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 18-Oct-2026 : Version 1 (DG);
+ *
+ */
+
+package org.jfree.data.xy.junit;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import org.jfree.data.statistics.RollingMaximum;
+import org.jfree.data.statistics.RollingMinimum;
+import org.jfree.data.statistics.RollingStandardDeviation;
+import org.jfree.data.xy.DerivedXYSeries;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Tests for the {@link DerivedXYSeries} class.
+ */
+public class DerivedXYSeriesTests extends TestCase {
+
+    /**
+     * Returns the tests as a test suite.
+     *
+     * @return The test suite.
+     */
+    public static Test suite() {
+        return new TestSuite(DerivedXYSeriesTests.class);
+    }
+
+    /**
+     * Constructs a new set of tests.
+     *
+     * @param name  the name of the tests.
+     */
+    public DerivedXYSeriesTests(String name) {
+        super(name);
+    }
+
+    /**
+     * The derived series has the same x-values as the source, in the same
+     * order, and is updated as items are appended.
+     */
+    public void testAppend() {
+        XYSeries source = new XYSeries("S", false);
+        source.add(3.0, 5.0);
+        source.add(1.0, 2.0);
+        source.add(2.0, 7.0);
+        DerivedXYSeries max = new DerivedXYSeries("Max", source,
+                new RollingMaximum(2));
+        assertEquals(3, max.getItemCount());
+        assertEquals(3.0, max.getXValue(0), 0.0);
+        assertEquals(5.0, max.getYValue(1), 0.0);
+        assertEquals(7.0, max.getYValue(2), 0.0);
+        source.add(0.0, 1.0);
+        assertEquals(0.0, max.getXValue(3), 0.0);
+        assertEquals(7.0, max.getYValue(3), 0.0);
+        source.add(5.0, null);
+        assertEquals(1.0, max.getYValue(4), 0.0);
+        XYSeriesCollection dataset = new XYSeriesCollection(source);
+        dataset.addSeries(max);
+        assertEquals(1.0, dataset.getYValue(1, 4), 0.0);
+    }
+
+    /**
+     * An update to an item recalculates the items that depend on it.
+     */
+    public void testUpdate() {
+        XYSeries source = new XYSeries("S");
+        for (int i = 0; i < 10; i++) {
+            source.add(i, i);
+        }
+        DerivedXYSeries min = new DerivedXYSeries("Min", source,
+                new RollingMinimum(3));
+        source.updateByIndex(5, new Double(-1.0));
+        assertEquals(2.0, min.getYValue(4), 0.0);
+        assertEquals(-1.0, min.getYValue(5), 0.0);
+        assertEquals(-1.0, min.getYValue(7), 0.0);
+        assertEquals(6.0, min.getYValue(8), 0.0);
+    }
+
+    /**
+     * When a sorted source with a maximum item count drops its oldest item,
+     * the derived series drops the same item.
+     */
+    public void testMaximumItemCount() {
+        XYSeries source = new XYSeries("S", true, false);
+        source.setMaximumItemCount(10);
+        DerivedXYSeries sd = new DerivedXYSeries("SD", source,
+                new RollingStandardDeviation(4));
+        for (int i = 0; i < 100; i++) {
+            source.add(i, i % 7);
+        }
+        assertEquals(10, sd.getItemCount());
+        assertEquals(90.0, sd.getXValue(0), 0.0);
+        RollingStandardDeviation check = new RollingStandardDeviation(4);
+        double expected = Double.NaN;
+        for (int i = 96; i < 100; i++) {
+            expected = check.add(i % 7);
+        }
+        assertEquals(expected, sd.getYValue(9), 1.0E-12);
+    }
+
+}
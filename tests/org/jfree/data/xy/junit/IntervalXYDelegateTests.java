@@ -36,6 +36,7 @@
  * -------
  * 21-Feb-2005 : Version 1 (DG);
  * 06-Oct-2005 : Updated for testEquals() for method name change (DG);
+ * 18-Oct-2026 : Added testAutoWidth() (DG);
  *
  */
 
@@ -61,6 +62,9 @@ import org.jfree.data.xy.XYSeriesCollection;
  */
 public class IntervalXYDelegateTests extends TestCase {
 
+    /** A small value for testing double equality. */
+    private static final double EPSILON = 0.0000000001;
+
     /**
      * Returns the tests as a test suite.
      *
@@ -165,4 +169,30 @@ public class IntervalXYDelegateTests extends TestCase {
 
     }
 
+    /**
+     * Checks that the automatic interval width is kept up to date as items
+     * are added to and removed from the dataset.
+     */
+    public void testAutoWidth() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeriesCollection c = new XYSeriesCollection(s1);
+        c.setAutoWidth(true);
+        s1.add(1.0, 1.0);
+        s1.add(5.0, 1.0);
+        assertEquals(4.0, c.getIntervalWidth(), EPSILON);
+        s1.add(3.0, 1.0);
+        assertEquals(2.0, c.getIntervalWidth(), EPSILON);
+        s1.add(10.0, 1.0);
+        assertEquals(2.0, c.getIntervalWidth(), EPSILON);
+        s1.add(3.5, 1.0);
+        assertEquals(0.5, c.getIntervalWidth(), EPSILON);
+        s1.remove(new Double(3.5));
+        assertEquals(2.0, c.getIntervalWidth(), EPSILON);
+        XYSeries s2 = new XYSeries("S2");
+        c.addSeries(s2);
+        s2.add(0.0, 1.0);
+        s2.add(0.25, 1.0);
+        assertEquals(0.25, c.getIntervalWidth(), EPSILON);
+    }
+
 }
@@ -40,6 +40,8 @@
  * 08-May-2007 : Added testIndexOf() (DG);
  * 03-Dec-2007 : Added testGetSeriesByKey() (DG);
  * 22-Apr-2008 : Added testPublicCloneable (DG);
+ * 18-Oct-2026 : Added testGetDomainBounds() and testGetRangeBounds() (DG);
+ * 18-Oct-2026 : Added testChangeSummary() (DG);
  *
  */
 
@@ -51,12 +53,21 @@ import java.io.ObjectInput;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
+import org.jfree.data.Range;
 import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeType;
+import org.jfree.data.xy.CompactXYSeries;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
 import org.jfree.util.PublicCloneable;
@@ -64,7 +75,20 @@ import org.jfree.util.PublicCloneable;
 /**
  * Tests for the {@link XYSeriesCollection} class.
  */
-public class XYSeriesCollectionTests extends TestCase {
+public class XYSeriesCollectionTests extends TestCase
+        implements DatasetChangeListener {
+
+    /** The last event received. */
+    private DatasetChangeEvent lastEvent;
+
+    /**
+     * Records the last event.
+     *
+     * @param event  the event.
+     */
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.lastEvent = event;
+    }
 
     /**
      * Returns the tests as a test suite.
@@ -295,4 +319,104 @@ public class XYSeriesCollectionTests extends TestCase {
         assertEquals(0, dataset.indexOf(s2b));
     }
 
+
+    /**
+     * Some checks for the getDomainBounds() method.
+     */
+    public void testGetDomainBounds() {
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        assertNull(dataset.getDomainBounds(false));
+        XYSeries s1 = new XYSeries("S1");
+        s1.add(1.0, 2.0);
+        s1.add(5.0, 3.0);
+        dataset.addSeries(s1);
+        XYSeries s2 = new XYSeries("S2", false);
+        s2.add(7.0, 4.0);
+        s2.add(-2.0, 1.0);
+        dataset.addSeries(s2);
+        assertEquals(new Range(-2.0, 7.0), dataset.getDomainBounds(false));
+        assertEquals(DatasetUtilities.iterateDomainBounds(dataset, false),
+                dataset.getDomainBounds(false));
+    }
+
+    /**
+     * Some checks for the methods in the RangeInfo and XYRangeInfo
+     * interfaces.
+     */
+    public void testGetRangeBounds() {
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        assertNull(dataset.getRangeBounds(false));
+        assertTrue(Double.isNaN(dataset.getRangeLowerBound(false)));
+        XYSeries s1 = new XYSeries("S1");
+        CompactXYSeries s2 = new CompactXYSeries("S2");
+        for (int i = 0; i < 1000; i++) {
+            s1.add(i, Math.sin(i / 10.0) * i);
+            s2.add(i, (i % 50 == 0 ? Double.NaN : Math.cos(i / 7.0) * i));
+        }
+        dataset.addSeries(s1);
+        dataset.addSeries(s2);
+        assertEquals(DatasetUtilities.iterateRangeBounds(dataset, false),
+                dataset.getRangeBounds(false));
+        assertEquals(DatasetUtilities.iterateRangeBounds(dataset, false),
+                DatasetUtilities.findRangeBounds(dataset, false));
+
+        List keys = new ArrayList();
+        keys.add("S2");
+        Range xRange = new Range(123.5, 456.0);
+        assertEquals(DatasetUtilities.iterateToFindRangeBounds(dataset, keys,
+                xRange, false), dataset.getRangeBounds(keys, xRange, false));
+        keys.add("S1");
+        assertEquals(DatasetUtilities.iterateToFindRangeBounds(dataset, keys,
+                xRange, false), DatasetUtilities.findRangeBounds(dataset,
+                keys, xRange, false));
+
+        // the bounds are updated as the series changes
+        s1.add(2000.0, 5000.0);
+        s2.setMaximumItemCount(100);
+        assertEquals(new Range(900.0, 2000.0), new Range(
+                dataset.getSeries(1).getMinX(),
+                dataset.getSeries(0).getMaxX()));
+        assertEquals(DatasetUtilities.iterateRangeBounds(dataset, false),
+                dataset.getRangeBounds(false));
+        assertEquals(DatasetUtilities.iterateToFindRangeBounds(dataset, keys,
+                xRange, false), dataset.getRangeBounds(keys, xRange, false));
+
+        boolean pass = false;
+        try {
+            keys.add("XX");
+            dataset.getRangeBounds(keys, xRange, false);
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+    }
+
+    /**
+     * Checks that a change to a series is passed on with the series index
+     * and a summary of the change.
+     */
+    public void testChangeSummary() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2");
+        s2.add(1.0, 1.0);
+        XYSeriesCollection c = new XYSeriesCollection();
+        c.addSeries(s1);
+        c.addSeries(s2);
+        c.addChangeListener(this);
+        s2.add(2.0, 2.0);
+        assertEquals(1, this.lastEvent.getSeriesIndex());
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.ADD, 1, 1),
+                this.lastEvent.getSummary());
+        c.removeSeries(0);
+        assertEquals(-1, this.lastEvent.getSeriesIndex());
+        assertNull(this.lastEvent.getSummary());
+
+        // an equal series in another position is not confused with s2
+        c.addSeries(new XYSeries("S2"));
+        c.addSeries(s1);
+        s1.add(1.0, 1.0);
+        assertEquals(2, this.lastEvent.getSeriesIndex());
+    }
+
 }
@@ -40,6 +40,8 @@
  * 31-Oct-2007 : New hashCode() test (DG);
  * 01-May-2008 : Added testAddOrUpdate3() (DG);
  * 24-Nov-2008 : Added testBug1955483() (DG);
+ * 18-Oct-2026 : Added testGetMinMax() and testGetYRange() (DG);
+ * 18-Oct-2026 : Added testChangeSummary() (DG);
  *
  */
 
@@ -56,6 +58,11 @@ import junit.framework.Test;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
 
+import org.jfree.data.Range;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.general.SeriesException;
 import org.jfree.data.xy.DefaultXYDataset;
 import org.jfree.data.xy.XYDataItem;
@@ -64,7 +71,19 @@ import org.jfree.data.xy.XYSeries;
 /**
  * Tests for the {@link XYSeries} class.
  */
-public class XYSeriesTests extends TestCase {
+public class XYSeriesTests extends TestCase implements SeriesChangeListener {
+
+    /** The last event received. */
+    private SeriesChangeEvent lastEvent;
+
+    /**
+     * Records the last event.
+     *
+     * @param event  the event.
+     */
+    public void seriesChanged(SeriesChangeEvent event) {
+        this.lastEvent = event;
+    }
 
     /**
      * Returns the tests as a test suite.
@@ -482,4 +501,126 @@ public class XYSeriesTests extends TestCase {
         assertEquals(2, series.getItemCount());
     }
 
+
+    /**
+     * Some checks for the getMinX(), getMaxX(), getMinY() and getMaxY()
+     * methods, as the series is modified.
+     */
+    public void testGetMinMax() throws CloneNotSupportedException {
+        XYSeries s = new XYSeries("S");
+        assertTrue(Double.isNaN(s.getMinX()));
+        assertTrue(Double.isNaN(s.getMaxY()));
+        s.add(1.0, 5.0);
+        s.add(2.0, null);
+        s.add(3.0, -2.0);
+        assertEquals(1.0, s.getMinX(), EPSILON);
+        assertEquals(3.0, s.getMaxX(), EPSILON);
+        assertEquals(-2.0, s.getMinY(), EPSILON);
+        assertEquals(5.0, s.getMaxY(), EPSILON);
+
+        s.add(0.5, 7.0);
+        assertEquals(0.5, s.getMinX(), EPSILON);
+        assertEquals(7.0, s.getMaxY(), EPSILON);
+        s.update(new Double(0.5), new Double(1.0));
+        assertEquals(5.0, s.getMaxY(), EPSILON);
+        s.remove(1);
+        assertEquals(1.0, s.getMaxY(), EPSILON);
+        s.setMaximumItemCount(1);
+        assertEquals(3.0, s.getMinX(), EPSILON);
+        assertEquals(-2.0, s.getMaxY(), EPSILON);
+
+        // a clone has its own index
+        XYSeries s2 = (XYSeries) s.clone();
+        s.clear();
+        assertTrue(Double.isNaN(s.getMinX()));
+        assertTrue(Double.isNaN(s.getMinY()));
+        assertEquals(3.0, s2.getMinX(), EPSILON);
+        assertEquals(-2.0, s2.getMaxY(), EPSILON);
+    }
+
+    /**
+     * The index of the values is rebuilt when an item is changed directly
+     * and the series is then notified.
+     */
+    public void testGetMinMaxAfterItemChange() {
+        XYSeries s = new XYSeries("S");
+        for (int i = 0; i < 200; i++) {
+            s.add(i, i % 10);
+        }
+        assertEquals(9.0, s.getMaxY(), EPSILON);
+        assertEquals(new Range(0.0, 9.0), s.getYRange(0, 199));
+        s.getDataItem(150).setY(99.0);
+        s.fireSeriesChanged();
+        assertEquals(99.0, s.getMaxY(), EPSILON);
+        assertEquals(new Range(0.0, 99.0), s.getYRange(100, 199));
+    }
+
+    /**
+     * Some checks for the getYRange() methods.
+     */
+    public void testGetYRange() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeries s2 = new XYSeries("S2", false);
+        for (int i = 0; i < 100; i++) {
+            double y = (i % 10) * (i % 7);
+            s1.add(i, y);
+            s2.add(99 - i, (99 - i) % 10 * ((99 - i) % 7));
+        }
+        assertEquals(new Range(0.0, 54.0), s1.getYRange(0, 99));
+        assertEquals(new Range(0.0, 18.0), s1.getYRange(12, 14));
+        assertEquals(new Range(10.0, 18.0), s1.getYRange(new Range(11.5,
+                13.0)));
+        assertEquals(new Range(10.0, 18.0), s2.getYRange(new Range(11.5,
+                13.0)));
+        assertNull(s1.getYRange(new Range(12.2, 12.8)));
+        assertNull(s2.getYRange(new Range(12.2, 12.8)));
+        assertNull(s1.getYRange(new Range(200.0, 300.0)));
+    }
+
+    /**
+     * Checks the summary that is sent with each change event.
+     */
+    public void testChangeSummary() {
+        XYSeries s = new XYSeries("S");
+        s.addChangeListener(this);
+        s.add(1.0, 1.0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.ADD, 0, 0),
+                this.lastEvent.getSummary());
+
+        // changes made without notification are merged
+        this.lastEvent = null;
+        s.add(3.0, 3.0, false);
+        s.add(4.0, 4.0, false);
+        assertNull(this.lastEvent);
+        s.fireSeriesChanged();
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.ADD, 1, 2),
+                this.lastEvent.getSummary());
+
+        // an insert reports the sorted position
+        s.add(2.0, 2.0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.ADD, 1, 1),
+                this.lastEvent.getSummary());
+        s.updateByIndex(3, new Double(5.0));
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.UPDATE, 3, 3),
+                this.lastEvent.getSummary());
+        s.remove(0);
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.REMOVE, 0, 0),
+                this.lastEvent.getSummary());
+
+        // an append that evicts the oldest item
+        s.setMaximumItemCount(3);
+        s.add(5.0, 5.0);
+        assertEquals(3, s.getItemCount());
+        assertEquals(SeriesChangeType.STRUCTURE,
+                this.lastEvent.getSummary().getType());
+        s.clear();
+        assertEquals(new SeriesChangeInfo(SeriesChangeType.REMOVE, 0, 2),
+                this.lastEvent.getSummary());
+
+        // events that don't come from a recorded change have no summary
+        s.setNotify(false);
+        s.setNotify(true);
+        assertNull(this.lastEvent.getSummary());
+    }
+
 }